@@ -1,5 +1,6 @@
 package zserio.ant;
 
+import java.io.File;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
@@ -8,6 +9,9 @@ import java.net.URLClassLoader;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.types.Path;
@@ -18,14 +22,27 @@ import org.apache.tools.ant.types.Path;
  *
  * Hence it is possible to compile the main class in the same ant file
  * in which the task is executed.
+ *
+ * If the wrapper is warm, the class loader is reused by all subsequent
+ * calls with the same classpath as long as none of the classpath items
+ * has been modified. Thus all caches of the tool (ANTLR DFA, templates,
+ * parse trees of unchanged files) are kept warm within one ant build.
+ * Only one class loader is kept for each classpath, it is replaced when
+ * any classpath item is modified.
  */
 public class ToolWrapper
 {
     public ToolWrapper(String className, Iterable<Path> classPath, boolean ignoreError)
+    {
+        this(className, classPath, ignoreError, false);
+    }
+
+    public ToolWrapper(String className, Iterable<Path> classPath, boolean ignoreError, boolean warm)
     {
         this.className = className;
         this.classPath = classPath;
         this.ignoreError = ignoreError;
+        this.warm = warm;
     }
 
     /**
@@ -82,8 +99,7 @@ public class ToolWrapper
             // correct execution. Hence we need to force java to look for
             // classes in our URLClassLoader before any other classLoader
             // is used.
-            final ClassLoaderCreator classLoaderCreator = new ClassLoaderCreator(urls);
-            final ClassLoader classLoader = AccessController.doPrivileged(classLoaderCreator);
+            final ClassLoader classLoader = getClassLoader(urls);
 
             Class<?> clazz = Class.forName(className, true, classLoader);
 
@@ -125,6 +141,76 @@ public class ToolWrapper
         }
     }
 
+    private ClassLoader getClassLoader(URL [] urls)
+    {
+        if (!warm)
+            return createClassLoader(urls);
+
+        final List<Long> modificationTimes = getModificationTimes();
+        if (modificationTimes == null)
+            return createClassLoader(urls);
+
+        final List<String> key = new ArrayList<String>();
+        for (URL u : urls)
+            key.add(u.toString());
+
+        synchronized (warmClassLoaders)
+        {
+            // only the latest class loader is kept for each classpath
+            WarmClassLoader warmClassLoader = warmClassLoaders.get(key);
+            if (warmClassLoader == null || !warmClassLoader.modificationTimes.equals(modificationTimes))
+            {
+                warmClassLoader = new WarmClassLoader(modificationTimes,
+                        createClassLoader(urls));
+                warmClassLoaders.put(key, warmClassLoader);
+            }
+
+            return warmClassLoader.classLoader;
+        }
+    }
+
+    // AccessController is deprecated for removal since Java 17 but it is still needed by older JVMs
+    @SuppressWarnings("removal")
+    private static ClassLoader createClassLoader(URL[] urls)
+    {
+        return AccessController.doPrivileged(new ClassLoaderCreator(urls));
+    }
+
+    /**
+     * Gets modification times of all classpath items, so a rebuilt tool is
+     * always loaded again. Directories do not reflect modifications of their
+     * content, hence class loaders with directories in classpath are never
+     * reused (null is returned).
+     */
+    private List<Long> getModificationTimes()
+    {
+        final List<Long> modificationTimes = new ArrayList<Long>();
+        for (Path p : classPath)
+        {
+            for (String f : p.list())
+            {
+                final File file = new File(f);
+                if (file.isDirectory())
+                    return null;
+                modificationTimes.add(file.lastModified());
+            }
+        }
+
+        return modificationTimes;
+    }
+
+    static private class WarmClassLoader
+    {
+        public WarmClassLoader(List<Long> modificationTimes, ClassLoader classLoader)
+        {
+            this.modificationTimes = modificationTimes;
+            this.classLoader = classLoader;
+        }
+
+        private final List<Long> modificationTimes;
+        private final ClassLoader classLoader;
+    }
+
     static private class ClassLoaderCreator implements PrivilegedAction<ClassLoader>
     {
         public ClassLoaderCreator(URL[] urls)
@@ -144,4 +230,8 @@ public class ToolWrapper
     private final String            className;
     private final Iterable<Path>    classPath;
     private final boolean           ignoreError;
+    private final boolean           warm;
+
+    private static final Map<List<String>, WarmClassLoader> warmClassLoaders =
+            new HashMap<List<String>, WarmClassLoader>();
 }
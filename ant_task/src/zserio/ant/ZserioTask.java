@@ -43,7 +43,8 @@ import org.apache.tools.ant.types.Path;
  * Supported syntax:
  *
  * <zserio srcPath="src/path" srcFile="zs/all.zs" java="gen/java" cpp="gen/cpp" doc="gen/html"
- *         python="gen/python" xml="gen/xml/syntax.xml" clean="true" ignoreError="true">
+ *         python="gen/python" xml="gen/xml/syntax.xml" manifest="gen/zserio.manifest" clean="true"
+ *         ignoreError="true" warm="true">
  *     <arg name="cmdlineOption" value="value"/>
  *     <arg name="anotherOption"/>
  *     <dependencies>
@@ -86,6 +87,16 @@ import org.apache.tools.ant.types.Path;
  * xml="outFile"
  * Generate XML representation of the input to the given file.
  *
+ * manifest="file"
+ * Use the given manifest file for incremental generation. Zserio Tool is always called and it skips the
+ * generation itself if input files, options and generated files have not changed since the last generation.
+ * Only changed output files are rewritten. The timestamp check of "dependencies" and "output" is not used.
+ *
+ * warm="true"
+ * Reuse the class loader of Zserio Tool by all zserio tasks with the same classpath within one Ant build, thus
+ * caches of Zserio Tool are kept warm. Default is false which means that Zserio Tool is always loaded by a new
+ * class loader.
+ *
  * The options "srcPath" and "srcFile" are required. All the others are optional and can occur in any
  * combination.
  *
@@ -152,6 +163,11 @@ public class ZserioTask extends Task
         this.xmlOutput = xmlOutput;
     }
 
+    public void setManifest(File manifest)
+    {
+        this.manifest = manifest;
+    }
+
     /**
      * Clean is optional. If it is set, all files matching output
      * are deleted. Hence you have to use it carefully.
@@ -170,6 +186,11 @@ public class ZserioTask extends Task
         this.ignoreError = ignoreError;
     }
 
+    public void setWarm(boolean warm)
+    {
+        this.warm = warm;
+    }
+
     public void addDependencies(Path dependency)
     {
         dependencies.add(dependency);
@@ -208,7 +229,7 @@ public class ZserioTask extends Task
                 cleanPreviousOutput();
             }
 
-            ToolWrapper tool = new ToolWrapper("zserio.tools.ZserioTool", classpath, ignoreError);
+            ToolWrapper tool = new ToolWrapper("zserio.tools.ZserioTool", classpath, ignoreError, warm);
             tool.callMain(buildArgs());
         }
         else
@@ -257,6 +278,7 @@ public class ZserioTask extends Task
         tryAddOption(argsList, OptionPython, pythonOutput);
         tryAddOption(argsList, OptionDoc, docOutput);
         tryAddOption(argsList, OptionXml, xmlOutput);
+        tryAddOption(argsList, OptionManifest, manifest);
 
         for (Argument a : arguments)
         {
@@ -275,6 +297,12 @@ public class ZserioTask extends Task
 
     private boolean shouldCompile()
     {
+        if (manifest != null)
+        {
+            verbose("manifest is used, up to date check is done by Zserio Tool");
+            return true;
+        }
+
         if (isPathListEmpty(dependencies) || isPathListEmpty(output))
         {
             verbose("dependency and/or output list is empty, proceeding with generation");
@@ -373,9 +401,11 @@ public class ZserioTask extends Task
     private File    pythonOutput;
     private File    docOutput;
     private File    xmlOutput;
+    private File    manifest;
 
     private boolean clean = false;
     private boolean ignoreError = false;
+    private boolean warm = false;
 
     private Vector<Path>        dependencies = new Vector<Path>();
     private Vector<Path>        output = new Vector<Path>();
@@ -389,4 +419,5 @@ public class ZserioTask extends Task
     private static final String OptionPython = "python";
     private static final String OptionDoc = "doc";
     private static final String OptionXml = "xml";
+    private static final String OptionManifest = "manifest";
 }
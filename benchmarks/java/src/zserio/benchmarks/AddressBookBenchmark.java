@@ -0,0 +1,103 @@
+package zserio.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import addressbook.AddressBook;
+import addressbook.Person;
+import addressbook.PhoneNumber;
+import addressbook.PhoneType;
+import zserio.runtime.array.ObjectArray;
+import zserio.runtime.io.ByteArrayBitStreamReader;
+import zserio.runtime.io.ByteArrayBitStreamWriter;
+import zserio.runtime.io.ZserioIO;
+
+/**
+ * End-to-end benchmarks of code generated for the address book schema used by size benchmarks.
+ * <p>
+ * The address book contains NUM_PEOPLE generated entries which are similar to the mocked data described in
+ * benchmarks/README.md.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AddressBookBenchmark
+{
+    @Setup
+    public void setUp() throws IOException
+    {
+        final Random random = new Random(RANDOM_SEED);
+        final PhoneType[] phoneTypes = PhoneType.values();
+        final List<Person> people = new ArrayList<Person>(NUM_PEOPLE);
+        for (int id = 1; id <= NUM_PEOPLE; ++id)
+        {
+            final List<PhoneNumber> phones = new ArrayList<PhoneNumber>();
+            for (PhoneType phoneType : phoneTypes)
+            {
+                if (random.nextBoolean())
+                    phones.add(new PhoneNumber(createPhoneNumber(random), phoneType));
+            }
+            final String name = "Name" + random.nextInt(NUM_PEOPLE) + " Surname" + random.nextInt(NUM_PEOPLE);
+            final String email = random.nextBoolean() ? "person" + id + "@example.com" : "";
+            people.add(new Person(name, id, email, new ObjectArray<PhoneNumber>(phones)));
+        }
+        addressBook = new AddressBook(new ObjectArray<Person>(people));
+        data = ZserioIO.write(addressBook);
+    }
+
+    @Benchmark
+    public AddressBook read() throws IOException
+    {
+        return new AddressBook(new ByteArrayBitStreamReader(data));
+    }
+
+    @Benchmark
+    public long write() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter(data.length);
+        addressBook.write(writer);
+
+        return writer.getBitPosition();
+    }
+
+    @Benchmark
+    public int bitSizeOf()
+    {
+        return addressBook.bitSizeOf();
+    }
+
+    @Benchmark
+    public AddressBook zserioIORead()
+    {
+        return ZserioIO.read(AddressBook.class, data);
+    }
+
+    @Benchmark
+    public byte[] zserioIOWrite()
+    {
+        return ZserioIO.write(addressBook);
+    }
+
+    private static String createPhoneNumber(Random random)
+    {
+        return String.format("%03d-%03d-%04d", random.nextInt(1000), random.nextInt(1000),
+                random.nextInt(10000));
+    }
+
+    private static final int NUM_PEOPLE = 1000;
+    private static final long RANDOM_SEED = 1234;
+
+    private AddressBook addressBook;
+    private byte[] data;
+}
@@ -0,0 +1,915 @@
+package zserio.benchmarks;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import addressbook.PhoneNumber;
+import addressbook.PhoneType;
+import zserio.runtime.array.BigIntegerArray;
+import zserio.runtime.array.BitBufferArray;
+import zserio.runtime.array.BoolArray;
+import zserio.runtime.array.ByteArray;
+import zserio.runtime.array.ElementFactory;
+import zserio.runtime.array.Float16Array;
+import zserio.runtime.array.Float32Array;
+import zserio.runtime.array.Float64Array;
+import zserio.runtime.array.IntArray;
+import zserio.runtime.array.LongArray;
+import zserio.runtime.array.ObjectArray;
+import zserio.runtime.array.ShortArray;
+import zserio.runtime.array.StringArray;
+import zserio.runtime.array.UnsignedByteArray;
+import zserio.runtime.array.UnsignedIntArray;
+import zserio.runtime.array.UnsignedLongArray;
+import zserio.runtime.array.UnsignedShortArray;
+import zserio.runtime.array.VarInt16Array;
+import zserio.runtime.array.VarInt32Array;
+import zserio.runtime.array.VarInt64Array;
+import zserio.runtime.array.VarIntArray;
+import zserio.runtime.array.VarSizeArray;
+import zserio.runtime.array.VarUInt16Array;
+import zserio.runtime.array.VarUInt32Array;
+import zserio.runtime.array.VarUInt64Array;
+import zserio.runtime.array.VarUIntArray;
+import zserio.runtime.io.BitBuffer;
+import zserio.runtime.io.BitStreamReader;
+import zserio.runtime.io.BitStreamWriter;
+import zserio.runtime.io.ByteArrayBitStreamReader;
+import zserio.runtime.io.ByteArrayBitStreamWriter;
+
+/**
+ * Benchmarks of reading, writing and size calculation of all array types from zserio.runtime.array.
+ * <p>
+ * Each benchmark processes whole array of NUM_ELEMENTS elements, results are given per element.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(ArrayBenchmark.NUM_ELEMENTS)
+public class ArrayBenchmark
+{
+    @Param
+    public ArrayType arrayType;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        array = arrayType.create(new Random(RANDOM_SEED), NUM_ELEMENTS);
+
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        arrayType.write(array, writer);
+        data = writer.toByteArray();
+    }
+
+    @Benchmark
+    public Object read() throws IOException
+    {
+        return arrayType.read(new ByteArrayBitStreamReader(data), NUM_ELEMENTS);
+    }
+
+    @Benchmark
+    public long write() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter(data.length);
+        arrayType.write(array, writer);
+
+        return writer.getBitPosition();
+    }
+
+    @Benchmark
+    public int bitSizeOf()
+    {
+        return arrayType.bitSizeOf(array);
+    }
+
+    /**
+     * Array types to benchmark.
+     */
+    public static enum ArrayType
+    {
+        BIG_INTEGER
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final BigInteger[] data = new BigInteger[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = BigInteger.valueOf(random.nextLong()).abs();
+
+                return new BigIntegerArray(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new BigIntegerArray(reader, length, 64);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((BigIntegerArray)array).write(writer, 64);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((BigIntegerArray)array).bitSizeOf(0, 64);
+            }
+        },
+
+        BIT_BUFFER
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final BitBuffer[] data = new BitBuffer[length];
+                for (int i = 0; i < length; ++i)
+                {
+                    final byte[] buffer = new byte[3];
+                    random.nextBytes(buffer);
+                    data[i] = new BitBuffer(buffer, 19);
+                }
+
+                return new BitBufferArray(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new BitBufferArray(reader, length);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((BitBufferArray)array).write(writer);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((BitBufferArray)array).bitSizeOf(0);
+            }
+        },
+
+        BOOL
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final boolean[] data = new boolean[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = random.nextBoolean();
+
+                return new BoolArray(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new BoolArray(reader, length);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((BoolArray)array).write(writer);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((BoolArray)array).bitSizeOf(0);
+            }
+        },
+
+        BYTE
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final byte[] data = new byte[length];
+                random.nextBytes(data);
+
+                return new ByteArray(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new ByteArray(reader, length, 8);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((ByteArray)array).write(writer, 8);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((ByteArray)array).bitSizeOf(0, 8);
+            }
+        },
+
+        FLOAT16
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final float[] data = new float[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = random.nextFloat();
+
+                return new Float16Array(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new Float16Array(reader, length);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((Float16Array)array).write(writer);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((Float16Array)array).bitSizeOf(0);
+            }
+        },
+
+        FLOAT32
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final float[] data = new float[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = random.nextFloat();
+
+                return new Float32Array(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new Float32Array(reader, length);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((Float32Array)array).write(writer);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((Float32Array)array).bitSizeOf(0);
+            }
+        },
+
+        FLOAT64
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final double[] data = new double[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = random.nextDouble();
+
+                return new Float64Array(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new Float64Array(reader, length);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((Float64Array)array).write(writer);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((Float64Array)array).bitSizeOf(0);
+            }
+        },
+
+        INT
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final int[] data = new int[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = random.nextInt();
+
+                return new IntArray(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new IntArray(reader, length, 32);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((IntArray)array).write(writer, 32);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((IntArray)array).bitSizeOf(0, 32);
+            }
+        },
+
+        LONG
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final long[] data = new long[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = random.nextLong();
+
+                return new LongArray(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new LongArray(reader, length, 64);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((LongArray)array).write(writer, 64);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((LongArray)array).bitSizeOf(0, 64);
+            }
+        },
+
+        OBJECT
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final PhoneType[] phoneTypes = PhoneType.values();
+                final List<PhoneNumber> data = new ArrayList<PhoneNumber>(length);
+                for (int i = 0; i < length; ++i)
+                {
+                    data.add(new PhoneNumber(String.format("%03d-%03d-%04d", random.nextInt(1000),
+                            random.nextInt(1000), random.nextInt(10000)),
+                            phoneTypes[random.nextInt(phoneTypes.length)]));
+                }
+
+                return new ObjectArray<PhoneNumber>(data);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new ObjectArray<PhoneNumber>(reader, length, new ElementFactory<PhoneNumber>()
+                {
+                    @Override
+                    public PhoneNumber create(BitStreamReader elementReader, int index) throws IOException
+                    {
+                        return new PhoneNumber(elementReader);
+                    }
+                });
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                getObjectArray(array).write(writer);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return getObjectArray(array).bitSizeOf(0);
+            }
+
+            @SuppressWarnings("unchecked")
+            private ObjectArray<PhoneNumber> getObjectArray(Object array)
+            {
+                return (ObjectArray<PhoneNumber>)array;
+            }
+        },
+
+        SHORT
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final short[] data = new short[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = (short)random.nextInt();
+
+                return new ShortArray(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new ShortArray(reader, length, 16);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((ShortArray)array).write(writer, 16);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((ShortArray)array).bitSizeOf(0, 16);
+            }
+        },
+
+        STRING
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final String[] data = new String[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = "string value " + random.nextInt();
+
+                return new StringArray(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new StringArray(reader, length);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((StringArray)array).write(writer);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((StringArray)array).bitSizeOf(0);
+            }
+        },
+
+        UNSIGNED_BYTE
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final short[] data = new short[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = (short)random.nextInt(1 << 8);
+
+                return new UnsignedByteArray(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new UnsignedByteArray(reader, length, 8);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((UnsignedByteArray)array).write(writer, 8);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((UnsignedByteArray)array).bitSizeOf(0, 8);
+            }
+        },
+
+        UNSIGNED_INT
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final long[] data = new long[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = random.nextInt() & 0xFFFFFFFFL;
+
+                return new UnsignedIntArray(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new UnsignedIntArray(reader, length, 32);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((UnsignedIntArray)array).write(writer, 32);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((UnsignedIntArray)array).bitSizeOf(0, 32);
+            }
+        },
+
+        UNSIGNED_LONG
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final long[] data = new long[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = random.nextLong() >>> 1;
+
+                return new UnsignedLongArray(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new UnsignedLongArray(reader, length, 63);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((UnsignedLongArray)array).write(writer, 63);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((UnsignedLongArray)array).bitSizeOf(0, 63);
+            }
+        },
+
+        UNSIGNED_SHORT
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final int[] data = new int[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = random.nextInt(1 << 16);
+
+                return new UnsignedShortArray(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new UnsignedShortArray(reader, length, 16);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((UnsignedShortArray)array).write(writer, 16);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((UnsignedShortArray)array).bitSizeOf(0, 16);
+            }
+        },
+
+        VARINT16
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final short[] data = new short[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = (short)(random.nextInt(1 << 15) - (1 << 14));
+
+                return new VarInt16Array(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new VarInt16Array(reader, length);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((VarInt16Array)array).write(writer);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((VarInt16Array)array).bitSizeOf(0);
+            }
+        },
+
+        VARINT32
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final int[] data = new int[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = random.nextInt(1 << 29) - (1 << 28);
+
+                return new VarInt32Array(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new VarInt32Array(reader, length);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((VarInt32Array)array).write(writer);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((VarInt32Array)array).bitSizeOf(0);
+            }
+        },
+
+        VARINT64
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final long[] data = new long[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = random.nextLong() >> 8;
+
+                return new VarInt64Array(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new VarInt64Array(reader, length);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((VarInt64Array)array).write(writer);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((VarInt64Array)array).bitSizeOf(0);
+            }
+        },
+
+        VARINT
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final long[] data = new long[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = random.nextLong();
+
+                return new VarIntArray(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new VarIntArray(reader, length);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((VarIntArray)array).write(writer);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((VarIntArray)array).bitSizeOf(0);
+            }
+        },
+
+        VARSIZE
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final int[] data = new int[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = random.nextInt() >>> 1;
+
+                return new VarSizeArray(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new VarSizeArray(reader, length);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((VarSizeArray)array).write(writer);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((VarSizeArray)array).bitSizeOf(0);
+            }
+        },
+
+        VARUINT16
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final short[] data = new short[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = (short)random.nextInt(1 << 15);
+
+                return new VarUInt16Array(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new VarUInt16Array(reader, length);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((VarUInt16Array)array).write(writer);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((VarUInt16Array)array).bitSizeOf(0);
+            }
+        },
+
+        VARUINT32
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final int[] data = new int[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = random.nextInt(1 << 29);
+
+                return new VarUInt32Array(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new VarUInt32Array(reader, length);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((VarUInt32Array)array).write(writer);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((VarUInt32Array)array).bitSizeOf(0);
+            }
+        },
+
+        VARUINT64
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final long[] data = new long[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = random.nextLong() >>> 7;
+
+                return new VarUInt64Array(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new VarUInt64Array(reader, length);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((VarUInt64Array)array).write(writer);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((VarUInt64Array)array).bitSizeOf(0);
+            }
+        },
+
+        VARUINT
+        {
+            @Override
+            public Object create(Random random, int length)
+            {
+                final BigInteger[] data = new BigInteger[length];
+                for (int i = 0; i < length; ++i)
+                    data[i] = BigInteger.valueOf(random.nextLong()).abs();
+
+                return new VarUIntArray(data, 0, length);
+            }
+
+            @Override
+            public Object read(BitStreamReader reader, int length) throws IOException
+            {
+                return new VarUIntArray(reader, length);
+            }
+
+            @Override
+            public void write(Object array, BitStreamWriter writer) throws IOException
+            {
+                ((VarUIntArray)array).write(writer);
+            }
+
+            @Override
+            public int bitSizeOf(Object array)
+            {
+                return ((VarUIntArray)array).bitSizeOf(0);
+            }
+        };
+
+        public abstract Object create(Random random, int length);
+
+        public abstract Object read(BitStreamReader reader, int length) throws IOException;
+
+        public abstract void write(Object array, BitStreamWriter writer) throws IOException;
+
+        public abstract int bitSizeOf(Object array);
+    }
+
+    static final int NUM_ELEMENTS = 1000;
+
+    private static final long RANDOM_SEED = 1234;
+
+    private Object array;
+    private byte[] data;
+}
@@ -0,0 +1,87 @@
+package zserio.benchmarks;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import zserio.runtime.io.ByteArrayBitStreamReader;
+import zserio.runtime.io.ByteArrayBitStreamWriter;
+
+/**
+ * Benchmarks of bit field reading by ByteArrayBitStreamReader.
+ * <p>
+ * Each benchmark reads NUM_VALUES bit fields of the given width starting at the given bit offset. Widths are
+ * chosen around byte and word boundaries, use JMH option -p numBits=... to measure any other width.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(BitFieldReaderBenchmark.NUM_VALUES)
+public class BitFieldReaderBenchmark
+{
+    @Param({"1", "7", "8", "9", "13", "16", "17", "31", "32", "33", "48", "57", "63", "64"})
+    public int numBits;
+
+    @Param({"0", "1", "2", "3", "4", "5", "6", "7"})
+    public int bitOffset;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        final Random random = new Random(RANDOM_SEED);
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        if (bitOffset > 0)
+            writer.writeBits(0, bitOffset);
+
+        // signed values have the same encoding as unsigned ones and can be written up to 64 bits
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeSignedBits(random.nextLong() >> (Long.SIZE - numBits), numBits);
+        data = writer.toByteArray();
+    }
+
+    @Benchmark
+    public long readBits() throws IOException
+    {
+        final ByteArrayBitStreamReader reader = createReader();
+        long sum = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            sum += reader.readBits(numBits);
+
+        return sum;
+    }
+
+    @Benchmark
+    public long readSignedBits() throws IOException
+    {
+        final ByteArrayBitStreamReader reader = createReader();
+        long sum = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            sum += reader.readSignedBits(numBits);
+
+        return sum;
+    }
+
+    private ByteArrayBitStreamReader createReader() throws IOException
+    {
+        final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(data);
+        reader.setBitPosition(bitOffset);
+
+        return reader;
+    }
+
+    static final int NUM_VALUES = 1000;
+
+    private static final long RANDOM_SEED = 1234;
+
+    private byte[] data;
+}
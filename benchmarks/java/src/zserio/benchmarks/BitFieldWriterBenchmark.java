@@ -0,0 +1,85 @@
+package zserio.benchmarks;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import zserio.runtime.io.ByteArrayBitStreamWriter;
+
+/**
+ * Benchmarks of bit field writing by ByteArrayBitStreamWriter.
+ * <p>
+ * Each benchmark writes NUM_VALUES bit fields of the given width starting at the given bit offset. Widths are
+ * chosen around byte and word boundaries, use JMH option -p numBits=... to measure any other width. Unsigned
+ * bit fields can be written up to 63 bits only.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(BitFieldWriterBenchmark.NUM_VALUES)
+public class BitFieldWriterBenchmark
+{
+    @Param({"1", "7", "8", "9", "13", "16", "17", "31", "32", "33", "48", "57", "63"})
+    public int numBits;
+
+    @Param({"0", "1", "2", "3", "4", "5", "6", "7"})
+    public int bitOffset;
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = new Random(RANDOM_SEED);
+        for (int i = 0; i < NUM_VALUES; ++i)
+        {
+            final long value = random.nextLong();
+            unsignedValues[i] = value >>> (Long.SIZE - numBits);
+            signedValues[i] = value >> (Long.SIZE - numBits);
+        }
+    }
+
+    @Benchmark
+    public long writeBits() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeBits(unsignedValues[i], numBits);
+
+        return writer.getBitPosition();
+    }
+
+    @Benchmark
+    public long writeSignedBits() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeSignedBits(signedValues[i], numBits);
+
+        return writer.getBitPosition();
+    }
+
+    private ByteArrayBitStreamWriter createWriter() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        if (bitOffset > 0)
+            writer.writeBits(0, bitOffset);
+
+        return writer;
+    }
+
+    static final int NUM_VALUES = 1000;
+
+    private static final long RANDOM_SEED = 1234;
+
+    private final long[] unsignedValues = new long[NUM_VALUES];
+    private final long[] signedValues = new long[NUM_VALUES];
+}
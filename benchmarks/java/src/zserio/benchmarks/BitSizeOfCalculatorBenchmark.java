@@ -0,0 +1,169 @@
+package zserio.benchmarks;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import zserio.runtime.BitSizeOfCalculator;
+import zserio.runtime.io.BitBuffer;
+
+/**
+ * Benchmarks of BitSizeOfCalculator.
+ * <p>
+ * Each benchmark calculates bit sizes of NUM_VALUES values of different magnitudes.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(BitSizeOfCalculatorBenchmark.NUM_VALUES)
+public class BitSizeOfCalculatorBenchmark
+{
+    @Setup
+    public void setUp()
+    {
+        final Random random = new Random(RANDOM_SEED);
+        for (int i = 0; i < NUM_VALUES; ++i)
+        {
+            // use all magnitudes to cover all branches of variable length calculations
+            final int numBits = 1 + random.nextInt(MAX_VALUE_BITS);
+            final long value = random.nextLong() >>> (64 - numBits);
+            shortValues[i] = (short)(value & 0x3FFF);
+            intValues[i] = (int)(value & 0x0FFFFFFF);
+            longValues[i] = value;
+            bigIntegerValues[i] = BigInteger.valueOf(value);
+            stringValues[i] = "string value " + value;
+            bitBufferValues[i] = new BitBuffer(new byte[1 + random.nextInt(32)]);
+        }
+    }
+
+    @Benchmark
+    public int getBitSizeOfVarInt16()
+    {
+        int bitSize = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            bitSize += BitSizeOfCalculator.getBitSizeOfVarInt16(shortValues[i]);
+
+        return bitSize;
+    }
+
+    @Benchmark
+    public int getBitSizeOfVarInt32()
+    {
+        int bitSize = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            bitSize += BitSizeOfCalculator.getBitSizeOfVarInt32(intValues[i]);
+
+        return bitSize;
+    }
+
+    @Benchmark
+    public int getBitSizeOfVarInt64()
+    {
+        int bitSize = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            bitSize += BitSizeOfCalculator.getBitSizeOfVarInt64(longValues[i]);
+
+        return bitSize;
+    }
+
+    @Benchmark
+    public int getBitSizeOfVarUInt16()
+    {
+        int bitSize = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            bitSize += BitSizeOfCalculator.getBitSizeOfVarUInt16(shortValues[i]);
+
+        return bitSize;
+    }
+
+    @Benchmark
+    public int getBitSizeOfVarUInt32()
+    {
+        int bitSize = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            bitSize += BitSizeOfCalculator.getBitSizeOfVarUInt32(intValues[i]);
+
+        return bitSize;
+    }
+
+    @Benchmark
+    public int getBitSizeOfVarUInt64()
+    {
+        int bitSize = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            bitSize += BitSizeOfCalculator.getBitSizeOfVarUInt64(longValues[i]);
+
+        return bitSize;
+    }
+
+    @Benchmark
+    public int getBitSizeOfVarInt()
+    {
+        int bitSize = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            bitSize += BitSizeOfCalculator.getBitSizeOfVarInt(longValues[i]);
+
+        return bitSize;
+    }
+
+    @Benchmark
+    public int getBitSizeOfVarUInt()
+    {
+        int bitSize = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            bitSize += BitSizeOfCalculator.getBitSizeOfVarUInt(bigIntegerValues[i]);
+
+        return bitSize;
+    }
+
+    @Benchmark
+    public int getBitSizeOfVarSize()
+    {
+        int bitSize = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            bitSize += BitSizeOfCalculator.getBitSizeOfVarSize(intValues[i]);
+
+        return bitSize;
+    }
+
+    @Benchmark
+    public int getBitSizeOfString()
+    {
+        int bitSize = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            bitSize += BitSizeOfCalculator.getBitSizeOfString(stringValues[i]);
+
+        return bitSize;
+    }
+
+    @Benchmark
+    public int getBitSizeOfBitBuffer()
+    {
+        int bitSize = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            bitSize += BitSizeOfCalculator.getBitSizeOfBitBuffer(bitBufferValues[i]);
+
+        return bitSize;
+    }
+
+    static final int NUM_VALUES = 1000;
+
+    private static final int MAX_VALUE_BITS = 56;
+    private static final long RANDOM_SEED = 1234;
+
+    private final short[] shortValues = new short[NUM_VALUES];
+    private final int[] intValues = new int[NUM_VALUES];
+    private final long[] longValues = new long[NUM_VALUES];
+    private final BigInteger[] bigIntegerValues = new BigInteger[NUM_VALUES];
+    private final String[] stringValues = new String[NUM_VALUES];
+    private final BitBuffer[] bitBufferValues = new BitBuffer[NUM_VALUES];
+}
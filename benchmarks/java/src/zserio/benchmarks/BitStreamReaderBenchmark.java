@@ -0,0 +1,254 @@
+package zserio.benchmarks;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import zserio.runtime.io.ByteArrayBitStreamReader;
+import zserio.runtime.io.ByteArrayBitStreamWriter;
+
+/**
+ * Benchmarks of ByteArrayBitStreamReader primitives.
+ * <p>
+ * Each benchmark reads NUM_VALUES values starting at the given bit offset. Bit offset 0 measures aligned
+ * reading, other offsets measure unaligned reading. Bit fields are benchmarked by
+ * {@link BitFieldReaderBenchmark}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(BitStreamReaderBenchmark.NUM_VALUES)
+public class BitStreamReaderBenchmark
+{
+    @Param({"0", "1", "2", "3", "4", "5", "6", "7"})
+    public int bitOffset;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        final Random random = new Random(RANDOM_SEED);
+
+        ByteArrayBitStreamWriter writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeBool(random.nextBoolean());
+        boolData = writer.toByteArray();
+
+        writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeInt(random.nextInt());
+        intData = writer.toByteArray();
+
+        writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeLong(random.nextLong());
+        longData = writer.toByteArray();
+
+        writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeBigInteger(BigInteger.valueOf(random.nextLong()).abs(), 64);
+        bigIntegerData = writer.toByteArray();
+
+        writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeFloat16(random.nextFloat());
+        float16Data = writer.toByteArray();
+
+        writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeFloat32(random.nextFloat());
+        float32Data = writer.toByteArray();
+
+        writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeFloat64(random.nextDouble());
+        float64Data = writer.toByteArray();
+
+        writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeVarInt32(random.nextInt(1 << 28) - (1 << 27));
+        varInt32Data = writer.toByteArray();
+
+        writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeVarUInt64(random.nextLong() >>> 8);
+        varUInt64Data = writer.toByteArray();
+
+        writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeVarSize(random.nextInt(1 << 20));
+        varSizeData = writer.toByteArray();
+
+        writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeString("string value " + random.nextInt());
+        stringData = writer.toByteArray();
+    }
+
+    @Benchmark
+    public int readBool() throws IOException
+    {
+        final ByteArrayBitStreamReader reader = createReader(boolData);
+        int count = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+        {
+            if (reader.readBool())
+                count++;
+        }
+
+        return count;
+    }
+
+    @Benchmark
+    public long readInt() throws IOException
+    {
+        final ByteArrayBitStreamReader reader = createReader(intData);
+        long sum = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            sum += reader.readInt();
+
+        return sum;
+    }
+
+    @Benchmark
+    public long readLong() throws IOException
+    {
+        final ByteArrayBitStreamReader reader = createReader(longData);
+        long sum = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            sum += reader.readLong();
+
+        return sum;
+    }
+
+    @Benchmark
+    public int readBigInteger() throws IOException
+    {
+        final ByteArrayBitStreamReader reader = createReader(bigIntegerData);
+        int hash = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            hash += reader.readBigInteger(64).hashCode();
+
+        return hash;
+    }
+
+    @Benchmark
+    public float readFloat16() throws IOException
+    {
+        final ByteArrayBitStreamReader reader = createReader(float16Data);
+        float sum = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            sum += reader.readFloat16();
+
+        return sum;
+    }
+
+    @Benchmark
+    public float readFloat32() throws IOException
+    {
+        final ByteArrayBitStreamReader reader = createReader(float32Data);
+        float sum = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            sum += reader.readFloat32();
+
+        return sum;
+    }
+
+    @Benchmark
+    public double readFloat64() throws IOException
+    {
+        final ByteArrayBitStreamReader reader = createReader(float64Data);
+        double sum = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            sum += reader.readFloat64();
+
+        return sum;
+    }
+
+    @Benchmark
+    public long readVarInt32() throws IOException
+    {
+        final ByteArrayBitStreamReader reader = createReader(varInt32Data);
+        long sum = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            sum += reader.readVarInt32();
+
+        return sum;
+    }
+
+    @Benchmark
+    public long readVarUInt64() throws IOException
+    {
+        final ByteArrayBitStreamReader reader = createReader(varUInt64Data);
+        long sum = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            sum += reader.readVarUInt64();
+
+        return sum;
+    }
+
+    @Benchmark
+    public long readVarSize() throws IOException
+    {
+        final ByteArrayBitStreamReader reader = createReader(varSizeData);
+        long sum = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            sum += reader.readVarSize();
+
+        return sum;
+    }
+
+    @Benchmark
+    public int readString() throws IOException
+    {
+        final ByteArrayBitStreamReader reader = createReader(stringData);
+        int length = 0;
+        for (int i = 0; i < NUM_VALUES; ++i)
+            length += reader.readString().length();
+
+        return length;
+    }
+
+    private ByteArrayBitStreamWriter createWriter() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        if (bitOffset > 0)
+            writer.writeBits(0, bitOffset);
+
+        return writer;
+    }
+
+    private ByteArrayBitStreamReader createReader(byte[] data) throws IOException
+    {
+        final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(data);
+        reader.setBitPosition(bitOffset);
+
+        return reader;
+    }
+
+    static final int NUM_VALUES = 1000;
+
+    private static final long RANDOM_SEED = 1234;
+
+    private byte[] boolData;
+    private byte[] intData;
+    private byte[] longData;
+    private byte[] bigIntegerData;
+    private byte[] float16Data;
+    private byte[] float32Data;
+    private byte[] float64Data;
+    private byte[] varInt32Data;
+    private byte[] varUInt64Data;
+    private byte[] varSizeData;
+    private byte[] stringData;
+}
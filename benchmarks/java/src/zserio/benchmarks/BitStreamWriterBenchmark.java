@@ -0,0 +1,182 @@
+package zserio.benchmarks;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import zserio.runtime.io.ByteArrayBitStreamWriter;
+
+/**
+ * Benchmarks of ByteArrayBitStreamWriter primitives.
+ * <p>
+ * Each benchmark writes NUM_VALUES values starting at the given bit offset. Bit offset 0 measures aligned
+ * writing, other offsets measure unaligned writing. Bit fields are benchmarked by
+ * {@link BitFieldWriterBenchmark}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(BitStreamWriterBenchmark.NUM_VALUES)
+public class BitStreamWriterBenchmark
+{
+    @Param({"0", "1", "2", "3", "4", "5", "6", "7"})
+    public int bitOffset;
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = new Random(RANDOM_SEED);
+        for (int i = 0; i < NUM_VALUES; ++i)
+        {
+            intValues[i] = random.nextInt();
+            longValues[i] = random.nextLong();
+            bigIntegerValues[i] = BigInteger.valueOf(longValues[i]).abs();
+            floatValues[i] = random.nextFloat();
+            doubleValues[i] = random.nextDouble();
+            boolValues[i] = random.nextBoolean();
+            stringValues[i] = "string value " + intValues[i];
+        }
+    }
+
+    @Benchmark
+    public long writeBool() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeBool(boolValues[i]);
+
+        return writer.getBitPosition();
+    }
+
+    @Benchmark
+    public long writeInt() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeInt(intValues[i]);
+
+        return writer.getBitPosition();
+    }
+
+    @Benchmark
+    public long writeLong() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeLong(longValues[i]);
+
+        return writer.getBitPosition();
+    }
+
+    @Benchmark
+    public long writeBigInteger() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeBigInteger(bigIntegerValues[i], 64);
+
+        return writer.getBitPosition();
+    }
+
+    @Benchmark
+    public long writeFloat16() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeFloat16(floatValues[i]);
+
+        return writer.getBitPosition();
+    }
+
+    @Benchmark
+    public long writeFloat32() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeFloat32(floatValues[i]);
+
+        return writer.getBitPosition();
+    }
+
+    @Benchmark
+    public long writeFloat64() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeFloat64(doubleValues[i]);
+
+        return writer.getBitPosition();
+    }
+
+    @Benchmark
+    public long writeVarInt32() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeVarInt32(intValues[i] >> 4);
+
+        return writer.getBitPosition();
+    }
+
+    @Benchmark
+    public long writeVarUInt64() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeVarUInt64(longValues[i] >>> 8);
+
+        return writer.getBitPosition();
+    }
+
+    @Benchmark
+    public long writeVarSize() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeVarSize(intValues[i] >>> 12);
+
+        return writer.getBitPosition();
+    }
+
+    @Benchmark
+    public long writeString() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = createWriter();
+        for (int i = 0; i < NUM_VALUES; ++i)
+            writer.writeString(stringValues[i]);
+
+        return writer.getBitPosition();
+    }
+
+    private ByteArrayBitStreamWriter createWriter() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        if (bitOffset > 0)
+            writer.writeBits(0, bitOffset);
+
+        return writer;
+    }
+
+    static final int NUM_VALUES = 1000;
+
+    private static final long RANDOM_SEED = 1234;
+
+    private final int[] intValues = new int[NUM_VALUES];
+    private final long[] longValues = new long[NUM_VALUES];
+    private final BigInteger[] bigIntegerValues = new BigInteger[NUM_VALUES];
+    private final float[] floatValues = new float[NUM_VALUES];
+    private final double[] doubleValues = new double[NUM_VALUES];
+    private final boolean[] boolValues = new boolean[NUM_VALUES];
+    private final String[] stringValues = new String[NUM_VALUES];
+}
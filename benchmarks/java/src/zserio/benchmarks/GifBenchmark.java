@@ -0,0 +1,107 @@
+package zserio.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import gif.GifFile;
+import gif_version.GifVersion;
+import screen_descriptor.ScreenDescriptor;
+import zserio.runtime.io.ByteArrayBitStreamReader;
+import zserio.runtime.io.ByteArrayBitStreamWriter;
+import zserio.runtime.io.ZserioIO;
+
+/**
+ * End-to-end benchmarks of code generated for the GIF schema from test/others/gif.
+ * <p>
+ * The GIF file is read from the class path where it is copied by the benchmark build.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GifBenchmark
+{
+    @Setup
+    public void setUp() throws IOException
+    {
+        data = readResource(GIF_FILE_NAME);
+        gifFile = new GifFile(new ByteArrayBitStreamReader(data));
+        screenDescriptorData = ZserioIO.write(gifFile.getScreen());
+    }
+
+    @Benchmark
+    public GifFile read() throws IOException
+    {
+        return new GifFile(new ByteArrayBitStreamReader(data));
+    }
+
+    @Benchmark
+    public long write() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter(data.length);
+        gifFile.write(writer);
+
+        return writer.getBitPosition();
+    }
+
+    @Benchmark
+    public int bitSizeOf()
+    {
+        return gifFile.bitSizeOf();
+    }
+
+    @Benchmark
+    public GifFile zserioIORead()
+    {
+        return ZserioIO.read(GifFile.class, data);
+    }
+
+    @Benchmark
+    public ScreenDescriptor zserioIOReadWithArguments()
+    {
+        return ZserioIO.read(ScreenDescriptor.class, screenDescriptorData, GifVersion.V89A);
+    }
+
+    @Benchmark
+    public byte[] zserioIOWrite()
+    {
+        return ZserioIO.write(gifFile);
+    }
+
+    private static byte[] readResource(String resourceName) throws IOException
+    {
+        final InputStream inputStream = GifBenchmark.class.getResourceAsStream(resourceName);
+        if (inputStream == null)
+            throw new IOException("GifBenchmark: Resource " + resourceName + " not found!");
+
+        try
+        {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int numRead;
+            while ((numRead = inputStream.read(buffer)) != -1)
+                outputStream.write(buffer, 0, numRead);
+
+            return outputStream.toByteArray();
+        }
+        finally
+        {
+            inputStream.close();
+        }
+    }
+
+    private static final String GIF_FILE_NAME = "1pix.gif";
+
+    private byte[] data;
+    private GifFile gifFile;
+    private byte[] screenDescriptorData;
+}
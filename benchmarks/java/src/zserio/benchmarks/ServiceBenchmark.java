@@ -0,0 +1,119 @@
+package zserio.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import addressbook.Person;
+import addressbook.PhoneNumber;
+import addressbook.PhoneType;
+import addressbook_service.AddressBookService;
+import addressbook_service.PersonRequest;
+import zserio.runtime.array.ObjectArray;
+import zserio.runtime.service.AsyncServiceUtil;
+import zserio.runtime.service.LoopbackServiceTransport;
+import zserio.runtime.service.ServiceCallBatch;
+
+/**
+ * Benchmarks of synchronous, pipelined and batched calls of generated service code.
+ * <p>
+ * Asynchronous calls go through the in-process LoopbackServiceTransport. Each benchmark makes NUM_CALLS calls
+ * of the service defined in zs/addressbook_service.zs.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(ServiceBenchmark.NUM_CALLS)
+public class ServiceBenchmark
+{
+    @Setup
+    public void setUp()
+    {
+        final AddressBookService.AddressBookServiceService service = new Service();
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        final LoopbackServiceTransport transport = new LoopbackServiceTransport(service, executor);
+        syncClient = new AddressBookService.AddressBookServiceClient(service);
+        asyncClient = new AddressBookService.AddressBookServiceClient(transport);
+        batch = new ServiceCallBatch(transport);
+        batchClient = new AddressBookService.AddressBookServiceClient(batch);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int sync()
+    {
+        int sum = 0;
+        for (int id = 0; id < NUM_CALLS; ++id)
+            sum += syncClient.getPersonMethod(new PersonRequest(id)).getId();
+
+        return sum;
+    }
+
+    @Benchmark
+    public int pipelined()
+    {
+        final List<CompletableFuture<Person>> responses = new ArrayList<CompletableFuture<Person>>(NUM_CALLS);
+        for (int id = 0; id < NUM_CALLS; ++id)
+            responses.add(asyncClient.getPersonMethodAsync(new PersonRequest(id)));
+
+        return sumIds(responses);
+    }
+
+    @Benchmark
+    public int batched()
+    {
+        final List<CompletableFuture<Person>> responses = new ArrayList<CompletableFuture<Person>>(NUM_CALLS);
+        for (int id = 0; id < NUM_CALLS; ++id)
+            responses.add(batchClient.getPersonMethodAsync(new PersonRequest(id)));
+        batch.flush();
+
+        return sumIds(responses);
+    }
+
+    private static int sumIds(List<CompletableFuture<Person>> responses)
+    {
+        int sum = 0;
+        for (CompletableFuture<Person> response : responses)
+            sum += AsyncServiceUtil.join(response).getId();
+
+        return sum;
+    }
+
+    private static class Service extends AddressBookService.AddressBookServiceService
+    {
+        @Override
+        protected Person getPersonImpl(PersonRequest request, Object context)
+        {
+            final List<PhoneNumber> phones = new ArrayList<PhoneNumber>();
+            phones.add(new PhoneNumber("123-456-7890", PhoneType.HOME));
+            return new Person("Name" + request.getId(), request.getId(), "person@example.com",
+                    new ObjectArray<PhoneNumber>(phones));
+        }
+    }
+
+    static final int NUM_CALLS = 100;
+
+    private ExecutorService executor;
+    private AddressBookService.AddressBookServiceClient syncClient;
+    private AddressBookService.AddressBookServiceClient asyncClient;
+    private ServiceCallBatch batch;
+    private AddressBookService.AddressBookServiceClient batchClient;
+}
@@ -0,0 +1,187 @@
+// Generated from /root/project/compiler/core/antlr/DocComment.g4 by ANTLR 4.7.2
+package zserio.antlr;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class DocCommentLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.7.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		COMMENT_BEGIN=1, COMMENT_END=2, NEWLINE=3, SPACE=4, DOT=5, STAR=6, BACKSLASH=7, 
+		ESC=8, DOUBLE_QUOTE_ESC=9, DOUBLE_QUOTE=10, AT=11, SEE=12, TODO=13, PARAM=14, 
+		DEPRECATED=15, ID=16, TEXT=17;
+	public static String[] channelNames = {
+		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
+	};
+
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"NEWLINE_COMMENT", "COMMENT_BEGIN", "COMMENT_END", "NEWLINE", "SPACE", 
+			"DOT", "STAR", "BACKSLASH", "ESC", "DOUBLE_QUOTE_ESC", "DOUBLE_QUOTE", 
+			"AT", "SEE", "TODO", "PARAM", "DEPRECATED", "ID", "TEXT"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, null, null, null, null, "'.'", "'*'", "'\\'", "'\\\\'", "'\\\"'", 
+			"'\"'", "'@'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "COMMENT_BEGIN", "COMMENT_END", "NEWLINE", "SPACE", "DOT", "STAR", 
+			"BACKSLASH", "ESC", "DOUBLE_QUOTE_ESC", "DOUBLE_QUOTE", "AT", "SEE", 
+			"TODO", "PARAM", "DEPRECATED", "ID", "TEXT"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public DocCommentLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "DocComment.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getChannelNames() { return channelNames; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	@Override
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 0:
+			return NEWLINE_COMMENT_sempred((RuleContext)_localctx, predIndex);
+		case 1:
+			return COMMENT_BEGIN_sempred((RuleContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean NEWLINE_COMMENT_sempred(RuleContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return  _input.LA(1) != '/' ;
+		}
+		return true;
+	}
+	private boolean COMMENT_BEGIN_sempred(RuleContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 1:
+			return  _input.LA(1) != '/' ;
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2\23\u0092\b\1\4\2"+
+		"\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4"+
+		"\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22"+
+		"\t\22\4\23\t\23\3\2\7\2)\n\2\f\2\16\2,\13\2\3\2\3\2\3\2\6\2\61\n\2\r\2"+
+		"\16\2\62\3\3\3\3\3\3\3\3\3\3\3\3\3\3\7\3<\n\3\f\3\16\3?\13\3\3\4\7\4B"+
+		"\n\4\f\4\16\4E\13\4\3\4\3\4\3\4\3\5\5\5K\n\5\3\5\3\5\5\5O\n\5\3\5\5\5"+
+		"R\n\5\3\5\5\5U\n\5\3\6\3\6\3\7\3\7\3\b\3\b\3\t\3\t\3\n\3\n\3\n\3\13\3"+
+		"\13\3\13\3\f\3\f\3\r\3\r\3\16\3\16\3\16\3\16\3\16\3\17\3\17\3\17\3\17"+
+		"\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\21\3\21\3\21\3\21\3\21"+
+		"\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\22\3\22\7\22\u0089\n\22\f\22\16"+
+		"\22\u008c\13\22\3\23\6\23\u008f\n\23\r\23\16\23\u0090\2\2\24\3\2\5\3\7"+
+		"\4\t\5\13\6\r\7\17\b\21\t\23\n\25\13\27\f\31\r\33\16\35\17\37\20!\21#"+
+		"\22%\23\3\2\6\4\2\13\13\"\"\5\2C\\aac|\6\2\62;C\\aac|\f\2\13\f\17\17\""+
+		"\"$$,,\60\60B\\^^aac|\2\u009a\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13"+
+		"\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2"+
+		"\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2"+
+		"!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\3*\3\2\2\2\5\64\3\2\2\2\7C\3\2\2\2\tN"+
+		"\3\2\2\2\13V\3\2\2\2\rX\3\2\2\2\17Z\3\2\2\2\21\\\3\2\2\2\23^\3\2\2\2\25"+
+		"a\3\2\2\2\27d\3\2\2\2\31f\3\2\2\2\33h\3\2\2\2\35m\3\2\2\2\37s\3\2\2\2"+
+		"!z\3\2\2\2#\u0086\3\2\2\2%\u008e\3\2\2\2\')\5\13\6\2(\'\3\2\2\2),\3\2"+
+		"\2\2*(\3\2\2\2*+\3\2\2\2+\60\3\2\2\2,*\3\2\2\2-.\5\17\b\2./\6\2\2\2/\61"+
+		"\3\2\2\2\60-\3\2\2\2\61\62\3\2\2\2\62\60\3\2\2\2\62\63\3\2\2\2\63\4\3"+
+		"\2\2\2\64\65\7\61\2\2\65\66\7,\2\2\66\67\7,\2\2\67=\3\2\2\289\5\17\b\2"+
+		"9:\6\3\3\2:<\3\2\2\2;8\3\2\2\2<?\3\2\2\2=;\3\2\2\2=>\3\2\2\2>\6\3\2\2"+
+		"\2?=\3\2\2\2@B\5\17\b\2A@\3\2\2\2BE\3\2\2\2CA\3\2\2\2CD\3\2\2\2DF\3\2"+
+		"\2\2EC\3\2\2\2FG\7,\2\2GH\7\61\2\2H\b\3\2\2\2IK\7\17\2\2JI\3\2\2\2JK\3"+
+		"\2\2\2KL\3\2\2\2LO\7\f\2\2MO\7\17\2\2NJ\3\2\2\2NM\3\2\2\2OQ\3\2\2\2PR"+
+		"\5\3\2\2QP\3\2\2\2QR\3\2\2\2RT\3\2\2\2SU\5\13\6\2TS\3\2\2\2TU\3\2\2\2"+
+		"U\n\3\2\2\2VW\t\2\2\2W\f\3\2\2\2XY\7\60\2\2Y\16\3\2\2\2Z[\7,\2\2[\20\3"+
+		"\2\2\2\\]\7^\2\2]\22\3\2\2\2^_\7^\2\2_`\7^\2\2`\24\3\2\2\2ab\7^\2\2bc"+
+		"\7$\2\2c\26\3\2\2\2de\7$\2\2e\30\3\2\2\2fg\7B\2\2g\32\3\2\2\2hi\5\31\r"+
+		"\2ij\7u\2\2jk\7g\2\2kl\7g\2\2l\34\3\2\2\2mn\5\31\r\2no\7v\2\2op\7q\2\2"+
+		"pq\7f\2\2qr\7q\2\2r\36\3\2\2\2st\5\31\r\2tu\7r\2\2uv\7c\2\2vw\7t\2\2w"+
+		"x\7c\2\2xy\7o\2\2y \3\2\2\2z{\5\31\r\2{|\7f\2\2|}\7g\2\2}~\7r\2\2~\177"+
+		"\7t\2\2\177\u0080\7g\2\2\u0080\u0081\7e\2\2\u0081\u0082\7c\2\2\u0082\u0083"+
+		"\7v\2\2\u0083\u0084\7g\2\2\u0084\u0085\7f\2\2\u0085\"\3\2\2\2\u0086\u008a"+
+		"\t\3\2\2\u0087\u0089\t\4\2\2\u0088\u0087\3\2\2\2\u0089\u008c\3\2\2\2\u008a"+
+		"\u0088\3\2\2\2\u008a\u008b\3\2\2\2\u008b$\3\2\2\2\u008c\u008a\3\2\2\2"+
+		"\u008d\u008f\n\5\2\2\u008e\u008d\3\2\2\2\u008f\u0090\3\2\2\2\u0090\u008e"+
+		"\3\2\2\2\u0090\u0091\3\2\2\2\u0091&\3\2\2\2\r\2*\62=CJNQT\u008a\u0090"+
+		"\2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,1501 @@
+// Generated from /root/project/compiler/core/antlr/DocComment.g4 by ANTLR 4.7.2
+package zserio.antlr;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class DocCommentParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.7.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		COMMENT_BEGIN=1, COMMENT_END=2, NEWLINE=3, SPACE=4, DOT=5, STAR=6, BACKSLASH=7, 
+		ESC=8, DOUBLE_QUOTE_ESC=9, DOUBLE_QUOTE=10, AT=11, SEE=12, TODO=13, PARAM=14, 
+		DEPRECATED=15, ID=16, TEXT=17;
+	public static final int
+		RULE_docComment = 0, RULE_docContent = 1, RULE_docElement = 2, RULE_docLine = 3, 
+		RULE_docTag = 4, RULE_docLineElement = 5, RULE_docText = 6, RULE_seeTag = 7, 
+		RULE_seeTagAlias = 8, RULE_seeTagAliasText = 9, RULE_seeTagId = 10, RULE_todoTag = 11, 
+		RULE_paramTag = 12, RULE_paramName = 13, RULE_deprecatedTag = 14, RULE_whitespace = 15, 
+		RULE_whitespaceInParagraph = 16, RULE_whitespaceInLine = 17;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"docComment", "docContent", "docElement", "docLine", "docTag", "docLineElement", 
+			"docText", "seeTag", "seeTagAlias", "seeTagAliasText", "seeTagId", "todoTag", 
+			"paramTag", "paramName", "deprecatedTag", "whitespace", "whitespaceInParagraph", 
+			"whitespaceInLine"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, null, null, null, null, "'.'", "'*'", "'\\'", "'\\\\'", "'\\\"'", 
+			"'\"'", "'@'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "COMMENT_BEGIN", "COMMENT_END", "NEWLINE", "SPACE", "DOT", "STAR", 
+			"BACKSLASH", "ESC", "DOUBLE_QUOTE_ESC", "DOUBLE_QUOTE", "AT", "SEE", 
+			"TODO", "PARAM", "DEPRECATED", "ID", "TEXT"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "DocComment.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public DocCommentParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	public static class DocCommentContext extends ParserRuleContext {
+		public TerminalNode COMMENT_BEGIN() { return getToken(DocCommentParser.COMMENT_BEGIN, 0); }
+		public DocContentContext docContent() {
+			return getRuleContext(DocContentContext.class,0);
+		}
+		public TerminalNode COMMENT_END() { return getToken(DocCommentParser.COMMENT_END, 0); }
+		public List<WhitespaceContext> whitespace() {
+			return getRuleContexts(WhitespaceContext.class);
+		}
+		public WhitespaceContext whitespace(int i) {
+			return getRuleContext(WhitespaceContext.class,i);
+		}
+		public DocCommentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_docComment; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitDocComment(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DocCommentContext docComment() throws RecognitionException {
+		DocCommentContext _localctx = new DocCommentContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_docComment);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(36);
+			match(COMMENT_BEGIN);
+			setState(38);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,0,_ctx) ) {
+			case 1:
+				{
+				setState(37);
+				whitespace();
+				}
+				break;
+			}
+			setState(40);
+			docContent();
+			setState(42);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==NEWLINE || _la==SPACE) {
+				{
+				setState(41);
+				whitespace();
+				}
+			}
+
+			setState(44);
+			match(COMMENT_END);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DocContentContext extends ParserRuleContext {
+		public List<DocElementContext> docElement() {
+			return getRuleContexts(DocElementContext.class);
+		}
+		public DocElementContext docElement(int i) {
+			return getRuleContext(DocElementContext.class,i);
+		}
+		public List<TerminalNode> NEWLINE() { return getTokens(DocCommentParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(DocCommentParser.NEWLINE, i);
+		}
+		public List<WhitespaceInLineContext> whitespaceInLine() {
+			return getRuleContexts(WhitespaceInLineContext.class);
+		}
+		public WhitespaceInLineContext whitespaceInLine(int i) {
+			return getRuleContext(WhitespaceInLineContext.class,i);
+		}
+		public DocContentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_docContent; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitDocContent(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DocContentContext docContent() throws RecognitionException {
+		DocContentContext _localctx = new DocContentContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_docContent);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(46);
+			docElement();
+			setState(57);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,4,_ctx);
+			while ( _alt!=1 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1+1 ) {
+					{
+					{
+					setState(48);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==SPACE) {
+						{
+						setState(47);
+						whitespaceInLine();
+						}
+					}
+
+					setState(50);
+					match(NEWLINE);
+					setState(52);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
+					case 1:
+						{
+						setState(51);
+						whitespaceInLine();
+						}
+						break;
+					}
+					setState(54);
+					docElement();
+					}
+					} 
+				}
+				setState(59);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,4,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DocElementContext extends ParserRuleContext {
+		public DocTagContext docTag() {
+			return getRuleContext(DocTagContext.class,0);
+		}
+		public DocLineContext docLine() {
+			return getRuleContext(DocLineContext.class,0);
+		}
+		public DocElementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_docElement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitDocElement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DocElementContext docElement() throws RecognitionException {
+		DocElementContext _localctx = new DocElementContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_docElement);
+		try {
+			setState(63);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(60);
+				docTag();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(61);
+				docLine();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DocLineContext extends ParserRuleContext {
+		public List<DocLineElementContext> docLineElement() {
+			return getRuleContexts(DocLineElementContext.class);
+		}
+		public DocLineElementContext docLineElement(int i) {
+			return getRuleContext(DocLineElementContext.class,i);
+		}
+		public List<WhitespaceInLineContext> whitespaceInLine() {
+			return getRuleContexts(WhitespaceInLineContext.class);
+		}
+		public WhitespaceInLineContext whitespaceInLine(int i) {
+			return getRuleContext(WhitespaceInLineContext.class,i);
+		}
+		public DocLineContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_docLine; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitDocLine(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DocLineContext docLine() throws RecognitionException {
+		DocLineContext _localctx = new DocLineContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_docLine);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(65);
+			docLineElement();
+			setState(72);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(67);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==SPACE) {
+						{
+						setState(66);
+						whitespaceInLine();
+						}
+					}
+
+					setState(69);
+					docLineElement();
+					}
+					} 
+				}
+				setState(74);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DocTagContext extends ParserRuleContext {
+		public SeeTagContext seeTag() {
+			return getRuleContext(SeeTagContext.class,0);
+		}
+		public TodoTagContext todoTag() {
+			return getRuleContext(TodoTagContext.class,0);
+		}
+		public ParamTagContext paramTag() {
+			return getRuleContext(ParamTagContext.class,0);
+		}
+		public DeprecatedTagContext deprecatedTag() {
+			return getRuleContext(DeprecatedTagContext.class,0);
+		}
+		public DocTagContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_docTag; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitDocTag(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DocTagContext docTag() throws RecognitionException {
+		DocTagContext _localctx = new DocTagContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_docTag);
+		try {
+			setState(79);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case SEE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(75);
+				seeTag();
+				}
+				break;
+			case TODO:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(76);
+				todoTag();
+				}
+				break;
+			case PARAM:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(77);
+				paramTag();
+				}
+				break;
+			case DEPRECATED:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(78);
+				deprecatedTag();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DocLineElementContext extends ParserRuleContext {
+		public SeeTagContext seeTag() {
+			return getRuleContext(SeeTagContext.class,0);
+		}
+		public DocTextContext docText() {
+			return getRuleContext(DocTextContext.class,0);
+		}
+		public DocLineElementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_docLineElement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitDocLineElement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DocLineElementContext docLineElement() throws RecognitionException {
+		DocLineElementContext _localctx = new DocLineElementContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_docLineElement);
+		try {
+			setState(83);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(81);
+				seeTag();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(82);
+				docText();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DocTextContext extends ParserRuleContext {
+		public TerminalNode SEE() { return getToken(DocCommentParser.SEE, 0); }
+		public TerminalNode TODO() { return getToken(DocCommentParser.TODO, 0); }
+		public TerminalNode PARAM() { return getToken(DocCommentParser.PARAM, 0); }
+		public TerminalNode DEPRECATED() { return getToken(DocCommentParser.DEPRECATED, 0); }
+		public List<TerminalNode> ID() { return getTokens(DocCommentParser.ID); }
+		public TerminalNode ID(int i) {
+			return getToken(DocCommentParser.ID, i);
+		}
+		public List<TerminalNode> TEXT() { return getTokens(DocCommentParser.TEXT); }
+		public TerminalNode TEXT(int i) {
+			return getToken(DocCommentParser.TEXT, i);
+		}
+		public List<TerminalNode> BACKSLASH() { return getTokens(DocCommentParser.BACKSLASH); }
+		public TerminalNode BACKSLASH(int i) {
+			return getToken(DocCommentParser.BACKSLASH, i);
+		}
+		public List<TerminalNode> ESC() { return getTokens(DocCommentParser.ESC); }
+		public TerminalNode ESC(int i) {
+			return getToken(DocCommentParser.ESC, i);
+		}
+		public List<TerminalNode> DOUBLE_QUOTE_ESC() { return getTokens(DocCommentParser.DOUBLE_QUOTE_ESC); }
+		public TerminalNode DOUBLE_QUOTE_ESC(int i) {
+			return getToken(DocCommentParser.DOUBLE_QUOTE_ESC, i);
+		}
+		public List<TerminalNode> DOUBLE_QUOTE() { return getTokens(DocCommentParser.DOUBLE_QUOTE); }
+		public TerminalNode DOUBLE_QUOTE(int i) {
+			return getToken(DocCommentParser.DOUBLE_QUOTE, i);
+		}
+		public List<TerminalNode> DOT() { return getTokens(DocCommentParser.DOT); }
+		public TerminalNode DOT(int i) {
+			return getToken(DocCommentParser.DOT, i);
+		}
+		public List<TerminalNode> STAR() { return getTokens(DocCommentParser.STAR); }
+		public TerminalNode STAR(int i) {
+			return getToken(DocCommentParser.STAR, i);
+		}
+		public List<TerminalNode> AT() { return getTokens(DocCommentParser.AT); }
+		public TerminalNode AT(int i) {
+			return getToken(DocCommentParser.AT, i);
+		}
+		public List<WhitespaceInLineContext> whitespaceInLine() {
+			return getRuleContexts(WhitespaceInLineContext.class);
+		}
+		public WhitespaceInLineContext whitespaceInLine(int i) {
+			return getRuleContext(WhitespaceInLineContext.class,i);
+		}
+		public DocTextContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_docText; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitDocText(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DocTextContext docText() throws RecognitionException {
+		DocTextContext _localctx = new DocTextContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_docText);
+		int _la;
+		try {
+			int _alt;
+			setState(99);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case SEE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(85);
+				match(SEE);
+				}
+				break;
+			case TODO:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(86);
+				match(TODO);
+				}
+				break;
+			case PARAM:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(87);
+				match(PARAM);
+				}
+				break;
+			case DEPRECATED:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(88);
+				match(DEPRECATED);
+				}
+				break;
+			case DOT:
+			case STAR:
+			case BACKSLASH:
+			case ESC:
+			case DOUBLE_QUOTE_ESC:
+			case DOUBLE_QUOTE:
+			case AT:
+			case ID:
+			case TEXT:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(89);
+				_la = _input.LA(1);
+				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << DOT) | (1L << STAR) | (1L << BACKSLASH) | (1L << ESC) | (1L << DOUBLE_QUOTE_ESC) | (1L << DOUBLE_QUOTE) | (1L << AT) | (1L << ID) | (1L << TEXT))) != 0)) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(96);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(91);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						if (_la==SPACE) {
+							{
+							setState(90);
+							whitespaceInLine();
+							}
+						}
+
+						setState(93);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << DOT) | (1L << STAR) | (1L << BACKSLASH) | (1L << ESC) | (1L << DOUBLE_QUOTE_ESC) | (1L << DOUBLE_QUOTE) | (1L << AT) | (1L << ID) | (1L << TEXT))) != 0)) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						}
+						} 
+					}
+					setState(98);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SeeTagContext extends ParserRuleContext {
+		public TerminalNode SEE() { return getToken(DocCommentParser.SEE, 0); }
+		public List<WhitespaceInParagraphContext> whitespaceInParagraph() {
+			return getRuleContexts(WhitespaceInParagraphContext.class);
+		}
+		public WhitespaceInParagraphContext whitespaceInParagraph(int i) {
+			return getRuleContext(WhitespaceInParagraphContext.class,i);
+		}
+		public SeeTagIdContext seeTagId() {
+			return getRuleContext(SeeTagIdContext.class,0);
+		}
+		public SeeTagAliasContext seeTagAlias() {
+			return getRuleContext(SeeTagAliasContext.class,0);
+		}
+		public SeeTagContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_seeTag; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitSeeTag(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SeeTagContext seeTag() throws RecognitionException {
+		SeeTagContext _localctx = new SeeTagContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_seeTag);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(101);
+			match(SEE);
+			setState(102);
+			whitespaceInParagraph();
+			setState(106);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==DOUBLE_QUOTE) {
+				{
+				setState(103);
+				seeTagAlias();
+				setState(104);
+				whitespaceInParagraph();
+				}
+			}
+
+			setState(108);
+			seeTagId();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SeeTagAliasContext extends ParserRuleContext {
+		public List<TerminalNode> DOUBLE_QUOTE() { return getTokens(DocCommentParser.DOUBLE_QUOTE); }
+		public TerminalNode DOUBLE_QUOTE(int i) {
+			return getToken(DocCommentParser.DOUBLE_QUOTE, i);
+		}
+		public SeeTagAliasTextContext seeTagAliasText() {
+			return getRuleContext(SeeTagAliasTextContext.class,0);
+		}
+		public SeeTagAliasContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_seeTagAlias; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitSeeTagAlias(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SeeTagAliasContext seeTagAlias() throws RecognitionException {
+		SeeTagAliasContext _localctx = new SeeTagAliasContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_seeTagAlias);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(110);
+			match(DOUBLE_QUOTE);
+			setState(111);
+			seeTagAliasText();
+			setState(112);
+			match(DOUBLE_QUOTE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SeeTagAliasTextContext extends ParserRuleContext {
+		public List<TerminalNode> SEE() { return getTokens(DocCommentParser.SEE); }
+		public TerminalNode SEE(int i) {
+			return getToken(DocCommentParser.SEE, i);
+		}
+		public List<TerminalNode> TODO() { return getTokens(DocCommentParser.TODO); }
+		public TerminalNode TODO(int i) {
+			return getToken(DocCommentParser.TODO, i);
+		}
+		public List<TerminalNode> PARAM() { return getTokens(DocCommentParser.PARAM); }
+		public TerminalNode PARAM(int i) {
+			return getToken(DocCommentParser.PARAM, i);
+		}
+		public List<TerminalNode> DEPRECATED() { return getTokens(DocCommentParser.DEPRECATED); }
+		public TerminalNode DEPRECATED(int i) {
+			return getToken(DocCommentParser.DEPRECATED, i);
+		}
+		public List<TerminalNode> ID() { return getTokens(DocCommentParser.ID); }
+		public TerminalNode ID(int i) {
+			return getToken(DocCommentParser.ID, i);
+		}
+		public List<TerminalNode> TEXT() { return getTokens(DocCommentParser.TEXT); }
+		public TerminalNode TEXT(int i) {
+			return getToken(DocCommentParser.TEXT, i);
+		}
+		public List<TerminalNode> BACKSLASH() { return getTokens(DocCommentParser.BACKSLASH); }
+		public TerminalNode BACKSLASH(int i) {
+			return getToken(DocCommentParser.BACKSLASH, i);
+		}
+		public List<TerminalNode> ESC() { return getTokens(DocCommentParser.ESC); }
+		public TerminalNode ESC(int i) {
+			return getToken(DocCommentParser.ESC, i);
+		}
+		public List<TerminalNode> DOUBLE_QUOTE_ESC() { return getTokens(DocCommentParser.DOUBLE_QUOTE_ESC); }
+		public TerminalNode DOUBLE_QUOTE_ESC(int i) {
+			return getToken(DocCommentParser.DOUBLE_QUOTE_ESC, i);
+		}
+		public List<TerminalNode> DOT() { return getTokens(DocCommentParser.DOT); }
+		public TerminalNode DOT(int i) {
+			return getToken(DocCommentParser.DOT, i);
+		}
+		public List<TerminalNode> STAR() { return getTokens(DocCommentParser.STAR); }
+		public TerminalNode STAR(int i) {
+			return getToken(DocCommentParser.STAR, i);
+		}
+		public List<TerminalNode> AT() { return getTokens(DocCommentParser.AT); }
+		public TerminalNode AT(int i) {
+			return getToken(DocCommentParser.AT, i);
+		}
+		public List<WhitespaceInLineContext> whitespaceInLine() {
+			return getRuleContexts(WhitespaceInLineContext.class);
+		}
+		public WhitespaceInLineContext whitespaceInLine(int i) {
+			return getRuleContext(WhitespaceInLineContext.class,i);
+		}
+		public SeeTagAliasTextContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_seeTagAliasText; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitSeeTagAliasText(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SeeTagAliasTextContext seeTagAliasText() throws RecognitionException {
+		SeeTagAliasTextContext _localctx = new SeeTagAliasTextContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_seeTagAliasText);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(127); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				setState(127);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case SEE:
+					{
+					setState(114);
+					match(SEE);
+					}
+					break;
+				case TODO:
+					{
+					setState(115);
+					match(TODO);
+					}
+					break;
+				case PARAM:
+					{
+					setState(116);
+					match(PARAM);
+					}
+					break;
+				case DEPRECATED:
+					{
+					setState(117);
+					match(DEPRECATED);
+					}
+					break;
+				case ID:
+					{
+					setState(118);
+					match(ID);
+					}
+					break;
+				case TEXT:
+					{
+					setState(119);
+					match(TEXT);
+					}
+					break;
+				case BACKSLASH:
+					{
+					setState(120);
+					match(BACKSLASH);
+					}
+					break;
+				case ESC:
+					{
+					setState(121);
+					match(ESC);
+					}
+					break;
+				case DOUBLE_QUOTE_ESC:
+					{
+					setState(122);
+					match(DOUBLE_QUOTE_ESC);
+					}
+					break;
+				case DOT:
+					{
+					setState(123);
+					match(DOT);
+					}
+					break;
+				case STAR:
+					{
+					setState(124);
+					match(STAR);
+					}
+					break;
+				case AT:
+					{
+					setState(125);
+					match(AT);
+					}
+					break;
+				case SPACE:
+					{
+					setState(126);
+					whitespaceInLine();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				setState(129); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << SPACE) | (1L << DOT) | (1L << STAR) | (1L << BACKSLASH) | (1L << ESC) | (1L << DOUBLE_QUOTE_ESC) | (1L << AT) | (1L << SEE) | (1L << TODO) | (1L << PARAM) | (1L << DEPRECATED) | (1L << ID) | (1L << TEXT))) != 0) );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SeeTagIdContext extends ParserRuleContext {
+		public List<TerminalNode> ID() { return getTokens(DocCommentParser.ID); }
+		public TerminalNode ID(int i) {
+			return getToken(DocCommentParser.ID, i);
+		}
+		public List<TerminalNode> DOT() { return getTokens(DocCommentParser.DOT); }
+		public TerminalNode DOT(int i) {
+			return getToken(DocCommentParser.DOT, i);
+		}
+		public SeeTagIdContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_seeTagId; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitSeeTagId(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SeeTagIdContext seeTagId() throws RecognitionException {
+		SeeTagIdContext _localctx = new SeeTagIdContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_seeTagId);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(131);
+			match(ID);
+			setState(136);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,16,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(132);
+					match(DOT);
+					setState(133);
+					match(ID);
+					}
+					} 
+				}
+				setState(138);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,16,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TodoTagContext extends ParserRuleContext {
+		public TerminalNode TODO() { return getToken(DocCommentParser.TODO, 0); }
+		public WhitespaceInParagraphContext whitespaceInParagraph() {
+			return getRuleContext(WhitespaceInParagraphContext.class,0);
+		}
+		public DocLineContext docLine() {
+			return getRuleContext(DocLineContext.class,0);
+		}
+		public TodoTagContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_todoTag; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitTodoTag(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TodoTagContext todoTag() throws RecognitionException {
+		TodoTagContext _localctx = new TodoTagContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_todoTag);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(139);
+			match(TODO);
+			setState(143);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,17,_ctx) ) {
+			case 1:
+				{
+				setState(140);
+				whitespaceInParagraph();
+				setState(141);
+				docLine();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ParamTagContext extends ParserRuleContext {
+		public TerminalNode PARAM() { return getToken(DocCommentParser.PARAM, 0); }
+		public List<WhitespaceInParagraphContext> whitespaceInParagraph() {
+			return getRuleContexts(WhitespaceInParagraphContext.class);
+		}
+		public WhitespaceInParagraphContext whitespaceInParagraph(int i) {
+			return getRuleContext(WhitespaceInParagraphContext.class,i);
+		}
+		public ParamNameContext paramName() {
+			return getRuleContext(ParamNameContext.class,0);
+		}
+		public DocLineContext docLine() {
+			return getRuleContext(DocLineContext.class,0);
+		}
+		public ParamTagContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_paramTag; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitParamTag(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ParamTagContext paramTag() throws RecognitionException {
+		ParamTagContext _localctx = new ParamTagContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_paramTag);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(145);
+			match(PARAM);
+			setState(146);
+			whitespaceInParagraph();
+			setState(147);
+			paramName();
+			setState(151);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,18,_ctx) ) {
+			case 1:
+				{
+				setState(148);
+				whitespaceInParagraph();
+				setState(149);
+				docLine();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ParamNameContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(DocCommentParser.ID, 0); }
+		public ParamNameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_paramName; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitParamName(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ParamNameContext paramName() throws RecognitionException {
+		ParamNameContext _localctx = new ParamNameContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_paramName);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(153);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DeprecatedTagContext extends ParserRuleContext {
+		public TerminalNode DEPRECATED() { return getToken(DocCommentParser.DEPRECATED, 0); }
+		public DeprecatedTagContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_deprecatedTag; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitDeprecatedTag(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DeprecatedTagContext deprecatedTag() throws RecognitionException {
+		DeprecatedTagContext _localctx = new DeprecatedTagContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_deprecatedTag);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(155);
+			match(DEPRECATED);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WhitespaceContext extends ParserRuleContext {
+		public List<TerminalNode> SPACE() { return getTokens(DocCommentParser.SPACE); }
+		public TerminalNode SPACE(int i) {
+			return getToken(DocCommentParser.SPACE, i);
+		}
+		public List<TerminalNode> NEWLINE() { return getTokens(DocCommentParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(DocCommentParser.NEWLINE, i);
+		}
+		public WhitespaceContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_whitespace; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitWhitespace(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WhitespaceContext whitespace() throws RecognitionException {
+		WhitespaceContext _localctx = new WhitespaceContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_whitespace);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(158); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					{
+					setState(157);
+					_la = _input.LA(1);
+					if ( !(_la==NEWLINE || _la==SPACE) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(160); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,19,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WhitespaceInParagraphContext extends ParserRuleContext {
+		public TerminalNode NEWLINE() { return getToken(DocCommentParser.NEWLINE, 0); }
+		public List<TerminalNode> SPACE() { return getTokens(DocCommentParser.SPACE); }
+		public TerminalNode SPACE(int i) {
+			return getToken(DocCommentParser.SPACE, i);
+		}
+		public WhitespaceInParagraphContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_whitespaceInParagraph; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitWhitespaceInParagraph(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WhitespaceInParagraphContext whitespaceInParagraph() throws RecognitionException {
+		WhitespaceInParagraphContext _localctx = new WhitespaceInParagraphContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_whitespaceInParagraph);
+		int _la;
+		try {
+			setState(180);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,23,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(165);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==SPACE) {
+					{
+					{
+					setState(162);
+					match(SPACE);
+					}
+					}
+					setState(167);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(168);
+				match(NEWLINE);
+				setState(172);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==SPACE) {
+					{
+					{
+					setState(169);
+					match(SPACE);
+					}
+					}
+					setState(174);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(176); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(175);
+					match(SPACE);
+					}
+					}
+					setState(178); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( _la==SPACE );
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WhitespaceInLineContext extends ParserRuleContext {
+		public List<TerminalNode> SPACE() { return getTokens(DocCommentParser.SPACE); }
+		public TerminalNode SPACE(int i) {
+			return getToken(DocCommentParser.SPACE, i);
+		}
+		public WhitespaceInLineContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_whitespaceInLine; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DocCommentVisitor ) return ((DocCommentVisitor<? extends T>)visitor).visitWhitespaceInLine(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WhitespaceInLineContext whitespaceInLine() throws RecognitionException {
+		WhitespaceInLineContext _localctx = new WhitespaceInLineContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_whitespaceInLine);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(183); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					{
+					setState(182);
+					match(SPACE);
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(185); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,24,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\23\u00be\4\2\t\2"+
+		"\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
+		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\3\2\3\2\5\2)\n\2\3\2\3\2\5\2-\n\2\3\2\3\2\3\3\3\3\5\3\63\n"+
+		"\3\3\3\3\3\5\3\67\n\3\3\3\7\3:\n\3\f\3\16\3=\13\3\3\4\3\4\3\4\5\4B\n\4"+
+		"\3\5\3\5\5\5F\n\5\3\5\7\5I\n\5\f\5\16\5L\13\5\3\6\3\6\3\6\3\6\5\6R\n\6"+
+		"\3\7\3\7\5\7V\n\7\3\b\3\b\3\b\3\b\3\b\3\b\5\b^\n\b\3\b\7\ba\n\b\f\b\16"+
+		"\bd\13\b\5\bf\n\b\3\t\3\t\3\t\3\t\3\t\5\tm\n\t\3\t\3\t\3\n\3\n\3\n\3\n"+
+		"\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\6\13"+
+		"\u0082\n\13\r\13\16\13\u0083\3\f\3\f\3\f\7\f\u0089\n\f\f\f\16\f\u008c"+
+		"\13\f\3\r\3\r\3\r\3\r\5\r\u0092\n\r\3\16\3\16\3\16\3\16\3\16\3\16\5\16"+
+		"\u009a\n\16\3\17\3\17\3\20\3\20\3\21\6\21\u00a1\n\21\r\21\16\21\u00a2"+
+		"\3\22\7\22\u00a6\n\22\f\22\16\22\u00a9\13\22\3\22\3\22\7\22\u00ad\n\22"+
+		"\f\22\16\22\u00b0\13\22\3\22\6\22\u00b3\n\22\r\22\16\22\u00b4\5\22\u00b7"+
+		"\n\22\3\23\6\23\u00ba\n\23\r\23\16\23\u00bb\3\23\3;\2\24\2\4\6\b\n\f\16"+
+		"\20\22\24\26\30\32\34\36 \"$\2\4\4\2\7\r\22\23\3\2\5\6\2\u00d5\2&\3\2"+
+		"\2\2\4\60\3\2\2\2\6A\3\2\2\2\bC\3\2\2\2\nQ\3\2\2\2\fU\3\2\2\2\16e\3\2"+
+		"\2\2\20g\3\2\2\2\22p\3\2\2\2\24\u0081\3\2\2\2\26\u0085\3\2\2\2\30\u008d"+
+		"\3\2\2\2\32\u0093\3\2\2\2\34\u009b\3\2\2\2\36\u009d\3\2\2\2 \u00a0\3\2"+
+		"\2\2\"\u00b6\3\2\2\2$\u00b9\3\2\2\2&(\7\3\2\2\')\5 \21\2(\'\3\2\2\2()"+
+		"\3\2\2\2)*\3\2\2\2*,\5\4\3\2+-\5 \21\2,+\3\2\2\2,-\3\2\2\2-.\3\2\2\2."+
+		"/\7\4\2\2/\3\3\2\2\2\60;\5\6\4\2\61\63\5$\23\2\62\61\3\2\2\2\62\63\3\2"+
+		"\2\2\63\64\3\2\2\2\64\66\7\5\2\2\65\67\5$\23\2\66\65\3\2\2\2\66\67\3\2"+
+		"\2\2\678\3\2\2\28:\5\6\4\29\62\3\2\2\2:=\3\2\2\2;<\3\2\2\2;9\3\2\2\2<"+
+		"\5\3\2\2\2=;\3\2\2\2>B\5\n\6\2?B\5\b\5\2@B\3\2\2\2A>\3\2\2\2A?\3\2\2\2"+
+		"A@\3\2\2\2B\7\3\2\2\2CJ\5\f\7\2DF\5$\23\2ED\3\2\2\2EF\3\2\2\2FG\3\2\2"+
+		"\2GI\5\f\7\2HE\3\2\2\2IL\3\2\2\2JH\3\2\2\2JK\3\2\2\2K\t\3\2\2\2LJ\3\2"+
+		"\2\2MR\5\20\t\2NR\5\30\r\2OR\5\32\16\2PR\5\36\20\2QM\3\2\2\2QN\3\2\2\2"+
+		"QO\3\2\2\2QP\3\2\2\2R\13\3\2\2\2SV\5\20\t\2TV\5\16\b\2US\3\2\2\2UT\3\2"+
+		"\2\2V\r\3\2\2\2Wf\7\16\2\2Xf\7\17\2\2Yf\7\20\2\2Zf\7\21\2\2[b\t\2\2\2"+
+		"\\^\5$\23\2]\\\3\2\2\2]^\3\2\2\2^_\3\2\2\2_a\t\2\2\2`]\3\2\2\2ad\3\2\2"+
+		"\2b`\3\2\2\2bc\3\2\2\2cf\3\2\2\2db\3\2\2\2eW\3\2\2\2eX\3\2\2\2eY\3\2\2"+
+		"\2eZ\3\2\2\2e[\3\2\2\2f\17\3\2\2\2gh\7\16\2\2hl\5\"\22\2ij\5\22\n\2jk"+
+		"\5\"\22\2km\3\2\2\2li\3\2\2\2lm\3\2\2\2mn\3\2\2\2no\5\26\f\2o\21\3\2\2"+
+		"\2pq\7\f\2\2qr\5\24\13\2rs\7\f\2\2s\23\3\2\2\2t\u0082\7\16\2\2u\u0082"+
+		"\7\17\2\2v\u0082\7\20\2\2w\u0082\7\21\2\2x\u0082\7\22\2\2y\u0082\7\23"+
+		"\2\2z\u0082\7\t\2\2{\u0082\7\n\2\2|\u0082\7\13\2\2}\u0082\7\7\2\2~\u0082"+
+		"\7\b\2\2\177\u0082\7\r\2\2\u0080\u0082\5$\23\2\u0081t\3\2\2\2\u0081u\3"+
+		"\2\2\2\u0081v\3\2\2\2\u0081w\3\2\2\2\u0081x\3\2\2\2\u0081y\3\2\2\2\u0081"+
+		"z\3\2\2\2\u0081{\3\2\2\2\u0081|\3\2\2\2\u0081}\3\2\2\2\u0081~\3\2\2\2"+
+		"\u0081\177\3\2\2\2\u0081\u0080\3\2\2\2\u0082\u0083\3\2\2\2\u0083\u0081"+
+		"\3\2\2\2\u0083\u0084\3\2\2\2\u0084\25\3\2\2\2\u0085\u008a\7\22\2\2\u0086"+
+		"\u0087\7\7\2\2\u0087\u0089\7\22\2\2\u0088\u0086\3\2\2\2\u0089\u008c\3"+
+		"\2\2\2\u008a\u0088\3\2\2\2\u008a\u008b\3\2\2\2\u008b\27\3\2\2\2\u008c"+
+		"\u008a\3\2\2\2\u008d\u0091\7\17\2\2\u008e\u008f\5\"\22\2\u008f\u0090\5"+
+		"\b\5\2\u0090\u0092\3\2\2\2\u0091\u008e\3\2\2\2\u0091\u0092\3\2\2\2\u0092"+
+		"\31\3\2\2\2\u0093\u0094\7\20\2\2\u0094\u0095\5\"\22\2\u0095\u0099\5\34"+
+		"\17\2\u0096\u0097\5\"\22\2\u0097\u0098\5\b\5\2\u0098\u009a\3\2\2\2\u0099"+
+		"\u0096\3\2\2\2\u0099\u009a\3\2\2\2\u009a\33\3\2\2\2\u009b\u009c\7\22\2"+
+		"\2\u009c\35\3\2\2\2\u009d\u009e\7\21\2\2\u009e\37\3\2\2\2\u009f\u00a1"+
+		"\t\3\2\2\u00a0\u009f\3\2\2\2\u00a1\u00a2\3\2\2\2\u00a2\u00a0\3\2\2\2\u00a2"+
+		"\u00a3\3\2\2\2\u00a3!\3\2\2\2\u00a4\u00a6\7\6\2\2\u00a5\u00a4\3\2\2\2"+
+		"\u00a6\u00a9\3\2\2\2\u00a7\u00a5\3\2\2\2\u00a7\u00a8\3\2\2\2\u00a8\u00aa"+
+		"\3\2\2\2\u00a9\u00a7\3\2\2\2\u00aa\u00ae\7\5\2\2\u00ab\u00ad\7\6\2\2\u00ac"+
+		"\u00ab\3\2\2\2\u00ad\u00b0\3\2\2\2\u00ae\u00ac\3\2\2\2\u00ae\u00af\3\2"+
+		"\2\2\u00af\u00b7\3\2\2\2\u00b0\u00ae\3\2\2\2\u00b1\u00b3\7\6\2\2\u00b2"+
+		"\u00b1\3\2\2\2\u00b3\u00b4\3\2\2\2\u00b4\u00b2\3\2\2\2\u00b4\u00b5\3\2"+
+		"\2\2\u00b5\u00b7\3\2\2\2\u00b6\u00a7\3\2\2\2\u00b6\u00b2\3\2\2\2\u00b7"+
+		"#\3\2\2\2\u00b8\u00ba\7\6\2\2\u00b9\u00b8\3\2\2\2\u00ba\u00bb\3\2\2\2"+
+		"\u00bb\u00b9\3\2\2\2\u00bb\u00bc\3\2\2\2\u00bc%\3\2\2\2\33(,\62\66;AE"+
+		"JQU]bel\u0081\u0083\u008a\u0091\u0099\u00a2\u00a7\u00ae\u00b4\u00b6\u00bb";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
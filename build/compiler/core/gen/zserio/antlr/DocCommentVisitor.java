@@ -0,0 +1,121 @@
+// Generated from /root/project/compiler/core/antlr/DocComment.g4 by ANTLR 4.7.2
+package zserio.antlr;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link DocCommentParser}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface DocCommentVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#docComment}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDocComment(DocCommentParser.DocCommentContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#docContent}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDocContent(DocCommentParser.DocContentContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#docElement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDocElement(DocCommentParser.DocElementContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#docLine}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDocLine(DocCommentParser.DocLineContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#docTag}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDocTag(DocCommentParser.DocTagContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#docLineElement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDocLineElement(DocCommentParser.DocLineElementContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#docText}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDocText(DocCommentParser.DocTextContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#seeTag}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSeeTag(DocCommentParser.SeeTagContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#seeTagAlias}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSeeTagAlias(DocCommentParser.SeeTagAliasContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#seeTagAliasText}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSeeTagAliasText(DocCommentParser.SeeTagAliasTextContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#seeTagId}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSeeTagId(DocCommentParser.SeeTagIdContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#todoTag}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTodoTag(DocCommentParser.TodoTagContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#paramTag}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitParamTag(DocCommentParser.ParamTagContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#paramName}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitParamName(DocCommentParser.ParamNameContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#deprecatedTag}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDeprecatedTag(DocCommentParser.DeprecatedTagContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#whitespace}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitWhitespace(DocCommentParser.WhitespaceContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#whitespaceInParagraph}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitWhitespaceInParagraph(DocCommentParser.WhitespaceInParagraphContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DocCommentParser#whitespaceInLine}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitWhitespaceInLine(DocCommentParser.WhitespaceInLineContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,495 @@
+// Generated from /root/project/compiler/core/antlr/ZserioLexer.g4 by ANTLR 4.7.2
+package zserio.antlr;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class ZserioLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.7.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		AND=1, ASSIGN=2, BANG=3, COLON=4, COMMA=5, DIVIDE=6, DOT=7, EQ=8, GE=9, 
+		GT=10, LBRACE=11, LBRACKET=12, LE=13, LOGICAL_AND=14, LOGICAL_OR=15, LPAREN=16, 
+		LSHIFT=17, LT=18, MINUS=19, MODULO=20, MULTIPLY=21, NE=22, OR=23, PLUS=24, 
+		QUESTIONMARK=25, RBRACE=26, RBRACKET=27, RPAREN=28, SEMICOLON=29, TILDE=30, 
+		XOR=31, ALIGN=32, BIT_FIELD=33, BOOL=34, BITMASK=35, CASE=36, CHOICE=37, 
+		CONST=38, DEFAULT=39, ENUM=40, EXPLICIT=41, EXTERN=42, FLOAT16=43, FLOAT32=44, 
+		FLOAT64=45, FUNCTION=46, IF=47, IMPLICIT=48, IMPORT=49, INDEX=50, INSTANTIATE=51, 
+		INT_FIELD=52, INT16=53, INT32=54, INT64=55, INT8=56, LENGTHOF=57, NUMBITS=58, 
+		ON=59, OPTIONAL=60, PACKAGE=61, PUBSUB=62, PUBLISH=63, RETURN=64, SERVICE=65, 
+		SQL=66, SQL_DATABASE=67, SQL_TABLE=68, SQL_VIRTUAL=69, SQL_WITHOUT_ROWID=70, 
+		STRING=71, STRUCTURE=72, SUBSCRIBE=73, SUBTYPE=74, TOPIC=75, UINT16=76, 
+		UINT32=77, UINT64=78, UINT8=79, UNION=80, USING=81, VALUEOF=82, VARINT=83, 
+		VARINT16=84, VARINT32=85, VARINT64=86, VARSIZE=87, VARUINT=88, VARUINT16=89, 
+		VARUINT32=90, VARUINT64=91, WS=92, DOC_COMMENT=93, BLOCK_COMMENT=94, LINE_COMMENT=95, 
+		BOOL_LITERAL=96, STRING_LITERAL=97, BINARY_LITERAL=98, OCTAL_LITERAL=99, 
+		HEXADECIMAL_LITERAL=100, DOUBLE_LITERAL=101, FLOAT_LITERAL=102, DECIMAL_LITERAL=103, 
+		ID=104, INVALID_STRING_LITERAL=105, INVALID_TOKEN=106;
+	public static final int
+		DOC=2;
+	public static String[] channelNames = {
+		"DEFAULT_TOKEN_CHANNEL", "HIDDEN", "DOC"
+	};
+
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"AND", "ASSIGN", "BANG", "COLON", "COMMA", "DIVIDE", "DOT", "EQ", "GE", 
+			"GT", "LBRACE", "LBRACKET", "LE", "LOGICAL_AND", "LOGICAL_OR", "LPAREN", 
+			"LSHIFT", "LT", "MINUS", "MODULO", "MULTIPLY", "NE", "OR", "PLUS", "QUESTIONMARK", 
+			"RBRACE", "RBRACKET", "RPAREN", "SEMICOLON", "TILDE", "XOR", "ALIGN", 
+			"BIT_FIELD", "BOOL", "BITMASK", "CASE", "CHOICE", "CONST", "DEFAULT", 
+			"ENUM", "EXPLICIT", "EXTERN", "FLOAT16", "FLOAT32", "FLOAT64", "FUNCTION", 
+			"IF", "IMPLICIT", "IMPORT", "INDEX", "INSTANTIATE", "INT_FIELD", "INT16", 
+			"INT32", "INT64", "INT8", "LENGTHOF", "NUMBITS", "ON", "OPTIONAL", "PACKAGE", 
+			"PUBSUB", "PUBLISH", "RETURN", "SERVICE", "SQL", "SQL_DATABASE", "SQL_TABLE", 
+			"SQL_VIRTUAL", "SQL_WITHOUT_ROWID", "STRING", "STRUCTURE", "SUBSCRIBE", 
+			"SUBTYPE", "TOPIC", "UINT16", "UINT32", "UINT64", "UINT8", "UNION", "USING", 
+			"VALUEOF", "VARINT", "VARINT16", "VARINT32", "VARINT64", "VARSIZE", "VARUINT", 
+			"VARUINT16", "VARUINT32", "VARUINT64", "WS", "DOC_COMMENT", "BLOCK_COMMENT", 
+			"LINE_COMMENT", "BOOL_LITERAL", "STRING_CHARACTER", "STRING_LITERAL", 
+			"BINARY_LITERAL", "OCTAL_DIGIT", "OCTAL_LITERAL", "HEX_PREFIX", "HEX_DIGIT", 
+			"HEXADECIMAL_LITERAL", "FLOAT_EXPONENT", "FLOAT_SUFFIX", "DOUBLE_LITERAL", 
+			"FLOAT_LITERAL", "DECIMAL_LITERAL", "ID", "INVALID_STRING_LITERAL", "INVALID_TOKEN"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'&'", "'='", "'!'", "':'", "','", "'/'", "'.'", "'=='", "'>='", 
+			"'>'", "'{'", "'['", "'<='", "'&&'", "'||'", "'('", "'<<'", "'<'", "'-'", 
+			"'%'", "'*'", "'!='", "'|'", "'+'", "'?'", "'}'", "']'", "')'", "';'", 
+			"'~'", "'^'", "'align'", "'bit'", "'bool'", "'bitmask'", "'case'", "'choice'", 
+			"'const'", "'default'", "'enum'", "'explicit'", "'extern'", "'float16'", 
+			"'float32'", "'float64'", "'function'", "'if'", "'implicit'", "'import'", 
+			"'@index'", "'instantiate'", "'int'", "'int16'", "'int32'", "'int64'", 
+			"'int8'", "'lengthof'", "'numbits'", "'on'", "'optional'", "'package'", 
+			"'pubsub'", "'publish'", "'return'", "'service'", "'sql'", "'sql_database'", 
+			"'sql_table'", "'sql_virtual'", "'sql_without_rowid'", "'string'", "'struct'", 
+			"'subscribe'", "'subtype'", "'topic'", "'uint16'", "'uint32'", "'uint64'", 
+			"'uint8'", "'union'", "'using'", "'valueof'", "'varint'", "'varint16'", 
+			"'varint32'", "'varint64'", "'varsize'", "'varuint'", "'varuint16'", 
+			"'varuint32'", "'varuint64'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "AND", "ASSIGN", "BANG", "COLON", "COMMA", "DIVIDE", "DOT", "EQ", 
+			"GE", "GT", "LBRACE", "LBRACKET", "LE", "LOGICAL_AND", "LOGICAL_OR", 
+			"LPAREN", "LSHIFT", "LT", "MINUS", "MODULO", "MULTIPLY", "NE", "OR", 
+			"PLUS", "QUESTIONMARK", "RBRACE", "RBRACKET", "RPAREN", "SEMICOLON", 
+			"TILDE", "XOR", "ALIGN", "BIT_FIELD", "BOOL", "BITMASK", "CASE", "CHOICE", 
+			"CONST", "DEFAULT", "ENUM", "EXPLICIT", "EXTERN", "FLOAT16", "FLOAT32", 
+			"FLOAT64", "FUNCTION", "IF", "IMPLICIT", "IMPORT", "INDEX", "INSTANTIATE", 
+			"INT_FIELD", "INT16", "INT32", "INT64", "INT8", "LENGTHOF", "NUMBITS", 
+			"ON", "OPTIONAL", "PACKAGE", "PUBSUB", "PUBLISH", "RETURN", "SERVICE", 
+			"SQL", "SQL_DATABASE", "SQL_TABLE", "SQL_VIRTUAL", "SQL_WITHOUT_ROWID", 
+			"STRING", "STRUCTURE", "SUBSCRIBE", "SUBTYPE", "TOPIC", "UINT16", "UINT32", 
+			"UINT64", "UINT8", "UNION", "USING", "VALUEOF", "VARINT", "VARINT16", 
+			"VARINT32", "VARINT64", "VARSIZE", "VARUINT", "VARUINT16", "VARUINT32", 
+			"VARUINT64", "WS", "DOC_COMMENT", "BLOCK_COMMENT", "LINE_COMMENT", "BOOL_LITERAL", 
+			"STRING_LITERAL", "BINARY_LITERAL", "OCTAL_LITERAL", "HEXADECIMAL_LITERAL", 
+			"DOUBLE_LITERAL", "FLOAT_LITERAL", "DECIMAL_LITERAL", "ID", "INVALID_STRING_LITERAL", 
+			"INVALID_TOKEN"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public ZserioLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "ZserioLexer.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getChannelNames() { return channelNames; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2l\u03b6\b\1\4\2\t"+
+		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
+		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
+		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4I"+
+		"\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\tT"+
+		"\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\4]\t]\4^\t^\4_\t_\4"+
+		"`\t`\4a\ta\4b\tb\4c\tc\4d\td\4e\te\4f\tf\4g\tg\4h\th\4i\ti\4j\tj\4k\t"+
+		"k\4l\tl\4m\tm\4n\tn\4o\to\4p\tp\4q\tq\3\2\3\2\3\3\3\3\3\4\3\4\3\5\3\5"+
+		"\3\6\3\6\3\7\3\7\3\b\3\b\3\t\3\t\3\t\3\n\3\n\3\n\3\13\3\13\3\f\3\f\3\r"+
+		"\3\r\3\16\3\16\3\16\3\17\3\17\3\17\3\20\3\20\3\20\3\21\3\21\3\22\3\22"+
+		"\3\22\3\23\3\23\3\24\3\24\3\25\3\25\3\26\3\26\3\27\3\27\3\27\3\30\3\30"+
+		"\3\31\3\31\3\32\3\32\3\33\3\33\3\34\3\34\3\35\3\35\3\36\3\36\3\37\3\37"+
+		"\3 \3 \3!\3!\3!\3!\3!\3!\3\"\3\"\3\"\3\"\3#\3#\3#\3#\3#\3$\3$\3$\3$\3"+
+		"$\3$\3$\3$\3%\3%\3%\3%\3%\3&\3&\3&\3&\3&\3&\3&\3\'\3\'\3\'\3\'\3\'\3\'"+
+		"\3(\3(\3(\3(\3(\3(\3(\3(\3)\3)\3)\3)\3)\3*\3*\3*\3*\3*\3*\3*\3*\3*\3+"+
+		"\3+\3+\3+\3+\3+\3+\3,\3,\3,\3,\3,\3,\3,\3,\3-\3-\3-\3-\3-\3-\3-\3-\3."+
+		"\3.\3.\3.\3.\3.\3.\3.\3/\3/\3/\3/\3/\3/\3/\3/\3/\3\60\3\60\3\60\3\61\3"+
+		"\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\62\3\62\3\62\3\62\3\62\3\62\3"+
+		"\62\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\64\3\64\3\64\3\64\3\64\3\64\3"+
+		"\64\3\64\3\64\3\64\3\64\3\64\3\65\3\65\3\65\3\65\3\66\3\66\3\66\3\66\3"+
+		"\66\3\66\3\67\3\67\3\67\3\67\3\67\3\67\38\38\38\38\38\38\39\39\39\39\3"+
+		"9\3:\3:\3:\3:\3:\3:\3:\3:\3:\3;\3;\3;\3;\3;\3;\3;\3;\3<\3<\3<\3=\3=\3"+
+		"=\3=\3=\3=\3=\3=\3=\3>\3>\3>\3>\3>\3>\3>\3>\3?\3?\3?\3?\3?\3?\3?\3@\3"+
+		"@\3@\3@\3@\3@\3@\3@\3A\3A\3A\3A\3A\3A\3A\3B\3B\3B\3B\3B\3B\3B\3B\3C\3"+
+		"C\3C\3C\3D\3D\3D\3D\3D\3D\3D\3D\3D\3D\3D\3D\3D\3E\3E\3E\3E\3E\3E\3E\3"+
+		"E\3E\3E\3F\3F\3F\3F\3F\3F\3F\3F\3F\3F\3F\3F\3G\3G\3G\3G\3G\3G\3G\3G\3"+
+		"G\3G\3G\3G\3G\3G\3G\3G\3G\3G\3H\3H\3H\3H\3H\3H\3H\3I\3I\3I\3I\3I\3I\3"+
+		"I\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3K\3K\3K\3K\3K\3K\3K\3K\3L\3L\3L\3L\3"+
+		"L\3L\3M\3M\3M\3M\3M\3M\3M\3N\3N\3N\3N\3N\3N\3N\3O\3O\3O\3O\3O\3O\3O\3"+
+		"P\3P\3P\3P\3P\3P\3Q\3Q\3Q\3Q\3Q\3Q\3R\3R\3R\3R\3R\3R\3S\3S\3S\3S\3S\3"+
+		"S\3S\3S\3T\3T\3T\3T\3T\3T\3T\3U\3U\3U\3U\3U\3U\3U\3U\3U\3V\3V\3V\3V\3"+
+		"V\3V\3V\3V\3V\3W\3W\3W\3W\3W\3W\3W\3W\3W\3X\3X\3X\3X\3X\3X\3X\3X\3Y\3"+
+		"Y\3Y\3Y\3Y\3Y\3Y\3Y\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3[\3[\3[\3[\3[\3[\3"+
+		"[\3[\3[\3[\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3]\3]\3]\3]\3^\3^\3"+
+		"^\3^\3^\7^\u02fb\n^\f^\16^\u02fe\13^\3^\3^\3^\3^\3^\3_\3_\3_\3_\7_\u0309"+
+		"\n_\f_\16_\u030c\13_\3_\3_\3_\3_\3_\3`\3`\3`\3`\7`\u0317\n`\f`\16`\u031a"+
+		"\13`\3`\3`\3a\3a\3a\3a\3a\3a\3a\3a\3a\5a\u0327\na\3b\3b\3b\3b\3b\3b\3"+
+		"b\3b\3b\3b\3b\3b\3b\3b\3b\3b\3b\3b\3b\3b\3b\5b\u033e\nb\3b\3b\5b\u0342"+
+		"\nb\5b\u0344\nb\3c\3c\7c\u0348\nc\fc\16c\u034b\13c\3c\3c\3d\6d\u0350\n"+
+		"d\rd\16d\u0351\3d\3d\3e\3e\3f\3f\6f\u035a\nf\rf\16f\u035b\3g\3g\3g\3h"+
+		"\3h\3i\3i\6i\u0365\ni\ri\16i\u0366\3j\3j\5j\u036b\nj\3j\6j\u036e\nj\r"+
+		"j\16j\u036f\3k\3k\3l\6l\u0375\nl\rl\16l\u0376\3l\3l\6l\u037b\nl\rl\16"+
+		"l\u037c\3l\3l\7l\u0381\nl\fl\16l\u0384\13l\3l\5l\u0387\nl\3l\3l\6l\u038b"+
+		"\nl\rl\16l\u038c\3l\5l\u0390\nl\5l\u0392\nl\3m\3m\3m\3n\3n\7n\u0399\n"+
+		"n\fn\16n\u039c\13n\3n\5n\u039f\nn\3o\3o\7o\u03a3\no\fo\16o\u03a6\13o\3"+
+		"p\3p\7p\u03aa\np\fp\16p\u03ad\13p\3p\5p\u03b0\np\3q\6q\u03b3\nq\rq\16"+
+		"q\u03b4\4\u02fc\u030a\2r\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13\25\f"+
+		"\27\r\31\16\33\17\35\20\37\21!\22#\23%\24\'\25)\26+\27-\30/\31\61\32\63"+
+		"\33\65\34\67\359\36;\37= ?!A\"C#E$G%I&K\'M(O)Q*S+U,W-Y.[/]\60_\61a\62"+
+		"c\63e\64g\65i\66k\67m8o9q:s;u<w=y>{?}@\177A\u0081B\u0083C\u0085D\u0087"+
+		"E\u0089F\u008bG\u008dH\u008fI\u0091J\u0093K\u0095L\u0097M\u0099N\u009b"+
+		"O\u009dP\u009fQ\u00a1R\u00a3S\u00a5T\u00a7U\u00a9V\u00abW\u00adX\u00af"+
+		"Y\u00b1Z\u00b3[\u00b5\\\u00b7]\u00b9^\u00bb_\u00bd`\u00bfa\u00c1b\u00c3"+
+		"\2\u00c5c\u00c7d\u00c9\2\u00cbe\u00cd\2\u00cf\2\u00d1f\u00d3\2\u00d5\2"+
+		"\u00d7g\u00d9h\u00dbi\u00ddj\u00dfk\u00e1l\3\2\24\5\2\13\f\16\17\"\"\4"+
+		"\2\f\f\16\17\6\2\f\f\16\17$$^^\b\2$$^^hhppttvv\3\2\62\65\3\2\62\63\4\2"+
+		"DDdd\3\2\629\4\2ZZzz\5\2\62;CHch\4\2GGgg\4\2--//\3\2\62;\4\2HHhh\3\2\63"+
+		";\5\2C\\aac|\6\2\62;C\\aac|\3\2$$\2\u03cd\2\3\3\2\2\2\2\5\3\2\2\2\2\7"+
+		"\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2"+
+		"\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2"+
+		"\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2"+
+		"\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2"+
+		"\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2"+
+		"\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M"+
+		"\3\2\2\2\2O\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2"+
+		"\2\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2"+
+		"\2g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2o\3\2\2\2\2q\3\2\2\2\2s"+
+		"\3\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y\3\2\2\2\2{\3\2\2\2\2}\3\2\2\2\2\177"+
+		"\3\2\2\2\2\u0081\3\2\2\2\2\u0083\3\2\2\2\2\u0085\3\2\2\2\2\u0087\3\2\2"+
+		"\2\2\u0089\3\2\2\2\2\u008b\3\2\2\2\2\u008d\3\2\2\2\2\u008f\3\2\2\2\2\u0091"+
+		"\3\2\2\2\2\u0093\3\2\2\2\2\u0095\3\2\2\2\2\u0097\3\2\2\2\2\u0099\3\2\2"+
+		"\2\2\u009b\3\2\2\2\2\u009d\3\2\2\2\2\u009f\3\2\2\2\2\u00a1\3\2\2\2\2\u00a3"+
+		"\3\2\2\2\2\u00a5\3\2\2\2\2\u00a7\3\2\2\2\2\u00a9\3\2\2\2\2\u00ab\3\2\2"+
+		"\2\2\u00ad\3\2\2\2\2\u00af\3\2\2\2\2\u00b1\3\2\2\2\2\u00b3\3\2\2\2\2\u00b5"+
+		"\3\2\2\2\2\u00b7\3\2\2\2\2\u00b9\3\2\2\2\2\u00bb\3\2\2\2\2\u00bd\3\2\2"+
+		"\2\2\u00bf\3\2\2\2\2\u00c1\3\2\2\2\2\u00c5\3\2\2\2\2\u00c7\3\2\2\2\2\u00cb"+
+		"\3\2\2\2\2\u00d1\3\2\2\2\2\u00d7\3\2\2\2\2\u00d9\3\2\2\2\2\u00db\3\2\2"+
+		"\2\2\u00dd\3\2\2\2\2\u00df\3\2\2\2\2\u00e1\3\2\2\2\3\u00e3\3\2\2\2\5\u00e5"+
+		"\3\2\2\2\7\u00e7\3\2\2\2\t\u00e9\3\2\2\2\13\u00eb\3\2\2\2\r\u00ed\3\2"+
+		"\2\2\17\u00ef\3\2\2\2\21\u00f1\3\2\2\2\23\u00f4\3\2\2\2\25\u00f7\3\2\2"+
+		"\2\27\u00f9\3\2\2\2\31\u00fb\3\2\2\2\33\u00fd\3\2\2\2\35\u0100\3\2\2\2"+
+		"\37\u0103\3\2\2\2!\u0106\3\2\2\2#\u0108\3\2\2\2%\u010b\3\2\2\2\'\u010d"+
+		"\3\2\2\2)\u010f\3\2\2\2+\u0111\3\2\2\2-\u0113\3\2\2\2/\u0116\3\2\2\2\61"+
+		"\u0118\3\2\2\2\63\u011a\3\2\2\2\65\u011c\3\2\2\2\67\u011e\3\2\2\29\u0120"+
+		"\3\2\2\2;\u0122\3\2\2\2=\u0124\3\2\2\2?\u0126\3\2\2\2A\u0128\3\2\2\2C"+
+		"\u012e\3\2\2\2E\u0132\3\2\2\2G\u0137\3\2\2\2I\u013f\3\2\2\2K\u0144\3\2"+
+		"\2\2M\u014b\3\2\2\2O\u0151\3\2\2\2Q\u0159\3\2\2\2S\u015e\3\2\2\2U\u0167"+
+		"\3\2\2\2W\u016e\3\2\2\2Y\u0176\3\2\2\2[\u017e\3\2\2\2]\u0186\3\2\2\2_"+
+		"\u018f\3\2\2\2a\u0192\3\2\2\2c\u019b\3\2\2\2e\u01a2\3\2\2\2g\u01a9\3\2"+
+		"\2\2i\u01b5\3\2\2\2k\u01b9\3\2\2\2m\u01bf\3\2\2\2o\u01c5\3\2\2\2q\u01cb"+
+		"\3\2\2\2s\u01d0\3\2\2\2u\u01d9\3\2\2\2w\u01e1\3\2\2\2y\u01e4\3\2\2\2{"+
+		"\u01ed\3\2\2\2}\u01f5\3\2\2\2\177\u01fc\3\2\2\2\u0081\u0204\3\2\2\2\u0083"+
+		"\u020b\3\2\2\2\u0085\u0213\3\2\2\2\u0087\u0217\3\2\2\2\u0089\u0224\3\2"+
+		"\2\2\u008b\u022e\3\2\2\2\u008d\u023a\3\2\2\2\u008f\u024c\3\2\2\2\u0091"+
+		"\u0253\3\2\2\2\u0093\u025a\3\2\2\2\u0095\u0264\3\2\2\2\u0097\u026c\3\2"+
+		"\2\2\u0099\u0272\3\2\2\2\u009b\u0279\3\2\2\2\u009d\u0280\3\2\2\2\u009f"+
+		"\u0287\3\2\2\2\u00a1\u028d\3\2\2\2\u00a3\u0293\3\2\2\2\u00a5\u0299\3\2"+
+		"\2\2\u00a7\u02a1\3\2\2\2\u00a9\u02a8\3\2\2\2\u00ab\u02b1\3\2\2\2\u00ad"+
+		"\u02ba\3\2\2\2\u00af\u02c3\3\2\2\2\u00b1\u02cb\3\2\2\2\u00b3\u02d3\3\2"+
+		"\2\2\u00b5\u02dd\3\2\2\2\u00b7\u02e7\3\2\2\2\u00b9\u02f1\3\2\2\2\u00bb"+
+		"\u02f5\3\2\2\2\u00bd\u0304\3\2\2\2\u00bf\u0312\3\2\2\2\u00c1\u0326\3\2"+
+		"\2\2\u00c3\u0343\3\2\2\2\u00c5\u0345\3\2\2\2\u00c7\u034f\3\2\2\2\u00c9"+
+		"\u0355\3\2\2\2\u00cb\u0357\3\2\2\2\u00cd\u035d\3\2\2\2\u00cf\u0360\3\2"+
+		"\2\2\u00d1\u0362\3\2\2\2\u00d3\u0368\3\2\2\2\u00d5\u0371\3\2\2\2\u00d7"+
+		"\u0391\3\2\2\2\u00d9\u0393\3\2\2\2\u00db\u039e\3\2\2\2\u00dd\u03a0\3\2"+
+		"\2\2\u00df\u03a7\3\2\2\2\u00e1\u03b2\3\2\2\2\u00e3\u00e4\7(\2\2\u00e4"+
+		"\4\3\2\2\2\u00e5\u00e6\7?\2\2\u00e6\6\3\2\2\2\u00e7\u00e8\7#\2\2\u00e8"+
+		"\b\3\2\2\2\u00e9\u00ea\7<\2\2\u00ea\n\3\2\2\2\u00eb\u00ec\7.\2\2\u00ec"+
+		"\f\3\2\2\2\u00ed\u00ee\7\61\2\2\u00ee\16\3\2\2\2\u00ef\u00f0\7\60\2\2"+
+		"\u00f0\20\3\2\2\2\u00f1\u00f2\7?\2\2\u00f2\u00f3\7?\2\2\u00f3\22\3\2\2"+
+		"\2\u00f4\u00f5\7@\2\2\u00f5\u00f6\7?\2\2\u00f6\24\3\2\2\2\u00f7\u00f8"+
+		"\7@\2\2\u00f8\26\3\2\2\2\u00f9\u00fa\7}\2\2\u00fa\30\3\2\2\2\u00fb\u00fc"+
+		"\7]\2\2\u00fc\32\3\2\2\2\u00fd\u00fe\7>\2\2\u00fe\u00ff\7?\2\2\u00ff\34"+
+		"\3\2\2\2\u0100\u0101\7(\2\2\u0101\u0102\7(\2\2\u0102\36\3\2\2\2\u0103"+
+		"\u0104\7~\2\2\u0104\u0105\7~\2\2\u0105 \3\2\2\2\u0106\u0107\7*\2\2\u0107"+
+		"\"\3\2\2\2\u0108\u0109\7>\2\2\u0109\u010a\7>\2\2\u010a$\3\2\2\2\u010b"+
+		"\u010c\7>\2\2\u010c&\3\2\2\2\u010d\u010e\7/\2\2\u010e(\3\2\2\2\u010f\u0110"+
+		"\7\'\2\2\u0110*\3\2\2\2\u0111\u0112\7,\2\2\u0112,\3\2\2\2\u0113\u0114"+
+		"\7#\2\2\u0114\u0115\7?\2\2\u0115.\3\2\2\2\u0116\u0117\7~\2\2\u0117\60"+
+		"\3\2\2\2\u0118\u0119\7-\2\2\u0119\62\3\2\2\2\u011a\u011b\7A\2\2\u011b"+
+		"\64\3\2\2\2\u011c\u011d\7\177\2\2\u011d\66\3\2\2\2\u011e\u011f\7_\2\2"+
+		"\u011f8\3\2\2\2\u0120\u0121\7+\2\2\u0121:\3\2\2\2\u0122\u0123\7=\2\2\u0123"+
+		"<\3\2\2\2\u0124\u0125\7\u0080\2\2\u0125>\3\2\2\2\u0126\u0127\7`\2\2\u0127"+
+		"@\3\2\2\2\u0128\u0129\7c\2\2\u0129\u012a\7n\2\2\u012a\u012b\7k\2\2\u012b"+
+		"\u012c\7i\2\2\u012c\u012d\7p\2\2\u012dB\3\2\2\2\u012e\u012f\7d\2\2\u012f"+
+		"\u0130\7k\2\2\u0130\u0131\7v\2\2\u0131D\3\2\2\2\u0132\u0133\7d\2\2\u0133"+
+		"\u0134\7q\2\2\u0134\u0135\7q\2\2\u0135\u0136\7n\2\2\u0136F\3\2\2\2\u0137"+
+		"\u0138\7d\2\2\u0138\u0139\7k\2\2\u0139\u013a\7v\2\2\u013a\u013b\7o\2\2"+
+		"\u013b\u013c\7c\2\2\u013c\u013d\7u\2\2\u013d\u013e\7m\2\2\u013eH\3\2\2"+
+		"\2\u013f\u0140\7e\2\2\u0140\u0141\7c\2\2\u0141\u0142\7u\2\2\u0142\u0143"+
+		"\7g\2\2\u0143J\3\2\2\2\u0144\u0145\7e\2\2\u0145\u0146\7j\2\2\u0146\u0147"+
+		"\7q\2\2\u0147\u0148\7k\2\2\u0148\u0149\7e\2\2\u0149\u014a\7g\2\2\u014a"+
+		"L\3\2\2\2\u014b\u014c\7e\2\2\u014c\u014d\7q\2\2\u014d\u014e\7p\2\2\u014e"+
+		"\u014f\7u\2\2\u014f\u0150\7v\2\2\u0150N\3\2\2\2\u0151\u0152\7f\2\2\u0152"+
+		"\u0153\7g\2\2\u0153\u0154\7h\2\2\u0154\u0155\7c\2\2\u0155\u0156\7w\2\2"+
+		"\u0156\u0157\7n\2\2\u0157\u0158\7v\2\2\u0158P\3\2\2\2\u0159\u015a\7g\2"+
+		"\2\u015a\u015b\7p\2\2\u015b\u015c\7w\2\2\u015c\u015d\7o\2\2\u015dR\3\2"+
+		"\2\2\u015e\u015f\7g\2\2\u015f\u0160\7z\2\2\u0160\u0161\7r\2\2\u0161\u0162"+
+		"\7n\2\2\u0162\u0163\7k\2\2\u0163\u0164\7e\2\2\u0164\u0165\7k\2\2\u0165"+
+		"\u0166\7v\2\2\u0166T\3\2\2\2\u0167\u0168\7g\2\2\u0168\u0169\7z\2\2\u0169"+
+		"\u016a\7v\2\2\u016a\u016b\7g\2\2\u016b\u016c\7t\2\2\u016c\u016d\7p\2\2"+
+		"\u016dV\3\2\2\2\u016e\u016f\7h\2\2\u016f\u0170\7n\2\2\u0170\u0171\7q\2"+
+		"\2\u0171\u0172\7c\2\2\u0172\u0173\7v\2\2\u0173\u0174\7\63\2\2\u0174\u0175"+
+		"\78\2\2\u0175X\3\2\2\2\u0176\u0177\7h\2\2\u0177\u0178\7n\2\2\u0178\u0179"+
+		"\7q\2\2\u0179\u017a\7c\2\2\u017a\u017b\7v\2\2\u017b\u017c\7\65\2\2\u017c"+
+		"\u017d\7\64\2\2\u017dZ\3\2\2\2\u017e\u017f\7h\2\2\u017f\u0180\7n\2\2\u0180"+
+		"\u0181\7q\2\2\u0181\u0182\7c\2\2\u0182\u0183\7v\2\2\u0183\u0184\78\2\2"+
+		"\u0184\u0185\7\66\2\2\u0185\\\3\2\2\2\u0186\u0187\7h\2\2\u0187\u0188\7"+
+		"w\2\2\u0188\u0189\7p\2\2\u0189\u018a\7e\2\2\u018a\u018b\7v\2\2\u018b\u018c"+
+		"\7k\2\2\u018c\u018d\7q\2\2\u018d\u018e\7p\2\2\u018e^\3\2\2\2\u018f\u0190"+
+		"\7k\2\2\u0190\u0191\7h\2\2\u0191`\3\2\2\2\u0192\u0193\7k\2\2\u0193\u0194"+
+		"\7o\2\2\u0194\u0195\7r\2\2\u0195\u0196\7n\2\2\u0196\u0197\7k\2\2\u0197"+
+		"\u0198\7e\2\2\u0198\u0199\7k\2\2\u0199\u019a\7v\2\2\u019ab\3\2\2\2\u019b"+
+		"\u019c\7k\2\2\u019c\u019d\7o\2\2\u019d\u019e\7r\2\2\u019e\u019f\7q\2\2"+
+		"\u019f\u01a0\7t\2\2\u01a0\u01a1\7v\2\2\u01a1d\3\2\2\2\u01a2\u01a3\7B\2"+
+		"\2\u01a3\u01a4\7k\2\2\u01a4\u01a5\7p\2\2\u01a5\u01a6\7f\2\2\u01a6\u01a7"+
+		"\7g\2\2\u01a7\u01a8\7z\2\2\u01a8f\3\2\2\2\u01a9\u01aa\7k\2\2\u01aa\u01ab"+
+		"\7p\2\2\u01ab\u01ac\7u\2\2\u01ac\u01ad\7v\2\2\u01ad\u01ae\7c\2\2\u01ae"+
+		"\u01af\7p\2\2\u01af\u01b0\7v\2\2\u01b0\u01b1\7k\2\2\u01b1\u01b2\7c\2\2"+
+		"\u01b2\u01b3\7v\2\2\u01b3\u01b4\7g\2\2\u01b4h\3\2\2\2\u01b5\u01b6\7k\2"+
+		"\2\u01b6\u01b7\7p\2\2\u01b7\u01b8\7v\2\2\u01b8j\3\2\2\2\u01b9\u01ba\7"+
+		"k\2\2\u01ba\u01bb\7p\2\2\u01bb\u01bc\7v\2\2\u01bc\u01bd\7\63\2\2\u01bd"+
+		"\u01be\78\2\2\u01bel\3\2\2\2\u01bf\u01c0\7k\2\2\u01c0\u01c1\7p\2\2\u01c1"+
+		"\u01c2\7v\2\2\u01c2\u01c3\7\65\2\2\u01c3\u01c4\7\64\2\2\u01c4n\3\2\2\2"+
+		"\u01c5\u01c6\7k\2\2\u01c6\u01c7\7p\2\2\u01c7\u01c8\7v\2\2\u01c8\u01c9"+
+		"\78\2\2\u01c9\u01ca\7\66\2\2\u01cap\3\2\2\2\u01cb\u01cc\7k\2\2\u01cc\u01cd"+
+		"\7p\2\2\u01cd\u01ce\7v\2\2\u01ce\u01cf\7:\2\2\u01cfr\3\2\2\2\u01d0\u01d1"+
+		"\7n\2\2\u01d1\u01d2\7g\2\2\u01d2\u01d3\7p\2\2\u01d3\u01d4\7i\2\2\u01d4"+
+		"\u01d5\7v\2\2\u01d5\u01d6\7j\2\2\u01d6\u01d7\7q\2\2\u01d7\u01d8\7h\2\2"+
+		"\u01d8t\3\2\2\2\u01d9\u01da\7p\2\2\u01da\u01db\7w\2\2\u01db\u01dc\7o\2"+
+		"\2\u01dc\u01dd\7d\2\2\u01dd\u01de\7k\2\2\u01de\u01df\7v\2\2\u01df\u01e0"+
+		"\7u\2\2\u01e0v\3\2\2\2\u01e1\u01e2\7q\2\2\u01e2\u01e3\7p\2\2\u01e3x\3"+
+		"\2\2\2\u01e4\u01e5\7q\2\2\u01e5\u01e6\7r\2\2\u01e6\u01e7\7v\2\2\u01e7"+
+		"\u01e8\7k\2\2\u01e8\u01e9\7q\2\2\u01e9\u01ea\7p\2\2\u01ea\u01eb\7c\2\2"+
+		"\u01eb\u01ec\7n\2\2\u01ecz\3\2\2\2\u01ed\u01ee\7r\2\2\u01ee\u01ef\7c\2"+
+		"\2\u01ef\u01f0\7e\2\2\u01f0\u01f1\7m\2\2\u01f1\u01f2\7c\2\2\u01f2\u01f3"+
+		"\7i\2\2\u01f3\u01f4\7g\2\2\u01f4|\3\2\2\2\u01f5\u01f6\7r\2\2\u01f6\u01f7"+
+		"\7w\2\2\u01f7\u01f8\7d\2\2\u01f8\u01f9\7u\2\2\u01f9\u01fa\7w\2\2\u01fa"+
+		"\u01fb\7d\2\2\u01fb~\3\2\2\2\u01fc\u01fd\7r\2\2\u01fd\u01fe\7w\2\2\u01fe"+
+		"\u01ff\7d\2\2\u01ff\u0200\7n\2\2\u0200\u0201\7k\2\2\u0201\u0202\7u\2\2"+
+		"\u0202\u0203\7j\2\2\u0203\u0080\3\2\2\2\u0204\u0205\7t\2\2\u0205\u0206"+
+		"\7g\2\2\u0206\u0207\7v\2\2\u0207\u0208\7w\2\2\u0208\u0209\7t\2\2\u0209"+
+		"\u020a\7p\2\2\u020a\u0082\3\2\2\2\u020b\u020c\7u\2\2\u020c\u020d\7g\2"+
+		"\2\u020d\u020e\7t\2\2\u020e\u020f\7x\2\2\u020f\u0210\7k\2\2\u0210\u0211"+
+		"\7e\2\2\u0211\u0212\7g\2\2\u0212\u0084\3\2\2\2\u0213\u0214\7u\2\2\u0214"+
+		"\u0215\7s\2\2\u0215\u0216\7n\2\2\u0216\u0086\3\2\2\2\u0217\u0218\7u\2"+
+		"\2\u0218\u0219\7s\2\2\u0219\u021a\7n\2\2\u021a\u021b\7a\2\2\u021b\u021c"+
+		"\7f\2\2\u021c\u021d\7c\2\2\u021d\u021e\7v\2\2\u021e\u021f\7c\2\2\u021f"+
+		"\u0220\7d\2\2\u0220\u0221\7c\2\2\u0221\u0222\7u\2\2\u0222\u0223\7g\2\2"+
+		"\u0223\u0088\3\2\2\2\u0224\u0225\7u\2\2\u0225\u0226\7s\2\2\u0226\u0227"+
+		"\7n\2\2\u0227\u0228\7a\2\2\u0228\u0229\7v\2\2\u0229\u022a\7c\2\2\u022a"+
+		"\u022b\7d\2\2\u022b\u022c\7n\2\2\u022c\u022d\7g\2\2\u022d\u008a\3\2\2"+
+		"\2\u022e\u022f\7u\2\2\u022f\u0230\7s\2\2\u0230\u0231\7n\2\2\u0231\u0232"+
+		"\7a\2\2\u0232\u0233\7x\2\2\u0233\u0234\7k\2\2\u0234\u0235\7t\2\2\u0235"+
+		"\u0236\7v\2\2\u0236\u0237\7w\2\2\u0237\u0238\7c\2\2\u0238\u0239\7n\2\2"+
+		"\u0239\u008c\3\2\2\2\u023a\u023b\7u\2\2\u023b\u023c\7s\2\2\u023c\u023d"+
+		"\7n\2\2\u023d\u023e\7a\2\2\u023e\u023f\7y\2\2\u023f\u0240\7k\2\2\u0240"+
+		"\u0241\7v\2\2\u0241\u0242\7j\2\2\u0242\u0243\7q\2\2\u0243\u0244\7w\2\2"+
+		"\u0244\u0245\7v\2\2\u0245\u0246\7a\2\2\u0246\u0247\7t\2\2\u0247\u0248"+
+		"\7q\2\2\u0248\u0249\7y\2\2\u0249\u024a\7k\2\2\u024a\u024b\7f\2\2\u024b"+
+		"\u008e\3\2\2\2\u024c\u024d\7u\2\2\u024d\u024e\7v\2\2\u024e\u024f\7t\2"+
+		"\2\u024f\u0250\7k\2\2\u0250\u0251\7p\2\2\u0251\u0252\7i\2\2\u0252\u0090"+
+		"\3\2\2\2\u0253\u0254\7u\2\2\u0254\u0255\7v\2\2\u0255\u0256\7t\2\2\u0256"+
+		"\u0257\7w\2\2\u0257\u0258\7e\2\2\u0258\u0259\7v\2\2\u0259\u0092\3\2\2"+
+		"\2\u025a\u025b\7u\2\2\u025b\u025c\7w\2\2\u025c\u025d\7d\2\2\u025d\u025e"+
+		"\7u\2\2\u025e\u025f\7e\2\2\u025f\u0260\7t\2\2\u0260\u0261\7k\2\2\u0261"+
+		"\u0262\7d\2\2\u0262\u0263\7g\2\2\u0263\u0094\3\2\2\2\u0264\u0265\7u\2"+
+		"\2\u0265\u0266\7w\2\2\u0266\u0267\7d\2\2\u0267\u0268\7v\2\2\u0268\u0269"+
+		"\7{\2\2\u0269\u026a\7r\2\2\u026a\u026b\7g\2\2\u026b\u0096\3\2\2\2\u026c"+
+		"\u026d\7v\2\2\u026d\u026e\7q\2\2\u026e\u026f\7r\2\2\u026f\u0270\7k\2\2"+
+		"\u0270\u0271\7e\2\2\u0271\u0098\3\2\2\2\u0272\u0273\7w\2\2\u0273\u0274"+
+		"\7k\2\2\u0274\u0275\7p\2\2\u0275\u0276\7v\2\2\u0276\u0277\7\63\2\2\u0277"+
+		"\u0278\78\2\2\u0278\u009a\3\2\2\2\u0279\u027a\7w\2\2\u027a\u027b\7k\2"+
+		"\2\u027b\u027c\7p\2\2\u027c\u027d\7v\2\2\u027d\u027e\7\65\2\2\u027e\u027f"+
+		"\7\64\2\2\u027f\u009c\3\2\2\2\u0280\u0281\7w\2\2\u0281\u0282\7k\2\2\u0282"+
+		"\u0283\7p\2\2\u0283\u0284\7v\2\2\u0284\u0285\78\2\2\u0285\u0286\7\66\2"+
+		"\2\u0286\u009e\3\2\2\2\u0287\u0288\7w\2\2\u0288\u0289\7k\2\2\u0289\u028a"+
+		"\7p\2\2\u028a\u028b\7v\2\2\u028b\u028c\7:\2\2\u028c\u00a0\3\2\2\2\u028d"+
+		"\u028e\7w\2\2\u028e\u028f\7p\2\2\u028f\u0290\7k\2\2\u0290\u0291\7q\2\2"+
+		"\u0291\u0292\7p\2\2\u0292\u00a2\3\2\2\2\u0293\u0294\7w\2\2\u0294\u0295"+
+		"\7u\2\2\u0295\u0296\7k\2\2\u0296\u0297\7p\2\2\u0297\u0298\7i\2\2\u0298"+
+		"\u00a4\3\2\2\2\u0299\u029a\7x\2\2\u029a\u029b\7c\2\2\u029b\u029c\7n\2"+
+		"\2\u029c\u029d\7w\2\2\u029d\u029e\7g\2\2\u029e\u029f\7q\2\2\u029f\u02a0"+
+		"\7h\2\2\u02a0\u00a6\3\2\2\2\u02a1\u02a2\7x\2\2\u02a2\u02a3\7c\2\2\u02a3"+
+		"\u02a4\7t\2\2\u02a4\u02a5\7k\2\2\u02a5\u02a6\7p\2\2\u02a6\u02a7\7v\2\2"+
+		"\u02a7\u00a8\3\2\2\2\u02a8\u02a9\7x\2\2\u02a9\u02aa\7c\2\2\u02aa\u02ab"+
+		"\7t\2\2\u02ab\u02ac\7k\2\2\u02ac\u02ad\7p\2\2\u02ad\u02ae\7v\2\2\u02ae"+
+		"\u02af\7\63\2\2\u02af\u02b0\78\2\2\u02b0\u00aa\3\2\2\2\u02b1\u02b2\7x"+
+		"\2\2\u02b2\u02b3\7c\2\2\u02b3\u02b4\7t\2\2\u02b4\u02b5\7k\2\2\u02b5\u02b6"+
+		"\7p\2\2\u02b6\u02b7\7v\2\2\u02b7\u02b8\7\65\2\2\u02b8\u02b9\7\64\2\2\u02b9"+
+		"\u00ac\3\2\2\2\u02ba\u02bb\7x\2\2\u02bb\u02bc\7c\2\2\u02bc\u02bd\7t\2"+
+		"\2\u02bd\u02be\7k\2\2\u02be\u02bf\7p\2\2\u02bf\u02c0\7v\2\2\u02c0\u02c1"+
+		"\78\2\2\u02c1\u02c2\7\66\2\2\u02c2\u00ae\3\2\2\2\u02c3\u02c4\7x\2\2\u02c4"+
+		"\u02c5\7c\2\2\u02c5\u02c6\7t\2\2\u02c6\u02c7\7u\2\2\u02c7\u02c8\7k\2\2"+
+		"\u02c8\u02c9\7|\2\2\u02c9\u02ca\7g\2\2\u02ca\u00b0\3\2\2\2\u02cb\u02cc"+
+		"\7x\2\2\u02cc\u02cd\7c\2\2\u02cd\u02ce\7t\2\2\u02ce\u02cf\7w\2\2\u02cf"+
+		"\u02d0\7k\2\2\u02d0\u02d1\7p\2\2\u02d1\u02d2\7v\2\2\u02d2\u00b2\3\2\2"+
+		"\2\u02d3\u02d4\7x\2\2\u02d4\u02d5\7c\2\2\u02d5\u02d6\7t\2\2\u02d6\u02d7"+
+		"\7w\2\2\u02d7\u02d8\7k\2\2\u02d8\u02d9\7p\2\2\u02d9\u02da\7v\2\2\u02da"+
+		"\u02db\7\63\2\2\u02db\u02dc\78\2\2\u02dc\u00b4\3\2\2\2\u02dd\u02de\7x"+
+		"\2\2\u02de\u02df\7c\2\2\u02df\u02e0\7t\2\2\u02e0\u02e1\7w\2\2\u02e1\u02e2"+
+		"\7k\2\2\u02e2\u02e3\7p\2\2\u02e3\u02e4\7v\2\2\u02e4\u02e5\7\65\2\2\u02e5"+
+		"\u02e6\7\64\2\2\u02e6\u00b6\3\2\2\2\u02e7\u02e8\7x\2\2\u02e8\u02e9\7c"+
+		"\2\2\u02e9\u02ea\7t\2\2\u02ea\u02eb\7w\2\2\u02eb\u02ec\7k\2\2\u02ec\u02ed"+
+		"\7p\2\2\u02ed\u02ee\7v\2\2\u02ee\u02ef\78\2\2\u02ef\u02f0\7\66\2\2\u02f0"+
+		"\u00b8\3\2\2\2\u02f1\u02f2\t\2\2\2\u02f2\u02f3\3\2\2\2\u02f3\u02f4\b]"+
+		"\2\2\u02f4\u00ba\3\2\2\2\u02f5\u02f6\7\61\2\2\u02f6\u02f7\7,\2\2\u02f7"+
+		"\u02f8\7,\2\2\u02f8\u02fc\3\2\2\2\u02f9\u02fb\13\2\2\2\u02fa\u02f9\3\2"+
+		"\2\2\u02fb\u02fe\3\2\2\2\u02fc\u02fd\3\2\2\2\u02fc\u02fa\3\2\2\2\u02fd"+
+		"\u02ff\3\2\2\2\u02fe\u02fc\3\2\2\2\u02ff\u0300\7,\2\2\u0300\u0301\7\61"+
+		"\2\2\u0301\u0302\3\2\2\2\u0302\u0303\b^\3\2\u0303\u00bc\3\2\2\2\u0304"+
+		"\u0305\7\61\2\2\u0305\u0306\7,\2\2\u0306\u030a\3\2\2\2\u0307\u0309\13"+
+		"\2\2\2\u0308\u0307\3\2\2\2\u0309\u030c\3\2\2\2\u030a\u030b\3\2\2\2\u030a"+
+		"\u0308\3\2\2\2\u030b\u030d\3\2\2\2\u030c\u030a\3\2\2\2\u030d\u030e\7,"+
+		"\2\2\u030e\u030f\7\61\2\2\u030f\u0310\3\2\2\2\u0310\u0311\b_\4\2\u0311"+
+		"\u00be\3\2\2\2\u0312\u0313\7\61\2\2\u0313\u0314\7\61\2\2\u0314\u0318\3"+
+		"\2\2\2\u0315\u0317\n\3\2\2\u0316\u0315\3\2\2\2\u0317\u031a\3\2\2\2\u0318"+
+		"\u0316\3\2\2\2\u0318\u0319\3\2\2\2\u0319\u031b\3\2\2\2\u031a\u0318\3\2"+
+		"\2\2\u031b\u031c\b`\4\2\u031c\u00c0\3\2\2\2\u031d\u031e\7v\2\2\u031e\u031f"+
+		"\7t\2\2\u031f\u0320\7w\2\2\u0320\u0327\7g\2\2\u0321\u0322\7h\2\2\u0322"+
+		"\u0323\7c\2\2\u0323\u0324\7n\2\2\u0324\u0325\7u\2\2\u0325\u0327\7g\2\2"+
+		"\u0326\u031d\3\2\2\2\u0326\u0321\3\2\2\2\u0327\u00c2\3\2\2\2\u0328\u0344"+
+		"\n\4\2\2\u0329\u032a\7^\2\2\u032a\u0344\t\5\2\2\u032b\u032c\7^\2\2\u032c"+
+		"\u032d\7w\2\2\u032d\u032e\3\2\2\2\u032e\u032f\5\u00cfh\2\u032f\u0330\5"+
+		"\u00cfh\2\u0330\u0331\5\u00cfh\2\u0331\u0332\5\u00cfh\2\u0332\u0344\3"+
+		"\2\2\2\u0333\u0334\7^\2\2\u0334\u0335\7z\2\2\u0335\u0336\3\2\2\2\u0336"+
+		"\u0337\5\u00cfh\2\u0337\u0338\5\u00cfh\2\u0338\u0344\3\2\2\2\u0339\u033a"+
+		"\7^\2\2\u033a\u033b\7\62\2\2\u033b\u033d\3\2\2\2\u033c\u033e\t\6\2\2\u033d"+
+		"\u033c\3\2\2\2\u033d\u033e\3\2\2\2\u033e\u033f\3\2\2\2\u033f\u0341\5\u00c9"+
+		"e\2\u0340\u0342\5\u00c9e\2\u0341\u0340\3\2\2\2\u0341\u0342\3\2\2\2\u0342"+
+		"\u0344\3\2\2\2\u0343\u0328\3\2\2\2\u0343\u0329\3\2\2\2\u0343\u032b\3\2"+
+		"\2\2\u0343\u0333\3\2\2\2\u0343\u0339\3\2\2\2\u0344\u00c4\3\2\2\2\u0345"+
+		"\u0349\7$\2\2\u0346\u0348\5\u00c3b\2\u0347\u0346\3\2\2\2\u0348\u034b\3"+
+		"\2\2\2\u0349\u0347\3\2\2\2\u0349\u034a\3\2\2\2\u034a\u034c\3\2\2\2\u034b"+
+		"\u0349\3\2\2\2\u034c\u034d\7$\2\2\u034d\u00c6\3\2\2\2\u034e\u0350\t\7"+
+		"\2\2\u034f\u034e\3\2\2\2\u0350\u0351\3\2\2\2\u0351\u034f\3\2\2\2\u0351"+
+		"\u0352\3\2\2\2\u0352\u0353\3\2\2\2\u0353\u0354\t\b\2\2\u0354\u00c8\3\2"+
+		"\2\2\u0355\u0356\t\t\2\2\u0356\u00ca\3\2\2\2\u0357\u0359\7\62\2\2\u0358"+
+		"\u035a\5\u00c9e\2\u0359\u0358\3\2\2\2\u035a\u035b\3\2\2\2\u035b\u0359"+
+		"\3\2\2\2\u035b\u035c\3\2\2\2\u035c\u00cc\3\2\2\2\u035d\u035e\7\62\2\2"+
+		"\u035e\u035f\t\n\2\2\u035f\u00ce\3\2\2\2\u0360\u0361\t\13\2\2\u0361\u00d0"+
+		"\3\2\2\2\u0362\u0364\5\u00cdg\2\u0363\u0365\5\u00cfh\2\u0364\u0363\3\2"+
+		"\2\2\u0365\u0366\3\2\2\2\u0366\u0364\3\2\2\2\u0366\u0367\3\2\2\2\u0367"+
+		"\u00d2\3\2\2\2\u0368\u036a\t\f\2\2\u0369\u036b\t\r\2\2\u036a\u0369\3\2"+
+		"\2\2\u036a\u036b\3\2\2\2\u036b\u036d\3\2\2\2\u036c\u036e\t\16\2\2\u036d"+
+		"\u036c\3\2\2\2\u036e\u036f\3\2\2\2\u036f\u036d\3\2\2\2\u036f\u0370\3\2"+
+		"\2\2\u0370\u00d4\3\2\2\2\u0371\u0372\t\17\2\2\u0372\u00d6\3\2\2\2\u0373"+
+		"\u0375\t\16\2\2\u0374\u0373\3\2\2\2\u0375\u0376\3\2\2\2\u0376\u0374\3"+
+		"\2\2\2\u0376\u0377\3\2\2\2\u0377\u0378\3\2\2\2\u0378\u0392\5\u00d3j\2"+
+		"\u0379\u037b\t\16\2\2\u037a\u0379\3\2\2\2\u037b\u037c\3\2\2\2\u037c\u037a"+
+		"\3\2\2\2\u037c\u037d\3\2\2\2\u037d\u037e\3\2\2\2\u037e\u0382\7\60\2\2"+
+		"\u037f\u0381\t\16\2\2\u0380\u037f\3\2\2\2\u0381\u0384\3\2\2\2\u0382\u0380"+
+		"\3\2\2\2\u0382\u0383\3\2\2\2\u0383\u0386\3\2\2\2\u0384\u0382\3\2\2\2\u0385"+
+		"\u0387\5\u00d3j\2\u0386\u0385\3\2\2\2\u0386\u0387\3\2\2\2\u0387\u0392"+
+		"\3\2\2\2\u0388\u038a\7\60\2\2\u0389\u038b\t\16\2\2\u038a\u0389\3\2\2\2"+
+		"\u038b\u038c\3\2\2\2\u038c\u038a\3\2\2\2\u038c\u038d\3\2\2\2\u038d\u038f"+
+		"\3\2\2\2\u038e\u0390\5\u00d3j\2\u038f\u038e\3\2\2\2\u038f\u0390\3\2\2"+
+		"\2\u0390\u0392\3\2\2\2\u0391\u0374\3\2\2\2\u0391\u037a\3\2\2\2\u0391\u0388"+
+		"\3\2\2\2\u0392\u00d8\3\2\2\2\u0393\u0394\5\u00d7l\2\u0394\u0395\5\u00d5"+
+		"k\2\u0395\u00da\3\2\2\2\u0396\u039a\t\20\2\2\u0397\u0399\t\16\2\2\u0398"+
+		"\u0397\3\2\2\2\u0399\u039c\3\2\2\2\u039a\u0398\3\2\2\2\u039a\u039b\3\2"+
+		"\2\2\u039b\u039f\3\2\2\2\u039c\u039a\3\2\2\2\u039d\u039f\7\62\2\2\u039e"+
+		"\u0396\3\2\2\2\u039e\u039d\3\2\2\2\u039f\u00dc\3\2\2\2\u03a0\u03a4\t\21"+
+		"\2\2\u03a1\u03a3\t\22\2\2\u03a2\u03a1\3\2\2\2\u03a3\u03a6\3\2\2\2\u03a4"+
+		"\u03a2\3\2\2\2\u03a4\u03a5\3\2\2\2\u03a5\u00de\3\2\2\2\u03a6\u03a4\3\2"+
+		"\2\2\u03a7\u03ab\7$\2\2\u03a8\u03aa\n\23\2\2\u03a9\u03a8\3\2\2\2\u03aa"+
+		"\u03ad\3\2\2\2\u03ab\u03a9\3\2\2\2\u03ab\u03ac\3\2\2\2\u03ac\u03af\3\2"+
+		"\2\2\u03ad\u03ab\3\2\2\2\u03ae\u03b0\7$\2\2\u03af\u03ae\3\2\2\2\u03af"+
+		"\u03b0\3\2\2\2\u03b0\u00e0\3\2\2\2\u03b1\u03b3\t\22\2\2\u03b2\u03b1\3"+
+		"\2\2\2\u03b3\u03b4\3\2\2\2\u03b4\u03b2\3\2\2\2\u03b4\u03b5\3\2\2\2\u03b5"+
+		"\u00e2\3\2\2\2\35\2\u02fc\u030a\u0318\u0326\u033d\u0341\u0343\u0349\u0351"+
+		"\u035b\u0366\u036a\u036f\u0376\u037c\u0382\u0386\u038c\u038f\u0391\u039a"+
+		"\u039e\u03a4\u03ab\u03af\u03b4\5\b\2\2\2\4\2\2\3\2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
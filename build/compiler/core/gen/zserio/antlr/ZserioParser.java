@@ -0,0 +1,5299 @@
+// Generated from /root/project/compiler/core/antlr/ZserioParser.g4 by ANTLR 4.7.2
+package zserio.antlr;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class ZserioParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.7.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		AND=1, ASSIGN=2, BANG=3, COLON=4, COMMA=5, DIVIDE=6, DOT=7, EQ=8, GE=9, 
+		GT=10, LBRACE=11, LBRACKET=12, LE=13, LOGICAL_AND=14, LOGICAL_OR=15, LPAREN=16, 
+		LSHIFT=17, LT=18, MINUS=19, MODULO=20, MULTIPLY=21, NE=22, OR=23, PLUS=24, 
+		QUESTIONMARK=25, RBRACE=26, RBRACKET=27, RPAREN=28, SEMICOLON=29, TILDE=30, 
+		XOR=31, ALIGN=32, BIT_FIELD=33, BOOL=34, BITMASK=35, CASE=36, CHOICE=37, 
+		CONST=38, DEFAULT=39, ENUM=40, EXPLICIT=41, EXTERN=42, FLOAT16=43, FLOAT32=44, 
+		FLOAT64=45, FUNCTION=46, IF=47, IMPLICIT=48, IMPORT=49, INDEX=50, INSTANTIATE=51, 
+		INT_FIELD=52, INT16=53, INT32=54, INT64=55, INT8=56, LENGTHOF=57, NUMBITS=58, 
+		ON=59, OPTIONAL=60, PACKAGE=61, PUBSUB=62, PUBLISH=63, RETURN=64, SERVICE=65, 
+		SQL=66, SQL_DATABASE=67, SQL_TABLE=68, SQL_VIRTUAL=69, SQL_WITHOUT_ROWID=70, 
+		STRING=71, STRUCTURE=72, SUBSCRIBE=73, SUBTYPE=74, TOPIC=75, UINT16=76, 
+		UINT32=77, UINT64=78, UINT8=79, UNION=80, USING=81, VALUEOF=82, VARINT=83, 
+		VARINT16=84, VARINT32=85, VARINT64=86, VARSIZE=87, VARUINT=88, VARUINT16=89, 
+		VARUINT32=90, VARUINT64=91, WS=92, DOC_COMMENT=93, BLOCK_COMMENT=94, LINE_COMMENT=95, 
+		BOOL_LITERAL=96, STRING_LITERAL=97, BINARY_LITERAL=98, OCTAL_LITERAL=99, 
+		HEXADECIMAL_LITERAL=100, DOUBLE_LITERAL=101, FLOAT_LITERAL=102, DECIMAL_LITERAL=103, 
+		ID=104, INVALID_STRING_LITERAL=105, INVALID_TOKEN=106, RSHIFT=107;
+	public static final int
+		RULE_packageDeclaration = 0, RULE_packageNameDefinition = 1, RULE_importDeclaration = 2, 
+		RULE_languageDirective = 3, RULE_typeDeclaration = 4, RULE_constDeclaration = 5, 
+		RULE_subtypeDeclaration = 6, RULE_structureDeclaration = 7, RULE_structureFieldDefinition = 8, 
+		RULE_fieldAlignment = 9, RULE_fieldOffset = 10, RULE_fieldTypeId = 11, 
+		RULE_fieldArrayRange = 12, RULE_fieldInitializer = 13, RULE_fieldOptionalClause = 14, 
+		RULE_fieldConstraint = 15, RULE_choiceDeclaration = 16, RULE_choiceCases = 17, 
+		RULE_choiceCase = 18, RULE_choiceDefault = 19, RULE_choiceFieldDefinition = 20, 
+		RULE_unionDeclaration = 21, RULE_unionFieldDefinition = 22, RULE_enumDeclaration = 23, 
+		RULE_enumItem = 24, RULE_bitmaskDeclaration = 25, RULE_bitmaskValue = 26, 
+		RULE_sqlTableDeclaration = 27, RULE_sqlTableFieldDefinition = 28, RULE_sqlConstraintDefinition = 29, 
+		RULE_sqlConstraint = 30, RULE_sqlWithoutRowId = 31, RULE_sqlDatabaseDefinition = 32, 
+		RULE_sqlDatabaseFieldDefinition = 33, RULE_serviceDefinition = 34, RULE_serviceMethodDefinition = 35, 
+		RULE_pubsubDefinition = 36, RULE_pubsubMessageDefinition = 37, RULE_topicDefinition = 38, 
+		RULE_functionDefinition = 39, RULE_functionType = 40, RULE_functionName = 41, 
+		RULE_functionBody = 42, RULE_typeParameters = 43, RULE_parameterDefinition = 44, 
+		RULE_templateParameters = 45, RULE_templateArguments = 46, RULE_templateArgument = 47, 
+		RULE_instantiateDeclaration = 48, RULE_expression = 49, RULE_literal = 50, 
+		RULE_id = 51, RULE_typeReference = 52, RULE_typeInstantiation = 53, RULE_builtinType = 54, 
+		RULE_qualifiedName = 55, RULE_typeArguments = 56, RULE_typeArgument = 57, 
+		RULE_dynamicLengthArgument = 58, RULE_intType = 59, RULE_varintType = 60, 
+		RULE_fixedBitFieldType = 61, RULE_dynamicBitFieldType = 62, RULE_boolType = 63, 
+		RULE_stringType = 64, RULE_floatType = 65, RULE_externType = 66;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"packageDeclaration", "packageNameDefinition", "importDeclaration", "languageDirective", 
+			"typeDeclaration", "constDeclaration", "subtypeDeclaration", "structureDeclaration", 
+			"structureFieldDefinition", "fieldAlignment", "fieldOffset", "fieldTypeId", 
+			"fieldArrayRange", "fieldInitializer", "fieldOptionalClause", "fieldConstraint", 
+			"choiceDeclaration", "choiceCases", "choiceCase", "choiceDefault", "choiceFieldDefinition", 
+			"unionDeclaration", "unionFieldDefinition", "enumDeclaration", "enumItem", 
+			"bitmaskDeclaration", "bitmaskValue", "sqlTableDeclaration", "sqlTableFieldDefinition", 
+			"sqlConstraintDefinition", "sqlConstraint", "sqlWithoutRowId", "sqlDatabaseDefinition", 
+			"sqlDatabaseFieldDefinition", "serviceDefinition", "serviceMethodDefinition", 
+			"pubsubDefinition", "pubsubMessageDefinition", "topicDefinition", "functionDefinition", 
+			"functionType", "functionName", "functionBody", "typeParameters", "parameterDefinition", 
+			"templateParameters", "templateArguments", "templateArgument", "instantiateDeclaration", 
+			"expression", "literal", "id", "typeReference", "typeInstantiation", 
+			"builtinType", "qualifiedName", "typeArguments", "typeArgument", "dynamicLengthArgument", 
+			"intType", "varintType", "fixedBitFieldType", "dynamicBitFieldType", 
+			"boolType", "stringType", "floatType", "externType"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'&'", "'='", "'!'", "':'", "','", "'/'", "'.'", "'=='", "'>='", 
+			"'>'", "'{'", "'['", "'<='", "'&&'", "'||'", "'('", "'<<'", "'<'", "'-'", 
+			"'%'", "'*'", "'!='", "'|'", "'+'", "'?'", "'}'", "']'", "')'", "';'", 
+			"'~'", "'^'", "'align'", "'bit'", "'bool'", "'bitmask'", "'case'", "'choice'", 
+			"'const'", "'default'", "'enum'", "'explicit'", "'extern'", "'float16'", 
+			"'float32'", "'float64'", "'function'", "'if'", "'implicit'", "'import'", 
+			"'@index'", "'instantiate'", "'int'", "'int16'", "'int32'", "'int64'", 
+			"'int8'", "'lengthof'", "'numbits'", "'on'", "'optional'", "'package'", 
+			"'pubsub'", "'publish'", "'return'", "'service'", "'sql'", "'sql_database'", 
+			"'sql_table'", "'sql_virtual'", "'sql_without_rowid'", "'string'", "'struct'", 
+			"'subscribe'", "'subtype'", "'topic'", "'uint16'", "'uint32'", "'uint64'", 
+			"'uint8'", "'union'", "'using'", "'valueof'", "'varint'", "'varint16'", 
+			"'varint32'", "'varint64'", "'varsize'", "'varuint'", "'varuint16'", 
+			"'varuint32'", "'varuint64'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "AND", "ASSIGN", "BANG", "COLON", "COMMA", "DIVIDE", "DOT", "EQ", 
+			"GE", "GT", "LBRACE", "LBRACKET", "LE", "LOGICAL_AND", "LOGICAL_OR", 
+			"LPAREN", "LSHIFT", "LT", "MINUS", "MODULO", "MULTIPLY", "NE", "OR", 
+			"PLUS", "QUESTIONMARK", "RBRACE", "RBRACKET", "RPAREN", "SEMICOLON", 
+			"TILDE", "XOR", "ALIGN", "BIT_FIELD", "BOOL", "BITMASK", "CASE", "CHOICE", 
+			"CONST", "DEFAULT", "ENUM", "EXPLICIT", "EXTERN", "FLOAT16", "FLOAT32", 
+			"FLOAT64", "FUNCTION", "IF", "IMPLICIT", "IMPORT", "INDEX", "INSTANTIATE", 
+			"INT_FIELD", "INT16", "INT32", "INT64", "INT8", "LENGTHOF", "NUMBITS", 
+			"ON", "OPTIONAL", "PACKAGE", "PUBSUB", "PUBLISH", "RETURN", "SERVICE", 
+			"SQL", "SQL_DATABASE", "SQL_TABLE", "SQL_VIRTUAL", "SQL_WITHOUT_ROWID", 
+			"STRING", "STRUCTURE", "SUBSCRIBE", "SUBTYPE", "TOPIC", "UINT16", "UINT32", 
+			"UINT64", "UINT8", "UNION", "USING", "VALUEOF", "VARINT", "VARINT16", 
+			"VARINT32", "VARINT64", "VARSIZE", "VARUINT", "VARUINT16", "VARUINT32", 
+			"VARUINT64", "WS", "DOC_COMMENT", "BLOCK_COMMENT", "LINE_COMMENT", "BOOL_LITERAL", 
+			"STRING_LITERAL", "BINARY_LITERAL", "OCTAL_LITERAL", "HEXADECIMAL_LITERAL", 
+			"DOUBLE_LITERAL", "FLOAT_LITERAL", "DECIMAL_LITERAL", "ID", "INVALID_STRING_LITERAL", 
+			"INVALID_TOKEN", "RSHIFT"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "ZserioParser.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public ZserioParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	public static class PackageDeclarationContext extends ParserRuleContext {
+		public TerminalNode EOF() { return getToken(ZserioParser.EOF, 0); }
+		public PackageNameDefinitionContext packageNameDefinition() {
+			return getRuleContext(PackageNameDefinitionContext.class,0);
+		}
+		public List<ImportDeclarationContext> importDeclaration() {
+			return getRuleContexts(ImportDeclarationContext.class);
+		}
+		public ImportDeclarationContext importDeclaration(int i) {
+			return getRuleContext(ImportDeclarationContext.class,i);
+		}
+		public List<LanguageDirectiveContext> languageDirective() {
+			return getRuleContexts(LanguageDirectiveContext.class);
+		}
+		public LanguageDirectiveContext languageDirective(int i) {
+			return getRuleContext(LanguageDirectiveContext.class,i);
+		}
+		public PackageDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_packageDeclaration; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitPackageDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PackageDeclarationContext packageDeclaration() throws RecognitionException {
+		PackageDeclarationContext _localctx = new PackageDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_packageDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(135);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==PACKAGE) {
+				{
+				setState(134);
+				packageNameDefinition();
+				}
+			}
+
+			setState(140);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==IMPORT) {
+				{
+				{
+				setState(137);
+				importDeclaration();
+				}
+				}
+				setState(142);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(146);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (((((_la - 35)) & ~0x3f) == 0 && ((1L << (_la - 35)) & ((1L << (BITMASK - 35)) | (1L << (CHOICE - 35)) | (1L << (CONST - 35)) | (1L << (ENUM - 35)) | (1L << (INSTANTIATE - 35)) | (1L << (PUBSUB - 35)) | (1L << (SERVICE - 35)) | (1L << (SQL_DATABASE - 35)) | (1L << (SQL_TABLE - 35)) | (1L << (STRUCTURE - 35)) | (1L << (SUBTYPE - 35)) | (1L << (UNION - 35)))) != 0)) {
+				{
+				{
+				setState(143);
+				languageDirective();
+				}
+				}
+				setState(148);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(149);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PackageNameDefinitionContext extends ParserRuleContext {
+		public TerminalNode PACKAGE() { return getToken(ZserioParser.PACKAGE, 0); }
+		public List<IdContext> id() {
+			return getRuleContexts(IdContext.class);
+		}
+		public IdContext id(int i) {
+			return getRuleContext(IdContext.class,i);
+		}
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public List<TerminalNode> DOT() { return getTokens(ZserioParser.DOT); }
+		public TerminalNode DOT(int i) {
+			return getToken(ZserioParser.DOT, i);
+		}
+		public PackageNameDefinitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_packageNameDefinition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitPackageNameDefinition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PackageNameDefinitionContext packageNameDefinition() throws RecognitionException {
+		PackageNameDefinitionContext _localctx = new PackageNameDefinitionContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_packageNameDefinition);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(151);
+			match(PACKAGE);
+			setState(152);
+			id();
+			setState(157);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==DOT) {
+				{
+				{
+				setState(153);
+				match(DOT);
+				setState(154);
+				id();
+				}
+				}
+				setState(159);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(160);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ImportDeclarationContext extends ParserRuleContext {
+		public TerminalNode IMPORT() { return getToken(ZserioParser.IMPORT, 0); }
+		public List<IdContext> id() {
+			return getRuleContexts(IdContext.class);
+		}
+		public IdContext id(int i) {
+			return getRuleContext(IdContext.class,i);
+		}
+		public List<TerminalNode> DOT() { return getTokens(ZserioParser.DOT); }
+		public TerminalNode DOT(int i) {
+			return getToken(ZserioParser.DOT, i);
+		}
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public TerminalNode MULTIPLY() { return getToken(ZserioParser.MULTIPLY, 0); }
+		public ImportDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_importDeclaration; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitImportDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ImportDeclarationContext importDeclaration() throws RecognitionException {
+		ImportDeclarationContext _localctx = new ImportDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_importDeclaration);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(162);
+			match(IMPORT);
+			setState(163);
+			id();
+			setState(164);
+			match(DOT);
+			setState(170);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,4,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(165);
+					id();
+					setState(166);
+					match(DOT);
+					}
+					} 
+				}
+				setState(172);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,4,_ctx);
+			}
+			setState(175);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case ID:
+				{
+				setState(173);
+				id();
+				}
+				break;
+			case MULTIPLY:
+				{
+				setState(174);
+				match(MULTIPLY);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(177);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LanguageDirectiveContext extends ParserRuleContext {
+		public ConstDeclarationContext constDeclaration() {
+			return getRuleContext(ConstDeclarationContext.class,0);
+		}
+		public TypeDeclarationContext typeDeclaration() {
+			return getRuleContext(TypeDeclarationContext.class,0);
+		}
+		public LanguageDirectiveContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_languageDirective; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitLanguageDirective(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LanguageDirectiveContext languageDirective() throws RecognitionException {
+		LanguageDirectiveContext _localctx = new LanguageDirectiveContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_languageDirective);
+		try {
+			setState(181);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case CONST:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(179);
+				constDeclaration();
+				}
+				break;
+			case BITMASK:
+			case CHOICE:
+			case ENUM:
+			case INSTANTIATE:
+			case PUBSUB:
+			case SERVICE:
+			case SQL_DATABASE:
+			case SQL_TABLE:
+			case STRUCTURE:
+			case SUBTYPE:
+			case UNION:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(180);
+				typeDeclaration();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeDeclarationContext extends ParserRuleContext {
+		public SubtypeDeclarationContext subtypeDeclaration() {
+			return getRuleContext(SubtypeDeclarationContext.class,0);
+		}
+		public StructureDeclarationContext structureDeclaration() {
+			return getRuleContext(StructureDeclarationContext.class,0);
+		}
+		public ChoiceDeclarationContext choiceDeclaration() {
+			return getRuleContext(ChoiceDeclarationContext.class,0);
+		}
+		public UnionDeclarationContext unionDeclaration() {
+			return getRuleContext(UnionDeclarationContext.class,0);
+		}
+		public EnumDeclarationContext enumDeclaration() {
+			return getRuleContext(EnumDeclarationContext.class,0);
+		}
+		public BitmaskDeclarationContext bitmaskDeclaration() {
+			return getRuleContext(BitmaskDeclarationContext.class,0);
+		}
+		public SqlTableDeclarationContext sqlTableDeclaration() {
+			return getRuleContext(SqlTableDeclarationContext.class,0);
+		}
+		public SqlDatabaseDefinitionContext sqlDatabaseDefinition() {
+			return getRuleContext(SqlDatabaseDefinitionContext.class,0);
+		}
+		public ServiceDefinitionContext serviceDefinition() {
+			return getRuleContext(ServiceDefinitionContext.class,0);
+		}
+		public PubsubDefinitionContext pubsubDefinition() {
+			return getRuleContext(PubsubDefinitionContext.class,0);
+		}
+		public InstantiateDeclarationContext instantiateDeclaration() {
+			return getRuleContext(InstantiateDeclarationContext.class,0);
+		}
+		public TypeDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeDeclaration; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitTypeDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeDeclarationContext typeDeclaration() throws RecognitionException {
+		TypeDeclarationContext _localctx = new TypeDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_typeDeclaration);
+		try {
+			setState(194);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case SUBTYPE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(183);
+				subtypeDeclaration();
+				}
+				break;
+			case STRUCTURE:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(184);
+				structureDeclaration();
+				}
+				break;
+			case CHOICE:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(185);
+				choiceDeclaration();
+				}
+				break;
+			case UNION:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(186);
+				unionDeclaration();
+				}
+				break;
+			case ENUM:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(187);
+				enumDeclaration();
+				}
+				break;
+			case BITMASK:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(188);
+				bitmaskDeclaration();
+				}
+				break;
+			case SQL_TABLE:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(189);
+				sqlTableDeclaration();
+				}
+				break;
+			case SQL_DATABASE:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(190);
+				sqlDatabaseDefinition();
+				}
+				break;
+			case SERVICE:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(191);
+				serviceDefinition();
+				}
+				break;
+			case PUBSUB:
+				enterOuterAlt(_localctx, 10);
+				{
+				setState(192);
+				pubsubDefinition();
+				}
+				break;
+			case INSTANTIATE:
+				enterOuterAlt(_localctx, 11);
+				{
+				setState(193);
+				instantiateDeclaration();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstDeclarationContext extends ParserRuleContext {
+		public TerminalNode CONST() { return getToken(ZserioParser.CONST, 0); }
+		public TypeInstantiationContext typeInstantiation() {
+			return getRuleContext(TypeInstantiationContext.class,0);
+		}
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode ASSIGN() { return getToken(ZserioParser.ASSIGN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public ConstDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constDeclaration; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitConstDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstDeclarationContext constDeclaration() throws RecognitionException {
+		ConstDeclarationContext _localctx = new ConstDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_constDeclaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(196);
+			match(CONST);
+			setState(197);
+			typeInstantiation();
+			setState(198);
+			id();
+			setState(199);
+			match(ASSIGN);
+			setState(200);
+			expression(0);
+			setState(201);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SubtypeDeclarationContext extends ParserRuleContext {
+		public TerminalNode SUBTYPE() { return getToken(ZserioParser.SUBTYPE, 0); }
+		public TypeReferenceContext typeReference() {
+			return getRuleContext(TypeReferenceContext.class,0);
+		}
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public SubtypeDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_subtypeDeclaration; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitSubtypeDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SubtypeDeclarationContext subtypeDeclaration() throws RecognitionException {
+		SubtypeDeclarationContext _localctx = new SubtypeDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_subtypeDeclaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(203);
+			match(SUBTYPE);
+			setState(204);
+			typeReference();
+			setState(205);
+			id();
+			setState(206);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StructureDeclarationContext extends ParserRuleContext {
+		public TerminalNode STRUCTURE() { return getToken(ZserioParser.STRUCTURE, 0); }
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode LBRACE() { return getToken(ZserioParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(ZserioParser.RBRACE, 0); }
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public TemplateParametersContext templateParameters() {
+			return getRuleContext(TemplateParametersContext.class,0);
+		}
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
+		public List<StructureFieldDefinitionContext> structureFieldDefinition() {
+			return getRuleContexts(StructureFieldDefinitionContext.class);
+		}
+		public StructureFieldDefinitionContext structureFieldDefinition(int i) {
+			return getRuleContext(StructureFieldDefinitionContext.class,i);
+		}
+		public List<FunctionDefinitionContext> functionDefinition() {
+			return getRuleContexts(FunctionDefinitionContext.class);
+		}
+		public FunctionDefinitionContext functionDefinition(int i) {
+			return getRuleContext(FunctionDefinitionContext.class,i);
+		}
+		public StructureDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_structureDeclaration; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitStructureDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StructureDeclarationContext structureDeclaration() throws RecognitionException {
+		StructureDeclarationContext _localctx = new StructureDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_structureDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(208);
+			match(STRUCTURE);
+			setState(209);
+			id();
+			setState(211);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LT) {
+				{
+				setState(210);
+				templateParameters();
+				}
+			}
+
+			setState(214);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LPAREN) {
+				{
+				setState(213);
+				typeParameters();
+				}
+			}
+
+			setState(216);
+			match(LBRACE);
+			setState(220);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BANG) | (1L << LPAREN) | (1L << MINUS) | (1L << PLUS) | (1L << TILDE) | (1L << ALIGN) | (1L << BIT_FIELD) | (1L << BOOL) | (1L << EXTERN) | (1L << FLOAT16) | (1L << FLOAT32) | (1L << FLOAT64) | (1L << IMPLICIT) | (1L << INDEX) | (1L << INT_FIELD) | (1L << INT16) | (1L << INT32) | (1L << INT64) | (1L << INT8) | (1L << LENGTHOF) | (1L << NUMBITS) | (1L << OPTIONAL))) != 0) || ((((_la - 71)) & ~0x3f) == 0 && ((1L << (_la - 71)) & ((1L << (STRING - 71)) | (1L << (UINT16 - 71)) | (1L << (UINT32 - 71)) | (1L << (UINT64 - 71)) | (1L << (UINT8 - 71)) | (1L << (VALUEOF - 71)) | (1L << (VARINT - 71)) | (1L << (VARINT16 - 71)) | (1L << (VARINT32 - 71)) | (1L << (VARINT64 - 71)) | (1L << (VARSIZE - 71)) | (1L << (VARUINT - 71)) | (1L << (VARUINT16 - 71)) | (1L << (VARUINT32 - 71)) | (1L << (VARUINT64 - 71)) | (1L << (BOOL_LITERAL - 71)) | (1L << (STRING_LITERAL - 71)) | (1L << (BINARY_LITERAL - 71)) | (1L << (OCTAL_LITERAL - 71)) | (1L << (HEXADECIMAL_LITERAL - 71)) | (1L << (DOUBLE_LITERAL - 71)) | (1L << (FLOAT_LITERAL - 71)) | (1L << (DECIMAL_LITERAL - 71)) | (1L << (ID - 71)))) != 0)) {
+				{
+				{
+				setState(217);
+				structureFieldDefinition();
+				}
+				}
+				setState(222);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(226);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==FUNCTION) {
+				{
+				{
+				setState(223);
+				functionDefinition();
+				}
+				}
+				setState(228);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(229);
+			match(RBRACE);
+			setState(230);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StructureFieldDefinitionContext extends ParserRuleContext {
+		public FieldTypeIdContext fieldTypeId() {
+			return getRuleContext(FieldTypeIdContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public FieldAlignmentContext fieldAlignment() {
+			return getRuleContext(FieldAlignmentContext.class,0);
+		}
+		public FieldOffsetContext fieldOffset() {
+			return getRuleContext(FieldOffsetContext.class,0);
+		}
+		public TerminalNode OPTIONAL() { return getToken(ZserioParser.OPTIONAL, 0); }
+		public FieldInitializerContext fieldInitializer() {
+			return getRuleContext(FieldInitializerContext.class,0);
+		}
+		public FieldOptionalClauseContext fieldOptionalClause() {
+			return getRuleContext(FieldOptionalClauseContext.class,0);
+		}
+		public FieldConstraintContext fieldConstraint() {
+			return getRuleContext(FieldConstraintContext.class,0);
+		}
+		public StructureFieldDefinitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_structureFieldDefinition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitStructureFieldDefinition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StructureFieldDefinitionContext structureFieldDefinition() throws RecognitionException {
+		StructureFieldDefinitionContext _localctx = new StructureFieldDefinitionContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_structureFieldDefinition);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(233);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==ALIGN) {
+				{
+				setState(232);
+				fieldAlignment();
+				}
+			}
+
+			setState(236);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,13,_ctx) ) {
+			case 1:
+				{
+				setState(235);
+				fieldOffset();
+				}
+				break;
+			}
+			setState(239);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==OPTIONAL) {
+				{
+				setState(238);
+				match(OPTIONAL);
+				}
+			}
+
+			setState(241);
+			fieldTypeId();
+			setState(243);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==ASSIGN) {
+				{
+				setState(242);
+				fieldInitializer();
+				}
+			}
+
+			setState(246);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==IF) {
+				{
+				setState(245);
+				fieldOptionalClause();
+				}
+			}
+
+			setState(249);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==COLON) {
+				{
+				setState(248);
+				fieldConstraint();
+				}
+			}
+
+			setState(251);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FieldAlignmentContext extends ParserRuleContext {
+		public TerminalNode ALIGN() { return getToken(ZserioParser.ALIGN, 0); }
+		public TerminalNode LPAREN() { return getToken(ZserioParser.LPAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(ZserioParser.RPAREN, 0); }
+		public TerminalNode COLON() { return getToken(ZserioParser.COLON, 0); }
+		public FieldAlignmentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fieldAlignment; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitFieldAlignment(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FieldAlignmentContext fieldAlignment() throws RecognitionException {
+		FieldAlignmentContext _localctx = new FieldAlignmentContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_fieldAlignment);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(253);
+			match(ALIGN);
+			setState(254);
+			match(LPAREN);
+			setState(255);
+			expression(0);
+			setState(256);
+			match(RPAREN);
+			setState(257);
+			match(COLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FieldOffsetContext extends ParserRuleContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(ZserioParser.COLON, 0); }
+		public FieldOffsetContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fieldOffset; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitFieldOffset(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FieldOffsetContext fieldOffset() throws RecognitionException {
+		FieldOffsetContext _localctx = new FieldOffsetContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_fieldOffset);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(259);
+			expression(0);
+			setState(260);
+			match(COLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FieldTypeIdContext extends ParserRuleContext {
+		public TypeInstantiationContext typeInstantiation() {
+			return getRuleContext(TypeInstantiationContext.class,0);
+		}
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode IMPLICIT() { return getToken(ZserioParser.IMPLICIT, 0); }
+		public FieldArrayRangeContext fieldArrayRange() {
+			return getRuleContext(FieldArrayRangeContext.class,0);
+		}
+		public FieldTypeIdContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fieldTypeId; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitFieldTypeId(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FieldTypeIdContext fieldTypeId() throws RecognitionException {
+		FieldTypeIdContext _localctx = new FieldTypeIdContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_fieldTypeId);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(263);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==IMPLICIT) {
+				{
+				setState(262);
+				match(IMPLICIT);
+				}
+			}
+
+			setState(265);
+			typeInstantiation();
+			setState(266);
+			id();
+			setState(268);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LBRACKET) {
+				{
+				setState(267);
+				fieldArrayRange();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FieldArrayRangeContext extends ParserRuleContext {
+		public TerminalNode LBRACKET() { return getToken(ZserioParser.LBRACKET, 0); }
+		public TerminalNode RBRACKET() { return getToken(ZserioParser.RBRACKET, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public FieldArrayRangeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fieldArrayRange; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitFieldArrayRange(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FieldArrayRangeContext fieldArrayRange() throws RecognitionException {
+		FieldArrayRangeContext _localctx = new FieldArrayRangeContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_fieldArrayRange);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(270);
+			match(LBRACKET);
+			setState(272);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BANG) | (1L << LPAREN) | (1L << MINUS) | (1L << PLUS) | (1L << TILDE) | (1L << INDEX) | (1L << LENGTHOF) | (1L << NUMBITS))) != 0) || ((((_la - 82)) & ~0x3f) == 0 && ((1L << (_la - 82)) & ((1L << (VALUEOF - 82)) | (1L << (BOOL_LITERAL - 82)) | (1L << (STRING_LITERAL - 82)) | (1L << (BINARY_LITERAL - 82)) | (1L << (OCTAL_LITERAL - 82)) | (1L << (HEXADECIMAL_LITERAL - 82)) | (1L << (DOUBLE_LITERAL - 82)) | (1L << (FLOAT_LITERAL - 82)) | (1L << (DECIMAL_LITERAL - 82)) | (1L << (ID - 82)))) != 0)) {
+				{
+				setState(271);
+				expression(0);
+				}
+			}
+
+			setState(274);
+			match(RBRACKET);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FieldInitializerContext extends ParserRuleContext {
+		public TerminalNode ASSIGN() { return getToken(ZserioParser.ASSIGN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public FieldInitializerContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fieldInitializer; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitFieldInitializer(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FieldInitializerContext fieldInitializer() throws RecognitionException {
+		FieldInitializerContext _localctx = new FieldInitializerContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_fieldInitializer);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(276);
+			match(ASSIGN);
+			setState(277);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FieldOptionalClauseContext extends ParserRuleContext {
+		public TerminalNode IF() { return getToken(ZserioParser.IF, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public FieldOptionalClauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fieldOptionalClause; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitFieldOptionalClause(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FieldOptionalClauseContext fieldOptionalClause() throws RecognitionException {
+		FieldOptionalClauseContext _localctx = new FieldOptionalClauseContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_fieldOptionalClause);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(279);
+			match(IF);
+			setState(280);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FieldConstraintContext extends ParserRuleContext {
+		public TerminalNode COLON() { return getToken(ZserioParser.COLON, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public FieldConstraintContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fieldConstraint; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitFieldConstraint(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FieldConstraintContext fieldConstraint() throws RecognitionException {
+		FieldConstraintContext _localctx = new FieldConstraintContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_fieldConstraint);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(282);
+			match(COLON);
+			setState(283);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ChoiceDeclarationContext extends ParserRuleContext {
+		public TerminalNode CHOICE() { return getToken(ZserioParser.CHOICE, 0); }
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
+		public TerminalNode ON() { return getToken(ZserioParser.ON, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode LBRACE() { return getToken(ZserioParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(ZserioParser.RBRACE, 0); }
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public TemplateParametersContext templateParameters() {
+			return getRuleContext(TemplateParametersContext.class,0);
+		}
+		public List<ChoiceCasesContext> choiceCases() {
+			return getRuleContexts(ChoiceCasesContext.class);
+		}
+		public ChoiceCasesContext choiceCases(int i) {
+			return getRuleContext(ChoiceCasesContext.class,i);
+		}
+		public ChoiceDefaultContext choiceDefault() {
+			return getRuleContext(ChoiceDefaultContext.class,0);
+		}
+		public List<FunctionDefinitionContext> functionDefinition() {
+			return getRuleContexts(FunctionDefinitionContext.class);
+		}
+		public FunctionDefinitionContext functionDefinition(int i) {
+			return getRuleContext(FunctionDefinitionContext.class,i);
+		}
+		public ChoiceDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_choiceDeclaration; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitChoiceDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ChoiceDeclarationContext choiceDeclaration() throws RecognitionException {
+		ChoiceDeclarationContext _localctx = new ChoiceDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_choiceDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(285);
+			match(CHOICE);
+			setState(286);
+			id();
+			setState(288);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LT) {
+				{
+				setState(287);
+				templateParameters();
+				}
+			}
+
+			setState(290);
+			typeParameters();
+			setState(291);
+			match(ON);
+			setState(292);
+			expression(0);
+			setState(293);
+			match(LBRACE);
+			setState(297);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==CASE) {
+				{
+				{
+				setState(294);
+				choiceCases();
+				}
+				}
+				setState(299);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(301);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==DEFAULT) {
+				{
+				setState(300);
+				choiceDefault();
+				}
+			}
+
+			setState(306);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==FUNCTION) {
+				{
+				{
+				setState(303);
+				functionDefinition();
+				}
+				}
+				setState(308);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(309);
+			match(RBRACE);
+			setState(310);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ChoiceCasesContext extends ParserRuleContext {
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public List<ChoiceCaseContext> choiceCase() {
+			return getRuleContexts(ChoiceCaseContext.class);
+		}
+		public ChoiceCaseContext choiceCase(int i) {
+			return getRuleContext(ChoiceCaseContext.class,i);
+		}
+		public ChoiceFieldDefinitionContext choiceFieldDefinition() {
+			return getRuleContext(ChoiceFieldDefinitionContext.class,0);
+		}
+		public ChoiceCasesContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_choiceCases; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitChoiceCases(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ChoiceCasesContext choiceCases() throws RecognitionException {
+		ChoiceCasesContext _localctx = new ChoiceCasesContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_choiceCases);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(313); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(312);
+				choiceCase();
+				}
+				}
+				setState(315); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==CASE );
+			setState(318);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BIT_FIELD) | (1L << BOOL) | (1L << EXTERN) | (1L << FLOAT16) | (1L << FLOAT32) | (1L << FLOAT64) | (1L << IMPLICIT) | (1L << INT_FIELD) | (1L << INT16) | (1L << INT32) | (1L << INT64) | (1L << INT8))) != 0) || ((((_la - 71)) & ~0x3f) == 0 && ((1L << (_la - 71)) & ((1L << (STRING - 71)) | (1L << (UINT16 - 71)) | (1L << (UINT32 - 71)) | (1L << (UINT64 - 71)) | (1L << (UINT8 - 71)) | (1L << (VARINT - 71)) | (1L << (VARINT16 - 71)) | (1L << (VARINT32 - 71)) | (1L << (VARINT64 - 71)) | (1L << (VARSIZE - 71)) | (1L << (VARUINT - 71)) | (1L << (VARUINT16 - 71)) | (1L << (VARUINT32 - 71)) | (1L << (VARUINT64 - 71)) | (1L << (ID - 71)))) != 0)) {
+				{
+				setState(317);
+				choiceFieldDefinition();
+				}
+			}
+
+			setState(320);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ChoiceCaseContext extends ParserRuleContext {
+		public TerminalNode CASE() { return getToken(ZserioParser.CASE, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(ZserioParser.COLON, 0); }
+		public ChoiceCaseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_choiceCase; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitChoiceCase(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ChoiceCaseContext choiceCase() throws RecognitionException {
+		ChoiceCaseContext _localctx = new ChoiceCaseContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_choiceCase);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(322);
+			match(CASE);
+			setState(323);
+			expression(0);
+			setState(324);
+			match(COLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ChoiceDefaultContext extends ParserRuleContext {
+		public TerminalNode DEFAULT() { return getToken(ZserioParser.DEFAULT, 0); }
+		public TerminalNode COLON() { return getToken(ZserioParser.COLON, 0); }
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public ChoiceFieldDefinitionContext choiceFieldDefinition() {
+			return getRuleContext(ChoiceFieldDefinitionContext.class,0);
+		}
+		public ChoiceDefaultContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_choiceDefault; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitChoiceDefault(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ChoiceDefaultContext choiceDefault() throws RecognitionException {
+		ChoiceDefaultContext _localctx = new ChoiceDefaultContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_choiceDefault);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(326);
+			match(DEFAULT);
+			setState(327);
+			match(COLON);
+			setState(329);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BIT_FIELD) | (1L << BOOL) | (1L << EXTERN) | (1L << FLOAT16) | (1L << FLOAT32) | (1L << FLOAT64) | (1L << IMPLICIT) | (1L << INT_FIELD) | (1L << INT16) | (1L << INT32) | (1L << INT64) | (1L << INT8))) != 0) || ((((_la - 71)) & ~0x3f) == 0 && ((1L << (_la - 71)) & ((1L << (STRING - 71)) | (1L << (UINT16 - 71)) | (1L << (UINT32 - 71)) | (1L << (UINT64 - 71)) | (1L << (UINT8 - 71)) | (1L << (VARINT - 71)) | (1L << (VARINT16 - 71)) | (1L << (VARINT32 - 71)) | (1L << (VARINT64 - 71)) | (1L << (VARSIZE - 71)) | (1L << (VARUINT - 71)) | (1L << (VARUINT16 - 71)) | (1L << (VARUINT32 - 71)) | (1L << (VARUINT64 - 71)) | (1L << (ID - 71)))) != 0)) {
+				{
+				setState(328);
+				choiceFieldDefinition();
+				}
+			}
+
+			setState(331);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ChoiceFieldDefinitionContext extends ParserRuleContext {
+		public FieldTypeIdContext fieldTypeId() {
+			return getRuleContext(FieldTypeIdContext.class,0);
+		}
+		public FieldConstraintContext fieldConstraint() {
+			return getRuleContext(FieldConstraintContext.class,0);
+		}
+		public ChoiceFieldDefinitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_choiceFieldDefinition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitChoiceFieldDefinition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ChoiceFieldDefinitionContext choiceFieldDefinition() throws RecognitionException {
+		ChoiceFieldDefinitionContext _localctx = new ChoiceFieldDefinitionContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_choiceFieldDefinition);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(333);
+			fieldTypeId();
+			setState(335);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==COLON) {
+				{
+				setState(334);
+				fieldConstraint();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class UnionDeclarationContext extends ParserRuleContext {
+		public TerminalNode UNION() { return getToken(ZserioParser.UNION, 0); }
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode LBRACE() { return getToken(ZserioParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(ZserioParser.RBRACE, 0); }
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public TemplateParametersContext templateParameters() {
+			return getRuleContext(TemplateParametersContext.class,0);
+		}
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
+		public List<UnionFieldDefinitionContext> unionFieldDefinition() {
+			return getRuleContexts(UnionFieldDefinitionContext.class);
+		}
+		public UnionFieldDefinitionContext unionFieldDefinition(int i) {
+			return getRuleContext(UnionFieldDefinitionContext.class,i);
+		}
+		public List<FunctionDefinitionContext> functionDefinition() {
+			return getRuleContexts(FunctionDefinitionContext.class);
+		}
+		public FunctionDefinitionContext functionDefinition(int i) {
+			return getRuleContext(FunctionDefinitionContext.class,i);
+		}
+		public UnionDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unionDeclaration; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitUnionDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final UnionDeclarationContext unionDeclaration() throws RecognitionException {
+		UnionDeclarationContext _localctx = new UnionDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_unionDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(337);
+			match(UNION);
+			setState(338);
+			id();
+			setState(340);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LT) {
+				{
+				setState(339);
+				templateParameters();
+				}
+			}
+
+			setState(343);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LPAREN) {
+				{
+				setState(342);
+				typeParameters();
+				}
+			}
+
+			setState(345);
+			match(LBRACE);
+			setState(349);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BIT_FIELD) | (1L << BOOL) | (1L << EXTERN) | (1L << FLOAT16) | (1L << FLOAT32) | (1L << FLOAT64) | (1L << IMPLICIT) | (1L << INT_FIELD) | (1L << INT16) | (1L << INT32) | (1L << INT64) | (1L << INT8))) != 0) || ((((_la - 71)) & ~0x3f) == 0 && ((1L << (_la - 71)) & ((1L << (STRING - 71)) | (1L << (UINT16 - 71)) | (1L << (UINT32 - 71)) | (1L << (UINT64 - 71)) | (1L << (UINT8 - 71)) | (1L << (VARINT - 71)) | (1L << (VARINT16 - 71)) | (1L << (VARINT32 - 71)) | (1L << (VARINT64 - 71)) | (1L << (VARSIZE - 71)) | (1L << (VARUINT - 71)) | (1L << (VARUINT16 - 71)) | (1L << (VARUINT32 - 71)) | (1L << (VARUINT64 - 71)) | (1L << (ID - 71)))) != 0)) {
+				{
+				{
+				setState(346);
+				unionFieldDefinition();
+				}
+				}
+				setState(351);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(355);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==FUNCTION) {
+				{
+				{
+				setState(352);
+				functionDefinition();
+				}
+				}
+				setState(357);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(358);
+			match(RBRACE);
+			setState(359);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class UnionFieldDefinitionContext extends ParserRuleContext {
+		public ChoiceFieldDefinitionContext choiceFieldDefinition() {
+			return getRuleContext(ChoiceFieldDefinitionContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public UnionFieldDefinitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unionFieldDefinition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitUnionFieldDefinition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final UnionFieldDefinitionContext unionFieldDefinition() throws RecognitionException {
+		UnionFieldDefinitionContext _localctx = new UnionFieldDefinitionContext(_ctx, getState());
+		enterRule(_localctx, 44, RULE_unionFieldDefinition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(361);
+			choiceFieldDefinition();
+			setState(362);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnumDeclarationContext extends ParserRuleContext {
+		public TerminalNode ENUM() { return getToken(ZserioParser.ENUM, 0); }
+		public TypeInstantiationContext typeInstantiation() {
+			return getRuleContext(TypeInstantiationContext.class,0);
+		}
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode LBRACE() { return getToken(ZserioParser.LBRACE, 0); }
+		public List<EnumItemContext> enumItem() {
+			return getRuleContexts(EnumItemContext.class);
+		}
+		public EnumItemContext enumItem(int i) {
+			return getRuleContext(EnumItemContext.class,i);
+		}
+		public TerminalNode RBRACE() { return getToken(ZserioParser.RBRACE, 0); }
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public List<TerminalNode> COMMA() { return getTokens(ZserioParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(ZserioParser.COMMA, i);
+		}
+		public EnumDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enumDeclaration; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitEnumDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EnumDeclarationContext enumDeclaration() throws RecognitionException {
+		EnumDeclarationContext _localctx = new EnumDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_enumDeclaration);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(364);
+			match(ENUM);
+			setState(365);
+			typeInstantiation();
+			setState(366);
+			id();
+			setState(367);
+			match(LBRACE);
+			setState(368);
+			enumItem();
+			setState(373);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,33,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(369);
+					match(COMMA);
+					setState(370);
+					enumItem();
+					}
+					} 
+				}
+				setState(375);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,33,_ctx);
+			}
+			setState(377);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==COMMA) {
+				{
+				setState(376);
+				match(COMMA);
+				}
+			}
+
+			setState(379);
+			match(RBRACE);
+			setState(380);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnumItemContext extends ParserRuleContext {
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode ASSIGN() { return getToken(ZserioParser.ASSIGN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public EnumItemContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enumItem; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitEnumItem(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EnumItemContext enumItem() throws RecognitionException {
+		EnumItemContext _localctx = new EnumItemContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_enumItem);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(382);
+			id();
+			setState(385);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==ASSIGN) {
+				{
+				setState(383);
+				match(ASSIGN);
+				setState(384);
+				expression(0);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BitmaskDeclarationContext extends ParserRuleContext {
+		public TerminalNode BITMASK() { return getToken(ZserioParser.BITMASK, 0); }
+		public TypeInstantiationContext typeInstantiation() {
+			return getRuleContext(TypeInstantiationContext.class,0);
+		}
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode LBRACE() { return getToken(ZserioParser.LBRACE, 0); }
+		public List<BitmaskValueContext> bitmaskValue() {
+			return getRuleContexts(BitmaskValueContext.class);
+		}
+		public BitmaskValueContext bitmaskValue(int i) {
+			return getRuleContext(BitmaskValueContext.class,i);
+		}
+		public TerminalNode RBRACE() { return getToken(ZserioParser.RBRACE, 0); }
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public List<TerminalNode> COMMA() { return getTokens(ZserioParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(ZserioParser.COMMA, i);
+		}
+		public BitmaskDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bitmaskDeclaration; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitBitmaskDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BitmaskDeclarationContext bitmaskDeclaration() throws RecognitionException {
+		BitmaskDeclarationContext _localctx = new BitmaskDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_bitmaskDeclaration);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(387);
+			match(BITMASK);
+			setState(388);
+			typeInstantiation();
+			setState(389);
+			id();
+			setState(390);
+			match(LBRACE);
+			setState(391);
+			bitmaskValue();
+			setState(396);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,36,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(392);
+					match(COMMA);
+					setState(393);
+					bitmaskValue();
+					}
+					} 
+				}
+				setState(398);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,36,_ctx);
+			}
+			setState(400);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==COMMA) {
+				{
+				setState(399);
+				match(COMMA);
+				}
+			}
+
+			setState(402);
+			match(RBRACE);
+			setState(403);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BitmaskValueContext extends ParserRuleContext {
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode ASSIGN() { return getToken(ZserioParser.ASSIGN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public BitmaskValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bitmaskValue; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitBitmaskValue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BitmaskValueContext bitmaskValue() throws RecognitionException {
+		BitmaskValueContext _localctx = new BitmaskValueContext(_ctx, getState());
+		enterRule(_localctx, 52, RULE_bitmaskValue);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(405);
+			id();
+			setState(408);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==ASSIGN) {
+				{
+				setState(406);
+				match(ASSIGN);
+				setState(407);
+				expression(0);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SqlTableDeclarationContext extends ParserRuleContext {
+		public TerminalNode SQL_TABLE() { return getToken(ZserioParser.SQL_TABLE, 0); }
+		public List<IdContext> id() {
+			return getRuleContexts(IdContext.class);
+		}
+		public IdContext id(int i) {
+			return getRuleContext(IdContext.class,i);
+		}
+		public TerminalNode LBRACE() { return getToken(ZserioParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(ZserioParser.RBRACE, 0); }
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public TemplateParametersContext templateParameters() {
+			return getRuleContext(TemplateParametersContext.class,0);
+		}
+		public TerminalNode USING() { return getToken(ZserioParser.USING, 0); }
+		public List<SqlTableFieldDefinitionContext> sqlTableFieldDefinition() {
+			return getRuleContexts(SqlTableFieldDefinitionContext.class);
+		}
+		public SqlTableFieldDefinitionContext sqlTableFieldDefinition(int i) {
+			return getRuleContext(SqlTableFieldDefinitionContext.class,i);
+		}
+		public SqlConstraintDefinitionContext sqlConstraintDefinition() {
+			return getRuleContext(SqlConstraintDefinitionContext.class,0);
+		}
+		public SqlWithoutRowIdContext sqlWithoutRowId() {
+			return getRuleContext(SqlWithoutRowIdContext.class,0);
+		}
+		public SqlTableDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_sqlTableDeclaration; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitSqlTableDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SqlTableDeclarationContext sqlTableDeclaration() throws RecognitionException {
+		SqlTableDeclarationContext _localctx = new SqlTableDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_sqlTableDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(410);
+			match(SQL_TABLE);
+			setState(411);
+			id();
+			setState(413);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LT) {
+				{
+				setState(412);
+				templateParameters();
+				}
+			}
+
+			setState(417);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==USING) {
+				{
+				setState(415);
+				match(USING);
+				setState(416);
+				id();
+				}
+			}
+
+			setState(419);
+			match(LBRACE);
+			setState(423);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BIT_FIELD) | (1L << BOOL) | (1L << EXTERN) | (1L << FLOAT16) | (1L << FLOAT32) | (1L << FLOAT64) | (1L << INT_FIELD) | (1L << INT16) | (1L << INT32) | (1L << INT64) | (1L << INT8))) != 0) || ((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & ((1L << (SQL_VIRTUAL - 69)) | (1L << (STRING - 69)) | (1L << (UINT16 - 69)) | (1L << (UINT32 - 69)) | (1L << (UINT64 - 69)) | (1L << (UINT8 - 69)) | (1L << (VARINT - 69)) | (1L << (VARINT16 - 69)) | (1L << (VARINT32 - 69)) | (1L << (VARINT64 - 69)) | (1L << (VARSIZE - 69)) | (1L << (VARUINT - 69)) | (1L << (VARUINT16 - 69)) | (1L << (VARUINT32 - 69)) | (1L << (VARUINT64 - 69)) | (1L << (ID - 69)))) != 0)) {
+				{
+				{
+				setState(420);
+				sqlTableFieldDefinition();
+				}
+				}
+				setState(425);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(427);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==SQL) {
+				{
+				setState(426);
+				sqlConstraintDefinition();
+				}
+			}
+
+			setState(430);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==SQL_WITHOUT_ROWID) {
+				{
+				setState(429);
+				sqlWithoutRowId();
+				}
+			}
+
+			setState(432);
+			match(RBRACE);
+			setState(433);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SqlTableFieldDefinitionContext extends ParserRuleContext {
+		public TypeInstantiationContext typeInstantiation() {
+			return getRuleContext(TypeInstantiationContext.class,0);
+		}
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public TerminalNode SQL_VIRTUAL() { return getToken(ZserioParser.SQL_VIRTUAL, 0); }
+		public SqlConstraintContext sqlConstraint() {
+			return getRuleContext(SqlConstraintContext.class,0);
+		}
+		public SqlTableFieldDefinitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_sqlTableFieldDefinition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitSqlTableFieldDefinition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SqlTableFieldDefinitionContext sqlTableFieldDefinition() throws RecognitionException {
+		SqlTableFieldDefinitionContext _localctx = new SqlTableFieldDefinitionContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_sqlTableFieldDefinition);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(436);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==SQL_VIRTUAL) {
+				{
+				setState(435);
+				match(SQL_VIRTUAL);
+				}
+			}
+
+			setState(438);
+			typeInstantiation();
+			setState(439);
+			id();
+			setState(441);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==SQL) {
+				{
+				setState(440);
+				sqlConstraint();
+				}
+			}
+
+			setState(443);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SqlConstraintDefinitionContext extends ParserRuleContext {
+		public SqlConstraintContext sqlConstraint() {
+			return getRuleContext(SqlConstraintContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public SqlConstraintDefinitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_sqlConstraintDefinition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitSqlConstraintDefinition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SqlConstraintDefinitionContext sqlConstraintDefinition() throws RecognitionException {
+		SqlConstraintDefinitionContext _localctx = new SqlConstraintDefinitionContext(_ctx, getState());
+		enterRule(_localctx, 58, RULE_sqlConstraintDefinition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(445);
+			sqlConstraint();
+			setState(446);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SqlConstraintContext extends ParserRuleContext {
+		public TerminalNode SQL() { return getToken(ZserioParser.SQL, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public SqlConstraintContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_sqlConstraint; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitSqlConstraint(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SqlConstraintContext sqlConstraint() throws RecognitionException {
+		SqlConstraintContext _localctx = new SqlConstraintContext(_ctx, getState());
+		enterRule(_localctx, 60, RULE_sqlConstraint);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(448);
+			match(SQL);
+			setState(449);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SqlWithoutRowIdContext extends ParserRuleContext {
+		public TerminalNode SQL_WITHOUT_ROWID() { return getToken(ZserioParser.SQL_WITHOUT_ROWID, 0); }
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public SqlWithoutRowIdContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_sqlWithoutRowId; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitSqlWithoutRowId(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SqlWithoutRowIdContext sqlWithoutRowId() throws RecognitionException {
+		SqlWithoutRowIdContext _localctx = new SqlWithoutRowIdContext(_ctx, getState());
+		enterRule(_localctx, 62, RULE_sqlWithoutRowId);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(451);
+			match(SQL_WITHOUT_ROWID);
+			setState(452);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SqlDatabaseDefinitionContext extends ParserRuleContext {
+		public TerminalNode SQL_DATABASE() { return getToken(ZserioParser.SQL_DATABASE, 0); }
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode LBRACE() { return getToken(ZserioParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(ZserioParser.RBRACE, 0); }
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public List<SqlDatabaseFieldDefinitionContext> sqlDatabaseFieldDefinition() {
+			return getRuleContexts(SqlDatabaseFieldDefinitionContext.class);
+		}
+		public SqlDatabaseFieldDefinitionContext sqlDatabaseFieldDefinition(int i) {
+			return getRuleContext(SqlDatabaseFieldDefinitionContext.class,i);
+		}
+		public SqlDatabaseDefinitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_sqlDatabaseDefinition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitSqlDatabaseDefinition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SqlDatabaseDefinitionContext sqlDatabaseDefinition() throws RecognitionException {
+		SqlDatabaseDefinitionContext _localctx = new SqlDatabaseDefinitionContext(_ctx, getState());
+		enterRule(_localctx, 64, RULE_sqlDatabaseDefinition);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(454);
+			match(SQL_DATABASE);
+			setState(455);
+			id();
+			setState(456);
+			match(LBRACE);
+			setState(458); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(457);
+				sqlDatabaseFieldDefinition();
+				}
+				}
+				setState(460); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BIT_FIELD) | (1L << BOOL) | (1L << EXTERN) | (1L << FLOAT16) | (1L << FLOAT32) | (1L << FLOAT64) | (1L << INT_FIELD) | (1L << INT16) | (1L << INT32) | (1L << INT64) | (1L << INT8))) != 0) || ((((_la - 71)) & ~0x3f) == 0 && ((1L << (_la - 71)) & ((1L << (STRING - 71)) | (1L << (UINT16 - 71)) | (1L << (UINT32 - 71)) | (1L << (UINT64 - 71)) | (1L << (UINT8 - 71)) | (1L << (VARINT - 71)) | (1L << (VARINT16 - 71)) | (1L << (VARINT32 - 71)) | (1L << (VARINT64 - 71)) | (1L << (VARSIZE - 71)) | (1L << (VARUINT - 71)) | (1L << (VARUINT16 - 71)) | (1L << (VARUINT32 - 71)) | (1L << (VARUINT64 - 71)) | (1L << (ID - 71)))) != 0) );
+			setState(462);
+			match(RBRACE);
+			setState(463);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SqlDatabaseFieldDefinitionContext extends ParserRuleContext {
+		public TypeInstantiationContext typeInstantiation() {
+			return getRuleContext(TypeInstantiationContext.class,0);
+		}
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public SqlDatabaseFieldDefinitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_sqlDatabaseFieldDefinition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitSqlDatabaseFieldDefinition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SqlDatabaseFieldDefinitionContext sqlDatabaseFieldDefinition() throws RecognitionException {
+		SqlDatabaseFieldDefinitionContext _localctx = new SqlDatabaseFieldDefinitionContext(_ctx, getState());
+		enterRule(_localctx, 66, RULE_sqlDatabaseFieldDefinition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(465);
+			typeInstantiation();
+			setState(466);
+			id();
+			setState(467);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ServiceDefinitionContext extends ParserRuleContext {
+		public TerminalNode SERVICE() { return getToken(ZserioParser.SERVICE, 0); }
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode LBRACE() { return getToken(ZserioParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(ZserioParser.RBRACE, 0); }
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public List<ServiceMethodDefinitionContext> serviceMethodDefinition() {
+			return getRuleContexts(ServiceMethodDefinitionContext.class);
+		}
+		public ServiceMethodDefinitionContext serviceMethodDefinition(int i) {
+			return getRuleContext(ServiceMethodDefinitionContext.class,i);
+		}
+		public ServiceDefinitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_serviceDefinition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitServiceDefinition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ServiceDefinitionContext serviceDefinition() throws RecognitionException {
+		ServiceDefinitionContext _localctx = new ServiceDefinitionContext(_ctx, getState());
+		enterRule(_localctx, 68, RULE_serviceDefinition);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(469);
+			match(SERVICE);
+			setState(470);
+			id();
+			setState(471);
+			match(LBRACE);
+			setState(475);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BIT_FIELD) | (1L << BOOL) | (1L << EXTERN) | (1L << FLOAT16) | (1L << FLOAT32) | (1L << FLOAT64) | (1L << INT_FIELD) | (1L << INT16) | (1L << INT32) | (1L << INT64) | (1L << INT8))) != 0) || ((((_la - 71)) & ~0x3f) == 0 && ((1L << (_la - 71)) & ((1L << (STRING - 71)) | (1L << (UINT16 - 71)) | (1L << (UINT32 - 71)) | (1L << (UINT64 - 71)) | (1L << (UINT8 - 71)) | (1L << (VARINT - 71)) | (1L << (VARINT16 - 71)) | (1L << (VARINT32 - 71)) | (1L << (VARINT64 - 71)) | (1L << (VARSIZE - 71)) | (1L << (VARUINT - 71)) | (1L << (VARUINT16 - 71)) | (1L << (VARUINT32 - 71)) | (1L << (VARUINT64 - 71)) | (1L << (ID - 71)))) != 0)) {
+				{
+				{
+				setState(472);
+				serviceMethodDefinition();
+				}
+				}
+				setState(477);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(478);
+			match(RBRACE);
+			setState(479);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ServiceMethodDefinitionContext extends ParserRuleContext {
+		public List<TypeReferenceContext> typeReference() {
+			return getRuleContexts(TypeReferenceContext.class);
+		}
+		public TypeReferenceContext typeReference(int i) {
+			return getRuleContext(TypeReferenceContext.class,i);
+		}
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode LPAREN() { return getToken(ZserioParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(ZserioParser.RPAREN, 0); }
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public ServiceMethodDefinitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_serviceMethodDefinition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitServiceMethodDefinition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ServiceMethodDefinitionContext serviceMethodDefinition() throws RecognitionException {
+		ServiceMethodDefinitionContext _localctx = new ServiceMethodDefinitionContext(_ctx, getState());
+		enterRule(_localctx, 70, RULE_serviceMethodDefinition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(481);
+			typeReference();
+			setState(482);
+			id();
+			setState(483);
+			match(LPAREN);
+			setState(484);
+			typeReference();
+			setState(485);
+			match(RPAREN);
+			setState(486);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PubsubDefinitionContext extends ParserRuleContext {
+		public TerminalNode PUBSUB() { return getToken(ZserioParser.PUBSUB, 0); }
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode LBRACE() { return getToken(ZserioParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(ZserioParser.RBRACE, 0); }
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public List<PubsubMessageDefinitionContext> pubsubMessageDefinition() {
+			return getRuleContexts(PubsubMessageDefinitionContext.class);
+		}
+		public PubsubMessageDefinitionContext pubsubMessageDefinition(int i) {
+			return getRuleContext(PubsubMessageDefinitionContext.class,i);
+		}
+		public PubsubDefinitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_pubsubDefinition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitPubsubDefinition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PubsubDefinitionContext pubsubDefinition() throws RecognitionException {
+		PubsubDefinitionContext _localctx = new PubsubDefinitionContext(_ctx, getState());
+		enterRule(_localctx, 72, RULE_pubsubDefinition);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(488);
+			match(PUBSUB);
+			setState(489);
+			id();
+			setState(490);
+			match(LBRACE);
+			setState(494);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (((((_la - 63)) & ~0x3f) == 0 && ((1L << (_la - 63)) & ((1L << (PUBLISH - 63)) | (1L << (SUBSCRIBE - 63)) | (1L << (TOPIC - 63)))) != 0)) {
+				{
+				{
+				setState(491);
+				pubsubMessageDefinition();
+				}
+				}
+				setState(496);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(497);
+			match(RBRACE);
+			setState(498);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PubsubMessageDefinitionContext extends ParserRuleContext {
+		public TopicDefinitionContext topicDefinition() {
+			return getRuleContext(TopicDefinitionContext.class,0);
+		}
+		public TypeReferenceContext typeReference() {
+			return getRuleContext(TypeReferenceContext.class,0);
+		}
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public PubsubMessageDefinitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_pubsubMessageDefinition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitPubsubMessageDefinition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PubsubMessageDefinitionContext pubsubMessageDefinition() throws RecognitionException {
+		PubsubMessageDefinitionContext _localctx = new PubsubMessageDefinitionContext(_ctx, getState());
+		enterRule(_localctx, 74, RULE_pubsubMessageDefinition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(500);
+			topicDefinition();
+			setState(501);
+			typeReference();
+			setState(502);
+			id();
+			setState(503);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TopicDefinitionContext extends ParserRuleContext {
+		public TerminalNode TOPIC() { return getToken(ZserioParser.TOPIC, 0); }
+		public TerminalNode LPAREN() { return getToken(ZserioParser.LPAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(ZserioParser.RPAREN, 0); }
+		public TerminalNode PUBLISH() { return getToken(ZserioParser.PUBLISH, 0); }
+		public TerminalNode SUBSCRIBE() { return getToken(ZserioParser.SUBSCRIBE, 0); }
+		public TopicDefinitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_topicDefinition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitTopicDefinition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TopicDefinitionContext topicDefinition() throws RecognitionException {
+		TopicDefinitionContext _localctx = new TopicDefinitionContext(_ctx, getState());
+		enterRule(_localctx, 76, RULE_topicDefinition);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(506);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==PUBLISH || _la==SUBSCRIBE) {
+				{
+				setState(505);
+				_la = _input.LA(1);
+				if ( !(_la==PUBLISH || _la==SUBSCRIBE) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				}
+			}
+
+			setState(508);
+			match(TOPIC);
+			setState(509);
+			match(LPAREN);
+			setState(510);
+			expression(0);
+			setState(511);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctionDefinitionContext extends ParserRuleContext {
+		public TerminalNode FUNCTION() { return getToken(ZserioParser.FUNCTION, 0); }
+		public FunctionTypeContext functionType() {
+			return getRuleContext(FunctionTypeContext.class,0);
+		}
+		public FunctionNameContext functionName() {
+			return getRuleContext(FunctionNameContext.class,0);
+		}
+		public TerminalNode LPAREN() { return getToken(ZserioParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(ZserioParser.RPAREN, 0); }
+		public FunctionBodyContext functionBody() {
+			return getRuleContext(FunctionBodyContext.class,0);
+		}
+		public FunctionDefinitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_functionDefinition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitFunctionDefinition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FunctionDefinitionContext functionDefinition() throws RecognitionException {
+		FunctionDefinitionContext _localctx = new FunctionDefinitionContext(_ctx, getState());
+		enterRule(_localctx, 78, RULE_functionDefinition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(513);
+			match(FUNCTION);
+			setState(514);
+			functionType();
+			setState(515);
+			functionName();
+			setState(516);
+			match(LPAREN);
+			setState(517);
+			match(RPAREN);
+			setState(518);
+			functionBody();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctionTypeContext extends ParserRuleContext {
+		public TypeReferenceContext typeReference() {
+			return getRuleContext(TypeReferenceContext.class,0);
+		}
+		public FunctionTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_functionType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitFunctionType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FunctionTypeContext functionType() throws RecognitionException {
+		FunctionTypeContext _localctx = new FunctionTypeContext(_ctx, getState());
+		enterRule(_localctx, 80, RULE_functionType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(520);
+			typeReference();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctionNameContext extends ParserRuleContext {
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public FunctionNameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_functionName; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitFunctionName(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FunctionNameContext functionName() throws RecognitionException {
+		FunctionNameContext _localctx = new FunctionNameContext(_ctx, getState());
+		enterRule(_localctx, 82, RULE_functionName);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(522);
+			id();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctionBodyContext extends ParserRuleContext {
+		public TerminalNode LBRACE() { return getToken(ZserioParser.LBRACE, 0); }
+		public TerminalNode RETURN() { return getToken(ZserioParser.RETURN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public TerminalNode RBRACE() { return getToken(ZserioParser.RBRACE, 0); }
+		public FunctionBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_functionBody; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitFunctionBody(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FunctionBodyContext functionBody() throws RecognitionException {
+		FunctionBodyContext _localctx = new FunctionBodyContext(_ctx, getState());
+		enterRule(_localctx, 84, RULE_functionBody);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(524);
+			match(LBRACE);
+			setState(525);
+			match(RETURN);
+			setState(526);
+			expression(0);
+			setState(527);
+			match(SEMICOLON);
+			setState(528);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeParametersContext extends ParserRuleContext {
+		public TerminalNode LPAREN() { return getToken(ZserioParser.LPAREN, 0); }
+		public List<ParameterDefinitionContext> parameterDefinition() {
+			return getRuleContexts(ParameterDefinitionContext.class);
+		}
+		public ParameterDefinitionContext parameterDefinition(int i) {
+			return getRuleContext(ParameterDefinitionContext.class,i);
+		}
+		public TerminalNode RPAREN() { return getToken(ZserioParser.RPAREN, 0); }
+		public List<TerminalNode> COMMA() { return getTokens(ZserioParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(ZserioParser.COMMA, i);
+		}
+		public TypeParametersContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeParameters; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitTypeParameters(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeParametersContext typeParameters() throws RecognitionException {
+		TypeParametersContext _localctx = new TypeParametersContext(_ctx, getState());
+		enterRule(_localctx, 86, RULE_typeParameters);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(530);
+			match(LPAREN);
+			setState(531);
+			parameterDefinition();
+			setState(536);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(532);
+				match(COMMA);
+				setState(533);
+				parameterDefinition();
+				}
+				}
+				setState(538);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(539);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ParameterDefinitionContext extends ParserRuleContext {
+		public TypeReferenceContext typeReference() {
+			return getRuleContext(TypeReferenceContext.class,0);
+		}
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public ParameterDefinitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_parameterDefinition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitParameterDefinition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ParameterDefinitionContext parameterDefinition() throws RecognitionException {
+		ParameterDefinitionContext _localctx = new ParameterDefinitionContext(_ctx, getState());
+		enterRule(_localctx, 88, RULE_parameterDefinition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(541);
+			typeReference();
+			setState(542);
+			id();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TemplateParametersContext extends ParserRuleContext {
+		public TerminalNode LT() { return getToken(ZserioParser.LT, 0); }
+		public List<IdContext> id() {
+			return getRuleContexts(IdContext.class);
+		}
+		public IdContext id(int i) {
+			return getRuleContext(IdContext.class,i);
+		}
+		public TerminalNode GT() { return getToken(ZserioParser.GT, 0); }
+		public List<TerminalNode> COMMA() { return getTokens(ZserioParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(ZserioParser.COMMA, i);
+		}
+		public TemplateParametersContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_templateParameters; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitTemplateParameters(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TemplateParametersContext templateParameters() throws RecognitionException {
+		TemplateParametersContext _localctx = new TemplateParametersContext(_ctx, getState());
+		enterRule(_localctx, 90, RULE_templateParameters);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(544);
+			match(LT);
+			setState(545);
+			id();
+			setState(550);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(546);
+				match(COMMA);
+				setState(547);
+				id();
+				}
+				}
+				setState(552);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(553);
+			match(GT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TemplateArgumentsContext extends ParserRuleContext {
+		public TerminalNode LT() { return getToken(ZserioParser.LT, 0); }
+		public List<TemplateArgumentContext> templateArgument() {
+			return getRuleContexts(TemplateArgumentContext.class);
+		}
+		public TemplateArgumentContext templateArgument(int i) {
+			return getRuleContext(TemplateArgumentContext.class,i);
+		}
+		public TerminalNode GT() { return getToken(ZserioParser.GT, 0); }
+		public List<TerminalNode> COMMA() { return getTokens(ZserioParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(ZserioParser.COMMA, i);
+		}
+		public TemplateArgumentsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_templateArguments; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitTemplateArguments(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TemplateArgumentsContext templateArguments() throws RecognitionException {
+		TemplateArgumentsContext _localctx = new TemplateArgumentsContext(_ctx, getState());
+		enterRule(_localctx, 92, RULE_templateArguments);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(555);
+			match(LT);
+			setState(556);
+			templateArgument();
+			setState(561);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(557);
+				match(COMMA);
+				setState(558);
+				templateArgument();
+				}
+				}
+				setState(563);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(564);
+			match(GT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TemplateArgumentContext extends ParserRuleContext {
+		public TypeReferenceContext typeReference() {
+			return getRuleContext(TypeReferenceContext.class,0);
+		}
+		public TemplateArgumentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_templateArgument; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitTemplateArgument(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TemplateArgumentContext templateArgument() throws RecognitionException {
+		TemplateArgumentContext _localctx = new TemplateArgumentContext(_ctx, getState());
+		enterRule(_localctx, 94, RULE_templateArgument);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(566);
+			typeReference();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InstantiateDeclarationContext extends ParserRuleContext {
+		public TerminalNode INSTANTIATE() { return getToken(ZserioParser.INSTANTIATE, 0); }
+		public TypeReferenceContext typeReference() {
+			return getRuleContext(TypeReferenceContext.class,0);
+		}
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(ZserioParser.SEMICOLON, 0); }
+		public InstantiateDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_instantiateDeclaration; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitInstantiateDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InstantiateDeclarationContext instantiateDeclaration() throws RecognitionException {
+		InstantiateDeclarationContext _localctx = new InstantiateDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 96, RULE_instantiateDeclaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(568);
+			match(INSTANTIATE);
+			setState(569);
+			typeReference();
+			setState(570);
+			id();
+			setState(571);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExpressionContext extends ParserRuleContext {
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expression; }
+	 
+		public ExpressionContext() { }
+		public void copyFrom(ExpressionContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class BitwiseXorExpressionContext extends ExpressionContext {
+		public Token operator;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode XOR() { return getToken(ZserioParser.XOR, 0); }
+		public BitwiseXorExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitBitwiseXorExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class DotExpressionContext extends ExpressionContext {
+		public Token operator;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public TerminalNode DOT() { return getToken(ZserioParser.DOT, 0); }
+		public DotExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitDotExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ValueofExpressionContext extends ExpressionContext {
+		public Token operator;
+		public TerminalNode LPAREN() { return getToken(ZserioParser.LPAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(ZserioParser.RPAREN, 0); }
+		public TerminalNode VALUEOF() { return getToken(ZserioParser.VALUEOF, 0); }
+		public ValueofExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitValueofExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ShiftExpressionContext extends ExpressionContext {
+		public Token operator;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public List<TerminalNode> GT() { return getTokens(ZserioParser.GT); }
+		public TerminalNode GT(int i) {
+			return getToken(ZserioParser.GT, i);
+		}
+		public TerminalNode LSHIFT() { return getToken(ZserioParser.LSHIFT, 0); }
+		public ShiftExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitShiftExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ArrayExpressionContext extends ExpressionContext {
+		public Token operator;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode RBRACKET() { return getToken(ZserioParser.RBRACKET, 0); }
+		public TerminalNode LBRACKET() { return getToken(ZserioParser.LBRACKET, 0); }
+		public ArrayExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitArrayExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class NumbitsExpressionContext extends ExpressionContext {
+		public Token operator;
+		public TerminalNode LPAREN() { return getToken(ZserioParser.LPAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(ZserioParser.RPAREN, 0); }
+		public TerminalNode NUMBITS() { return getToken(ZserioParser.NUMBITS, 0); }
+		public NumbitsExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitNumbitsExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class AdditiveExpressionContext extends ExpressionContext {
+		public Token operator;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode PLUS() { return getToken(ZserioParser.PLUS, 0); }
+		public TerminalNode MINUS() { return getToken(ZserioParser.MINUS, 0); }
+		public AdditiveExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitAdditiveExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class RelationalExpressionContext extends ExpressionContext {
+		public Token operator;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode LT() { return getToken(ZserioParser.LT, 0); }
+		public TerminalNode LE() { return getToken(ZserioParser.LE, 0); }
+		public TerminalNode GT() { return getToken(ZserioParser.GT, 0); }
+		public TerminalNode GE() { return getToken(ZserioParser.GE, 0); }
+		public RelationalExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitRelationalExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class LengthofExpressionContext extends ExpressionContext {
+		public Token operator;
+		public TerminalNode LPAREN() { return getToken(ZserioParser.LPAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(ZserioParser.RPAREN, 0); }
+		public TerminalNode LENGTHOF() { return getToken(ZserioParser.LENGTHOF, 0); }
+		public LengthofExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitLengthofExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class IdentifierExpressionContext extends ExpressionContext {
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public IdentifierExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitIdentifierExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class MultiplicativeExpressionContext extends ExpressionContext {
+		public Token operator;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode MULTIPLY() { return getToken(ZserioParser.MULTIPLY, 0); }
+		public TerminalNode DIVIDE() { return getToken(ZserioParser.DIVIDE, 0); }
+		public TerminalNode MODULO() { return getToken(ZserioParser.MODULO, 0); }
+		public MultiplicativeExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitMultiplicativeExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class LogicalOrExpressionContext extends ExpressionContext {
+		public Token operator;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode LOGICAL_OR() { return getToken(ZserioParser.LOGICAL_OR, 0); }
+		public LogicalOrExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitLogicalOrExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class BitwiseOrExpressionContext extends ExpressionContext {
+		public Token operator;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode OR() { return getToken(ZserioParser.OR, 0); }
+		public BitwiseOrExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitBitwiseOrExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ParenthesizedExpressionContext extends ExpressionContext {
+		public Token operator;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(ZserioParser.RPAREN, 0); }
+		public TerminalNode LPAREN() { return getToken(ZserioParser.LPAREN, 0); }
+		public ParenthesizedExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitParenthesizedExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class BitwiseAndExpressionContext extends ExpressionContext {
+		public Token operator;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode AND() { return getToken(ZserioParser.AND, 0); }
+		public BitwiseAndExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitBitwiseAndExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class EqualityExpressionContext extends ExpressionContext {
+		public Token operator;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode EQ() { return getToken(ZserioParser.EQ, 0); }
+		public TerminalNode NE() { return getToken(ZserioParser.NE, 0); }
+		public EqualityExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitEqualityExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class LogicalAndExpressionContext extends ExpressionContext {
+		public Token operator;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode LOGICAL_AND() { return getToken(ZserioParser.LOGICAL_AND, 0); }
+		public LogicalAndExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitLogicalAndExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class FunctionCallExpressionContext extends ExpressionContext {
+		public Token operator;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode LPAREN() { return getToken(ZserioParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(ZserioParser.RPAREN, 0); }
+		public FunctionCallExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitFunctionCallExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class IndexExpressionContext extends ExpressionContext {
+		public TerminalNode INDEX() { return getToken(ZserioParser.INDEX, 0); }
+		public IndexExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitIndexExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class UnaryExpressionContext extends ExpressionContext {
+		public Token operator;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode PLUS() { return getToken(ZserioParser.PLUS, 0); }
+		public TerminalNode MINUS() { return getToken(ZserioParser.MINUS, 0); }
+		public TerminalNode BANG() { return getToken(ZserioParser.BANG, 0); }
+		public TerminalNode TILDE() { return getToken(ZserioParser.TILDE, 0); }
+		public UnaryExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitUnaryExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class LiteralExpressionContext extends ExpressionContext {
+		public LiteralContext literal() {
+			return getRuleContext(LiteralContext.class,0);
+		}
+		public LiteralExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitLiteralExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class TernaryExpressionContext extends ExpressionContext {
+		public Token operator;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode COLON() { return getToken(ZserioParser.COLON, 0); }
+		public TerminalNode QUESTIONMARK() { return getToken(ZserioParser.QUESTIONMARK, 0); }
+		public TernaryExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitTernaryExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExpressionContext expression() throws RecognitionException {
+		return expression(0);
+	}
+
+	private ExpressionContext expression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
+		ExpressionContext _prevctx = _localctx;
+		int _startState = 98;
+		enterRecursionRule(_localctx, 98, RULE_expression, _p);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(598);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case LPAREN:
+				{
+				_localctx = new ParenthesizedExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+
+				setState(574);
+				((ParenthesizedExpressionContext)_localctx).operator = match(LPAREN);
+				setState(575);
+				expression(0);
+				setState(576);
+				match(RPAREN);
+				}
+				break;
+			case LENGTHOF:
+				{
+				_localctx = new LengthofExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(578);
+				((LengthofExpressionContext)_localctx).operator = match(LENGTHOF);
+				setState(579);
+				match(LPAREN);
+				setState(580);
+				expression(0);
+				setState(581);
+				match(RPAREN);
+				}
+				break;
+			case VALUEOF:
+				{
+				_localctx = new ValueofExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(583);
+				((ValueofExpressionContext)_localctx).operator = match(VALUEOF);
+				setState(584);
+				match(LPAREN);
+				setState(585);
+				expression(0);
+				setState(586);
+				match(RPAREN);
+				}
+				break;
+			case NUMBITS:
+				{
+				_localctx = new NumbitsExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(588);
+				((NumbitsExpressionContext)_localctx).operator = match(NUMBITS);
+				setState(589);
+				match(LPAREN);
+				setState(590);
+				expression(0);
+				setState(591);
+				match(RPAREN);
+				}
+				break;
+			case BANG:
+			case MINUS:
+			case PLUS:
+			case TILDE:
+				{
+				_localctx = new UnaryExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(593);
+				((UnaryExpressionContext)_localctx).operator = _input.LT(1);
+				_la = _input.LA(1);
+				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BANG) | (1L << MINUS) | (1L << PLUS) | (1L << TILDE))) != 0)) ) {
+					((UnaryExpressionContext)_localctx).operator = (Token)_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(594);
+				expression(15);
+				}
+				break;
+			case BOOL_LITERAL:
+			case STRING_LITERAL:
+			case BINARY_LITERAL:
+			case OCTAL_LITERAL:
+			case HEXADECIMAL_LITERAL:
+			case DOUBLE_LITERAL:
+			case FLOAT_LITERAL:
+			case DECIMAL_LITERAL:
+				{
+				_localctx = new LiteralExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(595);
+				literal();
+				}
+				break;
+			case INDEX:
+				{
+				_localctx = new IndexExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(596);
+				match(INDEX);
+				}
+				break;
+			case ID:
+				{
+				_localctx = new IdentifierExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(597);
+				id();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(653);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,56,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(651);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,55,_ctx) ) {
+					case 1:
+						{
+						_localctx = new MultiplicativeExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(600);
+						if (!(precpred(_ctx, 14))) throw new FailedPredicateException(this, "precpred(_ctx, 14)");
+						setState(601);
+						((MultiplicativeExpressionContext)_localctx).operator = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << DIVIDE) | (1L << MODULO) | (1L << MULTIPLY))) != 0)) ) {
+							((MultiplicativeExpressionContext)_localctx).operator = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(602);
+						expression(15);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new AdditiveExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(603);
+						if (!(precpred(_ctx, 13))) throw new FailedPredicateException(this, "precpred(_ctx, 13)");
+						setState(604);
+						((AdditiveExpressionContext)_localctx).operator = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !(_la==MINUS || _la==PLUS) ) {
+							((AdditiveExpressionContext)_localctx).operator = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(605);
+						expression(14);
+						}
+						break;
+					case 3:
+						{
+						_localctx = new ShiftExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(606);
+						if (!(precpred(_ctx, 12))) throw new FailedPredicateException(this, "precpred(_ctx, 12)");
+						setState(610);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case LSHIFT:
+							{
+							setState(607);
+							((ShiftExpressionContext)_localctx).operator = match(LSHIFT);
+							}
+							break;
+						case GT:
+							{
+							setState(608);
+							((ShiftExpressionContext)_localctx).operator = match(GT);
+							setState(609);
+							match(GT);
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(612);
+						expression(13);
+						}
+						break;
+					case 4:
+						{
+						_localctx = new RelationalExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(613);
+						if (!(precpred(_ctx, 11))) throw new FailedPredicateException(this, "precpred(_ctx, 11)");
+						setState(614);
+						((RelationalExpressionContext)_localctx).operator = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << GE) | (1L << GT) | (1L << LE) | (1L << LT))) != 0)) ) {
+							((RelationalExpressionContext)_localctx).operator = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(615);
+						expression(12);
+						}
+						break;
+					case 5:
+						{
+						_localctx = new EqualityExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(616);
+						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
+						setState(617);
+						((EqualityExpressionContext)_localctx).operator = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !(_la==EQ || _la==NE) ) {
+							((EqualityExpressionContext)_localctx).operator = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(618);
+						expression(11);
+						}
+						break;
+					case 6:
+						{
+						_localctx = new BitwiseAndExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(619);
+						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
+						setState(620);
+						((BitwiseAndExpressionContext)_localctx).operator = match(AND);
+						setState(621);
+						expression(10);
+						}
+						break;
+					case 7:
+						{
+						_localctx = new BitwiseXorExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(622);
+						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
+						setState(623);
+						((BitwiseXorExpressionContext)_localctx).operator = match(XOR);
+						setState(624);
+						expression(9);
+						}
+						break;
+					case 8:
+						{
+						_localctx = new BitwiseOrExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(625);
+						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
+						setState(626);
+						((BitwiseOrExpressionContext)_localctx).operator = match(OR);
+						setState(627);
+						expression(8);
+						}
+						break;
+					case 9:
+						{
+						_localctx = new LogicalAndExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(628);
+						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
+						setState(629);
+						((LogicalAndExpressionContext)_localctx).operator = match(LOGICAL_AND);
+						setState(630);
+						expression(7);
+						}
+						break;
+					case 10:
+						{
+						_localctx = new LogicalOrExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(631);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						setState(632);
+						((LogicalOrExpressionContext)_localctx).operator = match(LOGICAL_OR);
+						setState(633);
+						expression(6);
+						}
+						break;
+					case 11:
+						{
+						_localctx = new TernaryExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(634);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(635);
+						((TernaryExpressionContext)_localctx).operator = match(QUESTIONMARK);
+						setState(636);
+						expression(0);
+						setState(637);
+						match(COLON);
+						setState(638);
+						expression(4);
+						}
+						break;
+					case 12:
+						{
+						_localctx = new FunctionCallExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(640);
+						if (!(precpred(_ctx, 21))) throw new FailedPredicateException(this, "precpred(_ctx, 21)");
+						setState(641);
+						match(LPAREN);
+						setState(642);
+						((FunctionCallExpressionContext)_localctx).operator = match(RPAREN);
+						}
+						break;
+					case 13:
+						{
+						_localctx = new ArrayExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(643);
+						if (!(precpred(_ctx, 20))) throw new FailedPredicateException(this, "precpred(_ctx, 20)");
+						setState(644);
+						((ArrayExpressionContext)_localctx).operator = match(LBRACKET);
+						setState(645);
+						expression(0);
+						setState(646);
+						match(RBRACKET);
+						}
+						break;
+					case 14:
+						{
+						_localctx = new DotExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(648);
+						if (!(precpred(_ctx, 19))) throw new FailedPredicateException(this, "precpred(_ctx, 19)");
+						setState(649);
+						((DotExpressionContext)_localctx).operator = match(DOT);
+						setState(650);
+						id();
+						}
+						break;
+					}
+					} 
+				}
+				setState(655);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,56,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class LiteralContext extends ParserRuleContext {
+		public TerminalNode BINARY_LITERAL() { return getToken(ZserioParser.BINARY_LITERAL, 0); }
+		public TerminalNode OCTAL_LITERAL() { return getToken(ZserioParser.OCTAL_LITERAL, 0); }
+		public TerminalNode DECIMAL_LITERAL() { return getToken(ZserioParser.DECIMAL_LITERAL, 0); }
+		public TerminalNode HEXADECIMAL_LITERAL() { return getToken(ZserioParser.HEXADECIMAL_LITERAL, 0); }
+		public TerminalNode BOOL_LITERAL() { return getToken(ZserioParser.BOOL_LITERAL, 0); }
+		public TerminalNode STRING_LITERAL() { return getToken(ZserioParser.STRING_LITERAL, 0); }
+		public TerminalNode FLOAT_LITERAL() { return getToken(ZserioParser.FLOAT_LITERAL, 0); }
+		public TerminalNode DOUBLE_LITERAL() { return getToken(ZserioParser.DOUBLE_LITERAL, 0); }
+		public LiteralContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_literal; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitLiteral(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LiteralContext literal() throws RecognitionException {
+		LiteralContext _localctx = new LiteralContext(_ctx, getState());
+		enterRule(_localctx, 100, RULE_literal);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(656);
+			_la = _input.LA(1);
+			if ( !(((((_la - 96)) & ~0x3f) == 0 && ((1L << (_la - 96)) & ((1L << (BOOL_LITERAL - 96)) | (1L << (STRING_LITERAL - 96)) | (1L << (BINARY_LITERAL - 96)) | (1L << (OCTAL_LITERAL - 96)) | (1L << (HEXADECIMAL_LITERAL - 96)) | (1L << (DOUBLE_LITERAL - 96)) | (1L << (FLOAT_LITERAL - 96)) | (1L << (DECIMAL_LITERAL - 96)))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IdContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(ZserioParser.ID, 0); }
+		public IdContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_id; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitId(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final IdContext id() throws RecognitionException {
+		IdContext _localctx = new IdContext(_ctx, getState());
+		enterRule(_localctx, 102, RULE_id);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(658);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeReferenceContext extends ParserRuleContext {
+		public BuiltinTypeContext builtinType() {
+			return getRuleContext(BuiltinTypeContext.class,0);
+		}
+		public QualifiedNameContext qualifiedName() {
+			return getRuleContext(QualifiedNameContext.class,0);
+		}
+		public TemplateArgumentsContext templateArguments() {
+			return getRuleContext(TemplateArgumentsContext.class,0);
+		}
+		public TypeReferenceContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeReference; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitTypeReference(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeReferenceContext typeReference() throws RecognitionException {
+		TypeReferenceContext _localctx = new TypeReferenceContext(_ctx, getState());
+		enterRule(_localctx, 104, RULE_typeReference);
+		try {
+			setState(665);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case BIT_FIELD:
+			case BOOL:
+			case EXTERN:
+			case FLOAT16:
+			case FLOAT32:
+			case FLOAT64:
+			case INT_FIELD:
+			case INT16:
+			case INT32:
+			case INT64:
+			case INT8:
+			case STRING:
+			case UINT16:
+			case UINT32:
+			case UINT64:
+			case UINT8:
+			case VARINT:
+			case VARINT16:
+			case VARINT32:
+			case VARINT64:
+			case VARSIZE:
+			case VARUINT:
+			case VARUINT16:
+			case VARUINT32:
+			case VARUINT64:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(660);
+				builtinType();
+				}
+				break;
+			case ID:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(661);
+				qualifiedName();
+				setState(663);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,57,_ctx) ) {
+				case 1:
+					{
+					setState(662);
+					templateArguments();
+					}
+					break;
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeInstantiationContext extends ParserRuleContext {
+		public TypeReferenceContext typeReference() {
+			return getRuleContext(TypeReferenceContext.class,0);
+		}
+		public TypeArgumentsContext typeArguments() {
+			return getRuleContext(TypeArgumentsContext.class,0);
+		}
+		public DynamicLengthArgumentContext dynamicLengthArgument() {
+			return getRuleContext(DynamicLengthArgumentContext.class,0);
+		}
+		public TypeInstantiationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeInstantiation; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitTypeInstantiation(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeInstantiationContext typeInstantiation() throws RecognitionException {
+		TypeInstantiationContext _localctx = new TypeInstantiationContext(_ctx, getState());
+		enterRule(_localctx, 106, RULE_typeInstantiation);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(667);
+			typeReference();
+			setState(670);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case LPAREN:
+				{
+				setState(668);
+				typeArguments();
+				}
+				break;
+			case LT:
+				{
+				setState(669);
+				dynamicLengthArgument();
+				}
+				break;
+			case ID:
+				break;
+			default:
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BuiltinTypeContext extends ParserRuleContext {
+		public IntTypeContext intType() {
+			return getRuleContext(IntTypeContext.class,0);
+		}
+		public VarintTypeContext varintType() {
+			return getRuleContext(VarintTypeContext.class,0);
+		}
+		public FixedBitFieldTypeContext fixedBitFieldType() {
+			return getRuleContext(FixedBitFieldTypeContext.class,0);
+		}
+		public DynamicBitFieldTypeContext dynamicBitFieldType() {
+			return getRuleContext(DynamicBitFieldTypeContext.class,0);
+		}
+		public BoolTypeContext boolType() {
+			return getRuleContext(BoolTypeContext.class,0);
+		}
+		public StringTypeContext stringType() {
+			return getRuleContext(StringTypeContext.class,0);
+		}
+		public FloatTypeContext floatType() {
+			return getRuleContext(FloatTypeContext.class,0);
+		}
+		public ExternTypeContext externType() {
+			return getRuleContext(ExternTypeContext.class,0);
+		}
+		public BuiltinTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_builtinType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitBuiltinType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BuiltinTypeContext builtinType() throws RecognitionException {
+		BuiltinTypeContext _localctx = new BuiltinTypeContext(_ctx, getState());
+		enterRule(_localctx, 108, RULE_builtinType);
+		try {
+			setState(680);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,60,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(672);
+				intType();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(673);
+				varintType();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(674);
+				fixedBitFieldType();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(675);
+				dynamicBitFieldType();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(676);
+				boolType();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(677);
+				stringType();
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(678);
+				floatType();
+				}
+				break;
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(679);
+				externType();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class QualifiedNameContext extends ParserRuleContext {
+		public List<IdContext> id() {
+			return getRuleContexts(IdContext.class);
+		}
+		public IdContext id(int i) {
+			return getRuleContext(IdContext.class,i);
+		}
+		public List<TerminalNode> DOT() { return getTokens(ZserioParser.DOT); }
+		public TerminalNode DOT(int i) {
+			return getToken(ZserioParser.DOT, i);
+		}
+		public QualifiedNameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_qualifiedName; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitQualifiedName(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final QualifiedNameContext qualifiedName() throws RecognitionException {
+		QualifiedNameContext _localctx = new QualifiedNameContext(_ctx, getState());
+		enterRule(_localctx, 110, RULE_qualifiedName);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(682);
+			id();
+			setState(687);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==DOT) {
+				{
+				{
+				setState(683);
+				match(DOT);
+				setState(684);
+				id();
+				}
+				}
+				setState(689);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeArgumentsContext extends ParserRuleContext {
+		public TerminalNode LPAREN() { return getToken(ZserioParser.LPAREN, 0); }
+		public List<TypeArgumentContext> typeArgument() {
+			return getRuleContexts(TypeArgumentContext.class);
+		}
+		public TypeArgumentContext typeArgument(int i) {
+			return getRuleContext(TypeArgumentContext.class,i);
+		}
+		public TerminalNode RPAREN() { return getToken(ZserioParser.RPAREN, 0); }
+		public List<TerminalNode> COMMA() { return getTokens(ZserioParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(ZserioParser.COMMA, i);
+		}
+		public TypeArgumentsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeArguments; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitTypeArguments(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeArgumentsContext typeArguments() throws RecognitionException {
+		TypeArgumentsContext _localctx = new TypeArgumentsContext(_ctx, getState());
+		enterRule(_localctx, 112, RULE_typeArguments);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(690);
+			match(LPAREN);
+			setState(691);
+			typeArgument();
+			setState(696);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(692);
+				match(COMMA);
+				setState(693);
+				typeArgument();
+				}
+				}
+				setState(698);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(699);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeArgumentContext extends ParserRuleContext {
+		public TerminalNode EXPLICIT() { return getToken(ZserioParser.EXPLICIT, 0); }
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TypeArgumentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeArgument; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitTypeArgument(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeArgumentContext typeArgument() throws RecognitionException {
+		TypeArgumentContext _localctx = new TypeArgumentContext(_ctx, getState());
+		enterRule(_localctx, 114, RULE_typeArgument);
+		try {
+			setState(704);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case EXPLICIT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(701);
+				match(EXPLICIT);
+				setState(702);
+				id();
+				}
+				break;
+			case BANG:
+			case LPAREN:
+			case MINUS:
+			case PLUS:
+			case TILDE:
+			case INDEX:
+			case LENGTHOF:
+			case NUMBITS:
+			case VALUEOF:
+			case BOOL_LITERAL:
+			case STRING_LITERAL:
+			case BINARY_LITERAL:
+			case OCTAL_LITERAL:
+			case HEXADECIMAL_LITERAL:
+			case DOUBLE_LITERAL:
+			case FLOAT_LITERAL:
+			case DECIMAL_LITERAL:
+			case ID:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(703);
+				expression(0);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DynamicLengthArgumentContext extends ParserRuleContext {
+		public TerminalNode LT() { return getToken(ZserioParser.LT, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode GT() { return getToken(ZserioParser.GT, 0); }
+		public DynamicLengthArgumentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_dynamicLengthArgument; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitDynamicLengthArgument(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DynamicLengthArgumentContext dynamicLengthArgument() throws RecognitionException {
+		DynamicLengthArgumentContext _localctx = new DynamicLengthArgumentContext(_ctx, getState());
+		enterRule(_localctx, 116, RULE_dynamicLengthArgument);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(706);
+			match(LT);
+			setState(707);
+			expression(0);
+			setState(708);
+			match(GT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IntTypeContext extends ParserRuleContext {
+		public TerminalNode INT8() { return getToken(ZserioParser.INT8, 0); }
+		public TerminalNode INT16() { return getToken(ZserioParser.INT16, 0); }
+		public TerminalNode INT32() { return getToken(ZserioParser.INT32, 0); }
+		public TerminalNode INT64() { return getToken(ZserioParser.INT64, 0); }
+		public TerminalNode UINT8() { return getToken(ZserioParser.UINT8, 0); }
+		public TerminalNode UINT16() { return getToken(ZserioParser.UINT16, 0); }
+		public TerminalNode UINT32() { return getToken(ZserioParser.UINT32, 0); }
+		public TerminalNode UINT64() { return getToken(ZserioParser.UINT64, 0); }
+		public IntTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_intType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitIntType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final IntTypeContext intType() throws RecognitionException {
+		IntTypeContext _localctx = new IntTypeContext(_ctx, getState());
+		enterRule(_localctx, 118, RULE_intType);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(710);
+			_la = _input.LA(1);
+			if ( !(((((_la - 53)) & ~0x3f) == 0 && ((1L << (_la - 53)) & ((1L << (INT16 - 53)) | (1L << (INT32 - 53)) | (1L << (INT64 - 53)) | (1L << (INT8 - 53)) | (1L << (UINT16 - 53)) | (1L << (UINT32 - 53)) | (1L << (UINT64 - 53)) | (1L << (UINT8 - 53)))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VarintTypeContext extends ParserRuleContext {
+		public TerminalNode VARINT() { return getToken(ZserioParser.VARINT, 0); }
+		public TerminalNode VARINT16() { return getToken(ZserioParser.VARINT16, 0); }
+		public TerminalNode VARINT32() { return getToken(ZserioParser.VARINT32, 0); }
+		public TerminalNode VARINT64() { return getToken(ZserioParser.VARINT64, 0); }
+		public TerminalNode VARSIZE() { return getToken(ZserioParser.VARSIZE, 0); }
+		public TerminalNode VARUINT() { return getToken(ZserioParser.VARUINT, 0); }
+		public TerminalNode VARUINT16() { return getToken(ZserioParser.VARUINT16, 0); }
+		public TerminalNode VARUINT32() { return getToken(ZserioParser.VARUINT32, 0); }
+		public TerminalNode VARUINT64() { return getToken(ZserioParser.VARUINT64, 0); }
+		public VarintTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_varintType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitVarintType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final VarintTypeContext varintType() throws RecognitionException {
+		VarintTypeContext _localctx = new VarintTypeContext(_ctx, getState());
+		enterRule(_localctx, 120, RULE_varintType);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(712);
+			_la = _input.LA(1);
+			if ( !(((((_la - 83)) & ~0x3f) == 0 && ((1L << (_la - 83)) & ((1L << (VARINT - 83)) | (1L << (VARINT16 - 83)) | (1L << (VARINT32 - 83)) | (1L << (VARINT64 - 83)) | (1L << (VARSIZE - 83)) | (1L << (VARUINT - 83)) | (1L << (VARUINT16 - 83)) | (1L << (VARUINT32 - 83)) | (1L << (VARUINT64 - 83)))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FixedBitFieldTypeContext extends ParserRuleContext {
+		public TerminalNode COLON() { return getToken(ZserioParser.COLON, 0); }
+		public TerminalNode DECIMAL_LITERAL() { return getToken(ZserioParser.DECIMAL_LITERAL, 0); }
+		public TerminalNode BIT_FIELD() { return getToken(ZserioParser.BIT_FIELD, 0); }
+		public TerminalNode INT_FIELD() { return getToken(ZserioParser.INT_FIELD, 0); }
+		public FixedBitFieldTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fixedBitFieldType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitFixedBitFieldType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FixedBitFieldTypeContext fixedBitFieldType() throws RecognitionException {
+		FixedBitFieldTypeContext _localctx = new FixedBitFieldTypeContext(_ctx, getState());
+		enterRule(_localctx, 122, RULE_fixedBitFieldType);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(714);
+			_la = _input.LA(1);
+			if ( !(_la==BIT_FIELD || _la==INT_FIELD) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			setState(715);
+			match(COLON);
+			setState(716);
+			match(DECIMAL_LITERAL);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DynamicBitFieldTypeContext extends ParserRuleContext {
+		public TerminalNode BIT_FIELD() { return getToken(ZserioParser.BIT_FIELD, 0); }
+		public TerminalNode INT_FIELD() { return getToken(ZserioParser.INT_FIELD, 0); }
+		public DynamicBitFieldTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_dynamicBitFieldType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitDynamicBitFieldType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DynamicBitFieldTypeContext dynamicBitFieldType() throws RecognitionException {
+		DynamicBitFieldTypeContext _localctx = new DynamicBitFieldTypeContext(_ctx, getState());
+		enterRule(_localctx, 124, RULE_dynamicBitFieldType);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(718);
+			_la = _input.LA(1);
+			if ( !(_la==BIT_FIELD || _la==INT_FIELD) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BoolTypeContext extends ParserRuleContext {
+		public TerminalNode BOOL() { return getToken(ZserioParser.BOOL, 0); }
+		public BoolTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_boolType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitBoolType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BoolTypeContext boolType() throws RecognitionException {
+		BoolTypeContext _localctx = new BoolTypeContext(_ctx, getState());
+		enterRule(_localctx, 126, RULE_boolType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(720);
+			match(BOOL);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StringTypeContext extends ParserRuleContext {
+		public TerminalNode STRING() { return getToken(ZserioParser.STRING, 0); }
+		public StringTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_stringType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitStringType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StringTypeContext stringType() throws RecognitionException {
+		StringTypeContext _localctx = new StringTypeContext(_ctx, getState());
+		enterRule(_localctx, 128, RULE_stringType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(722);
+			match(STRING);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FloatTypeContext extends ParserRuleContext {
+		public TerminalNode FLOAT16() { return getToken(ZserioParser.FLOAT16, 0); }
+		public TerminalNode FLOAT32() { return getToken(ZserioParser.FLOAT32, 0); }
+		public TerminalNode FLOAT64() { return getToken(ZserioParser.FLOAT64, 0); }
+		public FloatTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_floatType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitFloatType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FloatTypeContext floatType() throws RecognitionException {
+		FloatTypeContext _localctx = new FloatTypeContext(_ctx, getState());
+		enterRule(_localctx, 130, RULE_floatType);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(724);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << FLOAT16) | (1L << FLOAT32) | (1L << FLOAT64))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExternTypeContext extends ParserRuleContext {
+		public TerminalNode EXTERN() { return getToken(ZserioParser.EXTERN, 0); }
+		public ExternTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_externType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ZserioParserVisitor ) return ((ZserioParserVisitor<? extends T>)visitor).visitExternType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExternTypeContext externType() throws RecognitionException {
+		ExternTypeContext _localctx = new ExternTypeContext(_ctx, getState());
+		enterRule(_localctx, 132, RULE_externType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(726);
+			match(EXTERN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 49:
+			return expression_sempred((ExpressionContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 14);
+		case 1:
+			return precpred(_ctx, 13);
+		case 2:
+			return precpred(_ctx, 12);
+		case 3:
+			return precpred(_ctx, 11);
+		case 4:
+			return precpred(_ctx, 10);
+		case 5:
+			return precpred(_ctx, 9);
+		case 6:
+			return precpred(_ctx, 8);
+		case 7:
+			return precpred(_ctx, 7);
+		case 8:
+			return precpred(_ctx, 6);
+		case 9:
+			return precpred(_ctx, 5);
+		case 10:
+			return precpred(_ctx, 4);
+		case 11:
+			return precpred(_ctx, 21);
+		case 12:
+			return precpred(_ctx, 20);
+		case 13:
+			return precpred(_ctx, 19);
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3m\u02db\4\2\t\2\4"+
+		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
+		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
+		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\3\2\5\2\u008a\n\2\3\2\7\2\u008d"+
+		"\n\2\f\2\16\2\u0090\13\2\3\2\7\2\u0093\n\2\f\2\16\2\u0096\13\2\3\2\3\2"+
+		"\3\3\3\3\3\3\3\3\7\3\u009e\n\3\f\3\16\3\u00a1\13\3\3\3\3\3\3\4\3\4\3\4"+
+		"\3\4\3\4\3\4\7\4\u00ab\n\4\f\4\16\4\u00ae\13\4\3\4\3\4\5\4\u00b2\n\4\3"+
+		"\4\3\4\3\5\3\5\5\5\u00b8\n\5\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3"+
+		"\6\5\6\u00c5\n\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\t\3"+
+		"\t\3\t\5\t\u00d6\n\t\3\t\5\t\u00d9\n\t\3\t\3\t\7\t\u00dd\n\t\f\t\16\t"+
+		"\u00e0\13\t\3\t\7\t\u00e3\n\t\f\t\16\t\u00e6\13\t\3\t\3\t\3\t\3\n\5\n"+
+		"\u00ec\n\n\3\n\5\n\u00ef\n\n\3\n\5\n\u00f2\n\n\3\n\3\n\5\n\u00f6\n\n\3"+
+		"\n\5\n\u00f9\n\n\3\n\5\n\u00fc\n\n\3\n\3\n\3\13\3\13\3\13\3\13\3\13\3"+
+		"\13\3\f\3\f\3\f\3\r\5\r\u010a\n\r\3\r\3\r\3\r\5\r\u010f\n\r\3\16\3\16"+
+		"\5\16\u0113\n\16\3\16\3\16\3\17\3\17\3\17\3\20\3\20\3\20\3\21\3\21\3\21"+
+		"\3\22\3\22\3\22\5\22\u0123\n\22\3\22\3\22\3\22\3\22\3\22\7\22\u012a\n"+
+		"\22\f\22\16\22\u012d\13\22\3\22\5\22\u0130\n\22\3\22\7\22\u0133\n\22\f"+
+		"\22\16\22\u0136\13\22\3\22\3\22\3\22\3\23\6\23\u013c\n\23\r\23\16\23\u013d"+
+		"\3\23\5\23\u0141\n\23\3\23\3\23\3\24\3\24\3\24\3\24\3\25\3\25\3\25\5\25"+
+		"\u014c\n\25\3\25\3\25\3\26\3\26\5\26\u0152\n\26\3\27\3\27\3\27\5\27\u0157"+
+		"\n\27\3\27\5\27\u015a\n\27\3\27\3\27\7\27\u015e\n\27\f\27\16\27\u0161"+
+		"\13\27\3\27\7\27\u0164\n\27\f\27\16\27\u0167\13\27\3\27\3\27\3\27\3\30"+
+		"\3\30\3\30\3\31\3\31\3\31\3\31\3\31\3\31\3\31\7\31\u0176\n\31\f\31\16"+
+		"\31\u0179\13\31\3\31\5\31\u017c\n\31\3\31\3\31\3\31\3\32\3\32\3\32\5\32"+
+		"\u0184\n\32\3\33\3\33\3\33\3\33\3\33\3\33\3\33\7\33\u018d\n\33\f\33\16"+
+		"\33\u0190\13\33\3\33\5\33\u0193\n\33\3\33\3\33\3\33\3\34\3\34\3\34\5\34"+
+		"\u019b\n\34\3\35\3\35\3\35\5\35\u01a0\n\35\3\35\3\35\5\35\u01a4\n\35\3"+
+		"\35\3\35\7\35\u01a8\n\35\f\35\16\35\u01ab\13\35\3\35\5\35\u01ae\n\35\3"+
+		"\35\5\35\u01b1\n\35\3\35\3\35\3\35\3\36\5\36\u01b7\n\36\3\36\3\36\3\36"+
+		"\5\36\u01bc\n\36\3\36\3\36\3\37\3\37\3\37\3 \3 \3 \3!\3!\3!\3\"\3\"\3"+
+		"\"\3\"\6\"\u01cd\n\"\r\"\16\"\u01ce\3\"\3\"\3\"\3#\3#\3#\3#\3$\3$\3$\3"+
+		"$\7$\u01dc\n$\f$\16$\u01df\13$\3$\3$\3$\3%\3%\3%\3%\3%\3%\3%\3&\3&\3&"+
+		"\3&\7&\u01ef\n&\f&\16&\u01f2\13&\3&\3&\3&\3\'\3\'\3\'\3\'\3\'\3(\5(\u01fd"+
+		"\n(\3(\3(\3(\3(\3(\3)\3)\3)\3)\3)\3)\3)\3*\3*\3+\3+\3,\3,\3,\3,\3,\3,"+
+		"\3-\3-\3-\3-\7-\u0219\n-\f-\16-\u021c\13-\3-\3-\3.\3.\3.\3/\3/\3/\3/\7"+
+		"/\u0227\n/\f/\16/\u022a\13/\3/\3/\3\60\3\60\3\60\3\60\7\60\u0232\n\60"+
+		"\f\60\16\60\u0235\13\60\3\60\3\60\3\61\3\61\3\62\3\62\3\62\3\62\3\62\3"+
+		"\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3"+
+		"\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\5\63\u0259\n\63"+
+		"\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\5\63\u0265\n\63\3\63"+
+		"\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63"+
+		"\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63"+
+		"\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\7\63\u028e\n\63\f\63"+
+		"\16\63\u0291\13\63\3\64\3\64\3\65\3\65\3\66\3\66\3\66\5\66\u029a\n\66"+
+		"\5\66\u029c\n\66\3\67\3\67\3\67\5\67\u02a1\n\67\38\38\38\38\38\38\38\3"+
+		"8\58\u02ab\n8\39\39\39\79\u02b0\n9\f9\169\u02b3\139\3:\3:\3:\3:\7:\u02b9"+
+		"\n:\f:\16:\u02bc\13:\3:\3:\3;\3;\3;\5;\u02c3\n;\3<\3<\3<\3<\3=\3=\3>\3"+
+		">\3?\3?\3?\3?\3@\3@\3A\3A\3B\3B\3C\3C\3D\3D\3D\2\3dE\2\4\6\b\n\f\16\20"+
+		"\22\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\^`bdfhj"+
+		"lnprtvxz|~\u0080\u0082\u0084\u0086\2\r\4\2AAKK\6\2\5\5\25\25\32\32  \4"+
+		"\2\b\b\26\27\4\2\25\25\32\32\5\2\13\f\17\17\24\24\4\2\n\n\30\30\3\2bi"+
+		"\4\2\67:NQ\3\2U]\4\2##\66\66\3\2-/\2\u02f9\2\u0089\3\2\2\2\4\u0099\3\2"+
+		"\2\2\6\u00a4\3\2\2\2\b\u00b7\3\2\2\2\n\u00c4\3\2\2\2\f\u00c6\3\2\2\2\16"+
+		"\u00cd\3\2\2\2\20\u00d2\3\2\2\2\22\u00eb\3\2\2\2\24\u00ff\3\2\2\2\26\u0105"+
+		"\3\2\2\2\30\u0109\3\2\2\2\32\u0110\3\2\2\2\34\u0116\3\2\2\2\36\u0119\3"+
+		"\2\2\2 \u011c\3\2\2\2\"\u011f\3\2\2\2$\u013b\3\2\2\2&\u0144\3\2\2\2(\u0148"+
+		"\3\2\2\2*\u014f\3\2\2\2,\u0153\3\2\2\2.\u016b\3\2\2\2\60\u016e\3\2\2\2"+
+		"\62\u0180\3\2\2\2\64\u0185\3\2\2\2\66\u0197\3\2\2\28\u019c\3\2\2\2:\u01b6"+
+		"\3\2\2\2<\u01bf\3\2\2\2>\u01c2\3\2\2\2@\u01c5\3\2\2\2B\u01c8\3\2\2\2D"+
+		"\u01d3\3\2\2\2F\u01d7\3\2\2\2H\u01e3\3\2\2\2J\u01ea\3\2\2\2L\u01f6\3\2"+
+		"\2\2N\u01fc\3\2\2\2P\u0203\3\2\2\2R\u020a\3\2\2\2T\u020c\3\2\2\2V\u020e"+
+		"\3\2\2\2X\u0214\3\2\2\2Z\u021f\3\2\2\2\\\u0222\3\2\2\2^\u022d\3\2\2\2"+
+		"`\u0238\3\2\2\2b\u023a\3\2\2\2d\u0258\3\2\2\2f\u0292\3\2\2\2h\u0294\3"+
+		"\2\2\2j\u029b\3\2\2\2l\u029d\3\2\2\2n\u02aa\3\2\2\2p\u02ac\3\2\2\2r\u02b4"+
+		"\3\2\2\2t\u02c2\3\2\2\2v\u02c4\3\2\2\2x\u02c8\3\2\2\2z\u02ca\3\2\2\2|"+
+		"\u02cc\3\2\2\2~\u02d0\3\2\2\2\u0080\u02d2\3\2\2\2\u0082\u02d4\3\2\2\2"+
+		"\u0084\u02d6\3\2\2\2\u0086\u02d8\3\2\2\2\u0088\u008a\5\4\3\2\u0089\u0088"+
+		"\3\2\2\2\u0089\u008a\3\2\2\2\u008a\u008e\3\2\2\2\u008b\u008d\5\6\4\2\u008c"+
+		"\u008b\3\2\2\2\u008d\u0090\3\2\2\2\u008e\u008c\3\2\2\2\u008e\u008f\3\2"+
+		"\2\2\u008f\u0094\3\2\2\2\u0090\u008e\3\2\2\2\u0091\u0093\5\b\5\2\u0092"+
+		"\u0091\3\2\2\2\u0093\u0096\3\2\2\2\u0094\u0092\3\2\2\2\u0094\u0095\3\2"+
+		"\2\2\u0095\u0097\3\2\2\2\u0096\u0094\3\2\2\2\u0097\u0098\7\2\2\3\u0098"+
+		"\3\3\2\2\2\u0099\u009a\7?\2\2\u009a\u009f\5h\65\2\u009b\u009c\7\t\2\2"+
+		"\u009c\u009e\5h\65\2\u009d\u009b\3\2\2\2\u009e\u00a1\3\2\2\2\u009f\u009d"+
+		"\3\2\2\2\u009f\u00a0\3\2\2\2\u00a0\u00a2\3\2\2\2\u00a1\u009f\3\2\2\2\u00a2"+
+		"\u00a3\7\37\2\2\u00a3\5\3\2\2\2\u00a4\u00a5\7\63\2\2\u00a5\u00a6\5h\65"+
+		"\2\u00a6\u00ac\7\t\2\2\u00a7\u00a8\5h\65\2\u00a8\u00a9\7\t\2\2\u00a9\u00ab"+
+		"\3\2\2\2\u00aa\u00a7\3\2\2\2\u00ab\u00ae\3\2\2\2\u00ac\u00aa\3\2\2\2\u00ac"+
+		"\u00ad\3\2\2\2\u00ad\u00b1\3\2\2\2\u00ae\u00ac\3\2\2\2\u00af\u00b2\5h"+
+		"\65\2\u00b0\u00b2\7\27\2\2\u00b1\u00af\3\2\2\2\u00b1\u00b0\3\2\2\2\u00b2"+
+		"\u00b3\3\2\2\2\u00b3\u00b4\7\37\2\2\u00b4\7\3\2\2\2\u00b5\u00b8\5\f\7"+
+		"\2\u00b6\u00b8\5\n\6\2\u00b7\u00b5\3\2\2\2\u00b7\u00b6\3\2\2\2\u00b8\t"+
+		"\3\2\2\2\u00b9\u00c5\5\16\b\2\u00ba\u00c5\5\20\t\2\u00bb\u00c5\5\"\22"+
+		"\2\u00bc\u00c5\5,\27\2\u00bd\u00c5\5\60\31\2\u00be\u00c5\5\64\33\2\u00bf"+
+		"\u00c5\58\35\2\u00c0\u00c5\5B\"\2\u00c1\u00c5\5F$\2\u00c2\u00c5\5J&\2"+
+		"\u00c3\u00c5\5b\62\2\u00c4\u00b9\3\2\2\2\u00c4\u00ba\3\2\2\2\u00c4\u00bb"+
+		"\3\2\2\2\u00c4\u00bc\3\2\2\2\u00c4\u00bd\3\2\2\2\u00c4\u00be\3\2\2\2\u00c4"+
+		"\u00bf\3\2\2\2\u00c4\u00c0\3\2\2\2\u00c4\u00c1\3\2\2\2\u00c4\u00c2\3\2"+
+		"\2\2\u00c4\u00c3\3\2\2\2\u00c5\13\3\2\2\2\u00c6\u00c7\7(\2\2\u00c7\u00c8"+
+		"\5l\67\2\u00c8\u00c9\5h\65\2\u00c9\u00ca\7\4\2\2\u00ca\u00cb\5d\63\2\u00cb"+
+		"\u00cc\7\37\2\2\u00cc\r\3\2\2\2\u00cd\u00ce\7L\2\2\u00ce\u00cf\5j\66\2"+
+		"\u00cf\u00d0\5h\65\2\u00d0\u00d1\7\37\2\2\u00d1\17\3\2\2\2\u00d2\u00d3"+
+		"\7J\2\2\u00d3\u00d5\5h\65\2\u00d4\u00d6\5\\/\2\u00d5\u00d4\3\2\2\2\u00d5"+
+		"\u00d6\3\2\2\2\u00d6\u00d8\3\2\2\2\u00d7\u00d9\5X-\2\u00d8\u00d7\3\2\2"+
+		"\2\u00d8\u00d9\3\2\2\2\u00d9\u00da\3\2\2\2\u00da\u00de\7\r\2\2\u00db\u00dd"+
+		"\5\22\n\2\u00dc\u00db\3\2\2\2\u00dd\u00e0\3\2\2\2\u00de\u00dc\3\2\2\2"+
+		"\u00de\u00df\3\2\2\2\u00df\u00e4\3\2\2\2\u00e0\u00de\3\2\2\2\u00e1\u00e3"+
+		"\5P)\2\u00e2\u00e1\3\2\2\2\u00e3\u00e6\3\2\2\2\u00e4\u00e2\3\2\2\2\u00e4"+
+		"\u00e5\3\2\2\2\u00e5\u00e7\3\2\2\2\u00e6\u00e4\3\2\2\2\u00e7\u00e8\7\34"+
+		"\2\2\u00e8\u00e9\7\37\2\2\u00e9\21\3\2\2\2\u00ea\u00ec\5\24\13\2\u00eb"+
+		"\u00ea\3\2\2\2\u00eb\u00ec\3\2\2\2\u00ec\u00ee\3\2\2\2\u00ed\u00ef\5\26"+
+		"\f\2\u00ee\u00ed\3\2\2\2\u00ee\u00ef\3\2\2\2\u00ef\u00f1\3\2\2\2\u00f0"+
+		"\u00f2\7>\2\2\u00f1\u00f0\3\2\2\2\u00f1\u00f2\3\2\2\2\u00f2\u00f3\3\2"+
+		"\2\2\u00f3\u00f5\5\30\r\2\u00f4\u00f6\5\34\17\2\u00f5\u00f4\3\2\2\2\u00f5"+
+		"\u00f6\3\2\2\2\u00f6\u00f8\3\2\2\2\u00f7\u00f9\5\36\20\2\u00f8\u00f7\3"+
+		"\2\2\2\u00f8\u00f9\3\2\2\2\u00f9\u00fb\3\2\2\2\u00fa\u00fc\5 \21\2\u00fb"+
+		"\u00fa\3\2\2\2\u00fb\u00fc\3\2\2\2\u00fc\u00fd\3\2\2\2\u00fd\u00fe\7\37"+
+		"\2\2\u00fe\23\3\2\2\2\u00ff\u0100\7\"\2\2\u0100\u0101\7\22\2\2\u0101\u0102"+
+		"\5d\63\2\u0102\u0103\7\36\2\2\u0103\u0104\7\6\2\2\u0104\25\3\2\2\2\u0105"+
+		"\u0106\5d\63\2\u0106\u0107\7\6\2\2\u0107\27\3\2\2\2\u0108\u010a\7\62\2"+
+		"\2\u0109\u0108\3\2\2\2\u0109\u010a\3\2\2\2\u010a\u010b\3\2\2\2\u010b\u010c"+
+		"\5l\67\2\u010c\u010e\5h\65\2\u010d\u010f\5\32\16\2\u010e\u010d\3\2\2\2"+
+		"\u010e\u010f\3\2\2\2\u010f\31\3\2\2\2\u0110\u0112\7\16\2\2\u0111\u0113"+
+		"\5d\63\2\u0112\u0111\3\2\2\2\u0112\u0113\3\2\2\2\u0113\u0114\3\2\2\2\u0114"+
+		"\u0115\7\35\2\2\u0115\33\3\2\2\2\u0116\u0117\7\4\2\2\u0117\u0118\5d\63"+
+		"\2\u0118\35\3\2\2\2\u0119\u011a\7\61\2\2\u011a\u011b\5d\63\2\u011b\37"+
+		"\3\2\2\2\u011c\u011d\7\6\2\2\u011d\u011e\5d\63\2\u011e!\3\2\2\2\u011f"+
+		"\u0120\7\'\2\2\u0120\u0122\5h\65\2\u0121\u0123\5\\/\2\u0122\u0121\3\2"+
+		"\2\2\u0122\u0123\3\2\2\2\u0123\u0124\3\2\2\2\u0124\u0125\5X-\2\u0125\u0126"+
+		"\7=\2\2\u0126\u0127\5d\63\2\u0127\u012b\7\r\2\2\u0128\u012a\5$\23\2\u0129"+
+		"\u0128\3\2\2\2\u012a\u012d\3\2\2\2\u012b\u0129\3\2\2\2\u012b\u012c\3\2"+
+		"\2\2\u012c\u012f\3\2\2\2\u012d\u012b\3\2\2\2\u012e\u0130\5(\25\2\u012f"+
+		"\u012e\3\2\2\2\u012f\u0130\3\2\2\2\u0130\u0134\3\2\2\2\u0131\u0133\5P"+
+		")\2\u0132\u0131\3\2\2\2\u0133\u0136\3\2\2\2\u0134\u0132\3\2\2\2\u0134"+
+		"\u0135\3\2\2\2\u0135\u0137\3\2\2\2\u0136\u0134\3\2\2\2\u0137\u0138\7\34"+
+		"\2\2\u0138\u0139\7\37\2\2\u0139#\3\2\2\2\u013a\u013c\5&\24\2\u013b\u013a"+
+		"\3\2\2\2\u013c\u013d\3\2\2\2\u013d\u013b\3\2\2\2\u013d\u013e\3\2\2\2\u013e"+
+		"\u0140\3\2\2\2\u013f\u0141\5*\26\2\u0140\u013f\3\2\2\2\u0140\u0141\3\2"+
+		"\2\2\u0141\u0142\3\2\2\2\u0142\u0143\7\37\2\2\u0143%\3\2\2\2\u0144\u0145"+
+		"\7&\2\2\u0145\u0146\5d\63\2\u0146\u0147\7\6\2\2\u0147\'\3\2\2\2\u0148"+
+		"\u0149\7)\2\2\u0149\u014b\7\6\2\2\u014a\u014c\5*\26\2\u014b\u014a\3\2"+
+		"\2\2\u014b\u014c\3\2\2\2\u014c\u014d\3\2\2\2\u014d\u014e\7\37\2\2\u014e"+
+		")\3\2\2\2\u014f\u0151\5\30\r\2\u0150\u0152\5 \21\2\u0151\u0150\3\2\2\2"+
+		"\u0151\u0152\3\2\2\2\u0152+\3\2\2\2\u0153\u0154\7R\2\2\u0154\u0156\5h"+
+		"\65\2\u0155\u0157\5\\/\2\u0156\u0155\3\2\2\2\u0156\u0157\3\2\2\2\u0157"+
+		"\u0159\3\2\2\2\u0158\u015a\5X-\2\u0159\u0158\3\2\2\2\u0159\u015a\3\2\2"+
+		"\2\u015a\u015b\3\2\2\2\u015b\u015f\7\r\2\2\u015c\u015e\5.\30\2\u015d\u015c"+
+		"\3\2\2\2\u015e\u0161\3\2\2\2\u015f\u015d\3\2\2\2\u015f\u0160\3\2\2\2\u0160"+
+		"\u0165\3\2\2\2\u0161\u015f\3\2\2\2\u0162\u0164\5P)\2\u0163\u0162\3\2\2"+
+		"\2\u0164\u0167\3\2\2\2\u0165\u0163\3\2\2\2\u0165\u0166\3\2\2\2\u0166\u0168"+
+		"\3\2\2\2\u0167\u0165\3\2\2\2\u0168\u0169\7\34\2\2\u0169\u016a\7\37\2\2"+
+		"\u016a-\3\2\2\2\u016b\u016c\5*\26\2\u016c\u016d\7\37\2\2\u016d/\3\2\2"+
+		"\2\u016e\u016f\7*\2\2\u016f\u0170\5l\67\2\u0170\u0171\5h\65\2\u0171\u0172"+
+		"\7\r\2\2\u0172\u0177\5\62\32\2\u0173\u0174\7\7\2\2\u0174\u0176\5\62\32"+
+		"\2\u0175\u0173\3\2\2\2\u0176\u0179\3\2\2\2\u0177\u0175\3\2\2\2\u0177\u0178"+
+		"\3\2\2\2\u0178\u017b\3\2\2\2\u0179\u0177\3\2\2\2\u017a\u017c\7\7\2\2\u017b"+
+		"\u017a\3\2\2\2\u017b\u017c\3\2\2\2\u017c\u017d\3\2\2\2\u017d\u017e\7\34"+
+		"\2\2\u017e\u017f\7\37\2\2\u017f\61\3\2\2\2\u0180\u0183\5h\65\2\u0181\u0182"+
+		"\7\4\2\2\u0182\u0184\5d\63\2\u0183\u0181\3\2\2\2\u0183\u0184\3\2\2\2\u0184"+
+		"\63\3\2\2\2\u0185\u0186\7%\2\2\u0186\u0187\5l\67\2\u0187\u0188\5h\65\2"+
+		"\u0188\u0189\7\r\2\2\u0189\u018e\5\66\34\2\u018a\u018b\7\7\2\2\u018b\u018d"+
+		"\5\66\34\2\u018c\u018a\3\2\2\2\u018d\u0190\3\2\2\2\u018e\u018c\3\2\2\2"+
+		"\u018e\u018f\3\2\2\2\u018f\u0192\3\2\2\2\u0190\u018e\3\2\2\2\u0191\u0193"+
+		"\7\7\2\2\u0192\u0191\3\2\2\2\u0192\u0193\3\2\2\2\u0193\u0194\3\2\2\2\u0194"+
+		"\u0195\7\34\2\2\u0195\u0196\7\37\2\2\u0196\65\3\2\2\2\u0197\u019a\5h\65"+
+		"\2\u0198\u0199\7\4\2\2\u0199\u019b\5d\63\2\u019a\u0198\3\2\2\2\u019a\u019b"+
+		"\3\2\2\2\u019b\67\3\2\2\2\u019c\u019d\7F\2\2\u019d\u019f\5h\65\2\u019e"+
+		"\u01a0\5\\/\2\u019f\u019e\3\2\2\2\u019f\u01a0\3\2\2\2\u01a0\u01a3\3\2"+
+		"\2\2\u01a1\u01a2\7S\2\2\u01a2\u01a4\5h\65\2\u01a3\u01a1\3\2\2\2\u01a3"+
+		"\u01a4\3\2\2\2\u01a4\u01a5\3\2\2\2\u01a5\u01a9\7\r\2\2\u01a6\u01a8\5:"+
+		"\36\2\u01a7\u01a6\3\2\2\2\u01a8\u01ab\3\2\2\2\u01a9\u01a7\3\2\2\2\u01a9"+
+		"\u01aa\3\2\2\2\u01aa\u01ad\3\2\2\2\u01ab\u01a9\3\2\2\2\u01ac\u01ae\5<"+
+		"\37\2\u01ad\u01ac\3\2\2\2\u01ad\u01ae\3\2\2\2\u01ae\u01b0\3\2\2\2\u01af"+
+		"\u01b1\5@!\2\u01b0\u01af\3\2\2\2\u01b0\u01b1\3\2\2\2\u01b1\u01b2\3\2\2"+
+		"\2\u01b2\u01b3\7\34\2\2\u01b3\u01b4\7\37\2\2\u01b49\3\2\2\2\u01b5\u01b7"+
+		"\7G\2\2\u01b6\u01b5\3\2\2\2\u01b6\u01b7\3\2\2\2\u01b7\u01b8\3\2\2\2\u01b8"+
+		"\u01b9\5l\67\2\u01b9\u01bb\5h\65\2\u01ba\u01bc\5> \2\u01bb\u01ba\3\2\2"+
+		"\2\u01bb\u01bc\3\2\2\2\u01bc\u01bd\3\2\2\2\u01bd\u01be\7\37\2\2\u01be"+
+		";\3\2\2\2\u01bf\u01c0\5> \2\u01c0\u01c1\7\37\2\2\u01c1=\3\2\2\2\u01c2"+
+		"\u01c3\7D\2\2\u01c3\u01c4\5d\63\2\u01c4?\3\2\2\2\u01c5\u01c6\7H\2\2\u01c6"+
+		"\u01c7\7\37\2\2\u01c7A\3\2\2\2\u01c8\u01c9\7E\2\2\u01c9\u01ca\5h\65\2"+
+		"\u01ca\u01cc\7\r\2\2\u01cb\u01cd\5D#\2\u01cc\u01cb\3\2\2\2\u01cd\u01ce"+
+		"\3\2\2\2\u01ce\u01cc\3\2\2\2\u01ce\u01cf\3\2\2\2\u01cf\u01d0\3\2\2\2\u01d0"+
+		"\u01d1\7\34\2\2\u01d1\u01d2\7\37\2\2\u01d2C\3\2\2\2\u01d3\u01d4\5l\67"+
+		"\2\u01d4\u01d5\5h\65\2\u01d5\u01d6\7\37\2\2\u01d6E\3\2\2\2\u01d7\u01d8"+
+		"\7C\2\2\u01d8\u01d9\5h\65\2\u01d9\u01dd\7\r\2\2\u01da\u01dc\5H%\2\u01db"+
+		"\u01da\3\2\2\2\u01dc\u01df\3\2\2\2\u01dd\u01db\3\2\2\2\u01dd\u01de\3\2"+
+		"\2\2\u01de\u01e0\3\2\2\2\u01df\u01dd\3\2\2\2\u01e0\u01e1\7\34\2\2\u01e1"+
+		"\u01e2\7\37\2\2\u01e2G\3\2\2\2\u01e3\u01e4\5j\66\2\u01e4\u01e5\5h\65\2"+
+		"\u01e5\u01e6\7\22\2\2\u01e6\u01e7\5j\66\2\u01e7\u01e8\7\36\2\2\u01e8\u01e9"+
+		"\7\37\2\2\u01e9I\3\2\2\2\u01ea\u01eb\7@\2\2\u01eb\u01ec\5h\65\2\u01ec"+
+		"\u01f0\7\r\2\2\u01ed\u01ef\5L\'\2\u01ee\u01ed\3\2\2\2\u01ef\u01f2\3\2"+
+		"\2\2\u01f0\u01ee\3\2\2\2\u01f0\u01f1\3\2\2\2\u01f1\u01f3\3\2\2\2\u01f2"+
+		"\u01f0\3\2\2\2\u01f3\u01f4\7\34\2\2\u01f4\u01f5\7\37\2\2\u01f5K\3\2\2"+
+		"\2\u01f6\u01f7\5N(\2\u01f7\u01f8\5j\66\2\u01f8\u01f9\5h\65\2\u01f9\u01fa"+
+		"\7\37\2\2\u01faM\3\2\2\2\u01fb\u01fd\t\2\2\2\u01fc\u01fb\3\2\2\2\u01fc"+
+		"\u01fd\3\2\2\2\u01fd\u01fe\3\2\2\2\u01fe\u01ff\7M\2\2\u01ff\u0200\7\22"+
+		"\2\2\u0200\u0201\5d\63\2\u0201\u0202\7\36\2\2\u0202O\3\2\2\2\u0203\u0204"+
+		"\7\60\2\2\u0204\u0205\5R*\2\u0205\u0206\5T+\2\u0206\u0207\7\22\2\2\u0207"+
+		"\u0208\7\36\2\2\u0208\u0209\5V,\2\u0209Q\3\2\2\2\u020a\u020b\5j\66\2\u020b"+
+		"S\3\2\2\2\u020c\u020d\5h\65\2\u020dU\3\2\2\2\u020e\u020f\7\r\2\2\u020f"+
+		"\u0210\7B\2\2\u0210\u0211\5d\63\2\u0211\u0212\7\37\2\2\u0212\u0213\7\34"+
+		"\2\2\u0213W\3\2\2\2\u0214\u0215\7\22\2\2\u0215\u021a\5Z.\2\u0216\u0217"+
+		"\7\7\2\2\u0217\u0219\5Z.\2\u0218\u0216\3\2\2\2\u0219\u021c\3\2\2\2\u021a"+
+		"\u0218\3\2\2\2\u021a\u021b\3\2\2\2\u021b\u021d\3\2\2\2\u021c\u021a\3\2"+
+		"\2\2\u021d\u021e\7\36\2\2\u021eY\3\2\2\2\u021f\u0220\5j\66\2\u0220\u0221"+
+		"\5h\65\2\u0221[\3\2\2\2\u0222\u0223\7\24\2\2\u0223\u0228\5h\65\2\u0224"+
+		"\u0225\7\7\2\2\u0225\u0227\5h\65\2\u0226\u0224\3\2\2\2\u0227\u022a\3\2"+
+		"\2\2\u0228\u0226\3\2\2\2\u0228\u0229\3\2\2\2\u0229\u022b\3\2\2\2\u022a"+
+		"\u0228\3\2\2\2\u022b\u022c\7\f\2\2\u022c]\3\2\2\2\u022d\u022e\7\24\2\2"+
+		"\u022e\u0233\5`\61\2\u022f\u0230\7\7\2\2\u0230\u0232\5`\61\2\u0231\u022f"+
+		"\3\2\2\2\u0232\u0235\3\2\2\2\u0233\u0231\3\2\2\2\u0233\u0234\3\2\2\2\u0234"+
+		"\u0236\3\2\2\2\u0235\u0233\3\2\2\2\u0236\u0237\7\f\2\2\u0237_\3\2\2\2"+
+		"\u0238\u0239\5j\66\2\u0239a\3\2\2\2\u023a\u023b\7\65\2\2\u023b\u023c\5"+
+		"j\66\2\u023c\u023d\5h\65\2\u023d\u023e\7\37\2\2\u023ec\3\2\2\2\u023f\u0240"+
+		"\b\63\1\2\u0240\u0241\7\22\2\2\u0241\u0242\5d\63\2\u0242\u0243\7\36\2"+
+		"\2\u0243\u0259\3\2\2\2\u0244\u0245\7;\2\2\u0245\u0246\7\22\2\2\u0246\u0247"+
+		"\5d\63\2\u0247\u0248\7\36\2\2\u0248\u0259\3\2\2\2\u0249\u024a\7T\2\2\u024a"+
+		"\u024b\7\22\2\2\u024b\u024c\5d\63\2\u024c\u024d\7\36\2\2\u024d\u0259\3"+
+		"\2\2\2\u024e\u024f\7<\2\2\u024f\u0250\7\22\2\2\u0250\u0251\5d\63\2\u0251"+
+		"\u0252\7\36\2\2\u0252\u0259\3\2\2\2\u0253\u0254\t\3\2\2\u0254\u0259\5"+
+		"d\63\21\u0255\u0259\5f\64\2\u0256\u0259\7\64\2\2\u0257\u0259\5h\65\2\u0258"+
+		"\u023f\3\2\2\2\u0258\u0244\3\2\2\2\u0258\u0249\3\2\2\2\u0258\u024e\3\2"+
+		"\2\2\u0258\u0253\3\2\2\2\u0258\u0255\3\2\2\2\u0258\u0256\3\2\2\2\u0258"+
+		"\u0257\3\2\2\2\u0259\u028f\3\2\2\2\u025a\u025b\f\20\2\2\u025b\u025c\t"+
+		"\4\2\2\u025c\u028e\5d\63\21\u025d\u025e\f\17\2\2\u025e\u025f\t\5\2\2\u025f"+
+		"\u028e\5d\63\20\u0260\u0264\f\16\2\2\u0261\u0265\7\23\2\2\u0262\u0263"+
+		"\7\f\2\2\u0263\u0265\7\f\2\2\u0264\u0261\3\2\2\2\u0264\u0262\3\2\2\2\u0265"+
+		"\u0266\3\2\2\2\u0266\u028e\5d\63\17\u0267\u0268\f\r\2\2\u0268\u0269\t"+
+		"\6\2\2\u0269\u028e\5d\63\16\u026a\u026b\f\f\2\2\u026b\u026c\t\7\2\2\u026c"+
+		"\u028e\5d\63\r\u026d\u026e\f\13\2\2\u026e\u026f\7\3\2\2\u026f\u028e\5"+
+		"d\63\f\u0270\u0271\f\n\2\2\u0271\u0272\7!\2\2\u0272\u028e\5d\63\13\u0273"+
+		"\u0274\f\t\2\2\u0274\u0275\7\31\2\2\u0275\u028e\5d\63\n\u0276\u0277\f"+
+		"\b\2\2\u0277\u0278\7\20\2\2\u0278\u028e\5d\63\t\u0279\u027a\f\7\2\2\u027a"+
+		"\u027b\7\21\2\2\u027b\u028e\5d\63\b\u027c\u027d\f\6\2\2\u027d\u027e\7"+
+		"\33\2\2\u027e\u027f\5d\63\2\u027f\u0280\7\6\2\2\u0280\u0281\5d\63\6\u0281"+
+		"\u028e\3\2\2\2\u0282\u0283\f\27\2\2\u0283\u0284\7\22\2\2\u0284\u028e\7"+
+		"\36\2\2\u0285\u0286\f\26\2\2\u0286\u0287\7\16\2\2\u0287\u0288\5d\63\2"+
+		"\u0288\u0289\7\35\2\2\u0289\u028e\3\2\2\2\u028a\u028b\f\25\2\2\u028b\u028c"+
+		"\7\t\2\2\u028c\u028e\5h\65\2\u028d\u025a\3\2\2\2\u028d\u025d\3\2\2\2\u028d"+
+		"\u0260\3\2\2\2\u028d\u0267\3\2\2\2\u028d\u026a\3\2\2\2\u028d\u026d\3\2"+
+		"\2\2\u028d\u0270\3\2\2\2\u028d\u0273\3\2\2\2\u028d\u0276\3\2\2\2\u028d"+
+		"\u0279\3\2\2\2\u028d\u027c\3\2\2\2\u028d\u0282\3\2\2\2\u028d\u0285\3\2"+
+		"\2\2\u028d\u028a\3\2\2\2\u028e\u0291\3\2\2\2\u028f\u028d\3\2\2\2\u028f"+
+		"\u0290\3\2\2\2\u0290e\3\2\2\2\u0291\u028f\3\2\2\2\u0292\u0293\t\b\2\2"+
+		"\u0293g\3\2\2\2\u0294\u0295\7j\2\2\u0295i\3\2\2\2\u0296\u029c\5n8\2\u0297"+
+		"\u0299\5p9\2\u0298\u029a\5^\60\2\u0299\u0298\3\2\2\2\u0299\u029a\3\2\2"+
+		"\2\u029a\u029c\3\2\2\2\u029b\u0296\3\2\2\2\u029b\u0297\3\2\2\2\u029ck"+
+		"\3\2\2\2\u029d\u02a0\5j\66\2\u029e\u02a1\5r:\2\u029f\u02a1\5v<\2\u02a0"+
+		"\u029e\3\2\2\2\u02a0\u029f\3\2\2\2\u02a0\u02a1\3\2\2\2\u02a1m\3\2\2\2"+
+		"\u02a2\u02ab\5x=\2\u02a3\u02ab\5z>\2\u02a4\u02ab\5|?\2\u02a5\u02ab\5~"+
+		"@\2\u02a6\u02ab\5\u0080A\2\u02a7\u02ab\5\u0082B\2\u02a8\u02ab\5\u0084"+
+		"C\2\u02a9\u02ab\5\u0086D\2\u02aa\u02a2\3\2\2\2\u02aa\u02a3\3\2\2\2\u02aa"+
+		"\u02a4\3\2\2\2\u02aa\u02a5\3\2\2\2\u02aa\u02a6\3\2\2\2\u02aa\u02a7\3\2"+
+		"\2\2\u02aa\u02a8\3\2\2\2\u02aa\u02a9\3\2\2\2\u02abo\3\2\2\2\u02ac\u02b1"+
+		"\5h\65\2\u02ad\u02ae\7\t\2\2\u02ae\u02b0\5h\65\2\u02af\u02ad\3\2\2\2\u02b0"+
+		"\u02b3\3\2\2\2\u02b1\u02af\3\2\2\2\u02b1\u02b2\3\2\2\2\u02b2q\3\2\2\2"+
+		"\u02b3\u02b1\3\2\2\2\u02b4\u02b5\7\22\2\2\u02b5\u02ba\5t;\2\u02b6\u02b7"+
+		"\7\7\2\2\u02b7\u02b9\5t;\2\u02b8\u02b6\3\2\2\2\u02b9\u02bc\3\2\2\2\u02ba"+
+		"\u02b8\3\2\2\2\u02ba\u02bb\3\2\2\2\u02bb\u02bd\3\2\2\2\u02bc\u02ba\3\2"+
+		"\2\2\u02bd\u02be\7\36\2\2\u02bes\3\2\2\2\u02bf\u02c0\7+\2\2\u02c0\u02c3"+
+		"\5h\65\2\u02c1\u02c3\5d\63\2\u02c2\u02bf\3\2\2\2\u02c2\u02c1\3\2\2\2\u02c3"+
+		"u\3\2\2\2\u02c4\u02c5\7\24\2\2\u02c5\u02c6\5d\63\2\u02c6\u02c7\7\f\2\2"+
+		"\u02c7w\3\2\2\2\u02c8\u02c9\t\t\2\2\u02c9y\3\2\2\2\u02ca\u02cb\t\n\2\2"+
+		"\u02cb{\3\2\2\2\u02cc\u02cd\t\13\2\2\u02cd\u02ce\7\6\2\2\u02ce\u02cf\7"+
+		"i\2\2\u02cf}\3\2\2\2\u02d0\u02d1\t\13\2\2\u02d1\177\3\2\2\2\u02d2\u02d3"+
+		"\7$\2\2\u02d3\u0081\3\2\2\2\u02d4\u02d5\7I\2\2\u02d5\u0083\3\2\2\2\u02d6"+
+		"\u02d7\t\f\2\2\u02d7\u0085\3\2\2\2\u02d8\u02d9\7,\2\2\u02d9\u0087\3\2"+
+		"\2\2B\u0089\u008e\u0094\u009f\u00ac\u00b1\u00b7\u00c4\u00d5\u00d8\u00de"+
+		"\u00e4\u00eb\u00ee\u00f1\u00f5\u00f8\u00fb\u0109\u010e\u0112\u0122\u012b"+
+		"\u012f\u0134\u013d\u0140\u014b\u0151\u0156\u0159\u015f\u0165\u0177\u017b"+
+		"\u0183\u018e\u0192\u019a\u019f\u01a3\u01a9\u01ad\u01b0\u01b6\u01bb\u01ce"+
+		"\u01dd\u01f0\u01fc\u021a\u0228\u0233\u0258\u0264\u028d\u028f\u0299\u029b"+
+		"\u02a0\u02aa\u02b1\u02ba\u02c2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
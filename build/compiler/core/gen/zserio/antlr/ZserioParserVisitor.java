@@ -0,0 +1,563 @@
+// Generated from /root/project/compiler/core/antlr/ZserioParser.g4 by ANTLR 4.7.2
+package zserio.antlr;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link ZserioParser}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface ZserioParserVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#packageDeclaration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPackageDeclaration(ZserioParser.PackageDeclarationContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#packageNameDefinition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPackageNameDefinition(ZserioParser.PackageNameDefinitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#importDeclaration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitImportDeclaration(ZserioParser.ImportDeclarationContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#languageDirective}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLanguageDirective(ZserioParser.LanguageDirectiveContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#typeDeclaration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTypeDeclaration(ZserioParser.TypeDeclarationContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#constDeclaration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitConstDeclaration(ZserioParser.ConstDeclarationContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#subtypeDeclaration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSubtypeDeclaration(ZserioParser.SubtypeDeclarationContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#structureDeclaration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitStructureDeclaration(ZserioParser.StructureDeclarationContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#structureFieldDefinition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitStructureFieldDefinition(ZserioParser.StructureFieldDefinitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#fieldAlignment}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFieldAlignment(ZserioParser.FieldAlignmentContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#fieldOffset}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFieldOffset(ZserioParser.FieldOffsetContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#fieldTypeId}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFieldTypeId(ZserioParser.FieldTypeIdContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#fieldArrayRange}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFieldArrayRange(ZserioParser.FieldArrayRangeContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#fieldInitializer}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFieldInitializer(ZserioParser.FieldInitializerContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#fieldOptionalClause}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFieldOptionalClause(ZserioParser.FieldOptionalClauseContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#fieldConstraint}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFieldConstraint(ZserioParser.FieldConstraintContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#choiceDeclaration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitChoiceDeclaration(ZserioParser.ChoiceDeclarationContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#choiceCases}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitChoiceCases(ZserioParser.ChoiceCasesContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#choiceCase}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitChoiceCase(ZserioParser.ChoiceCaseContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#choiceDefault}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitChoiceDefault(ZserioParser.ChoiceDefaultContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#choiceFieldDefinition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitChoiceFieldDefinition(ZserioParser.ChoiceFieldDefinitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#unionDeclaration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitUnionDeclaration(ZserioParser.UnionDeclarationContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#unionFieldDefinition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitUnionFieldDefinition(ZserioParser.UnionFieldDefinitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#enumDeclaration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitEnumDeclaration(ZserioParser.EnumDeclarationContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#enumItem}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitEnumItem(ZserioParser.EnumItemContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#bitmaskDeclaration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBitmaskDeclaration(ZserioParser.BitmaskDeclarationContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#bitmaskValue}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBitmaskValue(ZserioParser.BitmaskValueContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#sqlTableDeclaration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSqlTableDeclaration(ZserioParser.SqlTableDeclarationContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#sqlTableFieldDefinition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSqlTableFieldDefinition(ZserioParser.SqlTableFieldDefinitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#sqlConstraintDefinition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSqlConstraintDefinition(ZserioParser.SqlConstraintDefinitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#sqlConstraint}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSqlConstraint(ZserioParser.SqlConstraintContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#sqlWithoutRowId}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSqlWithoutRowId(ZserioParser.SqlWithoutRowIdContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#sqlDatabaseDefinition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSqlDatabaseDefinition(ZserioParser.SqlDatabaseDefinitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#sqlDatabaseFieldDefinition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSqlDatabaseFieldDefinition(ZserioParser.SqlDatabaseFieldDefinitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#serviceDefinition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitServiceDefinition(ZserioParser.ServiceDefinitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#serviceMethodDefinition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitServiceMethodDefinition(ZserioParser.ServiceMethodDefinitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#pubsubDefinition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPubsubDefinition(ZserioParser.PubsubDefinitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#pubsubMessageDefinition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPubsubMessageDefinition(ZserioParser.PubsubMessageDefinitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#topicDefinition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTopicDefinition(ZserioParser.TopicDefinitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#functionDefinition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFunctionDefinition(ZserioParser.FunctionDefinitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#functionType}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFunctionType(ZserioParser.FunctionTypeContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#functionName}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFunctionName(ZserioParser.FunctionNameContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#functionBody}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFunctionBody(ZserioParser.FunctionBodyContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#typeParameters}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTypeParameters(ZserioParser.TypeParametersContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#parameterDefinition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitParameterDefinition(ZserioParser.ParameterDefinitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#templateParameters}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTemplateParameters(ZserioParser.TemplateParametersContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#templateArguments}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTemplateArguments(ZserioParser.TemplateArgumentsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#templateArgument}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTemplateArgument(ZserioParser.TemplateArgumentContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#instantiateDeclaration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitInstantiateDeclaration(ZserioParser.InstantiateDeclarationContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code bitwiseXorExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBitwiseXorExpression(ZserioParser.BitwiseXorExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code dotExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDotExpression(ZserioParser.DotExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code valueofExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitValueofExpression(ZserioParser.ValueofExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code shiftExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitShiftExpression(ZserioParser.ShiftExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code arrayExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitArrayExpression(ZserioParser.ArrayExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code numbitsExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitNumbitsExpression(ZserioParser.NumbitsExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code additiveExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAdditiveExpression(ZserioParser.AdditiveExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code relationalExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitRelationalExpression(ZserioParser.RelationalExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code lengthofExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLengthofExpression(ZserioParser.LengthofExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code identifierExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIdentifierExpression(ZserioParser.IdentifierExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code multiplicativeExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitMultiplicativeExpression(ZserioParser.MultiplicativeExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code logicalOrExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLogicalOrExpression(ZserioParser.LogicalOrExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code bitwiseOrExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBitwiseOrExpression(ZserioParser.BitwiseOrExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code parenthesizedExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitParenthesizedExpression(ZserioParser.ParenthesizedExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code bitwiseAndExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBitwiseAndExpression(ZserioParser.BitwiseAndExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code equalityExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitEqualityExpression(ZserioParser.EqualityExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code logicalAndExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLogicalAndExpression(ZserioParser.LogicalAndExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code functionCallExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFunctionCallExpression(ZserioParser.FunctionCallExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code indexExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIndexExpression(ZserioParser.IndexExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code unaryExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitUnaryExpression(ZserioParser.UnaryExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code literalExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLiteralExpression(ZserioParser.LiteralExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code ternaryExpression}
+	 * labeled alternative in {@link ZserioParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTernaryExpression(ZserioParser.TernaryExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#literal}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLiteral(ZserioParser.LiteralContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#id}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitId(ZserioParser.IdContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#typeReference}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTypeReference(ZserioParser.TypeReferenceContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#typeInstantiation}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTypeInstantiation(ZserioParser.TypeInstantiationContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#builtinType}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBuiltinType(ZserioParser.BuiltinTypeContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#qualifiedName}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitQualifiedName(ZserioParser.QualifiedNameContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#typeArguments}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTypeArguments(ZserioParser.TypeArgumentsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#typeArgument}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTypeArgument(ZserioParser.TypeArgumentContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#dynamicLengthArgument}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDynamicLengthArgument(ZserioParser.DynamicLengthArgumentContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#intType}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIntType(ZserioParser.IntTypeContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#varintType}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitVarintType(ZserioParser.VarintTypeContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#fixedBitFieldType}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFixedBitFieldType(ZserioParser.FixedBitFieldTypeContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#dynamicBitFieldType}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDynamicBitFieldType(ZserioParser.DynamicBitFieldTypeContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#boolType}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBoolType(ZserioParser.BoolTypeContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#stringType}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitStringType(ZserioParser.StringTypeContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#floatType}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFloatType(ZserioParser.FloatTypeContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ZserioParser#externType}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitExternType(ZserioParser.ExternTypeContext ctx);
+}
\ No newline at end of file
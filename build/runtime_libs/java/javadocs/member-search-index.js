@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"zserio.runtime","c":"SqlStatementCache","l":"acquire(String)","u":"acquire(java.lang.String)"},{"p":"zserio.runtime.validation","c":"ValidationReport","l":"add(ValidationReport)","u":"add(zserio.runtime.validation.ValidationReport)"},{"p":"zserio.runtime.validation","c":"ValidationTasks","l":"add(ValidationReport)","u":"add(zserio.runtime.validation.ValidationReport)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"alignAndCheckOffset(int, BitStreamReader, OffsetChecker)","u":"alignAndCheckOffset(int,zserio.runtime.io.BitStreamReader,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"alignAndCheckOffset(int, BitStreamWriter, OffsetChecker)","u":"alignAndCheckOffset(int,zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"alignTo(int)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"alignTo(int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"alignTo(int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"alignTo(int)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"alignTo(int)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"alignTo(int)"},{"p":"zserio.runtime","c":"BitPositionUtil","l":"alignTo(int, long)","u":"alignTo(int,long)"},{"p":"zserio.runtime.service","c":"AsyncServiceAdapter","l":"AsyncServiceAdapter(ServiceInterface)","u":"%3Cinit%3E(zserio.runtime.service.ServiceInterface)"},{"p":"zserio.runtime.array","c":"Array","l":"AUTO_LENGTH"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"BigIntegerArray(BigInteger[], int, int)","u":"%3Cinit%3E(java.math.BigInteger[],int,int)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"BigIntegerArray(BitStreamReader, int, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"BigIntegerArray(BitStreamReader, int, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"BigIntegerArray(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.io","c":"BitBuffer","l":"BitBuffer(byte[])","u":"%3Cinit%3E(byte[])"},{"p":"zserio.runtime.io","c":"BitBuffer","l":"BitBuffer(byte[], long)","u":"%3Cinit%3E(byte[],long)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"BitBufferArray(BitBuffer[], int, int)","u":"%3Cinit%3E(zserio.runtime.io.BitBuffer[],int,int)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"BitBufferArray(BitStreamReader, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"BitBufferArray(BitStreamReader, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"BitBufferArray(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"bitOffset"},{"p":"zserio.runtime","c":"BitPositionUtil","l":"BitPositionUtil()","u":"%3Cinit%3E()"},{"p":"zserio.runtime","c":"SizeOf","l":"bitSizeOf()"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"bitSizeOf(long)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"bitSizeOf(long)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"bitSizeOf(long)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"bitSizeOf(long)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"bitSizeOf(long)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"bitSizeOf(long)"},{"p":"zserio.runtime.array","c":"StringArray","l":"bitSizeOf(long)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"bitSizeOf(long)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"bitSizeOf(long)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"bitSizeOf(long)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"bitSizeOf(long)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"bitSizeOf(long)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"bitSizeOf(long)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"bitSizeOf(long)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"bitSizeOf(long)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"bitSizeOf(long)"},{"p":"zserio.runtime","c":"SizeOf","l":"bitSizeOf(long)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"bitSizeOf(long, int)","u":"bitSizeOf(long,int)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"bitSizeOf(long, int)","u":"bitSizeOf(long,int)"},{"p":"zserio.runtime.array","c":"IntArray","l":"bitSizeOf(long, int)","u":"bitSizeOf(long,int)"},{"p":"zserio.runtime.array","c":"LongArray","l":"bitSizeOf(long, int)","u":"bitSizeOf(long,int)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"bitSizeOf(long, int)","u":"bitSizeOf(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"bitSizeOf(long, int)","u":"bitSizeOf(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"bitSizeOf(long, int)","u":"bitSizeOf(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"bitSizeOf(long, int)","u":"bitSizeOf(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"bitSizeOf(long, int)","u":"bitSizeOf(long,int)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"bitSizeOfAligned(long)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"bitSizeOfAligned(long)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"bitSizeOfAligned(long)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"bitSizeOfAligned(long)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"bitSizeOfAligned(long)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"bitSizeOfAligned(long)"},{"p":"zserio.runtime.array","c":"StringArray","l":"bitSizeOfAligned(long)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"bitSizeOfAligned(long)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"bitSizeOfAligned(long)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"bitSizeOfAligned(long)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"bitSizeOfAligned(long)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"bitSizeOfAligned(long)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"bitSizeOfAligned(long)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"bitSizeOfAligned(long)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"bitSizeOfAligned(long)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"bitSizeOfAligned(long)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"bitSizeOfAligned(long, int)","u":"bitSizeOfAligned(long,int)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"bitSizeOfAligned(long, int)","u":"bitSizeOfAligned(long,int)"},{"p":"zserio.runtime.array","c":"IntArray","l":"bitSizeOfAligned(long, int)","u":"bitSizeOfAligned(long,int)"},{"p":"zserio.runtime.array","c":"LongArray","l":"bitSizeOfAligned(long, int)","u":"bitSizeOfAligned(long,int)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"bitSizeOfAligned(long, int)","u":"bitSizeOfAligned(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"bitSizeOfAligned(long, int)","u":"bitSizeOfAligned(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"bitSizeOfAligned(long, int)","u":"bitSizeOfAligned(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"bitSizeOfAligned(long, int)","u":"bitSizeOfAligned(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"bitSizeOfAligned(long, int)","u":"bitSizeOfAligned(long,int)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"bitSizeOfAlignedAuto(long)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"bitSizeOfAlignedAuto(long)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"bitSizeOfAlignedAuto(long)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"bitSizeOfAlignedAuto(long)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"bitSizeOfAlignedAuto(long)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"bitSizeOfAlignedAuto(long)"},{"p":"zserio.runtime.array","c":"StringArray","l":"bitSizeOfAlignedAuto(long)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"bitSizeOfAlignedAuto(long)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"bitSizeOfAlignedAuto(long)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"bitSizeOfAlignedAuto(long)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"bitSizeOfAlignedAuto(long)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"bitSizeOfAlignedAuto(long)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"bitSizeOfAlignedAuto(long)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"bitSizeOfAlignedAuto(long)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"bitSizeOfAlignedAuto(long)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"bitSizeOfAlignedAuto(long)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"bitSizeOfAlignedAuto(long, int)","u":"bitSizeOfAlignedAuto(long,int)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"bitSizeOfAlignedAuto(long, int)","u":"bitSizeOfAlignedAuto(long,int)"},{"p":"zserio.runtime.array","c":"IntArray","l":"bitSizeOfAlignedAuto(long, int)","u":"bitSizeOfAlignedAuto(long,int)"},{"p":"zserio.runtime.array","c":"LongArray","l":"bitSizeOfAlignedAuto(long, int)","u":"bitSizeOfAlignedAuto(long,int)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"bitSizeOfAlignedAuto(long, int)","u":"bitSizeOfAlignedAuto(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"bitSizeOfAlignedAuto(long, int)","u":"bitSizeOfAlignedAuto(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"bitSizeOfAlignedAuto(long, int)","u":"bitSizeOfAlignedAuto(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"bitSizeOfAlignedAuto(long, int)","u":"bitSizeOfAlignedAuto(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"bitSizeOfAlignedAuto(long, int)","u":"bitSizeOfAlignedAuto(long,int)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"bitSizeOfAlignedAutoImpl(long, int)","u":"bitSizeOfAlignedAutoImpl(long,int)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"bitSizeOfAlignedImpl(long, int)","u":"bitSizeOfAlignedImpl(long,int)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"bitSizeOfAuto(long)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"bitSizeOfAuto(long)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"bitSizeOfAuto(long)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"bitSizeOfAuto(long)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"bitSizeOfAuto(long)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"bitSizeOfAuto(long)"},{"p":"zserio.runtime.array","c":"StringArray","l":"bitSizeOfAuto(long)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"bitSizeOfAuto(long)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"bitSizeOfAuto(long)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"bitSizeOfAuto(long)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"bitSizeOfAuto(long)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"bitSizeOfAuto(long)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"bitSizeOfAuto(long)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"bitSizeOfAuto(long)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"bitSizeOfAuto(long)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"bitSizeOfAuto(long)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"bitSizeOfAuto(long, int)","u":"bitSizeOfAuto(long,int)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"bitSizeOfAuto(long, int)","u":"bitSizeOfAuto(long,int)"},{"p":"zserio.runtime.array","c":"IntArray","l":"bitSizeOfAuto(long, int)","u":"bitSizeOfAuto(long,int)"},{"p":"zserio.runtime.array","c":"LongArray","l":"bitSizeOfAuto(long, int)","u":"bitSizeOfAuto(long,int)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"bitSizeOfAuto(long, int)","u":"bitSizeOfAuto(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"bitSizeOfAuto(long, int)","u":"bitSizeOfAuto(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"bitSizeOfAuto(long, int)","u":"bitSizeOfAuto(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"bitSizeOfAuto(long, int)","u":"bitSizeOfAuto(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"bitSizeOfAuto(long, int)","u":"bitSizeOfAuto(long,int)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"bitSizeOfAutoImpl(long, int)","u":"bitSizeOfAutoImpl(long,int)"},{"p":"zserio.runtime","c":"BitSizeOfCalculator","l":"BitSizeOfCalculator()","u":"%3Cinit%3E()"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"bitSizeOfImpl(long, int)","u":"bitSizeOfImpl(long,int)"},{"p":"zserio.runtime","c":"BitPositionUtil","l":"bitsToBytes(long)"},{"p":"zserio.runtime.validation","c":"ValidationError.Type","l":"BLOB_COMPARE_FAILED"},{"p":"zserio.runtime.validation","c":"ValidationError.Type","l":"BLOB_PARSE_FAILED"},{"p":"zserio.runtime.array","c":"BoolArray","l":"BoolArray(BitStreamReader, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"BoolArray(BitStreamReader, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"BoolArray(boolean[], int, int)","u":"%3Cinit%3E(boolean[],int,int)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"BoolArray(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"boxedElementAt(int)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"boxedElementAt(int)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"boxedElementAt(int)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"boxedElementAt(int)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"boxedElementAt(int)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"boxedElementAt(int)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"boxedElementAt(int)"},{"p":"zserio.runtime.array","c":"IntArray","l":"boxedElementAt(int)"},{"p":"zserio.runtime.array","c":"LongArray","l":"boxedElementAt(int)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"boxedElementAt(int)"},{"p":"zserio.runtime.array","c":"StringArray","l":"boxedElementAt(int)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"boxedElementAt(int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"buffer"},{"p":"zserio.runtime","c":"BuildInOperators","l":"BuildInOperators()","u":"%3Cinit%3E()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"BYTE_MOD_MASK"},{"p":"zserio.runtime.array","c":"ByteArray","l":"ByteArray(BitStreamReader, int, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"ByteArray(BitStreamReader, int, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"ByteArray(byte[], int, int)","u":"%3Cinit%3E(byte[],int,int)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"ByteArray(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"ByteArrayBitStreamReader(BitBuffer)","u":"%3Cinit%3E(zserio.runtime.io.BitBuffer)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"ByteArrayBitStreamReader(byte[])","u":"%3Cinit%3E(byte[])"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"ByteArrayBitStreamReader(byte[], int, int)","u":"%3Cinit%3E(byte[],int,int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"ByteArrayBitStreamWriter()","u":"%3Cinit%3E()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"ByteArrayBitStreamWriter(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"ByteBufferBitStreamReader(ByteBuffer)","u":"%3Cinit%3E(java.nio.ByteBuffer)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"ByteBufferBitStreamReader(ByteBuffer, long)","u":"%3Cinit%3E(java.nio.ByteBuffer,long)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"ByteBufferBitStreamWriter(ByteBuffer)","u":"%3Cinit%3E(java.nio.ByteBuffer)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"bytePosition"},{"p":"zserio.runtime","c":"BitPositionUtil","l":"bytesToBits(long)"},{"p":"zserio.runtime.service","c":"AsyncServiceAdapter","l":"callMethod(String, byte[], Object)","u":"callMethod(java.lang.String,byte[],java.lang.Object)"},{"p":"zserio.runtime.service","c":"LoopbackServiceTransport","l":"callMethod(String, byte[], Object)","u":"callMethod(java.lang.String,byte[],java.lang.Object)"},{"p":"zserio.runtime.service","c":"ServiceCallBatch","l":"callMethod(String, byte[], Object)","u":"callMethod(java.lang.String,byte[],java.lang.Object)"},{"p":"zserio.runtime.service","c":"ServiceInterface","l":"callMethod(String, byte[], Object)","u":"callMethod(java.lang.String,byte[],java.lang.Object)"},{"p":"zserio.runtime.service","c":"AsyncServiceAdapter","l":"callMethodAsync(String, byte[], Object)","u":"callMethodAsync(java.lang.String,byte[],java.lang.Object)"},{"p":"zserio.runtime.service","c":"AsyncServiceInterface","l":"callMethodAsync(String, byte[], Object)","u":"callMethodAsync(java.lang.String,byte[],java.lang.Object)"},{"p":"zserio.runtime.service","c":"LoopbackServiceTransport","l":"callMethodAsync(String, byte[], Object)","u":"callMethodAsync(java.lang.String,byte[],java.lang.Object)"},{"p":"zserio.runtime.service","c":"ServiceCallBatch","l":"callMethodAsync(String, byte[], Object)","u":"callMethodAsync(java.lang.String,byte[],java.lang.Object)"},{"p":"zserio.runtime.service","c":"AsyncServiceInterface","l":"callMethodsAsync(List<ServiceCall>)","u":"callMethodsAsync(java.util.List)"},{"p":"zserio.runtime.service","c":"LoopbackServiceTransport","l":"callMethodsAsync(List<ServiceCall>)","u":"callMethodsAsync(java.util.List)"},{"p":"zserio.runtime.array","c":"OffsetChecker","l":"checkOffset(int, long)","u":"checkOffset(int,long)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"checkRange(int)"},{"p":"zserio.runtime.array","c":"ElementCache","l":"clear()"},{"p":"zserio.runtime.io","c":"StringCache","l":"clear()"},{"p":"zserio.runtime.io","c":"BitStreamCloseable","l":"close()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"close()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"close()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"close()"},{"p":"zserio.runtime.io","c":"FileBitStreamWriter","l":"close()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"close()"},{"p":"zserio.runtime","c":"SqlDatabaseReader","l":"close()"},{"p":"zserio.runtime","c":"SqlStatementCache","l":"close()"},{"p":"zserio.runtime.validation","c":"ValidationError.Type","l":"COLUMN_MISSING"},{"p":"zserio.runtime.validation","c":"ValidationError.Type","l":"COLUMN_SUPERFLUOUS"},{"p":"zserio.runtime.validation","c":"ValidationSqliteUtil.ColumnDescription","l":"ColumnDescription(String, String, boolean, boolean)","u":"%3Cinit%3E(java.lang.String,java.lang.String,boolean,boolean)"},{"p":"zserio.runtime","c":"SqlDatabaseReader","l":"connection()"},{"p":"zserio.runtime","c":"ConstraintError","l":"ConstraintError()","u":"%3Cinit%3E()"},{"p":"zserio.runtime","c":"ConstraintError","l":"ConstraintError(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"zserio.runtime","c":"ConstraintError","l":"ConstraintError(String, Throwable)","u":"%3Cinit%3E(java.lang.String,java.lang.Throwable)"},{"p":"zserio.runtime","c":"ConstraintError","l":"ConstraintError(Throwable)","u":"%3Cinit%3E(java.lang.Throwable)"},{"p":"zserio.runtime","c":"VarSizeUtil","l":"convertBitBufferSizeToInt(long)"},{"p":"zserio.runtime","c":"FloatUtil","l":"convertDoubleToLong(double)"},{"p":"zserio.runtime","c":"FloatUtil","l":"convertFloatToInt(float)"},{"p":"zserio.runtime","c":"FloatUtil","l":"convertFloatToShort(float)"},{"p":"zserio.runtime","c":"FloatUtil","l":"convertIntToFloat(int)"},{"p":"zserio.runtime","c":"FloatUtil","l":"convertLongToDouble(long)"},{"p":"zserio.runtime","c":"FloatUtil","l":"convertShortToFloat(short)"},{"p":"zserio.runtime.array","c":"ElementFactory","l":"create(BitStreamReader, int)","u":"create(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime","c":"SqlDatabase","l":"createSchema()"},{"p":"zserio.runtime","c":"SqlDatabase","l":"createSchema(Set<String>)","u":"createSchema(java.util.Set)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"data"},{"p":"zserio.runtime.array","c":"IntArray","l":"data"},{"p":"zserio.runtime.array","c":"LongArray","l":"data"},{"p":"zserio.runtime.array","c":"ShortArray","l":"data"},{"p":"zserio.runtime.array","c":"StringArray","l":"data"},{"p":"zserio.runtime","c":"SqlLazyBlob","l":"decode(BitStreamReader)","u":"decode(zserio.runtime.io.BitStreamReader)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"DEFAULT_CHARSET_NAME"},{"p":"zserio.runtime","c":"SqlDatabase","l":"deleteSchema()"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"elementAt(int)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"elementAt(int)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"elementAt(int)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"elementAt(int)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"elementAt(int)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"elementAt(int)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"elementAt(int)"},{"p":"zserio.runtime.array","c":"IntArray","l":"elementAt(int)"},{"p":"zserio.runtime.array","c":"LongArray","l":"elementAt(int)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"elementAt(int)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"elementAt(int)"},{"p":"zserio.runtime.array","c":"StringArray","l":"elementAt(int)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"elementAt(int)"},{"p":"zserio.runtime.array","c":"ElementCache","l":"ElementCache(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"IntArray","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"LongArray","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"StringArray","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.io","c":"BitBuffer","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"zserio.runtime.service","c":"AsyncServiceUtil","l":"failedFuture(Throwable)","u":"failedFuture(java.lang.Throwable)"},{"p":"zserio.runtime.io","c":"FileBitStreamReader","l":"FileBitStreamReader(File)","u":"%3Cinit%3E(java.io.File)"},{"p":"zserio.runtime.io","c":"FileBitStreamReader","l":"FileBitStreamReader(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"zserio.runtime.io","c":"FileBitStreamWriter","l":"FileBitStreamWriter(File)","u":"%3Cinit%3E(java.io.File)"},{"p":"zserio.runtime.io","c":"FileBitStreamWriter","l":"FileBitStreamWriter(File, int)","u":"%3Cinit%3E(java.io.File,int)"},{"p":"zserio.runtime.io","c":"FileBitStreamWriter","l":"FileBitStreamWriter(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"Float16Array(BitStreamReader, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"Float16Array(BitStreamReader, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"Float16Array(float[], int, int)","u":"%3Cinit%3E(float[],int,int)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"Float16Array(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"Float32Array(BitStreamReader, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"Float32Array(BitStreamReader, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"Float32Array(float[], int, int)","u":"%3Cinit%3E(float[],int,int)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"Float32Array(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"Float64Array(BitStreamReader, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"Float64Array(BitStreamReader, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"Float64Array(double[], int, int)","u":"%3Cinit%3E(double[],int,int)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"Float64Array(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime","c":"FloatUtil","l":"FloatUtil()","u":"%3Cinit%3E()"},{"p":"zserio.runtime.service","c":"ServiceCallBatch","l":"flush()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"flushBits()"},{"p":"zserio.runtime","c":"SqlLazyBlob","l":"get()"},{"p":"zserio.runtime.array","c":"ElementCache","l":"get(int)"},{"p":"zserio.runtime","c":"Util","l":"getBitFieldLowerBound(int, boolean)","u":"getBitFieldLowerBound(int,boolean)"},{"p":"zserio.runtime","c":"Util","l":"getBitFieldUpperBound(int, boolean)","u":"getBitFieldUpperBound(int,boolean)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"getBitOffset()"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"getBitPosition()"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"getBitPosition()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"getBitPosition()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"getBitPosition()"},{"p":"zserio.runtime.io","c":"FileBitStreamWriter","l":"getBitPosition()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"getBitPosition()"},{"p":"zserio.runtime.io","c":"BitBuffer","l":"getBitSize()"},{"p":"zserio.runtime","c":"BitSizeOfCalculator","l":"getBitSizeOfBitBuffer(BitBuffer)","u":"getBitSizeOfBitBuffer(zserio.runtime.io.BitBuffer)"},{"p":"zserio.runtime","c":"BitSizeOfCalculator","l":"getBitSizeOfString(String)","u":"getBitSizeOfString(java.lang.String)"},{"p":"zserio.runtime","c":"BitSizeOfCalculator","l":"getBitSizeOfVarInt(long)"},{"p":"zserio.runtime","c":"BitSizeOfCalculator","l":"getBitSizeOfVarInt16(short)"},{"p":"zserio.runtime","c":"BitSizeOfCalculator","l":"getBitSizeOfVarInt32(int)"},{"p":"zserio.runtime","c":"BitSizeOfCalculator","l":"getBitSizeOfVarInt64(long)"},{"p":"zserio.runtime","c":"BitSizeOfCalculator","l":"getBitSizeOfVarSize(int)"},{"p":"zserio.runtime","c":"BitSizeOfCalculator","l":"getBitSizeOfVarUInt(BigInteger)","u":"getBitSizeOfVarUInt(java.math.BigInteger)"},{"p":"zserio.runtime","c":"BitSizeOfCalculator","l":"getBitSizeOfVarUInt16(short)"},{"p":"zserio.runtime","c":"BitSizeOfCalculator","l":"getBitSizeOfVarUInt32(int)"},{"p":"zserio.runtime","c":"BitSizeOfCalculator","l":"getBitSizeOfVarUInt64(long)"},{"p":"zserio.runtime.io","c":"BitBuffer","l":"getBuffer()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"getBuffer()"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"getBufferBitSize()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"getBufferBitSize()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"getBufferBitSize()"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"getBytePosition()"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"getBytePosition()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"getBytePosition()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"getBytePosition()"},{"p":"zserio.runtime.io","c":"FileBitStreamWriter","l":"getBytePosition()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"getBytePosition()"},{"p":"zserio.runtime.io","c":"BitBuffer","l":"getByteSize()"},{"p":"zserio.runtime.service","c":"ServiceCall","l":"getContext()"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"getData()"},{"p":"zserio.runtime.validation","c":"ValidationTimer","l":"getDuration()"},{"p":"zserio.runtime.validation","c":"ValidationReport","l":"getErrors()"},{"p":"zserio.runtime.validation","c":"ValidationError","l":"getFieldName()"},{"p":"zserio.runtime","c":"ZserioEnum","l":"getGenericValue()"},{"p":"zserio.runtime.array","c":"ElementCache","l":"getMaxSize()"},{"p":"zserio.runtime.validation","c":"ValidationError","l":"getMessage()"},{"p":"zserio.runtime.service","c":"ServiceCall","l":"getMethodName()"},{"p":"zserio.runtime.validation","c":"ValidationSqliteUtil.ColumnDescription","l":"getName()"},{"p":"zserio.runtime.validation","c":"ValidationReport","l":"getNumberOfValidatedRows()"},{"p":"zserio.runtime.validation","c":"ValidationReport","l":"getNumberOfValidatedTables()"},{"p":"zserio.runtime","c":"BuildInOperators","l":"getNumBits(BigInteger)","u":"getNumBits(java.math.BigInteger)"},{"p":"zserio.runtime","c":"BuildInOperators","l":"getNumBits(long)"},{"p":"zserio.runtime.service","c":"ServiceCallBatch","l":"getNumPendingCalls()"},{"p":"zserio.runtime.service","c":"ServiceCall","l":"getRequestData()"},{"p":"zserio.runtime.validation","c":"ValidationSqliteUtil","l":"getRowIdRange(Connection, String, String)","u":"getRowIdRange(java.sql.Connection,java.lang.String,java.lang.String)"},{"p":"zserio.runtime.validation","c":"ValidationError","l":"getRowKeyValues()"},{"p":"zserio.runtime.validation","c":"ValidationError","l":"getStackTrace()"},{"p":"zserio.runtime.validation","c":"ValidationError","l":"getTableName()"},{"p":"zserio.runtime.validation","c":"ValidationSqliteUtil","l":"getTableSchema(Connection, String, String)","u":"getTableSchema(java.sql.Connection,java.lang.String,java.lang.String)"},{"p":"zserio.runtime.validation","c":"ValidationReport","l":"getTotalParameterProviderTime()"},{"p":"zserio.runtime.validation","c":"ValidationReport","l":"getTotalValidationTime()"},{"p":"zserio.runtime.validation","c":"ValidationError","l":"getType()"},{"p":"zserio.runtime.validation","c":"ValidationSqliteUtil.ColumnDescription","l":"getType()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"growBuffer(int)"},{"p":"zserio.runtime.io","c":"FileBitStreamWriter","l":"growBuffer(int)"},{"p":"zserio.runtime","c":"Util","l":"HASH_PRIME_NUMBER"},{"p":"zserio.runtime","c":"Util","l":"HASH_SEED"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"hashCode()"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"hashCode()"},{"p":"zserio.runtime.array","c":"BoolArray","l":"hashCode()"},{"p":"zserio.runtime.array","c":"ByteArray","l":"hashCode()"},{"p":"zserio.runtime.array","c":"Float16Array","l":"hashCode()"},{"p":"zserio.runtime.array","c":"Float32Array","l":"hashCode()"},{"p":"zserio.runtime.array","c":"Float64Array","l":"hashCode()"},{"p":"zserio.runtime.array","c":"IntArray","l":"hashCode()"},{"p":"zserio.runtime.array","c":"LongArray","l":"hashCode()"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"hashCode()"},{"p":"zserio.runtime.array","c":"ShortArray","l":"hashCode()"},{"p":"zserio.runtime.array","c":"StringArray","l":"hashCode()"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"hashCode()"},{"p":"zserio.runtime.io","c":"BitBuffer","l":"hashCode()"},{"p":"zserio.runtime.array","c":"Array","l":"IMPLICIT_LENGTH"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"initializeOffsets(long)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"initializeOffsets(long)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"initializeOffsets(long)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"initializeOffsets(long)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"initializeOffsets(long)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"initializeOffsets(long)"},{"p":"zserio.runtime.array","c":"StringArray","l":"initializeOffsets(long)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"initializeOffsets(long)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"initializeOffsets(long)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"initializeOffsets(long)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"initializeOffsets(long)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"initializeOffsets(long)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"initializeOffsets(long)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"initializeOffsets(long)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"initializeOffsets(long)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"initializeOffsets(long)"},{"p":"zserio.runtime.io","c":"InitializeOffsetsWriter","l":"initializeOffsets(long)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"initializeOffsets(long, int)","u":"initializeOffsets(long,int)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"initializeOffsets(long, int)","u":"initializeOffsets(long,int)"},{"p":"zserio.runtime.array","c":"IntArray","l":"initializeOffsets(long, int)","u":"initializeOffsets(long,int)"},{"p":"zserio.runtime.array","c":"LongArray","l":"initializeOffsets(long, int)","u":"initializeOffsets(long,int)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"initializeOffsets(long, int)","u":"initializeOffsets(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"initializeOffsets(long, int)","u":"initializeOffsets(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"initializeOffsets(long, int)","u":"initializeOffsets(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"initializeOffsets(long, int)","u":"initializeOffsets(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"initializeOffsets(long, int)","u":"initializeOffsets(long,int)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"initializeOffsetsAligned(long, int, OffsetSetter)","u":"initializeOffsetsAligned(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"initializeOffsetsAligned(long, int, OffsetSetter)","u":"initializeOffsetsAligned(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"IntArray","l":"initializeOffsetsAligned(long, int, OffsetSetter)","u":"initializeOffsetsAligned(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"LongArray","l":"initializeOffsetsAligned(long, int, OffsetSetter)","u":"initializeOffsetsAligned(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"initializeOffsetsAligned(long, int, OffsetSetter)","u":"initializeOffsetsAligned(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"initializeOffsetsAligned(long, int, OffsetSetter)","u":"initializeOffsetsAligned(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"initializeOffsetsAligned(long, int, OffsetSetter)","u":"initializeOffsetsAligned(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"initializeOffsetsAligned(long, int, OffsetSetter)","u":"initializeOffsetsAligned(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"initializeOffsetsAligned(long, int, OffsetSetter)","u":"initializeOffsetsAligned(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"initializeOffsetsAligned(long, OffsetSetter)","u":"initializeOffsetsAligned(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"initializeOffsetsAligned(long, OffsetSetter)","u":"initializeOffsetsAligned(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"initializeOffsetsAligned(long, OffsetSetter)","u":"initializeOffsetsAligned(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"initializeOffsetsAligned(long, OffsetSetter)","u":"initializeOffsetsAligned(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"initializeOffsetsAligned(long, OffsetSetter)","u":"initializeOffsetsAligned(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"initializeOffsetsAligned(long, OffsetSetter)","u":"initializeOffsetsAligned(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"StringArray","l":"initializeOffsetsAligned(long, OffsetSetter)","u":"initializeOffsetsAligned(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"initializeOffsetsAligned(long, OffsetSetter)","u":"initializeOffsetsAligned(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"initializeOffsetsAligned(long, OffsetSetter)","u":"initializeOffsetsAligned(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"initializeOffsetsAligned(long, OffsetSetter)","u":"initializeOffsetsAligned(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"initializeOffsetsAligned(long, OffsetSetter)","u":"initializeOffsetsAligned(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"initializeOffsetsAligned(long, OffsetSetter)","u":"initializeOffsetsAligned(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"initializeOffsetsAligned(long, OffsetSetter)","u":"initializeOffsetsAligned(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"initializeOffsetsAligned(long, OffsetSetter)","u":"initializeOffsetsAligned(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"initializeOffsetsAligned(long, OffsetSetter)","u":"initializeOffsetsAligned(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"initializeOffsetsAligned(long, OffsetSetter)","u":"initializeOffsetsAligned(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"initializeOffsetsAlignedAuto(long, int, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"initializeOffsetsAlignedAuto(long, int, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"IntArray","l":"initializeOffsetsAlignedAuto(long, int, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"LongArray","l":"initializeOffsetsAlignedAuto(long, int, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"initializeOffsetsAlignedAuto(long, int, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"initializeOffsetsAlignedAuto(long, int, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"initializeOffsetsAlignedAuto(long, int, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"initializeOffsetsAlignedAuto(long, int, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"initializeOffsetsAlignedAuto(long, int, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"initializeOffsetsAlignedAuto(long, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"initializeOffsetsAlignedAuto(long, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"initializeOffsetsAlignedAuto(long, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"initializeOffsetsAlignedAuto(long, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"initializeOffsetsAlignedAuto(long, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"initializeOffsetsAlignedAuto(long, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"StringArray","l":"initializeOffsetsAlignedAuto(long, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"initializeOffsetsAlignedAuto(long, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"initializeOffsetsAlignedAuto(long, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"initializeOffsetsAlignedAuto(long, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"initializeOffsetsAlignedAuto(long, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"initializeOffsetsAlignedAuto(long, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"initializeOffsetsAlignedAuto(long, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"initializeOffsetsAlignedAuto(long, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"initializeOffsetsAlignedAuto(long, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"initializeOffsetsAlignedAuto(long, OffsetSetter)","u":"initializeOffsetsAlignedAuto(long,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"initializeOffsetsAlignedAutoImpl(long, int, OffsetSetter)","u":"initializeOffsetsAlignedAutoImpl(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"initializeOffsetsAlignedImpl(long, int, OffsetSetter)","u":"initializeOffsetsAlignedImpl(long,int,zserio.runtime.array.OffsetSetter)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"initializeOffsetsAuto(long)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"initializeOffsetsAuto(long)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"initializeOffsetsAuto(long)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"initializeOffsetsAuto(long)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"initializeOffsetsAuto(long)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"initializeOffsetsAuto(long)"},{"p":"zserio.runtime.array","c":"StringArray","l":"initializeOffsetsAuto(long)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"initializeOffsetsAuto(long)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"initializeOffsetsAuto(long)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"initializeOffsetsAuto(long)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"initializeOffsetsAuto(long)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"initializeOffsetsAuto(long)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"initializeOffsetsAuto(long)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"initializeOffsetsAuto(long)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"initializeOffsetsAuto(long)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"initializeOffsetsAuto(long)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"initializeOffsetsAuto(long, int)","u":"initializeOffsetsAuto(long,int)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"initializeOffsetsAuto(long, int)","u":"initializeOffsetsAuto(long,int)"},{"p":"zserio.runtime.array","c":"IntArray","l":"initializeOffsetsAuto(long, int)","u":"initializeOffsetsAuto(long,int)"},{"p":"zserio.runtime.array","c":"LongArray","l":"initializeOffsetsAuto(long, int)","u":"initializeOffsetsAuto(long,int)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"initializeOffsetsAuto(long, int)","u":"initializeOffsetsAuto(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"initializeOffsetsAuto(long, int)","u":"initializeOffsetsAuto(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"initializeOffsetsAuto(long, int)","u":"initializeOffsetsAuto(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"initializeOffsetsAuto(long, int)","u":"initializeOffsetsAuto(long,int)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"initializeOffsetsAuto(long, int)","u":"initializeOffsetsAuto(long,int)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"initializeOffsetsAutoImpl(long, int)","u":"initializeOffsetsAutoImpl(long,int)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"initializeOffsetsImpl(long, int)","u":"initializeOffsetsImpl(long,int)"},{"p":"zserio.runtime.array","c":"IntArray","l":"IntArray(BitStreamReader, int, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"IntArray","l":"IntArray(BitStreamReader, int, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"IntArray","l":"IntArray(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"IntArray","l":"IntArray(int[], int, int)","u":"%3Cinit%3E(int[],int,int)"},{"p":"zserio.runtime.validation","c":"ValidationError.Type","l":"INVALID_COLUMN_CONSTRAINT"},{"p":"zserio.runtime.validation","c":"ValidationError.Type","l":"INVALID_COLUMN_TYPE"},{"p":"zserio.runtime.validation","c":"ValidationError.Type","l":"INVALID_ENUM_VALUE"},{"p":"zserio.runtime.pubsub","c":"PubsubInterface.Callback","l":"invoke(String, byte[])","u":"invoke(java.lang.String,byte[])"},{"p":"zserio.runtime.pubsub","c":"PubsubCallback","l":"invoke(String, T)","u":"invoke(java.lang.String,T)"},{"p":"zserio.runtime","c":"SqlLazyBlob","l":"isDecoded()"},{"p":"zserio.runtime.validation","c":"ValidationSqliteUtil","l":"isHiddenColumnInTable(Connection, String, String, String)","u":"isHiddenColumnInTable(java.sql.Connection,java.lang.String,java.lang.String,java.lang.String)"},{"p":"zserio.runtime.validation","c":"ValidationSqliteUtil.ColumnDescription","l":"isNotNull()"},{"p":"zserio.runtime.validation","c":"ValidationSqliteUtil.ColumnDescription","l":"isPrimaryKey()"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"iterator()"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"iterator()"},{"p":"zserio.runtime.validation","c":"ValidationTasks","l":"join()"},{"p":"zserio.runtime.service","c":"AsyncServiceUtil","l":"join(CompletableFuture<T>)","u":"join(java.util.concurrent.CompletableFuture)"},{"p":"zserio.runtime.array","c":"Array","l":"length()"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"length()"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"length()"},{"p":"zserio.runtime.array","c":"BoolArray","l":"length()"},{"p":"zserio.runtime.array","c":"ByteArray","l":"length()"},{"p":"zserio.runtime.array","c":"Float16Array","l":"length()"},{"p":"zserio.runtime.array","c":"Float32Array","l":"length()"},{"p":"zserio.runtime.array","c":"Float64Array","l":"length()"},{"p":"zserio.runtime.array","c":"IntArray","l":"length()"},{"p":"zserio.runtime.array","c":"LongArray","l":"length()"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"length()"},{"p":"zserio.runtime.array","c":"ShortArray","l":"length()"},{"p":"zserio.runtime.array","c":"StringArray","l":"length()"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"length()"},{"p":"zserio.runtime.array","c":"LongArray","l":"LongArray(BitStreamReader, int, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"LongArray","l":"LongArray(BitStreamReader, int, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"LongArray","l":"LongArray(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"LongArray","l":"LongArray(long[], int, int)","u":"%3Cinit%3E(long[],int,int)"},{"p":"zserio.runtime.service","c":"LoopbackServiceTransport","l":"LoopbackServiceTransport(ServiceInterface)","u":"%3Cinit%3E(zserio.runtime.service.ServiceInterface)"},{"p":"zserio.runtime.service","c":"LoopbackServiceTransport","l":"LoopbackServiceTransport(ServiceInterface, Executor)","u":"%3Cinit%3E(zserio.runtime.service.ServiceInterface,java.util.concurrent.Executor)"},{"p":"zserio.runtime","c":"Mapping","l":"map(E)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"map(Mapping<BigInteger>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"map(Mapping<BigInteger>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"map(Mapping<BitBuffer>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"map(Mapping<Boolean>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"map(Mapping<Byte>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"map(Mapping<Double>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"Array","l":"map(Mapping<E>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"map(Mapping<E>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"map(Mapping<Float>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"map(Mapping<Float>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"IntArray","l":"map(Mapping<Integer>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"map(Mapping<Integer>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"map(Mapping<Integer>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"map(Mapping<Integer>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"map(Mapping<Integer>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"LongArray","l":"map(Mapping<Long>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"map(Mapping<Long>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"map(Mapping<Long>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"map(Mapping<Long>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"map(Mapping<Long>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"map(Mapping<Long>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"map(Mapping<Short>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"map(Mapping<Short>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"map(Mapping<Short>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"map(Mapping<Short>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"StringArray","l":"map(Mapping<String>)","u":"map(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"mapImpl(Mapping<Byte>, ByteArrayBase)","u":"mapImpl(zserio.runtime.Mapping,zserio.runtime.array.ByteArrayBase)"},{"p":"zserio.runtime.array","c":"IntArray","l":"mapImpl(Mapping<Integer>, IntArrayBase)","u":"mapImpl(zserio.runtime.Mapping,zserio.runtime.array.IntArrayBase)"},{"p":"zserio.runtime.array","c":"LongArray","l":"mapImpl(Mapping<Long>, LongArrayBase)","u":"mapImpl(zserio.runtime.Mapping,zserio.runtime.array.LongArrayBase)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"mapImpl(Mapping<Short>, ShortArrayBase)","u":"mapImpl(zserio.runtime.Mapping,zserio.runtime.array.ShortArrayBase)"},{"p":"zserio.runtime.io","c":"MappedFileBitStreamReader","l":"MappedFileBitStreamReader(File)","u":"%3Cinit%3E(java.io.File)"},{"p":"zserio.runtime.io","c":"MappedFileBitStreamReader","l":"MappedFileBitStreamReader(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"ObjectArray(BitStreamReader, int, ElementFactory<E>)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.ElementFactory)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"ObjectArray(BitStreamReader, int, ElementFactory<E>, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.ElementFactory,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"ObjectArray(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"ObjectArray(List<E>)","u":"%3Cinit%3E(java.util.List)"},{"p":"zserio.runtime.pubsub","c":"PubsubInterface","l":"publish(String, byte[], Object)","u":"publish(java.lang.String,byte[],java.lang.Object)"},{"p":"zserio.runtime.pubsub","c":"PubsubException","l":"PubsubException(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"zserio.runtime.array","c":"ElementCache","l":"put(int, E)","u":"put(int,E)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"read(BitStreamReader, int)","u":"read(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"read(BitStreamReader, int)","u":"read(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"read(BitStreamReader, int)","u":"read(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"read(BitStreamReader, int)","u":"read(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"read(BitStreamReader, int)","u":"read(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"StringArray","l":"read(BitStreamReader, int)","u":"read(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"read(BitStreamReader, int)","u":"read(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"read(BitStreamReader, int)","u":"read(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"read(BitStreamReader, int)","u":"read(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"read(BitStreamReader, int)","u":"read(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"read(BitStreamReader, int)","u":"read(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"read(BitStreamReader, int)","u":"read(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"read(BitStreamReader, int)","u":"read(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"read(BitStreamReader, int)","u":"read(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"read(BitStreamReader, int)","u":"read(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"read(BitStreamReader, int, ElementFactory<E>)","u":"read(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.ElementFactory)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"read(BitStreamReader, int, ElementFactory<E>, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.ElementFactory,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"read(BitStreamReader, int, int)","u":"read(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"read(BitStreamReader, int, int)","u":"read(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"IntArray","l":"read(BitStreamReader, int, int)","u":"read(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"LongArray","l":"read(BitStreamReader, int, int)","u":"read(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"read(BitStreamReader, int, int)","u":"read(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"read(BitStreamReader, int, int)","u":"read(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"read(BitStreamReader, int, int)","u":"read(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"read(BitStreamReader, int, int)","u":"read(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"read(BitStreamReader, int, int)","u":"read(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"read(BitStreamReader, int, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"read(BitStreamReader, int, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"IntArray","l":"read(BitStreamReader, int, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"LongArray","l":"read(BitStreamReader, int, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"read(BitStreamReader, int, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"read(BitStreamReader, int, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"read(BitStreamReader, int, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"read(BitStreamReader, int, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"read(BitStreamReader, int, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"read(BitStreamReader, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"read(BitStreamReader, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"read(BitStreamReader, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"read(BitStreamReader, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"read(BitStreamReader, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"StringArray","l":"read(BitStreamReader, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"read(BitStreamReader, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"read(BitStreamReader, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"read(BitStreamReader, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"read(BitStreamReader, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"read(BitStreamReader, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"read(BitStreamReader, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"read(BitStreamReader, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"read(BitStreamReader, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"read(BitStreamReader, int, OffsetChecker)","u":"read(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.io","c":"ZserioIO","l":"read(Class<E>, byte[])","u":"read(java.lang.Class,byte[])"},{"p":"zserio.runtime.io","c":"ZserioIO","l":"read(Class<E>, byte[], Object...)","u":"read(java.lang.Class,byte[],java.lang.Object...)"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readBigInteger(int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readBigInteger(int)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readBigInteger(int)"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readBitBuffer()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readBitBuffer()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readBitBuffer()"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readBits(int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readBits(int)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readBits(int)"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readBool()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readBool()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readBool()"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"IntArray","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"LongArray","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"StringArray","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"readBoxedElement(BitStreamReader, int)","u":"readBoxedElement(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readByte()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readByte()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readByte()"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readFloat16()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readFloat16()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readFloat16()"},{"p":"zserio.runtime.validation","c":"ValidationBitStreamReader","l":"readFloat16()"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readFloat32()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readFloat32()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readFloat32()"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readFloat64()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readFloat64()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readFloat64()"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"readImpl(BitStreamReader, int, int, OffsetChecker)","u":"readImpl(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readInt()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readInt()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readInt()"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readLong()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readLong()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readLong()"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"IntArray","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"LongArray","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"StringArray","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"readN(BitStreamReader, int, int, OffsetChecker)","u":"readN(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readShort()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readShort()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readShort()"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readSignedBigInteger(int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readSignedBigInteger(int)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readSignedBigInteger(int)"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readSignedBits(int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readSignedBits(int)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readSignedBits(int)"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readString()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readString()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readString()"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readUnsignedByte()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readUnsignedByte()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readUnsignedByte()"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readUnsignedInt()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readUnsignedInt()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readUnsignedInt()"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readUnsignedShort()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readUnsignedShort()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readUnsignedShort()"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readVarInt()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readVarInt()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readVarInt()"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readVarInt16()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readVarInt16()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readVarInt16()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readVarInt16Array(short[], int, int)","u":"readVarInt16Array(short[],int,int)"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readVarInt32()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readVarInt32()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readVarInt32()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readVarInt32Array(int[], int, int)","u":"readVarInt32Array(int[],int,int)"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readVarInt64()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readVarInt64()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readVarInt64()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readVarInt64Array(long[], int, int)","u":"readVarInt64Array(long[],int,int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readVarIntArray(long[], int, int)","u":"readVarIntArray(long[],int,int)"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readVarSize()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readVarSize()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readVarSize()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readVarSizeArray(int[], int, int)","u":"readVarSizeArray(int[],int,int)"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readVarUInt()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readVarUInt()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readVarUInt()"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readVarUInt16()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readVarUInt16()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readVarUInt16()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readVarUInt16Array(short[], int, int)","u":"readVarUInt16Array(short[],int,int)"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readVarUInt32()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readVarUInt32()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readVarUInt32()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readVarUInt32Array(int[], int, int)","u":"readVarUInt32Array(int[],int,int)"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"readVarUInt64()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readVarUInt64()"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"readVarUInt64()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"readVarUInt64Array(long[], int, int)","u":"readVarUInt64Array(long[],int,int)"},{"p":"zserio.runtime.array","c":"RecyclingElementFactory","l":"recycle(BitStreamReader, E, int)","u":"recycle(zserio.runtime.io.BitStreamReader,E,int)"},{"p":"zserio.runtime","c":"SqlStatementCache","l":"release(String, PreparedStatement)","u":"release(java.lang.String,java.sql.PreparedStatement)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"remove(Object)","u":"remove(java.lang.Object)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"reset()"},{"p":"zserio.runtime.io","c":"FileBitStreamWriter","l":"reset()"},{"p":"zserio.runtime.service","c":"ServiceCall","l":"ServiceCall(String, byte[], Object)","u":"%3Cinit%3E(java.lang.String,byte[],java.lang.Object)"},{"p":"zserio.runtime.service","c":"ServiceCallBatch","l":"ServiceCallBatch(ServiceInterface)","u":"%3Cinit%3E(zserio.runtime.service.ServiceInterface)"},{"p":"zserio.runtime.service","c":"ServiceException","l":"ServiceException(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"zserio.runtime.service","c":"ServiceException","l":"ServiceException(String, Throwable)","u":"%3Cinit%3E(java.lang.String,java.lang.Throwable)"},{"p":"zserio.runtime.io","c":"BitStreamReader","l":"setBitPosition(long)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"setBitPosition(long)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"setBitPosition(long)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"setBitPosition(long)"},{"p":"zserio.runtime.io","c":"FileBitStreamWriter","l":"setBitPosition(long)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamReader","l":"setBitPosition(long)"},{"p":"zserio.runtime.validation","c":"ValidationBitStreamReader","l":"setBitPosition(long)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"setElementAt(BigInteger, int)","u":"setElementAt(java.math.BigInteger,int)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"setElementAt(BigInteger, int)","u":"setElementAt(java.math.BigInteger,int)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"setElementAt(BitBuffer, int)","u":"setElementAt(zserio.runtime.io.BitBuffer,int)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"setElementAt(boolean, int)","u":"setElementAt(boolean,int)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"setElementAt(byte, int)","u":"setElementAt(byte,int)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"setElementAt(double, int)","u":"setElementAt(double,int)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"setElementAt(E, int)","u":"setElementAt(E,int)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"setElementAt(float, int)","u":"setElementAt(float,int)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"setElementAt(float, int)","u":"setElementAt(float,int)"},{"p":"zserio.runtime.array","c":"IntArray","l":"setElementAt(int, int)","u":"setElementAt(int,int)"},{"p":"zserio.runtime.array","c":"LongArray","l":"setElementAt(long, int)","u":"setElementAt(long,int)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"setElementAt(short, int)","u":"setElementAt(short,int)"},{"p":"zserio.runtime.array","c":"StringArray","l":"setElementAt(String, int)","u":"setElementAt(java.lang.String,int)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"setFromList(List<BigInteger>)","u":"setFromList(java.util.List)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"setFromList(List<BigInteger>)","u":"setFromList(java.util.List)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"setFromList(List<BitBuffer>)","u":"setFromList(java.util.List)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"setFromList(List<Boolean>)","u":"setFromList(java.util.List)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"setFromList(List<Byte>)","u":"setFromList(java.util.List)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"setFromList(List<Double>)","u":"setFromList(java.util.List)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"setFromList(List<Float>)","u":"setFromList(java.util.List)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"setFromList(List<Float>)","u":"setFromList(java.util.List)"},{"p":"zserio.runtime.array","c":"IntArray","l":"setFromList(List<Integer>)","u":"setFromList(java.util.List)"},{"p":"zserio.runtime.array","c":"LongArray","l":"setFromList(List<Long>)","u":"setFromList(java.util.List)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"setFromList(List<Short>)","u":"setFromList(java.util.List)"},{"p":"zserio.runtime.array","c":"StringArray","l":"setFromList(List<String>)","u":"setFromList(java.util.List)"},{"p":"zserio.runtime.array","c":"OffsetSetter","l":"setOffset(int, long)","u":"setOffset(int,long)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"setStringCache(StringCache)","u":"setStringCache(zserio.runtime.io.StringCache)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"ShortArray(BitStreamReader, int, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"ShortArray(BitStreamReader, int, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"ShortArray(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"ShortArray(short[], int, int)","u":"%3Cinit%3E(short[],int,int)"},{"p":"zserio.runtime.array","c":"ElementCache","l":"size()"},{"p":"zserio.runtime","c":"SqlStatementCache","l":"size()"},{"p":"zserio.runtime.validation","c":"ValidationTasks","l":"splitRowIdRange(long, long, int)","u":"splitRowIdRange(long,long,int)"},{"p":"zserio.runtime","c":"SqlLazyBlob","l":"SqlLazyBlob(byte[])","u":"%3Cinit%3E(byte[])"},{"p":"zserio.runtime","c":"SqlStatementCache","l":"SqlStatementCache(Connection)","u":"%3Cinit%3E(java.sql.Connection)"},{"p":"zserio.runtime","c":"SqlStatementCache","l":"SqlStatementCache(Connection, int)","u":"%3Cinit%3E(java.sql.Connection,int)"},{"p":"zserio.runtime.validation","c":"ValidationTimer","l":"start()"},{"p":"zserio.runtime.validation","c":"ValidationTimer","l":"stop()"},{"p":"zserio.runtime.array","c":"StringArray","l":"StringArray(BitStreamReader, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"StringArray","l":"StringArray(BitStreamReader, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"StringArray","l":"StringArray(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"StringArray","l":"StringArray(String[], int, int)","u":"%3Cinit%3E(java.lang.String[],int,int)"},{"p":"zserio.runtime.io","c":"StringCache","l":"StringCache()","u":"%3Cinit%3E()"},{"p":"zserio.runtime.io","c":"StringCache","l":"StringCache(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"zserio.runtime.validation","c":"ValidationTasks","l":"submit(Callable<ValidationReport>)","u":"submit(java.util.concurrent.Callable)"},{"p":"zserio.runtime.array","c":"Array","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"IntArray","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"LongArray","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"StringArray","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"subRange(int, int)","u":"subRange(int,int)"},{"p":"zserio.runtime.pubsub","c":"PubsubInterface","l":"subscribe(String, PubsubInterface.Callback, Object)","u":"subscribe(java.lang.String,zserio.runtime.pubsub.PubsubInterface.Callback,java.lang.Object)"},{"p":"zserio.runtime.service","c":"AsyncServiceUtil","l":"toAsync(ServiceInterface)","u":"toAsync(zserio.runtime.service.ServiceInterface)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"toByteArray()"},{"p":"zserio.runtime.io","c":"FileBitStreamWriter","l":"toByteArray()"},{"p":"zserio.runtime.validation","c":"ValidationBitStreamReader","l":"toMaskedByteArray()"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"typedMap(Mapping<E>)","u":"typedMap(zserio.runtime.Mapping)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"UnsignedByteArray(BitStreamReader, int, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"UnsignedByteArray(BitStreamReader, int, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"UnsignedByteArray(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"UnsignedByteArray(short[], int, int)","u":"%3Cinit%3E(short[],int,int)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"UnsignedIntArray(BitStreamReader, int, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"UnsignedIntArray(BitStreamReader, int, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"UnsignedIntArray(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"UnsignedIntArray(long[], int, int)","u":"%3Cinit%3E(long[],int,int)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"UnsignedLongArray(BitStreamReader, int, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"UnsignedLongArray(BitStreamReader, int, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"UnsignedLongArray(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"UnsignedLongArray(long[], int, int)","u":"%3Cinit%3E(long[],int,int)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"UnsignedShortArray(BitStreamReader, int, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"UnsignedShortArray(BitStreamReader, int, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"UnsignedShortArray(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"UnsignedShortArray(int[], int, int)","u":"%3Cinit%3E(int[],int,int)"},{"p":"zserio.runtime.pubsub","c":"PubsubInterface","l":"unsubscribe(int)"},{"p":"zserio.runtime","c":"Util","l":"Util()","u":"%3Cinit%3E()"},{"p":"zserio.runtime.validation","c":"ValidationBitStreamReader","l":"ValidationBitStreamReader(byte[])","u":"%3Cinit%3E(byte[])"},{"p":"zserio.runtime.validation","c":"ValidationError","l":"ValidationError(String, String, List<String>, ValidationError.Type, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.util.List,zserio.runtime.validation.ValidationError.Type,java.lang.String)"},{"p":"zserio.runtime.validation","c":"ValidationError","l":"ValidationError(String, String, List<String>, ValidationError.Type, Throwable)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.util.List,zserio.runtime.validation.ValidationError.Type,java.lang.Throwable)"},{"p":"zserio.runtime.validation","c":"ValidationError","l":"ValidationError(String, String, ValidationError.Type, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,zserio.runtime.validation.ValidationError.Type,java.lang.String)"},{"p":"zserio.runtime.validation","c":"ValidationReport","l":"ValidationReport()","u":"%3Cinit%3E()"},{"p":"zserio.runtime.validation","c":"ValidationReport","l":"ValidationReport(int, int, long, long, List<ValidationError>)","u":"%3Cinit%3E(int,int,long,long,java.util.List)"},{"p":"zserio.runtime.validation","c":"ValidationSqliteUtil","l":"ValidationSqliteUtil()","u":"%3Cinit%3E()"},{"p":"zserio.runtime.validation","c":"ValidationTasks","l":"ValidationTasks(ExecutorService)","u":"%3Cinit%3E(java.util.concurrent.ExecutorService)"},{"p":"zserio.runtime.validation","c":"ValidationTimer","l":"ValidationTimer()","u":"%3Cinit%3E()"},{"p":"zserio.runtime.validation","c":"ValidationError.Type","l":"VALUE_OUT_OF_RANGE"},{"p":"zserio.runtime.validation","c":"ValidationError.Type","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"zserio.runtime.validation","c":"ValidationError.Type","l":"values()"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"VARINT_MAX_BYTES"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"VARINT16_MAX_BYTES"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"VarInt16Array(BitStreamReader, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"VarInt16Array(BitStreamReader, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"VarInt16Array(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"VarInt16Array(short[], int, int)","u":"%3Cinit%3E(short[],int,int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"VARINT32_MAX_BYTES"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"VarInt32Array(BitStreamReader, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"VarInt32Array(BitStreamReader, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"VarInt32Array(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"VarInt32Array(int[], int, int)","u":"%3Cinit%3E(int[],int,int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"VARINT64_MAX_BYTES"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"VarInt64Array(BitStreamReader, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"VarInt64Array(BitStreamReader, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"VarInt64Array(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"VarInt64Array(long[], int, int)","u":"%3Cinit%3E(long[],int,int)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"VarIntArray(BitStreamReader, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"VarIntArray(BitStreamReader, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"VarIntArray(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"VarIntArray(long[], int, int)","u":"%3Cinit%3E(long[],int,int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamReader","l":"VARSIZE_MAX_BYTES"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"VarSizeArray(BitStreamReader, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"VarSizeArray(BitStreamReader, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"VarSizeArray(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"VarSizeArray(int[], int, int)","u":"%3Cinit%3E(int[],int,int)"},{"p":"zserio.runtime","c":"VarSizeUtil","l":"VarSizeUtil()","u":"%3Cinit%3E()"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"VarUInt16Array(BitStreamReader, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"VarUInt16Array(BitStreamReader, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"VarUInt16Array(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"VarUInt16Array(short[], int, int)","u":"%3Cinit%3E(short[],int,int)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"VarUInt32Array(BitStreamReader, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"VarUInt32Array(BitStreamReader, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"VarUInt32Array(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"VarUInt32Array(int[], int, int)","u":"%3Cinit%3E(int[],int,int)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"VarUInt64Array(BitStreamReader, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"VarUInt64Array(BitStreamReader, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"VarUInt64Array(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"VarUInt64Array(long[], int, int)","u":"%3Cinit%3E(long[],int,int)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"VarUIntArray(BigInteger[], int, int)","u":"%3Cinit%3E(java.math.BigInteger[],int,int)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"VarUIntArray(BitStreamReader, int)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"VarUIntArray(BitStreamReader, int, OffsetChecker)","u":"%3Cinit%3E(zserio.runtime.io.BitStreamReader,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"VarUIntArray(int)","u":"%3Cinit%3E(int)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"write(BitStreamWriter)","u":"write(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"write(BitStreamWriter)","u":"write(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"write(BitStreamWriter)","u":"write(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"write(BitStreamWriter)","u":"write(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"write(BitStreamWriter)","u":"write(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"write(BitStreamWriter)","u":"write(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"StringArray","l":"write(BitStreamWriter)","u":"write(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"write(BitStreamWriter)","u":"write(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"write(BitStreamWriter)","u":"write(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"write(BitStreamWriter)","u":"write(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"write(BitStreamWriter)","u":"write(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"write(BitStreamWriter)","u":"write(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"write(BitStreamWriter)","u":"write(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"write(BitStreamWriter)","u":"write(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"write(BitStreamWriter)","u":"write(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"write(BitStreamWriter)","u":"write(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.io","c":"Writer","l":"write(BitStreamWriter)","u":"write(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.io","c":"InitializeOffsetsWriter","l":"write(BitStreamWriter, boolean)","u":"write(zserio.runtime.io.BitStreamWriter,boolean)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"write(BitStreamWriter, int)","u":"write(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"write(BitStreamWriter, int)","u":"write(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.array","c":"IntArray","l":"write(BitStreamWriter, int)","u":"write(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.array","c":"LongArray","l":"write(BitStreamWriter, int)","u":"write(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"write(BitStreamWriter, int)","u":"write(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"write(BitStreamWriter, int)","u":"write(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"write(BitStreamWriter, int)","u":"write(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"write(BitStreamWriter, int)","u":"write(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"write(BitStreamWriter, int)","u":"write(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.io","c":"ZserioIO","l":"write(E)"},{"p":"zserio.runtime.io","c":"ZserioIO","l":"write(E, byte[])","u":"write(E,byte[])"},{"p":"zserio.runtime.io","c":"ZserioIO","l":"write(E, ByteBuffer)","u":"write(E,java.nio.ByteBuffer)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"writeAligned(BitStreamWriter, int, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"writeAligned(BitStreamWriter, int, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"IntArray","l":"writeAligned(BitStreamWriter, int, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"LongArray","l":"writeAligned(BitStreamWriter, int, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"writeAligned(BitStreamWriter, int, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"writeAligned(BitStreamWriter, int, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"writeAligned(BitStreamWriter, int, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"writeAligned(BitStreamWriter, int, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"writeAligned(BitStreamWriter, int, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"writeAligned(BitStreamWriter, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"writeAligned(BitStreamWriter, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"writeAligned(BitStreamWriter, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"writeAligned(BitStreamWriter, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"writeAligned(BitStreamWriter, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"writeAligned(BitStreamWriter, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"StringArray","l":"writeAligned(BitStreamWriter, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"writeAligned(BitStreamWriter, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"writeAligned(BitStreamWriter, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"writeAligned(BitStreamWriter, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"writeAligned(BitStreamWriter, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"writeAligned(BitStreamWriter, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"writeAligned(BitStreamWriter, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"writeAligned(BitStreamWriter, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"writeAligned(BitStreamWriter, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"writeAligned(BitStreamWriter, OffsetChecker)","u":"writeAligned(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"writeAlignedAuto(BitStreamWriter, int, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"writeAlignedAuto(BitStreamWriter, int, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"IntArray","l":"writeAlignedAuto(BitStreamWriter, int, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"LongArray","l":"writeAlignedAuto(BitStreamWriter, int, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"writeAlignedAuto(BitStreamWriter, int, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"writeAlignedAuto(BitStreamWriter, int, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"writeAlignedAuto(BitStreamWriter, int, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"writeAlignedAuto(BitStreamWriter, int, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"writeAlignedAuto(BitStreamWriter, int, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,int,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"writeAlignedAuto(BitStreamWriter, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"writeAlignedAuto(BitStreamWriter, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"writeAlignedAuto(BitStreamWriter, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"writeAlignedAuto(BitStreamWriter, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"writeAlignedAuto(BitStreamWriter, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"writeAlignedAuto(BitStreamWriter, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"StringArray","l":"writeAlignedAuto(BitStreamWriter, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"writeAlignedAuto(BitStreamWriter, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"writeAlignedAuto(BitStreamWriter, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"writeAlignedAuto(BitStreamWriter, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"writeAlignedAuto(BitStreamWriter, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"writeAlignedAuto(BitStreamWriter, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"writeAlignedAuto(BitStreamWriter, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"writeAlignedAuto(BitStreamWriter, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"writeAlignedAuto(BitStreamWriter, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"writeAlignedAuto(BitStreamWriter, OffsetChecker)","u":"writeAlignedAuto(zserio.runtime.io.BitStreamWriter,zserio.runtime.array.OffsetChecker)"},{"p":"zserio.runtime.array","c":"BitBufferArray","l":"writeAuto(BitStreamWriter)","u":"writeAuto(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"BoolArray","l":"writeAuto(BitStreamWriter)","u":"writeAuto(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"Float16Array","l":"writeAuto(BitStreamWriter)","u":"writeAuto(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"Float32Array","l":"writeAuto(BitStreamWriter)","u":"writeAuto(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"Float64Array","l":"writeAuto(BitStreamWriter)","u":"writeAuto(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"ObjectArray","l":"writeAuto(BitStreamWriter)","u":"writeAuto(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"StringArray","l":"writeAuto(BitStreamWriter)","u":"writeAuto(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarInt16Array","l":"writeAuto(BitStreamWriter)","u":"writeAuto(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarInt32Array","l":"writeAuto(BitStreamWriter)","u":"writeAuto(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarInt64Array","l":"writeAuto(BitStreamWriter)","u":"writeAuto(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarIntArray","l":"writeAuto(BitStreamWriter)","u":"writeAuto(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarSizeArray","l":"writeAuto(BitStreamWriter)","u":"writeAuto(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarUInt16Array","l":"writeAuto(BitStreamWriter)","u":"writeAuto(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarUInt32Array","l":"writeAuto(BitStreamWriter)","u":"writeAuto(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarUInt64Array","l":"writeAuto(BitStreamWriter)","u":"writeAuto(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"VarUIntArray","l":"writeAuto(BitStreamWriter)","u":"writeAuto(zserio.runtime.io.BitStreamWriter)"},{"p":"zserio.runtime.array","c":"BigIntegerArray","l":"writeAuto(BitStreamWriter, int)","u":"writeAuto(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.array","c":"ByteArray","l":"writeAuto(BitStreamWriter, int)","u":"writeAuto(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.array","c":"IntArray","l":"writeAuto(BitStreamWriter, int)","u":"writeAuto(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.array","c":"LongArray","l":"writeAuto(BitStreamWriter, int)","u":"writeAuto(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.array","c":"ShortArray","l":"writeAuto(BitStreamWriter, int)","u":"writeAuto(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.array","c":"UnsignedByteArray","l":"writeAuto(BitStreamWriter, int)","u":"writeAuto(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.array","c":"UnsignedIntArray","l":"writeAuto(BitStreamWriter, int)","u":"writeAuto(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.array","c":"UnsignedLongArray","l":"writeAuto(BitStreamWriter, int)","u":"writeAuto(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.array","c":"UnsignedShortArray","l":"writeAuto(BitStreamWriter, int)","u":"writeAuto(zserio.runtime.io.BitStreamWriter,int)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeBigInteger(BigInteger, int)","u":"writeBigInteger(java.math.BigInteger,int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeBigInteger(BigInteger, int)","u":"writeBigInteger(java.math.BigInteger,int)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeBigInteger(BigInteger, int)","u":"writeBigInteger(java.math.BigInteger,int)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeBitBuffer(BitBuffer)","u":"writeBitBuffer(zserio.runtime.io.BitBuffer)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeBitBuffer(BitBuffer)","u":"writeBitBuffer(zserio.runtime.io.BitBuffer)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeBitBuffer(BitBuffer)","u":"writeBitBuffer(zserio.runtime.io.BitBuffer)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeBits(long, int)","u":"writeBits(long,int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeBits(long, int)","u":"writeBits(long,int)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeBits(long, int)","u":"writeBits(long,int)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeBool(boolean)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeBool(boolean)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeBool(boolean)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeByte(byte)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeByte(byte)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeByte(byte)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeFloat16(float)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeFloat16(float)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeFloat16(float)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeFloat32(float)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeFloat32(float)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeFloat32(float)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeFloat64(double)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeFloat64(double)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeFloat64(double)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeInt(int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeInt(int)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeInt(int)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeLong(long)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeLong(long)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeLong(long)"},{"p":"zserio.runtime.io","c":"ZserioIO","l":"writePooled(E)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeShort(short)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeShort(short)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeShort(short)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeSignedBits(long, int)","u":"writeSignedBits(long,int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeSignedBits(long, int)","u":"writeSignedBits(long,int)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeSignedBits(long, int)","u":"writeSignedBits(long,int)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeString(String)","u":"writeString(java.lang.String)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeString(String)","u":"writeString(java.lang.String)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeString(String)","u":"writeString(java.lang.String)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeUnsignedByte(short)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeUnsignedByte(short)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeUnsignedByte(short)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeUnsignedInt(long)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeUnsignedInt(long)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeUnsignedInt(long)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeUnsignedShort(int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeUnsignedShort(int)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeUnsignedShort(int)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeVarInt(long)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeVarInt(long)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeVarInt(long)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeVarInt16(short)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeVarInt16(short)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeVarInt16(short)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeVarInt16Array(short[], int, int)","u":"writeVarInt16Array(short[],int,int)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeVarInt32(int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeVarInt32(int)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeVarInt32(int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeVarInt32Array(int[], int, int)","u":"writeVarInt32Array(int[],int,int)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeVarInt64(long)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeVarInt64(long)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeVarInt64(long)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeVarInt64Array(long[], int, int)","u":"writeVarInt64Array(long[],int,int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeVarIntArray(long[], int, int)","u":"writeVarIntArray(long[],int,int)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeVarSize(int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeVarSize(int)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeVarSize(int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeVarSizeArray(int[], int, int)","u":"writeVarSizeArray(int[],int,int)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeVarUInt(BigInteger)","u":"writeVarUInt(java.math.BigInteger)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeVarUInt(BigInteger)","u":"writeVarUInt(java.math.BigInteger)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeVarUInt(BigInteger)","u":"writeVarUInt(java.math.BigInteger)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeVarUInt16(short)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeVarUInt16(short)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeVarUInt16(short)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeVarUInt16Array(short[], int, int)","u":"writeVarUInt16Array(short[],int,int)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeVarUInt32(int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeVarUInt32(int)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeVarUInt32(int)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeVarUInt32Array(int[], int, int)","u":"writeVarUInt32Array(int[],int,int)"},{"p":"zserio.runtime.io","c":"BitStreamWriter","l":"writeVarUInt64(long)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeVarUInt64(long)"},{"p":"zserio.runtime.io","c":"ByteBufferBitStreamWriter","l":"writeVarUInt64(long)"},{"p":"zserio.runtime.io","c":"ByteArrayBitStreamWriter","l":"writeVarUInt64Array(long[], int, int)","u":"writeVarUInt64Array(long[],int,int)"},{"p":"zserio.runtime","c":"ZserioError","l":"ZserioError()","u":"%3Cinit%3E()"},{"p":"zserio.runtime","c":"ZserioError","l":"ZserioError(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"zserio.runtime","c":"ZserioError","l":"ZserioError(String, Throwable)","u":"%3Cinit%3E(java.lang.String,java.lang.Throwable)"},{"p":"zserio.runtime","c":"ZserioError","l":"ZserioError(Throwable)","u":"%3Cinit%3E(java.lang.Throwable)"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"zserio.runtime"},{"l":"zserio.runtime.array"},{"l":"zserio.runtime.io"},{"l":"zserio.runtime.pubsub"},{"l":"zserio.runtime.service"},{"l":"zserio.runtime.validation"}];updateSearchResults();
\ No newline at end of file
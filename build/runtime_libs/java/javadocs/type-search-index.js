@@ -0,0 +1 @@
+typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"zserio.runtime.array","l":"Array"},{"p":"zserio.runtime.service","l":"AsyncServiceAdapter"},{"p":"zserio.runtime.service","l":"AsyncServiceInterface"},{"p":"zserio.runtime.service","l":"AsyncServiceUtil"},{"p":"zserio.runtime.array","l":"BigIntegerArray"},{"p":"zserio.runtime.io","l":"BitBuffer"},{"p":"zserio.runtime.array","l":"BitBufferArray"},{"p":"zserio.runtime","l":"BitPositionUtil"},{"p":"zserio.runtime","l":"BitSizeOfCalculator"},{"p":"zserio.runtime.io","l":"BitStreamCloseable"},{"p":"zserio.runtime.io","l":"BitStreamReader"},{"p":"zserio.runtime.io","l":"BitStreamWriter"},{"p":"zserio.runtime.array","l":"BoolArray"},{"p":"zserio.runtime","l":"BuildInOperators"},{"p":"zserio.runtime.array","l":"ByteArray"},{"p":"zserio.runtime.io","l":"ByteArrayBitStreamReader"},{"p":"zserio.runtime.io","l":"ByteArrayBitStreamWriter"},{"p":"zserio.runtime.io","l":"ByteBufferBitStreamReader"},{"p":"zserio.runtime.io","l":"ByteBufferBitStreamWriter"},{"p":"zserio.runtime.pubsub","l":"PubsubInterface.Callback"},{"p":"zserio.runtime.validation","l":"ValidationSqliteUtil.ColumnDescription"},{"p":"zserio.runtime","l":"ConstraintError"},{"p":"zserio.runtime.array","l":"ElementCache"},{"p":"zserio.runtime.array","l":"ElementFactory"},{"p":"zserio.runtime.io","l":"FileBitStreamReader"},{"p":"zserio.runtime.io","l":"FileBitStreamWriter"},{"p":"zserio.runtime.array","l":"Float16Array"},{"p":"zserio.runtime.array","l":"Float32Array"},{"p":"zserio.runtime.array","l":"Float64Array"},{"p":"zserio.runtime","l":"FloatUtil"},{"p":"zserio.runtime.io","l":"InitializeOffsetsWriter"},{"p":"zserio.runtime.array","l":"IntArray"},{"p":"zserio.runtime.array","l":"LongArray"},{"p":"zserio.runtime.service","l":"LoopbackServiceTransport"},{"p":"zserio.runtime.io","l":"MappedFileBitStreamReader"},{"p":"zserio.runtime","l":"Mapping"},{"p":"zserio.runtime.array","l":"ObjectArray"},{"p":"zserio.runtime.array","l":"OffsetChecker"},{"p":"zserio.runtime.array","l":"OffsetSetter"},{"p":"zserio.runtime.pubsub","l":"PubsubCallback"},{"p":"zserio.runtime.pubsub","l":"PubsubException"},{"p":"zserio.runtime.pubsub","l":"PubsubInterface"},{"p":"zserio.runtime.array","l":"RecyclingElementFactory"},{"p":"zserio.runtime.service","l":"ServiceCall"},{"p":"zserio.runtime.service","l":"ServiceCallBatch"},{"p":"zserio.runtime.service","l":"ServiceException"},{"p":"zserio.runtime.service","l":"ServiceInterface"},{"p":"zserio.runtime.array","l":"ShortArray"},{"p":"zserio.runtime","l":"SizeOf"},{"p":"zserio.runtime","l":"SqlDatabase"},{"p":"zserio.runtime","l":"SqlDatabaseReader"},{"p":"zserio.runtime","l":"SqlLazyBlob"},{"p":"zserio.runtime","l":"SqlStatementCache"},{"p":"zserio.runtime.array","l":"StringArray"},{"p":"zserio.runtime.io","l":"StringCache"},{"p":"zserio.runtime.validation","l":"ValidationError.Type"},{"p":"zserio.runtime.array","l":"UnsignedByteArray"},{"p":"zserio.runtime.array","l":"UnsignedIntArray"},{"p":"zserio.runtime.array","l":"UnsignedLongArray"},{"p":"zserio.runtime.array","l":"UnsignedShortArray"},{"p":"zserio.runtime","l":"Util"},{"p":"zserio.runtime.validation","l":"ValidationBitStreamReader"},{"p":"zserio.runtime.validation","l":"ValidationError"},{"p":"zserio.runtime.validation","l":"ValidationReport"},{"p":"zserio.runtime.validation","l":"ValidationSqliteUtil"},{"p":"zserio.runtime.validation","l":"ValidationTasks"},{"p":"zserio.runtime.validation","l":"ValidationTimer"},{"p":"zserio.runtime.array","l":"VarInt16Array"},{"p":"zserio.runtime.array","l":"VarInt32Array"},{"p":"zserio.runtime.array","l":"VarInt64Array"},{"p":"zserio.runtime.array","l":"VarIntArray"},{"p":"zserio.runtime.array","l":"VarSizeArray"},{"p":"zserio.runtime","l":"VarSizeUtil"},{"p":"zserio.runtime.array","l":"VarUInt16Array"},{"p":"zserio.runtime.array","l":"VarUInt32Array"},{"p":"zserio.runtime.array","l":"VarUInt64Array"},{"p":"zserio.runtime.array","l":"VarUIntArray"},{"p":"zserio.runtime.io","l":"Writer"},{"p":"zserio.runtime","l":"ZserioEnum"},{"p":"zserio.runtime","l":"ZserioError"},{"p":"zserio.runtime.io","l":"ZserioIO"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1,152 @@
+package zserio.emit.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import zserio.ast.BitmaskType;
+import zserio.ast.ChoiceType;
+import zserio.ast.Constant;
+import zserio.ast.EnumType;
+import zserio.ast.Import;
+import zserio.ast.Package;
+import zserio.ast.PubsubType;
+import zserio.ast.Root;
+import zserio.ast.ServiceType;
+import zserio.ast.SqlDatabaseType;
+import zserio.ast.SqlTableType;
+import zserio.ast.StructureType;
+import zserio.ast.Subtype;
+import zserio.ast.UnionType;
+
+/**
+ * Emitter which forwards all emitter actions to the list of emitters.
+ *
+ * It allows to call several emitters during one traversal of Zserio tree. Each action is forwarded to the
+ * emitters in the order in which they have been given.
+ */
+public class CompositeEmitter implements Emitter
+{
+    /**
+     * Constructor.
+     *
+     * @param emitters Emitters to forward all actions to.
+     */
+    public CompositeEmitter(List<? extends Emitter> emitters)
+    {
+        this.emitters = new ArrayList<Emitter>(emitters);
+    }
+
+    @Override
+    public void beginRoot(Root root) throws ZserioEmitException
+    {
+        for (Emitter emitter : emitters)
+            emitter.beginRoot(root);
+    }
+
+    @Override
+    public void endRoot(Root root) throws ZserioEmitException
+    {
+        for (Emitter emitter : emitters)
+            emitter.endRoot(root);
+    }
+
+    @Override
+    public void beginPackage(Package pkg) throws ZserioEmitException
+    {
+        for (Emitter emitter : emitters)
+            emitter.beginPackage(pkg);
+    }
+
+    @Override
+    public void endPackage(Package pkg) throws ZserioEmitException
+    {
+        for (Emitter emitter : emitters)
+            emitter.endPackage(pkg);
+    }
+
+    @Override
+    public void beginImport(Import importNode) throws ZserioEmitException
+    {
+        for (Emitter emitter : emitters)
+            emitter.beginImport(importNode);
+    }
+
+    @Override
+    public void beginConst(Constant constant) throws ZserioEmitException
+    {
+        for (Emitter emitter : emitters)
+            emitter.beginConst(constant);
+    }
+
+    @Override
+    public void beginSubtype(Subtype subType) throws ZserioEmitException
+    {
+        for (Emitter emitter : emitters)
+            emitter.beginSubtype(subType);
+    }
+
+    @Override
+    public void beginStructure(StructureType structureType) throws ZserioEmitException
+    {
+        for (Emitter emitter : emitters)
+            emitter.beginStructure(structureType);
+    }
+
+    @Override
+    public void beginChoice(ChoiceType choiceType) throws ZserioEmitException
+    {
+        for (Emitter emitter : emitters)
+            emitter.beginChoice(choiceType);
+    }
+
+    @Override
+    public void beginUnion(UnionType unionType) throws ZserioEmitException
+    {
+        for (Emitter emitter : emitters)
+            emitter.beginUnion(unionType);
+    }
+
+    @Override
+    public void beginEnumeration(EnumType enumType) throws ZserioEmitException
+    {
+        for (Emitter emitter : emitters)
+            emitter.beginEnumeration(enumType);
+    }
+
+    @Override
+    public void beginBitmask(BitmaskType bitmaskType) throws ZserioEmitException
+    {
+        for (Emitter emitter : emitters)
+            emitter.beginBitmask(bitmaskType);
+    }
+
+    @Override
+    public void beginSqlTable(SqlTableType sqlTableType) throws ZserioEmitException
+    {
+        for (Emitter emitter : emitters)
+            emitter.beginSqlTable(sqlTableType);
+    }
+
+    @Override
+    public void beginSqlDatabase(SqlDatabaseType sqlDatabaseType) throws ZserioEmitException
+    {
+        for (Emitter emitter : emitters)
+            emitter.beginSqlDatabase(sqlDatabaseType);
+    }
+
+    @Override
+    public void beginService(ServiceType service) throws ZserioEmitException
+    {
+        for (Emitter emitter : emitters)
+            emitter.beginService(service);
+    }
+
+    @Override
+    public void beginPubsub(PubsubType pubsub) throws ZserioEmitException
+    {
+        for (Emitter emitter : emitters)
+            emitter.beginPubsub(pubsub);
+    }
+
+    private final List<Emitter> emitters;
+}
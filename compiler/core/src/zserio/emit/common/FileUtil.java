@@ -1,6 +1,12 @@
 package zserio.emit.common;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 
 /**
  * File utilities for Zserio emitters.
@@ -25,8 +31,72 @@ public class FileUtil
         }
         else
         {
-            if (!parentDir.mkdirs())
+            // directory can be created concurrently when templates are processed in parallel
+            if (!parentDir.mkdirs() && !parentDir.isDirectory())
                 throw new ZserioEmitException("Can't create output directory: " + parentDir.toString());
         }
     }
+
+    /**
+     * Writes the content to the given file only if the file does not exist or its content differs.
+     *
+     * Unchanged files are not touched at all, thus their timestamps are kept and tools which depend on them
+     * (e.g. javac or CMake) do not need to rebuild anything.
+     *
+     * @param outputFile Output file to write.
+     * @param content    Content to write.
+     *
+     * @return True if the file has been written, false if the file has not been changed.
+     *
+     * @throws ZserioEmitException Throws if the file cannot be read or written.
+     */
+    public static boolean writeFileIfChanged(File outputFile, byte[] content) throws ZserioEmitException
+    {
+        try
+        {
+            if (outputFile.isFile() && outputFile.length() == content.length &&
+                    Arrays.equals(Files.readAllBytes(outputFile.toPath()), content))
+            {
+                return false;
+            }
+
+            createOutputDirectory(outputFile);
+            Files.write(outputFile.toPath(), content, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+
+            return true;
+        }
+        catch (IOException exception)
+        {
+            throw new ZserioEmitException(exception.getMessage());
+        }
+    }
+
+    /**
+     * Calculates content hash of the given data.
+     *
+     * @param content Data to calculate the hash of.
+     *
+     * @return Content hash as a hexadecimal string.
+     */
+    public static String getContentHash(byte[] content)
+    {
+        try
+        {
+            final MessageDigest messageDigest = MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+            final byte[] digest = messageDigest.digest(content);
+            final StringBuilder hash = new StringBuilder(2 * digest.length);
+            for (byte digestByte : digest)
+                hash.append(String.format("%02x", digestByte & 0xFF));
+
+            return hash.toString();
+        }
+        catch (NoSuchAlgorithmException exception)
+        {
+            // should not happen, each Java platform must support SHA-256
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
 }
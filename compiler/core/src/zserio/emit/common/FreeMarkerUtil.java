@@ -1,10 +1,11 @@
 package zserio.emit.common;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -20,6 +21,10 @@ public class FreeMarkerUtil
     /**
      * Processes FreeMarker template with the provided data model and generates output.
      *
+     * If the output queue is set, the template is only added to the queue and it is processed later when
+     * the queue is processed. Each queue keeps track of amalgamated outputs separately, thus the same
+     * process can generate sources several times (e.g. when Zserio Tool is kept warm).
+     *
      * @param templateName      The template name with the path relatively to "/freemarker" directory.
      * @param templateDataModel The template data model to apply.
      * @param outputFile        The output to be generated.
@@ -30,38 +35,89 @@ public class FreeMarkerUtil
     public static void processTemplate(String templateName, Object templateDataModel, File outputFile,
             boolean amalgamate) throws ZserioEmitException
     {
-        if (freeMarkerConfig == null)
+        final TemplateOutputQueue queue = outputQueue.get();
+        if (queue != null)
+        {
+            queue.add(templateName, templateDataModel, outputFile, amalgamate);
+        }
+        else
         {
-            final Configuration newFreeMarkerConfig = new Configuration(Configuration.VERSION_2_3_28);
-            newFreeMarkerConfig.setClassForTemplateLoading(FreeMarkerUtil.class, "/freemarker/");
-            freeMarkerConfig = newFreeMarkerConfig;
-            amalgamatedDirectories = new HashSet<String>();
+            final boolean append = amalgamate && !amalgamatedDirectories.add(outputFile.getParent());
+            writeTemplate(templateName, templateDataModel, outputFile, append);
         }
+    }
 
-        FileUtil.createOutputDirectory(outputFile);
+    /**
+     * Sets the queue to which all templates are added instead of being processed immediately.
+     *
+     * The queue is set only for the calling thread, thus several Zserio Tool runs can use their own queues
+     * concurrently in the same process.
+     *
+     * @param queue Output queue to use or null to process templates immediately.
+     */
+    public static void setOutputQueue(TemplateOutputQueue queue)
+    {
+        if (queue != null)
+            outputQueue.set(queue);
+        else
+            outputQueue.remove();
+    }
 
-        boolean append = false;
-        if (amalgamate)
+    /**
+     * Processes FreeMarker template and writes the output file.
+     *
+     * If the output file is not appended and its content is the same as the generated one, the file is not
+     * touched at all.
+     *
+     * @param templateName      The template name with the path relatively to "/freemarker" directory.
+     * @param templateDataModel The template data model to apply.
+     * @param outputFile        The output to be generated.
+     * @param append            True if the generated output will be appended to the output file.
+     *
+     * @throws ZserioEmitException In case of any template error.
+     */
+    static void writeTemplate(String templateName, Object templateDataModel, File outputFile, boolean append)
+            throws ZserioEmitException
+    {
+        final String content = renderTemplate(templateName, templateDataModel);
+        if (append)
         {
-            final String outputDirName = outputFile.getParent();
-            if (amalgamatedDirectories.contains(outputDirName))
-                append = true;
-            else
-                amalgamatedDirectories.add(outputDirName);
+            FileUtil.createOutputDirectory(outputFile);
+            try
+            {
+                Files.write(outputFile.toPath(), (LINE_SEPARATOR + content).getBytes(StandardCharsets.UTF_8),
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+            }
+            catch (IOException exception)
+            {
+                throw new ZserioEmitException(exception.getMessage());
+            }
+        }
+        else
+        {
+            FileUtil.writeFileIfChanged(outputFile, content.getBytes(StandardCharsets.UTF_8));
         }
+    }
 
-        FileOutputStream fileOutputStream = null;
-        OutputStreamWriter outputStreamWriter = null;
-        BufferedWriter bufferedWriter = null;
+    /**
+     * Processes FreeMarker template and returns the generated text.
+     *
+     * This method can be called concurrently from several threads.
+     *
+     * @param templateName      The template name with the path relatively to "/freemarker" directory.
+     * @param templateDataModel The template data model to apply.
+     *
+     * @return Generated text.
+     *
+     * @throws ZserioEmitException In case of any template error.
+     */
+    static String renderTemplate(String templateName, Object templateDataModel) throws ZserioEmitException
+    {
+        final StringWriter writer = new StringWriter();
         try
         {
-            fileOutputStream = new FileOutputStream(outputFile, append);
-            outputStreamWriter = new OutputStreamWriter(fileOutputStream, "UTF-8");
-            bufferedWriter = new BufferedWriter(outputStreamWriter);
-            if (append)
-                bufferedWriter.newLine();
-            final Template freeMarkerTemplate = freeMarkerConfig.getTemplate(templateName);
-            freeMarkerTemplate.process(templateDataModel, bufferedWriter);
+            final Template freeMarkerTemplate = getFreeMarkerConfig().getTemplate(templateName);
+            freeMarkerTemplate.process(templateDataModel, writer);
         }
         catch (IOException exception)
         {
@@ -71,23 +127,33 @@ public class FreeMarkerUtil
         {
             throw new ZserioEmitException(exception.getMessage());
         }
-        finally
+
+        return writer.toString();
+    }
+
+    private static Configuration getFreeMarkerConfig()
+    {
+        Configuration config = freeMarkerConfig;
+        if (config == null)
         {
-            try
-            {
-                if (bufferedWriter != null)
-                    bufferedWriter.close();
-                else if (outputStreamWriter != null)
-                    outputStreamWriter.close();
-                else if (fileOutputStream != null)
-                    fileOutputStream.close();
-            }
-            catch( IOException e )
+            synchronized (FreeMarkerUtil.class)
             {
+                config = freeMarkerConfig;
+                if (config == null)
+                {
+                    config = new Configuration(Configuration.VERSION_2_3_28);
+                    config.setClassForTemplateLoading(FreeMarkerUtil.class, "/freemarker/");
+                    freeMarkerConfig = config;
+                }
             }
         }
+
+        return config;
     }
 
+    static final String LINE_SEPARATOR = System.getProperty("line.separator");
+
     private static volatile Configuration freeMarkerConfig;
-    private static Set<String> amalgamatedDirectories;
+    private static final Set<String> amalgamatedDirectories = new HashSet<String>();
+    private static final ThreadLocal<TemplateOutputQueue> outputQueue = new ThreadLocal<TemplateOutputQueue>();
 }
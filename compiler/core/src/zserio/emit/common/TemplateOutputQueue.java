@@ -0,0 +1,275 @@
+package zserio.emit.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Queue of FreeMarker templates which are processed in parallel.
+ *
+ * Emitters request templates one by one during traversal of Zserio tree. When the queue is set to
+ * FreeMarkerUtil, the requested templates are only collected and all of them are processed at once using
+ * fork-join pool. Templates which generate the same output file are always processed by one task in the order
+ * in which they have been requested, thus the generated files (including amalgamated ones) are the same as
+ * if the templates were processed sequentially.
+ *
+ * Output files whose content has not been changed are not rewritten. Content hashes of all generated files
+ * are available after processing for incremental generation.
+ */
+public class TemplateOutputQueue
+{
+    /**
+     * Constructor which uses all available processors.
+     */
+    public TemplateOutputQueue()
+    {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param parallelism Maximum number of templates processed in parallel.
+     */
+    public TemplateOutputQueue(int parallelism)
+    {
+        this.parallelism = Math.max(1, parallelism);
+        outputs = new LinkedHashMap<File, List<QueuedTemplate>>();
+        ownerName = "";
+    }
+
+    /**
+     * Sets the name of the owner of subsequently added templates (e.g. extension name).
+     *
+     * The owner name is used in error messages.
+     *
+     * @param ownerName Name of the owner.
+     */
+    public void setOwnerName(String ownerName)
+    {
+        this.ownerName = ownerName;
+    }
+
+    /**
+     * Gets number of output files which will be generated by the queue.
+     *
+     * @return Number of output files.
+     */
+    public int getNumOutputFiles()
+    {
+        return outputs.size();
+    }
+
+    /**
+     * Processes all queued templates and clears the queue.
+     *
+     * @throws ZserioEmitException In case of any template error.
+     */
+    public void process() throws ZserioEmitException
+    {
+        final List<OutputTask> tasks = new ArrayList<OutputTask>(outputs.size());
+        for (List<QueuedTemplate> outputTemplates : outputs.values())
+            tasks.add(new OutputTask(outputTemplates));
+        outputs.clear();
+
+        if (parallelism == 1 || tasks.size() < 2)
+        {
+            for (OutputTask task : tasks)
+            {
+                final ZserioEmitException exception = task.call();
+                if (exception != null)
+                    throw exception;
+            }
+            addOutputHashes(tasks);
+            return;
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, tasks.size()));
+        try
+        {
+            // results are checked in the order of the tasks to report always the same error
+            final List<Future<ZserioEmitException>> futures = pool.invokeAll(tasks);
+            for (Future<ZserioEmitException> future : futures)
+            {
+                final ZserioEmitException exception = getTaskResult(future);
+                if (exception != null)
+                    throw exception;
+            }
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+
+        addOutputHashes(tasks);
+    }
+
+    /**
+     * Gets content hashes of all output files generated by the queue so far.
+     *
+     * @return Map of output file names to content hashes sorted by file names.
+     */
+    public Map<String, String> getOutputHashes()
+    {
+        return Collections.unmodifiableMap(outputHashes);
+    }
+
+    void add(String templateName, Object templateDataModel, File outputFile, boolean amalgamate)
+    {
+        // the first amalgamated output in the directory rewrites the file, all others are appended
+        final boolean append = amalgamate && !amalgamatedDirectories.add(outputFile.getParent());
+
+        List<QueuedTemplate> outputTemplates = outputs.get(outputFile);
+        if (outputTemplates == null)
+        {
+            outputTemplates = new ArrayList<QueuedTemplate>();
+            outputs.put(outputFile, outputTemplates);
+        }
+        outputTemplates.add(new QueuedTemplate(ownerName, templateName, templateDataModel, outputFile, append));
+    }
+
+    private void addOutputHashes(List<OutputTask> tasks)
+    {
+        for (OutputTask task : tasks)
+            outputHashes.put(task.getOutputFile().getPath(), task.getContentHash());
+    }
+
+    private static ZserioEmitException getTaskResult(Future<ZserioEmitException> future)
+            throws ZserioEmitException
+    {
+        try
+        {
+            return future.get();
+        }
+        catch (InterruptedException exception)
+        {
+            Thread.currentThread().interrupt();
+            throw new ZserioEmitException("Processing of templates has been interrupted!");
+        }
+        catch (ExecutionException exception)
+        {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException)cause;
+            if (cause instanceof Error)
+                throw (Error)cause;
+
+            throw new ZserioEmitException(String.valueOf(cause));
+        }
+    }
+
+    private static final class QueuedTemplate
+    {
+        public QueuedTemplate(String ownerName, String templateName, Object templateDataModel,
+                File outputFile, boolean append)
+        {
+            this.ownerName = ownerName;
+            this.templateName = templateName;
+            this.templateDataModel = templateDataModel;
+            this.outputFile = outputFile;
+            this.append = append;
+        }
+
+        private final String ownerName;
+        private final String templateName;
+        private final Object templateDataModel;
+        private final File outputFile;
+        private final boolean append;
+    }
+
+    /**
+     * Task which generates one output file. It returns the exception instead of throwing it because fork-join
+     * pool does not keep checked exceptions.
+     */
+    private static final class OutputTask implements Callable<ZserioEmitException>
+    {
+        public OutputTask(List<QueuedTemplate> outputTemplates)
+        {
+            this.outputTemplates = outputTemplates;
+        }
+
+        @Override
+        public ZserioEmitException call()
+        {
+            final QueuedTemplate firstTemplate = outputTemplates.get(0);
+            try
+            {
+                // the whole file is generated in memory to be able to skip writing of unchanged files
+                StringBuilder content = null;
+                for (QueuedTemplate template : outputTemplates)
+                {
+                    final String text = FreeMarkerUtil.renderTemplate(template.templateName,
+                            template.templateDataModel);
+                    if (template.append)
+                    {
+                        if (content == null)
+                            content = new StringBuilder(readExistingContent(template.outputFile));
+                        content.append(FreeMarkerUtil.LINE_SEPARATOR).append(text);
+                    }
+                    else
+                    {
+                        content = new StringBuilder(text);
+                    }
+                }
+
+                final byte[] contentBytes = content.toString().getBytes(StandardCharsets.UTF_8);
+                FileUtil.writeFileIfChanged(firstTemplate.outputFile, contentBytes);
+                contentHash = FileUtil.getContentHash(contentBytes);
+            }
+            catch (ZserioEmitException exception)
+            {
+                return (firstTemplate.ownerName.isEmpty()) ? exception :
+                    new ZserioEmitException(firstTemplate.ownerName + ": " + exception.getMessage());
+            }
+
+            return null;
+        }
+
+        public File getOutputFile()
+        {
+            return outputTemplates.get(0).outputFile;
+        }
+
+        public String getContentHash()
+        {
+            return contentHash;
+        }
+
+        private static String readExistingContent(File outputFile) throws ZserioEmitException
+        {
+            if (!outputFile.isFile())
+                return "";
+
+            try
+            {
+                return new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+            }
+            catch (IOException exception)
+            {
+                throw new ZserioEmitException(exception.getMessage());
+            }
+        }
+
+        private final List<QueuedTemplate> outputTemplates;
+        private String contentHash;
+    }
+
+    private final int parallelism;
+    private final Map<File, List<QueuedTemplate>> outputs;
+    private final Map<String, String> outputHashes = new TreeMap<String, String>();
+    private final Set<String> amalgamatedDirectories = new HashSet<String>();
+    private String ownerName;
+}
@@ -180,6 +180,16 @@ class CommandLineArguments
         return topLevelPackageName;
     }
 
+    /**
+     * Gets the manifest file name used for incremental generation.
+     *
+     * @returns Manifest file name or null if not specified.
+     */
+    public String getManifestFileName()
+    {
+        return manifestFileName;
+    }
+
     /**
      * Returns true if command line arguments contain given option name.
      *
@@ -306,6 +316,13 @@ class CommandLineArguments
         option.setArgName("packageName");
         option.setRequired(false);
         options.addOption(option);
+
+        option = new Option(OptionNameManifest, true,
+                            "use manifest file to skip generation if nothing has changed and to write only " +
+                            "changed output files");
+        option.setArgName("manifestFile");
+        option.setRequired(false);
+        options.addOption(option);
     }
 
     private void readOptions() throws ParseException
@@ -316,6 +333,7 @@ class CommandLineArguments
         helpOption = hasOption(OptionNameHelpShort);
         versionOption = hasOption(OptionNameVersionShort);
         topLevelPackageName = getOptionValue(OptionNameSetTopLevelPackage);
+        manifestFileName = getOptionValue(OptionNameManifest);
 
         withRangeCheckCodeOption = hasOption(OptionNameWithRangeCheckCode);
         withPubsubCodeOption = !hasOption(OptionNameWithoutPubsubCode);
@@ -401,6 +419,7 @@ class CommandLineArguments
     private static final String OptionNameSource = "src";
     private static final String OptionNameVersionShort = "v";
     private static final String OptionNameSetTopLevelPackage = "setTopLevelPackage";
+    private static final String OptionNameManifest = "manifest";
     private static final String OptionNameWithRangeCheckCode = "withRangeCheckCode";
     private static final String OptionNameWithoutRangeCheckCode = "withoutRangeCheckCode";
     private static final String OptionNameWithPubsubCode = "withPubsubCode";
@@ -425,6 +444,7 @@ class CommandLineArguments
     private boolean helpOption;
     private String  srcPathName;
     private String  topLevelPackageName;
+    private String  manifestFileName;
     private boolean versionOption;
     private boolean withRangeCheckCodeOption;
     private boolean withPubsubCodeOption;
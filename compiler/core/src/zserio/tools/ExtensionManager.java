@@ -4,11 +4,18 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+
 import zserio.ast.Root;
+import zserio.emit.common.FreeMarkerUtil;
+import zserio.emit.common.TemplateOutputQueue;
 import zserio.emit.common.ZserioEmitException;
 
 /**
@@ -80,30 +87,110 @@ class ExtensionManager
         }
         else
         {
-            for (Extension extension : extensions)
+            outputDirectories.clear();
+
+            // templates are only collected during emitting and processed in parallel at the end
+            final TemplateOutputQueue outputQueue = new TemplateOutputQueue();
+            FreeMarkerUtil.setOutputQueue(outputQueue);
+            try
             {
-                if (extension.isEnabled(parameters))
+                for (Extension extension : extensions)
                 {
-                    try
+                    if (extension.isEnabled(parameters))
                     {
-                        ZserioToolPrinter.printMessage("Emitting " + extension.getName() + " code");
-                        extension.generate(parameters, rootNode);
+                        addOutputDirectories(extension, parameters);
+                        outputQueue.setOwnerName(extension.getName());
+                        final int numOutputFiles = outputQueue.getNumOutputFiles();
+                        try
+                        {
+                            ZserioToolPrinter.printMessage("Emitting " + extension.getName() + " code");
+                            extension.generate(parameters, rootNode);
+                            if (outputQueue.getNumOutputFiles() == numOutputFiles)
+                                hasUntrackedOutputs = true;
+                        }
+                        catch (ZserioEmitException exception)
+                        {
+                            throw new ZserioEmitException(extension.getName() + ": " + exception.getMessage());
+                        }
+                        catch (Throwable exception)
+                        {
+                            throw new ZserioEmitException(extension.getName() + ": " +
+                                    getThrowableExceptionMessage(exception));
+                        }
                     }
-                    catch (ZserioEmitException exception)
+                    else
                     {
-                        throw new ZserioEmitException(extension.getName() + ": " + exception.getMessage());
+                        ZserioToolPrinter.printMessage("Emitting " + extension.getName() + " code is disabled");
                     }
-                    catch (Throwable exception)
-                    {
-                        throw new ZserioEmitException(extension.getName() + ": " +
-                                getThrowableExceptionMessage(exception));
-                    }
-                }
-                else
-                {
-                    ZserioToolPrinter.printMessage("Emitting " + extension.getName() + " code is disabled");
                 }
             }
+            finally
+            {
+                FreeMarkerUtil.setOutputQueue(null);
+            }
+
+            processOutputQueue(outputQueue);
+            outputHashes = outputQueue.getOutputHashes();
+        }
+    }
+
+    /**
+     * Gets content hashes of all files generated from templates during the last call of callExtensions().
+     *
+     * @return Map of output file names to content hashes sorted by file names.
+     */
+    public Map<String, String> getOutputHashes()
+    {
+        return outputHashes;
+    }
+
+    /**
+     * Gets output directories of all extensions enabled during the last call of callExtensions().
+     *
+     * @return List of output directories as given on the command line.
+     */
+    public List<String> getOutputDirectories()
+    {
+        return Collections.unmodifiableList(outputDirectories);
+    }
+
+    /**
+     * Checks whether some enabled extension has generated outputs which are not generated from templates.
+     *
+     * Such outputs are not available in output hashes.
+     *
+     * @return True if some outputs are not tracked by output hashes, otherwise false.
+     */
+    public boolean hasUntrackedOutputs()
+    {
+        return hasUntrackedOutputs;
+    }
+
+    private void addOutputDirectories(Extension extension, Parameters parameters)
+    {
+        // extensions name the argument of their output directory option by convention
+        final Options extensionOptions = new Options();
+        extension.registerOptions(extensionOptions);
+        for (Option option : extensionOptions.getOptions())
+        {
+            if (OUTPUT_DIR_ARG_NAME.equals(option.getArgName()) && parameters.argumentExists(option.getOpt()))
+                outputDirectories.add(parameters.getCommandLineArg(option.getOpt()));
+        }
+    }
+
+    private static void processOutputQueue(TemplateOutputQueue outputQueue) throws ZserioEmitException
+    {
+        try
+        {
+            outputQueue.process();
+        }
+        catch (ZserioEmitException exception)
+        {
+            throw exception;
+        }
+        catch (Throwable exception)
+        {
+            throw new ZserioEmitException(getThrowableExceptionMessage(exception));
         }
     }
 
@@ -126,5 +213,10 @@ class ExtensionManager
         return message;
     }
 
+    private static final String OUTPUT_DIR_ARG_NAME = "outputDir";
+
     private final List<Extension> extensions;
+    private final List<String> outputDirectories = new ArrayList<String>();
+    private Map<String, String> outputHashes = Collections.emptyMap();
+    private boolean hasUntrackedOutputs = false;
 }
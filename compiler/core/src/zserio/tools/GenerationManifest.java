@@ -0,0 +1,251 @@
+package zserio.tools;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import zserio.emit.common.FileUtil;
+
+/**
+ * The manifest of the last generation which is used for incremental generation.
+ *
+ * The manifest keeps content hashes of all input files, hash of command line arguments and content hashes
+ * of all generated output files. If none of them has changed since the last generation, the generation can
+ * be skipped at all.
+ *
+ * All file names are stored as absolute paths, thus the manifest does not depend on the working directory.
+ */
+class GenerationManifest
+{
+    /**
+     * Constructor.
+     *
+     * @param argumentsHash Hash of command line arguments or null if the generation cannot be skipped next
+     *                      time (e.g. because some outputs are not tracked by the manifest).
+     */
+    public GenerationManifest(String argumentsHash)
+    {
+        this.argumentsHash = argumentsHash;
+        inputHashes = new TreeMap<String, String>();
+        outputHashes = new TreeMap<String, String>();
+    }
+
+    /**
+     * Reads the manifest from the given file.
+     *
+     * @param manifestFile Manifest file to read.
+     *
+     * @return Read manifest or null if the manifest file does not exist, it is invalid or it has been created
+     *         by another version of Zserio.
+     *
+     * @throws IOException If the manifest file cannot be read.
+     */
+    public static GenerationManifest read(File manifestFile) throws IOException
+    {
+        if (!manifestFile.isFile())
+            return null;
+
+        final List<String> lines = Files.readAllLines(manifestFile.toPath(), StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(VERSION_KEY + SEPARATOR + ZserioVersion.VERSION_STRING))
+            return null;
+
+        String argumentsHash = null;
+        final Map<String, String> inputHashes = new TreeMap<String, String>();
+        final Map<String, String> outputHashes = new TreeMap<String, String>();
+        for (String line : lines.subList(1, lines.size()))
+        {
+            final String[] items = line.split(SEPARATOR, 3);
+            if (items[0].equals(ARGUMENTS_KEY) && items.length == 2)
+                argumentsHash = items[1];
+            else if (items[0].equals(INPUT_KEY) && items.length == 3)
+                inputHashes.put(items[2], items[1]);
+            else if (items[0].equals(OUTPUT_KEY) && items.length == 3)
+                outputHashes.put(items[2], items[1]);
+            else
+                return null;
+        }
+
+        final GenerationManifest manifest = new GenerationManifest(argumentsHash);
+        manifest.inputHashes.putAll(inputHashes);
+        manifest.outputHashes.putAll(outputHashes);
+
+        return manifest;
+    }
+
+    /**
+     * Calculates hash of the given command line arguments.
+     *
+     * @param args Command line arguments.
+     *
+     * @return Hash of command line arguments.
+     */
+    public static String getArgumentsHash(String[] args)
+    {
+        final StringBuilder joinedArgs = new StringBuilder();
+        for (String arg : args)
+            joinedArgs.append(arg).append('\0');
+
+        return FileUtil.getContentHash(joinedArgs.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Adds the input file to the manifest.
+     *
+     * @param inputFileName Name of the input file.
+     *
+     * @throws IOException If the input file cannot be read.
+     */
+    public void addInputFile(String inputFileName) throws IOException
+    {
+        final File inputFile = getAbsoluteFile(inputFileName);
+        inputHashes.put(inputFile.getPath(), getFileHash(inputFile));
+    }
+
+    /**
+     * Adds the generated output file to the manifest.
+     *
+     * @param outputFileName Name of the output file.
+     * @param contentHash    Content hash of the output file.
+     */
+    public void addOutputFile(String outputFileName, String contentHash)
+    {
+        outputHashes.put(getAbsoluteFile(outputFileName).getPath(), contentHash);
+    }
+
+    /**
+     * Gets names of all output files stored in the manifest.
+     *
+     * @return Sorted set of output file names.
+     */
+    public Set<String> getOutputFileNames()
+    {
+        return outputHashes.keySet();
+    }
+
+    /**
+     * Gets output files stored in this manifest which have not been generated by the current generation.
+     *
+     * Output files are considered stale only if the current generation has been run with the same command line
+     * arguments and only if they are located in one of the current output directories. Other files can belong
+     * to another generation which uses the same manifest file.
+     *
+     * @param currentManifest      Manifest of the current generation.
+     * @param currentArgumentsHash Hash of the current command line arguments.
+     * @param outputDirectories    Output directories of the current generation.
+     *
+     * @return List of stale output files.
+     */
+    public List<File> getStaleOutputFiles(GenerationManifest currentManifest, String currentArgumentsHash,
+            Iterable<String> outputDirectories)
+    {
+        final List<File> staleOutputFiles = new ArrayList<File>();
+        if (argumentsHash == null || !argumentsHash.equals(currentArgumentsHash))
+            return staleOutputFiles;
+
+        for (String outputFileName : outputHashes.keySet())
+        {
+            if (!currentManifest.outputHashes.containsKey(outputFileName))
+            {
+                final File outputFile = new File(outputFileName);
+                for (String outputDirectory : outputDirectories)
+                {
+                    if (outputFile.toPath().startsWith(getAbsoluteFile(outputDirectory).toPath()))
+                    {
+                        staleOutputFiles.add(outputFile);
+                        break;
+                    }
+                }
+            }
+        }
+
+        return staleOutputFiles;
+    }
+
+    /**
+     * Checks whether the outputs stored in the manifest are up to date.
+     *
+     * The outputs are up to date if the command line arguments are the same and if all input files and all
+     * output files exist and have the same content as stored in the manifest.
+     *
+     * @param currentArgumentsHash Hash of the current command line arguments.
+     *
+     * @return True if the generation can be skipped, otherwise false.
+     */
+    public boolean isUpToDate(String currentArgumentsHash)
+    {
+        if (argumentsHash == null || !argumentsHash.equals(currentArgumentsHash) || inputHashes.isEmpty())
+            return false;
+
+        try
+        {
+            return areFilesUnchanged(inputHashes) && areFilesUnchanged(outputHashes);
+        }
+        catch (IOException exception)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the manifest to the given file.
+     *
+     * @param manifestFile Manifest file to write.
+     *
+     * @throws IOException If the manifest file cannot be written.
+     */
+    public void write(File manifestFile) throws IOException
+    {
+        final List<String> lines = new ArrayList<String>();
+        lines.add(VERSION_KEY + SEPARATOR + ZserioVersion.VERSION_STRING);
+        if (argumentsHash != null)
+            lines.add(ARGUMENTS_KEY + SEPARATOR + argumentsHash);
+        for (Map.Entry<String, String> entry : inputHashes.entrySet())
+            lines.add(INPUT_KEY + SEPARATOR + entry.getValue() + SEPARATOR + entry.getKey());
+        for (Map.Entry<String, String> entry : outputHashes.entrySet())
+            lines.add(OUTPUT_KEY + SEPARATOR + entry.getValue() + SEPARATOR + entry.getKey());
+
+        final File parentDir = manifestFile.getAbsoluteFile().getParentFile();
+        if (parentDir != null && !parentDir.isDirectory() && !parentDir.mkdirs())
+            throw new IOException("Can't create directory for manifest file: " + parentDir);
+
+        Files.write(manifestFile.toPath(), lines, StandardCharsets.UTF_8);
+    }
+
+    private static boolean areFilesUnchanged(Map<String, String> fileHashes) throws IOException
+    {
+        for (Map.Entry<String, String> entry : fileHashes.entrySet())
+        {
+            final File file = new File(entry.getKey());
+            if (!file.isFile() || !getFileHash(file).equals(entry.getValue()))
+                return false;
+        }
+
+        return true;
+    }
+
+    private static File getAbsoluteFile(String fileName)
+    {
+        return new File(fileName).getAbsoluteFile().toPath().normalize().toFile();
+    }
+
+    private static String getFileHash(File file) throws IOException
+    {
+        return FileUtil.getContentHash(Files.readAllBytes(file.toPath()));
+    }
+
+    private static final String SEPARATOR = " ";
+    private static final String VERSION_KEY = "zserio";
+    private static final String ARGUMENTS_KEY = "arguments";
+    private static final String INPUT_KEY = "input";
+    private static final String OUTPUT_KEY = "output";
+
+    private final String argumentsHash;
+    private final Map<String, String> inputHashes;
+    private final Map<String, String> outputHashes;
+}
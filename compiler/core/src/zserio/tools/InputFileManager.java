@@ -1,7 +1,10 @@
 package zserio.tools;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import zserio.ast.PackageName;
@@ -74,6 +77,19 @@ public class InputFileManager
         return inputFiles.contains(fileFullName);
     }
 
+    /**
+     * Gets all registered input files.
+     *
+     * @return Sorted list of full names of all registered input files.
+     */
+    public List<String> getRegisteredFiles()
+    {
+        final List<String> registeredFiles = new ArrayList<String>(inputFiles);
+        Collections.sort(registeredFiles);
+
+        return registeredFiles;
+    }
+
     private String getInputFileFullName(String inputFileName)
     {
         final String srcPathName = commandLineArguments.getSrcPathName();
@@ -0,0 +1,208 @@
+package zserio.tools;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import zserio.antlr.ZserioLexer;
+import zserio.antlr.ZserioParser;
+import zserio.antlr.util.ParseErrorListener;
+import zserio.ast.PackageName;
+import zserio.emit.common.FileUtil;
+
+/**
+ * Parser of Zserio package files.
+ *
+ * Lexing and parsing of each package file is independent on other files, thus the whole import graph can be
+ * parsed in parallel in advance. Imports are discovered directly from parse trees and all not yet seen files
+ * are parsed by fork-join pool. Parsed files are then taken one by one by the caller in the same order as if
+ * they were parsed sequentially, thus AST building, error reporting and all outputs stay deterministic.
+ *
+ * Errors found during parallel parsing are kept and reported only when the failed file is taken.
+ */
+class PackageFileParser
+{
+    /**
+     * Constructor which uses all available processors.
+     *
+     * @param inputFileManager Input file manager used to resolve imported package names to file names.
+     */
+    public PackageFileParser(InputFileManager inputFileManager)
+    {
+        this(inputFileManager, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param inputFileManager Input file manager used to resolve imported package names to file names.
+     * @param parallelism      Maximum number of files parsed in parallel.
+     */
+    public PackageFileParser(InputFileManager inputFileManager, int parallelism)
+    {
+        this.inputFileManager = inputFileManager;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Parses in parallel the given file and all files which are imported from it (directly or indirectly).
+     *
+     * If parallelism is one, nothing is done and all files are parsed on demand.
+     *
+     * @param inputFileFullName Full name of the main input file.
+     */
+    public void parseImportGraph(String inputFileFullName)
+    {
+        if (parallelism == 1)
+            return;
+
+        final Set<String> scheduledFiles =
+                Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        scheduledFiles.add(inputFileFullName);
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try
+        {
+            pool.invoke(new ParseTask(inputFileFullName, scheduledFiles));
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the parsed file.
+     *
+     * The file is taken from the files parsed in advance or it is parsed now if it has not been parsed yet.
+     *
+     * @param inputFileFullName Full name of the input file.
+     *
+     * @return Parsed file.
+     *
+     * @throws Exception If the file cannot be read or parsed.
+     */
+    public ParseTreeCache.ParsedFile getParsedFile(String inputFileFullName) throws Exception
+    {
+        final ParseResult result = parsedFiles.remove(inputFileFullName);
+        if (result == null)
+            return parse(inputFileFullName);
+
+        if (result.exception != null)
+            throw result.exception;
+
+        return result.parsedFile;
+    }
+
+    private List<String> getImportedFileNames(ParseTree tree)
+    {
+        final List<String> importedFileNames = new ArrayList<String>();
+        final ZserioParser.PackageDeclarationContext packageCtx = (ZserioParser.PackageDeclarationContext)tree;
+        for (ZserioParser.ImportDeclarationContext importCtx : packageCtx.importDeclaration())
+        {
+            // single type imports have the symbol name as the last id
+            final List<ZserioParser.IdContext> ids = importCtx.id();
+            final int numPackageIds = (importCtx.MULTIPLY() == null) ? ids.size() - 1 : ids.size();
+            final PackageName.Builder packageNameBuilder = new PackageName.Builder();
+            for (ZserioParser.IdContext id : ids.subList(0, numPackageIds))
+                packageNameBuilder.addId(id.getText());
+            importedFileNames.add(inputFileManager.getFileFullName(packageNameBuilder.get()));
+        }
+
+        return importedFileNames;
+    }
+
+    private static ParseTreeCache.ParsedFile parse(String inputFileFullName) throws Exception
+    {
+        // parse trees of unchanged files are reused when the tool is run repeatedly in the same process
+        final byte[] inputFileContent = Files.readAllBytes(Paths.get(inputFileFullName));
+        final String contentHash = FileUtil.getContentHash(inputFileContent);
+        ParseTreeCache.ParsedFile parsedFile = ParseTreeCache.get(inputFileFullName, contentHash);
+        if (parsedFile == null)
+        {
+            final CharStream inputStream = CharStreams.fromString(
+                    new String(inputFileContent, StandardCharsets.UTF_8), inputFileFullName);
+            final ParseErrorListener parseErrorListener = new ParseErrorListener();
+            final ZserioLexer lexer = new ZserioLexer(inputStream);
+            lexer.removeErrorListeners();
+            lexer.addErrorListener(parseErrorListener);
+            final CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+            final ZserioParser parser = new ZserioParser(tokenStream);
+            parser.removeErrorListeners();
+            parser.addErrorListener(parseErrorListener);
+
+            final ParseTree tree = parser.packageDeclaration();
+            parsedFile = new ParseTreeCache.ParsedFile(tree, tokenStream);
+            ParseTreeCache.put(inputFileFullName, contentHash, parsedFile);
+        }
+
+        return parsedFile;
+    }
+
+    private static final class ParseResult
+    {
+        public ParseResult(ParseTreeCache.ParsedFile parsedFile, Exception exception)
+        {
+            this.parsedFile = parsedFile;
+            this.exception = exception;
+        }
+
+        private final ParseTreeCache.ParsedFile parsedFile;
+        private final Exception exception;
+    }
+
+    /**
+     * Task which parses one file and forks tasks for all imported files which have not been scheduled yet.
+     */
+    private final class ParseTask extends RecursiveAction
+    {
+        public ParseTask(String inputFileFullName, Set<String> scheduledFiles)
+        {
+            this.inputFileFullName = inputFileFullName;
+            this.scheduledFiles = scheduledFiles;
+        }
+
+        @Override
+        protected void compute()
+        {
+            final List<ParseTask> importTasks = new ArrayList<ParseTask>();
+            try
+            {
+                final ParseTreeCache.ParsedFile parsedFile = parse(inputFileFullName);
+                parsedFiles.put(inputFileFullName, new ParseResult(parsedFile, null));
+                for (String importedFileName : getImportedFileNames(parsedFile.getTree()))
+                {
+                    if (scheduledFiles.add(importedFileName))
+                        importTasks.add(new ParseTask(importedFileName, scheduledFiles));
+                }
+            }
+            catch (Exception exception)
+            {
+                parsedFiles.put(inputFileFullName, new ParseResult(null, exception));
+            }
+
+            invokeAll(importTasks);
+        }
+
+        private static final long serialVersionUID = 1L;
+
+        private final String inputFileFullName;
+        private final Set<String> scheduledFiles;
+    }
+
+    private final InputFileManager inputFileManager;
+    private final int parallelism;
+    private final Map<String, ParseResult> parsedFiles = new ConcurrentHashMap<String, ParseResult>();
+}
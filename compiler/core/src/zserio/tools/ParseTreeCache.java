@@ -0,0 +1,125 @@
+package zserio.tools;
+
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+/**
+ * Cache of parsed input files.
+ *
+ * When Zserio Tool is run several times in the same process (e.g. when it is kept warm by Ant task), parse
+ * trees of input files which have not been changed are reused and the files are not lexed and parsed again.
+ * Files are identified by their full names and content hashes.
+ *
+ * ASTs are not cached because they are modified during resolving of the whole tree, thus they are always built
+ * again from the cached parse trees. Parse trees are kept by soft references only, therefore they are released
+ * when the memory is needed. The number of cached files is limited, the least recently used file is dropped
+ * when the limit is reached.
+ *
+ * Cached parse trees and token streams are shared by all runs and they must not be modified.
+ */
+class ParseTreeCache
+{
+    /**
+     * Parsed input file.
+     */
+    public static class ParsedFile
+    {
+        /**
+         * Constructor.
+         *
+         * @param tree        Parse tree of the input file.
+         * @param tokenStream Token stream from which the parse tree has been created.
+         */
+        public ParsedFile(ParseTree tree, CommonTokenStream tokenStream)
+        {
+            this.tree = tree;
+            this.tokenStream = tokenStream;
+        }
+
+        /**
+         * Gets the parse tree.
+         *
+         * @return Parse tree of the input file.
+         */
+        public ParseTree getTree()
+        {
+            return tree;
+        }
+
+        /**
+         * Gets the token stream.
+         *
+         * @return Token stream from which the parse tree has been created.
+         */
+        public CommonTokenStream getTokenStream()
+        {
+            return tokenStream;
+        }
+
+        private final ParseTree tree;
+        private final CommonTokenStream tokenStream;
+    }
+
+    /**
+     * Gets cached parsed input file.
+     *
+     * @param fileFullName Full name of the input file.
+     * @param contentHash  Content hash of the input file.
+     *
+     * @return Parsed input file or null if the file with the given content is not in the cache.
+     */
+    public static synchronized ParsedFile get(String fileFullName, String contentHash)
+    {
+        final CachedFile cachedFile = cachedFiles.get(fileFullName);
+        if (cachedFile == null || !cachedFile.contentHash.equals(contentHash))
+            return null;
+
+        final ParsedFile parsedFile = cachedFile.parsedFile.get();
+        if (parsedFile == null)
+            cachedFiles.remove(fileFullName);
+
+        return parsedFile;
+    }
+
+    /**
+     * Puts parsed input file to the cache.
+     *
+     * @param fileFullName Full name of the input file.
+     * @param contentHash  Content hash of the input file.
+     * @param parsedFile   Parsed input file.
+     */
+    public static synchronized void put(String fileFullName, String contentHash, ParsedFile parsedFile)
+    {
+        cachedFiles.put(fileFullName, new CachedFile(contentHash, parsedFile));
+    }
+
+    private static class CachedFile
+    {
+        public CachedFile(String contentHash, ParsedFile parsedFile)
+        {
+            this.contentHash = contentHash;
+            this.parsedFile = new SoftReference<ParsedFile>(parsedFile);
+        }
+
+        private final String contentHash;
+        private final SoftReference<ParsedFile> parsedFile;
+    }
+
+    static final int MAX_NUM_CACHED_FILES = 1024;
+
+    private static final Map<String, CachedFile> cachedFiles =
+            new LinkedHashMap<String, CachedFile>(16, 0.75f, true)
+            {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedFile> eldest)
+                {
+                    return size() > MAX_NUM_CACHED_FILES;
+                }
+
+                private static final long serialVersionUID = 1L;
+            };
+}
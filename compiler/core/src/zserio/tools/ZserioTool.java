@@ -1,18 +1,14 @@
 package zserio.tools;
 
+import java.io.File;
 import java.io.IOException;
-import java.nio.charset.Charset;
 import java.nio.file.NoSuchFileException;
+import java.util.Map;
 
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.commons.cli.ParseException;
 
-import zserio.antlr.ZserioLexer;
-import zserio.antlr.ZserioParser;
-import zserio.antlr.util.ParseErrorListener;
 import zserio.ast.Import;
 import zserio.ast.Package;
 import zserio.ast.PackageName;
@@ -130,14 +126,28 @@ public class ZserioTool
         }
         else
         {
-            process();
+            process(args);
         }
     }
 
-    private void process() throws Exception
+    private void process(String[] args) throws Exception
     {
-        final Root rootNode = parse();
-        emit(rootNode);
+        final String manifestFileName = commandLineArguments.getManifestFileName();
+        final File manifestFile = (manifestFileName != null) ? new File(manifestFileName) : null;
+        final String argumentsHash = (manifestFile != null) ? GenerationManifest.getArgumentsHash(args) : null;
+        final GenerationManifest previousManifest = (manifestFile != null) ?
+                GenerationManifest.read(manifestFile) : null;
+        if (previousManifest != null && previousManifest.isUpToDate(argumentsHash))
+        {
+            ZserioToolPrinter.printMessage("Generated sources are up to date");
+        }
+        else
+        {
+            final Root rootNode = parse();
+            emit(rootNode);
+            if (manifestFile != null)
+                writeManifest(manifestFile, argumentsHash, previousManifest);
+        }
         ZserioToolPrinter.printMessage("Done");
     }
 
@@ -147,8 +157,10 @@ public class ZserioTool
 
         final String inputFileName = commandLineArguments.getInputFileName();
         final String inputFileFullName = inputFileManager.getFileFullName(inputFileName);
-        final Package parsedPackage = parsePackage(astBuilderVisitor, inputFileFullName);
-        parseImportedPackages(astBuilderVisitor, parsedPackage);
+        final PackageFileParser packageFileParser = new PackageFileParser(inputFileManager);
+        packageFileParser.parseImportGraph(inputFileFullName);
+        final Package parsedPackage = parsePackage(packageFileParser, astBuilderVisitor, inputFileFullName);
+        parseImportedPackages(packageFileParser, astBuilderVisitor, parsedPackage);
 
         final Root rootNode = astBuilderVisitor.getAst();
 
@@ -176,24 +188,16 @@ public class ZserioTool
         return rootNode;
     }
 
-    private Package parsePackage(ZserioAstBuilder astBuilder,
+    private Package parsePackage(PackageFileParser packageFileParser, ZserioAstBuilder astBuilder,
             String inputFileFullName) throws Exception
     {
         ZserioToolPrinter.printMessage("Parsing " + inputFileFullName);
 
         inputFileManager.registerFile(inputFileFullName);
 
-        final CharStream inputStream = CharStreams.fromFileName(inputFileFullName, Charset.forName("UTF-8"));
-        final ParseErrorListener parseErrorListener = new ParseErrorListener();
-        final ZserioLexer lexer = new ZserioLexer(inputStream);
-        lexer.removeErrorListeners();
-        lexer.addErrorListener(parseErrorListener);
-        final CommonTokenStream tokenStream = new CommonTokenStream(lexer);
-        final ZserioParser parser = new ZserioParser(tokenStream);
-        parser.removeErrorListeners();
-        parser.addErrorListener(parseErrorListener);
-
-        final ParseTree tree = parser.packageDeclaration();
+        final ParseTreeCache.ParsedFile parsedFile = packageFileParser.getParsedFile(inputFileFullName);
+        final ParseTree tree = parsedFile.getTree();
+        final CommonTokenStream tokenStream = parsedFile.getTokenStream();
 
         final ZserioParseTreeChecker parseTreeChecker = new ZserioParseTreeChecker(inputFileManager);
         parseTreeChecker.visit(tree);
@@ -203,8 +207,8 @@ public class ZserioTool
         return parsedPackage;
     }
 
-    private void parseImportedPackages(ZserioAstBuilder astBuilderVisitor,
-            Package parentPackage) throws Exception
+    private void parseImportedPackages(PackageFileParser packageFileParser,
+            ZserioAstBuilder astBuilderVisitor, Package parentPackage) throws Exception
     {
         final Iterable<Import> imports = parentPackage.getImports();
         for (Import importNode : imports)
@@ -213,8 +217,9 @@ public class ZserioTool
             final String inputFileFullName = inputFileManager.getFileFullName(importedPackageName);
             if (!inputFileManager.isFileRegistered(inputFileFullName))
             {
-                final Package parsedPackage = parsePackage(astBuilderVisitor, inputFileFullName);
-                parseImportedPackages(astBuilderVisitor, parsedPackage);
+                final Package parsedPackage = parsePackage(packageFileParser, astBuilderVisitor,
+                        inputFileFullName);
+                parseImportedPackages(packageFileParser, astBuilderVisitor, parsedPackage);
             }
         }
     }
@@ -225,6 +230,30 @@ public class ZserioTool
         extensionManager.callExtensions(parameters, rootNode);
     }
 
+    private void writeManifest(File manifestFile, String argumentsHash, GenerationManifest previousManifest)
+            throws IOException
+    {
+        final GenerationManifest manifest = new GenerationManifest(
+                extensionManager.hasUntrackedOutputs() ? null : argumentsHash);
+        for (String inputFileName : inputFileManager.getRegisteredFiles())
+            manifest.addInputFile(inputFileName);
+        for (Map.Entry<String, String> entry : extensionManager.getOutputHashes().entrySet())
+            manifest.addOutputFile(entry.getKey(), entry.getValue());
+
+        // remove outputs of types which do not exist anymore
+        if (previousManifest != null)
+        {
+            for (File outputFile : previousManifest.getStaleOutputFiles(manifest, argumentsHash,
+                    extensionManager.getOutputDirectories()))
+            {
+                if (outputFile.isFile() && !outputFile.delete())
+                    ZserioToolPrinter.printWarning("Can't delete stale output file " + outputFile);
+            }
+        }
+
+        manifest.write(manifestFile);
+    }
+
     private final InputFileManager inputFileManager;
     private final CommandLineArguments commandLineArguments;
     private final ExtensionManager extensionManager;
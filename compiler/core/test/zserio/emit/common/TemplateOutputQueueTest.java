@@ -0,0 +1,87 @@
+package zserio.emit.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class TemplateOutputQueueTest
+{
+    @Test
+    public void processTemplateToQueue() throws ZserioEmitException, IOException
+    {
+        final File outputDir = createTempDirectory();
+        final TemplateOutputQueue queue = new TemplateOutputQueue(2);
+        FreeMarkerUtil.setOutputQueue(queue);
+        try
+        {
+            FreeMarkerUtil.processTemplate("Unknown.ftl", null, new File(outputDir, "A.txt"), false);
+            FreeMarkerUtil.processTemplate("Unknown.ftl", null, new File(outputDir, "B.txt"), false);
+            FreeMarkerUtil.processTemplate("Unknown.ftl", null, new File(outputDir, "Amalgam.txt"), true);
+            FreeMarkerUtil.processTemplate("Unknown.ftl", null, new File(outputDir, "Amalgam.txt"), true);
+        }
+        finally
+        {
+            FreeMarkerUtil.setOutputQueue(null);
+        }
+
+        assertEquals(3, queue.getNumOutputFiles());
+        assertFalse(outputDir.exists());
+    }
+
+    @Test
+    public void processEmpty() throws ZserioEmitException
+    {
+        final TemplateOutputQueue queue = new TemplateOutputQueue();
+        queue.process();
+        assertEquals(0, queue.getNumOutputFiles());
+    }
+
+    @Test
+    public void processError() throws IOException
+    {
+        final File outputDir = createTempDirectory();
+        final TemplateOutputQueue queue = new TemplateOutputQueue(4);
+        queue.setOwnerName("Owner");
+        for (int i = 0; i < 10; ++i)
+            queue.add("Unknown.ftl", null, new File(outputDir, "File" + i + ".txt"), false);
+
+        try
+        {
+            queue.process();
+            fail("ZserioEmitException expected!");
+        }
+        catch (ZserioEmitException exception)
+        {
+            assertTrue(exception.getMessage().startsWith("Owner: "));
+        }
+        assertEquals(0, queue.getNumOutputFiles());
+
+        deleteDirectory(outputDir);
+    }
+
+    private static File createTempDirectory() throws IOException
+    {
+        final File tempFile = File.createTempFile("TemplateOutputQueueTest", null);
+        if (!tempFile.delete())
+            throw new IOException("Can't delete temporary file " + tempFile);
+
+        return tempFile;
+    }
+
+    private static void deleteDirectory(File directory)
+    {
+        final File[] files = directory.listFiles();
+        if (files != null)
+        {
+            for (File file : files)
+                assertTrue(file.delete());
+        }
+        assertTrue(!directory.exists() || directory.delete());
+    }
+}
@@ -279,6 +279,20 @@ public class CommandLineArgumentsTest
         parse(args);
     }
 
+    @Test
+    public void manifest() throws ParseException
+    {
+        String[] args = { "-manifest", "gen/zserio.manifest" };
+        assertEquals("gen/zserio.manifest", parse(args).getManifestFileName());
+    }
+
+    @Test
+    public void manifestDefault() throws ParseException
+    {
+        String[] args = {};
+        assertNull(parse(args).getManifestFileName());
+    }
+
     private static CommandLineArguments parse(String[] args) throws ParseException
     {
         CommandLineArguments commandLineArgs = new CommandLineArguments();
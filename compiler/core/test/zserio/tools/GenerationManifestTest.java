@@ -0,0 +1,178 @@
+package zserio.tools;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import zserio.emit.common.FileUtil;
+
+public class GenerationManifestTest
+{
+    @Before
+    public void setUp() throws IOException
+    {
+        inputFile = File.createTempFile("GenerationManifestTest", ".zs");
+        outputFile = File.createTempFile("GenerationManifestTest", ".java");
+        manifestFile = File.createTempFile("GenerationManifestTest", ".manifest");
+        writeFile(inputFile, INPUT_CONTENT);
+        writeFile(outputFile, OUTPUT_CONTENT);
+    }
+
+    @After
+    public void tearDown()
+    {
+        inputFile.delete();
+        outputFile.delete();
+        manifestFile.delete();
+    }
+
+    @Test
+    public void writeRead() throws IOException
+    {
+        createManifest(ARGUMENTS_HASH).write(manifestFile);
+
+        final GenerationManifest readManifest = GenerationManifest.read(manifestFile);
+        assertNotNull(readManifest);
+        assertTrue(readManifest.getOutputFileNames().contains(outputFile.getPath()));
+        assertTrue(readManifest.isUpToDate(ARGUMENTS_HASH));
+    }
+
+    @Test
+    public void readMissing() throws IOException
+    {
+        manifestFile.delete();
+        assertNull(GenerationManifest.read(manifestFile));
+    }
+
+    @Test
+    public void readInvalid() throws IOException
+    {
+        writeFile(manifestFile, "invalid manifest");
+        assertNull(GenerationManifest.read(manifestFile));
+    }
+
+    @Test
+    public void changedArguments() throws IOException
+    {
+        assertFalse(createManifest(ARGUMENTS_HASH).isUpToDate("otherHash"));
+    }
+
+    @Test
+    public void untrackedOutputs() throws IOException
+    {
+        assertFalse(createManifest(null).isUpToDate(ARGUMENTS_HASH));
+    }
+
+    @Test
+    public void changedInput() throws IOException
+    {
+        final GenerationManifest manifest = createManifest(ARGUMENTS_HASH);
+        writeFile(inputFile, INPUT_CONTENT + "\n");
+        assertFalse(manifest.isUpToDate(ARGUMENTS_HASH));
+    }
+
+    @Test
+    public void changedOutput() throws IOException
+    {
+        final GenerationManifest manifest = createManifest(ARGUMENTS_HASH);
+        writeFile(outputFile, "");
+        assertFalse(manifest.isUpToDate(ARGUMENTS_HASH));
+    }
+
+    @Test
+    public void missingOutput() throws IOException
+    {
+        final GenerationManifest manifest = createManifest(ARGUMENTS_HASH);
+        assertTrue(outputFile.delete());
+        assertFalse(manifest.isUpToDate(ARGUMENTS_HASH));
+    }
+
+    @Test
+    public void absolutePaths() throws IOException
+    {
+        final GenerationManifest manifest = new GenerationManifest(ARGUMENTS_HASH);
+        manifest.addOutputFile("gen/../gen/Test.java", "hash");
+        assertTrue(manifest.getOutputFileNames().contains(new File("gen/Test.java").getAbsolutePath()));
+    }
+
+    @Test
+    public void staleOutputFiles() throws IOException
+    {
+        final GenerationManifest previousManifest = createManifest(ARGUMENTS_HASH);
+        final GenerationManifest currentManifest = new GenerationManifest(ARGUMENTS_HASH);
+        final List<String> outputDirectories = Arrays.asList(outputFile.getParent());
+
+        assertEquals(Arrays.asList(outputFile.getAbsoluteFile()),
+                previousManifest.getStaleOutputFiles(currentManifest, ARGUMENTS_HASH, outputDirectories));
+
+        final GenerationManifest sameOutputsManifest = createManifest(ARGUMENTS_HASH);
+        assertTrue(previousManifest.getStaleOutputFiles(sameOutputsManifest, ARGUMENTS_HASH,
+                outputDirectories).isEmpty());
+    }
+
+    @Test
+    public void staleOutputFilesChangedArguments() throws IOException
+    {
+        final GenerationManifest previousManifest = createManifest(ARGUMENTS_HASH);
+        final GenerationManifest currentManifest = new GenerationManifest("otherHash");
+        final List<String> outputDirectories = Arrays.asList(outputFile.getParent());
+
+        assertTrue(previousManifest.getStaleOutputFiles(currentManifest, "otherHash",
+                outputDirectories).isEmpty());
+        assertTrue(createManifest(null).getStaleOutputFiles(currentManifest, ARGUMENTS_HASH,
+                outputDirectories).isEmpty());
+    }
+
+    @Test
+    public void staleOutputFilesOtherDirectory() throws IOException
+    {
+        final GenerationManifest previousManifest = createManifest(ARGUMENTS_HASH);
+        final GenerationManifest currentManifest = new GenerationManifest(ARGUMENTS_HASH);
+        final List<String> outputDirectories = Arrays.asList(new File(outputFile.getParent(), "gen").getPath());
+
+        assertTrue(previousManifest.getStaleOutputFiles(currentManifest, ARGUMENTS_HASH,
+                outputDirectories).isEmpty());
+    }
+
+    @Test
+    public void argumentsHash()
+    {
+        final String[] args = { "-java", "gen", "all.zs" };
+        assertEquals(GenerationManifest.getArgumentsHash(args), GenerationManifest.getArgumentsHash(args));
+        final String[] otherArgs = { "-java", "gen", "-withViewCode", "all.zs" };
+        assertFalse(GenerationManifest.getArgumentsHash(args).equals(
+                GenerationManifest.getArgumentsHash(otherArgs)));
+    }
+
+    private GenerationManifest createManifest(String argumentsHash) throws IOException
+    {
+        final GenerationManifest manifest = new GenerationManifest(argumentsHash);
+        manifest.addInputFile(inputFile.getPath());
+        manifest.addOutputFile(outputFile.getPath(),
+                FileUtil.getContentHash(OUTPUT_CONTENT.getBytes(StandardCharsets.UTF_8)));
+
+        return manifest;
+    }
+
+    private static void writeFile(File file, String content) throws IOException
+    {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final String INPUT_CONTENT = "package test;\n\nstruct Test\n{\n    uint8 value;\n};\n";
+    private static final String OUTPUT_CONTENT = "package test;\n\npublic class Test\n{\n}\n";
+    private static final String ARGUMENTS_HASH = "argumentsHash";
+
+    private File inputFile;
+    private File outputFile;
+    private File manifestFile;
+}
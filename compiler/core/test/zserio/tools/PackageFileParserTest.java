@@ -0,0 +1,91 @@
+package zserio.tools;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+
+import org.apache.commons.cli.ParseException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PackageFileParserTest
+{
+    @Before
+    public void setUp() throws IOException, ParseException
+    {
+        srcDir = File.createTempFile("PackageFileParserTest", null);
+        if (!srcDir.delete() || !srcDir.mkdir())
+            throw new IOException("Can't create temporary directory " + srcDir);
+
+        writeFile("main.zs", "package main;\n\nimport first.*;\nimport second.Second;\nimport missing.*;\n");
+        writeFile("first.zs", "package first;\n\nimport second.*;\n\nstruct First\n{\n    uint8 value;\n};\n");
+        writeFile("second.zs", "package second;\n\nstruct Second\n{\n    uint8 value;\n};\n");
+
+        final CommandLineArguments commandLineArguments = new CommandLineArguments();
+        final String[] args = { "-src", srcDir.getPath(), "main.zs" };
+        commandLineArguments.parse(args);
+        inputFileManager = new InputFileManager(commandLineArguments);
+        mainFileName = inputFileManager.getFileFullName("main.zs");
+    }
+
+    @After
+    public void tearDown()
+    {
+        final File[] files = srcDir.listFiles();
+        if (files != null)
+        {
+            for (File file : files)
+                file.delete();
+        }
+        srcDir.delete();
+    }
+
+    @Test
+    public void parseSequentially() throws Exception
+    {
+        checkParsedFiles(new PackageFileParser(inputFileManager, 1));
+    }
+
+    @Test
+    public void parseImportGraph() throws Exception
+    {
+        final PackageFileParser packageFileParser = new PackageFileParser(inputFileManager, 4);
+        packageFileParser.parseImportGraph(mainFileName);
+
+        // files are not read again once the import graph has been parsed
+        final File firstFile = new File(srcDir, "first.zs");
+        assertTrue(firstFile.delete());
+        assertNotNull(packageFileParser.getParsedFile(firstFile.getPath()).getTree());
+        checkParsedFiles(packageFileParser);
+    }
+
+    private void checkParsedFiles(PackageFileParser packageFileParser) throws Exception
+    {
+        assertNotNull(packageFileParser.getParsedFile(mainFileName).getTree());
+        assertNotNull(packageFileParser.getParsedFile(new File(srcDir, "second.zs").getPath()).getTree());
+        try
+        {
+            packageFileParser.getParsedFile(new File(srcDir, "missing.zs").getPath());
+            fail("NoSuchFileException expected!");
+        }
+        catch (NoSuchFileException exception)
+        {
+        }
+    }
+
+    private void writeFile(String fileName, String content) throws IOException
+    {
+        Files.write(new File(srcDir, fileName).toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private File srcDir;
+    private InputFileManager inputFileManager;
+    private String mainFileName;
+}
@@ -0,0 +1,59 @@
+package zserio.tools;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.junit.Test;
+
+import zserio.antlr.ZserioLexer;
+import zserio.antlr.ZserioParser;
+
+public class ParseTreeCacheTest
+{
+    @Test
+    public void getCached()
+    {
+        final ParseTreeCache.ParsedFile parsedFile = parse(INPUT_CONTENT);
+        ParseTreeCache.put(INPUT_FILE_NAME, CONTENT_HASH, parsedFile);
+        assertSame(parsedFile, ParseTreeCache.get(INPUT_FILE_NAME, CONTENT_HASH));
+    }
+
+    @Test
+    public void getChanged()
+    {
+        ParseTreeCache.put(INPUT_FILE_NAME, CONTENT_HASH, parse(INPUT_CONTENT));
+        assertNull(ParseTreeCache.get(INPUT_FILE_NAME, "otherHash"));
+    }
+
+    @Test
+    public void getUnknown()
+    {
+        assertNull(ParseTreeCache.get("unknown.zs", CONTENT_HASH));
+    }
+
+    @Test
+    public void dropLeastRecentlyUsed()
+    {
+        final ParseTreeCache.ParsedFile parsedFile = parse(INPUT_CONTENT);
+        ParseTreeCache.put(INPUT_FILE_NAME, CONTENT_HASH, parsedFile);
+        for (int i = 0; i < ParseTreeCache.MAX_NUM_CACHED_FILES; ++i)
+            ParseTreeCache.put("other" + i + ".zs", CONTENT_HASH, parsedFile);
+        assertNull(ParseTreeCache.get(INPUT_FILE_NAME, CONTENT_HASH));
+        assertSame(parsedFile, ParseTreeCache.get("other0.zs", CONTENT_HASH));
+    }
+
+    private static ParseTreeCache.ParsedFile parse(String content)
+    {
+        final ZserioLexer lexer = new ZserioLexer(CharStreams.fromString(content, INPUT_FILE_NAME));
+        final CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+        final ZserioParser parser = new ZserioParser(tokenStream);
+
+        return new ParseTreeCache.ParsedFile(parser.packageDeclaration(), tokenStream);
+    }
+
+    private static final String INPUT_FILE_NAME = "ParseTreeCacheTest.zs";
+    private static final String INPUT_CONTENT = "package test;\n\nstruct Test\n{\n    uint8 value;\n};\n";
+    private static final String CONTENT_HASH = "contentHash";
+}
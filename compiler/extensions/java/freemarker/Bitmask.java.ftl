@@ -105,7 +105,8 @@ public class ${name} implements <#if withWriterCode>zserio.runtime.io.Initialize
             builder.append("${zeroValueName}");
 </#if>
 
-        return java.lang.String.valueOf(value) + "[" + builder.toString() + "]";
+        return <#if isUnsignedLong>java.lang.Long.toUnsignedString(value)<#else>java.lang.String.valueOf(value)</#if> +
+                "[" + builder.toString() + "]";
     }
 <#if withWriterCode>
 
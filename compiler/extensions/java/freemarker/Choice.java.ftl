@@ -34,12 +34,16 @@ selector == (${case.expressionForIf})<#if case_has_next> || </#if><#rt>
         </#list>
     </#if>
 </#macro>
+<#assign objectChoiceIndexes={}>
+<#list fieldList as field>
+    <#assign objectChoiceIndexes=objectChoiceIndexes + {field.name: field_index}>
+</#list>
 <#assign isSwitchAllowed = !isSelectorExpressionBoolean && !isSelectorExpressionBigInteger &&
         !isSelectorExpressionLong && !selectorExpressionBitmaskTypeName??>
-<#macro choice_switch memberActionMacroName indent>
+<#macro choice_switch memberActionMacroName indent selector=selectorExpression>
     <#local I>${""?left_pad(indent * 4)}</#local>
     <#if isSwitchAllowed>
-${I}switch (${selectorExpression})
+${I}switch (${selector})
 ${I}{
         <#list caseMemberList as caseMember>
             <#list caseMember.caseList as case>
@@ -54,19 +58,19 @@ ${I}default:
         <@.vars[memberActionMacroName] defaultMember, indent + 1/>
 ${I}    break;
             <#else>
-${I}    throw new zserio.runtime.ZserioError("No match in choice ${name}: " + ${selectorExpression} + "!");
+${I}    throw new zserio.runtime.ZserioError("No match in choice ${name}: " + ${selector} + "!");
             </#if>
         </#if>
 ${I}}
     <#else>
         <#if isSelectorExpressionBoolean>
-${I}final boolean selector = ${selectorExpression};
+${I}final boolean selector = ${selector};
         <#elseif isSelectorExpressionLong>
-${I}final long selector = ${selectorExpression};
+${I}final long selector = ${selector};
         <#elseif selectorExpressionBitmaskTypeName??>
-${I}final ${selectorExpressionBitmaskTypeName} selector = ${selectorExpression};
+${I}final ${selectorExpressionBitmaskTypeName} selector = ${selector};
         <#else>
-${I}final java.math.BigInteger selector = ${selectorExpression};
+${I}final java.math.BigInteger selector = ${selector};
         </#if>
 
         <#list caseMemberList as caseMember>
@@ -85,7 +89,7 @@ ${I}{
             <#if defaultMember??>
         <@.vars[memberActionMacroName] defaultMember, indent + 1/>
             <#else>
-${I}    throw new zserio.runtime.ZserioError("No match in choice ${name}: " + ${selectorExpression} + "!");
+${I}    throw new zserio.runtime.ZserioError("No match in choice ${name}: " + ${selector} + "!");
             </#if>
 ${I}}
         </#if>
@@ -126,6 +130,7 @@ ${I}}
     {
         <@range_check field.rangeCheckData, name/>
         this.objectChoice = <@field_argument_name field/>;
+        this.objectChoiceIndex = ${field_index};
     }
 
         <#if field.array?? && field.array.generateListSetter>
@@ -174,8 +179,10 @@ ${I}}
 
 <#macro choice_read_member member indent>
     <#if member.compoundField??>
+        <#local I>${""?left_pad(indent * 4)}</#local>
         <@compound_read_field member.compoundField, name, indent/>
         <@compound_check_constraint_field member.compoundField, name, indent/>
+${I}this.objectChoiceIndex = ${objectChoiceIndexes[member.compoundField.name]};
     <#else>
         <#local I>${""?left_pad(indent * 4)}</#local>
         <#lt>${I}// empty
@@ -188,6 +195,49 @@ ${I}}
         <@choice_switch "choice_read_member", 2/>
 </#if>
     }
+
+<#macro choice_read_into_member member indent>
+    <#local I>${""?left_pad(indent * 4)}</#local>
+    <#if member.compoundField??>
+        <#local objectChoiceIndex=objectChoiceIndexes[member.compoundField.name]/>
+${I}if (this.objectChoiceIndex != ${objectChoiceIndex})
+${I}    this.objectChoice = null; // object of another case cannot be reused
+        <@compound_read_field member.compoundField, name, indent, true/>
+        <@compound_check_constraint_field member.compoundField, name, indent/>
+${I}this.objectChoiceIndex = ${objectChoiceIndex};
+    <#else>
+        <#lt>${I}this.objectChoice = null;
+        <#lt>${I}this.objectChoiceIndex = -1;
+    </#if>
+</#macro>
+    public void readInto(final zserio.runtime.io.BitStreamReader in)
+            throws java.io.IOException, zserio.runtime.ZserioError
+    {
+<#if fieldList?has_content>
+        <@choice_switch "choice_read_into_member", 2/>
+</#if>
+    }
+
+<#assign skipFieldsByName={}>
+<#list skipFieldList as skipField>
+    <#assign skipFieldsByName=skipFieldsByName + {skipField.field.name: skipField}>
+</#list>
+<#macro choice_skip_member member indent>
+    <#if member.compoundField??>
+        <@compound_skip_field skipFieldsByName[member.compoundField.name], indent/>
+    <#else>
+        <#local I>${""?left_pad(indent * 4)}</#local>
+        <#lt>${I}// empty
+    </#if>
+</#macro>
+    <@compound_skip_declaration compoundConstructorsData/>
+    {
+<#if skipRequiresInstance>
+        <@compound_skip_by_instance compoundConstructorsData, 2/>
+<#elseif fieldList?has_content>
+        <@choice_switch "choice_skip_member", 2, skipSelectorExpression/>
+</#if>
+    }
 <#if withWriterCode>
 
 <#macro choice_initialize_offsets_member member indent>
@@ -220,8 +270,14 @@ ${I}// empty
     public void write(java.io.File file) throws java.io.IOException, zserio.runtime.ZserioError
     {
         zserio.runtime.io.FileBitStreamWriter out = new zserio.runtime.io.FileBitStreamWriter(file);
-        write(out);
-        out.close();
+        try
+        {
+            write(out);
+        }
+        finally
+        {
+            out.close();
+        }
     }
 
     @Override
@@ -264,4 +320,5 @@ ${I}// empty
 
     <@compound_parameter_members compoundParametersData/>
     private java.lang.Object objectChoice;
+    private int objectChoiceIndex = -1; // index of the field which holds the object choice
 }
@@ -28,7 +28,7 @@ ${I}            in.getBytePosition() + " != " + <@compound_field_get_offset fiel
 ${I}}
 </#macro>
 
-<#macro compound_read_field_inner field compoundName indent>
+<#macro compound_read_field_inner field compoundName indent reuse=false>
     <#local I>${""?left_pad(indent * 4)}</#local>
     <#if field.alignmentValue??>
 ${I}in.alignTo(${field.alignmentValue});
@@ -38,6 +38,34 @@ ${I}in.alignTo(${field.alignmentValue});
     </#if>
     <#local fieldMemberName>this.<#if field.usesObjectChoice>objectChoice<#else><@field_member_name field/></#if></#local>
     <#if field.array??>
+        <#local arrayArguments>
+            <#if field.array.length??>
+                (int)(${field.array.length})<#t>
+            <#elseif field.array.isImplicit>
+                zserio.runtime.array.Array.IMPLICIT_LENGTH<#t>
+            <#else>
+                zserio.runtime.array.Array.AUTO_LENGTH<#t>
+            </#if>
+            <#if field.array.requiresElementBitSize>
+                , ${field.array.elementBitSize.value}<#t>
+            </#if>
+            <#if field.array.requiresElementFactory>
+                , new <@element_factory_name field.name/>()<#t>
+            </#if>
+            <#if field.offset?? && field.offset.containsIndex>
+                , new <@offset_checker_name field.name/>()<#t>
+            </#if>
+        </#local>
+        <#if reuse>
+${I}if (<@compound_read_reuse_condition field/>)
+${I}{
+${I}    ${field.getterName}().read(in, ${arrayArguments});
+${I}}
+${I}else
+${I}{
+${I}    ${fieldMemberName} = new ${field.javaTypeName}(in, ${arrayArguments});
+${I}}
+        <#else>
 ${I}${fieldMemberName} = new ${field.javaTypeName}(in,
         <#if field.array.length??>
 ${I}        (int)(${field.array.length})<#rt>
@@ -57,6 +85,7 @@ ${I}        new <@element_factory_name field.name/>()<#rt>
             , new <@offset_checker_name field.name/>()<#t>
         </#if>
         <#lt>);
+        </#if>
     <#elseif field.runtimeFunction??>
 ${I}${fieldMemberName} = <#if field.runtimeFunction.javaReadTypeName??>(${field.runtimeFunction.javaReadTypeName})</#if><#rt>
         <#lt>in.read${field.runtimeFunction.suffix}(${field.runtimeFunction.arg!});
@@ -70,7 +99,39 @@ ${I}${fieldMemberName} = ${field.javaTypeName}.readEnum(in);
             </#if>
         </#local>
         <#local compoundArguments>in<#if compoundParamsArguments?has_content>, ${compoundParamsArguments}</#if></#local>
+        <#if reuse && field.compound??>
+${I}if (<@compound_read_reuse_condition field/><#rt>
+            <#list field.compound.instantiatedParameters as parameter>
+                <#lt> &&
+${I}        <@compound_read_reuse_parameter_check field.getterName + "()", parameter/><#rt>
+            </#list>
+            <#lt>)
+${I}{
+${I}    ${field.getterName}().readInto(in);
+${I}}
+${I}else
+${I}{
+${I}    ${fieldMemberName} = new ${field.javaTypeName}(${compoundArguments});
+${I}}
+        <#else>
 ${I}${fieldMemberName} = new ${field.javaTypeName}(${compoundArguments});
+        </#if>
+    </#if>
+</#macro>
+
+<#macro compound_read_reuse_condition field>
+    <#if field.usesObjectChoice>
+        this.objectChoice instanceof ${field.javaTypeName?keep_before("<")}<#t>
+    <#else>
+        this.<@field_member_name field/> != null<#t>
+    </#if>
+</#macro>
+
+<#macro compound_read_reuse_parameter_check object parameter>
+    <#if parameter.isSimpleType>
+        ${object}.${parameter.getterName}() == (${parameter.javaTypeName})(${parameter.expression})<#t>
+    <#else>
+        ${object}.${parameter.getterName}() == (${parameter.expression})<#t>
     </#if>
 </#macro>
 
@@ -81,7 +142,7 @@ ${I}${fieldMemberName} = new ${field.javaTypeName}(${compoundArguments});
     </#list>
 </#macro>
 
-<#macro compound_read_field field compoundName indent>
+<#macro compound_read_field field compoundName indent reuse=false>
     <#local I>${""?left_pad(indent * 4)}</#local>
     <#if field.optional??>
         <#if field.optional.clause??>
@@ -90,10 +151,16 @@ ${I}if (${field.optional.clause})
 ${I}if (in.readBool())
         </#if>
 ${I}{
-        <@compound_read_field_inner field, compoundName, indent + 1/>
+        <@compound_read_field_inner field, compoundName, indent + 1, reuse/>
+${I}}
+        <#if reuse>
+${I}else
+${I}{
+${I}    this.<@field_member_name field/> = null;
 ${I}}
+        </#if>
     <#else>
-        <@compound_read_field_inner field, compoundName, indent/>
+        <@compound_read_field_inner field, compoundName, indent, reuse/>
     </#if>
 </#macro>
 
@@ -319,8 +386,9 @@ ${I}        ((this.<@field_member_name field/> == null) ? 0 : this.<@field_membe
             <@compound_field_compound_ctor_params field.array.elementCompound/><#t>
         </#if>
     </#local>
+    <#local isRecycling=field.array.elementCompound?? && !field.array.isElementEnum>
     private <#if !field.array.requiresParentContext>static </#if>final class <@element_factory_name field.name/> <#rt>
-        <#lt>implements zserio.runtime.array.ElementFactory<${field.array.elementJavaTypeName}>
+        <#lt>implements zserio.runtime.array.<#if isRecycling>Recycling</#if>ElementFactory<${field.array.elementJavaTypeName}>
     {
         @Override
         public ${field.array.elementJavaTypeName} create(zserio.runtime.io.BitStreamReader in, int index)
@@ -332,6 +400,20 @@ ${I}        ((this.<@field_member_name field/> == null) ? 0 : this.<@field_membe
             return new ${field.array.elementJavaTypeName}(in<#if extraConstructorArguments?has_content>, ${extraConstructorArguments}</#if>);
     </#if>
         }
+    <#if isRecycling>
+
+        @Override
+        public boolean recycle(zserio.runtime.io.BitStreamReader in, ${field.array.elementJavaTypeName} element,
+                int index) throws java.io.IOException, zserio.runtime.ZserioError
+        {
+        <#list field.array.elementCompound.instantiatedParameters as parameter>
+            if (!(<@compound_read_reuse_parameter_check "element", parameter/>))
+                return false;
+        </#list>
+            element.readInto(in);
+            return true;
+        }
+    </#if>
     }
 </#macro>
 
@@ -351,3 +433,160 @@ ${I}        ((this.<@field_member_name field/> == null) ? 0 : this.<@field_membe
         </#if>
     </#if>
 </#macro>
+
+<#macro compound_skip_declaration compoundConstructorsData>
+    <#local constructorArgumentTypeList><@compound_constructor_argument_type_list compoundConstructorsData/></#local>
+    public static void skip(zserio.runtime.io.BitStreamReader in<#if constructorArgumentTypeList?has_content>,${constructorArgumentTypeList}</#if>)
+            throws java.io.IOException, zserio.runtime.ZserioError
+</#macro>
+
+<#macro compound_skip_by_instance compoundConstructorsData indent>
+    <#local I>${""?left_pad(indent * 4)}</#local>
+    <#local constructorArgumentList><@compound_constructor_argument_list compoundConstructorsData/></#local>
+${I}// skipping requires an instance because some expressions call functions
+${I}new ${compoundConstructorsData.compoundName}(in<#if constructorArgumentList?has_content>, ${constructorArgumentList}</#if>);
+</#macro>
+
+<#macro compound_skip_align field indent>
+    <#local I>${""?left_pad(indent * 4)}</#local>
+    <#if field.alignmentValue??>
+${I}in.alignTo(${field.alignmentValue});
+    </#if>
+    <#if field.offset?? && !field.offset.containsIndex>
+${I}in.alignTo(java.lang.Byte.SIZE);
+    </#if>
+</#macro>
+
+<#macro compound_skip_optional_condition field>
+    <#if field.optional.clause??>${field.optional.clause}<#else>in.readBool()</#if><#t>
+</#macro>
+
+<#macro compound_skip_read_value field>
+    <#if field.array??>
+        new ${field.javaTypeName}(in, <#t>
+        <#if field.array.length??>
+            (int)(${field.array.length})<#t>
+        <#elseif field.array.isImplicit>
+            zserio.runtime.array.Array.IMPLICIT_LENGTH<#t>
+        <#else>
+            zserio.runtime.array.Array.AUTO_LENGTH<#t>
+        </#if>
+        <#if field.array.requiresElementBitSize>
+            , ${field.array.elementBitSize.value}<#t>
+        </#if>
+        <#if field.array.requiresElementFactory>
+            , new <@element_factory_name field.name/>()<#t>
+        </#if>
+        )<#t>
+    <#elseif field.runtimeFunction??>
+        <#if field.runtimeFunction.javaReadTypeName??>(${field.runtimeFunction.javaReadTypeName})</#if><#t>
+        in.read${field.runtimeFunction.suffix}(${field.runtimeFunction.arg!})<#t>
+    <#elseif field.isEnum>
+        ${field.javaTypeName}.readEnum(in)<#t>
+    <#else>
+        <#local compoundParamsArguments>
+            <#if field.compound??><@compound_field_compound_ctor_params field.compound/></#if><#t>
+        </#local>
+        new ${field.javaTypeName}(in<#if compoundParamsArguments?has_content>, ${compoundParamsArguments}</#if>)<#t>
+    </#if>
+</#macro>
+
+<#macro compound_skip_length_prefixed name runtimeFunction indent>
+    <#local I>${""?left_pad(indent * 4)}</#local>
+    <#if runtimeFunction.suffix == "String">
+${I}final long ${name}NumBits = (long)in.readVarSize() * java.lang.Byte.SIZE;
+    <#else>
+${I}final long ${name}NumBits = in.readVarSize();
+    </#if>
+${I}in.setBitPosition(in.getBitPosition() + ${name}NumBits);
+</#macro>
+
+<#function is_length_prefixed runtimeFunction>
+    <#return runtimeFunction.suffix == "String" || runtimeFunction.suffix == "BitBuffer">
+</#function>
+
+<#macro compound_skip_array_element field indent>
+    <#local I>${""?left_pad(indent * 4)}</#local>
+    <#local elementBitSize=field.array.elementBitSize>
+    <#if elementBitSize.value??>
+${I}in.setBitPosition(in.getBitPosition() + (${elementBitSize.value}));
+    <#elseif field.array.isElementEnum>
+${I}${field.array.elementJavaTypeName}.readEnum(in);
+    <#elseif elementBitSize.runtimeFunction?? && is_length_prefixed(elementBitSize.runtimeFunction)>
+        <@compound_skip_length_prefixed "element", elementBitSize.runtimeFunction, indent/>
+    <#elseif elementBitSize.runtimeFunction??>
+${I}in.read${elementBitSize.runtimeFunction.suffix}(${elementBitSize.runtimeFunction.arg!});
+    <#elseif field.array.elementCompound??>
+        <#local compoundParamsArguments><@compound_field_compound_ctor_params field.array.elementCompound/></#local>
+${I}${field.array.elementJavaTypeName}.skip(in<#if compoundParamsArguments?has_content>, ${compoundParamsArguments}</#if>);
+    <#else>
+${I}new ${field.array.elementJavaTypeName}(in);
+    </#if>
+</#macro>
+
+<#macro compound_skip_array field indent>
+    <#local I>${""?left_pad(indent * 4)}</#local>
+    <#local hasIndexedOffsets=field.offset?? && field.offset.containsIndex>
+    <#if field.array.isImplicit>
+${I}<@compound_skip_read_value field/>;
+    <#else>
+${I}final int ${field.name}Length = <#if field.array.length??>(int)(${field.array.length})<#else>in.readVarSize()</#if>;
+        <#if field.array.elementBitSize.value?? && !hasIndexedOffsets>
+${I}in.setBitPosition(in.getBitPosition() + (long)${field.name}Length * (${field.array.elementBitSize.value}));
+        <#else>
+${I}for (int index = 0; index < ${field.name}Length; ++index)
+${I}{
+            <#if hasIndexedOffsets>
+${I}    in.alignTo(java.lang.Byte.SIZE);
+            </#if>
+        <@compound_skip_array_element field, indent + 1/>
+${I}}
+        </#if>
+    </#if>
+</#macro>
+
+<#macro compound_skip_field_inner field indent>
+    <#local I>${""?left_pad(indent * 4)}</#local>
+    <@compound_skip_align field, indent/>
+    <#if field.array??>
+        <@compound_skip_array field, indent/>
+    <#elseif field.bitSize.value??>
+${I}in.setBitPosition(in.getBitPosition() + (${field.bitSize.value}));
+    <#elseif field.runtimeFunction?? && is_length_prefixed(field.runtimeFunction)>
+        <@compound_skip_length_prefixed field.name, field.runtimeFunction, indent/>
+    <#elseif field.runtimeFunction??>
+${I}in.read${field.runtimeFunction.suffix}(${field.runtimeFunction.arg!});
+    <#elseif field.isEnum>
+${I}${field.javaTypeName}.readEnum(in);
+    <#elseif field.compound??>
+        <#local compoundParamsArguments><@compound_field_compound_ctor_params field.compound/></#local>
+${I}${field.javaTypeName}.skip(in<#if compoundParamsArguments?has_content>, ${compoundParamsArguments}</#if>);
+    <#else>
+${I}new ${field.javaTypeName}(in);
+    </#if>
+</#macro>
+
+<#macro compound_skip_field skipField indent>
+    <#local field=skipField.field>
+    <#local I>${""?left_pad(indent * 4)}</#local>
+    <#if skipField.isReferenced>
+        <#if field.optional??>
+${I}${field.javaTypeName} <@field_member_name field/> = null;
+${I}if (<@compound_skip_optional_condition field/>)
+${I}{
+            <@compound_skip_align field, indent + 1/>
+${I}    <@field_member_name field/> = <@compound_skip_read_value field/>;
+${I}}
+        <#else>
+            <@compound_skip_align field, indent/>
+${I}final ${field.javaTypeName} <@field_member_name field/> = <@compound_skip_read_value field/>;
+        </#if>
+    <#elseif field.optional??>
+${I}if (<@compound_skip_optional_condition field/>)
+${I}{
+        <@compound_skip_field_inner field, indent + 1/>
+${I}}
+    <#else>
+        <@compound_skip_field_inner field, indent/>
+    </#if>
+</#macro>
@@ -6,6 +6,10 @@ public class ${name}
     public ${name}(zserio.runtime.pubsub.PubsubInterface pubsub)
     {
         this.pubsub = pubsub;
+<#if hasPublishing || hasSubscribing>
+        objectPubsub = (pubsub instanceof zserio.runtime.pubsub.ObjectPubsubInterface) ?
+                (zserio.runtime.pubsub.ObjectPubsubInterface)pubsub : null;
+</#if>
     }
 <#list messageList as message>
     <#if message.isPublished>
@@ -42,8 +46,54 @@ public class ${name}
                     onRaw${message.name?cap_first}(callback, topic, data);
                 }
             };
+        if (objectPubsub != null)
+        {
+            final zserio.runtime.pubsub.ObjectPubsubInterface.ObjectCallback onObject =
+                new zserio.runtime.pubsub.ObjectPubsubInterface.ObjectCallback()
+                {
+                    @Override
+                    public void invoke(java.lang.String topic, java.lang.Object message)
+                    {
+                        callback.invoke(topic, (${message.typeFullName})message);
+                    }
+                };
+            return objectPubsub.subscribeObject(${message.topicDefinition}, onRaw, onObject, context);
+        }
         return pubsub.subscribe(${message.topicDefinition}, onRaw, context);
     }
+
+    public int subscribe${message.name?cap_first}(
+            zserio.runtime.pubsub.PubsubCallback<${message.typeFullName}> callback,
+            java.util.concurrent.Executor executor, int queueCapacity,
+            zserio.runtime.pubsub.SubscriptionQueuePolicy queuePolicy)
+    {
+        return subscribe${message.name?cap_first}(callback, executor, queueCapacity, queuePolicy, null);
+    }
+
+    public int subscribe${message.name?cap_first}(
+            zserio.runtime.pubsub.PubsubCallback<${message.typeFullName}> callback,
+            java.util.concurrent.Executor executor, int queueCapacity,
+            zserio.runtime.pubsub.SubscriptionQueuePolicy queuePolicy, java.lang.Object context)
+    {
+        final zserio.runtime.pubsub.ExecutorSubscription.Decoder<${message.typeFullName}> decoder =
+            new zserio.runtime.pubsub.ExecutorSubscription.Decoder<${message.typeFullName}>()
+            {
+                @Override
+                public ${message.typeFullName} decode(byte[] data)
+                {
+                    return decode${message.name?cap_first}(data);
+                }
+            };
+        final zserio.runtime.pubsub.ExecutorSubscription<${message.typeFullName}> subscription =
+                new zserio.runtime.pubsub.ExecutorSubscription<${message.typeFullName}>(decoder, callback,
+                        executor, queueCapacity, queuePolicy);
+        final int subscriptionId = (objectPubsub != null) ?
+                objectPubsub.subscribeObject(${message.topicDefinition}, subscription, subscription, context) :
+                pubsub.subscribe(${message.topicDefinition}, subscription, context);
+        executorSubscriptions.put(subscriptionId, subscription);
+
+        return subscriptionId;
+    }
     </#if>
 </#list>
 <#if hasSubscribing>
@@ -51,6 +101,22 @@ public class ${name}
     public void unsubscribe(int subscriptionId)
     {
         pubsub.unsubscribe(subscriptionId);
+        final zserio.runtime.pubsub.ExecutorSubscription<?> subscription =
+                executorSubscriptions.remove(subscriptionId);
+        if (subscription != null)
+            subscription.close();
+    }
+
+    public zserio.runtime.pubsub.SubscriptionMetrics getSubscriptionMetrics(int subscriptionId)
+    {
+        final zserio.runtime.pubsub.SubscriptionMetrics metrics = executorSubscriptions.get(subscriptionId);
+        if (metrics == null)
+        {
+            throw new zserio.runtime.pubsub.PubsubException("${name}: Subscription ID '" + subscriptionId +
+                    "' has no executor!");
+        }
+
+        return metrics;
     }
     <#list messageList as message>
         <#if message.isSubscribed>
@@ -59,9 +125,19 @@ public class ${name}
             zserio.runtime.pubsub.PubsubCallback<${message.typeFullName}> callback,
             java.lang.String topic, byte[] data)
     {
-        final ${message.typeFullName} message = zserio.runtime.io.ZserioIO.read(
-                ${message.typeFullName}.class, data);
-        callback.invoke(topic, message);
+        callback.invoke(topic, decode${message.name?cap_first}(data));
+    }
+
+    private static ${message.typeFullName} decode${message.name?cap_first}(byte[] data)
+    {
+        try
+        {
+            return new ${message.typeFullName}(new zserio.runtime.io.ByteArrayBitStreamReader(data));
+        }
+        catch (java.io.IOException exception)
+        {
+            throw new zserio.runtime.ZserioError(exception);
+        }
     }
         </#if>
     </#list>
@@ -71,10 +147,24 @@ public class ${name}
     private <MSG extends zserio.runtime.io.Writer> void publish(java.lang.String topic, MSG message,
             java.lang.Object context)
     {
+        if (objectPubsub != null)
+        {
+            objectPubsub.publishObject(topic, message, context);
+            return;
+        }
         final byte[] data = zserio.runtime.io.ZserioIO.write(message);
         pubsub.publish(topic, data, context);
     }
 </#if>
 
     private final zserio.runtime.pubsub.PubsubInterface pubsub;
+<#if hasPublishing || hasSubscribing>
+    private final zserio.runtime.pubsub.ObjectPubsubInterface objectPubsub;
+</#if>
+<#if hasSubscribing>
+    private final java.util.concurrent.ConcurrentHashMap<java.lang.Integer,
+            zserio.runtime.pubsub.ExecutorSubscription<?>> executorSubscriptions =
+                    new java.util.concurrent.ConcurrentHashMap<java.lang.Integer,
+                            zserio.runtime.pubsub.ExecutorSubscription<?>>();
+</#if>
 }
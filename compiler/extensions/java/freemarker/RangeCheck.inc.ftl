@@ -4,16 +4,31 @@
     <#if rangeCheckData.setterRangeData??>
         <#local rangeData=rangeCheckData.setterRangeData>
         // check range
-        <#if rangeData.bitFieldWithExpression??>
+        <#if rangeData.isUnsignedLongType && rangeData.bitFieldWithExpression??>
+            <#-- only unsigned bit fields with expression can be out of range of unsigned long -->
+        final int length = ${rangeData.bitFieldWithExpression.lengthExpression};
+        final long upperBound = zserio.runtime.Util.getBitFieldUnsignedLongUpperBound(length);
+        if <#if rangeData.isTypeNullable>(<@field_member_name rangeData.field/> != null && </#if><#rt>
+            (java.lang.Long.compareUnsigned(<@field_member_name rangeData.field/>, upperBound) > 0)<#t>
+            <#if rangeData.isTypeNullable>)</#if><#lt>
+        {
+            throw new zserio.runtime.ZserioError("Value " +
+                    java.lang.Long.toUnsignedString(<@field_member_name rangeData.field/>) +
+                    " of ${compoundName}.${rangeData.field.name} exceeds the range of <0.." +
+                    java.lang.Long.toUnsignedString(upperBound) + ">!");
+        }
+
+        <#else>
+            <#if rangeData.bitFieldWithExpression??>
         final int length = ${rangeData.bitFieldWithExpression.lengthExpression};
         final long lowerBound = zserio.runtime.Util.getBitFieldLowerBound(
                 length, ${rangeData.bitFieldWithExpression.isSignedBitFieldStr});
         final long upperBound = zserio.runtime.Util.getBitFieldUpperBound(
                 length, ${rangeData.bitFieldWithExpression.isSignedBitFieldStr});
-        <#else>
+            <#else>
         final ${rangeData.javaTypeName} lowerBound = ${rangeData.lowerBound};
         final ${rangeData.javaTypeName} upperBound = ${rangeData.upperBound};
-        </#if>
+            </#if>
         if <#if rangeData.isTypeNullable>(<@field_member_name rangeData.field/> != null && </#if><#rt>
             (<@field_member_name rangeData.field/> < lowerBound<#if rangeData.checkUpperBound> || <@field_member_name rangeData.field/> > upperBound</#if>)<#t>
             <#if rangeData.isTypeNullable>)</#if><#lt>
@@ -23,6 +38,7 @@
                     lowerBound + ".." + upperBound + ">!");
         }
 
+        </#if>
     </#if>
 </#macro>
 
@@ -3,37 +3,79 @@
 
 public final class ${name}
 {
-    public static abstract class ${name}Service implements zserio.runtime.service.ServiceInterface
+    public static abstract class ${name}Service implements zserio.runtime.service.AsyncServiceInterface
     {
-        public ${name}Service()
+        @Override
+        public byte[] callMethod(java.lang.String methodName, byte[] requestData, java.lang.Object context)
+                throws zserio.runtime.ZserioError
+        {
+            final int methodId = methodId(methodName);
+            if (methodId == zserio.runtime.service.ServiceInterface.UNKNOWN_METHOD_ID)
+            {
+                throw new zserio.runtime.service.ServiceException(
+                        "${serviceFullName}: Method '" + methodName + "' does not exist!");
+            }
+            return callMethod(methodId, methodName, requestData, context);
+        }
+
+        @Override
+        public byte[] callMethod(int methodId, java.lang.String methodName, byte[] requestData,
+                java.lang.Object context) throws zserio.runtime.ZserioError
         {
-            methodMap = new java.util.HashMap<java.lang.String, Method>();
+            switch (methodId)
+            {
 <#list methodList as method>
-            methodMap.put("${method.name}",
-                new Method()
-                {
-                    @Override
-                    public byte[] invoke(byte[] requestData, java.lang.Object context)
-                            throws zserio.runtime.ZserioError
-                    {
-                        return ${method.name}Method(requestData, context);
-                    }
-                }
-            );
+            case ${method.id?c}:
+                checkMethodName(methodName, "${method.name}");
+                return ${method.name}Method(requestData, context);
 </#list>
+            default:
+                if (methodId == zserio.runtime.service.ServiceInterface.UNKNOWN_METHOD_ID)
+                    return callMethod(methodName, requestData, context);
+                throw new zserio.runtime.service.ServiceException(
+                        "${serviceFullName}: Method ID '" + methodId + "' does not exist!");
+            }
         }
 
         @Override
-        public byte[] callMethod(java.lang.String methodName, byte[] requestData, java.lang.Object context)
-                throws zserio.runtime.ZserioError
+        public java.util.concurrent.CompletableFuture<byte[]> callMethodAsync(java.lang.String methodName,
+                byte[] requestData, java.lang.Object context)
         {
-            final Method method = methodMap.get(methodName);
-            if (method == null)
+            final int methodId = methodId(methodName);
+            if (methodId == zserio.runtime.service.ServiceInterface.UNKNOWN_METHOD_ID)
             {
-                throw new zserio.runtime.service.ServiceException(
-                        "${serviceFullName}: Method '" + methodName + "' does not exist!");
+                return zserio.runtime.service.AsyncServiceUtil.failedFuture(
+                        new zserio.runtime.service.ServiceException(
+                                "${serviceFullName}: Method '" + methodName + "' does not exist!"));
+            }
+            return callMethodAsync(methodId, methodName, requestData, context);
+        }
+
+        @Override
+        public java.util.concurrent.CompletableFuture<byte[]> callMethodAsync(int methodId,
+                java.lang.String methodName, byte[] requestData, java.lang.Object context)
+        {
+            try
+            {
+                switch (methodId)
+                {
+<#list methodList as method>
+                case ${method.id?c}:
+                    checkMethodName(methodName, "${method.name}");
+                    return ${method.name}MethodAsync(requestData, context);
+</#list>
+                default:
+                    if (methodId == zserio.runtime.service.ServiceInterface.UNKNOWN_METHOD_ID)
+                        return callMethodAsync(methodName, requestData, context);
+                    return zserio.runtime.service.AsyncServiceUtil.failedFuture(
+                            new zserio.runtime.service.ServiceException(
+                                    "${serviceFullName}: Method ID '" + methodId + "' does not exist!"));
+                }
+            }
+            catch (java.lang.RuntimeException exception)
+            {
+                return zserio.runtime.service.AsyncServiceUtil.failedFuture(exception);
             }
-            return method.invoke(requestData, context);
         }
 
         public static java.lang.String serviceFullName()
@@ -50,34 +92,88 @@ public final class ${name}
 </#list>
             };
         }
+
+        public static int methodId(java.lang.String methodName)
+        {
+            if (methodName == null)
+                return zserio.runtime.service.ServiceInterface.UNKNOWN_METHOD_ID;
+
+            switch (methodName)
+            {
+<#list methodList as method>
+            case "${method.name}":
+                return ${method.id?c};
+</#list>
+            default:
+                return zserio.runtime.service.ServiceInterface.UNKNOWN_METHOD_ID;
+            }
+        }
 <#list methodList as method>
 
         protected abstract ${method.responseTypeFullName} ${method.name}Impl(
                 ${method.requestTypeFullName} request, java.lang.Object context);
+
+        protected java.util.concurrent.CompletableFuture<${method.responseTypeFullName}> ${method.name}ImplAsync(
+                ${method.requestTypeFullName} request, java.lang.Object context)
+        {
+            return java.util.concurrent.CompletableFuture.completedFuture(${method.name}Impl(request, context));
+        }
 </#list>
 <#list methodList as method>
 
         private byte[] ${method.name}Method(byte[] requestData, java.lang.Object context)
                 throws zserio.runtime.ZserioError
         {
-            final ${method.requestTypeFullName} request =
-                    zserio.runtime.io.ZserioIO.read(${method.requestTypeFullName}.class, requestData);
+            final ${method.requestTypeFullName} request = ${method.name}ReadRequest(requestData);
 
             final ${method.responseTypeFullName} response = ${method.name}Impl(request, context);
 
             final byte[] responseData = zserio.runtime.io.ZserioIO.write(response);
             return responseData;
         }
+
+        private java.util.concurrent.CompletableFuture<byte[]> ${method.name}MethodAsync(byte[] requestData,
+                java.lang.Object context) throws zserio.runtime.ZserioError
+        {
+            final ${method.requestTypeFullName} request = ${method.name}ReadRequest(requestData);
+
+            return ${method.name}ImplAsync(request, context).thenApply(
+                    new java.util.function.Function<${method.responseTypeFullName}, byte[]>()
+                    {
+                        @Override
+                        public byte[] apply(${method.responseTypeFullName} response)
+                        {
+                            return zserio.runtime.io.ZserioIO.write(response);
+                        }
+                    });
+        }
+
+        private static ${method.requestTypeFullName} ${method.name}ReadRequest(byte[] requestData)
+                throws zserio.runtime.ZserioError
+        {
+            try
+            {
+                return new ${method.requestTypeFullName}(
+                        new zserio.runtime.io.ByteArrayBitStreamReader(requestData));
+            }
+            catch (java.io.IOException exception)
+            {
+                throw new zserio.runtime.ZserioError(exception);
+            }
+        }
 </#list>
 
-        private interface Method
+        private static void checkMethodName(java.lang.String methodName, java.lang.String expectedMethodName)
         {
-            byte[] invoke(byte[] requestData, java.lang.Object context) throws zserio.runtime.ZserioError;
+            // method ID and name must match, otherwise client and server use different schemas
+            if (methodName != null && !methodName.equals(expectedMethodName))
+            {
+                throw new zserio.runtime.service.ServiceException("${serviceFullName}: Method '" + methodName +
+                        "' does not match the method ID of '" + expectedMethodName + "'!");
+            }
         }
 
         private static final java.lang.String SERVICE_FULL_NAME = "${serviceFullName}";
-
-        private final java.util.Map<java.lang.String, Method> methodMap;
     }
 
     public static final class ${name}Client
@@ -85,6 +181,7 @@ public final class ${name}
         public ${name}Client(zserio.runtime.service.ServiceInterface service)
         {
             this.service = service;
+            asyncService = zserio.runtime.service.AsyncServiceUtil.toAsync(service);
         }
 <#list methodList as method>
 
@@ -93,11 +190,18 @@ public final class ${name}
         {
             final byte[] requestData = zserio.runtime.io.ZserioIO.write(request);
 
-            final byte[] responseData = service.callMethod("${method.name}", requestData, context);
+            final byte[] responseData = service.callMethod(${method.id?c}, "${method.name}", requestData,
+                    context);
 
-            final ${method.responseTypeFullName} response =
-                    zserio.runtime.io.ZserioIO.read(${method.responseTypeFullName}.class, responseData);
-            return response;
+            try
+            {
+                return new ${method.responseTypeFullName}(
+                        new zserio.runtime.io.ByteArrayBitStreamReader(responseData));
+            }
+            catch (java.io.IOException exception)
+            {
+                throw new zserio.runtime.ZserioError(exception);
+            }
         }
 
         public ${method.responseTypeFullName} ${method.name}Method(${method.requestTypeFullName} request)
@@ -105,8 +209,49 @@ public final class ${name}
         {
             return ${method.name}Method(request, null);
         }
+
+        public java.util.concurrent.CompletableFuture<${method.responseTypeFullName}> ${method.name}MethodAsync(
+                ${method.requestTypeFullName} request, java.lang.Object context)
+        {
+            final byte[] requestData;
+            try
+            {
+                requestData = zserio.runtime.io.ZserioIO.write(request);
+            }
+            catch (java.lang.RuntimeException exception)
+            {
+                return zserio.runtime.service.AsyncServiceUtil.failedFuture(exception);
+            }
+
+            final java.util.concurrent.CompletableFuture<byte[]> response =
+                    asyncService.callMethodAsync(${method.id?c}, "${method.name}", requestData, context);
+            return response.thenApply(
+                    new java.util.function.Function<byte[], ${method.responseTypeFullName}>()
+                    {
+                        @Override
+                        public ${method.responseTypeFullName} apply(byte[] responseData)
+                        {
+                            try
+                            {
+                                return new ${method.responseTypeFullName}(
+                                        new zserio.runtime.io.ByteArrayBitStreamReader(responseData));
+                            }
+                            catch (java.io.IOException exception)
+                            {
+                                throw new zserio.runtime.ZserioError(exception);
+                            }
+                        }
+                    });
+        }
+
+        public java.util.concurrent.CompletableFuture<${method.responseTypeFullName}> ${method.name}MethodAsync(
+                ${method.requestTypeFullName} request)
+        {
+            return ${method.name}MethodAsync(request, null);
+        }
 </#list>
 
         private final zserio.runtime.service.ServiceInterface service;
+        private final zserio.runtime.service.AsyncServiceInterface asyncService;
     }
 }
@@ -27,13 +27,23 @@ public class ${name} implements zserio.runtime.SqlDatabase<#if !withWriterCode>R
     public ${name}(java.lang.String fileName,
             java.util.Map<java.lang.String, java.lang.String> tableToDbFileNameRelocationMap)
             throws java.sql.SQLException
+    {
+        this(fileName, tableToDbFileNameRelocationMap, <#if withWriterCode>"CREATE"<#else>"READONLY"</#if>);
+    }
+
+    private ${name}(java.lang.String fileName,
+            java.util.Map<java.lang.String, java.lang.String> tableToDbFileNameRelocationMap,
+            java.lang.String openFlags) throws java.sql.SQLException
     {
         final java.util.Properties connectionProps = new java.util.Properties();
-        connectionProps.setProperty("flags", <#if withWriterCode>"CREATE"<#else>"READONLY"</#if>);
+        connectionProps.setProperty("flags", openFlags);
         final java.lang.String uriPath = "jdbc:sqlite:" + new java.io.File(fileName).toString();
 
         connection = java.sql.DriverManager.getConnection(uriPath, connectionProps);
         isExternal = false;
+        this.fileName = fileName;
+        this.tableToDbFileNameRelocationMap = tableToDbFileNameRelocationMap;
+        statementCache = new zserio.runtime.SqlStatementCache(connection);
         attachedDbList = new java.util.ArrayList<java.lang.String>();
 
         final java.util.Map<java.lang.String, java.lang.String> tableToAttachedDbNameRelocationMap =
@@ -70,6 +80,9 @@ public class ${name} implements zserio.runtime.SqlDatabase<#if !withWriterCode>R
     {
         connection = externalConnection;
         isExternal = true;
+        fileName = null;
+        tableToDbFileNameRelocationMap = null;
+        statementCache = new zserio.runtime.SqlStatementCache(connection);
         attachedDbList = null;
 
         initTables(tableToAttachedDbNameRelocationMap);
@@ -78,6 +91,7 @@ public class ${name} implements zserio.runtime.SqlDatabase<#if !withWriterCode>R
     @Override
     public void close() throws java.sql.SQLException
     {
+        statementCache.close();
         if (!isExternal)
         {
             detachDatabases();
@@ -168,6 +182,64 @@ public class ${name} implements zserio.runtime.SqlDatabase<#if !withWriterCode>R
 
         return report;
     }
+
+    /**
+     * Validates all tables in parallel.
+     *
+     * Rows of each table are split to the given number of rowid ranges which are validated by tasks submitted
+     * to the given executor. Each task opens its own read only connection to the database file. Schemas of
+     * tables are validated by the calling thread.
+     *
+     * Parameter providers must be thread safe. Validation times in the returned report are summed up over
+     * all tasks.
+     */
+    public zserio.runtime.validation.ValidationReport validate(<#if needsParameterProvider>ParameterProvider parameterProvider,</#if>
+            java.util.concurrent.ExecutorService executor, int numRowRangesPerTable) throws java.sql.SQLException
+    {
+        if (fileName == null)
+        {
+            throw new zserio.runtime.ZserioError("${name}: Parallel validation of database with external " +
+                    "connection needs database factory!");
+        }
+
+        final java.lang.String dbFileName = fileName;
+        final java.util.Map<java.lang.String, java.lang.String> dbRelocationMap = tableToDbFileNameRelocationMap;
+
+        return validate(<#if needsParameterProvider>parameterProvider, </#if>executor, numRowRangesPerTable,
+                new java.util.concurrent.Callable<${name}>()
+                {
+                    @Override
+                    public ${name} call() throws java.sql.SQLException
+                    {
+                        return new ${name}(dbFileName, dbRelocationMap, "READONLY");
+                    }
+                });
+    }
+
+    /**
+     * Validates all tables in parallel using databases created by the given factory.
+     *
+     * Rows of each table are split to the given number of rowid ranges which are validated by tasks submitted
+     * to the given executor. Each task creates its own database by the factory and closes it at the end.
+     * Schemas of tables are validated by the calling thread.
+     *
+     * Parameter providers must be thread safe. Validation times in the returned report are summed up over
+     * all tasks.
+     */
+    public zserio.runtime.validation.ValidationReport validate(<#if needsParameterProvider>ParameterProvider parameterProvider,</#if>
+            java.util.concurrent.ExecutorService executor, int numRowRangesPerTable,
+            java.util.concurrent.Callable<? extends ${name}> databaseFactory) throws java.sql.SQLException
+    {
+        final zserio.runtime.validation.ValidationTasks tasks =
+                new zserio.runtime.validation.ValidationTasks(executor);
+    <#list fields as field>
+        addValidationTasks(tasks, this.<@field_member_name field/>.validateTableSchema(), databaseFactory,
+                ${field.name}_TABLE_NAME, <#if needsParameterProvider>parameterProvider, </#if><#rt>
+                <#lt><#if field.hasRowId>this.<@field_member_name field/>.getRowIdRange()<#else>null</#if>, numRowRangesPerTable);
+    </#list>
+
+        return tasks.join();
+    }
 </#if>
 
     public static java.lang.String databaseName()
@@ -190,10 +262,92 @@ public class ${name} implements zserio.runtime.SqlDatabase<#if !withWriterCode>R
 <#list fields as field>
         this.<@field_member_name field/> = new ${field.javaTypeName}(connection,
                 tableToAttachedDbNameRelocationMap.get(${field.name}_TABLE_NAME),
-                ${field.name}_TABLE_NAME);
+                ${field.name}_TABLE_NAME, statementCache);
 </#list>
     }
 
+<#if withValidationCode>
+    private static void addValidationTasks(zserio.runtime.validation.ValidationTasks tasks,
+            zserio.runtime.validation.ValidationReport schemaReport,
+            java.util.concurrent.Callable<? extends ${name}> databaseFactory, java.lang.String tableName,
+            <#if needsParameterProvider>ParameterProvider parameterProvider, </#if>long[] rowIdRange, int numRowRanges)
+    {
+        tasks.add(schemaReport);
+        if (!schemaReport.getErrors().isEmpty())
+            return;
+
+        if (rowIdRange == null)
+        {
+            tasks.submit(new RowsValidationTask(databaseFactory, tableName, <#if needsParameterProvider>parameterProvider, </#if>null));
+        }
+        else
+        {
+            for (long[] range : zserio.runtime.validation.ValidationTasks.splitRowIdRange(
+                    rowIdRange[0], rowIdRange[1], numRowRanges))
+            {
+                tasks.submit(new RowsValidationTask(databaseFactory, tableName, <#if needsParameterProvider>parameterProvider, </#if>range));
+            }
+        }
+    }
+
+    private zserio.runtime.validation.ValidationReport validateTableRows(java.lang.String tableName,
+            <#if needsParameterProvider>ParameterProvider parameterProvider, </#if>long[] rowIdRange) throws java.sql.SQLException
+    {
+    <#list fields as field>
+        <#assign tableParameterProvider><#if field.hasExplicitParameters>parameterProvider.get${field.name?cap_first}ParameterProvider()</#if></#assign>
+        if (tableName.equals(${field.name}_TABLE_NAME))
+        {
+        <#if field.hasRowId>
+            if (rowIdRange != null)
+            {
+                return this.<@field_member_name field/>.validateRows(<#if tableParameterProvider?has_content>${tableParameterProvider}, </#if><#rt>
+                        <#lt>rowIdRange[0], rowIdRange[1]);
+            }
+        </#if>
+            return this.<@field_member_name field/>.validateRows(${tableParameterProvider});
+        }
+    </#list>
+
+        throw new zserio.runtime.ZserioError("${name}: Unknown table '" + tableName + "'!");
+    }
+
+    private static final class RowsValidationTask
+            implements java.util.concurrent.Callable<zserio.runtime.validation.ValidationReport>
+    {
+        public RowsValidationTask(java.util.concurrent.Callable<? extends ${name}> databaseFactory,
+                java.lang.String tableName, <#if needsParameterProvider>ParameterProvider parameterProvider, </#if>long[] rowIdRange)
+        {
+            this.databaseFactory = databaseFactory;
+            this.tableName = tableName;
+    <#if needsParameterProvider>
+            this.parameterProvider = parameterProvider;
+    </#if>
+            this.rowIdRange = rowIdRange;
+        }
+
+        @Override
+        public zserio.runtime.validation.ValidationReport call() throws java.lang.Exception
+        {
+            final ${name} database = databaseFactory.call();
+            try
+            {
+                return database.validateTableRows(tableName, <#if needsParameterProvider>parameterProvider, </#if>rowIdRange);
+            }
+            finally
+            {
+                database.close();
+            }
+        }
+
+        private final java.util.concurrent.Callable<? extends ${name}> databaseFactory;
+        private final java.lang.String tableName;
+    <#if needsParameterProvider>
+        private final ParameterProvider parameterProvider;
+    </#if>
+        private final long[] rowIdRange;
+    }
+
+</#if>
     private void executeUpdate(java.lang.String sql) throws java.sql.SQLException
     {
         final java.sql.Statement statement = connection.createStatement();
@@ -258,7 +412,10 @@ public class ${name} implements zserio.runtime.SqlDatabase<#if !withWriterCode>R
 
     private final java.sql.Connection connection;
     private final boolean isExternal;
+    private final java.lang.String fileName;
+    private final java.util.Map<java.lang.String, java.lang.String> tableToDbFileNameRelocationMap;
     private final java.util.List<java.lang.String> attachedDbList;
+    private final zserio.runtime.SqlStatementCache statementCache;
 
 <#list fields as field>
     private ${field.javaTypeName} <@field_member_name field/>;
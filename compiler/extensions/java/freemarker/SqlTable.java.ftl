@@ -1,9 +1,18 @@
 <#include "FileHeader.inc.ftl">
+<#include "CompoundField.inc.ftl">
 <#include "Sql.inc.ftl">
 <#include "RangeCheck.inc.ftl">
 <@standard_header generatorDescription, packageName/>
 <#assign hasBlobField=sql_table_has_blob_field(fields)/>
 <#assign needsParameterProvider=explicitParameters?has_content/>
+<#assign primaryKeyFields=[]/>
+<#list fields as field>
+    <#if field.isPrimaryKey>
+        <#assign primaryKeyFields=primaryKeyFields + [field]/>
+    </#if>
+</#list>
+<#assign hasPrimaryKeyField=primaryKeyFields?has_content/>
+<#assign hasRowId=!isWithoutRowId && !virtualTableUsing??/>
 <#if withWriterCode>
     <#assign hasNonVirtualField=sql_table_has_non_virtual_field(fields)/>
 </#if>
@@ -24,17 +33,27 @@ public class ${name}
 </#if>
     public ${name}(java.sql.Connection connection, java.lang.String tableName)
     {
-        this.connection = connection;
-        this.attachedDbName = null;
-        this.tableName = tableName;
+        this(connection, null, tableName);
     }
 
     public ${name}(java.sql.Connection connection, java.lang.String attachedDbName,
             java.lang.String tableName)
+    {
+        this(connection, attachedDbName, tableName, null);
+    }
+
+    /**
+     * Constructor which uses the given statement cache owned by the caller.
+     *
+     * Statements are prepared and closed for each call if the statement cache is null.
+     */
+    public ${name}(java.sql.Connection connection, java.lang.String attachedDbName,
+            java.lang.String tableName, zserio.runtime.SqlStatementCache statementCache)
     {
         this.connection = connection;
         this.attachedDbName = attachedDbName;
         this.tableName = tableName;
+        this.statementCache = statementCache;
     }
 <#if withWriterCode>
 
@@ -74,37 +93,273 @@ public class ${name}
     public java.util.List<${rowName}> read(<#if needsParameterProvider>ParameterProvider parameterProvider,</#if>
             java.lang.String condition) throws java.sql.SQLException, java.io.IOException
     {
-        // assemble sql query
-        final java.lang.StringBuilder sqlQuery = new java.lang.StringBuilder("SELECT " +
-<#list fields as field>
-                "${field.name}<#if field_has_next>, </#if>" +
-</#list>
-                " FROM ");
-        appendTableNameToQuery(sqlQuery);
-        if (!condition.isEmpty())
+        return read(<#if needsParameterProvider>parameterProvider, </#if>condition, new java.lang.Object[0]);
+    }
+
+    /**
+     * Reads all rows from the table which fulfill the given condition with '?' placeholders.
+     *
+     * The placeholders are bound to the given arguments. If the table uses a statement cache, the prepared
+     * statement is cached, thus placeholders should be used instead of literal values when reading in a loop.
+     */
+    public java.util.List<${rowName}> read(<#if needsParameterProvider>ParameterProvider parameterProvider,</#if>
+            java.lang.String condition, java.lang.Object... args)
+            throws java.sql.SQLException, java.io.IOException
+    {
+        final java.lang.String sqlQuery = getSelectQuery(ALL_COLUMN_INDEXES, condition);
+        final java.util.List<${rowName}> rows = new java.util.ArrayList<${rowName}>();
+        final java.sql.PreparedStatement statement = acquireStatement(sqlQuery);
+        try
         {
-            sqlQuery.append(" WHERE ");
-            sqlQuery.append(condition);
+            setArguments(statement, 1, args);
+            final java.sql.ResultSet resultSet = statement.executeQuery();
+            try
+            {
+                while (resultSet.next())
+                {
+                    final ${rowName} row = readRow(<#if needsParameterProvider>parameterProvider, </#if>resultSet,
+                            ALL_COLUMN_INDEXES, false);
+                    rows.add(row);
+                }
+            }
+            finally
+            {
+                resultSet.close();
+            }
+        }
+        finally
+        {
+            releaseStatement(sqlQuery, statement);
         }
 
-        // read rows
-        final java.util.List<${rowName}> rows = new java.util.ArrayList<${rowName}>();
-        final java.sql.PreparedStatement statement = connection.prepareStatement(sqlQuery.toString());
+        return rows;
+    }
+<#if hasPrimaryKeyField>
+
+    /** Reads the row with the given primary key or returns null if there is no such row. */
+    public ${rowName} readByPrimaryKey(<#if needsParameterProvider>ParameterProvider parameterProvider,</#if>
+    <#list primaryKeyFields as field>
+            ${field.javaTypeFullName} <@field_argument_name field/><#if field_has_next>,<#else>)</#if>
+    </#list>
+            throws java.sql.SQLException, java.io.IOException
+    {
+        final java.lang.String sqlQuery = getSelectQuery(ALL_COLUMN_INDEXES,
+    <#list primaryKeyFields as field>
+                "<#if field_index != 0> AND </#if>${field.name}=?"<#if field_has_next> +<#else>);</#if>
+    </#list>
+        final java.sql.PreparedStatement statement = acquireStatement(sqlQuery);
         try
         {
+    <#list primaryKeyFields as field>
+            <@set_statement_value field, field_index + 1, "${field.name}_", 3/>
+    </#list>
             final java.sql.ResultSet resultSet = statement.executeQuery();
-            while (resultSet.next())
+            try
+            {
+                return resultSet.next() ? readRow(<#if needsParameterProvider>parameterProvider, </#if>resultSet,
+                        ALL_COLUMN_INDEXES, false) : null;
+            }
+            finally
             {
-                final ${rowName} row = readRow(<#if needsParameterProvider>parameterProvider, </#if>resultSet);
-                rows.add(row);
+                resultSet.close();
             }
         }
         finally
+        {
+            releaseStatement(sqlQuery, statement);
+        }
+    }
+</#if>
+
+    /**
+     * Creates a reader which advances lazily through all rows of the table.
+     *
+     * The reader must be closed when it is not needed anymore.
+     */
+    public RowReader createReader(<#if needsParameterProvider>ParameterProvider parameterProvider</#if>)
+            throws java.sql.SQLException
+    {
+        return createReader(<#if needsParameterProvider>parameterProvider, </#if>"", 0, false);
+    }
+
+    /**
+     * Creates a reader which advances lazily through the rows of the table which fulfill the given condition.
+     *
+     * The reader must be closed when it is not needed anymore.
+     *
+     * @param condition   SQL condition to use in WHERE clause or empty string to read all rows.
+     * @param fetchSize   Number of rows fetched from the database at once or 0 to use the driver's default.
+     * @param lazyBlobs   True to keep the raw blob data until the blob is requested for the first time.
+     * @param columnNames Names of columns to read. All columns are read if no name is given, columns which are
+     *                    not read are null in the rows.
+     */
+    public RowReader createReader(<#if needsParameterProvider>ParameterProvider parameterProvider,</#if>
+            java.lang.String condition, int fetchSize, boolean lazyBlobs, java.lang.String... columnNames)
+            throws java.sql.SQLException
+    {
+        final int[] columnIndexes = getColumnIndexes(columnNames);
+        final java.lang.String sqlQuery = getSelectQuery(columnIndexes, condition);
+        final java.sql.PreparedStatement statement = connection.prepareStatement(sqlQuery);
+        try
+        {
+            statement.setFetchSize(fetchSize);
+            return new RowReader(<#if needsParameterProvider>parameterProvider, </#if>statement, columnIndexes, lazyBlobs);
+        }
+        catch (java.sql.SQLException exception)
         {
             statement.close();
+            throw exception;
         }
+    }
 
-        return rows;
+    /**
+     * Creates a stream of all rows of the table which advances lazily through the rows.
+     *
+     * The stream must be closed when it is not needed anymore. Errors are thrown as zserio.runtime.ZserioError.
+     */
+    public java.util.stream.Stream<${rowName}> stream(<#if needsParameterProvider>ParameterProvider parameterProvider</#if>)
+            throws java.sql.SQLException
+    {
+        return stream(<#if needsParameterProvider>parameterProvider, </#if>"", 0, false);
+    }
+
+    /**
+     * Creates a stream of the rows of the table which fulfill the given condition.
+     *
+     * The stream advances lazily through the rows and it must be closed when it is not needed anymore. Errors
+     * are thrown as zserio.runtime.ZserioError. See createReader for description of the parameters.
+     */
+    public java.util.stream.Stream<${rowName}> stream(<#if needsParameterProvider>ParameterProvider parameterProvider,</#if>
+            java.lang.String condition, int fetchSize, boolean lazyBlobs, java.lang.String... columnNames)
+            throws java.sql.SQLException
+    {
+        final RowReader reader = createReader(<#if needsParameterProvider>parameterProvider, </#if>condition, fetchSize, lazyBlobs,
+                columnNames);
+        final java.util.Spliterator<${rowName}> spliterator = java.util.Spliterators.spliteratorUnknownSize(
+                reader, java.util.Spliterator.ORDERED | java.util.Spliterator.NONNULL);
+
+        return java.util.stream.StreamSupport.stream(spliterator, false).onClose(new java.lang.Runnable()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    reader.close();
+                }
+                catch (java.sql.SQLException exception)
+                {
+                    throw new zserio.runtime.ZserioError("${name}: " + exception, exception);
+                }
+            }
+        });
+    }
+
+    /**
+     * Reader which advances lazily through the rows read from the table.
+     *
+     * When used as an iterator, errors are thrown as zserio.runtime.ZserioError. The reader is closed
+     * automatically when the last row has been read.
+     */
+    public static final class RowReader implements java.util.Iterator<${rowName}>, java.lang.AutoCloseable
+    {
+        private RowReader(<#if needsParameterProvider>ParameterProvider parameterProvider, </#if>java.sql.PreparedStatement statement,
+                int[] columnIndexes, boolean lazyBlobs) throws java.sql.SQLException
+        {
+<#if needsParameterProvider>
+            this.parameterProvider = parameterProvider;
+</#if>
+            this.statement = statement;
+            this.columnIndexes = columnIndexes;
+            this.lazyBlobs = lazyBlobs;
+            resultSet = statement.executeQuery();
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if (nextRow == null)
+            {
+                try
+                {
+                    nextRow = read();
+                }
+                catch (java.sql.SQLException exception)
+                {
+                    throw new zserio.runtime.ZserioError("${name}.RowReader: " + exception, exception);
+                }
+                catch (java.io.IOException exception)
+                {
+                    throw new zserio.runtime.ZserioError("${name}.RowReader: " + exception, exception);
+                }
+            }
+
+            return nextRow != null;
+        }
+
+        @Override
+        public ${rowName} next()
+        {
+            if (!hasNext())
+                throw new java.util.NoSuchElementException("${name}.RowReader: No more rows!");
+
+            final ${rowName} row = nextRow;
+            nextRow = null;
+
+            return row;
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new java.lang.UnsupportedOperationException("${name}.RowReader: Remove is not supported!");
+        }
+
+        /**
+         * Reads the next row.
+         *
+         * @return The next row or null if there are no more rows.
+         */
+        public ${rowName} read() throws java.sql.SQLException, java.io.IOException
+        {
+            if (nextRow != null)
+            {
+                final ${rowName} row = nextRow;
+                nextRow = null;
+                return row;
+            }
+
+            if (isClosed)
+                return null;
+
+            if (!resultSet.next())
+            {
+                close();
+                return null;
+            }
+
+            return readRow(<#if needsParameterProvider>parameterProvider, </#if>resultSet, columnIndexes, lazyBlobs);
+        }
+
+        @Override
+        public void close() throws java.sql.SQLException
+        {
+            if (!isClosed)
+            {
+                isClosed = true;
+                statement.close();
+            }
+        }
+
+<#if needsParameterProvider>
+        private final ParameterProvider parameterProvider;
+</#if>
+        private final java.sql.PreparedStatement statement;
+        private final java.sql.ResultSet resultSet;
+        private final int[] columnIndexes;
+        private final boolean lazyBlobs;
+        private ${rowName} nextRow = null;
+        private boolean isClosed = false;
     }
 <#if withWriterCode>
 
@@ -131,7 +386,7 @@ public class ${name}
 
         // write rows
         final boolean wasTransactionStarted = startTransaction();
-        final java.sql.PreparedStatement statement = connection.prepareStatement(sqlQuery.toString());
+        final java.sql.PreparedStatement statement = acquireStatement(sqlQuery.toString());
         try
         {
             for (${rowName} row : rows)
@@ -143,7 +398,7 @@ public class ${name}
         }
         finally
         {
-            statement.close();
+            releaseStatement(sqlQuery.toString(), statement);
         }
 
         endTransaction(wasTransactionStarted);
@@ -152,6 +407,17 @@ public class ${name}
     /** Updates given row in the table. */
     public void update(${rowName} row, java.lang.String whereCondition)
             throws java.sql.SQLException, java.io.IOException
+    {
+        update(row, whereCondition, new java.lang.Object[0]);
+    }
+
+    /**
+     * Updates given row in the table using condition with '?' placeholders.
+     *
+     * The placeholders are bound to the given arguments.
+     */
+    public void update(${rowName} row, java.lang.String whereCondition, java.lang.Object... args)
+            throws java.sql.SQLException, java.io.IOException
     {
         // assemble sql query
         final java.lang.StringBuilder sqlQuery = new java.lang.StringBuilder("UPDATE ");
@@ -164,15 +430,16 @@ public class ${name}
         sqlQuery.append(whereCondition);
 
         // update row
-        final java.sql.PreparedStatement statement = connection.prepareStatement(sqlQuery.toString());
+        final java.sql.PreparedStatement statement = acquireStatement(sqlQuery.toString());
         try
         {
             writeRow(row, statement);
+            setArguments(statement, ${fields?size + 1}, args);
             statement.executeUpdate();
         }
         finally
         {
-            statement.close();
+            releaseStatement(sqlQuery.toString(), statement);
         }
     }
 </#if>
@@ -194,40 +461,8 @@ public class ${name}
     <#if hasValidatableField>
         if (validateSchema(errors))
         {
-            <#-- don't use rowid because WITHOUT ROWID tables can be used even if Zserio does not support them -->
-            final java.lang.StringBuilder sqlQuery = new java.lang.StringBuilder("SELECT " +
-        <#list fields as field>
-                    "${field.name}<#if field_has_next>, </#if>" +
-        </#list>
-                    " FROM ");
-            appendTableNameToQuery(sqlQuery);
-            final java.sql.PreparedStatement statement = connection.prepareStatement(sqlQuery.toString());
-
-            try
-            {
-                final java.sql.ResultSet resultSet = statement.executeQuery();
-
-                while (resultSet.next())
-                {
-                    numberOfValidatedRows++;
-                    final ${rowName} row = new ${rowName}();
-        <#list fields as field>
-            <#if field.sqlTypeData.isBlob>
-                    if (!validateBlob${field.name?cap_first}(errors, resultSet, row,<#rt>
-                            <#lt> <#if needsParameterProvider>parameterProvider,</#if>
-                            totalParameterProviderTimer))
-                        continue;
-            <#else>
-                    if (!validateField${field.name?cap_first}(errors, resultSet, row))
-                        continue;
-            </#if>
-        </#list>
-                }
-            }
-            finally
-            {
-                statement.close();
-            }
+            numberOfValidatedRows = validateRowFields(errors, <#if needsParameterProvider>parameterProvider, </#if>"",
+                    totalParameterProviderTimer);
         }
 
     <#else>
@@ -238,6 +473,61 @@ public class ${name}
         return new zserio.runtime.validation.ValidationReport(1, numberOfValidatedRows,
                 totalValidationTimer.getDuration(), totalParameterProviderTimer.getDuration(), errors);
     }
+
+    /** Validates schema of the table. Rows of the table are not validated. */
+    public zserio.runtime.validation.ValidationReport validateTableSchema() throws java.sql.SQLException
+    {
+        final zserio.runtime.validation.ValidationTimer totalValidationTimer =
+                new zserio.runtime.validation.ValidationTimer();
+        totalValidationTimer.start();
+        final java.util.List<zserio.runtime.validation.ValidationError> errors =
+                new java.util.ArrayList<zserio.runtime.validation.ValidationError>();
+        validateSchema(errors);
+        totalValidationTimer.stop();
+
+        return new zserio.runtime.validation.ValidationReport(1, 0, totalValidationTimer.getDuration(), 0,
+                errors);
+    }
+
+    /**
+     * Validates all fields in all rows of the table.
+     *
+     * Schema of the table is not validated, thus it should be validated by validateTableSchema before.
+     */
+    public zserio.runtime.validation.ValidationReport validateRows(<#if needsParameterProvider>ParameterProvider parameterProvider</#if>)
+            throws java.sql.SQLException
+    {
+        return validateRows(<#if needsParameterProvider>parameterProvider, </#if>"");
+    }
+    <#if hasRowId>
+
+    /**
+     * Validates all fields in rows of the table with rowid in the given range.
+     *
+     * Schema of the table is not validated, thus it should be validated by validateTableSchema before.
+     */
+    public zserio.runtime.validation.ValidationReport validateRows(<#if needsParameterProvider>ParameterProvider parameterProvider,</#if>
+            long firstRowId, long lastRowId) throws java.sql.SQLException
+    {
+        return validateRows(<#if needsParameterProvider>parameterProvider, </#if>"rowid BETWEEN " + firstRowId +
+                " AND " + lastRowId);
+    }
+
+    /** Gets the minimum and the maximum rowid or null if the table is empty or it has no rowid. */
+    public long[] getRowIdRange()
+    {
+        try
+        {
+            return zserio.runtime.validation.ValidationSqliteUtil.getRowIdRange(connection, attachedDbName,
+                    tableName);
+        }
+        catch (java.sql.SQLException exception)
+        {
+            // table can be created WITHOUT ROWID even if Zserio does not know it
+            return null;
+        }
+    }
+    </#if>
 </#if>
 
     private void appendTableNameToQuery(java.lang.StringBuilder sqlQuery)
@@ -249,6 +539,78 @@ public class ${name}
         }
         sqlQuery.append(tableName);
     }
+
+    private java.lang.String getSelectQuery(int[] columnIndexes, java.lang.String condition)
+    {
+        final java.lang.StringBuilder sqlQuery = new java.lang.StringBuilder("SELECT ");
+        boolean isFirstColumn = true;
+        for (int i = 0; i < COLUMN_NAMES.length; ++i)
+        {
+            if (columnIndexes[i] != 0)
+            {
+                if (!isFirstColumn)
+                    sqlQuery.append(", ");
+                sqlQuery.append(COLUMN_NAMES[i]);
+                isFirstColumn = false;
+            }
+        }
+        sqlQuery.append(" FROM ");
+        appendTableNameToQuery(sqlQuery);
+        if (!condition.isEmpty())
+        {
+            sqlQuery.append(" WHERE ");
+            sqlQuery.append(condition);
+        }
+
+        return sqlQuery.toString();
+    }
+
+    private java.sql.PreparedStatement acquireStatement(java.lang.String sql) throws java.sql.SQLException
+    {
+        return (statementCache != null) ? statementCache.acquire(sql) : connection.prepareStatement(sql);
+    }
+
+    private void releaseStatement(java.lang.String sql, java.sql.PreparedStatement statement)
+            throws java.sql.SQLException
+    {
+        if (statementCache != null)
+            statementCache.release(sql, statement);
+        else
+            statement.close();
+    }
+
+    private static void setArguments(java.sql.PreparedStatement statement, int firstParameterIndex,
+            java.lang.Object[] args) throws java.sql.SQLException
+    {
+        for (int i = 0; i < args.length; ++i)
+            statement.setObject(firstParameterIndex + i, args[i]);
+    }
+
+    private static int[] getColumnIndexes(java.lang.String[] columnNames)
+    {
+        if (columnNames.length == 0)
+            return ALL_COLUMN_INDEXES;
+
+        // maps field index to 1-based column index in result set, 0 for columns which are not read
+        final int[] columnIndexes = new int[COLUMN_NAMES.length];
+        final java.util.List<java.lang.String> allColumnNames = java.util.Arrays.asList(COLUMN_NAMES);
+        for (java.lang.String columnName : columnNames)
+        {
+            final int fieldIndex = allColumnNames.indexOf(columnName);
+            if (fieldIndex < 0)
+                throw new zserio.runtime.ZserioError("${name}: Unknown column '" + columnName + "'!");
+            columnIndexes[fieldIndex] = 1;
+        }
+
+        int columnIndex = 0;
+        for (int i = 0; i < columnIndexes.length; ++i)
+        {
+            if (columnIndexes[i] != 0)
+                columnIndexes[i] = ++columnIndex;
+        }
+
+        return columnIndexes;
+    }
 <#if withWriterCode>
 
     private void executeUpdate(java.lang.String sql) throws java.sql.SQLException
@@ -315,7 +677,27 @@ public class ${name}
     }
 
 </#if>
-<#macro read_blob field called_from_validation indent>
+<#macro set_statement_value field parameterIndex value indent>
+    <#local I>${""?left_pad(indent * 4)}</#local>
+    <#local localName="${field.name}Value"/>
+    <#if field.sqlTypeData.isBlob>
+${I}final byte[] ${localName} = zserio.runtime.io.ZserioIO.write(${value});
+${I}statement.setBytes(${parameterIndex}, ${localName});
+    <#elseif field.enumData??>
+${I}final ${field.enumData.baseJavaTypeFullName} ${localName} = ${value}.getValue();
+${I}statement.set${field.enumData.baseJavaTypeName?cap_first}(${parameterIndex}, ${localName});
+    <#elseif field.bitmaskData??>
+${I}final ${field.bitmaskData.baseJavaTypeFullName} ${localName} = ${value}.getValue();
+${I}statement.set${field.bitmaskData.baseJavaTypeName?cap_first}(${parameterIndex}, ${localName});
+    <#elseif field.requiresBigInt>
+${I}final long ${localName} = ${value}.longValue();
+${I}statement.setLong(${parameterIndex}, ${localName});
+    <#else>
+${I}final ${field.javaTypeFullName} ${localName} = ${value};
+${I}statement.set${field.javaTypeName?cap_first}(${parameterIndex}, ${localName});
+    </#if>
+</#macro>
+<#macro read_blob_explicit_parameters field called_from_validation indent>
     <#local I>${""?left_pad(indent * 4)}</#local>
     <#if called_from_validation>
 ${I}totalParameterProviderTimer.start();
@@ -329,55 +711,86 @@ ${I}        parameterProvider.<@sql_parameter_provider_getter_name parameter/>(r
     <#if called_from_validation>
 ${I}totalParameterProviderTimer.stop();
     </#if>
-${I}final ${field.javaTypeFullName} blob =
-${I}        new ${field.javaTypeFullName}(reader<#rt>
+</#macro>
+<#macro blob_constructor field indent>
+    <#local I>${""?left_pad(indent * 4)}</#local>
+new ${field.javaTypeFullName}(reader<#rt>
     <#list field.typeParameters as parameter>
                 <#lt>,
         <#if parameter.isExplicit>
-${I}                param${parameter.definitionName?cap_first}<#rt>
+${I}        param${parameter.definitionName?cap_first}<#rt>
         <#else>
-${I}                (${parameter.javaTypeFullName})(${parameter.expression})<#rt>
+${I}        (${parameter.javaTypeFullName})(${parameter.expression})<#rt>
         </#if>
     </#list>
-<#lt>);
+<#lt>)<#rt>
+</#macro>
+<#macro read_blob field called_from_validation indent>
+    <#local I>${""?left_pad(indent * 4)}</#local>
+    <@read_blob_explicit_parameters field, called_from_validation, indent/>
+${I}final ${field.javaTypeFullName} blob =
+${I}        <@blob_constructor field, indent + 2/>;
 </#macro>
     private static ${rowName} readRow(<#if needsParameterProvider>ParameterProvider parameterProvider, </#if>
-            java.sql.ResultSet resultSet) throws java.sql.SQLException, java.io.IOException
+            java.sql.ResultSet resultSet, int[] columnIndexes, boolean lazyBlobs)
+            throws java.sql.SQLException, java.io.IOException
     {
         final ${rowName} row = new ${rowName}();
 
 <#list fields as field>
         // field ${field.name}
     <#assign valueVarName="value${field.name?cap_first}"/>
+    <#assign columnIndex="columnIndexes[${field_index}]"/>
+        if (${columnIndex} != 0)
+        {
     <#if field.sqlTypeData.isBlob>
-        final byte[] ${valueVarName} = resultSet.getBytes(${field_index + 1});
+            final byte[] ${valueVarName} = resultSet.getBytes(${columnIndex});
     <#elseif field.enumData??>
-        final ${field.enumData.baseJavaTypeFullName} ${valueVarName} = <#rt>
-                <#lt>resultSet.get${field.enumData.baseJavaTypeName?cap_first}(${field_index + 1});
+            final ${field.enumData.baseJavaTypeFullName} ${valueVarName} = <#rt>
+                    <#lt>resultSet.get${field.enumData.baseJavaTypeName?cap_first}(${columnIndex});
     <#elseif field.bitmaskData??>
-        final ${field.bitmaskData.baseJavaTypeFullName} ${valueVarName} = <#rt>
-                <#lt>resultSet.get${field.bitmaskData.baseJavaTypeName?cap_first}(${field_index + 1});
+            final ${field.bitmaskData.baseJavaTypeFullName} ${valueVarName} = <#rt>
+                    <#lt>resultSet.get${field.bitmaskData.baseJavaTypeName?cap_first}(${columnIndex});
     <#elseif field.requiresBigInt>
-        final long ${valueVarName} = resultSet.getLong(${field_index + 1});
+            final long ${valueVarName} = resultSet.getLong(${columnIndex});
     <#else>
-        final ${field.javaTypeFullName} ${valueVarName} = resultSet.get${field.javaTypeName?cap_first}(${field_index + 1});
+            final ${field.javaTypeFullName} ${valueVarName} = <#rt>
+                    <#lt>resultSet.get${field.javaTypeName?cap_first}(${columnIndex});
     </#if>
-        if (!resultSet.wasNull())
-        {
+            if (!resultSet.wasNull())
+            {
     <#if field.sqlTypeData.isBlob>
-            final zserio.runtime.io.ByteArrayBitStreamReader reader =
-                    new zserio.runtime.io.ByteArrayBitStreamReader(${valueVarName});
-            <@read_blob field, false, 3/>
-            row.set${field.name?cap_first}(blob);
+                if (lazyBlobs)
+                {
+                    <@read_blob_explicit_parameters field, false, 5/>
+                    row.setLazy${field.name?cap_first}(
+                            new zserio.runtime.SqlLazyBlob<${field.javaTypeFullName}>(${valueVarName})
+                    {
+                        @Override
+                        protected ${field.javaTypeFullName} decode(zserio.runtime.io.BitStreamReader reader)
+                                throws java.io.IOException
+                        {
+                            return <@blob_constructor field, 7/>;
+                        }
+                    });
+                }
+                else
+                {
+                    final zserio.runtime.io.ByteArrayBitStreamReader reader =
+                            new zserio.runtime.io.ByteArrayBitStreamReader(${valueVarName});
+                    <@read_blob field, false, 5/>
+                    row.set${field.name?cap_first}(blob);
+                }
     <#elseif field.enumData??>
-            row.set${field.name?cap_first}(${field.javaTypeFullName}.toEnum(${valueVarName}));
+                row.set${field.name?cap_first}(${field.javaTypeFullName}.toEnum(${valueVarName}));
     <#elseif field.bitmaskData??>
-            row.set${field.name?cap_first}(new ${field.javaTypeFullName}(${valueVarName}));
+                row.set${field.name?cap_first}(new ${field.javaTypeFullName}(${valueVarName}));
     <#elseif field.requiresBigInt>
-            row.set${field.name?cap_first}(java.math.BigInteger.valueOf(${valueVarName}));
+                row.set${field.name?cap_first}(java.math.BigInteger.valueOf(${valueVarName}));
     <#else>
-            row.set${field.name?cap_first}(${valueVarName});
+                row.set${field.name?cap_first}(${valueVarName});
     </#if>
+            }
         }
 
 </#list>
@@ -396,24 +809,7 @@ ${I}                (${parameter.javaTypeFullName})(${parameter.expression})<#rt
         }
         else
         {
-        <#if field.sqlTypeData.isBlob>
-            final byte[] blobData = zserio.runtime.io.ZserioIO.write(row.get${field.name?cap_first}());
-            statement.setBytes(${field_index + 1}, blobData);
-        <#elseif field.enumData??>
-            final ${field.enumData.baseJavaTypeFullName} enumValue =
-                    row.get${field.name?cap_first}().getValue();
-            statement.set${field.enumData.baseJavaTypeName?cap_first}(${field_index + 1}, enumValue);
-        <#elseif field.bitmaskData??>
-            final ${field.bitmaskData.baseJavaTypeFullName} bitmaskValue =
-                    row.get${field.name?cap_first}().getValue();
-            statement.set${field.bitmaskData.baseJavaTypeName?cap_first}(${field_index + 1}, bitmaskValue);
-        <#elseif field.requiresBigInt>
-            final long bigIntValue = row.get${field.name?cap_first}().longValue();
-            statement.setLong(${field_index + 1}, bigIntValue);
-        <#else>
-            final ${field.javaTypeFullName} value = row.get${field.name?cap_first}();
-            statement.set${field.javaTypeName?cap_first}(${field_index + 1}, value);
-        </#if>
+            <@set_statement_value field, field_index + 1, "row.get${field.name?cap_first}()", 3/>
         }
         <#if field_has_next>
 
@@ -423,6 +819,78 @@ ${I}                (${parameter.javaTypeFullName})(${parameter.expression})<#rt
 </#if>
 <#if withValidationCode>
 
+    private zserio.runtime.validation.ValidationReport validateRows(<#if needsParameterProvider>ParameterProvider parameterProvider,</#if>
+            java.lang.String condition) throws java.sql.SQLException
+    {
+        final zserio.runtime.validation.ValidationTimer totalValidationTimer =
+                new zserio.runtime.validation.ValidationTimer();
+        totalValidationTimer.start();
+        final java.util.List<zserio.runtime.validation.ValidationError> errors =
+                new java.util.ArrayList<zserio.runtime.validation.ValidationError>();
+        final zserio.runtime.validation.ValidationTimer totalParameterProviderTimer =
+                new zserio.runtime.validation.ValidationTimer();
+    <#if hasValidatableField>
+        final int numberOfValidatedRows = validateRowFields(errors, <#if needsParameterProvider>parameterProvider, </#if>condition,
+                totalParameterProviderTimer);
+    <#else>
+        final int numberOfValidatedRows = 0;
+    </#if>
+        totalValidationTimer.stop();
+
+        return new zserio.runtime.validation.ValidationReport(0, numberOfValidatedRows,
+                totalValidationTimer.getDuration(), totalParameterProviderTimer.getDuration(), errors);
+    }
+    <#if hasValidatableField>
+
+    private int validateRowFields(java.util.List<zserio.runtime.validation.ValidationError> errors,
+            <#if needsParameterProvider>ParameterProvider parameterProvider, </#if>java.lang.String condition,
+            zserio.runtime.validation.ValidationTimer totalParameterProviderTimer) throws java.sql.SQLException
+    {
+        <#-- don't use rowid because WITHOUT ROWID tables can be used even if Zserio does not support them -->
+        final java.lang.StringBuilder sqlQuery = new java.lang.StringBuilder("SELECT " +
+        <#list fields as field>
+                "${field.name}<#if field_has_next>, </#if>" +
+        </#list>
+                " FROM ");
+        appendTableNameToQuery(sqlQuery);
+        if (!condition.isEmpty())
+        {
+            sqlQuery.append(" WHERE ");
+            sqlQuery.append(condition);
+        }
+        final java.sql.PreparedStatement statement = connection.prepareStatement(sqlQuery.toString());
+
+        int numberOfValidatedRows = 0;
+        try
+        {
+            final java.sql.ResultSet resultSet = statement.executeQuery();
+
+            while (resultSet.next())
+            {
+                numberOfValidatedRows++;
+                final ${rowName} row = new ${rowName}();
+        <#list fields as field>
+            <#if field.sqlTypeData.isBlob>
+                if (!validateBlob${field.name?cap_first}(errors, resultSet, row,<#rt>
+                        <#lt> <#if needsParameterProvider>parameterProvider,</#if>
+                        totalParameterProviderTimer))
+                    continue;
+            <#else>
+                if (!validateField${field.name?cap_first}(errors, resultSet, row))
+                    continue;
+            </#if>
+        </#list>
+            }
+        }
+        finally
+        {
+            statement.close();
+        }
+
+        return numberOfValidatedRows;
+    }
+    </#if>
+
     private boolean validateSchema(java.util.List<zserio.runtime.validation.ValidationError> errors)
             throws java.sql.SQLException
     {
@@ -633,13 +1101,6 @@ ${I}                (${parameter.javaTypeFullName})(${parameter.expression})<#rt
             </#if>
         </#list>
 
-        <#assign hasPrimaryKeyField=false/>
-        <#list fields as field>
-            <#if field.isPrimaryKey>
-                <#assign hasPrimaryKeyField=true/>
-                <#break>
-            </#if>
-        </#list>
     private static java.util.List<java.lang.String> getRowKeyValues(java.sql.ResultSet resultSet)
             throws java.sql.SQLException
     {
@@ -674,7 +1135,21 @@ ${I}                (${parameter.javaTypeFullName})(${parameter.expression})<#rt
     </#if>
 </#if>
 
+    private static final java.lang.String[] COLUMN_NAMES = new java.lang.String[]
+    {
+<#list fields as field>
+        "${field.name}"<#if field_has_next>,</#if>
+</#list>
+    };
+    private static final int[] ALL_COLUMN_INDEXES = new int[]
+    {
+<#list fields as field>
+        ${field_index + 1}<#if field_has_next>,</#if>
+</#list>
+    };
+
     private final java.sql.Connection connection;
     private final java.lang.String attachedDbName;
     private final java.lang.String tableName;
+    private final zserio.runtime.SqlStatementCache statementCache;
 }
@@ -7,19 +7,42 @@ public class ${name}
     <#list fields as field>
     public ${field.javaTypeFullName} get${field.name?cap_first}()
     {
+        <#if field.isBlob>
+        if (${field.name}LazyBlob != null)
+        {
+            this.<@field_member_name field/> = ${field.name}LazyBlob.get();
+            ${field.name}LazyBlob = null;
+        }
+
+        </#if>
         return this.<@field_member_name field/>;
     }
 
     public void set${field.name?cap_first}(${field.javaTypeFullName} <@field_argument_name field/>)
     {
+        <#if field.isBlob>
+        ${field.name}LazyBlob = null;
+        </#if>
         <#if field.javaNullableTypeFullName != field.javaTypeFullName>
         is${field.name?cap_first}Null = false;
         </#if>
         this.<@field_member_name field/> = <@field_argument_name field/>;
     }
 
+    <#if field.isBlob>
+    /** Sets the blob which is decoded when it is requested for the first time. */
+    public void setLazy${field.name?cap_first}(zserio.runtime.SqlLazyBlob<${field.javaTypeFullName}> lazyBlob)
+    {
+        ${field.name}LazyBlob = lazyBlob;
+        this.<@field_member_name field/> = null;
+    }
+
+    </#if>
     public void setNull${field.name?cap_first}()
     {
+        <#if field.isBlob>
+        ${field.name}LazyBlob = null;
+        </#if>
         <#if field.javaNullableTypeFullName != field.javaTypeFullName>
         is${field.name?cap_first}Null = true;
         this.<@field_member_name field/> = <#if field.isBool>false<#else>(${field.javaTypeFullName})0</#if>;
@@ -32,6 +55,8 @@ public class ${name}
     {
         <#if field.javaNullableTypeFullName != field.javaTypeFullName>
         return is${field.name?cap_first}Null;
+        <#elseif field.isBlob>
+        return this.<@field_member_name field/> == null && ${field.name}LazyBlob == null;
         <#else>
         return this.<@field_member_name field/> == null;
         </#if>
@@ -43,5 +68,8 @@ public class ${name}
     private boolean is${field.name?cap_first}Null = true;
         </#if>
     private ${field.javaTypeFullName} <@field_member_name field/>;
+        <#if field.isBlob>
+    private zserio.runtime.SqlLazyBlob<${field.javaTypeFullName}> ${field.name}LazyBlob;
+        </#if>
     </#list>
 }
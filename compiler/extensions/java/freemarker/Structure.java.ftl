@@ -177,6 +177,37 @@ ${I}endBitPosition = zserio.runtime.BitPositionUtil.alignTo(java.lang.Byte.SIZE,
 
         checkConstraints();
     </#if>
+</#if>
+    }
+
+    public void readInto(final zserio.runtime.io.BitStreamReader in)
+            throws java.io.IOException, zserio.runtime.ZserioError
+    {
+<#if fieldList?has_content>
+    <#list fieldList as field>
+    <@compound_read_field field, name, 2, true/>
+        <#if field_has_next>
+
+        </#if>
+    </#list>
+    <#if hasFieldWithConstraint>
+
+        checkConstraints();
+    </#if>
+</#if>
+    }
+
+    <@compound_skip_declaration compoundConstructorsData/>
+    {
+<#if skipRequiresInstance>
+        <@compound_skip_by_instance compoundConstructorsData, 2/>
+<#else>
+    <#list skipFieldList as skipField>
+        <@compound_skip_field skipField, 2/>
+        <#if skipField_has_next>
+
+        </#if>
+    </#list>
 </#if>
     }
 <#if withWriterCode>
@@ -226,8 +257,14 @@ ${I}}
     public void write(java.io.File file) throws java.io.IOException, zserio.runtime.ZserioError
     {
         zserio.runtime.io.FileBitStreamWriter out = new zserio.runtime.io.FileBitStreamWriter(file);
-        write(out);
-        out.close();
+        try
+        {
+            write(out);
+        }
+        finally
+        {
+            out.close();
+        }
     }
 
     @Override
@@ -0,0 +1,339 @@
+<#include "FileHeader.inc.ftl">
+<#include "CompoundConstructor.inc.ftl">
+<#include "CompoundParameter.inc.ftl">
+<#include "CompoundFunction.inc.ftl">
+<#include "CompoundField.inc.ftl">
+<@standard_header generatorDescription, packageName/>
+<#assign viewName="${name}View"/>
+<#assign numFields=0/>
+<#list fieldList as field>
+    <#assign numFields=numFields + 1/>
+</#list>
+<#assign constructorArgumentTypeList><@compound_constructor_argument_type_list compoundConstructorsData/></#assign>
+<#assign constructorArgumentList><@compound_constructor_argument_list compoundConstructorsData/></#assign>
+<#--
+ View skip kinds:
+   bits      - field has constant or expression bit size
+   array     - array of elements with known bit size, length is given by expression or by length prefix
+   string    - string, skipped using its length prefix
+   bitBuffer - bit buffer, skipped using its length prefix
+   view      - structure, skipped using nested view
+   read      - field must be decoded to get its size, decoded value is cached by the view
+-->
+<#function view_skip_kind field>
+    <#if field.array??>
+        <#if field.array.elementBitSize.value?? && !field.array.isImplicit &&
+                !(field.offset?? && field.offset.containsIndex)>
+            <#return "array">
+        </#if>
+        <#return "read">
+    </#if>
+    <#if field.bitSize.value??>
+        <#return "bits">
+    </#if>
+    <#if field.runtimeFunction?? && field.runtimeFunction.suffix == "String">
+        <#return "string">
+    </#if>
+    <#if field.runtimeFunction?? && field.runtimeFunction.suffix == "BitBuffer">
+        <#return "bitBuffer">
+    </#if>
+    <#if field.isStructure>
+        <#return "view">
+    </#if>
+    <#return "read">
+</#function>
+<#macro view_field_prefix field absentStatement indent>
+    <#local I>${""?left_pad(indent * 4)}</#local>
+    <#if field.optional??>
+        <#if field.optional.clause??>
+${I}if (!(${field.optional.clause}))
+        <#else>
+${I}if (!in.readBool())
+        </#if>
+${I}    ${absentStatement}
+    </#if>
+    <#if field.alignmentValue??>
+${I}in.alignTo(${field.alignmentValue});
+    </#if>
+    <#if field.offset??>
+${I}in.alignTo(java.lang.Byte.SIZE);
+    </#if>
+</#macro>
+<#macro view_nested_view_arguments field>
+    buffer, in.getBitPosition()<#t>
+    <#if field.compound??>
+        <#local compoundParamsArguments><@compound_field_compound_ctor_params field.compound/></#local>
+        <#if compoundParamsArguments?has_content>, ${compoundParamsArguments}</#if><#t>
+    </#if>
+</#macro>
+
+public class ${viewName}
+{
+    public ${viewName}(byte[] buffer<#if constructorArgumentTypeList?has_content>,${constructorArgumentTypeList}</#if>)
+    {
+        this(new zserio.runtime.io.BitBuffer(buffer), 0<#if constructorArgumentList?has_content>, ${constructorArgumentList}</#if>);
+    }
+
+    public ${viewName}(zserio.runtime.io.BitBuffer buffer, long bitPosition<#if constructorArgumentTypeList?has_content>,${constructorArgumentTypeList}</#if>)
+    {
+        <@compound_constructors_set_parameters compoundConstructorsData false/>
+        this.buffer = buffer;
+        fieldBitPositions[0] = bitPosition;
+    }
+
+    public long getBitPosition()
+    {
+        return fieldBitPositions[0];
+    }
+
+    public long getEndBitPosition()
+    {
+        try
+        {
+            return getFieldBitPosition(NUM_FIELDS);
+        }
+        catch (java.io.IOException exception)
+        {
+            throw new zserio.runtime.ZserioError("${viewName}: Skipping of fields failed: " + exception,
+                    exception);
+        }
+    }
+
+    public int bitSizeOf()
+    {
+        return (int)(getEndBitPosition() - getBitPosition());
+    }
+
+    public ${name} read() throws java.io.IOException, zserio.runtime.ZserioError
+    {
+        return new ${name}(createReader(getBitPosition())<#if constructorArgumentList?has_content>, ${constructorArgumentList}</#if>);
+    }
+
+<@compound_parameter_accessors compoundParametersData/>
+<#list fieldList as field>
+    public ${field.javaTypeName} ${field.getterName}()
+    {
+        if (!isFieldDecoded[${field_index}])
+            decodeField(${field_index});
+
+        return this.<@field_member_name field/>;
+    }
+
+    <#if field.array?? && field.offset?? && field.offset.containsIndex>
+    public ${field.array.elementJavaTypeName} ${field.getterName}Element(int index)
+    {
+        if (isFieldDecoded[${field_index}])
+            return <#if !field.array.requiresElementFactory>(${field.array.elementJavaTypeName})</#if><#rt>
+                    <#lt>this.<@field_member_name field/>.elementAt(index);
+
+        if (${field.name}ElementCache != null)
+        {
+            final ${field.array.elementJavaNullableTypeName} cachedElement = ${field.name}ElementCache.get(index);
+            if (cachedElement != null)
+                return cachedElement;
+        }
+
+        try
+        {
+        <#if field.optional??>
+            <#if field.optional.clause??>
+            if (!(${field.optional.clause}))
+            <#else>
+            if (!createReader(getFieldBitPosition(${field_index})).readBool())
+            </#if>
+                throw new zserio.runtime.ZserioError("${viewName}: Field ${field.name} is not present!");
+
+        </#if>
+            final zserio.runtime.io.ByteArrayBitStreamReader in =
+                    createReader((<@compound_field_get_offset field/>) * 8L);
+        <#if field.array.requiresElementFactory>
+            final ${field.array.elementJavaTypeName} element = new <@element_factory_name field.name/>().create(in, index);
+        <#else>
+            final ${field.array.elementJavaTypeName} element = (${field.array.elementJavaTypeName})new ${field.javaTypeName}(
+                    in, 1<#if field.array.requiresElementBitSize>, ${field.array.elementBitSize.value}</#if>).elementAt(0);
+        </#if>
+            if (${field.name}ElementCache != null)
+                ${field.name}ElementCache.put(index, element);
+
+            return element;
+        }
+        catch (java.io.IOException exception)
+        {
+            throw new zserio.runtime.ZserioError("${viewName}: Reading of element failed: " + exception,
+                    exception);
+        }
+    }
+
+    public void set${field.name?cap_first}ElementCacheSize(int maxSize)
+    {
+        ${field.name}ElementCache = (maxSize > 0) ?
+                new zserio.runtime.array.ElementCache<${field.array.elementJavaNullableTypeName}>(maxSize) : null;
+    }
+
+    </#if>
+    <#if field.isStructure>
+    public ${field.javaTypeName}View ${field.getterName}View()
+    {
+        if (this.${field.name}View_ == null)
+        {
+            try
+            {
+                final zserio.runtime.io.ByteArrayBitStreamReader in =
+                        createReader(getFieldBitPosition(${field_index}));
+                <@view_field_prefix field, "return null;", 4/>
+                this.${field.name}View_ = new ${field.javaTypeName}View(<@view_nested_view_arguments field/>);
+            }
+            catch (java.io.IOException exception)
+            {
+                throw new zserio.runtime.ZserioError("${viewName}: Skipping of fields failed: " + exception,
+                        exception);
+            }
+        }
+
+        return this.${field.name}View_;
+    }
+
+    </#if>
+    <#if field.optional??>
+    public boolean ${field.optional.indicatorName}()
+    {
+        <#if field.optional.clause??>
+        return (${field.optional.clause});
+        <#else>
+        return (${field.getterName}() != null);
+        </#if>
+    }
+
+    </#if>
+</#list>
+<@compound_functions compoundFunctionsData/>
+    private zserio.runtime.io.ByteArrayBitStreamReader createReader(long bitPosition) throws java.io.IOException
+    {
+        final zserio.runtime.io.ByteArrayBitStreamReader in = new zserio.runtime.io.ByteArrayBitStreamReader(buffer);
+        in.setBitPosition(bitPosition);
+
+        return in;
+    }
+
+    private long getFieldBitPosition(int index) throws java.io.IOException
+    {
+<#list fieldList as field>
+    <#if field.offset?? && !field.offset.containsIndex && !(field.optional?? && !field.optional.clause??)>
+        if (index == ${field_index} && numResolvedFieldBitPositions <= index)
+            return (<@compound_field_get_offset field/>) * 8L;
+
+    </#if>
+</#list>
+        if (numResolvedFieldBitPositions <= index)
+        {
+            final zserio.runtime.io.ByteArrayBitStreamReader in =
+                    createReader(fieldBitPositions[numResolvedFieldBitPositions - 1]);
+            while (numResolvedFieldBitPositions <= index)
+            {
+                skipField(numResolvedFieldBitPositions - 1, in);
+                fieldBitPositions[numResolvedFieldBitPositions++] = in.getBitPosition();
+            }
+        }
+
+        return fieldBitPositions[index];
+    }
+
+    private void decodeField(int index)
+    {
+        try
+        {
+            final zserio.runtime.io.ByteArrayBitStreamReader in = createReader(getFieldBitPosition(index));
+            readField(index, in);
+            if (numResolvedFieldBitPositions == index + 1)
+                fieldBitPositions[numResolvedFieldBitPositions++] = in.getBitPosition();
+        }
+        catch (java.io.IOException exception)
+        {
+            throw new zserio.runtime.ZserioError("${viewName}: Reading of field failed: " + exception,
+                    exception);
+        }
+    }
+
+    private void readField(int index, zserio.runtime.io.ByteArrayBitStreamReader in)
+            throws java.io.IOException, zserio.runtime.ZserioError
+    {
+        switch (index)
+        {
+<#list fieldList as field>
+        case ${field_index}:
+    <@compound_read_field field, name, 3/>
+            isFieldDecoded[${field_index}] = true;
+            break;
+
+</#list>
+        default:
+            throw new zserio.runtime.ZserioError("${viewName}: Field index " + index + " is out of range!");
+        }
+    }
+
+    private void skipField(int index, zserio.runtime.io.ByteArrayBitStreamReader in)
+            throws java.io.IOException, zserio.runtime.ZserioError
+    {
+        switch (index)
+        {
+<#list fieldList as field>
+    <#assign skipKind=view_skip_kind(field)/>
+        case ${field_index}:
+    <#if skipKind == "read">
+            readField(${field_index}, in);
+    <#else>
+            <@view_field_prefix field, "break;", 3/>
+        <#if skipKind == "array">
+            final long ${field.name}Length = <#if field.array.length??>(int)(${field.array.length})<#else>in.readVarSize()</#if>;
+            in.setBitPosition(in.getBitPosition() + ${field.name}Length * (${field.array.elementBitSize.value}));
+        <#elseif skipKind == "bits">
+            in.setBitPosition(in.getBitPosition() + (${field.bitSize.value}));
+        <#elseif skipKind == "string">
+            final long ${field.name}NumBytes = in.readVarSize();
+            in.setBitPosition(in.getBitPosition() + ${field.name}NumBytes * java.lang.Byte.SIZE);
+        <#elseif skipKind == "bitBuffer">
+            final long ${field.name}NumBits = in.readVarSize();
+            in.setBitPosition(in.getBitPosition() + ${field.name}NumBits);
+        <#elseif skipKind == "view">
+            if (this.${field.name}View_ == null)
+                this.${field.name}View_ = new ${field.javaTypeName}View(<@view_nested_view_arguments field/>);
+            in.setBitPosition(this.${field.name}View_.getEndBitPosition());
+        </#if>
+    </#if>
+            break;
+
+</#list>
+        default:
+            throw new zserio.runtime.ZserioError("${viewName}: Field index " + index + " is out of range!");
+        }
+    }
+<#list fieldList as field>
+    <#if field.array??>
+        <#if field.offset?? && field.offset.containsIndex>
+
+    <@define_offset_checker name, field/>
+        </#if>
+        <#if field.array.requiresElementFactory>
+
+    <@define_element_factory field/>
+        </#if>
+    </#if>
+</#list>
+
+    private static final int NUM_FIELDS = ${numFields};
+
+<@compound_parameter_members compoundParametersData/>
+    private final zserio.runtime.io.BitBuffer buffer;
+    private final long[] fieldBitPositions = new long[NUM_FIELDS + 1];
+    private int numResolvedFieldBitPositions = 1;
+    private final boolean[] isFieldDecoded = new boolean[NUM_FIELDS];
+<#list fieldList as field>
+    private ${field.javaTypeName} <@field_member_name field/><#if field.initializer??> = ${field.initializer}</#if>;
+    <#if field.isStructure>
+    private ${field.javaTypeName}View ${field.name}View_;
+    </#if>
+    <#if field.array?? && field.offset?? && field.offset.containsIndex>
+    private zserio.runtime.array.ElementCache<${field.array.elementJavaNullableTypeName}> ${field.name}ElementCache;
+    </#if>
+</#list>
+}
@@ -124,6 +124,47 @@ public class ${name} implements <#if withWriterCode>zserio.runtime.io.Initialize
         default:
             throw new zserio.runtime.ZserioError("No match in union ${name}!");
         }
+</#if>
+    }
+
+    public void readInto(final zserio.runtime.io.BitStreamReader in)
+            throws java.io.IOException, zserio.runtime.ZserioError
+    {
+<#if fieldList?has_content>
+        final int previousChoiceTag = choiceTag;
+        choiceTag = in.readVarSize();
+        if (choiceTag != previousChoiceTag)
+            this.objectChoice = null;
+
+        switch (choiceTag)
+        {
+        <#list fieldList as field>
+        case <@choice_tag_name field/>:
+            <@compound_read_field field, name, 3, true/>
+            <@compound_check_constraint_field field, name, 3/>
+            break;
+        </#list>
+        default:
+            throw new zserio.runtime.ZserioError("No match in union ${name}!");
+        }
+</#if>
+    }
+
+    <@compound_skip_declaration compoundConstructorsData/>
+    {
+<#if skipRequiresInstance>
+        <@compound_skip_by_instance compoundConstructorsData, 2/>
+<#elseif skipFieldList?has_content>
+        switch (in.readVarSize())
+        {
+        <#list skipFieldList as skipField>
+        case <@choice_tag_name skipField.field/>:
+            <@compound_skip_field skipField, 3/>
+            break;
+        </#list>
+        default:
+            throw new zserio.runtime.ZserioError("No match in union ${name}!");
+        }
 </#if>
     }
 <#if withWriterCode>
@@ -155,8 +196,14 @@ public class ${name} implements <#if withWriterCode>zserio.runtime.io.Initialize
     public void write(java.io.File file) throws java.io.IOException, zserio.runtime.ZserioError
     {
         zserio.runtime.io.FileBitStreamWriter out = new zserio.runtime.io.FileBitStreamWriter(file);
-        write(out);
-        out.close();
+        try
+        {
+            write(out);
+        }
+        finally
+        {
+            out.close();
+        }
     }
 
     @Override
@@ -332,6 +332,59 @@ public class BitSizeOfCalculator
         return bitSize;
     }
 
+    /**
+     * Gets the bit size of varuint value given as unsigned long which is stored in bit stream.
+     *
+     * @param value varuint value for calculation interpreted as unsigned.
+     *
+     * @return Length of varuint value in bits.
+     */
+    public static int getBitSizeOfVarUIntLong(long value)
+    {
+        if (value < 0)
+            return 72; // values greater than 2^63-1 always need all 9 bytes
+
+        int bitSize = 0;
+        if (value < (1L << 7))
+        {
+            bitSize = 8;
+        }
+        else if (value < (1L << 14))
+        {
+            bitSize = 16;
+        }
+        else if (value < (1L << 21))
+        {
+            bitSize = 24;
+        }
+        else if (value < (1L << 28))
+        {
+            bitSize = 32;
+        }
+        else if (value < (1L << 35))
+        {
+            bitSize = 40;
+        }
+        else if (value < (1L << 42))
+        {
+            bitSize = 48;
+        }
+        else if (value < (1L << 49))
+        {
+            bitSize = 56;
+        }
+        else if (value < (1L << 56))
+        {
+            bitSize = 64;
+        }
+        else
+        {
+            bitSize = 72;
+        }
+
+        return bitSize;
+    }
+
     /**
      * Gets the bit size of varsize value which is stored in bit stream.
      *
@@ -0,0 +1,89 @@
+package zserio.runtime;
+
+import java.io.IOException;
+
+import zserio.runtime.io.BitStreamReader;
+import zserio.runtime.io.ByteArrayBitStreamReader;
+
+/**
+ * Blob read from a SQL table which is decoded only when it is accessed for the first time.
+ * <p>
+ * Used by SQL tables generated by Zserio. The raw blob data are kept until the blob is requested.</p>
+ *
+ * @param <T> Type of the zserio object stored in the blob.
+ */
+public abstract class SqlLazyBlob<T>
+{
+    /**
+     * Constructor from the raw blob data.
+     *
+     * @param data Raw blob data read from the SQL table.
+     */
+    protected SqlLazyBlob(byte[] data)
+    {
+        this.data = data;
+    }
+
+    /**
+     * Gets the decoded blob.
+     * <p>
+     * The blob is decoded during the first call and the raw data are released afterwards.</p>
+     *
+     * @return Zserio object decoded from the raw blob data.
+     *
+     * @throws ZserioError If the blob cannot be decoded.
+     */
+    public T get()
+    {
+        if (data != null)
+        {
+            final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(data);
+            try
+            {
+                value = decode(reader);
+                data = null;
+            }
+            catch (IOException exception)
+            {
+                throw new ZserioError("SqlLazyBlob: Blob decoding failed: " + exception, exception);
+            }
+            finally
+            {
+                try
+                {
+                    reader.close();
+                }
+                catch (IOException exception)
+                {
+                    // this cannot happen for byte array streams
+                }
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Checks whether the blob has been already decoded.
+     *
+     * @return True if the blob has been decoded, false otherwise.
+     */
+    public boolean isDecoded()
+    {
+        return data == null;
+    }
+
+    /**
+     * Decodes the blob from the given reader.
+     *
+     * @param reader Reader created from the raw blob data.
+     *
+     * @return Decoded zserio object.
+     *
+     * @throws IOException If the reading fails.
+     */
+    protected abstract T decode(BitStreamReader reader) throws IOException;
+
+    private byte[] data;
+    private T value;
+}
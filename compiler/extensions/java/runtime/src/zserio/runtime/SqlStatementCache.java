@@ -0,0 +1,152 @@
+package zserio.runtime;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Least recently used cache of prepared statements for one database connection.
+ * <p>
+ * Used by SQL databases and tables generated by Zserio to avoid preparing the same SQL query again and again.
+ * The statement is removed from the cache by acquire and it is returned back by release, thus the same
+ * statement is never used twice at the same time.</p>
+ * <p>
+ * The cache is not thread safe as well as the connection it is created for.</p>
+ */
+public final class SqlStatementCache
+{
+    /**
+     * Constructor with default capacity.
+     *
+     * @param connection Database connection to prepare statements for.
+     */
+    public SqlStatementCache(Connection connection)
+    {
+        this(connection, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param connection Database connection to prepare statements for.
+     * @param capacity   Maximum number of cached statements.
+     *
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public SqlStatementCache(Connection connection, int capacity)
+    {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("SqlStatementCache: Capacity must be positive!");
+
+        this.connection = connection;
+        this.capacity = capacity;
+        statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true);
+    }
+
+    /**
+     * Acquires prepared statement for the given SQL query.
+     * <p>
+     * The statement is taken from the cache if possible, otherwise new statement is prepared. The statement
+     * must be given back by calling release.</p>
+     *
+     * @param sql SQL query to prepare.
+     *
+     * @return Prepared statement.
+     *
+     * @throws SQLException If the statement cannot be prepared.
+     */
+    public PreparedStatement acquire(String sql) throws SQLException
+    {
+        final PreparedStatement statement = statements.remove(sql);
+
+        return (statement != null) ? statement : connection.prepareStatement(sql);
+    }
+
+    /**
+     * Releases prepared statement acquired for the given SQL query back to the cache.
+     * <p>
+     * The statement parameters and batch are cleared. The least recently used statement is closed if the
+     * cache is full.</p>
+     *
+     * @param sql       SQL query used to acquire the statement.
+     * @param statement Statement to release.
+     *
+     * @throws SQLException If the statement cannot be cleared or closed.
+     */
+    public void release(String sql, PreparedStatement statement) throws SQLException
+    {
+        if (isClosed || statements.containsKey(sql))
+        {
+            statement.close();
+            return;
+        }
+
+        try
+        {
+            statement.clearParameters();
+            statement.clearBatch();
+        }
+        catch (SQLException exception)
+        {
+            statement.close();
+            throw exception;
+        }
+
+        statements.put(sql, statement);
+        if (statements.size() > capacity)
+        {
+            final Iterator<PreparedStatement> iterator = statements.values().iterator();
+            final PreparedStatement eldestStatement = iterator.next();
+            iterator.remove();
+            eldestStatement.close();
+        }
+    }
+
+    /**
+     * Gets number of cached statements.
+     *
+     * @return Number of statements which are currently in the cache.
+     */
+    public int size()
+    {
+        return statements.size();
+    }
+
+    /**
+     * Closes all cached statements.
+     * <p>
+     * Statements released after the close are closed immediately.</p>
+     *
+     * @throws SQLException If any statement cannot be closed.
+     */
+    public void close() throws SQLException
+    {
+        isClosed = true;
+        SQLException firstException = null;
+        for (PreparedStatement statement : statements.values())
+        {
+            try
+            {
+                statement.close();
+            }
+            catch (SQLException exception)
+            {
+                if (firstException == null)
+                    firstException = exception;
+            }
+        }
+        statements.clear();
+
+        if (firstException != null)
+            throw firstException;
+    }
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private final Connection connection;
+    private final int capacity;
+    private final LinkedHashMap<String, PreparedStatement> statements;
+    private boolean isClosed = false;
+}
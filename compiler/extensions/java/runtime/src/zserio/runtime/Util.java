@@ -49,6 +49,24 @@ public final class Util
             return (1L << length) - 1;
     }
 
+    /**
+     * Gets the upper bound of an unsigned bitfield type with given length mapped to unsigned long.
+     *
+     * @param length Length of the bitfield in bits.
+     *
+     * @return The largest value the bitfield can hold which must be interpreted as unsigned.
+     *
+     * @throws ZserioError if bitfield with wrong length has been specified.
+     */
+    public static long getBitFieldUnsignedLongUpperBound(int length) throws ZserioError
+    {
+        if (length <= 0 || length > Long.SIZE)
+            throw new ZserioError("getBitFieldUnsignedLongUpperBound: Asking for upper bound of bitfield " +
+                    "with wrong length " + length + ".");
+
+        return -1L >>> (Long.SIZE - length);
+    }
+
     /**
      * A hash seed value used by hashCode() method implementation. Example:
      *
@@ -52,6 +52,45 @@ public class BigIntegerArray extends NumericArrayBase<BigInteger>
         readImpl(reader, length, numBits, checker);
     }
 
+    /**
+     * Reads array from bit stream.
+     * <p>
+     * The underlying storage is reused when the number of read elements does not change.</p>
+     *
+     * @param reader  Bit stream reader to read from.
+     * @param length  Number of elements to read from given bit stream or IMPLICIT_LENGTH for implicit-length
+     *                array or AUTO_LENGTH for auto length array.
+     * @param numBits Length of element in bits. Must be always 64. It is used only to avoid special handling
+     *                for this array in Zserio code generator.
+     *
+     * @throws IOException Failure during bit stream manipulation.
+     * @throws ZserioError Cannot occurred because indexed offsets are not used.
+     */
+    public void read(BitStreamReader reader, int length, int numBits) throws IOException, ZserioError
+    {
+        read(reader, length, numBits, null);
+    }
+
+    /**
+     * Reads array from bit stream applying offset checking.
+     * <p>
+     * The underlying storage is reused when the number of read elements does not change.</p>
+     *
+     * @param reader  Bit stream reader to read from.
+     * @param length  Number of elements to read from given bit stream or IMPLICIT_LENGTH for implicit-length
+     *                array or AUTO_LENGTH for auto length array.
+     * @param numBits Length of element in bits.
+     * @param checker Specifies offset checker for indexed offsets.
+     *
+     * @throws IOException Failure during bit stream manipulation.
+     * @throws ZserioError Failure during offset checking.
+     */
+    public void read(BitStreamReader reader, int length, int numBits, OffsetChecker checker)
+            throws IOException, ZserioError
+    {
+        readImpl(reader, length, numBits, checker);
+    }
+
     /**
      * Constructs array using given length.
      *
@@ -343,7 +382,8 @@ public class BigIntegerArray extends NumericArrayBase<BigInteger>
     protected void readN(BitStreamReader reader, int length, int numBits,  OffsetChecker checker)
             throws IOException, ZserioError
     {
-        data = new BigInteger[length];
+        if (data == null || data.length != length)
+            data = new BigInteger[length];
         for (int index = 0; index < length; index++)
         {
             alignAndCheckOffset(index, reader, checker);
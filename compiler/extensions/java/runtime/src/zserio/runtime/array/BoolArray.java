@@ -2,6 +2,7 @@ package zserio.runtime.array;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 import zserio.runtime.ZserioError;
@@ -12,8 +13,9 @@ import zserio.runtime.io.BitStreamWriter;
 
 /**
  * Implements Zserio bool array.
- *
- * Zserio bool array is mapped to Java boolean[] type.
+ * <p>
+ * Zserio bool array is stored as a bit set in Java long[] type, one bit per element. The bit layout is the same
+ * as in {@link java.util.BitSet}. Arrays which are not indexed are read and written in 64-bit chunks.</p>
  */
 public class BoolArray extends NumericArrayBase<Boolean>
 {
@@ -49,6 +51,42 @@ public class BoolArray extends NumericArrayBase<Boolean>
         readImpl(reader, length, 1, checker);
     }
 
+    /**
+     * Reads array from bit stream.
+     * <p>
+     * The underlying storage is reused when the number of read elements does not change.</p>
+     *
+     * @param reader  Bit stream reader to read from.
+     * @param length  Number of elements to read from given bit stream or IMPLICIT_LENGTH for implicit-length
+     *                array or AUTO_LENGTH for auto length array.
+     *
+     * @throws IOException Failure during bit stream manipulation.
+     * @throws ZserioError Cannot occurred because indexed offsets are not used.
+     */
+    public void read(BitStreamReader reader, int length) throws IOException, ZserioError
+    {
+        read(reader, length, null);
+    }
+
+    /**
+     * Reads array from bit stream applying offset checking.
+     * <p>
+     * The underlying storage is reused when the number of read elements does not change.</p>
+     *
+     * @param reader  Bit stream reader to read from.
+     * @param length  Number of elements to read from given bit stream or IMPLICIT_LENGTH for implicit-length
+     *                array or AUTO_LENGTH for auto length array.
+     * @param checker Specifies offset checker for indexed offsets.
+     *
+     * @throws IOException Failure during bit stream manipulation.
+     * @throws ZserioError Failure during offset checking.
+     */
+    public void read(BitStreamReader reader, int length, OffsetChecker checker)
+            throws IOException, ZserioError
+    {
+        readImpl(reader, length, 1, checker);
+    }
+
     /**
      * Constructs array using given length.
      *
@@ -58,7 +96,8 @@ public class BoolArray extends NumericArrayBase<Boolean>
      */
     public BoolArray(int length)
     {
-        data = new boolean[length];
+        this.length = length;
+        words = new long[getNumWords(length)];
     }
 
     /**
@@ -75,7 +114,26 @@ public class BoolArray extends NumericArrayBase<Boolean>
                     "the end of the given array. Requested offset is " + offset + ", length is " + length +
                     "but array length is " + data.length + ".");
 
-        this.data = Arrays.copyOfRange(data, offset, offset + length);
+        this.length = length;
+        words = new long[getNumWords(length)];
+        for (int i = 0; i < length; ++i)
+        {
+            if (data[offset + i])
+                words[i >>> WORD_SHIFT] |= 1L << i;
+        }
+    }
+
+    /**
+     * Constructs array from bit set.
+     *
+     * @param bitSet Bit set to construct from.
+     * @param length Number of elements for created object. Bits of the set beyond the length are ignored.
+     */
+    public BoolArray(BitSet bitSet, int length)
+    {
+        this.length = length;
+        words = Arrays.copyOf(bitSet.toLongArray(), getNumWords(length));
+        clearUnusedBits();
     }
 
     /**
@@ -87,7 +145,8 @@ public class BoolArray extends NumericArrayBase<Boolean>
      */
     public boolean elementAt(int i)
     {
-        return data[i];
+        checkIndex(i);
+        return (words[i >>> WORD_SHIFT] & (1L << i)) != 0;
     }
 
     /**
@@ -98,14 +157,71 @@ public class BoolArray extends NumericArrayBase<Boolean>
      */
     public void setElementAt(boolean value, int i)
     {
-        data[i] = value;
+        checkIndex(i);
+        if (value)
+            words[i >>> WORD_SHIFT] |= 1L << i;
+        else
+            words[i >>> WORD_SHIFT] &= ~(1L << i);
+    }
+
+    /**
+     * Returns the number of elements which are true.
+     *
+     * @return Number of true elements.
+     */
+    public int cardinality()
+    {
+        int cardinality = 0;
+        for (long word : words)
+            cardinality += Long.bitCount(word);
+
+        return cardinality;
+    }
+
+    /**
+     * Returns index of the first element which is true and which occurs on or after the given index.
+     *
+     * @param fromIndex Index to start checking from.
+     *
+     * @return Index of the next true element or -1 if there is no such element.
+     */
+    public int nextSetBit(int fromIndex)
+    {
+        if (fromIndex < 0)
+            throw new IndexOutOfBoundsException("BoolArray: Negative index " + fromIndex + "!");
+        if (fromIndex >= length)
+            return -1;
+
+        int wordIndex = fromIndex >>> WORD_SHIFT;
+        long word = words[wordIndex] & (-1L << fromIndex);
+        while (word == 0)
+        {
+            if (++wordIndex == words.length)
+                return -1;
+            word = words[wordIndex];
+        }
+
+        return (wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Converts array to bit set.
+     * <p>
+     * Element at index i is true if and only if the bit i of the returned set is set. The returned set does
+     * not share the storage with the array.</p>
+     *
+     * @return Bit set with the elements of the array.
+     */
+    public BitSet toBitSet()
+    {
+        return BitSet.valueOf(words);
     }
 
     @Override
     public Array<Boolean> map(Mapping<Boolean> mapping)
     {
-        final BoolArray result = new BoolArray(data.length);
-        for (int i = 0; i < data.length; i++)
+        final BoolArray result = new BoolArray(length);
+        for (int i = 0; i < length; i++)
         {
             result.setElementAt(mapping.map(elementAt(i)), i);
         }
@@ -115,13 +231,24 @@ public class BoolArray extends NumericArrayBase<Boolean>
     @Override
     public Array<Boolean> subRange(int offset, int length)
     {
-        return new BoolArray(data, offset, length);
+        if (offset < 0 || length < 0 || offset + length > this.length)
+            throw new ArrayIndexOutOfBoundsException("BoolArray: Requested sub-range ends beyond " +
+                    "the end of the array. Requested offset is " + offset + ", length is " + length +
+                    " but array length is " + this.length + ".");
+
+        final BoolArray result = new BoolArray(length);
+        for (int i = 0; i < length; i++)
+        {
+            if (elementAt(offset + i))
+                result.words[i >>> WORD_SHIFT] |= 1L << i;
+        }
+        return result;
     }
 
     @Override
     public int length()
     {
-        return data.length;
+        return length;
     }
 
     @Override
@@ -143,19 +270,9 @@ public class BoolArray extends NumericArrayBase<Boolean>
         if (obj instanceof BoolArray)
         {
             final BoolArray that = (BoolArray)obj;
-            if (data.length != that.data.length)
-            {
-                return false;
-            }
 
-            for (int i = 0; i < data.length; i++)
-            {
-                if (this.elementAt(i) != that.elementAt(i))
-                {
-                    return false;
-                }
-            }
-            return true;
+            // unused bits are always cleared
+            return length == that.length && Arrays.equals(words, that.words);
         }
         return false;
     }
@@ -198,7 +315,7 @@ public class BoolArray extends NumericArrayBase<Boolean>
     public void writeAlignedAuto(BitStreamWriter writer, OffsetChecker checker)
             throws IOException, ZserioError
     {
-        writer.writeVarSize(data.length);
+        writer.writeVarSize(length);
         writeAligned(writer, checker);
     }
 
@@ -213,10 +330,27 @@ public class BoolArray extends NumericArrayBase<Boolean>
      */
     public void writeAligned(BitStreamWriter writer, OffsetChecker checker) throws IOException, ZserioError
     {
-        for (int index = 0; index < data.length; index++)
+        if (checker == null)
         {
-            alignAndCheckOffset(index, writer, checker);
-            writer.writeBool(elementAt(index));
+            // stream order is from the most significant bit while the first element is the least significant
+            final int numFullWords = length >>> WORD_SHIFT;
+            for (int wordIndex = 0; wordIndex < numFullWords; wordIndex++)
+                writer.writeLong(Long.reverse(words[wordIndex]));
+
+            final int numRemainingBits = length & WORD_MASK;
+            if (numRemainingBits > 0)
+            {
+                writer.writeBits(Long.reverse(words[numFullWords]) >>> (Long.SIZE - numRemainingBits),
+                        numRemainingBits);
+            }
+        }
+        else
+        {
+            for (int index = 0; index < length; index++)
+            {
+                alignAndCheckOffset(index, writer, checker);
+                writer.writeBool(elementAt(index));
+            }
         }
     }
 
@@ -333,10 +467,12 @@ public class BoolArray extends NumericArrayBase<Boolean>
     @Override
     protected void setFromList(List<Boolean> list)
     {
-        data = new boolean[list.size()];
-        for (int i = 0; i < data.length; ++i)
+        length = list.size();
+        words = new long[getNumWords(length)];
+        for (int i = 0; i < length; ++i)
         {
-            data[i] = list.get(i);
+            if (list.get(i))
+                words[i >>> WORD_SHIFT] |= 1L << i;
         }
     }
 
@@ -344,15 +480,61 @@ public class BoolArray extends NumericArrayBase<Boolean>
     protected void readN(BitStreamReader reader, int length, int numBits, OffsetChecker checker)
             throws IOException, ZserioError
     {
-        data = new boolean[length];
-        for (int index = 0; index < length; index++)
+        if (words == null || this.length != length)
+        {
+            this.length = length;
+            words = new long[getNumWords(length)];
+        }
+
+        if (checker == null)
+        {
+            // stream order is from the most significant bit while the first element is the least significant
+            final int numFullWords = length >>> WORD_SHIFT;
+            for (int wordIndex = 0; wordIndex < numFullWords; wordIndex++)
+                words[wordIndex] = Long.reverse(reader.readLong());
+
+            final int numRemainingBits = length & WORD_MASK;
+            if (numRemainingBits > 0)
+            {
+                words[numFullWords] =
+                        Long.reverse(reader.readBits(numRemainingBits)) >>> (Long.SIZE - numRemainingBits);
+            }
+        }
+        else
         {
-            alignAndCheckOffset(index, reader, checker);
-            data[index] = reader.readBool();
+            Arrays.fill(words, 0);
+            for (int index = 0; index < length; index++)
+            {
+                alignAndCheckOffset(index, reader, checker);
+                if (reader.readBool())
+                    words[index >>> WORD_SHIFT] |= 1L << index;
+            }
         }
     }
 
+    private void checkIndex(int i)
+    {
+        if (i < 0 || i >= length)
+            throw new ArrayIndexOutOfBoundsException("BoolArray: Index " + i + " is out of range [0, " +
+                    length + ").");
+    }
+
+    private void clearUnusedBits()
+    {
+        final int numRemainingBits = length & WORD_MASK;
+        if (numRemainingBits > 0)
+            words[words.length - 1] &= -1L >>> (Long.SIZE - numRemainingBits);
+    }
+
+    private static int getNumWords(int length)
+    {
+        return (length + WORD_MASK) >>> WORD_SHIFT;
+    }
+
     private static final int BOOL_BIT_SIZE = 1;
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK = Long.SIZE - 1;
 
-    private boolean[] data;
+    private int length;
+    private long[] words;
 }
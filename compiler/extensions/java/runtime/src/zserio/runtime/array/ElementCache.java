@@ -0,0 +1,104 @@
+package zserio.runtime.array;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of array elements decoded on demand.
+ * <p>
+ * The cache is used by generated view classes to keep elements of arrays with indexed offsets which have been
+ * decoded one by one. When the cache is full, the least recently used element is evicted.</p>
+ * <p>
+ * The cache is not thread-safe.</p>
+ *
+ * @param <E> Type of the elements.
+ */
+public class ElementCache<E>
+{
+    /**
+     * Constructor.
+     *
+     * @param maxSize Maximum number of elements kept in the cache.
+     *
+     * @throws IllegalArgumentException If the maximum size is not positive.
+     */
+    public ElementCache(int maxSize) throws IllegalArgumentException
+    {
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("ElementCache: Maximum size " + maxSize + " is not positive!");
+
+        elements = new LruMap<E>(maxSize);
+    }
+
+    /**
+     * Gets cached element.
+     *
+     * @param index Index of the element in the array.
+     *
+     * @return Cached element or null if the element is not in the cache.
+     */
+    public E get(int index)
+    {
+        return elements.get(index);
+    }
+
+    /**
+     * Puts element to the cache, evicting the least recently used element if the cache is full.
+     *
+     * @param index   Index of the element in the array.
+     * @param element Element to cache.
+     */
+    public void put(int index, E element)
+    {
+        elements.put(index, element);
+    }
+
+    /**
+     * Gets number of cached elements.
+     *
+     * @return Number of elements in the cache.
+     */
+    public int size()
+    {
+        return elements.size();
+    }
+
+    /**
+     * Gets maximum number of elements kept in the cache.
+     *
+     * @return Maximum size of the cache.
+     */
+    public int getMaxSize()
+    {
+        return elements.maxSize;
+    }
+
+    /**
+     * Removes all elements from the cache.
+     */
+    public void clear()
+    {
+        elements.clear();
+    }
+
+    private static final class LruMap<E> extends LinkedHashMap<Integer, E>
+    {
+        public LruMap(int maxSize)
+        {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, E> eldest)
+        {
+            return size() > maxSize;
+        }
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+    }
+
+    private final LruMap<E> elements;
+}
@@ -48,6 +48,44 @@ public class IntArray extends IntArrayBase
         readImpl(reader, length, numBits, checker);
     }
 
+    /**
+     * Reads array from bit stream.
+     * <p>
+     * The underlying storage is reused when the number of read elements does not change.</p>
+     *
+     * @param reader  Bit stream reader to read from.
+     * @param length  Number of elements to read from given bit stream or IMPLICIT_LENGTH for implicit-length
+     *                array or AUTO_LENGTH for auto length array.
+     * @param numBits Length of element in bits.
+     *
+     * @throws IOException Failure during bit stream manipulation.
+     * @throws ZserioError Cannot occurred because indexed offsets are not used.
+     */
+    public void read(BitStreamReader reader, int length, int numBits) throws IOException, ZserioError
+    {
+        read(reader, length, numBits, null);
+    }
+
+    /**
+     * Reads array from bit stream applying offset checking.
+     * <p>
+     * The underlying storage is reused when the number of read elements does not change.</p>
+     *
+     * @param reader  Bit stream reader to read from.
+     * @param length  Number of elements to read from given bit stream or IMPLICIT_LENGTH for implicit-length
+     *                array or AUTO_LENGTH for auto length array.
+     * @param numBits Length of element in bits.
+     * @param checker Specifies offset checker for indexed offsets.
+     *
+     * @throws IOException Failure during bit stream manipulation.
+     * @throws ZserioError Failure during offset checking.
+     */
+    public void read(BitStreamReader reader, int length, int numBits, OffsetChecker checker)
+            throws IOException, ZserioError
+    {
+        readImpl(reader, length, numBits, checker);
+    }
+
     /**
      * Constructs array using given length.
      *
@@ -277,7 +315,8 @@ public class IntArray extends IntArrayBase
     protected void readN(BitStreamReader reader, int length, int numBits, OffsetChecker checker)
             throws IOException, ZserioError
     {
-        data = new int[length];
+        if (data == null || data.length != length)
+            data = new int[length];
 
         for (int index = 0; index < data.length; index++)
         {
@@ -61,6 +61,56 @@ public class ObjectArray<E extends SizeOf> implements Array<E>
         read(reader, length, factory, checker);
     }
 
+    /**
+     * Reads array from bit stream.
+     * <p>
+     * Storage of the underlying list is reused. Existing elements are recycled if the given factory is
+     * {@link RecyclingElementFactory}.</p>
+     *
+     * @param reader  Bit stream reader to read from.
+     * @param length  Number of elements to read from given bit stream or IMPLICIT_LENGTH for implicit-length
+     *                array or AUTO_LENGTH for auto length array.
+     * @param factory Element factory to create or recycle elements.
+     *
+     * @throws IOException Failure during bit stream manipulation.
+     * @throws ZserioError Cannot occurred because indexed offsets are not used.
+     */
+    public void read(BitStreamReader reader, int length, ElementFactory<E> factory)
+            throws IOException, ZserioError
+    {
+        read(reader, length, factory, null);
+    }
+
+    /**
+     * Reads array from bit stream applying offset checking.
+     * <p>
+     * Storage of the underlying list is reused. Existing elements are recycled if the given factory is
+     * {@link RecyclingElementFactory}.</p>
+     *
+     * @param reader  Bit stream reader to read from.
+     * @param length  Number of elements to read from given bit stream or IMPLICIT_LENGTH for implicit-length
+     *                array or AUTO_LENGTH for auto length array.
+     * @param factory Element factory to create or recycle elements.
+     * @param checker Specifies offset checker for indexed offsets.
+     *
+     * @throws IOException Failure during bit stream manipulation.
+     * @throws ZserioError Failure during offset checking.
+     */
+    public void read(BitStreamReader reader, int length, ElementFactory<E> factory, OffsetChecker checker)
+            throws IOException, ZserioError
+    {
+        if (length == IMPLICIT_LENGTH)
+        {
+            throw new ZserioError("ObjectArray: Object arrays cannot be implicit!");
+        }
+        else
+        {
+            final int realLength = (length != AUTO_LENGTH) ? length : reader.readVarSize();
+            // check offsets if checker != null
+            readN(reader, realLength, factory, checker);
+        }
+    }
+
     /**
      * Constructs array using given length.
      *
@@ -401,25 +451,16 @@ public class ObjectArray<E extends SizeOf> implements Array<E>
         return data.iterator();
     }
 
-    private void read(BitStreamReader reader, int length, ElementFactory<E> factory, OffsetChecker checker)
-            throws IOException, ZserioError
-    {
-        if (length == IMPLICIT_LENGTH)
-        {
-            throw new ZserioError("ObjectArray: Object arrays cannot be implicit!");
-        }
-        else
-        {
-            final int realLength = (length != AUTO_LENGTH) ? length : reader.readVarSize();
-            // check offsets if checker != null
-            readN(reader, realLength, factory, checker);
-        }
-    }
-
     private void readN(BitStreamReader reader, int length, ElementFactory<E> factory,
             OffsetChecker checker) throws IOException, ZserioError
     {
-        // would have to specifically use ArrayList: data.ensureCapacity(length);
+        // the list can be immutable if it has been given by the user
+        if (!(data instanceof ArrayList))
+            data = new ArrayList<E>(data);
+
+        final RecyclingElementFactory<E> recyclingFactory = (factory instanceof RecyclingElementFactory) ?
+                (RecyclingElementFactory<E>)factory : null;
+        final int numExistingElements = data.size();
         for (int index = 0; index < length; index++)
         {
             if (checker != null)
@@ -427,8 +468,24 @@ public class ObjectArray<E extends SizeOf> implements Array<E>
                 reader.alignTo(Byte.SIZE);
                 checker.checkOffset(index, reader.getBytePosition());
             }
-            data.add(factory.create(reader, index));
+
+            if (index >= numExistingElements)
+            {
+                data.add(factory.create(reader, index));
+            }
+            else
+            {
+                final E element = data.get(index);
+                if (recyclingFactory == null || element == null ||
+                        !recyclingFactory.recycle(reader, element, index))
+                {
+                    data.set(index, factory.create(reader, index));
+                }
+            }
         }
+
+        if (numExistingElements > length)
+            data.subList(length, numExistingElements).clear();
     }
 
     private List<E> data;
@@ -0,0 +1,32 @@
+package zserio.runtime.array;
+
+import java.io.IOException;
+
+import zserio.runtime.ZserioError;
+import zserio.runtime.io.BitStreamReader;
+
+/**
+ * Element factory which is able to read elements into existing instances.
+ * <p>
+ * Used by {@link ObjectArray ObjectArray&lt;E&gt;} when an array is read again to avoid allocation of new
+ * elements.</p>
+ *
+ * @param <E> Type of the elements.
+ */
+public interface RecyclingElementFactory<E> extends ElementFactory<E>
+{
+    /**
+     * Reads array element from bit stream into the given existing element.
+     *
+     * @param reader  Bit stream to read from.
+     * @param element Existing element to read into.
+     * @param index   Index of element to read.
+     *
+     * @return True if the element has been read, false if the element cannot be recycled and must be created.
+     *         Nothing is read from the bit stream if false is returned.
+     *
+     * @throws IOException Failure during bit stream manipulation.
+     * @throws ZserioError Failure during element reading.
+     */
+    boolean recycle(BitStreamReader reader, E element, int index) throws IOException, ZserioError;
+}
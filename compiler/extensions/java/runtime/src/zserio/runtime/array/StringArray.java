@@ -50,6 +50,41 @@ public class StringArray extends ArrayBase<String>
         readImpl(reader, length, 0, checker);
     }
 
+    /**
+     * Reads array from bit stream.
+     * <p>
+     * The underlying storage is reused when the number of read elements does not change.</p>
+     *
+     * @param reader  Bit stream reader to read from.
+     * @param length  Number of elements to read from given bit stream or IMPLICIT_LENGTH for implicit-length
+     *                array or AUTO_LENGTH for auto length array.
+     *
+     * @throws IOException Failure during bit stream manipulation.
+     * @throws ZserioError Cannot occured because indexed offsets are not used.
+     */
+    public void read(BitStreamReader reader, int length) throws IOException
+    {
+        read(reader, length, null);
+    }
+
+    /**
+     * Reads array from bit stream applying offset checking.
+     * <p>
+     * The underlying storage is reused when the number of read elements does not change.</p>
+     *
+     * @param reader  Bit stream reader to read from.
+     * @param length  Number of elements to read from given bit stream or IMPLICIT_LENGTH for implicit-length
+     *                array or AUTO_LENGTH for auto length array.
+     * @param checker Specifies offset checker for indexed offsets.
+     *
+     * @throws IOException Failure during bit stream manipulation.
+     * @throws ZserioError Failure during offset checking.
+     */
+    public void read(BitStreamReader reader, int length, OffsetChecker checker) throws IOException
+    {
+        readImpl(reader, length, 0, checker);
+    }
+
     /**
      * Constructs array using given length.
      *
@@ -369,7 +404,8 @@ public class StringArray extends ArrayBase<String>
     protected void readN(BitStreamReader reader, int length, int numBits, OffsetChecker checker)
             throws IOException, ZserioError
     {
-        data = new String[length];
+        if (data == null || data.length != length)
+            data = new String[length];
 
         for (int index = 0; index < length; index++)
         {
@@ -10,7 +10,8 @@ import zserio.runtime.io.BitStreamWriter;
 /**
  * Implements Zserio bit:33...bit:63 arrays.
  *
- * Zserio bit:33...bit:63 arrays are mapped to Java long[] type.
+ * Zserio bit:33...bit:63 arrays are mapped to Java long[] type. When the unsigned long mapping is enabled,
+ * this class implements also bit:64 and uint64 arrays whose elements are interpreted as unsigned.
  */
 public class UnsignedLongArray extends LongArrayBase
 {
@@ -49,6 +50,45 @@ public class UnsignedLongArray extends LongArrayBase
         readImpl(reader, length, numBits, checker);
     }
 
+    /**
+     * Reads array from bit stream.
+     * <p>
+     * The underlying storage is reused when the number of read elements does not change.</p>
+     *
+     * @param reader  Bit stream reader to read from.
+     * @param length  Number of elements to read from given bit stream or IMPLICIT_LENGTH for implicit-length
+     *                array or AUTO_LENGTH for auto length array.
+     * @param numBits Length of element in bits.
+     *
+     * @throws IOException Failure during bit stream manipulation.
+     * @throws ZserioError Cannot occurred because indexed offsets are not used.
+     */
+    public void read(BitStreamReader reader, int length, int numBits)
+            throws IOException, ZserioError
+    {
+        read(reader, length, numBits, null);
+    }
+
+    /**
+     * Reads array from bit stream applying offset checking.
+     * <p>
+     * The underlying storage is reused when the number of read elements does not change.</p>
+     *
+     * @param reader  Bit stream reader to read from.
+     * @param length  Number of elements to read from given bit stream or IMPLICIT_LENGTH for implicit-length
+     *                array or AUTO_LENGTH for auto length array.
+     * @param numBits Length of element in bits.
+     * @param checker Specifies offset checker for indexed offsets.
+     *
+     * @throws IOException Failure during bit stream manipulation.
+     * @throws ZserioError Failure during offset checking.
+     */
+    public void read(BitStreamReader reader, int length, int numBits, OffsetChecker checker)
+            throws IOException, ZserioError
+    {
+        readImpl(reader, length, numBits, checker);
+    }
+
     /**
      * Constructs array using given length.
      *
@@ -158,7 +198,7 @@ public class UnsignedLongArray extends LongArrayBase
         for (int index = 0; index < data.length; index++)
         {
             alignAndCheckOffset(index, writer, checker);
-            writer.writeBits(data[index], numBits);
+            writer.writeUnsignedLong(data[index], numBits);
         }
     }
 
@@ -271,19 +311,20 @@ public class UnsignedLongArray extends LongArrayBase
     @Override
     protected Long readBoxedElement(BitStreamReader reader, int numBits) throws IOException
     {
-        return reader.readBits(numBits);
+        return reader.readUnsignedLong(numBits);
     }
 
     @Override
     protected void readN(BitStreamReader reader, int length, int numBits, OffsetChecker checker)
             throws IOException, ZserioError
     {
-        data = new long[length];
+        if (data == null || data.length != length)
+            data = new long[length];
 
         for (int index = 0; index < data.length; index++)
         {
             alignAndCheckOffset(index, reader, checker);
-            data[index] = reader.readBits(numBits);
+            data[index] = reader.readUnsignedLong(numBits);
         }
     }
 }
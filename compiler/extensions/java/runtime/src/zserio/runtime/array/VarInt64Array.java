@@ -8,6 +8,8 @@ import zserio.runtime.ZserioError;
 import zserio.runtime.Mapping;
 import zserio.runtime.io.BitStreamReader;
 import zserio.runtime.io.BitStreamWriter;
+import zserio.runtime.io.ByteArrayBitStreamReader;
+import zserio.runtime.io.ByteArrayBitStreamWriter;
 
 /**
  * Implements Zserio varint64 arrays.
@@ -46,6 +48,40 @@ public class VarInt64Array extends LongArrayBase
         readImpl(reader, length, 0, checker);
     }
 
+    /**
+     * Reads array from bit stream.
+     * <p>
+     * The underlying storage is reused when the number of read elements does not change.</p>
+     *
+     * @param reader Bit stream reader to read from.
+     * @param length Number of elements to read from given bit stream. "-1" specifies implicit-length array.
+     *
+     * @throws IOException Failure during bit stream manipulation.
+     * @throws ZserioError Cannot occured because indexed offsets are not used.
+     */
+    public void read(BitStreamReader reader, int length) throws IOException, ZserioError
+    {
+        read(reader, length, null);
+    }
+
+    /**
+     * Reads array from bit stream applying offset checking.
+     * <p>
+     * The underlying storage is reused when the number of read elements does not change.</p>
+     *
+     * @param reader  Bit stream reader to read from.
+     * @param length  Number of elements to read from given bit stream. "-1" specifies implicit-length array.
+     * @param checker Specifies offset checker for indexed offsets.
+     *
+     * @throws IOException Failure during bit stream manipulation.
+     * @throws ZserioError Failure during offset checking.
+     */
+    public void read(BitStreamReader reader, int length, OffsetChecker checker)
+            throws IOException, ZserioError
+    {
+        readImpl(reader, length, 0, checker);
+    }
+
     /**
      * Constructs array using given length.
      *
@@ -147,10 +183,17 @@ public class VarInt64Array extends LongArrayBase
      */
     public void writeAligned(BitStreamWriter writer, OffsetChecker checker) throws IOException, ZserioError
     {
-        for (int index = 0; index < data.length; index++)
+        if (checker == null && writer instanceof ByteArrayBitStreamWriter)
         {
-            alignAndCheckOffset(index, writer, checker);
-            writer.writeVarInt64(data[index]);
+            ((ByteArrayBitStreamWriter)writer).writeVarInt64Array(data, 0, data.length);
+        }
+        else
+        {
+            for (int index = 0; index < data.length; index++)
+            {
+                alignAndCheckOffset(index, writer, checker);
+                writer.writeVarInt64(data[index]);
+            }
         }
     }
 
@@ -278,12 +321,20 @@ public class VarInt64Array extends LongArrayBase
     protected void readN(BitStreamReader reader, int length, int numBits, OffsetChecker checker)
             throws IOException, ZserioError
     {
-        data = new long[length];
+        if (data == null || data.length != length)
+            data = new long[length];
 
-        for (int index = 0; index < length; index++)
+        if (checker == null && reader instanceof ByteArrayBitStreamReader)
+        {
+            ((ByteArrayBitStreamReader)reader).readVarInt64Array(data, 0, length);
+        }
+        else
         {
-            alignAndCheckOffset(index, reader, checker);
-            data[index] = reader.readVarInt64();
+            for (int index = 0; index < length; index++)
+            {
+                alignAndCheckOffset(index, reader, checker);
+                data[index] = reader.readVarInt64();
+            }
         }
     }
 }
@@ -33,14 +33,37 @@ public class BitBuffer
      * @throws IllegalArgumentException If the number of bits is bigger than buffer size.
      */
     public BitBuffer(byte[] buffer, long bitSize) throws IllegalArgumentException
+    {
+        this(buffer, bitSize, true);
+    }
+
+    /**
+     * Constructor from byte buffer and bit size which allows to take over the given buffer.
+     *
+     * Used by bit stream readers which already allocated a private buffer of the exact size.
+     *
+     * @param buffer     Byte buffer to construct from.
+     * @param bitSize    Number of bits stored in buffer to use.
+     * @param copyBuffer True to copy the given buffer, false to use it directly.
+     *
+     * @throws IllegalArgumentException If the number of bits is bigger than buffer size.
+     */
+    BitBuffer(byte[] buffer, long bitSize, boolean copyBuffer) throws IllegalArgumentException
     {
         final int byteSize = (int)((bitSize + 7) / 8);
         if (buffer.length < byteSize)
             throw new IllegalArgumentException("BitBuffer: Bit size " + bitSize +
                     " out of range for given buffer byte size " + buffer.length + "!");
 
-        this.buffer = new byte[byteSize];
-        System.arraycopy(buffer, 0, this.buffer, 0, byteSize);
+        if (copyBuffer || buffer.length != byteSize)
+        {
+            this.buffer = new byte[byteSize];
+            System.arraycopy(buffer, 0, this.buffer, 0, byteSize);
+        }
+        else
+        {
+            this.buffer = buffer;
+        }
         this.bitSize = bitSize;
     }
 
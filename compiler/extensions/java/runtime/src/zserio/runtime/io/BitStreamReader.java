@@ -93,6 +93,20 @@ public interface BitStreamReader extends BitStreamCloseable
      */
     long readLong() throws IOException;
 
+    /**
+     * Reads the next numBits of the bit stream as unsigned long value.
+     *
+     * Values which need all 64 bits are returned as negative numbers, i.e. the result must be interpreted
+     * as unsigned (see Long.compareUnsigned() or Long.toUnsignedString()).
+     *
+     * @param numBits Number of bits to read (1 - 64).
+     *
+     * @return Read unsigned long value.
+     *
+     * @throws IOException If reading failed.
+     */
+    long readUnsignedLong(final int numBits) throws IOException;
+
     /**
      * Reads the next unsigned Big Integer value with containing numBits bits.
      *
@@ -236,6 +250,18 @@ public interface BitStreamReader extends BitStreamCloseable
      */
     BigInteger readVarUInt() throws IOException;
 
+    /**
+     * Reads an unsigned variable integer from the bit stream as unsigned long value.
+     *
+     * The integer takes up to 9 bytes to cover range &lt;0, 2^64-1&gt;. Values greater than 2^63-1 are
+     * returned as negative numbers, i.e. the result must be interpreted as unsigned.
+     *
+     * @return Read unsigned VarUInt value.
+     *
+     * @throws IOException If reading failed.
+     */
+    long readVarUIntLong() throws IOException;
+
     /**
      * Reads a variable size integer from the bit stream.
      *
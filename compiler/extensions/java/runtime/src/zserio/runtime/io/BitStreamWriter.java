@@ -91,6 +91,18 @@ public interface BitStreamWriter extends BitStreamCloseable
      */
     void writeLong(final long value) throws IOException;
 
+    /**
+     * Writes the given unsigned long value with the given number of bits to the underlying storage.
+     *
+     * The value is interpreted as unsigned, i.e. negative values are allowed only if numBits is 64.
+     *
+     * @param value   Unsigned long value to write.
+     * @param numBits Number of bits for the value to write (1 - 64).
+     *
+     * @throws IOException If the writing failed.
+     */
+    void writeUnsignedLong(final long value, final int numBits) throws IOException;
+
     /**
      * Writes a given big integer value with the given number of bits to the underlying storage.
      *
@@ -218,6 +230,17 @@ public interface BitStreamWriter extends BitStreamCloseable
      */
     void writeVarUInt(final BigInteger value) throws IOException;
 
+    /**
+     * Writes a variable unsigned integer value given as unsigned long to the underlying storage.
+     *
+     * Negative values are interpreted as unsigned values greater than 2^63-1.
+     *
+     * @param value Variable unsigned integer value to write.
+     *
+     * @throws IOException If the writing failed.
+     */
+    void writeVarUIntLong(final long value) throws IOException;
+
     /**
      * Writes a variable size integer value to the underlying storage.
      *
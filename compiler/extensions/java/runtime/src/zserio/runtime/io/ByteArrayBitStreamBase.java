@@ -57,6 +57,17 @@ abstract class ByteArrayBitStreamBase
      */
     protected static final String DEFAULT_CHARSET_NAME = "UTF-8";
 
+    /** Maximum number of bytes of varint16 and varuint16 values. */
+    protected static final int VARINT16_MAX_BYTES = 2;
+    /** Maximum number of bytes of varint32 and varuint32 values. */
+    protected static final int VARINT32_MAX_BYTES = 4;
+    /** Maximum number of bytes of varint64 and varuint64 values. */
+    protected static final int VARINT64_MAX_BYTES = 8;
+    /** Maximum number of bytes of varint and varuint values. */
+    protected static final int VARINT_MAX_BYTES = 9;
+    /** Maximum number of bytes of varsize values. */
+    protected static final int VARSIZE_MAX_BYTES = 5;
+
     /**
      * Byte value used for modulus calculations.
      */
@@ -1,9 +1,10 @@
 package zserio.runtime.io;
 
-import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 import zserio.runtime.FloatUtil;
 
@@ -21,6 +22,34 @@ public class ByteArrayBitStreamReader extends ByteArrayBitStreamBase implements
     {
         this.buffer = new byte[bytes.length];
         System.arraycopy(bytes, 0, this.buffer, 0, bytes.length);
+        this.wordBuffer = ByteBuffer.wrap(this.buffer);
+        this.bufferOffset = 0;
+        this.bufferLength = bytes.length;
+        this.lastByteBits = 8;
+    }
+
+    /**
+     * Constructs object reading the given part of byte array.
+     *
+     * The bytes are not copied, so the array must not be modified while the reader is used.
+     *
+     * @param bytes  Array of bytes to read from.
+     * @param offset Offset of the first byte to read.
+     * @param length Number of bytes to read.
+     *
+     * @throws IllegalArgumentException If the given part is out of the array bounds.
+     */
+    public ByteArrayBitStreamReader(final byte[] bytes, final int offset, final int length)
+            throws IllegalArgumentException
+    {
+        if (offset < 0 || length < 0 || offset > bytes.length - length)
+            throw new IllegalArgumentException("ByteArrayBitStreamReader: Part with offset " + offset +
+                    " and length " + length + " is out of bounds of array with length " + bytes.length + ".");
+
+        this.buffer = bytes;
+        this.wordBuffer = ByteBuffer.wrap(bytes);
+        this.bufferOffset = offset;
+        this.bufferLength = length;
         this.lastByteBits = 8;
     }
 
@@ -32,6 +61,9 @@ public class ByteArrayBitStreamReader extends ByteArrayBitStreamBase implements
     public ByteArrayBitStreamReader(final BitBuffer bitBuffer)
     {
         buffer = bitBuffer.getBuffer();
+        wordBuffer = ByteBuffer.wrap(buffer);
+        bufferOffset = 0;
+        bufferLength = buffer.length;
         final byte lastBits = (byte)(bitBuffer.getBitSize() % 8);
         lastByteBits = lastBits == 0 ? 8 : lastBits;
     }
@@ -58,53 +90,11 @@ public class ByteArrayBitStreamReader extends ByteArrayBitStreamBase implements
     {
         checkRange(numBits);
 
-        int bitsToRead = bitOffset + numBits;
-        long accum = nextUnsignedByte() & BIT_MASKS[bitOffset];
-        bitsToRead -= 8;
-
-        if (bitsToRead < 0)
-        {
-            // less than already read byte is needed
-            accum = accum >>> -bitsToRead;
-            bytePosition--; // consumed only few bits
-        }
-        else
-        {
-            // full bytes
-            while (bitsToRead >= 8)
-            {
-                accum = (accum << 8) | nextUnsignedByte();
-                bitsToRead -= 8;
-            }
+        // values which span several bytes and which do not touch the last byte are loaded at once
+        if (bitOffset + numBits > 8 && bytePosition < bufferLength - MAX_BYTES_PER_READ)
+            return readBitsByWords(numBits);
 
-            // last few bits
-            if (bitsToRead > 0)
-            {
-                accum = (accum << bitsToRead) | (nextUnsignedByte() >>> (8 - bitsToRead));
-                bytePosition--; // consumed only few bits
-            }
-        }
-
-        bitOffset = (bitOffset + numBits) & BYTE_MOD_MASK;
-
-        if (bytePosition == buffer.length) // consumed full last byte
-        {
-            if (lastByteBits < 8) // check if whole byte is available
-            {
-                throw new IOException("ByteArrayBitStreamReader: Unable to read bit on offset position " +
-                        lastByteBits + " in the last byte.");
-            }
-        }
-        else if (bytePosition + 1 >= buffer.length) // consumed last byte only partially or not at all
-        {
-            if (bitOffset > lastByteBits) // check if we didn't read more bits than available
-            {
-                throw new IOException("ByteArrayBitStreamReader: Unable to read bit on offset position " +
-                        bitOffset + " in the last byte.");
-            }
-        }
-
-        return accum;
+        return readBitsByBytes(numBits);
     }
 
     @Override
@@ -131,18 +121,7 @@ public class ByteArrayBitStreamReader extends ByteArrayBitStreamBase implements
     @Override
     public short readShort() throws IOException
     {
-        short result;
-        if (bitOffset == 0)
-        {
-            final byte b0 = nextByte();
-            final byte b1 = nextByte();
-            result = makeShort(b0, b1);
-        }
-        else
-        {
-            result = (short) readBits(16);
-        }
-        return result;
+        return (short)readBits(16);
     }
 
     @Override
@@ -154,20 +133,7 @@ public class ByteArrayBitStreamReader extends ByteArrayBitStreamBase implements
     @Override
     public int readInt() throws IOException
     {
-        int result;
-        if (bitOffset == 0)
-        {
-            final byte b0 = nextByte();
-            final byte b1 = nextByte();
-            final byte b2 = nextByte();
-            final byte b3 = nextByte();
-            result = makeInt(b0, b1, b2, b3);
-        }
-        else
-        {
-            result = (int)readBits(32);
-        }
-        return result;
+        return (int)readBits(32);
     }
 
     @Override
@@ -179,24 +145,13 @@ public class ByteArrayBitStreamReader extends ByteArrayBitStreamBase implements
     @Override
     public long readLong() throws IOException
     {
-        long result;
-        if (bitOffset == 0)
-        {
-            final byte b0 = nextByte();
-            final byte b1 = nextByte();
-            final byte b2 = nextByte();
-            final byte b3 = nextByte();
-            final byte b4 = nextByte();
-            final byte b5 = nextByte();
-            final byte b6 = nextByte();
-            final byte b7 = nextByte();
-            result = makeLong(b0, b1, b2, b3, b4, b5, b6, b7);
-        }
-        else
-        {
-            result = readBits(64);
-        }
-        return result;
+        return readBits(64);
+    }
+
+    @Override
+    public long readUnsignedLong(final int numBits) throws IOException
+    {
+        return readBits(numBits);
     }
 
     @Override
@@ -269,14 +224,38 @@ public class ByteArrayBitStreamReader extends ByteArrayBitStreamBase implements
     @Override
     public String readString() throws IOException
     {
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
         final int numBytes = readVarSize();
-        for (int i = 0; i < numBytes; i++)
+        checkAvailableBytes(numBytes);
+
+        final byte[] bytes;
+        final int offset;
+        if (bitOffset == 0)
         {
-            baos.write(readByte());
+            // we are aligned to byte, decode directly from the underlying array
+            bytes = buffer;
+            offset = bufferOffset + bytePosition;
+            bytePosition += numBytes;
         }
-        baos.close();
-        return new String(baos.toByteArray(), DEFAULT_CHARSET_NAME);
+        else
+        {
+            // we are not aligned to byte, shift the bytes to the scratch buffer, long strings are shifted
+            // to a temporary array to avoid keeping a big scratch buffer
+            if (numBytes > MAX_STRING_BUFFER_SIZE)
+            {
+                bytes = new byte[numBytes];
+            }
+            else
+            {
+                if (stringBuffer == null || stringBuffer.length < numBytes)
+                    stringBuffer = new byte[Math.max(numBytes, MIN_STRING_BUFFER_SIZE)];
+                bytes = stringBuffer;
+            }
+            offset = 0;
+            readUnalignedBytes(bytes, numBytes);
+        }
+
+        return (stringCache != null) ? stringCache.decode(bytes, offset, numBytes) :
+                new String(bytes, offset, numBytes, StandardCharsets.UTF_8);
     }
 
     @Override
@@ -543,6 +522,54 @@ public class ByteArrayBitStreamReader extends ByteArrayBitStreamBase implements
         return result;
     }
 
+    @Override
+    public long readVarUIntLong() throws IOException
+    {
+        long b = readBits(8); // byte 1
+        long result = b & VARUINT_BYTE;
+        if ((b & VARUINT_HAS_NEXT) == 0)
+            return result;
+
+        b = readBits(8); // byte 2
+        result = result << 7 | (b & VARUINT_BYTE);
+        if ((b & VARUINT_HAS_NEXT) == 0)
+            return result;
+
+        b = readBits(8); // byte 3
+        result = result << 7 | (b & VARUINT_BYTE);
+        if ((b & VARUINT_HAS_NEXT) == 0)
+            return result;
+
+        b = readBits(8); // byte 4
+        result = result << 7 | (b & VARUINT_BYTE);
+        if ((b & VARUINT_HAS_NEXT) == 0)
+            return result;
+
+        b = readBits(8); // byte 5
+        result = result << 7 | (b & VARUINT_BYTE);
+        if ((b & VARUINT_HAS_NEXT) == 0)
+            return result;
+
+        b = readBits(8); // byte 6
+        result = result << 7 | (b & VARUINT_BYTE);
+        if ((b & VARUINT_HAS_NEXT) == 0)
+            return result;
+
+        b = readBits(8); // byte 7
+        result = result << 7 | (b & VARUINT_BYTE);
+        if ((b & VARUINT_HAS_NEXT) == 0)
+            return result;
+
+        b = readBits(8); // byte 8
+        result = result << 7 | (b & VARUINT_BYTE);
+        if ((b & VARUINT_HAS_NEXT) == 0)
+            return result;
+
+        // byte 9
+        result = result << 8 | readBits(8);
+        return result;
+    }
+
     @Override
     public int readVarSize() throws IOException
     {
@@ -575,6 +602,318 @@ public class ByteArrayBitStreamReader extends ByteArrayBitStreamBase implements
         return (int)result;
     }
 
+    /**
+     * Reads array of varint16 values.
+     *
+     * Values stored on byte aligned position are decoded directly from the underlying array in batches.
+     *
+     * @param dest   Destination array.
+     * @param offset Index of the first element to fill in the destination array.
+     * @param length Number of values to read.
+     *
+     * @throws IOException If the reading failed.
+     */
+    public void readVarInt16Array(final short[] dest, final int offset, final int length) throws IOException
+    {
+        checkArrayRange(dest.length, offset, length);
+        final int end = offset + length;
+        if (bitOffset != 0)
+        {
+            for (int index = offset; index < end; ++index)
+                dest[index] = readVarInt16();
+            return;
+        }
+
+        int index = offset;
+        while (index < end)
+        {
+            final int batchEnd = index + getNumDirectVarNums(end - index, VARINT16_MAX_BYTES);
+            if (batchEnd == index)
+            {
+                dest[index++] = readVarInt16();
+                continue;
+            }
+
+            for (; index < batchEnd; ++index)
+                dest[index] = (short)decodeVarInt(VARINT16_MAX_BYTES);
+        }
+    }
+
+    /**
+     * Reads array of varint32 values.
+     *
+     * Values stored on byte aligned position are decoded directly from the underlying array in batches.
+     *
+     * @param dest   Destination array.
+     * @param offset Index of the first element to fill in the destination array.
+     * @param length Number of values to read.
+     *
+     * @throws IOException If the reading failed.
+     */
+    public void readVarInt32Array(final int[] dest, final int offset, final int length) throws IOException
+    {
+        checkArrayRange(dest.length, offset, length);
+        final int end = offset + length;
+        if (bitOffset != 0)
+        {
+            for (int index = offset; index < end; ++index)
+                dest[index] = readVarInt32();
+            return;
+        }
+
+        int index = offset;
+        while (index < end)
+        {
+            final int batchEnd = index + getNumDirectVarNums(end - index, VARINT32_MAX_BYTES);
+            if (batchEnd == index)
+            {
+                dest[index++] = readVarInt32();
+                continue;
+            }
+
+            for (; index < batchEnd; ++index)
+                dest[index] = (int)decodeVarInt(VARINT32_MAX_BYTES);
+        }
+    }
+
+    /**
+     * Reads array of varint64 values.
+     *
+     * Values stored on byte aligned position are decoded directly from the underlying array in batches.
+     *
+     * @param dest   Destination array.
+     * @param offset Index of the first element to fill in the destination array.
+     * @param length Number of values to read.
+     *
+     * @throws IOException If the reading failed.
+     */
+    public void readVarInt64Array(final long[] dest, final int offset, final int length) throws IOException
+    {
+        checkArrayRange(dest.length, offset, length);
+        final int end = offset + length;
+        if (bitOffset != 0)
+        {
+            for (int index = offset; index < end; ++index)
+                dest[index] = readVarInt64();
+            return;
+        }
+
+        int index = offset;
+        while (index < end)
+        {
+            final int batchEnd = index + getNumDirectVarNums(end - index, VARINT64_MAX_BYTES);
+            if (batchEnd == index)
+            {
+                dest[index++] = readVarInt64();
+                continue;
+            }
+
+            for (; index < batchEnd; ++index)
+                dest[index] = decodeVarInt(VARINT64_MAX_BYTES);
+        }
+    }
+
+    /**
+     * Reads array of varint values.
+     *
+     * Values stored on byte aligned position are decoded directly from the underlying array in batches.
+     *
+     * @param dest   Destination array.
+     * @param offset Index of the first element to fill in the destination array.
+     * @param length Number of values to read.
+     *
+     * @throws IOException If the reading failed.
+     */
+    public void readVarIntArray(final long[] dest, final int offset, final int length) throws IOException
+    {
+        checkArrayRange(dest.length, offset, length);
+        final int end = offset + length;
+        if (bitOffset != 0)
+        {
+            for (int index = offset; index < end; ++index)
+                dest[index] = readVarInt();
+            return;
+        }
+
+        int index = offset;
+        while (index < end)
+        {
+            final int batchEnd = index + getNumDirectVarNums(end - index, VARINT_MAX_BYTES);
+            if (batchEnd == index)
+            {
+                dest[index++] = readVarInt();
+                continue;
+            }
+
+            for (; index < batchEnd; ++index)
+            {
+                if (buffer[bufferOffset + bytePosition] == VARINT_MIN_VALUE)
+                {
+                    dest[index] = Long.MIN_VALUE;
+                    bytePosition++;
+                }
+                else
+                {
+                    dest[index] = decodeVarInt(VARINT_MAX_BYTES);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads array of varuint16 values.
+     *
+     * Values stored on byte aligned position are decoded directly from the underlying array in batches.
+     *
+     * @param dest   Destination array.
+     * @param offset Index of the first element to fill in the destination array.
+     * @param length Number of values to read.
+     *
+     * @throws IOException If the reading failed.
+     */
+    public void readVarUInt16Array(final short[] dest, final int offset, final int length) throws IOException
+    {
+        checkArrayRange(dest.length, offset, length);
+        final int end = offset + length;
+        if (bitOffset != 0)
+        {
+            for (int index = offset; index < end; ++index)
+                dest[index] = readVarUInt16();
+            return;
+        }
+
+        int index = offset;
+        while (index < end)
+        {
+            final int batchEnd = index + getNumDirectVarNums(end - index, VARINT16_MAX_BYTES);
+            if (batchEnd == index)
+            {
+                dest[index++] = readVarUInt16();
+                continue;
+            }
+
+            for (; index < batchEnd; ++index)
+                dest[index] = (short)decodeVarUInt(VARINT16_MAX_BYTES);
+        }
+    }
+
+    /**
+     * Reads array of varuint32 values.
+     *
+     * Values stored on byte aligned position are decoded directly from the underlying array in batches.
+     *
+     * @param dest   Destination array.
+     * @param offset Index of the first element to fill in the destination array.
+     * @param length Number of values to read.
+     *
+     * @throws IOException If the reading failed.
+     */
+    public void readVarUInt32Array(final int[] dest, final int offset, final int length) throws IOException
+    {
+        checkArrayRange(dest.length, offset, length);
+        final int end = offset + length;
+        if (bitOffset != 0)
+        {
+            for (int index = offset; index < end; ++index)
+                dest[index] = readVarUInt32();
+            return;
+        }
+
+        int index = offset;
+        while (index < end)
+        {
+            final int batchEnd = index + getNumDirectVarNums(end - index, VARINT32_MAX_BYTES);
+            if (batchEnd == index)
+            {
+                dest[index++] = readVarUInt32();
+                continue;
+            }
+
+            for (; index < batchEnd; ++index)
+                dest[index] = (int)decodeVarUInt(VARINT32_MAX_BYTES);
+        }
+    }
+
+    /**
+     * Reads array of varuint64 values.
+     *
+     * Values stored on byte aligned position are decoded directly from the underlying array in batches.
+     *
+     * @param dest   Destination array.
+     * @param offset Index of the first element to fill in the destination array.
+     * @param length Number of values to read.
+     *
+     * @throws IOException If the reading failed.
+     */
+    public void readVarUInt64Array(final long[] dest, final int offset, final int length) throws IOException
+    {
+        checkArrayRange(dest.length, offset, length);
+        final int end = offset + length;
+        if (bitOffset != 0)
+        {
+            for (int index = offset; index < end; ++index)
+                dest[index] = readVarUInt64();
+            return;
+        }
+
+        int index = offset;
+        while (index < end)
+        {
+            final int batchEnd = index + getNumDirectVarNums(end - index, VARINT64_MAX_BYTES);
+            if (batchEnd == index)
+            {
+                dest[index++] = readVarUInt64();
+                continue;
+            }
+
+            for (; index < batchEnd; ++index)
+                dest[index] = decodeVarUInt(VARINT64_MAX_BYTES);
+        }
+    }
+
+    /**
+     * Reads array of varsize values.
+     *
+     * Values stored on byte aligned position are decoded directly from the underlying array in batches.
+     *
+     * @param dest   Destination array.
+     * @param offset Index of the first element to fill in the destination array.
+     * @param length Number of values to read.
+     *
+     * @throws IOException If the reading failed.
+     */
+    public void readVarSizeArray(final int[] dest, final int offset, final int length) throws IOException
+    {
+        checkArrayRange(dest.length, offset, length);
+        final int end = offset + length;
+        if (bitOffset != 0)
+        {
+            for (int index = offset; index < end; ++index)
+                dest[index] = readVarSize();
+            return;
+        }
+
+        int index = offset;
+        while (index < end)
+        {
+            final int batchEnd = index + getNumDirectVarNums(end - index, VARSIZE_MAX_BYTES);
+            if (batchEnd == index)
+            {
+                dest[index++] = readVarSize();
+                continue;
+            }
+
+            for (; index < batchEnd; ++index)
+            {
+                final long value = decodeVarUInt(VARSIZE_MAX_BYTES);
+                if (value > VARSIZE_MAX_VALUE)
+                    throw new IOException("ByteArrayBitStreamReader: Read value '" + value +
+                            "' is out of range for varsize type!");
+                dest[index] = (int)value;
+            }
+        }
+    }
+
     @Override
     public BitBuffer readBitBuffer() throws IOException
     {
@@ -586,8 +925,8 @@ public class ByteArrayBitStreamReader extends ByteArrayBitStreamBase implements
         if (bitOffset != 0)
         {
             // we are not aligned to byte
-            for (int i = 0; i < numBytesToRead; ++i)
-                readBuffer[i] = (byte)(readSignedBits(8));
+            checkAvailableBytes(numBytesToRead);
+            readUnalignedBytes(readBuffer, numBytesToRead);
         }
         else
         {
@@ -598,7 +937,7 @@ public class ByteArrayBitStreamReader extends ByteArrayBitStreamBase implements
         if (numRestBits != 0)
             readBuffer[numBytesToRead] = (byte)(readBits(numRestBits) << (8 - numRestBits));
 
-        return new BitBuffer(readBuffer, bitSize);
+        return new BitBuffer(readBuffer, bitSize, false);
     }
 
     @Override
@@ -615,7 +954,7 @@ public class ByteArrayBitStreamReader extends ByteArrayBitStreamBase implements
     @Override
     public long getBufferBitSize()
     {
-        return ((long)buffer.length) * 8 - 8 + lastByteBits;
+        return ((long)bufferLength) * 8 - 8 + lastByteBits;
     }
 
     @Override
@@ -624,6 +963,18 @@ public class ByteArrayBitStreamReader extends ByteArrayBitStreamBase implements
         // nothing to do
     }
 
+    /**
+     * Sets cache used to deduplicate strings read by this reader.
+     *
+     * Repeated short strings are then returned as the same instances without any allocation.
+     *
+     * @param stringCache String cache to use or null to disable caching.
+     */
+    public void setStringCache(final StringCache stringCache)
+    {
+        this.stringCache = stringCache;
+    }
+
     protected byte[] getBuffer()
     {
         return buffer;
@@ -642,9 +993,14 @@ public class ByteArrayBitStreamReader extends ByteArrayBitStreamBase implements
                     " but requested was " + length + ".");
     }
 
-    private int read(final byte[] dest, final int offset, final int length)
+    private int read(final byte[] dest, final int offset, final int length) throws IOException
     {
-        System.arraycopy(buffer, bytePosition, dest, offset, length);
+        if (length > bufferLength - bytePosition)
+            throw new EOFException("ByteArrayBitStreamReader: Unable to read " + length + " bytes on offset " +
+                    "position " + bytePosition + ". It's beyond end of the stream with length " + bufferLength +
+                    ".");
+
+        System.arraycopy(buffer, bufferOffset + bytePosition, dest, offset, length);
         bytePosition += length;
         return length;
     }
@@ -655,81 +1011,257 @@ public class ByteArrayBitStreamReader extends ByteArrayBitStreamBase implements
     }
 
     /**
-     * Returns the next byte without resetting the bit offset.
+     * Checks that the given number of bytes is available in the stream.
      *
-     * @return Read next byte.
+     * @param numBytes Number of bytes to check.
      *
-     * @throws IOException If the reading failed.
+     * @throws EOFException If the bytes are beyond end of the stream.
      */
-    private byte nextByte() throws IOException
+    private void checkAvailableBytes(final int numBytes) throws EOFException
     {
-        if (bytePosition >= buffer.length)
-            throw new IOException("ByteArrayBitStreamReader: Unable to read byte on offset position " +
-                    (bytePosition + 1) + ". It's beyond end of the stream with length " + buffer.length + ".");
+        final long bitPosition = getBitPosition();
+        final long bitSize = getBufferBitSize();
+        if ((long)numBytes * 8 > bitSize - bitPosition)
+            throw new EOFException("ByteArrayBitStreamReader: Unable to read " + numBytes + " bytes on bit " +
+                    "position " + bitPosition + ". It's beyond end of the stream with bit size " + bitSize +
+                    ".");
+    }
 
-        return buffer[bytePosition++];
+    /**
+     * Reads bytes when the stream is not aligned to byte.
+     *
+     * The caller is responsible to check that the bytes are available.
+     *
+     * @param dest     Destination array.
+     * @param numBytes Number of bytes to read.
+     */
+    private void readUnalignedBytes(final byte[] dest, final int numBytes)
+    {
+        final int leftShift = bitOffset;
+        final int rightShift = 8 - bitOffset;
+        int index = bufferOffset + bytePosition;
+        int current = buffer[index];
+        for (int i = 0; i < numBytes; ++i)
+        {
+            final int next = buffer[++index] & 0xff;
+            dest[i] = (byte)((current << leftShift) | (next >>> rightShift));
+            current = next;
+        }
+        bytePosition += numBytes;
     }
 
     /**
-     * Returns the next unsigned byte without resetting the bit offset.
+     * Checks that the given range lies within the array of the given length.
      *
-     * @return Read next byte.
+     * @param arrayLength Length of the array.
+     * @param offset      Index of the first element of the range.
+     * @param length      Number of elements of the range.
      *
-     * @throws IOException If the reading failed.
+     * @throws IndexOutOfBoundsException If the range is out of the array bounds.
      */
-    private int nextUnsignedByte() throws IOException
+    private static void checkArrayRange(final int arrayLength, final int offset, final int length)
     {
-        return nextByte() & 0xff;
+        if (offset < 0 || length < 0 || offset > arrayLength - length)
+            throw new IndexOutOfBoundsException("ByteArrayBitStreamReader: Range with offset " + offset +
+                    " and length " + length + " is out of bounds of array with length " + arrayLength + ".");
     }
 
     /**
-     * Creates a short value as concatenation of the given two bytes.
+     * Gets number of variable length integers which are guaranteed to be available in the stream.
      *
-     * @param b1 Byte which represents bit 8 to 15.
-     * @param b0 Byte which represents bit 0 to 7.
+     * @param numValues   Maximum number of values.
+     * @param maxVarBytes Maximum number of bytes of one value.
      *
-     * @return Concatenated short value.
+     * @return Number of values which can be decoded directly without further bounds checking.
      */
-    private static short makeShort(final byte b1, final byte b0)
+    private int getNumDirectVarNums(final int numValues, final int maxVarBytes)
     {
-        return (short)((b1 << 8) | (b0 & 0xff));
+        final long numAvailableBytes = (getBufferBitSize() - getBitPosition()) / 8;
+
+        return (int)Math.min(numValues, numAvailableBytes / maxVarBytes);
     }
 
     /**
-     * Creates an integer as concatenation of the given four byte values.
+     * Decodes unsigned variable length integer directly from the underlying array.
+     *
+     * The stream must be aligned to byte and the caller is responsible to check that all maxVarBytes bytes
+     * are available.
      *
-     * @param b3 Byte which represents bit 24 to 31.
-     * @param b2 Byte which represents bit 16 to 23.
-     * @param b1 Byte which represents bit 8 to 15.
-     * @param b0 Byte which represents bit 0 to 7.
+     * @param maxVarBytes Maximum number of bytes of the value.
      *
-     * @return The concatenated integer value.
+     * @return Decoded value.
      */
-    private static int makeInt(final byte b3, final byte b2, final byte b1, final byte b0)
+    private long decodeVarUInt(final int maxVarBytes)
     {
-        return (((b3) << 24) | ((b2 & 0xff) << 16) | ((b1 & 0xff) << 8) | ((b0 & 0xff)));
+        int index = bufferOffset + bytePosition;
+        long result = 0;
+        int i = 1;
+        for (; i < maxVarBytes; ++i)
+        {
+            final byte b = buffer[index++];
+            result = (result << 7) | (b & VARUINT_BYTE);
+            if (b >= 0) // 'has next' bit is not set
+                break;
+        }
+        if (i == maxVarBytes)
+            result = (result << 8) | (buffer[index++] & 0xff);
+
+        bytePosition = index - bufferOffset;
+
+        return result;
     }
 
     /**
-     * Creates a long as concatenation of the given eight byte values.
-     *
-     * @param b7 Byte which represents bit 56 to 63.
-     * @param b6 Byte which represents bit 48 to 55.
-     * @param b5 Byte which represents bit 40 to 47.
-     * @param b4 Byte which represents bit 32 to 39.
-     * @param b3 Byte which represents bit 24 to 31.
-     * @param b2 Byte which represents bit 16 to 23.
-     * @param b1 Byte which represents bit 8 to 15.
-     * @param b0 Byte which represents bit 0 to 7.
-     *
-     * @return The concatenation of the eight byte values as long value.
+     * Decodes signed variable length integer directly from the underlying array.
+     *
+     * The stream must be aligned to byte and the caller is responsible to check that all maxVarBytes bytes
+     * are available.
+     *
+     * @param maxVarBytes Maximum number of bytes of the value.
+     *
+     * @return Decoded value.
      */
-    private static long makeLong(final byte b7, final byte b6, final byte b5, final byte b4, final byte b3,
-            final byte b2, final byte b1, final byte b0)
+    private long decodeVarInt(final int maxVarBytes)
     {
-        return ((((long)b7) << 56) | (((long)b6 & 0xff) << 48) | (((long)b5 & 0xff) << 40) |
-                (((long)b4 & 0xff) << 32) | (((long)b3 & 0xff) << 24) | (((long)b2 & 0xff) << 16) |
-                (((long)b1 & 0xff) << 8) | (((long)b0 & 0xff)));
+        int index = bufferOffset + bytePosition;
+        final byte first = buffer[index++];
+        long result = first & VARINT_BYTE_1;
+        if ((first & VARINT_HAS_NEXT_1) != 0)
+        {
+            int i = 2;
+            for (; i < maxVarBytes; ++i)
+            {
+                final byte b = buffer[index++];
+                result = (result << 7) | (b & VARINT_BYTE_N);
+                if (b >= 0) // 'has next' bit is not set
+                    break;
+            }
+            if (i == maxVarBytes)
+                result = (result << 8) | (buffer[index++] & 0xff);
+        }
+
+        bytePosition = index - bufferOffset;
+
+        return (first < 0) ? -result : result; // sign bit is the most significant bit of the first byte
+    }
+
+    /**
+     * Reads bits by loading a whole int or long word at once.
+     * <p>
+     * The value must not touch the last byte of the buffer, thus no bounds checks are needed.</p>
+     *
+     * @param numBits Number of bits to read.
+     *
+     * @return Read bits.
+     */
+    private long readBitsByWords(final int numBits)
+    {
+        final int numReadBits = bitOffset + numBits;
+        final int index = bufferOffset + bytePosition;
+        long result;
+        if (numReadBits <= 32)
+        {
+            result = ((wordBuffer.getInt(index) << bitOffset) >>> (32 - numBits)) & 0xFFFFFFFFL;
+        }
+        else
+        {
+            result = (wordBuffer.getLong(index) << bitOffset) >>> (64 - numBits);
+            if (numReadBits > 64)
+                result |= (buffer[index + 8] & 0xff) >>> (72 - numReadBits);
+        }
+
+        bytePosition += numReadBits >>> 3;
+        bitOffset = numReadBits & BYTE_MOD_MASK;
+
+        return result;
+    }
+
+    /**
+     * Reads bits byte by byte.
+     *
+     * @param numBits Number of bits to read.
+     *
+     * @return Read bits.
+     *
+     * @throws IOException If the reading failed.
+     */
+    private long readBitsByBytes(final int numBits) throws IOException
+    {
+        int bitsToRead = bitOffset + numBits;
+        long accum = nextUnsignedByte() & BIT_MASKS[bitOffset];
+        bitsToRead -= 8;
+
+        if (bitsToRead < 0)
+        {
+            // less than already read byte is needed
+            accum = accum >>> -bitsToRead;
+            bytePosition--; // consumed only few bits
+        }
+        else
+        {
+            // full bytes
+            while (bitsToRead >= 8)
+            {
+                accum = (accum << 8) | nextUnsignedByte();
+                bitsToRead -= 8;
+            }
+
+            // last few bits
+            if (bitsToRead > 0)
+            {
+                accum = (accum << bitsToRead) | (nextUnsignedByte() >>> (8 - bitsToRead));
+                bytePosition--; // consumed only few bits
+            }
+        }
+
+        bitOffset = (bitOffset + numBits) & BYTE_MOD_MASK;
+
+        if (bytePosition == bufferLength) // consumed full last byte
+        {
+            if (lastByteBits < 8) // check if whole byte is available
+            {
+                throw new IOException("ByteArrayBitStreamReader: Unable to read bit on offset position " +
+                        lastByteBits + " in the last byte.");
+            }
+        }
+        else if (bytePosition + 1 >= bufferLength) // consumed last byte only partially or not at all
+        {
+            if (bitOffset > lastByteBits) // check if we didn't read more bits than available
+            {
+                throw new IOException("ByteArrayBitStreamReader: Unable to read bit on offset position " +
+                        bitOffset + " in the last byte.");
+            }
+        }
+
+        return accum;
+    }
+
+    /**
+     * Returns the next byte without resetting the bit offset.
+     *
+     * @return Read next byte.
+     *
+     * @throws IOException If the reading failed.
+     */
+    private byte nextByte() throws IOException
+    {
+        if (bytePosition >= bufferLength)
+            throw new IOException("ByteArrayBitStreamReader: Unable to read byte on offset position " +
+                    (bytePosition + 1) + ". It's beyond end of the stream with length " + bufferLength + ".");
+
+        return buffer[bufferOffset + bytePosition++];
+    }
+
+    /**
+     * Returns the next unsigned byte without resetting the bit offset.
+     *
+     * @return Read next byte.
+     *
+     * @throws IOException If the reading failed.
+     */
+    private int nextUnsignedByte() throws IOException
+    {
+        return nextByte() & 0xff;
     }
 
     /**
@@ -755,9 +1287,29 @@ public class ByteArrayBitStreamReader extends ByteArrayBitStreamBase implements
 
     private static final long VARSIZE_MAX_VALUE = (1 << 31) - 1;
 
+    /** Encoded varint value which represents minimum long value. */
+    private static final byte VARINT_MIN_VALUE = (byte)0x80;
+
+    /** Minimum size of the scratch buffer used to read unaligned strings. */
+    private static final int MIN_STRING_BUFFER_SIZE = 64;
+
+    /** Maximum size of the scratch buffer used to read unaligned strings. */
+    private static final int MAX_STRING_BUFFER_SIZE = 4096;
+
+    /** Maximum number of bytes touched by one readBits call (64 bits at non-zero bit offset). */
+    private static final int MAX_BYTES_PER_READ = 9;
+
     /**
      * The underlying byte array.
      */
     private final byte[] buffer;
+    /** Big endian view of the underlying byte array used to read whole words. */
+    private final ByteBuffer wordBuffer;
+    private final int bufferOffset;
+    private final int bufferLength;
     private final byte lastByteBits;
+    /** Scratch buffer used to read unaligned strings, allocated on demand. */
+    private byte[] stringBuffer;
+    /** Optional cache of decoded strings. */
+    private StringCache stringCache;
 }
@@ -3,6 +3,9 @@ package zserio.runtime.io;
 import java.io.EOFException;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import zserio.runtime.BitSizeOfCalculator;
 import zserio.runtime.FloatUtil;
 import zserio.runtime.Util;
@@ -189,6 +192,16 @@ public class ByteArrayBitStreamWriter extends ByteArrayBitStreamBase implements
         }
     }
 
+    @Override
+    public void writeUnsignedLong(final long value, final int numBits) throws IOException
+    {
+        // all 64 bit values are valid unsigned values
+        if (numBits == 64)
+            writeLong(value);
+        else
+            writeBits(value, numBits);
+    }
+
     @Override
     public void writeBigInteger(final BigInteger value, final int numBits) throws IOException
     {
@@ -244,19 +257,23 @@ public class ByteArrayBitStreamWriter extends ByteArrayBitStreamBase implements
     @Override
     public void writeString(final String value) throws IOException
     {
-        final byte[] bytes = value.getBytes(DEFAULT_CHARSET_NAME);
-        writeVarSize(bytes.length);
-        if (bitOffset == 0)
+        byte[] bytes = encodeAscii(value);
+        final int numBytes;
+        if (bytes != null)
         {
-            write(bytes);
+            numBytes = value.length();
         }
         else
         {
-            for (final byte b : bytes)
-            {
-                writeByte(b);
-            }
+            bytes = value.getBytes(StandardCharsets.UTF_8);
+            numBytes = bytes.length;
         }
+
+        writeVarSize(numBytes);
+        if (bitOffset == 0)
+            write(bytes, 0, numBytes);
+        else
+            writeUnalignedBytes(bytes, numBytes);
     }
 
     @Override
@@ -408,6 +425,12 @@ public class ByteArrayBitStreamWriter extends ByteArrayBitStreamBase implements
         }
     }
 
+    @Override
+    public void writeVarUIntLong(final long value) throws IOException
+    {
+        writeVarNum(value, false, 9, BitSizeOfCalculator.getBitSizeOfVarUIntLong(value) / 8);
+    }
+
     @Override
     public void writeVarSize(final int value) throws IOException
     {
@@ -421,6 +444,357 @@ public class ByteArrayBitStreamWriter extends ByteArrayBitStreamBase implements
         }
     }
 
+    /**
+     * Writes array of varint16 values.
+     *
+     * Values written on byte aligned position are encoded directly to the underlying buffer in batches.
+     *
+     * @param src    Source array.
+     * @param offset Index of the first element to write from the source array.
+     * @param length Number of values to write.
+     *
+     * @throws IOException If the writing failed.
+     */
+    public void writeVarInt16Array(final short[] src, final int offset, final int length) throws IOException
+    {
+        checkArrayRange(src.length, offset, length);
+        final int end = offset + length;
+        if (bitOffset != 0)
+        {
+            for (int index = offset; index < end; ++index)
+                writeVarInt16(src[index]);
+            return;
+        }
+
+        try
+        {
+            int index = offset;
+            while (index < end)
+            {
+                final int batchEnd = Math.min(end, index + VAR_NUM_BATCH_SIZE);
+                ensureCapacity(8 * VARINT16_MAX_BYTES * (batchEnd - index));
+                for (; index < batchEnd; ++index)
+                {
+                    final short value = src[index];
+                    putVarNum(value, true, VARINT16_MAX_BYTES,
+                            BitSizeOfCalculator.getBitSizeOfVarInt16(value) / 8);
+                }
+            }
+        }
+        catch (ZserioError e)
+        {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    /**
+     * Writes array of varint32 values.
+     *
+     * Values written on byte aligned position are encoded directly to the underlying buffer in batches.
+     *
+     * @param src    Source array.
+     * @param offset Index of the first element to write from the source array.
+     * @param length Number of values to write.
+     *
+     * @throws IOException If the writing failed.
+     */
+    public void writeVarInt32Array(final int[] src, final int offset, final int length) throws IOException
+    {
+        checkArrayRange(src.length, offset, length);
+        final int end = offset + length;
+        if (bitOffset != 0)
+        {
+            for (int index = offset; index < end; ++index)
+                writeVarInt32(src[index]);
+            return;
+        }
+
+        try
+        {
+            int index = offset;
+            while (index < end)
+            {
+                final int batchEnd = Math.min(end, index + VAR_NUM_BATCH_SIZE);
+                ensureCapacity(8 * VARINT32_MAX_BYTES * (batchEnd - index));
+                for (; index < batchEnd; ++index)
+                {
+                    final int value = src[index];
+                    putVarNum(value, true, VARINT32_MAX_BYTES,
+                            BitSizeOfCalculator.getBitSizeOfVarInt32(value) / 8);
+                }
+            }
+        }
+        catch (ZserioError e)
+        {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    /**
+     * Writes array of varint64 values.
+     *
+     * Values written on byte aligned position are encoded directly to the underlying buffer in batches.
+     *
+     * @param src    Source array.
+     * @param offset Index of the first element to write from the source array.
+     * @param length Number of values to write.
+     *
+     * @throws IOException If the writing failed.
+     */
+    public void writeVarInt64Array(final long[] src, final int offset, final int length) throws IOException
+    {
+        checkArrayRange(src.length, offset, length);
+        final int end = offset + length;
+        if (bitOffset != 0)
+        {
+            for (int index = offset; index < end; ++index)
+                writeVarInt64(src[index]);
+            return;
+        }
+
+        try
+        {
+            int index = offset;
+            while (index < end)
+            {
+                final int batchEnd = Math.min(end, index + VAR_NUM_BATCH_SIZE);
+                ensureCapacity(8 * VARINT64_MAX_BYTES * (batchEnd - index));
+                for (; index < batchEnd; ++index)
+                {
+                    final long value = src[index];
+                    putVarNum(value, true, VARINT64_MAX_BYTES,
+                            BitSizeOfCalculator.getBitSizeOfVarInt64(value) / 8);
+                }
+            }
+        }
+        catch (ZserioError e)
+        {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    /**
+     * Writes array of varint values.
+     *
+     * Values written on byte aligned position are encoded directly to the underlying buffer in batches.
+     *
+     * @param src    Source array.
+     * @param offset Index of the first element to write from the source array.
+     * @param length Number of values to write.
+     *
+     * @throws IOException If the writing failed.
+     */
+    public void writeVarIntArray(final long[] src, final int offset, final int length) throws IOException
+    {
+        checkArrayRange(src.length, offset, length);
+        final int end = offset + length;
+        if (bitOffset != 0)
+        {
+            for (int index = offset; index < end; ++index)
+                writeVarInt(src[index]);
+            return;
+        }
+
+        try
+        {
+            int index = offset;
+            while (index < end)
+            {
+                final int batchEnd = Math.min(end, index + VAR_NUM_BATCH_SIZE);
+                ensureCapacity(8 * VARINT_MAX_BYTES * (batchEnd - index));
+                for (; index < batchEnd; ++index)
+                {
+                    final long value = src[index];
+                    if (value == Long.MIN_VALUE)
+                    {
+                        buffer[bytePosition++] = VARINT_MIN_VALUE;
+                    }
+                    else
+                    {
+                        putVarNum(value, true, VARINT_MAX_BYTES,
+                                BitSizeOfCalculator.getBitSizeOfVarInt(value) / 8);
+                    }
+                }
+            }
+        }
+        catch (ZserioError e)
+        {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    /**
+     * Writes array of varuint16 values.
+     *
+     * Values written on byte aligned position are encoded directly to the underlying buffer in batches.
+     *
+     * @param src    Source array.
+     * @param offset Index of the first element to write from the source array.
+     * @param length Number of values to write.
+     *
+     * @throws IOException If the writing failed.
+     */
+    public void writeVarUInt16Array(final short[] src, final int offset, final int length) throws IOException
+    {
+        checkArrayRange(src.length, offset, length);
+        final int end = offset + length;
+        if (bitOffset != 0)
+        {
+            for (int index = offset; index < end; ++index)
+                writeVarUInt16(src[index]);
+            return;
+        }
+
+        try
+        {
+            int index = offset;
+            while (index < end)
+            {
+                final int batchEnd = Math.min(end, index + VAR_NUM_BATCH_SIZE);
+                ensureCapacity(8 * VARINT16_MAX_BYTES * (batchEnd - index));
+                for (; index < batchEnd; ++index)
+                {
+                    final short value = src[index];
+                    putVarNum(value, false, VARINT16_MAX_BYTES,
+                            BitSizeOfCalculator.getBitSizeOfVarUInt16(value) / 8);
+                }
+            }
+        }
+        catch (ZserioError e)
+        {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    /**
+     * Writes array of varuint32 values.
+     *
+     * Values written on byte aligned position are encoded directly to the underlying buffer in batches.
+     *
+     * @param src    Source array.
+     * @param offset Index of the first element to write from the source array.
+     * @param length Number of values to write.
+     *
+     * @throws IOException If the writing failed.
+     */
+    public void writeVarUInt32Array(final int[] src, final int offset, final int length) throws IOException
+    {
+        checkArrayRange(src.length, offset, length);
+        final int end = offset + length;
+        if (bitOffset != 0)
+        {
+            for (int index = offset; index < end; ++index)
+                writeVarUInt32(src[index]);
+            return;
+        }
+
+        try
+        {
+            int index = offset;
+            while (index < end)
+            {
+                final int batchEnd = Math.min(end, index + VAR_NUM_BATCH_SIZE);
+                ensureCapacity(8 * VARINT32_MAX_BYTES * (batchEnd - index));
+                for (; index < batchEnd; ++index)
+                {
+                    final int value = src[index];
+                    putVarNum(value, false, VARINT32_MAX_BYTES,
+                            BitSizeOfCalculator.getBitSizeOfVarUInt32(value) / 8);
+                }
+            }
+        }
+        catch (ZserioError e)
+        {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    /**
+     * Writes array of varuint64 values.
+     *
+     * Values written on byte aligned position are encoded directly to the underlying buffer in batches.
+     *
+     * @param src    Source array.
+     * @param offset Index of the first element to write from the source array.
+     * @param length Number of values to write.
+     *
+     * @throws IOException If the writing failed.
+     */
+    public void writeVarUInt64Array(final long[] src, final int offset, final int length) throws IOException
+    {
+        checkArrayRange(src.length, offset, length);
+        final int end = offset + length;
+        if (bitOffset != 0)
+        {
+            for (int index = offset; index < end; ++index)
+                writeVarUInt64(src[index]);
+            return;
+        }
+
+        try
+        {
+            int index = offset;
+            while (index < end)
+            {
+                final int batchEnd = Math.min(end, index + VAR_NUM_BATCH_SIZE);
+                ensureCapacity(8 * VARINT64_MAX_BYTES * (batchEnd - index));
+                for (; index < batchEnd; ++index)
+                {
+                    final long value = src[index];
+                    putVarNum(value, false, VARINT64_MAX_BYTES,
+                            BitSizeOfCalculator.getBitSizeOfVarUInt64(value) / 8);
+                }
+            }
+        }
+        catch (ZserioError e)
+        {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    /**
+     * Writes array of varsize values.
+     *
+     * Values written on byte aligned position are encoded directly to the underlying buffer in batches.
+     *
+     * @param src    Source array.
+     * @param offset Index of the first element to write from the source array.
+     * @param length Number of values to write.
+     *
+     * @throws IOException If the writing failed.
+     */
+    public void writeVarSizeArray(final int[] src, final int offset, final int length) throws IOException
+    {
+        checkArrayRange(src.length, offset, length);
+        final int end = offset + length;
+        if (bitOffset != 0)
+        {
+            for (int index = offset; index < end; ++index)
+                writeVarSize(src[index]);
+            return;
+        }
+
+        try
+        {
+            int index = offset;
+            while (index < end)
+            {
+                final int batchEnd = Math.min(end, index + VAR_NUM_BATCH_SIZE);
+                ensureCapacity(8 * VARSIZE_MAX_BYTES * (batchEnd - index));
+                for (; index < batchEnd; ++index)
+                {
+                    final int value = src[index];
+                    putVarNum(value, false, VARSIZE_MAX_BYTES,
+                            BitSizeOfCalculator.getBitSizeOfVarSize(value) / 8);
+                }
+            }
+        }
+        catch (ZserioError e)
+        {
+            throw new IOException(e.getMessage());
+        }
+    }
+
     @Override
     public void writeBitBuffer(final BitBuffer bitBuffer) throws IOException
     {
@@ -480,6 +854,19 @@ public class ByteArrayBitStreamWriter extends ByteArrayBitStreamBase implements
         return dest;
     }
 
+    /**
+     * Resets the writer to the beginning of the underlying buffer so that it can be used again.
+     *
+     * The underlying buffer is kept, thus no allocation is needed if the newly written data fit into it.
+     */
+    public void reset()
+    {
+        final int usedLength = Math.min(bytePosition + 1, buffer.length);
+        Arrays.fill(buffer, 0, usedLength, (byte)0);
+        bytePosition = 0;
+        bitOffset = 0;
+    }
+
     private void skipBits(final int bitCnt) throws IOException
     {
         writeBits(0, bitCnt);
@@ -500,11 +887,82 @@ public class ByteArrayBitStreamWriter extends ByteArrayBitStreamBase implements
     private void write(final byte[] src, final int offset, final int length) throws IOException
     {
         flushBits();
-        ensureCapacity(8 * length);
+        ensureCapacity(8L * length);
         System.arraycopy(src, offset, buffer, bytePosition, length);
         this.bytePosition += length;
     }
 
+    /**
+     * Writes bytes when the stream is not aligned to byte.
+     *
+     * @param src      Source array.
+     * @param numBytes Number of bytes to write.
+     *
+     * @throws IOException If the buffer cannot be extended.
+     */
+    private void writeUnalignedBytes(final byte[] src, final int numBytes) throws IOException
+    {
+        ensureCapacity(8L * numBytes);
+
+        final int rightShift = bitOffset;
+        final int leftShift = 8 - bitOffset;
+        int index = bytePosition;
+        int carry = buffer[index] & (0xff << leftShift) & 0xff; // keep already written bits
+        for (int i = 0; i < numBytes; ++i)
+        {
+            final int b = src[i] & 0xff;
+            buffer[index++] = (byte)(carry | (b >>> rightShift));
+            carry = (b << leftShift) & 0xff;
+        }
+        buffer[index] = (byte)(carry | (buffer[index] & (0xff >>> rightShift)));
+        bytePosition = index;
+    }
+
+    /**
+     * Encodes the given string to the scratch buffer if it contains only ASCII characters.
+     * <p>
+     * Long strings are not encoded to avoid keeping a big scratch buffer.</p>
+     *
+     * @param value String to encode.
+     *
+     * @return Scratch buffer which holds the encoded string or null if the string is not ASCII or too long.
+     */
+    private byte[] encodeAscii(final String value)
+    {
+        final int numChars = value.length();
+        if (numChars > MAX_STRING_BUFFER_SIZE)
+            return null;
+
+        if (stringBuffer == null || stringBuffer.length < numChars)
+            stringBuffer = new byte[Math.max(numChars, MIN_STRING_BUFFER_SIZE)];
+
+        for (int i = 0; i < numChars; ++i)
+        {
+            final char c = value.charAt(i);
+            if (c >= 0x80)
+                return null;
+            stringBuffer[i] = (byte)c;
+        }
+
+        return stringBuffer;
+    }
+
+    /**
+     * Checks that the given range lies within the array of the given length.
+     *
+     * @param arrayLength Length of the array.
+     * @param offset      Index of the first element of the range.
+     * @param length      Number of elements of the range.
+     *
+     * @throws IndexOutOfBoundsException If the range is out of the array bounds.
+     */
+    private static void checkArrayRange(final int arrayLength, final int offset, final int length)
+    {
+        if (offset < 0 || length < 0 || offset > arrayLength - length)
+            throw new IndexOutOfBoundsException("ByteArrayBitStreamWriter: Range with offset " + offset +
+                    " and length " + length + " is out of bounds of array with length " + arrayLength + ".");
+    }
+
     /**
      * Writes given number of zero bits to the bit stream.
      *
@@ -548,7 +1006,7 @@ public class ByteArrayBitStreamWriter extends ByteArrayBitStreamBase implements
      *
      * @exception IOException If some stream manipulation error occurred.
      */
-    private final void flushBits() throws IOException
+    protected final void flushBits() throws IOException
     {
         if (bitOffset != 0)
         {
@@ -581,31 +1039,72 @@ public class ByteArrayBitStreamWriter extends ByteArrayBitStreamBase implements
     private void writeVarNum(final long value, final boolean isSigned, final int maxVarBytes,
             final int numVarBytes) throws IOException
     {
-        final long absValue = (value < 0 ? -value : value);
-        final boolean max = numVarBytes == maxVarBytes;
-        for (int i = 0; i < numVarBytes; i++)
+        if (bitOffset == 0)
         {
-            final boolean hasNextByte = i < numVarBytes - 1;
-            final int extra = max && hasNextByte ? 1 : 0;
-            final int shift = (numVarBytes - (i + 1)) * 7 + extra;
+            ensureCapacity(8 * numVarBytes);
+            putVarNum(value, isSigned, maxVarBytes, numVarBytes);
+        }
+        else
+        {
+            for (int i = 0; i < numVarBytes; i++)
+                writeBits(getVarNumByte(value, isSigned, maxVarBytes, numVarBytes, i), 8);
+        }
+    }
 
-            long b = 0;
-            int numBits = 8;
-            if (isSigned && i == 0)
-            {
-                b |= (value < 0 ? 1 : 0) << --numBits;
-            }
-            if (hasNextByte)
-            {
-                b |= 1L << --numBits;
-            }
-            else if (!max)
-            {
-                numBits--;
-            }
-            b |= (absValue >> shift) & (-1L >>> (64 - numBits));
-            writeBits(b, 8);
+    /**
+     * Puts a variable value directly to the underlying buffer.
+     *
+     * The stream must be aligned to byte and the caller is responsible to ensure the buffer capacity.
+     *
+     * @param value       Variable value to write.
+     * @param isSigned    A flag indicating if the value is signed.
+     * @param maxVarBytes The maximum number of variable bytes.
+     * @param numVarBytes The number of variable bytes.
+     */
+    private void putVarNum(final long value, final boolean isSigned, final int maxVarBytes,
+            final int numVarBytes)
+    {
+        for (int i = 0; i < numVarBytes; i++)
+            buffer[bytePosition++] = (byte)getVarNumByte(value, isSigned, maxVarBytes, numVarBytes, i);
+    }
+
+    /**
+     * Gets the given byte of encoded variable value.
+     *
+     * @param value       Variable value to encode.
+     * @param isSigned    A flag indicating if the value is signed.
+     * @param maxVarBytes The maximum number of variable bytes.
+     * @param numVarBytes The number of variable bytes.
+     * @param i           Index of the byte to get.
+     *
+     * @return Encoded byte.
+     */
+    private static long getVarNumByte(final long value, final boolean isSigned, final int maxVarBytes,
+            final int numVarBytes, final int i)
+    {
+        final long absValue = (isSigned && value < 0 ? -value : value);
+        final boolean max = numVarBytes == maxVarBytes;
+        final boolean hasNextByte = i < numVarBytes - 1;
+        final int extra = max && hasNextByte ? 1 : 0;
+        final int shift = (numVarBytes - (i + 1)) * 7 + extra;
+
+        long b = 0;
+        int numBits = 8;
+        if (isSigned && i == 0)
+        {
+            b |= (value < 0 ? 1 : 0) << --numBits;
         }
+        if (hasNextByte)
+        {
+            b |= 1L << --numBits;
+        }
+        else if (!max)
+        {
+            numBits--;
+        }
+        b |= (absValue >> shift) & (-1L >>> (64 - numBits));
+
+        return b;
     }
 
     /**
@@ -620,6 +1119,24 @@ public class ByteArrayBitStreamWriter extends ByteArrayBitStreamBase implements
     {
         ensureCapacity(numBits);
 
+        final int numWrittenBits = bitOffset + numBits;
+        if (numWrittenBits <= 8)
+        {
+            // the value lies in one byte
+            final int shift = 8 - numWrittenBits;
+            final int mask = ((1 << numBits) - 1) << shift;
+            buffer[bytePosition] = (byte)((buffer[bytePosition] & ~mask) | (((int)value << shift) & mask));
+            bytePosition += numWrittenBits >>> 3;
+            bitOffset = numWrittenBits & BYTE_MOD_MASK;
+            return;
+        }
+
+        if (bytePosition <= buffer.length - MAX_BYTES_PER_WRITE)
+        {
+            writeBitsByWord(value, numBits);
+            return;
+        }
+
         /*
          * Write pre-existing bytes if we're not at the head of the buffer.
          */
@@ -681,6 +1198,54 @@ public class ByteArrayBitStreamWriter extends ByteArrayBitStreamBase implements
         }
     }
 
+    /**
+     * Writes given number of bits of value to bit stream using read-modify-write of the whole word.
+     *
+     * The caller is responsible to check that the whole word fits into the underlying buffer.
+     *
+     * @param value   Value to write.
+     * @param numBits Number of bits of value to write.
+     */
+    private void writeBitsByWord(final long value, final int numBits)
+    {
+        final ByteBuffer wordBuffer = getWordBuffer();
+        final int numWrittenBits = bitOffset + numBits;
+        final long word = wordBuffer.getLong(bytePosition);
+        if (numWrittenBits <= 64)
+        {
+            final int shift = 64 - numWrittenBits;
+            final long mask = (-1L >>> (64 - numBits)) << shift;
+            wordBuffer.putLong(bytePosition, (word & ~mask) | ((value << shift) & mask));
+        }
+        else
+        {
+            // the value overlaps to the ninth byte
+            final int lastBits = numWrittenBits - 64;
+            final long mask = -1L >>> bitOffset;
+            wordBuffer.putLong(bytePosition, (word & ~mask) | ((value >>> lastBits) & mask));
+            final int lastMask = (0xff << (8 - lastBits)) & 0xff;
+            final int lastByte = buffer[bytePosition + 8];
+            buffer[bytePosition + 8] =
+                    (byte)((lastByte & ~lastMask) | ((int)(value << (8 - lastBits)) & lastMask));
+        }
+
+        bytePosition += numWrittenBits >>> 3;
+        bitOffset = numWrittenBits & BYTE_MOD_MASK;
+    }
+
+    /**
+     * Gets big endian view of the underlying buffer, the view is recreated when the buffer grows.
+     *
+     * @return Byte buffer which wraps the underlying byte array.
+     */
+    private ByteBuffer getWordBuffer()
+    {
+        if (wordBuffer == null || wordBuffer.array() != buffer)
+            wordBuffer = ByteBuffer.wrap(buffer);
+
+        return wordBuffer;
+    }
+
     /**
      * Resets the bit offset and returns the next unsigned byte.
      *
@@ -729,9 +1294,10 @@ public class ByteArrayBitStreamWriter extends ByteArrayBitStreamBase implements
      *
      * @param minCapacity The desired minimum capacity.
      *
+     * @throws IOException If the buffer cannot be made available.
      * @throws OutOfMemoryError If the requested size exceeded the VM limit.
      */
-    private void growBuffer(final int minCapacity)
+    protected void growBuffer(final int minCapacity) throws IOException
     {
         final int oldCapacity = buffer.length;
         int newCapacity = oldCapacity + (oldCapacity >> 1);
@@ -757,16 +1323,22 @@ public class ByteArrayBitStreamWriter extends ByteArrayBitStreamBase implements
      * Method checks if the given next numBits can be stored in the buffer depending on the current byte
      * position. If the buffer is to small for the numBits the buffer is extended.
      *
-     * @param numBits Number of bits as integer value to check.
+     * @param numBits Number of bits as long value to check, thus big byte counts do not overflow.
+     *
+     * @throws IOException If the buffer cannot be extended.
      */
-    private void ensureCapacity(final int numBits)
+    private void ensureCapacity(final long numBits) throws IOException
     {
-        final int extraBits = numBits & BYTE_MOD_MASK;
-        final int numBytes = (numBits / 8);
-        final int newPosition = bytePosition + numBytes + (extraBits > 0 ? 1 : 0);
+        final long extraBits = numBits & BYTE_MOD_MASK;
+        final long numBytes = (numBits / 8);
+        final long newPosition = bytePosition + numBytes + (extraBits > 0 ? 1 : 0);
         if (newPosition >= buffer.length - 1)
         {
-            growBuffer(newPosition + 1);
+            if (newPosition >= MAX_BUFFER_SIZE)
+                throw new OutOfMemoryError("ByteArrayBitStreamWriter: Reached maximum capacity of underlying " +
+                        "buffer (" + MAX_BUFFER_SIZE + " bytes).");
+
+            growBuffer((int)newPosition + 1);
         }
     }
 
@@ -775,6 +1347,24 @@ public class ByteArrayBitStreamWriter extends ByteArrayBitStreamBase implements
      */
     protected byte[] buffer;
 
+    /** Big endian view of the underlying byte array used to write whole words. */
+    private ByteBuffer wordBuffer;
+
+    /** Scratch buffer used to encode ASCII strings, allocated on demand. */
+    private byte[] stringBuffer;
+
+    /** Maximum number of bytes touched by one writeBits call (64 bits at non-zero bit offset). */
+    private static final int MAX_BYTES_PER_WRITE = 9;
+
+    /** Minimum size of the scratch buffer used to encode ASCII strings. */
+    private static final int MIN_STRING_BUFFER_SIZE = 64;
+
+    /** Maximum size of the scratch buffer used to encode ASCII strings. */
+    private static final int MAX_STRING_BUFFER_SIZE = 4096;
+
+    /** Number of variable length integers encoded between two buffer capacity checks. */
+    private static final int VAR_NUM_BATCH_SIZE = 1024;
+
     /**
      * The default initial buffer capacity.
      */
@@ -0,0 +1,51 @@
+package zserio.runtime.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A bit stream reader using byte buffer.
+ *
+ * The reader works directly on the bytes between the buffer position and limit. Both heap and direct buffers
+ * are supported and no data are copied. The position, limit and byte order of the given buffer are not
+ * changed.
+ */
+public class ByteBufferBitStreamReader extends SegmentedBitStreamReader
+{
+    /**
+     * Constructs a new byte buffer bit stream reader from remaining bytes of the given buffer.
+     *
+     * @param buffer Byte buffer to construct from.
+     */
+    public ByteBufferBitStreamReader(final ByteBuffer buffer)
+    {
+        this(buffer, (long)buffer.remaining() * 8);
+    }
+
+    /**
+     * Constructs a new byte buffer bit stream reader from remaining bytes of the given buffer.
+     *
+     * Only the given number of bits is available for reading.
+     *
+     * @param buffer  Byte buffer to construct from.
+     * @param bitSize Number of bits stored in the buffer to use.
+     *
+     * @throws IllegalArgumentException If the number of bits is bigger than number of remaining bytes.
+     */
+    public ByteBufferBitStreamReader(final ByteBuffer buffer, final long bitSize)
+            throws IllegalArgumentException
+    {
+        super(new ByteBuffer[] { buffer.slice() }, SEGMENT_SHIFT, checkBitSize(buffer, bitSize));
+    }
+
+    private static long checkBitSize(final ByteBuffer buffer, final long bitSize)
+    {
+        if (bitSize < 0 || bitSize > (long)buffer.remaining() * 8)
+            throw new IllegalArgumentException("ByteBufferBitStreamReader: Bit size " + bitSize +
+                    " out of range for given buffer byte size " + buffer.remaining() + "!");
+
+        return bitSize;
+    }
+
+    /** Single segment covers the whole buffer since buffer size is limited by Integer.MAX_VALUE. */
+    private static final int SEGMENT_SHIFT = 31;
+}
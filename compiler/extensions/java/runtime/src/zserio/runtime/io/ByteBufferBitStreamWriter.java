@@ -0,0 +1,493 @@
+package zserio.runtime.io;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import zserio.runtime.BitSizeOfCalculator;
+import zserio.runtime.FloatUtil;
+import zserio.runtime.Util;
+import zserio.runtime.VarSizeUtil;
+import zserio.runtime.ZserioError;
+
+/**
+ * A bit stream writer using byte buffer.
+ *
+ * The writer writes directly to the bytes between the buffer position and limit. Both heap and direct buffers
+ * are supported. The buffer does not grow, an IOException is thrown if the written data do not fit into it.
+ * The position, limit and byte order of the given buffer are not changed, use getBytePosition() to get the
+ * number of written bytes.
+ */
+public class ByteBufferBitStreamWriter implements BitStreamWriter
+{
+    /**
+     * Constructs a new byte buffer bit stream writer which writes to remaining bytes of the given buffer.
+     *
+     * @param buffer Byte buffer to write to.
+     */
+    public ByteBufferBitStreamWriter(final ByteBuffer buffer)
+    {
+        this.buffer = buffer.slice();
+        this.bitCapacity = (long)this.buffer.limit() * 8;
+    }
+
+    @Override
+    public void writeSignedBits(final long value, final int numBits) throws IOException
+    {
+        if (numBits <= 0 || numBits > 64)
+            throw new IllegalArgumentException("ByteBufferBitStreamWriter: Number of written bits " + numBits +
+                    " is out of range [1, 64].");
+
+        if (numBits != 64)
+        {
+            final long lowerBound = Util.getBitFieldLowerBound(numBits, true);
+            final long upperBound = Util.getBitFieldUpperBound(numBits, true);
+
+            if (value < lowerBound || value > upperBound)
+                throw new IllegalArgumentException("ByteBufferBitStreamWriter: Value " + value + " does not " +
+                        "fit into " + numBits + " bits.");
+        }
+
+        writeBitsImpl(value, numBits);
+    }
+
+    @Override
+    public void writeBits(final long value, final int numBits) throws IOException
+    {
+        // the MSB must be zero
+        if (numBits <= 0 || numBits >= 64)
+            throw new IllegalArgumentException("ByteBufferBitStreamWriter: Number of written bits " + numBits +
+                    " is out of range [1, 64].");
+
+        final long upperBound = Util.getBitFieldUpperBound(numBits, false);
+        if (value < 0 || value > upperBound)
+            throw new IllegalArgumentException("ByteBufferBitStreamWriter: Written value " + value +
+                    " does not fit into " + numBits + " bits.");
+
+        writeBitsImpl(value, numBits);
+    }
+
+    @Override
+    public void writeByte(final byte value) throws IOException
+    {
+        writeBitsImpl(value, 8);
+    }
+
+    @Override
+    public void writeUnsignedByte(final short value) throws IOException
+    {
+        writeBits(value, 8);
+    }
+
+    @Override
+    public void writeShort(final short value) throws IOException
+    {
+        writeBitsImpl(value, 16);
+    }
+
+    @Override
+    public void writeUnsignedShort(final int value) throws IOException
+    {
+        writeBits(value, 16);
+    }
+
+    @Override
+    public void writeInt(final int value) throws IOException
+    {
+        writeBitsImpl(value, 32);
+    }
+
+    @Override
+    public void writeUnsignedInt(final long value) throws IOException
+    {
+        writeBits(value, 32);
+    }
+
+    @Override
+    public void writeLong(final long value) throws IOException
+    {
+        writeBitsImpl(value, 64);
+    }
+
+    @Override
+    public void writeUnsignedLong(final long value, final int numBits) throws IOException
+    {
+        // all 64 bit values are valid unsigned values
+        if (numBits == 64)
+            writeLong(value);
+        else
+            writeBits(value, numBits);
+    }
+
+    @Override
+    public void writeBigInteger(final BigInteger value, final int numBits) throws IOException
+    {
+        // total number of bits including sign bit for negative numbers
+        final boolean isNegative = value.signum() < 0;
+        final int valueBits = value.bitLength() + (isNegative ? +1 : 0);
+        if (valueBits > numBits)
+            throw new IllegalArgumentException("ByteBufferBitStreamWriter: Written value " + value +
+                    " does not fit into " + numBits + " bits.");
+
+        // write the padding first, then the value from the most significant chunk
+        int bitsToWrite = numBits;
+        while (bitsToWrite > 64)
+        {
+            bitsToWrite -= 32;
+            writeBitsImpl(value.shiftRight(bitsToWrite).longValue(), 32);
+        }
+        writeBitsImpl(value.longValue(), bitsToWrite);
+    }
+
+    @Override
+    public void writeFloat16(final float value) throws IOException
+    {
+        writeShort(FloatUtil.convertFloatToShort(value));
+    }
+
+    @Override
+    public void writeFloat32(final float value) throws IOException
+    {
+        writeInt(FloatUtil.convertFloatToInt(value));
+    }
+
+    @Override
+    public void writeFloat64(final double value) throws IOException
+    {
+        writeLong(FloatUtil.convertDoubleToLong(value));
+    }
+
+    @Override
+    public void writeString(final String value) throws IOException
+    {
+        final byte[] bytes = value.getBytes(DEFAULT_CHARSET_NAME);
+        writeVarSize(bytes.length);
+        writeBytes(bytes, bytes.length);
+    }
+
+    @Override
+    public void writeBool(final boolean value) throws IOException
+    {
+        writeBitsImpl(value ? 1 : 0, 1);
+    }
+
+    @Override
+    public void writeVarInt16(final short value) throws IOException
+    {
+        try
+        {
+            writeVarNum(value, true, 2, BitSizeOfCalculator.getBitSizeOfVarInt16(value) / 8);
+        }
+        catch (ZserioError e)
+        {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void writeVarUInt16(final short value) throws IOException
+    {
+        try
+        {
+            writeVarNum(value, false, 2, BitSizeOfCalculator.getBitSizeOfVarUInt16(value) / 8);
+        }
+        catch (ZserioError e)
+        {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void writeVarInt32(final int value) throws IOException
+    {
+        try
+        {
+            writeVarNum(value, true, 4, BitSizeOfCalculator.getBitSizeOfVarInt32(value) / 8);
+        }
+        catch (ZserioError e)
+        {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void writeVarUInt32(final int value) throws IOException
+    {
+        try
+        {
+            writeVarNum(value, false, 4, BitSizeOfCalculator.getBitSizeOfVarUInt32(value) / 8);
+        }
+        catch (ZserioError e)
+        {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void writeVarInt64(final long value) throws IOException
+    {
+        try
+        {
+            writeVarNum(value, true, 8, BitSizeOfCalculator.getBitSizeOfVarInt64(value) / 8);
+        }
+        catch (ZserioError e)
+        {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void writeVarUInt64(final long value) throws IOException
+    {
+        try
+        {
+            writeVarNum(value, false, 8, BitSizeOfCalculator.getBitSizeOfVarUInt64(value) / 8);
+        }
+        catch (ZserioError e)
+        {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void writeVarInt(final long value) throws IOException
+    {
+        if (value == Long.MIN_VALUE)
+        {
+            writeByte(VARINT_MIN_VALUE);
+        }
+        else
+        {
+            writeVarNum(value, true, 9, BitSizeOfCalculator.getBitSizeOfVarInt(value) / 8);
+        }
+    }
+
+    @Override
+    public void writeVarUInt(final BigInteger value) throws IOException
+    {
+        try
+        {
+            // contains validity check, value fits into 64 bits
+            writeVarNum(value.longValue(), false, 9, BitSizeOfCalculator.getBitSizeOfVarUInt(value) / 8);
+        }
+        catch (ZserioError e)
+        {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void writeVarUIntLong(final long value) throws IOException
+    {
+        writeVarNum(value, false, 9, BitSizeOfCalculator.getBitSizeOfVarUIntLong(value) / 8);
+    }
+
+    @Override
+    public void writeVarSize(final int value) throws IOException
+    {
+        try
+        {
+            writeVarNum(value, false, 5, BitSizeOfCalculator.getBitSizeOfVarSize(value) / 8);
+        }
+        catch (ZserioError e)
+        {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void writeBitBuffer(final BitBuffer bitBuffer) throws IOException
+    {
+        final long bitSize = bitBuffer.getBitSize();
+        writeVarSize(VarSizeUtil.convertBitBufferSizeToInt(bitSize));
+
+        final byte[] writeBuffer = bitBuffer.getBuffer();
+        final int numBytesToWrite = (int)(bitSize / 8);
+        final int numRestBits = (int)(bitSize - (long)numBytesToWrite * 8);
+        writeBytes(writeBuffer, numBytesToWrite);
+        if (numRestBits > 0)
+            writeBitsImpl((writeBuffer[numBytesToWrite] & 0xff) >> (8 - numRestBits), numRestBits);
+    }
+
+    @Override
+    public long getBitPosition()
+    {
+        return bitPosition;
+    }
+
+    @Override
+    public int getBytePosition()
+    {
+        return (int)(bitPosition >>> 3);
+    }
+
+    @Override
+    public void setBitPosition(final long position) throws IOException
+    {
+        if (position < 0 || position > bitCapacity)
+            throw new IOException("ByteBufferBitStreamWriter: Bit position " + position +
+                    " is out of range [0, " + bitCapacity + "].");
+
+        bitPosition = position;
+    }
+
+    @Override
+    public void alignTo(final int alignVal) throws IOException
+    {
+        final long offset = bitPosition % alignVal;
+        if (offset != 0)
+        {
+            long bitsToSkip = alignVal - offset;
+            while (bitsToSkip > 0)
+            {
+                final int numBits = (int)Math.min(64, bitsToSkip);
+                writeBitsImpl(0, numBits);
+                bitsToSkip -= numBits;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        // nothing to do
+    }
+
+    /**
+     * Writes the given number of bytes from the source array.
+     *
+     * If the stream is aligned to byte, the bytes are copied directly to the buffer.
+     *
+     * @param src      Source array.
+     * @param numBytes Number of bytes to write.
+     *
+     * @throws IOException If the bytes do not fit into the buffer.
+     */
+    private void writeBytes(final byte[] src, final int numBytes) throws IOException
+    {
+        if ((bitPosition & BYTE_MOD_MASK) != 0)
+        {
+            for (int i = 0; i < numBytes; ++i)
+                writeBitsImpl(src[i], 8);
+            return;
+        }
+
+        checkCapacity((long)numBytes * 8);
+        final ByteBuffer destination = buffer.duplicate();
+        destination.position((int)(bitPosition >>> 3));
+        destination.put(src, 0, numBytes);
+        bitPosition += (long)numBytes * 8;
+    }
+
+    /**
+     * Writes a variable value with a given sign and the maximum number of variable bytes.
+     *
+     * @param value       Variable value to write, unsigned values can use all 64 bits.
+     * @param isSigned    A flag indicating if the value is signed.
+     * @param maxVarBytes The maximum number of variable bytes.
+     * @param numVarBytes The number of variable bytes.
+     *
+     * @throws IOException If the bytes cannot be written.
+     */
+    private void writeVarNum(final long value, final boolean isSigned, final int maxVarBytes,
+            final int numVarBytes) throws IOException
+    {
+        final boolean isNegative = isSigned && value < 0;
+        final long absValue = isNegative ? -value : value;
+        final boolean max = numVarBytes == maxVarBytes;
+        for (int i = 0; i < numVarBytes; i++)
+        {
+            final boolean hasNextByte = i < numVarBytes - 1;
+            final int extra = max && hasNextByte ? 1 : 0;
+            final int shift = (numVarBytes - (i + 1)) * 7 + extra;
+
+            long b = 0;
+            int numBits = 8;
+            if (isSigned && i == 0)
+            {
+                b |= (isNegative ? 1 : 0) << --numBits;
+            }
+            if (hasNextByte)
+            {
+                b |= 1L << --numBits;
+            }
+            else if (!max)
+            {
+                numBits--;
+            }
+            b |= (absValue >>> shift) & (-1L >>> (64 - numBits));
+            writeBitsImpl(b, 8);
+        }
+    }
+
+    /**
+     * Writes given number of least significant bits of value to the buffer.
+     *
+     * @param value   Value to write.
+     * @param numBits Number of bits of value to write.
+     *
+     * @throws IOException If the bits do not fit into the buffer.
+     */
+    private void writeBitsImpl(final long value, final int numBits) throws IOException
+    {
+        checkCapacity(numBits);
+
+        int bytePosition = (int)(bitPosition >>> 3);
+        final int bitOffset = (int)(bitPosition & BYTE_MOD_MASK);
+        int bitsToWrite = numBits;
+        bitPosition += numBits;
+
+        if (bitOffset != 0)
+        {
+            // first partial byte
+            final int freeBits = 8 - bitOffset;
+            if (bitsToWrite < freeBits)
+            {
+                final int shift = freeBits - bitsToWrite;
+                putMasked(bytePosition, (int)(value << shift), ((1 << bitsToWrite) - 1) << shift);
+                return;
+            }
+
+            bitsToWrite -= freeBits;
+            putMasked(bytePosition++, (int)(value >>> bitsToWrite), (1 << freeBits) - 1);
+        }
+
+        // full bytes
+        while (bitsToWrite >= 8)
+        {
+            bitsToWrite -= 8;
+            buffer.put(bytePosition++, (byte)(value >>> bitsToWrite));
+        }
+
+        // last partial byte
+        if (bitsToWrite > 0)
+        {
+            final int shift = 8 - bitsToWrite;
+            putMasked(bytePosition, (int)(value << shift), ((1 << bitsToWrite) - 1) << shift);
+        }
+    }
+
+    private void putMasked(final int bytePosition, final int value, final int mask)
+    {
+        buffer.put(bytePosition, (byte)((buffer.get(bytePosition) & ~mask) | (value & mask)));
+    }
+
+    private void checkCapacity(final long numBits) throws IOException
+    {
+        if (bitPosition + numBits > bitCapacity)
+            throw new IOException("ByteBufferBitStreamWriter: Unable to write " + numBits + " bits at bit " +
+                    "position " + bitPosition + ". It's beyond end of the buffer with bit size " + bitCapacity +
+                    ".");
+    }
+
+    private static final long BYTE_MOD_MASK = 0x7;
+
+    private static final String DEFAULT_CHARSET_NAME = "UTF-8";
+
+    /** Minimum VarInt value is Long.MIN_VALUE but it is encoded as -0. */
+    private static final byte VARINT_MIN_VALUE = (byte)0x80;
+
+    private final ByteBuffer buffer;
+    private final long bitCapacity;
+    private long bitPosition;
+}
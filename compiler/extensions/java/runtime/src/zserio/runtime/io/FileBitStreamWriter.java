@@ -1,12 +1,25 @@
 package zserio.runtime.io;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import zserio.runtime.ZserioError;
 
 /**
  * A bit stream writer using file.
+ * <p>
+ * Written data are buffered in memory and streamed to the file through a file channel whenever the buffer
+ * becomes full, thus the whole output is never held in memory. The file is created when the first data are
+ * flushed or when the writer is closed.</p>
+ * <p>
+ * Because flushed data cannot be changed anymore, it is not possible to set bit position before the already
+ * flushed data. Method toByteArray() reads the flushed data back from the file, thus it should be used only
+ * for small outputs.</p>
  */
 public class FileBitStreamWriter extends ByteArrayBitStreamWriter
 {
@@ -27,28 +40,186 @@ public class FileBitStreamWriter extends ByteArrayBitStreamWriter
      */
     public FileBitStreamWriter(final File file)
     {
+        this(file, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new file bit stream writer for the given file using the given buffer size.
+     *
+     * @param file       File to create bit stream writer from.
+     * @param bufferSize Size of the buffer in bytes which is used before data are flushed to the file.
+     */
+    public FileBitStreamWriter(final File file, final int bufferSize)
+    {
+        super(bufferSize);
         this.file = file;
     }
 
+    @Override
+    public long getBitPosition()
+    {
+        return 8 * flushedBytes + super.getBitPosition();
+    }
+
+    @Override
+    public int getBytePosition()
+    {
+        return (int)(flushedBytes + super.getBytePosition());
+    }
+
+    @Override
+    public void setBitPosition(final long bitPosition) throws IOException
+    {
+        final long flushedBits = 8 * flushedBytes;
+        if (bitPosition < flushedBits)
+            throw new IOException("FileBitStreamWriter: Cannot set bit position " + bitPosition +
+                    " before already flushed data which end at " + flushedBits + ".");
+
+        super.setBitPosition(bitPosition - flushedBits);
+    }
+
+    /**
+     * Gets all written data including the data which have been already flushed to the file.
+     * <p>
+     * The flushed data are read back from the file.</p>
+     *
+     * @return Written data as a byte array.
+     *
+     * @throws IOException If the flushed data cannot be read or if they do not fit into a byte array.
+     */
+    @Override
+    public byte[] toByteArray() throws IOException
+    {
+        if (closed)
+            return Files.readAllBytes(file.toPath());
+
+        final byte[] bufferedBytes = super.toByteArray();
+        if (flushedBytes == 0)
+            return bufferedBytes;
+
+        final long numBytes = flushedBytes + bufferedBytes.length;
+        if (numBytes > Integer.MAX_VALUE)
+            throw new IOException("FileBitStreamWriter: Written data of " + numBytes + " bytes are too big " +
+                    "for a byte array.");
+
+        final byte[] dest = new byte[(int)numBytes];
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(dest, 0, (int)flushedBytes);
+        while (byteBuffer.hasRemaining())
+        {
+            if (channel.read(byteBuffer, byteBuffer.position()) < 0)
+                throw new IOException("FileBitStreamWriter: Unexpected end of file " + file + ".");
+        }
+        System.arraycopy(bufferedBytes, 0, dest, (int)flushedBytes, bufferedBytes.length);
+
+        return dest;
+    }
+
+    /**
+     * Resets the writer to the beginning of the file so that it can be used again.
+     * <p>
+     * The already flushed data are truncated. If the writer has been closed, the file is written again when
+     * the writer is closed next time.</p>
+     *
+     * @throws ZserioError If the file cannot be truncated.
+     */
+    @Override
+    public void reset()
+    {
+        if (channel != null)
+        {
+            try
+            {
+                channel.truncate(0);
+            }
+            catch (IOException exception)
+            {
+                throw new ZserioError("FileBitStreamWriter: Cannot truncate file " + file + ": " + exception,
+                        exception);
+            }
+        }
+        flushedBytes = 0;
+        closed = false;
+        super.reset();
+    }
+
     @Override
     public void close() throws IOException
     {
-        final byte[] bytes = toByteArray();
-        final OutputStream os = new FileOutputStream(file);
+        if (closed)
+            return;
+        closed = true;
 
         try
         {
-            os.write(bytes, 0, bytes.length);
-            os.flush();
+            flushBits();
+            writeToChannel(bytePosition);
+            super.reset();
         }
         finally
         {
-            os.close();
+            if (channel != null)
+            {
+                channel.close();
+                channel = null;
+            }
+        }
+    }
+
+    @Override
+    protected void growBuffer(final int minCapacity) throws IOException
+    {
+        // flush all complete bytes and keep only the current partial byte in the buffer
+        final int numFlushedBytes = bytePosition;
+        if (numFlushedBytes > 0)
+        {
+            writeToChannel(numFlushedBytes);
+            final int usedLength = Math.min(numFlushedBytes + 1, buffer.length);
+            buffer[0] = (numFlushedBytes < buffer.length) ? buffer[numFlushedBytes] : 0;
+            Arrays.fill(buffer, 1, usedLength, (byte)0);
+            flushedBytes += numFlushedBytes;
+            bytePosition = 0;
+        }
+
+        final int remainingCapacity = minCapacity - numFlushedBytes;
+        if (remainingCapacity > buffer.length)
+            super.growBuffer(remainingCapacity);
+    }
+
+    private void writeToChannel(final int length) throws IOException
+    {
+        if (channel == null)
+        {
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
         }
+
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, length);
+        while (byteBuffer.hasRemaining())
+            channel.write(byteBuffer);
     }
 
     /**
      * The file for the bit stream writer.
      */
     private final File file;
+
+    /**
+     * The channel to the file, opened when the first data are flushed.
+     */
+    private FileChannel channel;
+
+    /**
+     * Number of bytes which have been already flushed to the file.
+     */
+    private long flushedBytes;
+
+    /**
+     * Flag whether the writer has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * Default size of the buffer in bytes.
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
 }
@@ -0,0 +1,98 @@
+package zserio.runtime.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A bit stream reader using memory mapped file.
+ *
+ * The file is mapped read-only in segments, so files bigger than Integer.MAX_VALUE bytes are supported and
+ * opening of the file does not depend on the file size. The data are read through the operating system page
+ * cache which is shared by all processes which read the same file.
+ */
+public class MappedFileBitStreamReader extends SegmentedBitStreamReader
+{
+    /**
+     * Creates a new mapped file bit stream reader with the specified file name.
+     *
+     * @param filename File name to create bit stream reader from.
+     *
+     * @throws IOException If file manipulation error occurred.
+     */
+    public MappedFileBitStreamReader(final String filename) throws IOException
+    {
+        this(new File(filename));
+    }
+
+    /**
+     * Creates a new mapped file bit stream reader with the specified file.
+     *
+     * @param file File to create bit stream reader from.
+     *
+     * @throws IOException If file manipulation error occurred.
+     */
+    public MappedFileBitStreamReader(final File file) throws IOException
+    {
+        this(file, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * Creates a new mapped file bit stream reader with the specified file and segment size.
+     *
+     * @param file         File to create bit stream reader from.
+     * @param segmentShift Binary logarithm of the segment size in bytes.
+     *
+     * @throws IOException If file manipulation error occurred.
+     */
+    MappedFileBitStreamReader(final File file, final int segmentShift) throws IOException
+    {
+        this(mapFile(file, segmentShift), segmentShift);
+    }
+
+    private MappedFileBitStreamReader(final ByteBuffer[] segments, final int segmentShift)
+    {
+        super(segments, segmentShift, getByteSize(segments) * 8);
+    }
+
+    private static ByteBuffer[] mapFile(final File file, final int segmentShift) throws IOException
+    {
+        final FileInputStream is = new FileInputStream(file);
+
+        try
+        {
+            final FileChannel channel = is.getChannel();
+            final long size = channel.size();
+            final long segmentSize = 1L << segmentShift;
+            final int numSegments = (int)((size + segmentSize - 1) >>> segmentShift);
+            final ByteBuffer[] segments = new ByteBuffer[numSegments];
+            for (int i = 0; i < numSegments; ++i)
+            {
+                final long position = (long)i << segmentShift;
+                // the mapping stays valid even after the channel is closed
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(segmentSize, size - position));
+            }
+
+            return segments;
+        }
+        finally
+        {
+            is.close();
+        }
+    }
+
+    private static long getByteSize(final ByteBuffer[] segments)
+    {
+        long byteSize = 0;
+        for (ByteBuffer segment : segments)
+            byteSize += segment.limit();
+
+        return byteSize;
+    }
+
+    /** Default segment size is 1GB. */
+    private static final int DEFAULT_SEGMENT_SHIFT = 30;
+}
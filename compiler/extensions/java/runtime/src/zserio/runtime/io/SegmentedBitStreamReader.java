@@ -0,0 +1,454 @@
+package zserio.runtime.io;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import zserio.runtime.FloatUtil;
+import zserio.runtime.ZserioError;
+
+/**
+ * Common abstract class for bit stream readers which read from a sequence of byte buffers.
+ *
+ * The underlying data are split into segments of the same size (a power of two) which allows to address more
+ * than Integer.MAX_VALUE bytes using long bit positions. Only the last segment can be shorter. Values are read
+ * directly from the segments using absolute gets, so no data are copied to the heap.
+ */
+abstract class SegmentedBitStreamReader implements BitStreamReader
+{
+    /**
+     * Constructor.
+     *
+     * @param segments     Big endian byte buffers indexed from zero which hold the data.
+     * @param segmentShift Binary logarithm of the segment size in bytes.
+     * @param bitSize      Number of bits which are available for reading.
+     */
+    protected SegmentedBitStreamReader(final ByteBuffer[] segments, final int segmentShift, final long bitSize)
+    {
+        this.segments = segments;
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1;
+        this.bitSize = bitSize;
+    }
+
+    @Override
+    public long readSignedBits(final int numBits) throws IOException
+    {
+        long result = readBits(numBits);
+
+        // perform a sign extension if needed (numBits == 64 does not need sign extension)
+        if (numBits < 64 && (result & (1L << (numBits - 1))) != 0)
+            result |= (-1L << numBits);
+
+        return result;
+    }
+
+    @Override
+    public long readBits(final int numBits) throws IOException
+    {
+        if (numBits <= 0 || numBits > 64)
+            throw new IllegalArgumentException("SegmentedBitStreamReader: Number of bits " + numBits +
+                    " is out of range [1, 64].");
+        checkAvailable(numBits);
+
+        final long bytePosition = bitPosition >>> 3;
+        final int bitOffset = (int)(bitPosition & BYTE_MOD_MASK);
+        final ByteBuffer segment = segments[(int)(bytePosition >>> segmentShift)];
+        final int index = (int)(bytePosition & segmentMask);
+
+        long result;
+        if (index <= segment.limit() - MAX_BYTES_PER_READ)
+        {
+            // fast path, the whole value lies in one segment
+            final int numReadBits = bitOffset + numBits;
+            final long word = segment.getLong(index) << bitOffset;
+            result = word >>> (64 - numBits);
+            if (numReadBits > 64)
+                result |= (segment.get(index + 8) & 0xff) >>> (72 - numReadBits);
+        }
+        else
+        {
+            result = readBitsSlow(bytePosition, bitOffset, numBits);
+        }
+
+        bitPosition += numBits;
+
+        return result;
+    }
+
+    @Override
+    public byte readByte() throws IOException
+    {
+        return (byte)readBits(8);
+    }
+
+    @Override
+    public short readUnsignedByte() throws IOException
+    {
+        return (short)readBits(8);
+    }
+
+    @Override
+    public short readShort() throws IOException
+    {
+        return (short)readBits(16);
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException
+    {
+        return (int)readBits(16);
+    }
+
+    @Override
+    public int readInt() throws IOException
+    {
+        return (int)readBits(32);
+    }
+
+    @Override
+    public long readUnsignedInt() throws IOException
+    {
+        return readBits(32);
+    }
+
+    @Override
+    public long readLong() throws IOException
+    {
+        return readBits(64);
+    }
+
+    @Override
+    public long readUnsignedLong(final int numBits) throws IOException
+    {
+        return readBits(numBits);
+    }
+
+    @Override
+    public BigInteger readBigInteger(final int numBits) throws IOException
+    {
+        if (numBits < 64)
+            return BigInteger.valueOf(readBits(numBits));
+
+        BigInteger result = BigInteger.ZERO;
+        int bitsToRead = numBits;
+        while (bitsToRead > 0)
+        {
+            final int chunkBits = Math.min(bitsToRead, 32);
+            result = result.shiftLeft(chunkBits).or(BigInteger.valueOf(readBits(chunkBits)));
+            bitsToRead -= chunkBits;
+        }
+
+        return result;
+    }
+
+    @Override
+    public BigInteger readSignedBigInteger(final int numBits) throws IOException
+    {
+        BigInteger result = readBigInteger(numBits);
+        if (result.testBit(numBits - 1))
+            result = result.subtract(BigInteger.ONE.shiftLeft(numBits));
+
+        return result;
+    }
+
+    @Override
+    public float readFloat16() throws IOException
+    {
+        return FloatUtil.convertShortToFloat(readShort());
+    }
+
+    @Override
+    public float readFloat32() throws IOException
+    {
+        return FloatUtil.convertIntToFloat(readInt());
+    }
+
+    @Override
+    public double readFloat64() throws IOException
+    {
+        return FloatUtil.convertLongToDouble(readLong());
+    }
+
+    @Override
+    public String readString() throws IOException
+    {
+        final int numBytes = readVarSize();
+        final byte[] bytes = new byte[numBytes];
+        readBytes(bytes, numBytes);
+
+        return new String(bytes, DEFAULT_CHARSET_NAME);
+    }
+
+    @Override
+    public boolean readBool() throws IOException
+    {
+        return readBits(1) == 1;
+    }
+
+    @Override
+    public short readVarInt16() throws IOException
+    {
+        return (short)readVarNum(true, 2);
+    }
+
+    @Override
+    public int readVarInt32() throws IOException
+    {
+        return (int)readVarNum(true, 4);
+    }
+
+    @Override
+    public long readVarInt64() throws IOException
+    {
+        return readVarNum(true, 8);
+    }
+
+    @Override
+    public short readVarUInt16() throws IOException
+    {
+        return (short)readVarNum(false, 2);
+    }
+
+    @Override
+    public int readVarUInt32() throws IOException
+    {
+        return (int)readVarNum(false, 4);
+    }
+
+    @Override
+    public long readVarUInt64() throws IOException
+    {
+        return readVarNum(false, 8);
+    }
+
+    @Override
+    public long readVarInt() throws IOException
+    {
+        final long firstByte = readBits(8);
+        if (firstByte == VARINT_MIN_VALUE)
+            return Long.MIN_VALUE; // -0 encodes the minimum value
+
+        bitPosition -= 8;
+        return readVarNum(true, 9);
+    }
+
+    @Override
+    public BigInteger readVarUInt() throws IOException
+    {
+        final long result = readVarNum(false, 9);
+
+        return (result < 0) ? BigInteger.valueOf(result).add(UINT64_RANGE) : BigInteger.valueOf(result);
+    }
+
+    @Override
+    public long readVarUIntLong() throws IOException
+    {
+        return readVarNum(false, 9);
+    }
+
+    @Override
+    public int readVarSize() throws IOException
+    {
+        final long result = readVarNum(false, 5);
+        if (result > VARSIZE_MAX_VALUE)
+            throw new IOException("SegmentedBitStreamReader: Read value '" + result +
+                    "' is out of range for varsize type!");
+
+        return (int)result;
+    }
+
+    @Override
+    public BitBuffer readBitBuffer() throws IOException
+    {
+        final int bitSize = readVarSize();
+        final int numBytesToRead = bitSize / 8;
+        final int numRestBits = bitSize - numBytesToRead * 8;
+        final byte[] readBuffer = new byte[(bitSize + 7) / 8];
+        readBytes(readBuffer, numBytesToRead);
+        if (numRestBits != 0)
+            readBuffer[numBytesToRead] = (byte)(readBits(numRestBits) << (8 - numRestBits));
+
+        return new BitBuffer(readBuffer, bitSize, false);
+    }
+
+    @Override
+    public long getBitPosition()
+    {
+        return bitPosition;
+    }
+
+    @Override
+    public int getBytePosition()
+    {
+        final long bytePosition = bitPosition >>> 3;
+        if (bytePosition > Integer.MAX_VALUE)
+            throw new ZserioError("SegmentedBitStreamReader: Byte position " + bytePosition +
+                    " cannot be represented by int, use getBitPosition() instead.");
+
+        return (int)bytePosition;
+    }
+
+    @Override
+    public void setBitPosition(final long position) throws IOException
+    {
+        if (position < 0 || position > bitSize)
+            throw new IOException("SegmentedBitStreamReader: Bit position " + position +
+                    " is out of range [0, " + bitSize + "].");
+
+        bitPosition = position;
+    }
+
+    @Override
+    public void alignTo(final int alignVal) throws IOException
+    {
+        final long offset = bitPosition % alignVal;
+        if (offset != 0)
+            setBitPosition(bitPosition + alignVal - offset);
+    }
+
+    @Override
+    public long getBufferBitSize()
+    {
+        return bitSize;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        // nothing to do
+    }
+
+    /**
+     * Reads the given number of bytes into the destination array.
+     *
+     * If the stream is aligned to byte, the bytes are copied directly from the segments.
+     *
+     * @param dest     Destination array.
+     * @param numBytes Number of bytes to read.
+     *
+     * @throws IOException If the stream does not contain enough bits.
+     */
+    private void readBytes(final byte[] dest, final int numBytes) throws IOException
+    {
+        if ((bitPosition & BYTE_MOD_MASK) != 0)
+        {
+            for (int i = 0; i < numBytes; ++i)
+                dest[i] = (byte)readBits(8);
+            return;
+        }
+
+        checkAvailable((long)numBytes * 8);
+
+        long bytePosition = bitPosition >>> 3;
+        int offset = 0;
+        while (offset < numBytes)
+        {
+            final ByteBuffer segment = segments[(int)(bytePosition >>> segmentShift)].duplicate();
+            final int index = (int)(bytePosition & segmentMask);
+            final int length = Math.min(numBytes - offset, segment.limit() - index);
+            segment.position(index);
+            segment.get(dest, offset, length);
+            offset += length;
+            bytePosition += length;
+        }
+        bitPosition = bytePosition << 3;
+    }
+
+    private long readBitsSlow(final long startBytePosition, final int bitOffset, final int numBits)
+    {
+        long bytePosition = startBytePosition;
+        int bitsToRead = bitOffset + numBits;
+        long accum = getUnsignedByte(bytePosition++) & (0xff >>> bitOffset);
+        bitsToRead -= 8;
+
+        if (bitsToRead < 0)
+        {
+            // less than already read byte is needed
+            accum = accum >>> -bitsToRead;
+        }
+        else
+        {
+            // full bytes
+            while (bitsToRead >= 8)
+            {
+                accum = (accum << 8) | getUnsignedByte(bytePosition++);
+                bitsToRead -= 8;
+            }
+
+            // last few bits
+            if (bitsToRead > 0)
+                accum = (accum << bitsToRead) | (getUnsignedByte(bytePosition) >>> (8 - bitsToRead));
+        }
+
+        return accum;
+    }
+
+    private long readVarNum(final boolean isSigned, final int maxVarBytes) throws IOException
+    {
+        long b = readBits(8); // byte 1
+        final boolean isNegative = isSigned && (b & VARINT_SIGN_1) != 0;
+        long result = b & (isSigned ? VARINT_BYTE_1 : VARUINT_BYTE);
+        boolean hasNext = (b & (isSigned ? VARINT_HAS_NEXT_1 : VARUINT_HAS_NEXT)) != 0;
+        for (int i = 1; hasNext; ++i)
+        {
+            b = readBits(8);
+            if (i == maxVarBytes - 1)
+            {
+                // last possible byte does not have the 'has next' bit
+                result = result << 8 | b;
+                hasNext = false;
+            }
+            else
+            {
+                result = result << 7 | (b & VARUINT_BYTE);
+                hasNext = (b & VARUINT_HAS_NEXT) != 0;
+            }
+        }
+
+        return isNegative ? -result : result;
+    }
+
+    private int getUnsignedByte(final long bytePosition)
+    {
+        return segments[(int)(bytePosition >>> segmentShift)].get((int)(bytePosition & segmentMask)) & 0xff;
+    }
+
+    private void checkAvailable(final long numBits) throws IOException
+    {
+        if (bitPosition + numBits > bitSize)
+            throw new IOException("SegmentedBitStreamReader: Unable to read " + numBits + " bits at bit " +
+                    "position " + bitPosition + ". It's beyond end of the stream with bit size " + bitSize +
+                    ".");
+    }
+
+    /** Maximum number of bytes touched by one readBits call (64 bits at non-zero bit offset). */
+    private static final int MAX_BYTES_PER_READ = 9;
+
+    private static final long BYTE_MOD_MASK = 0x7;
+
+    private static final String DEFAULT_CHARSET_NAME = "UTF-8";
+
+    /** Variable length integer sing bit mask for first byte. */
+    private static final short VARINT_SIGN_1 = 0x80;
+    /** Variable length integer value bit mask for first byte. */
+    private static final short VARINT_BYTE_1 = 0x3f;
+    /** Variable length integer 'has next' bit mask for first byte. */
+    private static final short VARINT_HAS_NEXT_1 = 0x40;
+    /** Minimum VarInt value is Long.MIN_VALUE but it is encoded as -0. */
+    private static final long VARINT_MIN_VALUE = 0x80;
+
+    /** Variable length integer value bit mask. */
+    private static final short VARUINT_BYTE = 0x7f;
+    /** Variable length integer 'has next' bit mask. */
+    private static final short VARUINT_HAS_NEXT = 0x80;
+
+    private static final long VARSIZE_MAX_VALUE = Integer.MAX_VALUE;
+    private static final BigInteger UINT64_RANGE = BigInteger.ONE.shiftLeft(64);
+
+    private final ByteBuffer[] segments;
+    private final int segmentShift;
+    private final long segmentMask;
+    private final long bitSize;
+    private long bitPosition;
+}
@@ -0,0 +1,112 @@
+package zserio.runtime.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Cache of decoded strings used by bit stream readers to deduplicate repeated short strings.
+ *
+ * The cache is a fixed size direct mapped table indexed by hash of the UTF-8 encoded string bytes. Strings
+ * found in the cache are returned without any allocation, strings longer than the configured maximum are
+ * always decoded.
+ *
+ * The cache is not thread safe. It is intended to be used by one reader at a time.
+ */
+public final class StringCache
+{
+    /**
+     * Constructor with default capacity and default maximum string byte size.
+     */
+    public StringCache()
+    {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_STRING_BYTE_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity          Number of cache entries, rounded up to the power of two.
+     * @param maxStringByteSize Maximum number of bytes of the encoded string which can be cached.
+     *
+     * @throws IllegalArgumentException If the capacity is not in range [1, 2^30] or if the maximum string
+     *                                  byte size is negative.
+     */
+    public StringCache(final int capacity, final int maxStringByteSize) throws IllegalArgumentException
+    {
+        if (capacity <= 0 || capacity > MAX_CAPACITY)
+            throw new IllegalArgumentException("StringCache: Capacity " + capacity + " is out of range [1, " +
+                    MAX_CAPACITY + "].");
+        if (maxStringByteSize < 0)
+            throw new IllegalArgumentException("StringCache: Maximum string byte size " + maxStringByteSize +
+                    " cannot be negative.");
+
+        final int tableSize = (capacity == 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.keys = new byte[tableSize][];
+        this.values = new String[tableSize];
+        this.mask = tableSize - 1;
+        this.maxStringByteSize = maxStringByteSize;
+    }
+
+    /**
+     * Removes all cached strings.
+     */
+    public void clear()
+    {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+    }
+
+    /**
+     * Decodes UTF-8 string from the given bytes using the cache.
+     *
+     * @param bytes  Array which contains the encoded string.
+     * @param offset Offset of the first byte of the encoded string.
+     * @param length Number of bytes of the encoded string.
+     *
+     * @return Decoded string.
+     */
+    String decode(final byte[] bytes, final int offset, final int length)
+    {
+        if (length > maxStringByteSize)
+            return new String(bytes, offset, length, StandardCharsets.UTF_8);
+
+        int hash = length;
+        for (int i = offset; i < offset + length; ++i)
+            hash = 31 * hash + bytes[i];
+        final int slot = (hash ^ (hash >>> 16)) & mask;
+
+        final byte[] cachedBytes = keys[slot];
+        if (cachedBytes != null && isEqual(cachedBytes, bytes, offset, length))
+            return values[slot];
+
+        final String value = new String(bytes, offset, length, StandardCharsets.UTF_8);
+        keys[slot] = Arrays.copyOfRange(bytes, offset, offset + length);
+        values[slot] = value;
+
+        return value;
+    }
+
+    private static boolean isEqual(final byte[] cachedBytes, final byte[] bytes, final int offset,
+            final int length)
+    {
+        if (cachedBytes.length != length)
+            return false;
+
+        for (int i = 0; i < length; ++i)
+        {
+            if (cachedBytes[i] != bytes[offset + i])
+                return false;
+        }
+
+        return true;
+    }
+
+    private final byte[][] keys;
+    private final String[] values;
+    private final int mask;
+    private final int maxStringByteSize;
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int DEFAULT_MAX_STRING_BYTE_SIZE = 64;
+    private static final int MAX_CAPACITY = 1 << 30;
+}
@@ -1,11 +1,15 @@
 package zserio.runtime.io;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
+import zserio.runtime.SizeOf;
 import zserio.runtime.ZserioError;
 
 /**
@@ -31,6 +35,9 @@ public final class ZserioIO
 
     /**
      * Takes a Zserio object, writes it to a byte array stream and returns the resulting byte array.
+     * <p>
+     * If the object implements {@link SizeOf}, the byte array is allocated with the exact size given by
+     * bitSizeOf() and the object is written directly into it.</p>
      *
      * @param <E> Zserio class generated by Zserio.
      * @param obj Zserio object of the given class.
@@ -39,6 +46,15 @@ public final class ZserioIO
      */
     public static <E extends Writer> byte[] write(final E obj) throws ZserioError
     {
+        if (obj instanceof SizeOf)
+        {
+            final byte[] byteArray = new byte[getByteSize((SizeOf)obj)];
+            final int numWrittenBytes = write(obj, ByteBuffer.wrap(byteArray));
+
+            return (numWrittenBytes == byteArray.length) ? byteArray :
+                    Arrays.copyOf(byteArray, numWrittenBytes);
+        }
+
         try
         {
             final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
@@ -53,45 +69,126 @@ public final class ZserioIO
     }
 
     /**
-     * A "virtual constructor", building a Zserio object of a given class, reading from a byte array.
+     * Takes a Zserio object and writes it to the given byte array.
      *
      * @param <E>       Zserio class generated by Zserio.
-     * @param clazz     The Class instance of the given class.
-     * @param byteArray Byte array to be read.
+     * @param obj       Zserio object of the given class.
+     * @param byteArray Byte array to write to.
      *
-     * @return Zserio object of the given class.
+     * @return Number of written bytes.
+     *
+     * @throws ZserioError If the serialized object does not fit into the given byte array.
      */
-    public static <E> E read(final Class<E> clazz, final byte[] byteArray) throws ZserioError
+    public static <E extends Writer> int write(final E obj, final byte[] byteArray) throws ZserioError
+    {
+        return write(obj, ByteBuffer.wrap(byteArray));
+    }
+
+    /**
+     * Takes a Zserio object and writes it to the remaining bytes of the given byte buffer.
+     * <p>
+     * Both heap and direct buffers are supported. Unused bits of the last written byte are set to zero. The
+     * position of the buffer is advanced by the number of written bytes.</p>
+     *
+     * @param <E>    Zserio class generated by Zserio.
+     * @param obj    Zserio object of the given class.
+     * @param buffer Byte buffer to write to.
+     *
+     * @return Number of written bytes.
+     *
+     * @throws ZserioError If the serialized object does not fit into the remaining bytes of the given buffer.
+     */
+    public static <E extends Writer> int write(final E obj, final ByteBuffer buffer) throws ZserioError
     {
         try
         {
-            final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(byteArray);
-            final Constructor<E> constructor = clazz.getConstructor(BitStreamReader.class);
-            return constructor.newInstance(reader);
+            final ByteBufferBitStreamWriter writer = new ByteBufferBitStreamWriter(buffer);
+            obj.write(writer);
+            writer.alignTo(Byte.SIZE);
+            writer.close();
+
+            final int numWrittenBytes = writer.getBytePosition();
+            buffer.position(buffer.position() + numWrittenBytes);
+
+            return numWrittenBytes;
         }
-        catch (final SecurityException exc)
+        catch (final IOException exc)
         {
             throw new ZserioError("ZserioIO: " + exc);
         }
-        catch (final NoSuchMethodException exc)
+    }
+
+    /**
+     * Takes a Zserio object, writes it using a writer pooled per thread and returns the resulting byte array.
+     * <p>
+     * The underlying buffer of the pooled writer is reused by subsequent calls in the same thread, thus the
+     * size of the object need not be calculated in advance and the buffer does not grow once it is large
+     * enough. Writers which have grown above {@value #MAX_POOLED_WRITER_CAPACITY} bytes are not kept in the
+     * pool.</p>
+     *
+     * @param <E> Zserio class generated by Zserio.
+     * @param obj Zserio object of the given class.
+     *
+     * @return Byte array with a serialized version of the given object.
+     */
+    public static <E extends Writer> byte[] writePooled(final E obj) throws ZserioError
+    {
+        // the writer is removed from the pool while it is used to support nested calls
+        ByteArrayBitStreamWriter writer = POOLED_WRITERS.get();
+        if (writer == null)
+            writer = new ByteArrayBitStreamWriter();
+        else
+            POOLED_WRITERS.remove();
+
+        try
         {
-            throw new ZserioError("ZserioIO: " + exc);
+            obj.write(writer);
+            writer.close();
+            final byte[] byteArray = writer.toByteArray();
+            if (byteArray.length <= MAX_POOLED_WRITER_CAPACITY)
+            {
+                writer.reset();
+                POOLED_WRITERS.set(writer);
+            }
+
+            return byteArray;
         }
-        catch (final IllegalArgumentException exc)
+        catch (final IOException exc)
         {
             throw new ZserioError("ZserioIO: " + exc);
         }
-        catch (final InstantiationException exc)
+    }
+
+    /**
+     * A "virtual constructor", building a Zserio object of a given class, reading from a byte array.
+     *
+     * The constructor of the given class is looked up only once and cached.
+     *
+     * @param <E>       Zserio class generated by Zserio.
+     * @param clazz     The Class instance of the given class.
+     * @param byteArray Byte array to be read.
+     *
+     * @return Zserio object of the given class.
+     */
+    public static <E> E read(final Class<E> clazz, final byte[] byteArray) throws ZserioError
+    {
+        final MethodHandle constructor = READER_CONSTRUCTORS.get(clazz);
+        final BitStreamReader reader = new ByteArrayBitStreamReader(byteArray);
+        try
         {
-            throw new ZserioError("ZserioIO: " + exc);
+            return clazz.cast((Object)constructor.invokeExact(reader));
         }
-        catch (final IllegalAccessException exc)
+        catch (final ZserioError exc)
         {
-            throw new ZserioError("ZserioIO: " + exc);
+            throw exc;
         }
-        catch (final InvocationTargetException exc)
+        catch (final Error exc)
         {
-            throw new ZserioError("ZserioIO: " + exc);
+            throw exc;
+        }
+        catch (final Throwable exc)
+        {
+            throw new ZserioError("ZserioIO: " + exc, exc);
         }
     }
 
@@ -99,6 +196,8 @@ public final class ZserioIO
      * A "virtual constructor", building a Zserio object of a given class, reading from a byte array and
      * passing additional arguments to the Zserio object constructor.
      *
+     * Public constructors of the given class are looked up only once and cached.
+     *
      * @param <E>       Zserio class generated by Zserio.
      * @param clazz     Class instance of the given class.
      * @param byteArray Byte array to be read.
@@ -109,27 +208,19 @@ public final class ZserioIO
     public static <E> E read(final Class<E> clazz, final byte[] byteArray, final Object... args)
             throws ZserioError
     {
-        try
-        {
-            final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(byteArray);
+        // build argument array
+        final Object[] argArray = new Object[args.length + 1];
+        argArray[0] = new ByteArrayBitStreamReader(byteArray);
+        System.arraycopy(args, 0, argArray, 1, args.length);
 
-            // build argument array
-            final ArrayList<Object> argList = new ArrayList<Object>();
-            argList.add(reader);
-            for (final Object arg : args)
-            {
-                argList.add(arg);
-            }
+        // find a matching constructor for these arguments
+        final Constructor<?> constructor = CONSTRUCTORS.get(clazz).find(argArray);
+        if (constructor == null)
+            throw new ZserioError("ZserioIO: No matching constructor found.");
 
-            // find a matching constructor for these arguments
-            final Constructor<E> constructor = findConstructor(clazz, argList);
-            if (constructor == null)
-                throw new ZserioError("ZserioIO: No matching constructor found.");
-
-            Object[] argArray = new Object[argList.size()];
-            argArray = argList.toArray(argArray);
-
-            return constructor.newInstance(argArray);
+        try
+        {
+            return clazz.cast(constructor.newInstance(argArray));
         }
         catch (final IllegalArgumentException exc)
         {
@@ -150,49 +241,17 @@ public final class ZserioIO
     }
 
     /**
-     * Finds a constructor for a given class matching a given argument list. For primitive paramter types,
-     * a boxed argument will be regarded as a a match, e.g. an Integer argument will match an int paramter.
+     * Gets number of bytes needed to store the given object.
      *
-     * @param <E>     Class to be constructed.
-     * @param clazz   Class instance of this class.
-     * @param argList Argument list for constructor.
+     * @param obj Zserio object.
      *
-     * @return Matching constructor, or null if there is no match.
+     * @return Size of the object in bytes.
      */
-    @SuppressWarnings("unchecked")
-    private static <E> Constructor<E> findConstructor(final Class<E> clazz, final List<Object> argList)
+    private static int getByteSize(final SizeOf obj)
     {
-        final Constructor<?>[] constructors = clazz.getConstructors();
-
-        // Iterate over constructors and match arguments
-        for (final Constructor<?> constr : constructors)
-        {
-            final Class<?>[] parameterTypes = constr.getParameterTypes();
-
-            // No match if number of arguments is not equal to number of
-            // parameters
-            if (argList.size() != parameterTypes.length)
-            {
-                continue;
-            }
+        final long bitSize = obj.bitSizeOf();
 
-            // Now try to match each argument
-            boolean match = true;
-            for (int i = 0; i < argList.size(); i++)
-            {
-                final Class<?> type = parameterTypes[i];
-                final Object arg = argList.get(i);
-                if (!isAssignableFrom(type, arg.getClass()))
-                {
-                    match = false;
-                }
-            }
-            if (match)
-            {
-                return (Constructor<E>)constr;
-            }
-        }
-        return null;
+        return (int)((bitSize + Byte.SIZE - 1) / Byte.SIZE);
     }
 
     /**
@@ -247,4 +306,97 @@ public final class ZserioIO
         }
         return left.isAssignableFrom(right);
     }
+
+    /**
+     * Public constructors of a class together with their parameter types.
+     */
+    private static final class Constructors
+    {
+        /**
+         * Constructor.
+         *
+         * @param clazz Class which constructors to hold.
+         */
+        public Constructors(final Class<?> clazz)
+        {
+            constructors = clazz.getConstructors();
+            parameterTypes = new Class<?>[constructors.length][];
+            for (int i = 0; i < constructors.length; i++)
+                parameterTypes[i] = constructors[i].getParameterTypes();
+        }
+
+        /**
+         * Finds a constructor matching a given argument array. For primitive paramter types, a boxed argument
+         * will be regarded as a a match, e.g. an Integer argument will match an int paramter.
+         *
+         * @param args Argument array for constructor.
+         *
+         * @return Matching constructor, or null if there is no match.
+         */
+        public Constructor<?> find(final Object[] args)
+        {
+            // Iterate over constructors and match arguments
+            for (int i = 0; i < constructors.length; i++)
+            {
+                final Class<?>[] types = parameterTypes[i];
+
+                // No match if number of arguments is not equal to number of parameters
+                if (args.length != types.length)
+                    continue;
+
+                // Now try to match each argument
+                boolean match = true;
+                for (int j = 0; j < args.length && match; j++)
+                    match = isAssignableFrom(types[j], args[j].getClass());
+
+                if (match)
+                    return constructors[i];
+            }
+
+            return null;
+        }
+
+        private final Constructor<?>[] constructors;
+        private final Class<?>[][] parameterTypes;
+    }
+
+    /** Maximum capacity of writers which are kept in the pool. */
+    private static final int MAX_POOLED_WRITER_CAPACITY = 1024 * 1024;
+
+    /** Pool of writers, one per thread. */
+    private static final ThreadLocal<ByteArrayBitStreamWriter> POOLED_WRITERS =
+            new ThreadLocal<ByteArrayBitStreamWriter>();
+
+    /** Cache of constructors taking only the bit stream reader. */
+    private static final ClassValue<MethodHandle> READER_CONSTRUCTORS = new ClassValue<MethodHandle>()
+    {
+        @Override
+        protected MethodHandle computeValue(final Class<?> type)
+        {
+            try
+            {
+                final MethodHandle constructor = MethodHandles.publicLookup().findConstructor(type,
+                        MethodType.methodType(void.class, BitStreamReader.class));
+                return constructor.asType(MethodType.methodType(Object.class, BitStreamReader.class));
+            }
+            catch (final NoSuchMethodException exc)
+            {
+                throw new ZserioError("ZserioIO: " + exc);
+            }
+            catch (final IllegalAccessException exc)
+            {
+                throw new ZserioError("ZserioIO: " + exc);
+            }
+        }
+    };
+
+    /** Cache of all public constructors. */
+    private static final ClassValue<Constructors> CONSTRUCTORS = new ClassValue<Constructors>()
+    {
+        @Override
+        protected Constructors computeValue(final Class<?> type)
+        {
+            return new Constructors(type);
+        }
+    };
 }
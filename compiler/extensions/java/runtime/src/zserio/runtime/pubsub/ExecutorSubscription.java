@@ -0,0 +1,332 @@
+package zserio.runtime.pubsub;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Subscription callback which decodes and delivers messages on an executor.
+ * <p>
+ * The transport thread only puts the received message to a bounded queue, thus a slow subscriber never
+ * stalls the transport. Messages are decoded and passed to the user callback by one executor task at a time,
+ * thus the callback is never invoked concurrently and messages are delivered in the order of arrival. When
+ * the queue is full, the given {@link SubscriptionQueuePolicy} is applied.</p>
+ * <p>
+ * The subscription is used by generated Pub/Sub classes. Messages received as objects from a backend which
+ * implements {@link ObjectPubsubInterface} are delivered without decoding. Exceptions thrown by decoding or
+ * by the user callback are passed to the uncaught exception handler of the executor thread.</p>
+ *
+ * @param <T> Type of the messages - e.g. structure.
+ */
+public final class ExecutorSubscription<T>
+        implements PubsubInterface.Callback, ObjectPubsubInterface.ObjectCallback, SubscriptionMetrics
+{
+    /**
+     * Decoder of messages from the raw data.
+     *
+     * @param <T> Type of the messages.
+     */
+    public interface Decoder<T>
+    {
+        /**
+         * Decodes a message.
+         *
+         * @param data Message's data as a byte array.
+         *
+         * @return Decoded message.
+         */
+        T decode(byte[] data);
+    };
+
+    /**
+     * Constructor.
+     *
+     * @param decoder       Decoder of messages.
+     * @param callback      User callback to invoke on the executor.
+     * @param executor      Executor used to decode and deliver messages.
+     * @param queueCapacity Maximum number of undelivered messages.
+     * @param queuePolicy   Policy applied when the queue is full.
+     */
+    public ExecutorSubscription(Decoder<T> decoder, PubsubCallback<T> callback, Executor executor,
+            int queueCapacity, SubscriptionQueuePolicy queuePolicy)
+    {
+        if (queueCapacity <= 0)
+        {
+            throw new IllegalArgumentException("ExecutorSubscription: Invalid queue capacity " +
+                    queueCapacity + "!");
+        }
+
+        this.decoder = decoder;
+        this.callback = callback;
+        this.executor = executor;
+        this.queueCapacity = queueCapacity;
+        this.queuePolicy = queuePolicy;
+        queue = new ArrayDeque<Message>(queueCapacity);
+    }
+
+    @Override
+    public void invoke(String topic, byte[] data)
+    {
+        enqueue(new Message(topic, data, null));
+    }
+
+    @Override
+    public void invoke(String topic, Object message)
+    {
+        enqueue(new Message(topic, null, message));
+    }
+
+    /**
+     * Closes the subscription.
+     * <p>
+     * Undelivered messages are discarded, only the message which is just being delivered can still reach
+     * the user callback. Transport threads blocked by the {@link SubscriptionQueuePolicy#BLOCK} policy are
+     * released.</p>
+     */
+    public void close()
+    {
+        lock.lock();
+        try
+        {
+            closed = true;
+            queue.clear();
+            notFull.signalAll();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getQueueDepth()
+    {
+        lock.lock();
+        try
+        {
+            return queue.size();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getMaxQueueDepth()
+    {
+        return maxQueueDepth;
+    }
+
+    @Override
+    public long getNumDecodedMessages()
+    {
+        return numDecodedMessages.get();
+    }
+
+    @Override
+    public long getDecodeTimeNanos()
+    {
+        return decodeTimeNanos.get();
+    }
+
+    @Override
+    public long getNumDroppedMessages()
+    {
+        return numDroppedMessages.get();
+    }
+
+    private void enqueue(Message message)
+    {
+        boolean schedule = false;
+        lock.lock();
+        try
+        {
+            if (closed)
+                return;
+
+            if (!coalesce(message))
+            {
+                if (!makeSpace())
+                    return;
+
+                queue.addLast(message);
+                if (queue.size() > maxQueueDepth)
+                    maxQueueDepth = queue.size();
+            }
+
+            if (!scheduled)
+            {
+                scheduled = true;
+                schedule = true;
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        if (schedule)
+            schedule();
+    }
+
+    // called under the lock
+    private boolean coalesce(Message message)
+    {
+        if (queuePolicy != SubscriptionQueuePolicy.COALESCE_LATEST)
+            return false;
+
+        for (Message queuedMessage : queue)
+        {
+            if (queuedMessage.topic.equals(message.topic))
+            {
+                queuedMessage.data = message.data;
+                queuedMessage.object = message.object;
+                numDroppedMessages.incrementAndGet();
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // called under the lock
+    private boolean makeSpace()
+    {
+        if (queuePolicy == SubscriptionQueuePolicy.BLOCK)
+        {
+            while (queue.size() >= queueCapacity && !closed)
+            {
+                try
+                {
+                    notFull.await();
+                }
+                catch (InterruptedException exception)
+                {
+                    Thread.currentThread().interrupt();
+                    numDroppedMessages.incrementAndGet();
+                    return false;
+                }
+            }
+
+            return !closed;
+        }
+
+        if (queue.size() >= queueCapacity)
+        {
+            queue.pollFirst();
+            numDroppedMessages.incrementAndGet();
+        }
+
+        return true;
+    }
+
+    private void schedule()
+    {
+        try
+        {
+            executor.execute(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    drain();
+                }
+            });
+        }
+        catch (RejectedExecutionException exception)
+        {
+            lock.lock();
+            try
+            {
+                scheduled = false;
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            throw new PubsubException("ExecutorSubscription: Delivery has been rejected!");
+        }
+    }
+
+    private void drain()
+    {
+        while (true)
+        {
+            final Message message;
+            lock.lock();
+            try
+            {
+                message = queue.pollFirst();
+                if (message == null)
+                {
+                    scheduled = false;
+                    return;
+                }
+                notFull.signal();
+            }
+            finally
+            {
+                lock.unlock();
+            }
+
+            try
+            {
+                callback.invoke(message.topic, decode(message));
+            }
+            catch (RuntimeException exception)
+            {
+                final Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T decode(Message message)
+    {
+        if (message.object != null)
+            return (T)message.object;
+
+        final long startTime = System.nanoTime();
+        final T decodedMessage = decoder.decode(message.data);
+        decodeTimeNanos.addAndGet(System.nanoTime() - startTime);
+        numDecodedMessages.incrementAndGet();
+
+        return decodedMessage;
+    }
+
+    private static final class Message
+    {
+        Message(String topic, byte[] data, Object object)
+        {
+            this.topic = topic;
+            this.data = data;
+            this.object = object;
+        }
+
+        private final String topic;
+        private byte[] data;
+        private Object object;
+    }
+
+    private final Decoder<T> decoder;
+    private final PubsubCallback<T> callback;
+    private final Executor executor;
+    private final int queueCapacity;
+    private final SubscriptionQueuePolicy queuePolicy;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final ArrayDeque<Message> queue;
+    private boolean scheduled = false;
+    private boolean closed = false;
+    private volatile int maxQueueDepth = 0;
+
+    private final AtomicLong numDecodedMessages = new AtomicLong();
+    private final AtomicLong decodeTimeNanos = new AtomicLong();
+    private final AtomicLong numDroppedMessages = new AtomicLong();
+}
@@ -0,0 +1,371 @@
+package zserio.runtime.pubsub;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import zserio.runtime.io.Writer;
+import zserio.runtime.io.ZserioIO;
+
+/**
+ * In-process Pub/Sub backend which passes messages from publishers to subscribers in the same process.
+ * <p>
+ * Each topic has its own lock-free ring buffer. Publishers only add messages to the ring of the topic, thus
+ * they never wait for subscribers unless the ring is full. Messages are delivered to subscribers in batches
+ * by one executor task per topic, thus messages of one topic are delivered in the order of publishing and
+ * a callback is never invoked concurrently for the same topic. Any executor can be used, e.g. a fixed
+ * thread pool or a virtual thread per task executor on newer Java versions.</p>
+ * <p>
+ * Topics are matched exactly, wildcards are not supported. Each topic gets an interned integer ID which can
+ * be used to publish without any topic lookup.</p>
+ * <p>
+ * When object passing is enabled, messages published by generated Pub/Sub classes are passed to the
+ * subscribers of generated Pub/Sub classes as objects without any serialization. Such messages must not be
+ * modified after publishing. Messages are serialized lazily only when a subscriber needs them as bytes.</p>
+ * <p>
+ * Published data are copied, thus the caller can reuse its buffers as soon as the publish returns. Data
+ * passed to the callbacks are shared by all subscribers and must not be modified. Exceptions thrown by
+ * the callbacks are passed to the uncaught exception handler of the delivering thread.</p>
+ */
+public final class LoopbackPubsub implements ObjectPubsubInterface
+{
+    /**
+     * Constructor which delivers messages on the common fork-join pool.
+     */
+    public LoopbackPubsub()
+    {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor which uses default capacity of rings and default batch size.
+     *
+     * @param executor Executor used to deliver messages to subscribers.
+     */
+    public LoopbackPubsub(Executor executor)
+    {
+        this(executor, DEFAULT_RING_CAPACITY, DEFAULT_MAX_BATCH_SIZE, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param executor      Executor used to deliver messages to subscribers.
+     * @param ringCapacity  Maximum number of undelivered messages per topic, rounded up to the power of two
+     *                      which is at least two.
+     * @param maxBatchSize  Maximum number of messages delivered by one executor task.
+     * @param objectPassing True to pass published objects to subscribers without serialization.
+     */
+    public LoopbackPubsub(Executor executor, int ringCapacity, int maxBatchSize, boolean objectPassing)
+    {
+        if (maxBatchSize <= 0)
+            throw new IllegalArgumentException("LoopbackPubsub: Invalid batch size " + maxBatchSize + "!");
+        if (ringCapacity <= 0 || ringCapacity > MAX_RING_CAPACITY)
+            throw new IllegalArgumentException("LoopbackPubsub: Invalid ring capacity " + ringCapacity + "!");
+
+        this.executor = executor;
+        this.ringCapacity = ringCapacity;
+        this.maxBatchSize = maxBatchSize;
+        this.objectPassing = objectPassing;
+    }
+
+    /**
+     * Gets interned ID of the given topic.
+     *
+     * @param topic Topic definition.
+     *
+     * @return Topic ID which can be used for publishing.
+     */
+    public int getTopicId(String topic)
+    {
+        return getTopic(topic).id;
+    }
+
+    /**
+     * Publishes given data as a topic with the specified ID.
+     *
+     * @param topicId Topic ID got by {@link #getTopicId(String)}.
+     * @param data Data to publish.
+     * @param context Context is not used by this implementation.
+     *
+     * @throws PubsubException when the topic ID is invalid or when publishing fails.
+     */
+    public void publish(int topicId, byte[] data, Object context)
+    {
+        enqueue(getTopic(topicId), new Message(data.clone(), null));
+    }
+
+    @Override
+    public void publish(String topic, byte[] data, Object context)
+    {
+        enqueue(getTopic(topic), new Message(data.clone(), null));
+    }
+
+    @Override
+    public void publishObject(String topic, Writer message, Object context)
+    {
+        enqueue(getTopic(topic), objectPassing ? new Message(null, message) :
+                new Message(ZserioIO.write(message), null));
+    }
+
+    @Override
+    public int subscribe(String topic, Callback callback, Object context)
+    {
+        return subscribeObject(topic, callback, null, context);
+    }
+
+    @Override
+    public int subscribeObject(String topic, Callback callback, ObjectCallback objectCallback, Object context)
+    {
+        final Topic subscribedTopic = getTopic(topic);
+        final Subscription subscription = new Subscription(nextSubscriptionId.getAndIncrement(),
+                subscribedTopic, callback, objectPassing ? objectCallback : null);
+        subscriptions.put(subscription.id, subscription);
+        subscribedTopic.addSubscription(subscription);
+
+        return subscription.id;
+    }
+
+    @Override
+    public void unsubscribe(int subscriptionId)
+    {
+        final Subscription subscription = subscriptions.remove(subscriptionId);
+        if (subscription == null)
+            throw new PubsubException("LoopbackPubsub: Invalid subscription ID '" + subscriptionId + "'!");
+
+        subscription.active = false;
+        subscription.topic.removeSubscription(subscription);
+    }
+
+    private Topic getTopic(String name)
+    {
+        final Topic topic = topicsByName.get(name);
+        if (topic != null)
+            return topic;
+
+        synchronized (topicsByName)
+        {
+            final Topic registeredTopic = topicsByName.get(name);
+            if (registeredTopic != null)
+                return registeredTopic;
+
+            final Topic[] oldTopics = topicsById;
+            final Topic[] newTopics = new Topic[oldTopics.length + 1];
+            System.arraycopy(oldTopics, 0, newTopics, 0, oldTopics.length);
+            final Topic newTopic = new Topic(name, oldTopics.length);
+            newTopics[newTopic.id] = newTopic;
+            topicsById = newTopics;
+            topicsByName.put(name, newTopic);
+
+            return newTopic;
+        }
+    }
+
+    private Topic getTopic(int topicId)
+    {
+        final Topic[] topics = topicsById;
+        if (topicId < 0 || topicId >= topics.length)
+            throw new PubsubException("LoopbackPubsub: Invalid topic ID '" + topicId + "'!");
+
+        return topics[topicId];
+    }
+
+    private void enqueue(Topic topic, Message message)
+    {
+        while (!topic.ring.offer(message))
+        {
+            // ring can be never drained when a callback publishes to its own topic
+            if (topic.drainThread == Thread.currentThread())
+                throw new PubsubException("LoopbackPubsub: Ring of topic '" + topic.name + "' is full!");
+
+            schedule(topic);
+            Thread.yield();
+        }
+        schedule(topic);
+    }
+
+    private void schedule(Topic topic)
+    {
+        if (topic.scheduled.compareAndSet(false, true))
+        {
+            try
+            {
+                executor.execute(topic);
+            }
+            catch (RejectedExecutionException exception)
+            {
+                topic.scheduled.set(false);
+                throw new PubsubException("LoopbackPubsub: Delivery of topic '" + topic.name +
+                        "' has been rejected!");
+            }
+        }
+    }
+
+    private void drain(Topic topic)
+    {
+        final Message[] batch = topic.batch;
+        topic.drainThread = Thread.currentThread();
+        while (true)
+        {
+            int batchSize = 0;
+            Message message;
+            while (batchSize < maxBatchSize && (message = topic.ring.poll()) != null)
+                batch[batchSize++] = message;
+
+            deliver(topic, batch, batchSize);
+
+            if (batchSize == maxBatchSize)
+            {
+                // give other topics a chance, topic stays scheduled
+                topic.drainThread = null;
+                try
+                {
+                    executor.execute(topic);
+                    return;
+                }
+                catch (RejectedExecutionException exception)
+                {
+                    topic.drainThread = Thread.currentThread();
+                    continue;
+                }
+            }
+
+            topic.drainThread = null;
+            topic.scheduled.set(false);
+            if (topic.ring.isEmpty() || !topic.scheduled.compareAndSet(false, true))
+                return;
+            topic.drainThread = Thread.currentThread();
+        }
+    }
+
+    private static void deliver(Topic topic, Message[] batch, int batchSize)
+    {
+        for (Subscription subscription : topic.subscriptions)
+        {
+            for (int i = 0; i < batchSize && subscription.active; ++i)
+            {
+                try
+                {
+                    subscription.deliver(topic.name, batch[i]);
+                }
+                catch (RuntimeException exception)
+                {
+                    final Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+                }
+            }
+        }
+
+        for (int i = 0; i < batchSize; ++i)
+            batch[i] = null;
+    }
+
+    private static final class Message
+    {
+        Message(byte[] data, Writer object)
+        {
+            this.data = data;
+            this.object = object;
+        }
+
+        // called only by the thread which drains the topic
+        byte[] getData()
+        {
+            if (data == null)
+                data = ZserioIO.write(object);
+
+            return data;
+        }
+
+        private byte[] data;
+        private final Writer object;
+    }
+
+    private static final class Subscription
+    {
+        Subscription(int id, Topic topic, Callback callback, ObjectCallback objectCallback)
+        {
+            this.id = id;
+            this.topic = topic;
+            this.callback = callback;
+            this.objectCallback = objectCallback;
+        }
+
+        void deliver(String topicName, Message message)
+        {
+            if (objectCallback != null && message.object != null)
+                objectCallback.invoke(topicName, message.object);
+            else
+                callback.invoke(topicName, message.getData());
+        }
+
+        private final int id;
+        private final Topic topic;
+        private final Callback callback;
+        private final ObjectCallback objectCallback;
+        private volatile boolean active = true;
+    }
+
+    private final class Topic implements Runnable
+    {
+        Topic(String name, int id)
+        {
+            this.name = name;
+            this.id = id;
+            ring = new MessageRing<Message>(ringCapacity);
+            batch = new Message[maxBatchSize];
+        }
+
+        @Override
+        public void run()
+        {
+            drain(this);
+        }
+
+        synchronized void addSubscription(Subscription subscription)
+        {
+            final Subscription[] newSubscriptions = new Subscription[subscriptions.length + 1];
+            System.arraycopy(subscriptions, 0, newSubscriptions, 0, subscriptions.length);
+            newSubscriptions[subscriptions.length] = subscription;
+            subscriptions = newSubscriptions;
+        }
+
+        synchronized void removeSubscription(Subscription subscription)
+        {
+            final Subscription[] newSubscriptions = new Subscription[subscriptions.length - 1];
+            int index = 0;
+            for (Subscription oldSubscription : subscriptions)
+            {
+                if (oldSubscription != subscription)
+                    newSubscriptions[index++] = oldSubscription;
+            }
+            subscriptions = newSubscriptions;
+        }
+
+        private final String name;
+        private final int id;
+        private final MessageRing<Message> ring;
+        private final Message[] batch;
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private volatile Subscription[] subscriptions = new Subscription[0];
+        private volatile Thread drainThread = null;
+    }
+
+    private static final int DEFAULT_RING_CAPACITY = 1024;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 64;
+    private static final int MAX_RING_CAPACITY = 1 << 30;
+
+    private final Executor executor;
+    private final int ringCapacity;
+    private final int maxBatchSize;
+    private final boolean objectPassing;
+
+    private final ConcurrentHashMap<String, Topic> topicsByName = new ConcurrentHashMap<String, Topic>();
+    private volatile Topic[] topicsById = new Topic[0];
+    private final AtomicInteger nextSubscriptionId = new AtomicInteger(0);
+    private final ConcurrentHashMap<Integer, Subscription> subscriptions =
+            new ConcurrentHashMap<Integer, Subscription>();
+}
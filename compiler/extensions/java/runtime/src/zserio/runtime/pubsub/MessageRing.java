@@ -0,0 +1,122 @@
+package zserio.runtime.pubsub;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer for multiple producers and a single consumer.
+ * <p>
+ * Each slot carries a sequence number which tells whether the slot is free for the producer which claimed
+ * the position or whether it is filled for the consumer. Producers claim positions by compare-and-set on
+ * the tail, thus they never block each other.</p>
+ * <p>
+ * Only one thread may call {@link #poll()} at a time.</p>
+ *
+ * @param <E> Type of the elements.
+ */
+final class MessageRing<E>
+{
+    /**
+     * Constructor.
+     *
+     * @param capacity Requested capacity, rounded up to the power of two which is at least two.
+     */
+    MessageRing(int capacity)
+    {
+        if (capacity <= 0 || capacity > MAX_CAPACITY)
+            throw new IllegalArgumentException("MessageRing: Invalid capacity " + capacity + "!");
+
+        // single slot would have the same sequence number for filled slot and for free slot of the next round
+        final int roundedCapacity = (capacity <= MIN_CAPACITY) ? MIN_CAPACITY :
+                Integer.highestOneBit(capacity - 1) << 1;
+        mask = roundedCapacity - 1;
+        elements = new AtomicReferenceArray<E>(roundedCapacity);
+        sequences = new AtomicLongArray(roundedCapacity);
+        for (int i = 0; i < roundedCapacity; ++i)
+            sequences.set(i, i);
+    }
+
+    /**
+     * Gets capacity of the ring.
+     *
+     * @return Number of elements which can be stored in the ring.
+     */
+    int capacity()
+    {
+        return mask + 1;
+    }
+
+    /**
+     * Adds the element to the ring.
+     *
+     * @param element Element to add.
+     *
+     * @return True when the element has been added, false when the ring is full.
+     */
+    boolean offer(E element)
+    {
+        long position = tail.get();
+        while (true)
+        {
+            final int index = (int)(position & mask);
+            final long difference = sequences.get(index) - position;
+            if (difference == 0)
+            {
+                if (tail.compareAndSet(position, position + 1))
+                {
+                    elements.lazySet(index, element);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            }
+            else if (difference < 0)
+            {
+                return false;
+            }
+            else
+            {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest element from the ring.
+     *
+     * @return The oldest element or null when the ring is empty.
+     */
+    E poll()
+    {
+        final int index = (int)(head & mask);
+        if (sequences.get(index) != head + 1)
+            return null;
+
+        final E element = elements.get(index);
+        elements.lazySet(index, null);
+        sequences.lazySet(index, head + mask + 1);
+        head++;
+
+        return element;
+    }
+
+    /**
+     * Checks whether the ring is empty.
+     *
+     * @return True when there is no element to poll.
+     */
+    boolean isEmpty()
+    {
+        return sequences.get((int)(head & mask)) != head + 1;
+    }
+
+    private static final int MIN_CAPACITY = 2;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head = 0;
+}
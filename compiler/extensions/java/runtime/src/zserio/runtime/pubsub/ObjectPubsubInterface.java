@@ -0,0 +1,52 @@
+package zserio.runtime.pubsub;
+
+import zserio.runtime.io.Writer;
+
+/**
+ * Interface for Pub/Sub backends which are able to pass messages as objects.
+ * <p>
+ * Generated Pub/Sub classes use this interface when it is implemented by the backend. Backend decides
+ * whether the message object is passed to the subscribers directly or whether it is serialized. Thus
+ * published messages must not be modified after publishing.</p>
+ */
+public interface ObjectPubsubInterface extends PubsubInterface
+{
+    /**
+     * Publishes given message as a specified topic.
+     *
+     * @param topic Topic definition.
+     * @param message Message to publish as a Zserio generated type - e.g. structure.
+     * @param context Context specific for a particular Pub/Sub implementation.
+     *
+     * @throws PubsubException when publishing fails.
+     */
+    public void publishObject(String topic, Writer message, Object context);
+
+    /**
+     * Subscribes a topic.
+     *
+     * @param topic Topic definition to subscribe.
+     * @param callback Callback to be called when a message arrives serialized.
+     * @param objectCallback Callback to be called when a message arrives as an object.
+     * @param context Context specific for a particular Pub/Sub implementation.
+     *
+     * @return Subscription ID.
+     * @throws PubsubException when subscribing fails.
+     */
+    public int subscribeObject(String topic, Callback callback, ObjectCallback objectCallback, Object context);
+
+    /**
+     * Callback passed to the subscribeObject method and called when a message with subscribed topic arrives
+     * as an object.
+     */
+    public interface ObjectCallback
+    {
+        /**
+         * Invokes the callback.
+         *
+         * @param topic Topic associated with the message.
+         * @param message Message object which has been published.
+         */
+        void invoke(String topic, Object message);
+    };
+};
@@ -0,0 +1,42 @@
+package zserio.runtime.pubsub;
+
+/**
+ * Metrics of a subscription which decodes and delivers messages on an executor.
+ */
+public interface SubscriptionMetrics
+{
+    /**
+     * Gets the current number of messages waiting for decoding.
+     *
+     * @return Current queue depth.
+     */
+    public int getQueueDepth();
+
+    /**
+     * Gets the maximum number of messages which have been waiting for decoding at the same time.
+     *
+     * @return Maximum queue depth.
+     */
+    public int getMaxQueueDepth();
+
+    /**
+     * Gets the number of messages which have been decoded.
+     *
+     * @return Number of decoded messages.
+     */
+    public long getNumDecodedMessages();
+
+    /**
+     * Gets the total time spent in decoding of the messages.
+     *
+     * @return Decode time in nanoseconds.
+     */
+    public long getDecodeTimeNanos();
+
+    /**
+     * Gets the number of messages which have been dropped according to the queue policy.
+     *
+     * @return Number of dropped messages.
+     */
+    public long getNumDroppedMessages();
+}
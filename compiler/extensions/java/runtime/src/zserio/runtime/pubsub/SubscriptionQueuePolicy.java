@@ -0,0 +1,19 @@
+package zserio.runtime.pubsub;
+
+/**
+ * Policy applied by {@link ExecutorSubscription} when its queue of undelivered messages is full.
+ */
+public enum SubscriptionQueuePolicy
+{
+    /** The oldest undelivered message is dropped. */
+    DROP_OLDEST,
+
+    /** The transport thread is blocked until there is a space in the queue. */
+    BLOCK,
+
+    /**
+     * Only the latest undelivered message of each topic is kept. The oldest message is dropped when the queue
+     * is full of messages with different topics.
+     */
+    COALESCE_LATEST
+}
@@ -0,0 +1,66 @@
+package zserio.runtime.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import zserio.runtime.ZserioError;
+
+/**
+ * Adapter which allows to call synchronous services via asynchronous interface.
+ * <p>
+ * Methods are called on the caller's thread and returned futures are always already completed.</p>
+ */
+public final class AsyncServiceAdapter implements AsyncServiceInterface
+{
+    /**
+     * Constructor.
+     *
+     * @param service Synchronous service to adapt.
+     */
+    public AsyncServiceAdapter(ServiceInterface service)
+    {
+        this.service = service;
+    }
+
+    @Override
+    public byte[] callMethod(String methodName, byte[] requestData, Object context) throws ZserioError
+    {
+        return service.callMethod(methodName, requestData, context);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> callMethodAsync(String methodName, byte[] requestData, Object context)
+    {
+        try
+        {
+            return CompletableFuture.completedFuture(service.callMethod(methodName, requestData, context));
+        }
+        catch (RuntimeException exception)
+        {
+            return AsyncServiceUtil.failedFuture(exception);
+        }
+    }
+
+    @Override
+    public byte[] callMethod(int methodId, String methodName, byte[] requestData, Object context)
+            throws ZserioError
+    {
+        return service.callMethod(methodId, methodName, requestData, context);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> callMethodAsync(int methodId, String methodName, byte[] requestData,
+            Object context)
+    {
+        try
+        {
+            return CompletableFuture.completedFuture(
+                    service.callMethod(methodId, methodName, requestData, context));
+        }
+        catch (RuntimeException exception)
+        {
+            return AsyncServiceUtil.failedFuture(exception);
+        }
+    }
+
+    private final ServiceInterface service;
+}
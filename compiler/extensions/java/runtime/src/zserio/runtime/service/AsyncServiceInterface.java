@@ -0,0 +1,69 @@
+package zserio.runtime.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface for Zserio services which can be called asynchronously.
+ * <p>
+ * Asynchronous calls do not block the caller, thus many calls can be in flight at the same time (pipelining).
+ * Several calls can be also sent together in one transport round-trip (batching).</p>
+ */
+public interface AsyncServiceInterface extends ServiceInterface
+{
+    /**
+     * Calls method with the given name asynchronously.
+     * <p>
+     * All failures (including serialization errors and unknown methods) are reported by the returned future
+     * which is completed exceptionally.</p>
+     *
+     * @param methodName    Name of the service method to call.
+     * @param requestData   Request data to be passed to the method.
+     * @param context       Context specific for particular service.
+     *
+     * @return Future which is completed by the response data.
+     */
+    public CompletableFuture<byte[]> callMethodAsync(String methodName, byte[] requestData, Object context);
+
+    /**
+     * Calls method with the given ID asynchronously.
+     * <p>
+     * Default implementation calls the method by its name.</p>
+     *
+     * @param methodId      ID of the service method to call or {@link ServiceInterface#UNKNOWN_METHOD_ID}.
+     * @param methodName    Name of the service method to call.
+     * @param requestData   Request data to be passed to the method.
+     * @param context       Context specific for particular service.
+     *
+     * @return Future which is completed by the response data.
+     */
+    public default CompletableFuture<byte[]> callMethodAsync(int methodId, String methodName,
+            byte[] requestData, Object context)
+    {
+        return callMethodAsync(methodName, requestData, context);
+    }
+
+    /**
+     * Calls all given methods asynchronously in one batch.
+     * <p>
+     * Transports should send the whole batch in one round-trip. Default implementation just calls each
+     * method separately.</p>
+     *
+     * @param calls Method calls to send.
+     *
+     * @return Futures which are completed by the response data, one for each call in the same order.
+     */
+    public default List<CompletableFuture<byte[]>> callMethodsAsync(List<ServiceCall> calls)
+    {
+        final List<CompletableFuture<byte[]>> responses =
+                new ArrayList<CompletableFuture<byte[]>>(calls.size());
+        for (ServiceCall call : calls)
+        {
+            responses.add(callMethodAsync(call.getMethodId(), call.getMethodName(), call.getRequestData(),
+                    call.getContext()));
+        }
+
+        return responses;
+    }
+};
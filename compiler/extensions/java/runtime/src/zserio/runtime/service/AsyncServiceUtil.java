@@ -0,0 +1,107 @@
+package zserio.runtime.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+
+import zserio.runtime.ZserioError;
+
+/**
+ * Helper functions for asynchronous services.
+ */
+public final class AsyncServiceUtil
+{
+    /**
+     * Creates future which is completed exceptionally by the given failure.
+     *
+     * @param <T>       Type of the call result.
+     * @param exception Failure of the call.
+     *
+     * @return Failed future.
+     */
+    public static <T> CompletableFuture<T> failedFuture(Throwable exception)
+    {
+        final CompletableFuture<T> future = new CompletableFuture<T>();
+        future.completeExceptionally(exception);
+
+        return future;
+    }
+
+    /**
+     * Waits for the result of the asynchronous call.
+     * <p>
+     * Used to call asynchronous services synchronously. Unchecked failures of the call are rethrown as they
+     * are, checked failures are wrapped in ServiceException.</p>
+     *
+     * @param <T>    Type of the call result.
+     * @param future Future of the asynchronous call.
+     *
+     * @return Result of the call.
+     *
+     * @throws ZserioError if the call fails.
+     */
+    public static <T> T join(CompletableFuture<T> future) throws ZserioError
+    {
+        try
+        {
+            return future.join();
+        }
+        catch (CompletionException exception)
+        {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException)cause;
+            if (cause instanceof Error)
+                throw (Error)cause;
+            throw new ServiceException("Service call failed!", cause);
+        }
+    }
+
+    /**
+     * Gets asynchronous interface of the given service.
+     * <p>
+     * Services which do not support asynchronous calls are adapted by AsyncServiceAdapter, thus their methods
+     * are called synchronously on the caller's thread.</p>
+     *
+     * @param service Service to call.
+     *
+     * @return Asynchronous service interface.
+     */
+    public static AsyncServiceInterface toAsync(ServiceInterface service)
+    {
+        return (service instanceof AsyncServiceInterface) ? (AsyncServiceInterface)service :
+                new AsyncServiceAdapter(service);
+    }
+
+    /**
+     * Completes the target future by the result of the source future once it is done.
+     *
+     * @param <T>    Type of the future result.
+     * @param source Source future.
+     * @param target Target future to complete.
+     */
+    static <T> void relay(CompletableFuture<T> source, final CompletableFuture<T> target)
+    {
+        source.whenComplete(new BiConsumer<T, Throwable>()
+        {
+            @Override
+            public void accept(T result, Throwable exception)
+            {
+                if (exception != null)
+                    target.completeExceptionally(unwrap(exception));
+                else
+                    target.complete(result);
+            }
+        });
+    }
+
+    private static Throwable unwrap(Throwable exception)
+    {
+        return (exception instanceof CompletionException && exception.getCause() != null) ?
+                exception.getCause() : exception;
+    }
+
+    private AsyncServiceUtil()
+    {
+    }
+}
@@ -0,0 +1,131 @@
+package zserio.runtime.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+import zserio.runtime.ZserioError;
+
+/**
+ * In-process transport which passes calls from a client to a service in the same process.
+ * <p>
+ * Asynchronous calls are dispatched to the service on the given executor, thus the client is never blocked
+ * and any number of calls can be in flight at the same time. The whole batch of calls is dispatched by one
+ * executor task which simulates one transport round-trip.</p>
+ * <p>
+ * Request data are copied before they are passed to the executor, thus the caller can reuse its buffers as
+ * soon as the call returns. The transport is intended mainly for tests and benchmarks of services.</p>
+ */
+public final class LoopbackServiceTransport implements AsyncServiceInterface
+{
+    /**
+     * Constructor which dispatches calls on the common fork-join pool.
+     *
+     * @param service Service to call.
+     */
+    public LoopbackServiceTransport(ServiceInterface service)
+    {
+        this(service, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param service  Service to call.
+     * @param executor Executor used to dispatch asynchronous calls.
+     */
+    public LoopbackServiceTransport(ServiceInterface service, Executor executor)
+    {
+        this.service = AsyncServiceUtil.toAsync(service);
+        this.executor = executor;
+    }
+
+    @Override
+    public byte[] callMethod(String methodName, byte[] requestData, Object context) throws ZserioError
+    {
+        return service.callMethod(methodName, requestData, context);
+    }
+
+    @Override
+    public byte[] callMethod(int methodId, String methodName, byte[] requestData, Object context)
+            throws ZserioError
+    {
+        return service.callMethod(methodId, methodName, requestData, context);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> callMethodAsync(String methodName, byte[] requestData, Object context)
+    {
+        return callMethodAsync(ServiceInterface.UNKNOWN_METHOD_ID, methodName, requestData, context);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> callMethodAsync(int methodId, String methodName, byte[] requestData,
+            Object context)
+    {
+        final List<ServiceCall> calls = new ArrayList<ServiceCall>(1);
+        calls.add(new ServiceCall(methodId, methodName, requestData, context));
+
+        return callMethodsAsync(calls).get(0);
+    }
+
+    @Override
+    public List<CompletableFuture<byte[]>> callMethodsAsync(List<ServiceCall> calls)
+    {
+        final List<ServiceCall> copiedCalls = new ArrayList<ServiceCall>(calls.size());
+        final List<CompletableFuture<byte[]>> responses =
+                new ArrayList<CompletableFuture<byte[]>>(calls.size());
+        for (ServiceCall call : calls)
+        {
+            final byte[] requestData = call.getRequestData();
+            copiedCalls.add(new ServiceCall(call.getMethodId(), call.getMethodName(),
+                    (requestData != null) ? requestData.clone() : null, call.getContext()));
+            responses.add(new CompletableFuture<byte[]>());
+        }
+
+        try
+        {
+            executor.execute(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    dispatch(copiedCalls, responses);
+                }
+            });
+        }
+        catch (RejectedExecutionException exception)
+        {
+            final ServiceException rejectedException =
+                    new ServiceException("LoopbackServiceTransport: Call has been rejected!", exception);
+            for (CompletableFuture<byte[]> response : responses)
+                response.completeExceptionally(rejectedException);
+        }
+
+        return responses;
+    }
+
+    private void dispatch(List<ServiceCall> calls, List<CompletableFuture<byte[]>> responses)
+    {
+        for (int i = 0; i < calls.size(); ++i)
+        {
+            final ServiceCall call = calls.get(i);
+            final CompletableFuture<byte[]> response = responses.get(i);
+            try
+            {
+                AsyncServiceUtil.relay(service.callMethodAsync(call.getMethodId(), call.getMethodName(),
+                        call.getRequestData(), call.getContext()), response);
+            }
+            catch (RuntimeException exception)
+            {
+                response.completeExceptionally(exception);
+            }
+        }
+    }
+
+    private final AsyncServiceInterface service;
+    private final Executor executor;
+}
@@ -0,0 +1,80 @@
+package zserio.runtime.service;
+
+/**
+ * One call of a service method used for batching.
+ */
+public final class ServiceCall
+{
+    /**
+     * Constructor.
+     *
+     * @param methodName    Name of the service method to call.
+     * @param requestData   Request data to be passed to the method.
+     * @param context       Context specific for particular service.
+     */
+    public ServiceCall(String methodName, byte[] requestData, Object context)
+    {
+        this(ServiceInterface.UNKNOWN_METHOD_ID, methodName, requestData, context);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param methodId      ID of the service method to call.
+     * @param methodName    Name of the service method to call.
+     * @param requestData   Request data to be passed to the method.
+     * @param context       Context specific for particular service.
+     */
+    public ServiceCall(int methodId, String methodName, byte[] requestData, Object context)
+    {
+        this.methodId = methodId;
+        this.methodName = methodName;
+        this.requestData = requestData;
+        this.context = context;
+    }
+
+    /**
+     * Gets ID of the service method to call.
+     *
+     * @return Method ID or {@link ServiceInterface#UNKNOWN_METHOD_ID} if only the method name is known.
+     */
+    public int getMethodId()
+    {
+        return methodId;
+    }
+
+    /**
+     * Gets name of the service method to call.
+     *
+     * @return Method name.
+     */
+    public String getMethodName()
+    {
+        return methodName;
+    }
+
+    /**
+     * Gets request data to be passed to the method.
+     *
+     * @return Request data.
+     */
+    public byte[] getRequestData()
+    {
+        return requestData;
+    }
+
+    /**
+     * Gets context specific for particular service.
+     *
+     * @return Context or null if no context has been given.
+     */
+    public Object getContext()
+    {
+        return context;
+    }
+
+    private final int methodId;
+    private final String methodName;
+    private final byte[] requestData;
+    private final Object context;
+}
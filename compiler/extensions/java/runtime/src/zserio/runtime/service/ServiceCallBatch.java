@@ -0,0 +1,115 @@
+package zserio.runtime.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import zserio.runtime.ZserioError;
+
+/**
+ * Service wrapper which collects asynchronous calls and sends them in one batch.
+ * <p>
+ * Asynchronous calls are only queued and they are sent to the wrapped service when flush is called. Thus when
+ * a generated client is created for the batch, calls of its asynchronous methods are sent in one transport
+ * round-trip:</p>
+ * <pre>
+ * final ServiceCallBatch batch = new ServiceCallBatch(transport);
+ * final MyService.MyServiceClient client = new MyService.MyServiceClient(batch);
+ * final CompletableFuture&lt;Response&gt; response1 = client.getMethodAsync(request1);
+ * final CompletableFuture&lt;Response&gt; response2 = client.getMethodAsync(request2);
+ * batch.flush();
+ * </pre>
+ * <p>
+ * Synchronous calls are not batched, they are passed to the wrapped service immediately. The batch is thread
+ * safe.</p>
+ */
+public final class ServiceCallBatch implements AsyncServiceInterface
+{
+    /**
+     * Constructor.
+     *
+     * @param service Service to send batches to.
+     */
+    public ServiceCallBatch(ServiceInterface service)
+    {
+        this.service = AsyncServiceUtil.toAsync(service);
+    }
+
+    @Override
+    public byte[] callMethod(String methodName, byte[] requestData, Object context) throws ZserioError
+    {
+        return service.callMethod(methodName, requestData, context);
+    }
+
+    @Override
+    public byte[] callMethod(int methodId, String methodName, byte[] requestData, Object context)
+            throws ZserioError
+    {
+        return service.callMethod(methodId, methodName, requestData, context);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> callMethodAsync(String methodName, byte[] requestData, Object context)
+    {
+        return callMethodAsync(ServiceInterface.UNKNOWN_METHOD_ID, methodName, requestData, context);
+    }
+
+    @Override
+    public synchronized CompletableFuture<byte[]> callMethodAsync(int methodId, String methodName,
+            byte[] requestData, Object context)
+    {
+        final CompletableFuture<byte[]> response = new CompletableFuture<byte[]>();
+        pendingCalls.add(new ServiceCall(methodId, methodName, requestData, context));
+        pendingResponses.add(response);
+
+        return response;
+    }
+
+    /**
+     * Gets number of calls which have not been sent yet.
+     *
+     * @return Number of pending calls.
+     */
+    public synchronized int getNumPendingCalls()
+    {
+        return pendingCalls.size();
+    }
+
+    /**
+     * Sends all pending calls to the wrapped service in one batch.
+     * <p>
+     * Futures returned by asynchronous calls are completed when responses from the wrapped service arrive.</p>
+     */
+    public void flush()
+    {
+        final List<ServiceCall> calls;
+        final List<CompletableFuture<byte[]>> responses;
+        synchronized (this)
+        {
+            if (pendingCalls.isEmpty())
+                return;
+
+            calls = pendingCalls;
+            responses = pendingResponses;
+            pendingCalls = new ArrayList<ServiceCall>();
+            pendingResponses = new ArrayList<CompletableFuture<byte[]>>();
+        }
+
+        try
+        {
+            final List<CompletableFuture<byte[]>> serviceResponses = service.callMethodsAsync(calls);
+            for (int i = 0; i < responses.size(); ++i)
+                AsyncServiceUtil.relay(serviceResponses.get(i), responses.get(i));
+        }
+        catch (RuntimeException exception)
+        {
+            for (CompletableFuture<byte[]> response : responses)
+                response.completeExceptionally(exception);
+        }
+    }
+
+    private final AsyncServiceInterface service;
+
+    private List<ServiceCall> pendingCalls = new ArrayList<ServiceCall>();
+    private List<CompletableFuture<byte[]>> pendingResponses = new ArrayList<CompletableFuture<byte[]>>();
+}
@@ -17,5 +17,16 @@ public class ServiceException extends ZserioError
         super(errorMessage);
     }
 
+    /**
+     * Constructor from the cause of the failure.
+     *
+     * @param errorMessage  Description of the service method call failure.
+     * @param cause         Cause of the failure.
+     */
+    public ServiceException(String errorMessage, Throwable cause)
+    {
+        super(errorMessage, cause);
+    }
+
     private static final long serialVersionUID = 1L;
 }
@@ -19,4 +19,32 @@ public interface ServiceInterface
      */
     public byte[] callMethod(String methodName, byte[] requestData, Object context)
             throws ZserioError;
+
+    /**
+     * Calls method with the given ID synchronously.
+     * <p>
+     * Method IDs are generated as a stable hash of the qualified method name from the schema, thus they do
+     * not change when other methods are added, removed or reordered. Generated services dispatch them without
+     * any lookup and transports can send them instead of method names. When the method name is given as well,
+     * generated services check that it matches the method ID. Default implementation calls the method by its
+     * name.</p>
+     *
+     * @param methodId      ID of the service method to call or {@link #UNKNOWN_METHOD_ID}.
+     * @param methodName    Name of the service method to call or null if only the method ID is known.
+     * @param requestData   Request data to be passed to the method.
+     * @param context       Context specific for particular service.
+     *
+     * @return Response data.
+     *
+     * @throws ZserioError if serialization or deserialization fails.
+     * @throws ServiceException if the call fails.
+     */
+    public default byte[] callMethod(int methodId, String methodName, byte[] requestData, Object context)
+            throws ZserioError
+    {
+        return callMethod(methodName, requestData, context);
+    }
+
+    /** Method ID used when only the method name is known. */
+    public static final int UNKNOWN_METHOD_ID = -1;
 };
@@ -166,4 +166,48 @@ public class ValidationSqliteUtil
             return false;
         }
     }
+
+    /**
+     * Gets the range of rowids used in given SQLite table.
+     *
+     * @param connection     Database connection to use.
+     * @param attachedDbName Attached database name if table is relocated in different database or null.
+     * @param tableName      Name of the table to get rowid range of.
+     *
+     * @return Array containing the minimum and the maximum rowid or null if the table is empty.
+     *
+     * @throws SQLException Throws in case of any SQLite error.
+     */
+    public static long[] getRowIdRange(Connection connection, String attachedDbName, String tableName)
+            throws SQLException
+    {
+        // prepare SQL query
+        final StringBuilder sqlQuery = new StringBuilder("SELECT MIN(rowid), MAX(rowid) FROM ");
+        if (attachedDbName != null)
+        {
+            sqlQuery.append(attachedDbName);
+            sqlQuery.append('.');
+        }
+        sqlQuery.append(tableName);
+
+        // get rowid range
+        final PreparedStatement statement = connection.prepareStatement(sqlQuery.toString());
+        try
+        {
+            final ResultSet resultSet = statement.executeQuery();
+            if (!resultSet.next())
+                return null;
+
+            final long minRowId = resultSet.getLong(1);
+            if (resultSet.wasNull())
+                return null;
+            final long maxRowId = resultSet.getLong(2);
+
+            return new long[] {minRowId, maxRowId};
+        }
+        finally
+        {
+            statement.close();
+        }
+    }
 }
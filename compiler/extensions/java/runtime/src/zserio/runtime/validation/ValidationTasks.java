@@ -0,0 +1,169 @@
+package zserio.runtime.validation;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import zserio.runtime.ZserioError;
+
+/**
+ * Collects validation tasks submitted to an executor and merges their validation reports.
+ * <p>
+ * Used by parallel validation code generated by Zserio. Reports are merged in the order in which they have
+ * been added or submitted, thus the merged report does not depend on the order in which the tasks finish.</p>
+ */
+public class ValidationTasks
+{
+    /**
+     * Constructor.
+     *
+     * @param executor Executor to submit validation tasks to.
+     */
+    public ValidationTasks(ExecutorService executor)
+    {
+        this.executor = executor;
+    }
+
+    /**
+     * Submits the validation task to the executor.
+     *
+     * @param task Validation task to submit.
+     */
+    public void submit(Callable<ValidationReport> task)
+    {
+        futures.add(executor.submit(task));
+    }
+
+    /**
+     * Adds the report of validation which has been already done by the caller.
+     *
+     * @param report Validation report to add.
+     */
+    public void add(ValidationReport report)
+    {
+        futures.add(new FutureReport(report));
+    }
+
+    /**
+     * Waits for all submitted tasks and merges their reports.
+     *
+     * @return Merged validation report.
+     *
+     * @throws SQLException If any validation task has thrown SQL exception.
+     */
+    public ValidationReport join() throws SQLException
+    {
+        final ValidationReport report = new ValidationReport();
+        try
+        {
+            for (Future<ValidationReport> future : futures)
+                report.add(future.get());
+        }
+        catch (InterruptedException exception)
+        {
+            cancel();
+            Thread.currentThread().interrupt();
+            throw new ZserioError("ValidationTasks: Validation has been interrupted!", exception);
+        }
+        catch (ExecutionException exception)
+        {
+            cancel();
+            final Throwable cause = exception.getCause();
+            if (cause instanceof SQLException)
+                throw (SQLException)cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException)cause;
+            if (cause instanceof Error)
+                throw (Error)cause;
+            throw new ZserioError("ValidationTasks: Validation task failed: " + cause, cause);
+        }
+
+        return report;
+    }
+
+    /**
+     * Splits the range of rowids to ranges of roughly the same size.
+     *
+     * @param minRowId  Minimum rowid.
+     * @param maxRowId  Maximum rowid.
+     * @param numRanges Maximum number of ranges to create.
+     *
+     * @return List of ranges, each range is given by first and last rowid.
+     */
+    public static List<long[]> splitRowIdRange(long minRowId, long maxRowId, int numRanges)
+    {
+        final List<long[]> ranges = new ArrayList<long[]>();
+        final int maxNumRanges = Math.max(1, numRanges);
+        // rowids can cover whole long range, use double to avoid overflows
+        final double rangeSize = Math.max(1.0, ((double)maxRowId - minRowId + 1) / maxNumRanges);
+        long firstRowId = minRowId;
+        for (int i = 1; i <= maxNumRanges && firstRowId <= maxRowId; ++i)
+        {
+            final long lastRowId = (i == maxNumRanges) ? maxRowId :
+                    Math.min(maxRowId, (long)(minRowId + rangeSize * i) - 1);
+            if (lastRowId >= firstRowId)
+            {
+                ranges.add(new long[] {firstRowId, lastRowId});
+                if (lastRowId == maxRowId)
+                    break;
+                firstRowId = lastRowId + 1;
+            }
+        }
+
+        return ranges;
+    }
+
+    private void cancel()
+    {
+        for (Future<ValidationReport> future : futures)
+            future.cancel(true);
+    }
+
+    private static class FutureReport implements Future<ValidationReport>
+    {
+        public FutureReport(ValidationReport report)
+        {
+            this.report = report;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning)
+        {
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled()
+        {
+            return false;
+        }
+
+        @Override
+        public boolean isDone()
+        {
+            return true;
+        }
+
+        @Override
+        public ValidationReport get()
+        {
+            return report;
+        }
+
+        @Override
+        public ValidationReport get(long timeout, TimeUnit unit)
+        {
+            return report;
+        }
+
+        private final ValidationReport report;
+    }
+
+    private final ExecutorService executor;
+    private final List<Future<ValidationReport>> futures = new ArrayList<Future<ValidationReport>>();
+}
@@ -196,6 +196,24 @@ public class BitSizeOfCalculatorTest
                 BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE)));
     }
 
+    @Test
+    public void getBitSizeOfVarUIntLong()
+    {
+        assertEquals(8, BitSizeOfCalculator.getBitSizeOfVarUIntLong(0L));
+        assertEquals(8, BitSizeOfCalculator.getBitSizeOfVarUIntLong((1L << 7) - 1));
+        assertEquals(16, BitSizeOfCalculator.getBitSizeOfVarUIntLong(1L << 7));
+        assertEquals(24, BitSizeOfCalculator.getBitSizeOfVarUIntLong(1L << 14));
+        assertEquals(32, BitSizeOfCalculator.getBitSizeOfVarUIntLong(1L << 21));
+        assertEquals(40, BitSizeOfCalculator.getBitSizeOfVarUIntLong(1L << 28));
+        assertEquals(48, BitSizeOfCalculator.getBitSizeOfVarUIntLong(1L << 35));
+        assertEquals(56, BitSizeOfCalculator.getBitSizeOfVarUIntLong(1L << 42));
+        assertEquals(64, BitSizeOfCalculator.getBitSizeOfVarUIntLong(1L << 49));
+        assertEquals(64, BitSizeOfCalculator.getBitSizeOfVarUIntLong((1L << 56) - 1));
+        assertEquals(72, BitSizeOfCalculator.getBitSizeOfVarUIntLong(1L << 56));
+        assertEquals(72, BitSizeOfCalculator.getBitSizeOfVarUIntLong(Long.MAX_VALUE));
+        assertEquals(72, BitSizeOfCalculator.getBitSizeOfVarUIntLong(-1L)); // 2^64-1
+    }
+
     @Test(expected = ZserioError.class)
     public void getBitSizeOfVarUIntNegative()
     {
@@ -0,0 +1,53 @@
+package zserio.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import zserio.runtime.io.BitStreamReader;
+
+public class SqlLazyBlobTest
+{
+    @Test
+    public void get()
+    {
+        final TestLazyBlob lazyBlob = new TestLazyBlob(new byte[] {0x12, 0x34});
+        assertFalse(lazyBlob.isDecoded());
+        assertEquals(0, lazyBlob.numDecodeCalls);
+
+        final Integer value = lazyBlob.get();
+        assertEquals(Integer.valueOf(0x1234), value);
+        assertTrue(lazyBlob.isDecoded());
+        assertSame(value, lazyBlob.get());
+        assertEquals(1, lazyBlob.numDecodeCalls);
+    }
+
+    @Test(expected = ZserioError.class)
+    public void getInvalidData()
+    {
+        final TestLazyBlob lazyBlob = new TestLazyBlob(new byte[] {0x12});
+        lazyBlob.get();
+    }
+
+    private static class TestLazyBlob extends SqlLazyBlob<Integer>
+    {
+        public TestLazyBlob(byte[] data)
+        {
+            super(data);
+        }
+
+        @Override
+        protected Integer decode(BitStreamReader reader) throws IOException
+        {
+            numDecodeCalls++;
+            return Integer.valueOf(reader.readUnsignedShort());
+        }
+
+        private int numDecodeCalls = 0;
+    }
+}
@@ -0,0 +1,101 @@
+package zserio.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SqlStatementCacheTest
+{
+    static
+    {
+        try
+        {
+            Class.forName("org.sqlite.JDBC");
+        }
+        catch (ClassNotFoundException excpt)
+        {
+            throw new RuntimeException("Can't register SQLite JDBC driver!");
+        }
+    }
+
+    @Before
+    public void setUp() throws SQLException
+    {
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+    }
+
+    @After
+    public void tearDown() throws SQLException
+    {
+        connection.close();
+    }
+
+    @Test
+    public void acquireRelease() throws SQLException
+    {
+        final SqlStatementCache cache = new SqlStatementCache(connection);
+        final PreparedStatement statement = cache.acquire(QUERY1);
+        assertEquals(0, cache.size());
+
+        // statement in use is not shared
+        final PreparedStatement otherStatement = cache.acquire(QUERY1);
+        assertNotSame(statement, otherStatement);
+
+        cache.release(QUERY1, statement);
+        assertEquals(1, cache.size());
+        cache.release(QUERY1, otherStatement);
+        assertEquals(1, cache.size());
+        assertTrue(otherStatement.isClosed());
+
+        assertSame(statement, cache.acquire(QUERY1));
+        assertEquals(0, cache.size());
+        cache.close();
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() throws SQLException
+    {
+        final SqlStatementCache cache = new SqlStatementCache(connection, 2);
+        final PreparedStatement statement1 = cache.acquire(QUERY1);
+        final PreparedStatement statement2 = cache.acquire(QUERY2);
+        final PreparedStatement statement3 = cache.acquire(QUERY3);
+        cache.release(QUERY1, statement1);
+        cache.release(QUERY2, statement2);
+        cache.release(QUERY3, statement3);
+        assertEquals(2, cache.size());
+        assertTrue(statement1.isClosed());
+        assertFalse(statement2.isClosed());
+
+        cache.close();
+        assertEquals(0, cache.size());
+        assertTrue(statement2.isClosed());
+        assertTrue(statement3.isClosed());
+
+        final PreparedStatement statement = cache.acquire(QUERY1);
+        cache.release(QUERY1, statement);
+        assertTrue(statement.isClosed());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidCapacity()
+    {
+        new SqlStatementCache(connection, 0);
+    }
+
+    private static final String QUERY1 = "SELECT 1";
+    private static final String QUERY2 = "SELECT 2";
+    private static final String QUERY3 = "SELECT 3";
+
+    private Connection connection;
+}
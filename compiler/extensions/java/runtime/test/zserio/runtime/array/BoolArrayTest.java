@@ -6,6 +6,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.BitSet;
 import java.util.Iterator;
 
 import javax.imageio.stream.MemoryCacheImageOutputStream;
@@ -227,6 +228,92 @@ public class BoolArrayTest
         assertFalse(boolArray.equals(Integer.valueOf(1)));
     }
 
+    @Test
+    public void readWriteBulk() throws IOException
+    {
+        for (int length : new int[] {0, 1, 63, 64, 65, 130})
+        {
+            final BoolArray array = createPattern(length);
+
+            // unaligned start checks that elements are not byte aligned
+            final ByteArrayBitStreamWriter out = new ByteArrayBitStreamWriter();
+            out.writeBits(1, 3);
+            array.write(out);
+            assertEquals(3 + length, out.getBitPosition());
+
+            final ByteArrayBitStreamReader in = new ByteArrayBitStreamReader(out.toByteArray());
+            assertEquals(1, in.readBits(3));
+            for (int i = 0; i < length; i++)
+                assertEquals(array.elementAt(i), in.readBool());
+
+            final ByteArrayBitStreamReader arrayIn = new ByteArrayBitStreamReader(out.toByteArray());
+            arrayIn.readBits(3);
+            final BoolArray readArray = new BoolArray(arrayIn, length);
+            assertEquals(array, readArray);
+            assertEquals(array.hashCode(), readArray.hashCode());
+        }
+    }
+
+    @Test
+    public void readReusesStorage() throws IOException
+    {
+        final ByteArrayBitStreamWriter out = new ByteArrayBitStreamWriter();
+        createPattern(70).write(out);
+        new BoolArray(70).write(out);
+
+        final ByteArrayBitStreamReader in = new ByteArrayBitStreamReader(out.toByteArray());
+        final BoolArray array = new BoolArray(in, 70);
+        assertEquals(createPattern(70), array);
+        array.read(in, 70);
+        assertEquals(new BoolArray(70), array);
+    }
+
+    @Test
+    public void cardinality()
+    {
+        assertEquals(1024, boolArray.cardinality());
+        assertEquals(0, new BoolArray(100).cardinality());
+        assertEquals(44, createPattern(130).cardinality());
+    }
+
+    @Test
+    public void nextSetBit()
+    {
+        final BoolArray array = createPattern(130);
+        int expectedIndex = 0;
+        for (int i = array.nextSetBit(0); i >= 0; i = array.nextSetBit(i + 1))
+        {
+            assertEquals(expectedIndex, i);
+            expectedIndex += 3;
+        }
+        assertEquals(132, expectedIndex);
+        assertEquals(-1, new BoolArray(100).nextSetBit(0));
+        assertEquals(-1, array.nextSetBit(130));
+    }
+
+    @Test
+    public void bitSet()
+    {
+        final BoolArray array = createPattern(130);
+        final BitSet bitSet = array.toBitSet();
+        assertEquals(array.cardinality(), bitSet.cardinality());
+        for (int i = 0; i < 130; i++)
+            assertEquals(array.elementAt(i), bitSet.get(i));
+
+        // bits beyond the length are ignored
+        bitSet.set(200);
+        assertEquals(array, new BoolArray(bitSet, 130));
+    }
+
+    private static BoolArray createPattern(int length)
+    {
+        final BoolArray array = new BoolArray(length);
+        for (int i = 0; i < length; i += 3)
+            array.setElementAt(true, i);
+
+        return array;
+    }
+
     /**
      * A BoolArray.
      */
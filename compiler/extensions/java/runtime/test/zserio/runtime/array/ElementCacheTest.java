@@ -0,0 +1,60 @@
+package zserio.runtime.array;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class ElementCacheTest
+{
+    @Test
+    public void getAndPut()
+    {
+        final ElementCache<String> cache = new ElementCache<String>(MAX_SIZE);
+        assertEquals(MAX_SIZE, cache.getMaxSize());
+        assertEquals(0, cache.size());
+        assertNull(cache.get(0));
+
+        cache.put(0, "zero");
+        cache.put(10, "ten");
+        assertEquals(2, cache.size());
+        assertEquals("zero", cache.get(0));
+        assertEquals("ten", cache.get(10));
+        assertNull(cache.get(1));
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed()
+    {
+        final ElementCache<Integer> cache = new ElementCache<Integer>(MAX_SIZE);
+        for (int i = 0; i < MAX_SIZE; ++i)
+            cache.put(i, i * 2);
+
+        // touch the first element so that the second one becomes the least recently used
+        assertEquals(Integer.valueOf(0), cache.get(0));
+        cache.put(MAX_SIZE, MAX_SIZE * 2);
+
+        assertEquals(MAX_SIZE, cache.size());
+        assertEquals(Integer.valueOf(0), cache.get(0));
+        assertNull(cache.get(1));
+        assertEquals(Integer.valueOf(MAX_SIZE * 2), cache.get(MAX_SIZE));
+    }
+
+    @Test
+    public void clear()
+    {
+        final ElementCache<String> cache = new ElementCache<String>(MAX_SIZE);
+        cache.put(0, "zero");
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get(0));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void nonPositiveMaxSize()
+    {
+        new ElementCache<String>(0);
+    }
+
+    private static final int MAX_SIZE = 4;
+}
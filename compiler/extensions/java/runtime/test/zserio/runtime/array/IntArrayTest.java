@@ -1,6 +1,7 @@
 package zserio.runtime.array;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
@@ -40,6 +41,30 @@ public class IntArrayTest extends NumericArrayTestBase
         assertEquals(18, array.elementAt(0));
     }
 
+    @Test
+    public void readReusesStorage() throws IOException
+    {
+        final ByteArrayBitStreamWriter out = new ByteArrayBitStreamWriter();
+        out.writeInt(18);
+        out.writeInt(-3);
+        out.writeInt(42);
+        final ByteArrayBitStreamReader in = new ByteArrayBitStreamReader(out.toByteArray());
+
+        final IntArray array = new IntArray(in, 2, NUM_BITS);
+        final int[] storage = array.data;
+
+        in.setBitPosition(NUM_BITS);
+        array.read(in, 2, NUM_BITS);
+        assertSame(storage, array.data);
+        assertEquals(-3, array.elementAt(0));
+        assertEquals(42, array.elementAt(1));
+
+        in.setBitPosition(0);
+        array.read(in, 1, NUM_BITS);
+        assertEquals(1, array.length());
+        assertEquals(18, array.elementAt(0));
+    }
+
     @Test
     public void write() throws IOException
     {
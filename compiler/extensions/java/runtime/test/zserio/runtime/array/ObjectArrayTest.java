@@ -2,9 +2,12 @@ package zserio.runtime.array;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -12,6 +15,9 @@ import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 
+import zserio.runtime.io.BitStreamReader;
+import zserio.runtime.io.ByteArrayBitStreamReader;
+
 public class ObjectArrayTest
 {
     @Before
@@ -179,5 +185,68 @@ public class ObjectArrayTest
         assertEquals(63, tmpArray.hashCode());
     }
 
+    @Test
+    public void testReadRecycle() throws IOException
+    {
+        final WriterImplementer firstElement = objectArray.elementAt(0);
+        final ByteArrayBitStreamReader in = new ByteArrayBitStreamReader(new byte[8]);
+        final RecyclingFactory factory = new RecyclingFactory();
+
+        objectArray.read(in, 3, factory);
+        assertEquals(3, objectArray.length());
+        assertSame(firstElement, objectArray.elementAt(0));
+        assertEquals(3, factory.numRecycled);
+        assertEquals(0, factory.numCreated);
+
+        objectArray.read(in, 5, factory);
+        assertEquals(5, objectArray.length());
+        assertSame(firstElement, objectArray.elementAt(0));
+        assertEquals(6, factory.numRecycled);
+        assertEquals(2, factory.numCreated);
+        assertEquals(64, in.getBitPosition());
+    }
+
+    @Test
+    public void testReadWithoutRecycle() throws IOException
+    {
+        final WriterImplementer firstElement = objectArray.elementAt(0);
+        final ByteArrayBitStreamReader in = new ByteArrayBitStreamReader(new byte[] {2});
+
+        objectArray.read(in, Array.AUTO_LENGTH, new ElementFactory<WriterImplementer>()
+        {
+            @Override
+            public WriterImplementer create(BitStreamReader reader, int index)
+            {
+                return new WriterImplementer(index);
+            }
+        });
+        assertEquals(2, objectArray.length());
+        assertNotSame(firstElement, objectArray.elementAt(0));
+        assertEquals(new WriterImplementer(1), objectArray.elementAt(1));
+    }
+
+    private static class RecyclingFactory implements RecyclingElementFactory<WriterImplementer>
+    {
+        @Override
+        public WriterImplementer create(BitStreamReader reader, int index) throws IOException
+        {
+            reader.readBits(Byte.SIZE);
+            numCreated++;
+            return new WriterImplementer(index);
+        }
+
+        @Override
+        public boolean recycle(BitStreamReader reader, WriterImplementer element, int index)
+                throws IOException
+        {
+            reader.readBits(Byte.SIZE);
+            numRecycled++;
+            return true;
+        }
+
+        private int numCreated;
+        private int numRecycled;
+    }
+
     private ObjectArray<WriterImplementer> objectArray;
 }
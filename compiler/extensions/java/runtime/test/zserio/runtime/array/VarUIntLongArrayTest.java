@@ -0,0 +1,126 @@
+package zserio.runtime.array;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+import zserio.runtime.BitSizeOfCalculator;
+import zserio.runtime.io.ByteArrayBitStreamReader;
+import zserio.runtime.io.ByteArrayBitStreamWriter;
+
+public class VarUIntLongArrayTest
+{
+    @Test
+    public void ctorLength()
+    {
+        VarUIntLongArray array = new VarUIntLongArray(LENGTH);
+
+        assertEquals(LENGTH, array.length());
+    }
+
+    @Test
+    public void ctorLengthAccess()
+    {
+        VarUIntLongArray array = new VarUIntLongArray(LENGTH);
+
+        array.setElementAt((short)1, LENGTH - 1);
+        assertEquals(1, array.elementAt(LENGTH - 1));
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void ctorLengthAccessOutOfBound()
+    {
+        VarUIntLongArray array = new VarUIntLongArray(LENGTH);
+
+        array.elementAt(LENGTH);
+    }
+
+    @Test
+    public void read() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+
+        for (long value : DATA)
+        {
+            writer.writeVarUInt(new BigInteger(Long.toUnsignedString(value)));
+        }
+
+        final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(writer.toByteArray());
+
+        final VarUIntLongArray array = new VarUIntLongArray(reader, DATA.length);
+
+        assertEquals(array.length(), DATA.length);
+        for (int i = 0; i < DATA.length; i++)
+        {
+            assertEquals(DATA[i], array.elementAt(i));
+        }
+    }
+
+    @Test
+    public void write() throws IOException
+    {
+        final VarUIntLongArray array = new VarUIntLongArray(DATA.length);
+        for (int i = 0; i < DATA.length; i++)
+        {
+            array.setElementAt(DATA[i], i);
+        }
+
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        array.write(writer);
+
+        final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(writer.toByteArray());
+        for (long value : DATA)
+        {
+            assertEquals(value, reader.readVarUIntLong());
+        }
+    }
+
+    @Test
+    public void arrayCtor()
+    {
+        final VarUIntLongArray array = new VarUIntLongArray(DATA, 0, DATA.length);
+
+        assertEquals(DATA.length, array.length());
+
+        for (int i = 0; i < DATA.length; i++)
+        {
+            assertEquals(DATA[i], array.elementAt(i));
+        }
+    }
+
+    @Test
+    public void bitSizeOf()
+    {
+        final VarUIntLongArray array = new VarUIntLongArray(DATA, 0, DATA.length);
+
+        int expectedBitsize = 0;
+        for (long value : DATA)
+        {
+            expectedBitsize += BitSizeOfCalculator.getBitSizeOfVarUIntLong(value);
+        }
+
+        assertEquals(expectedBitsize, array.bitSizeOf(0));
+    }
+
+    private static final int LENGTH = 10;
+
+    private static long DATA[] =
+    {
+        // VarUInt can accommodate 64-bit unsigned numbers
+        0x01L,                  // 1 byte-encoded value
+        0x80L,                  // 2 byte-encoded value
+        0x4000L,                // 3 byte-encoded value
+        0x200000L,              // 4 byte-encoded value
+        0x10000000L,            // 5 byte-encoded value
+        0x800000000L,           // 6 byte-encoded value
+        0x40000000000L,         // 7 byte-encoded value
+        0x2000000000000L,       // 8 byte-encoded value
+        0x100000000000000L,     // 9 byte-encoded value
+        0x8000000000000000L,    // 9 byte-encoded value greater than Long.MAX_VALUE
+        0xffffffffffffffffL,    // max
+        0L                      // min
+    };
+}
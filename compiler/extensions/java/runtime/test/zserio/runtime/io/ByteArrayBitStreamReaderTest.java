@@ -47,6 +47,39 @@ public class ByteArrayBitStreamReaderTest
         reader.close();
     }
 
+    @Test
+    public void partOfArrayConstructor() throws IOException
+    {
+        final byte[] bytes = new byte[]{(byte)0xFF, (byte)0xAE, (byte)0xEA, 0x12, 0x34, (byte)0xFF};
+        final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(bytes, 1, 4);
+
+        assertEquals(32, reader.getBufferBitSize());
+        assertEquals(0xAEE, reader.readBits(12));
+        assertEquals(0xA, reader.readBits(4));
+        assertEquals(2, reader.getBytePosition());
+        assertEquals(0x1234, reader.readShort());
+
+        try
+        {
+            reader.readBits(1); // must throw!
+            fail("Expected exception!");
+        }
+        catch (IOException e)
+        {
+        }
+
+        reader.setBitPosition(8);
+        bytes[2] = 0x56; // bytes are not copied
+        assertEquals(0x56, reader.readByte());
+        reader.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void partOfArrayConstructorOutOfBounds()
+    {
+        new ByteArrayBitStreamReader(new byte[4], 2, 3);
+    }
+
     @Test
     public void readUnalignedData() throws IOException
     {
@@ -83,6 +116,61 @@ public class ByteArrayBitStreamReaderTest
         }
     }
 
+    @Test
+    public void readWideUnalignedData() throws IOException
+    {
+        for (int offset = 0; offset < 8; ++offset)
+        {
+            for (int numBits = 1; numBits < 64; ++numBits)
+            {
+                final long testValue = 0xA5C3F00F0FF0C35AL & ((1L << numBits) - 1);
+                final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+                if (offset != 0)
+                    writer.writeBits(0, offset);
+                writer.writeBits(testValue, numBits);
+                writer.writeBits(testValue, numBits);
+                writer.writeBool(true);
+
+                final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(writer.toByteArray());
+                if (offset != 0)
+                    assertEquals(0, reader.readBits(offset));
+                final String message = "offset: " + offset + ", numBits: " + numBits;
+                assertEquals(message, testValue, reader.readBits(numBits));
+                assertEquals(message, testValue, reader.readBits(numBits));
+                assertEquals(1, reader.readBits(1));
+            }
+        }
+    }
+
+    @Test
+    public void readUnalignedDataFarFromEnd() throws IOException
+    {
+        // padding at the end makes sure that all values are read by whole words
+        for (int offset = 0; offset < 8; ++offset)
+        {
+            for (int numBits = 1; numBits < 64; ++numBits)
+            {
+                final long testValue = 0xA5C3F00F0FF0C35AL & ((1L << numBits) - 1);
+                final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+                if (offset != 0)
+                    writer.writeBits(0, offset);
+                writer.writeBits(testValue, numBits);
+                writer.writeBits(testValue, numBits);
+                writer.writeBool(true);
+                writer.writeBits(0, 63);
+                writer.writeBits(0, 63);
+
+                final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(writer.toByteArray());
+                if (offset != 0)
+                    assertEquals(0, reader.readBits(offset));
+                final String message = "offset: " + offset + ", numBits: " + numBits;
+                assertEquals(message, testValue, reader.readBits(numBits));
+                assertEquals(message, testValue, reader.readBits(numBits));
+                assertEquals(1, reader.readBits(1));
+            }
+        }
+    }
+
     /**
      * Test the exception in the protected readRange method.
      *
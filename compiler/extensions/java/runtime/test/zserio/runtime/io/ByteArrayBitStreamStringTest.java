@@ -1,6 +1,8 @@
 package zserio.runtime.io;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -81,6 +83,118 @@ public class ByteArrayBitStreamStringTest
         writeZserioAndReadZserioUnaligned("HAMBURG", "MÜNCHEN", "KÖLN");
     }
 
+    @Test
+    public void writeAndReadAtAllOffsets() throws IOException
+    {
+        for (int offset = 0; offset < 8; ++offset)
+        {
+            final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+            if (offset != 0)
+                writer.writeBits(0, offset);
+            writer.writeString("HAMBURG");
+            writer.writeString("");
+            writer.writeString("MÜNCHEN");
+            writer.writeBits(0x5, 3);
+
+            final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(writer.toByteArray());
+            if (offset != 0)
+                assertEquals(0, reader.readBits(offset));
+            assertEquals("HAMBURG", reader.readString());
+            assertEquals("", reader.readString());
+            assertEquals("MÜNCHEN", reader.readString());
+            assertEquals(0x5, reader.readBits(3));
+            reader.close();
+        }
+    }
+
+    @Test
+    public void writeAndReadLongStrings() throws IOException
+    {
+        // longer than the scratch buffers of the reader and the writer
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; ++i)
+            builder.append("KOLN");
+        final String longString = builder.toString();
+
+        for (int offset = 0; offset < 2; ++offset)
+        {
+            final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+            if (offset != 0)
+                writer.writeBits(0, offset);
+            writer.writeString(longString + longString);
+            writer.writeString("BONN");
+            writer.writeString(longString);
+
+            final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(writer.toByteArray());
+            if (offset != 0)
+                assertEquals(0, reader.readBits(offset));
+            assertEquals(longString + longString, reader.readString());
+            assertEquals("BONN", reader.readString());
+            assertEquals(longString, reader.readString());
+            reader.close();
+        }
+    }
+
+    @Test
+    public void overwriteUnaligned() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        writer.writeBits(0x3, 2);
+        writer.writeString("KOLN");
+        writer.writeBits(0x3F, 6);
+        final long endBitPosition = writer.getBitPosition();
+        writer.setBitPosition(2);
+        writer.writeString("BONN");
+        writer.setBitPosition(endBitPosition);
+
+        final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(writer.toByteArray());
+        assertEquals(0x3, reader.readBits(2));
+        assertEquals("BONN", reader.readString());
+        assertEquals(0x3F, reader.readBits(6));
+        reader.close();
+    }
+
+    @Test(expected = IOException.class)
+    public void readTruncated() throws IOException
+    {
+        final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(new byte[] {0x05, 'K', 'O', 'L'});
+        try
+        {
+            reader.readString();
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+
+    @Test
+    public void readWithStringCache() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        writer.writeString("de");
+        writer.writeBool(true);
+        writer.writeString("de");
+        writer.writeString("MÜNCHEN");
+        writer.writeString("MÜNCHEN");
+
+        final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(writer.toByteArray());
+        reader.setStringCache(new StringCache(16, 4));
+        final String aligned = reader.readString();
+        assertEquals(true, reader.readBool());
+        final String unaligned = reader.readString();
+        assertEquals("de", aligned);
+        assertSame(aligned, unaligned);
+
+        // too long to be cached
+        final String first = reader.readString();
+        final String second = reader.readString();
+        assertEquals("MÜNCHEN", first);
+        assertEquals("MÜNCHEN", second);
+        assertNotSame(first, second);
+        reader.close();
+    }
+
     private void writeZserioAndReadJdk(final String s1, final String s2, final String s3) throws IOException
     {
         final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
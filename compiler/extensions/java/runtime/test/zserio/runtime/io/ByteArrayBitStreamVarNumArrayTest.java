@@ -0,0 +1,295 @@
+package zserio.runtime.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class ByteArrayBitStreamVarNumArrayTest
+{
+    @Test
+    public void varInt16Array() throws IOException
+    {
+        final short[] values = new short[] {0, 1, -1, 63, -63, 64, -64, 0x3FFF, -0x3FFF, 1000, -1000};
+        for (int offset : OFFSETS)
+        {
+            final ByteArrayBitStreamWriter expectedWriter = createWriter(offset);
+            for (short value : values)
+                expectedWriter.writeVarInt16(value);
+            final ByteArrayBitStreamWriter writer = createWriter(offset);
+            writer.writeVarInt16Array(values, 0, values.length);
+            final byte[] data = checkWrittenData(expectedWriter, writer);
+
+            final ByteArrayBitStreamReader reader = createReader(data, offset);
+            final short[] readValues = new short[values.length + 1];
+            reader.readVarInt16Array(readValues, 1, values.length);
+            for (int i = 0; i < values.length; ++i)
+                assertEquals(values[i], readValues[i + 1]);
+            checkSentinel(reader);
+        }
+    }
+
+    @Test
+    public void varUInt16Array() throws IOException
+    {
+        final short[] values = new short[] {0, 1, 127, 128, 0x7FFF, 1000};
+        for (int offset : OFFSETS)
+        {
+            final ByteArrayBitStreamWriter expectedWriter = createWriter(offset);
+            for (short value : values)
+                expectedWriter.writeVarUInt16(value);
+            final ByteArrayBitStreamWriter writer = createWriter(offset);
+            writer.writeVarUInt16Array(values, 0, values.length);
+            final byte[] data = checkWrittenData(expectedWriter, writer);
+
+            final ByteArrayBitStreamReader reader = createReader(data, offset);
+            final short[] readValues = new short[values.length];
+            reader.readVarUInt16Array(readValues, 0, values.length);
+            assertArrayEquals(values, readValues);
+            checkSentinel(reader);
+        }
+    }
+
+    @Test
+    public void varInt32Array() throws IOException
+    {
+        final int[] values = new int[] {0, 1, -1, 63, -64, 1 << 13, -(1 << 20), (1 << 28) - 1, -((1 << 28) - 1)};
+        for (int offset : OFFSETS)
+        {
+            final ByteArrayBitStreamWriter expectedWriter = createWriter(offset);
+            for (int value : values)
+                expectedWriter.writeVarInt32(value);
+            final ByteArrayBitStreamWriter writer = createWriter(offset);
+            writer.writeVarInt32Array(values, 0, values.length);
+            final byte[] data = checkWrittenData(expectedWriter, writer);
+
+            final ByteArrayBitStreamReader reader = createReader(data, offset);
+            final int[] readValues = new int[values.length];
+            reader.readVarInt32Array(readValues, 0, values.length);
+            assertArrayEquals(values, readValues);
+            checkSentinel(reader);
+        }
+    }
+
+    @Test
+    public void varUInt32Array() throws IOException
+    {
+        final int[] values = new int[] {0, 1, 127, 128, 1 << 14, 1 << 21, (1 << 29) - 1, 300};
+        for (int offset : OFFSETS)
+        {
+            final ByteArrayBitStreamWriter expectedWriter = createWriter(offset);
+            for (int value : values)
+                expectedWriter.writeVarUInt32(value);
+            final ByteArrayBitStreamWriter writer = createWriter(offset);
+            writer.writeVarUInt32Array(values, 0, values.length);
+            final byte[] data = checkWrittenData(expectedWriter, writer);
+
+            final ByteArrayBitStreamReader reader = createReader(data, offset);
+            final int[] readValues = new int[values.length];
+            reader.readVarUInt32Array(readValues, 0, values.length);
+            assertArrayEquals(values, readValues);
+            checkSentinel(reader);
+        }
+    }
+
+    @Test
+    public void varInt64Array() throws IOException
+    {
+        final long[] values = new long[] {0, 1, -1, 63, -64, 1L << 27, -(1L << 41), (1L << 55) - 1,
+                -((1L << 55) - 1)};
+        for (int offset : OFFSETS)
+        {
+            final ByteArrayBitStreamWriter expectedWriter = createWriter(offset);
+            for (long value : values)
+                expectedWriter.writeVarInt64(value);
+            final ByteArrayBitStreamWriter writer = createWriter(offset);
+            writer.writeVarInt64Array(values, 0, values.length);
+            final byte[] data = checkWrittenData(expectedWriter, writer);
+
+            final ByteArrayBitStreamReader reader = createReader(data, offset);
+            final long[] readValues = new long[values.length];
+            reader.readVarInt64Array(readValues, 0, values.length);
+            assertArrayEquals(values, readValues);
+            checkSentinel(reader);
+        }
+    }
+
+    @Test
+    public void varUInt64Array() throws IOException
+    {
+        final long[] values = new long[] {0, 1, 127, 128, 1L << 35, 1L << 49, (1L << 57) - 1};
+        for (int offset : OFFSETS)
+        {
+            final ByteArrayBitStreamWriter expectedWriter = createWriter(offset);
+            for (long value : values)
+                expectedWriter.writeVarUInt64(value);
+            final ByteArrayBitStreamWriter writer = createWriter(offset);
+            writer.writeVarUInt64Array(values, 0, values.length);
+            final byte[] data = checkWrittenData(expectedWriter, writer);
+
+            final ByteArrayBitStreamReader reader = createReader(data, offset);
+            final long[] readValues = new long[values.length];
+            reader.readVarUInt64Array(readValues, 0, values.length);
+            assertArrayEquals(values, readValues);
+            checkSentinel(reader);
+        }
+    }
+
+    @Test
+    public void varIntArray() throws IOException
+    {
+        final long[] values = new long[] {0, 1, -1, Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE + 1,
+                1L << 48, -(1L << 55)};
+        for (int offset : OFFSETS)
+        {
+            final ByteArrayBitStreamWriter expectedWriter = createWriter(offset);
+            for (long value : values)
+                expectedWriter.writeVarInt(value);
+            final ByteArrayBitStreamWriter writer = createWriter(offset);
+            writer.writeVarIntArray(values, 0, values.length);
+            final byte[] data = checkWrittenData(expectedWriter, writer);
+
+            final ByteArrayBitStreamReader reader = createReader(data, offset);
+            final long[] readValues = new long[values.length];
+            reader.readVarIntArray(readValues, 0, values.length);
+            assertArrayEquals(values, readValues);
+            checkSentinel(reader);
+        }
+    }
+
+    @Test
+    public void varSizeArray() throws IOException
+    {
+        final int[] values = new int[] {0, 1, 127, 128, 1 << 21, 1 << 28, Integer.MAX_VALUE};
+        for (int offset : OFFSETS)
+        {
+            final ByteArrayBitStreamWriter expectedWriter = createWriter(offset);
+            for (int value : values)
+                expectedWriter.writeVarSize(value);
+            final ByteArrayBitStreamWriter writer = createWriter(offset);
+            writer.writeVarSizeArray(values, 0, values.length);
+            final byte[] data = checkWrittenData(expectedWriter, writer);
+
+            final ByteArrayBitStreamReader reader = createReader(data, offset);
+            final int[] readValues = new int[values.length];
+            reader.readVarSizeArray(readValues, 0, values.length);
+            assertArrayEquals(values, readValues);
+            checkSentinel(reader);
+        }
+    }
+
+    @Test
+    public void largeVarUInt32Array() throws IOException
+    {
+        final int[] values = new int[5000];
+        for (int i = 0; i < values.length; ++i)
+            values[i] = (i * 7919) & ((1 << 29) - 1);
+
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter(16);
+        writer.writeVarUInt32Array(values, 0, values.length);
+        final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(writer.toByteArray());
+        final int[] readValues = new int[values.length];
+        reader.readVarUInt32Array(readValues, 0, values.length);
+        assertArrayEquals(values, readValues);
+        assertEquals(reader.getBufferBitSize(), reader.getBitPosition());
+    }
+
+    @Test
+    public void readTruncated() throws IOException
+    {
+        final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(new byte[] {0x01, (byte)0x81});
+        final int[] readValues = new int[2];
+        try
+        {
+            reader.readVarUInt32Array(readValues, 0, 2);
+            fail("Expected exception!");
+        }
+        catch (IOException e)
+        {
+        }
+        assertEquals(1, readValues[0]);
+    }
+
+    @Test
+    public void varSizeOutOfRange() throws IOException
+    {
+        final byte[] data = new byte[] {(byte)0x8F, (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF};
+        final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(data);
+        try
+        {
+            reader.readVarSizeArray(new int[1], 0, 1);
+            fail("Expected exception!");
+        }
+        catch (IOException e)
+        {
+        }
+    }
+
+    @Test
+    public void writeOutOfRange() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        try
+        {
+            writer.writeVarUInt32Array(new int[] {1, 1 << 29}, 0, 2);
+            fail("Expected exception!");
+        }
+        catch (IOException e)
+        {
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void readArrayRangeOutOfBounds() throws IOException
+    {
+        final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(new byte[4]);
+        reader.readVarUInt32Array(new int[2], 1, 2);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void writeArrayRangeOutOfBounds() throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        writer.writeVarUInt32Array(new int[2], -1, 2);
+    }
+
+    private static ByteArrayBitStreamWriter createWriter(int offset) throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        if (offset != 0)
+            writer.writeBits(0, offset);
+
+        return writer;
+    }
+
+    private static ByteArrayBitStreamReader createReader(byte[] data, int offset) throws IOException
+    {
+        final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(data);
+        if (offset != 0)
+            assertEquals(0, reader.readBits(offset));
+
+        return reader;
+    }
+
+    private static byte[] checkWrittenData(ByteArrayBitStreamWriter expectedWriter,
+            ByteArrayBitStreamWriter writer) throws IOException
+    {
+        expectedWriter.writeBits(SENTINEL, 3);
+        writer.writeBits(SENTINEL, 3);
+        final byte[] data = writer.toByteArray();
+        assertArrayEquals(expectedWriter.toByteArray(), data);
+
+        return data;
+    }
+
+    private static void checkSentinel(ByteArrayBitStreamReader reader) throws IOException
+    {
+        assertEquals(SENTINEL, reader.readBits(3));
+    }
+
+    private static final int[] OFFSETS = new int[] {0, 3};
+    private static final int SENTINEL = 0x5;
+}
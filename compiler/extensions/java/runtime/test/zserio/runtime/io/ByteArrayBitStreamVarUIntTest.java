@@ -150,6 +150,37 @@ public class ByteArrayBitStreamVarUIntTest
         writer.writeVarUInt(BigInteger.valueOf(Long.MIN_VALUE));
     }
 
+    @Test
+    public void readWriteLongByte8Max() throws IOException
+    {
+        readWriteLongTest((1L << 56) - 1, 8);
+    }
+
+    @Test
+    public void readWriteLongByte9Min() throws IOException
+    {
+        readWriteLongTest(1L << 56, 9);
+    }
+
+    @Test
+    public void readWriteLongUnsignedMax() throws IOException
+    {
+        readWriteLongTest(-1L, 9);
+    }
+
+    @Test
+    public void readWriteLongUnaligned() throws IOException
+    {
+        final long value = 0x8000000000000001L;
+        ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        writer.writeBits(1, 3);
+        writer.writeVarUIntLong(value);
+
+        ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(writer.toByteArray());
+        assertEquals(1, reader.readBits(3));
+        assertEquals(value, reader.readVarUIntLong());
+    }
+
     private void readWriteTest(BigInteger value, int expectedNumBytes) throws IOException
     {
         ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
@@ -161,4 +192,19 @@ public class ByteArrayBitStreamVarUIntTest
         BigInteger readValue = reader.readVarUInt();
         assertEquals(value, readValue);
     }
+
+    private void readWriteLongTest(long value, int expectedNumBytes) throws IOException
+    {
+        ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        writer.writeVarUIntLong(value);
+        assertEquals(expectedNumBytes, writer.getBytePosition());
+
+        // the encoding must be the same as for the big integer varuint
+        ByteArrayBitStreamWriter bigIntegerWriter = new ByteArrayBitStreamWriter();
+        bigIntegerWriter.writeVarUInt(new BigInteger(Long.toUnsignedString(value)));
+        assertArrayEquals(bigIntegerWriter.toByteArray(), writer.toByteArray());
+
+        ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(writer.toByteArray());
+        assertEquals(value, reader.readVarUIntLong());
+    }
 }
@@ -1,5 +1,6 @@
 package zserio.runtime.io;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -137,6 +138,42 @@ public class ByteArrayBitStreamWriterTest
         assertEquals(b.length * 8L, 32);
     }
 
+    @Test
+    public void writeUnsignedLong() throws Exception
+    {
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        writer.writeBits(0x1, 1);
+        writer.writeUnsignedLong(0xFEDCBA9876543210L, 64);
+        writer.writeUnsignedLong(0x7FFFFFFFFFFFFFFFL, 63);
+        writer.close();
+
+        final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(writer.toByteArray());
+        assertEquals(0x1, reader.readBits(1));
+        assertEquals(0xFEDCBA9876543210L, reader.readUnsignedLong(64));
+        assertEquals(0x7FFFFFFFFFFFFFFFL, reader.readUnsignedLong(63));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void writeUnsignedLongOutOfRange() throws Exception
+    {
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        writer.writeUnsignedLong(-1L, 63);
+    }
+
+    @Test
+    public void reset() throws Exception
+    {
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        writer.writeInt(0xFFFFFFFF);
+        writer.writeBits(0x7, 3);
+        writer.reset();
+        assertEquals(0, writer.getBitPosition());
+
+        writer.writeBits(0x1, 2);
+        writer.close();
+        assertArrayEquals(new byte[] {(byte)0x40}, writer.toByteArray());
+    }
+
     @Test
     public void writeUnalignedData() throws IOException
     {
@@ -0,0 +1,222 @@
+package zserio.runtime.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+public class ByteBufferBitStreamTest
+{
+    @Test
+    public void writeSameAsByteArrayWriter() throws IOException
+    {
+        for (int offset = 0; offset < 8; ++offset)
+        {
+            final ByteArrayBitStreamWriter expectedWriter = new ByteArrayBitStreamWriter();
+            writeData(expectedWriter, offset);
+            final byte[] expectedData = expectedWriter.toByteArray();
+
+            for (ByteBuffer buffer : createBuffers(expectedData.length))
+            {
+                final ByteBufferBitStreamWriter writer = new ByteBufferBitStreamWriter(buffer);
+                writeData(writer, offset);
+                writer.close();
+                assertEquals(expectedData.length, (writer.getBitPosition() + 7) / 8);
+                assertEquals(BUFFER_POSITION, buffer.position());
+
+                final byte[] data = new byte[expectedData.length];
+                buffer.duplicate().get(data);
+                assertArrayEquals(expectedData, data);
+            }
+        }
+    }
+
+    @Test
+    public void read() throws IOException
+    {
+        for (int offset = 0; offset < 8; ++offset)
+        {
+            final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+            writeData(writer, offset);
+            final byte[] data = writer.toByteArray();
+
+            for (ByteBuffer buffer : createBuffers(data.length))
+            {
+                buffer.duplicate().put(data);
+                final ByteBufferBitStreamReader reader = new ByteBufferBitStreamReader(buffer);
+                readData(reader, offset);
+                reader.close();
+                assertEquals(BUFFER_POSITION, buffer.position());
+            }
+        }
+    }
+
+    @Test
+    public void readBitSize() throws IOException
+    {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[] {(byte)0xAE, (byte)0xEA, (byte)0x80});
+        final ByteBufferBitStreamReader reader = new ByteBufferBitStreamReader(buffer, 17);
+        assertEquals(17, reader.getBufferBitSize());
+        assertEquals(0xAEE, reader.readBits(12));
+        assertEquals(0x0A, reader.readBits(4));
+        assertEquals(0x01, reader.readBits(1));
+        try
+        {
+            reader.readBits(1);
+            fail("Expected exception!");
+        }
+        catch (IOException e)
+        {
+        }
+        reader.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void readBitSizeOutOfRange()
+    {
+        new ByteBufferBitStreamReader(ByteBuffer.allocate(2), 17);
+    }
+
+    @Test
+    public void writeOverflow() throws IOException
+    {
+        final ByteBufferBitStreamWriter writer = new ByteBufferBitStreamWriter(ByteBuffer.allocate(2));
+        writer.writeBits(0x7FFF, 15);
+        writer.writeBool(true);
+        try
+        {
+            writer.writeBool(true);
+            fail("Expected exception!");
+        }
+        catch (IOException e)
+        {
+        }
+        writer.close();
+    }
+
+    @Test
+    public void setBitPosition() throws IOException
+    {
+        final ByteBuffer buffer = ByteBuffer.allocate(2);
+        final ByteBufferBitStreamWriter writer = new ByteBufferBitStreamWriter(buffer);
+        writer.setBitPosition(4);
+        writer.writeBits(0xF, 4);
+        writer.writeByte((byte)0x12);
+        writer.setBitPosition(0);
+        writer.writeBits(0xA, 4);
+        assertEquals(4, writer.getBitPosition());
+        assertEquals((byte)0xAF, buffer.get(0));
+        assertEquals((byte)0x12, buffer.get(1));
+        try
+        {
+            writer.setBitPosition(17);
+            fail("Expected exception!");
+        }
+        catch (IOException e)
+        {
+        }
+        writer.close();
+    }
+
+    private static ByteBuffer[] createBuffers(int size)
+    {
+        final ByteBuffer heapBuffer = ByteBuffer.allocate(BUFFER_POSITION + size + 5);
+        heapBuffer.position(BUFFER_POSITION);
+        heapBuffer.limit(BUFFER_POSITION + size);
+        final ByteBuffer directBuffer = ByteBuffer.allocateDirect(BUFFER_POSITION + size + 5);
+        directBuffer.position(BUFFER_POSITION);
+        directBuffer.limit(BUFFER_POSITION + size);
+
+        return new ByteBuffer[] { heapBuffer, directBuffer };
+    }
+
+    private static void writeData(BitStreamWriter writer, int offset) throws IOException
+    {
+        if (offset > 0)
+            writer.writeBits(0, offset);
+        writer.writeBits(0x5A5A5A5A5AL, 40);
+        writer.writeSignedBits(-3, 13);
+        writer.writeByte((byte)-100);
+        writer.writeUnsignedByte((short)200);
+        writer.writeShort((short)-1000);
+        writer.writeUnsignedShort(60000);
+        writer.writeInt(-100000);
+        writer.writeUnsignedInt(4000000000L);
+        writer.writeLong(Long.MIN_VALUE + 1);
+        writer.writeBigInteger(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE), 64);
+        writer.writeBigInteger(BigInteger.valueOf(-5), 70);
+        writer.writeUnsignedLong(-2L, 64);
+        writer.writeUnsignedLong(0x1FFFFFFFFFFFFL, 49);
+        writer.writeFloat16(1.5f);
+        writer.writeFloat32(-2.25f);
+        writer.writeFloat64(3.125);
+        writer.writeString("zserio žluťoučký kůň");
+        writer.writeBool(true);
+        writer.writeVarInt16((short)-300);
+        writer.writeVarInt32(-70000);
+        writer.writeVarInt64(1L << 50);
+        writer.writeVarUInt16((short)300);
+        writer.writeVarUInt32(1 << 28);
+        writer.writeVarUInt64(1L << 56);
+        writer.writeVarInt(Long.MIN_VALUE);
+        writer.writeVarInt(Long.MAX_VALUE);
+        writer.writeVarInt(-1);
+        writer.writeVarUInt(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE));
+        writer.writeVarUInt(BigInteger.TEN);
+        writer.writeVarUIntLong(-1L);
+        writer.writeVarUIntLong(1L << 56);
+        writer.writeVarSize(Integer.MAX_VALUE);
+        writer.writeBitBuffer(new BitBuffer(new byte[]{(byte)0xAB, (byte)0xCD, (byte)0xE0}, 19));
+        writer.alignTo(32);
+        writer.writeUnsignedByte((short)0xFE);
+    }
+
+    private static void readData(BitStreamReader reader, int offset) throws IOException
+    {
+        if (offset > 0)
+            assertEquals(0, reader.readBits(offset));
+        assertEquals(0x5A5A5A5A5AL, reader.readBits(40));
+        assertEquals(-3, reader.readSignedBits(13));
+        assertEquals((byte)-100, reader.readByte());
+        assertEquals(200, reader.readUnsignedByte());
+        assertEquals((short)-1000, reader.readShort());
+        assertEquals(60000, reader.readUnsignedShort());
+        assertEquals(-100000, reader.readInt());
+        assertEquals(4000000000L, reader.readUnsignedInt());
+        assertEquals(Long.MIN_VALUE + 1, reader.readLong());
+        assertEquals(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE), reader.readBigInteger(64));
+        assertEquals(BigInteger.valueOf(-5), reader.readSignedBigInteger(70));
+        assertEquals(-2L, reader.readUnsignedLong(64));
+        assertEquals(0x1FFFFFFFFFFFFL, reader.readUnsignedLong(49));
+        assertEquals(1.5f, reader.readFloat16(), 0.0f);
+        assertEquals(-2.25f, reader.readFloat32(), 0.0f);
+        assertEquals(3.125, reader.readFloat64(), 0.0);
+        assertEquals("zserio žluťoučký kůň", reader.readString());
+        assertEquals(true, reader.readBool());
+        assertEquals((short)-300, reader.readVarInt16());
+        assertEquals(-70000, reader.readVarInt32());
+        assertEquals(1L << 50, reader.readVarInt64());
+        assertEquals((short)300, reader.readVarUInt16());
+        assertEquals(1 << 28, reader.readVarUInt32());
+        assertEquals(1L << 56, reader.readVarUInt64());
+        assertEquals(Long.MIN_VALUE, reader.readVarInt());
+        assertEquals(Long.MAX_VALUE, reader.readVarInt());
+        assertEquals(-1, reader.readVarInt());
+        assertEquals(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE), reader.readVarUInt());
+        assertEquals(BigInteger.TEN, reader.readVarUInt());
+        assertEquals(-1L, reader.readVarUIntLong());
+        assertEquals(1L << 56, reader.readVarUIntLong());
+        assertEquals(Integer.MAX_VALUE, reader.readVarSize());
+        assertEquals(new BitBuffer(new byte[]{(byte)0xAB, (byte)0xCD, (byte)0xE0}, 19), reader.readBitBuffer());
+        reader.alignTo(32);
+        assertEquals(0xFE, reader.readUnsignedByte());
+        assertEquals(reader.getBufferBitSize(), reader.getBitPosition());
+    }
+
+    private static final int BUFFER_POSITION = 3;
+}
@@ -1,5 +1,6 @@
 package zserio.runtime.io;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 import java.io.DataInputStream;
@@ -48,5 +49,164 @@ public class FileBitStreamWriterTest
             throw new RuntimeException("can't delete temporary file " + tempFile);
     }
 
+    @Test
+    public void writeStreamed() throws IOException
+    {
+        final File tempFile = File.createTempFile(TempFileNamePrefix, null);
+
+        final FileBitStreamWriter writer = new FileBitStreamWriter(tempFile, SMALL_BUFFER_SIZE);
+        final ByteArrayBitStreamWriter expectedWriter = new ByteArrayBitStreamWriter();
+        try
+        {
+            for (int i = 0; i < NUM_STREAMED_VALUES; ++i)
+            {
+                writer.writeBits(i & 0x7, 3);
+                writer.writeInt(i);
+                writer.writeString("value" + i);
+                expectedWriter.writeBits(i & 0x7, 3);
+                expectedWriter.writeInt(i);
+                expectedWriter.writeString("value" + i);
+                assertEquals(expectedWriter.getBitPosition(), writer.getBitPosition());
+            }
+            writer.alignTo(8);
+            expectedWriter.alignTo(8);
+            assertEquals(expectedWriter.getBytePosition(), writer.getBytePosition());
+        }
+        finally
+        {
+            writer.close();
+        }
+
+        assertArrayEquals(expectedWriter.toByteArray(), readFile(tempFile));
+
+        if (!tempFile.delete())
+            throw new RuntimeException("can't delete temporary file " + tempFile);
+    }
+
+    @Test
+    public void setBitPositionWithinBuffer() throws IOException
+    {
+        final File tempFile = File.createTempFile(TempFileNamePrefix, null);
+
+        final FileBitStreamWriter writer = new FileBitStreamWriter(tempFile, SMALL_BUFFER_SIZE);
+        try
+        {
+            for (int i = 0; i < SMALL_BUFFER_SIZE; ++i)
+                writer.writeByte((byte)i);
+            final long bitPosition = writer.getBitPosition();
+            writer.writeByte((byte)0);
+            writer.setBitPosition(bitPosition);
+            writer.writeByte((byte)0x7F);
+        }
+        finally
+        {
+            writer.close();
+        }
+
+        final byte[] data = readFile(tempFile);
+        assertEquals(SMALL_BUFFER_SIZE + 1, data.length);
+        assertEquals(0x7F, data[SMALL_BUFFER_SIZE]);
+
+        if (!tempFile.delete())
+            throw new RuntimeException("can't delete temporary file " + tempFile);
+    }
+
+    @Test(expected = IOException.class)
+    public void setBitPositionBeforeFlushedData() throws IOException
+    {
+        final File tempFile = File.createTempFile(TempFileNamePrefix, null);
+        tempFile.deleteOnExit();
+
+        final FileBitStreamWriter writer = new FileBitStreamWriter(tempFile, SMALL_BUFFER_SIZE);
+        try
+        {
+            for (int i = 0; i < 2 * SMALL_BUFFER_SIZE; ++i)
+                writer.writeByte((byte)i);
+            writer.setBitPosition(0);
+        }
+        finally
+        {
+            writer.close();
+        }
+    }
+
+    @Test
+    public void toByteArray() throws IOException
+    {
+        final File tempFile = File.createTempFile(TempFileNamePrefix, null);
+        tempFile.deleteOnExit();
+
+        final FileBitStreamWriter writer = new FileBitStreamWriter(tempFile, SMALL_BUFFER_SIZE);
+        final ByteArrayBitStreamWriter expectedWriter = new ByteArrayBitStreamWriter();
+        try
+        {
+            assertEquals(0, writer.toByteArray().length);
+            for (int i = 0; i < 3 * SMALL_BUFFER_SIZE; ++i)
+            {
+                writer.writeBits(i & 0x1F, 5);
+                expectedWriter.writeBits(i & 0x1F, 5);
+            }
+            assertArrayEquals(expectedWriter.toByteArray(), writer.toByteArray());
+
+            // writing continues after toByteArray
+            writer.writeBits(0x3, 2);
+            expectedWriter.writeBits(0x3, 2);
+            assertArrayEquals(expectedWriter.toByteArray(), writer.toByteArray());
+        }
+        finally
+        {
+            writer.close();
+        }
+
+        assertArrayEquals(expectedWriter.toByteArray(), writer.toByteArray());
+        assertArrayEquals(expectedWriter.toByteArray(), readFile(tempFile));
+    }
+
+    @Test
+    public void reset() throws IOException
+    {
+        final File tempFile = File.createTempFile(TempFileNamePrefix, null);
+        tempFile.deleteOnExit();
+
+        final FileBitStreamWriter writer = new FileBitStreamWriter(tempFile, SMALL_BUFFER_SIZE);
+        try
+        {
+            for (int i = 0; i < 2 * SMALL_BUFFER_SIZE; ++i)
+                writer.writeByte((byte)0xFF);
+            writer.reset();
+            assertEquals(0, writer.getBitPosition());
+            writer.writeBits(0x1, 4);
+        }
+        finally
+        {
+            writer.close();
+        }
+        assertArrayEquals(new byte[] { 0x10 }, readFile(tempFile));
+
+        // reset after close writes the file again
+        writer.reset();
+        writer.writeByte((byte)0x22);
+        writer.close();
+        assertArrayEquals(new byte[] { 0x22 }, readFile(tempFile));
+    }
+
+    private static byte[] readFile(File file) throws IOException
+    {
+        final byte[] data = new byte[(int)file.length()];
+        final DataInputStream reader = new DataInputStream(new FileInputStream(file));
+        try
+        {
+            reader.readFully(data);
+        }
+        finally
+        {
+            reader.close();
+        }
+
+        return data;
+    }
+
+    private static final int SMALL_BUFFER_SIZE = 16;
+    private static final int NUM_STREAMED_VALUES = 1000;
     private static final String TempFileNamePrefix = "FileBitStreamWriterTest";
 }
@@ -0,0 +1,234 @@
+package zserio.runtime.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+public class MappedFileBitStreamReaderTest
+{
+    @Test(expected = IOException.class)
+    public void readNonexistentFile() throws IOException
+    {
+        final File tempFile = File.createTempFile(TempFileNamePrefix, null);
+        deleteFile(tempFile);
+
+        final MappedFileBitStreamReader reader = new MappedFileBitStreamReader(tempFile);
+        reader.close();
+        fail("opening a non-existent file succeeded");
+    }
+
+    @Test
+    public void readEmptyFile() throws IOException
+    {
+        final File tempFile = createFile(new byte[0]);
+        final MappedFileBitStreamReader reader = new MappedFileBitStreamReader(tempFile);
+        try
+        {
+            assertEquals(0, reader.getBufferBitSize());
+            try
+            {
+                reader.readBits(1);
+                fail("Expected exception!");
+            }
+            catch (IOException e)
+            {
+            }
+        }
+        finally
+        {
+            reader.close();
+            deleteFile(tempFile);
+        }
+    }
+
+    @Test
+    public void read() throws IOException
+    {
+        for (int segmentShift : SegmentShifts)
+        {
+            for (int offset = 0; offset < 8; ++offset)
+            {
+                final File tempFile = createFile(writeData(offset));
+                final MappedFileBitStreamReader reader = new MappedFileBitStreamReader(tempFile, segmentShift);
+                try
+                {
+                    readData(reader, offset);
+                }
+                finally
+                {
+                    reader.close();
+                    deleteFile(tempFile);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void bitsAcrossSegments() throws IOException
+    {
+        final byte[] data = new byte[64];
+        for (int i = 0; i < data.length; ++i)
+            data[i] = (byte)(i * 37 + 11);
+
+        final File tempFile = createFile(data);
+        try
+        {
+            for (int segmentShift : SegmentShifts)
+            {
+                final MappedFileBitStreamReader reader = new MappedFileBitStreamReader(tempFile, segmentShift);
+                final ByteArrayBitStreamReader expectedReader = new ByteArrayBitStreamReader(data);
+                for (int numBits = 1; numBits <= 64; ++numBits)
+                {
+                    for (long bitPosition = 0; bitPosition + numBits <= data.length * 8; bitPosition += 7)
+                    {
+                        reader.setBitPosition(bitPosition);
+                        expectedReader.setBitPosition(bitPosition);
+                        assertEquals(expectedReader.readBits(numBits), reader.readBits(numBits));
+                        assertEquals(bitPosition + numBits, reader.getBitPosition());
+                    }
+                }
+                reader.close();
+                expectedReader.close();
+            }
+        }
+        finally
+        {
+            deleteFile(tempFile);
+        }
+    }
+
+    @Test
+    public void setBitPosition() throws IOException
+    {
+        final File tempFile = createFile(new byte[]{0x01, 0x02, 0x03});
+        final MappedFileBitStreamReader reader = new MappedFileBitStreamReader(tempFile, 3);
+        try
+        {
+            assertEquals(24, reader.getBufferBitSize());
+            reader.setBitPosition(16);
+            assertEquals(2, reader.getBytePosition());
+            assertEquals(0x03, reader.readByte());
+            reader.setBitPosition(24);
+            try
+            {
+                reader.readBits(1);
+                fail("Expected exception!");
+            }
+            catch (IOException e)
+            {
+            }
+            try
+            {
+                reader.setBitPosition(25);
+                fail("Expected exception!");
+            }
+            catch (IOException e)
+            {
+            }
+        }
+        finally
+        {
+            reader.close();
+            deleteFile(tempFile);
+        }
+    }
+
+    private static byte[] writeData(int offset) throws IOException
+    {
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        if (offset > 0)
+            writer.writeBits(0, offset);
+        writer.writeBits(0x5A5A5A5A5AL, 40);
+        writer.writeSignedBits(-3, 13);
+        writer.writeByte((byte)-100);
+        writer.writeShort((short)-1000);
+        writer.writeInt(-100000);
+        writer.writeLong(Long.MIN_VALUE + 1);
+        writer.writeBigInteger(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE), 64);
+        writer.writeBigInteger(BigInteger.valueOf(-5), 70);
+        writer.writeFloat16(1.5f);
+        writer.writeFloat32(-2.25f);
+        writer.writeFloat64(3.125);
+        writer.writeString("zserio žluťoučký kůň");
+        writer.writeBool(true);
+        writer.writeVarInt16((short)-300);
+        writer.writeVarInt32(-70000);
+        writer.writeVarInt64(1L << 50);
+        writer.writeVarUInt16((short)300);
+        writer.writeVarUInt32(1 << 28);
+        writer.writeVarUInt64(1L << 56);
+        writer.writeVarInt(Long.MIN_VALUE);
+        writer.writeVarInt(Long.MAX_VALUE);
+        writer.writeVarUInt(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE));
+        writer.writeVarSize(Integer.MAX_VALUE);
+        writer.writeBitBuffer(new BitBuffer(new byte[]{(byte)0xAB, (byte)0xCD, (byte)0xE0}, 19));
+        writer.alignTo(32);
+        writer.writeUnsignedByte((short)0xFE);
+
+        return writer.toByteArray();
+    }
+
+    private static void readData(BitStreamReader reader, int offset) throws IOException
+    {
+        if (offset > 0)
+            assertEquals(0, reader.readBits(offset));
+        assertEquals(0x5A5A5A5A5AL, reader.readBits(40));
+        assertEquals(-3, reader.readSignedBits(13));
+        assertEquals((byte)-100, reader.readByte());
+        assertEquals((short)-1000, reader.readShort());
+        assertEquals(-100000, reader.readInt());
+        assertEquals(Long.MIN_VALUE + 1, reader.readLong());
+        assertEquals(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE), reader.readBigInteger(64));
+        assertEquals(BigInteger.valueOf(-5), reader.readSignedBigInteger(70));
+        assertEquals(1.5f, reader.readFloat16(), 0.0f);
+        assertEquals(-2.25f, reader.readFloat32(), 0.0f);
+        assertEquals(3.125, reader.readFloat64(), 0.0);
+        assertEquals("zserio žluťoučký kůň", reader.readString());
+        assertEquals(true, reader.readBool());
+        assertEquals((short)-300, reader.readVarInt16());
+        assertEquals(-70000, reader.readVarInt32());
+        assertEquals(1L << 50, reader.readVarInt64());
+        assertEquals((short)300, reader.readVarUInt16());
+        assertEquals(1 << 28, reader.readVarUInt32());
+        assertEquals(1L << 56, reader.readVarUInt64());
+        assertEquals(Long.MIN_VALUE, reader.readVarInt());
+        assertEquals(Long.MAX_VALUE, reader.readVarInt());
+        assertEquals(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE), reader.readVarUInt());
+        assertEquals(Integer.MAX_VALUE, reader.readVarSize());
+        assertEquals(new BitBuffer(new byte[]{(byte)0xAB, (byte)0xCD, (byte)0xE0}, 19), reader.readBitBuffer());
+        reader.alignTo(32);
+        assertEquals(0xFE, reader.readUnsignedByte());
+        assertEquals(reader.getBufferBitSize(), reader.getBitPosition());
+    }
+
+    private static File createFile(byte[] data) throws IOException
+    {
+        final File tempFile = File.createTempFile(TempFileNamePrefix, null);
+        final FileOutputStream os = new FileOutputStream(tempFile);
+        try
+        {
+            os.write(data);
+        }
+        finally
+        {
+            os.close();
+        }
+
+        return tempFile;
+    }
+
+    private static void deleteFile(File file)
+    {
+        if (file.exists() && !file.delete())
+            throw new RuntimeException("can't delete temporary file " + file);
+    }
+
+    private static final String TempFileNamePrefix = "MappedFileBitStreamReaderTest";
+    private static final int[] SegmentShifts = { 3, 4, 5, 30 };
+}
@@ -0,0 +1,58 @@
+package zserio.runtime.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class StringCacheTest
+{
+    @Test
+    public void decode()
+    {
+        final StringCache stringCache = new StringCache();
+        final byte[] bytes = "xxžluťoučkýxx".getBytes(StandardCharsets.UTF_8);
+        final String value = stringCache.decode(bytes, 2, bytes.length - 4);
+        assertEquals("žluťoučký", value);
+        assertSame(value, stringCache.decode(bytes, 2, bytes.length - 4));
+        assertEquals("", stringCache.decode(bytes, 0, 0));
+    }
+
+    @Test
+    public void collision()
+    {
+        // single entry cache, all strings share the same slot
+        final StringCache stringCache = new StringCache(1, 8);
+        final byte[] bytes = "abcd".getBytes(StandardCharsets.UTF_8);
+        final String ab = stringCache.decode(bytes, 0, 2);
+        assertEquals("cd", stringCache.decode(bytes, 2, 2));
+        final String abAgain = stringCache.decode(bytes, 0, 2);
+        assertEquals("ab", abAgain);
+        assertNotSame(ab, abAgain);
+    }
+
+    @Test
+    public void clear()
+    {
+        final StringCache stringCache = new StringCache();
+        final byte[] bytes = "road".getBytes(StandardCharsets.UTF_8);
+        final String value = stringCache.decode(bytes, 0, bytes.length);
+        stringCache.clear();
+        assertNotSame(value, stringCache.decode(bytes, 0, bytes.length));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidCapacity()
+    {
+        new StringCache(0, 8);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidMaxStringByteSize()
+    {
+        new StringCache(8, -1);
+    }
+}
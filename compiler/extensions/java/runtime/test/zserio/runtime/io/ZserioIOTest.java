@@ -0,0 +1,198 @@
+package zserio.runtime.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import zserio.runtime.SizeOf;
+import zserio.runtime.ZserioError;
+
+public class ZserioIOTest
+{
+    @Test
+    public void writeRead()
+    {
+        final byte[] data = ZserioIO.write(new TestObject(0xAB, 0));
+        assertEquals(1, data.length);
+
+        for (int i = 0; i < 2; ++i) // the second read uses cached constructor
+        {
+            final TestObject testObject = ZserioIO.read(TestObject.class, data);
+            assertEquals(0xAB, testObject.getValue());
+            assertEquals(0, testObject.getParam());
+        }
+    }
+
+    @Test
+    public void readWithArguments()
+    {
+        final byte[] data = ZserioIO.write(new TestObject(0xAB, 0));
+
+        for (int i = 0; i < 2; ++i) // the second read uses cached constructors
+        {
+            final TestObject testObject = ZserioIO.read(TestObject.class, data, 10);
+            assertEquals(0xAB, testObject.getValue());
+            assertEquals(10, testObject.getParam());
+        }
+    }
+
+    @Test(expected = ZserioError.class)
+    public void readNoMatchingConstructor()
+    {
+        ZserioIO.read(TestObject.class, new byte[] {0x01}, "wrong");
+    }
+
+    @Test(expected = ZserioError.class)
+    public void readMissingConstructor()
+    {
+        ZserioIO.read(String.class, new byte[] {0x01});
+    }
+
+    @Test
+    public void readFailure()
+    {
+        try
+        {
+            ZserioIO.read(TestObject.class, new byte[] {});
+            fail("Expected exception!");
+        }
+        catch (ZserioError e)
+        {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    @Test
+    public void writeExactSize()
+    {
+        final byte[] data = ZserioIO.write(new SizedTestObject(0x5, 3));
+        assertArrayEquals(new byte[] {(byte)0xA0}, data);
+    }
+
+    @Test
+    public void writeToByteArray()
+    {
+        final byte[] buffer = new byte[] {(byte)0xFF, (byte)0xFF, (byte)0xFF};
+        assertEquals(1, ZserioIO.write(new SizedTestObject(0x5, 3), buffer));
+        assertArrayEquals(new byte[] {(byte)0xA0, (byte)0xFF, (byte)0xFF}, buffer);
+    }
+
+    @Test
+    public void writeToByteBuffer()
+    {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(4);
+        buffer.position(1);
+        assertEquals(1, ZserioIO.write(new TestObject(0xAB, 0), buffer));
+        assertEquals(1, ZserioIO.write(new TestObject(0xCD, 0), buffer));
+        assertEquals(3, buffer.position());
+        assertEquals((byte)0xAB, buffer.get(1));
+        assertEquals((byte)0xCD, buffer.get(2));
+    }
+
+    @Test(expected = ZserioError.class)
+    public void writeToSmallByteArray()
+    {
+        ZserioIO.write(new TestObject(0xAB, 0), new byte[0]);
+    }
+
+    @Test
+    public void writePooled()
+    {
+        for (int i = 0; i < 2; ++i) // the second write uses pooled writer
+        {
+            final byte[] data = ZserioIO.writePooled(new SizedTestObject(0x5 + i, 3));
+            assertArrayEquals(new byte[] {(byte)((0x5 + i) << 5)}, data);
+        }
+    }
+
+    @Test
+    public void writePooledNested()
+    {
+        final byte[] data = ZserioIO.writePooled(new Writer()
+        {
+            @Override
+            public void write(BitStreamWriter out) throws IOException
+            {
+                final byte[] nested = ZserioIO.writePooled(new TestObject(0xCD, 0));
+                out.writeUnsignedByte((short)0xAB);
+                out.writeUnsignedByte((short)(nested[0] & 0xFF));
+            }
+        });
+        assertArrayEquals(new byte[] {(byte)0xAB, (byte)0xCD}, data);
+    }
+
+    public static class TestObject implements Writer
+    {
+        public TestObject(int value, int param)
+        {
+            this.value = value;
+            this.param = param;
+        }
+
+        public TestObject(BitStreamReader in) throws IOException
+        {
+            this(in, 0);
+        }
+
+        public TestObject(BitStreamReader in, int param) throws IOException
+        {
+            value = in.readUnsignedByte();
+            this.param = param;
+        }
+
+        public int getValue()
+        {
+            return value;
+        }
+
+        public int getParam()
+        {
+            return param;
+        }
+
+        @Override
+        public void write(BitStreamWriter out) throws IOException
+        {
+            out.writeUnsignedByte((short)value);
+        }
+
+        private final int value;
+        private final int param;
+    }
+
+    public static class SizedTestObject implements Writer, SizeOf
+    {
+        public SizedTestObject(int value, int numBits)
+        {
+            this.value = value;
+            this.numBits = numBits;
+        }
+
+        @Override
+        public int bitSizeOf()
+        {
+            return bitSizeOf(0);
+        }
+
+        @Override
+        public int bitSizeOf(long bitPosition)
+        {
+            return numBits;
+        }
+
+        @Override
+        public void write(BitStreamWriter out) throws IOException
+        {
+            out.writeBits(value, numBits);
+        }
+
+        private final int value;
+        private final int numBits;
+    }
+}
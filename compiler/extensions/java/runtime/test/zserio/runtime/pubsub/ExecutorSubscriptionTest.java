@@ -0,0 +1,233 @@
+package zserio.runtime.pubsub;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ExecutorSubscriptionTest
+{
+    @Test
+    public void decodeOnExecutor()
+    {
+        final ManualExecutor executor = new ManualExecutor();
+        final RecordingCallback callback = new RecordingCallback();
+        final ExecutorSubscription<String> subscription = new ExecutorSubscription<String>(DECODER, callback,
+                executor, 4, SubscriptionQueuePolicy.DROP_OLDEST);
+
+        subscription.invoke("topic", new byte[] {1});
+        subscription.invoke("topic", new byte[] {2});
+        assertTrue(callback.messages.isEmpty());
+        assertEquals(2, subscription.getQueueDepth());
+        assertEquals(1, executor.tasks.size());
+
+        executor.runAll();
+        assertEquals(Arrays.asList("topic:1", "topic:2"), callback.messages);
+        assertEquals(0, subscription.getQueueDepth());
+        assertEquals(2, subscription.getMaxQueueDepth());
+        assertEquals(2, subscription.getNumDecodedMessages());
+        assertEquals(0, subscription.getNumDroppedMessages());
+        assertTrue(subscription.getDecodeTimeNanos() >= 0);
+    }
+
+    @Test
+    public void objectWithoutDecoding()
+    {
+        final ManualExecutor executor = new ManualExecutor();
+        final List<String> messages = new ArrayList<String>();
+        final ExecutorSubscription<String> subscription = new ExecutorSubscription<String>(DECODER,
+                new PubsubCallback<String>()
+                {
+                    @Override
+                    public void invoke(String topic, String message)
+                    {
+                        messages.add(message);
+                    }
+                }, executor, 4, SubscriptionQueuePolicy.DROP_OLDEST);
+
+        final String message = "object";
+        subscription.invoke("topic", (Object)message);
+        executor.runAll();
+        assertEquals(1, messages.size());
+        assertSame(message, messages.get(0));
+        assertEquals(0, subscription.getNumDecodedMessages());
+    }
+
+    @Test
+    public void dropOldest()
+    {
+        final ManualExecutor executor = new ManualExecutor();
+        final RecordingCallback callback = new RecordingCallback();
+        final ExecutorSubscription<String> subscription = new ExecutorSubscription<String>(DECODER, callback,
+                executor, 2, SubscriptionQueuePolicy.DROP_OLDEST);
+
+        for (byte i = 0; i < 5; ++i)
+            subscription.invoke("topic", new byte[] {i});
+        assertEquals(2, subscription.getQueueDepth());
+        assertEquals(3, subscription.getNumDroppedMessages());
+
+        executor.runAll();
+        assertEquals(Arrays.asList("topic:3", "topic:4"), callback.messages);
+    }
+
+    @Test
+    public void coalesceLatest()
+    {
+        final ManualExecutor executor = new ManualExecutor();
+        final RecordingCallback callback = new RecordingCallback();
+        final ExecutorSubscription<String> subscription = new ExecutorSubscription<String>(DECODER, callback,
+                executor, 2, SubscriptionQueuePolicy.COALESCE_LATEST);
+
+        subscription.invoke("a", new byte[] {1});
+        subscription.invoke("b", new byte[] {2});
+        subscription.invoke("a", new byte[] {3});
+        subscription.invoke("b", new byte[] {4});
+        assertEquals(2, subscription.getQueueDepth());
+        assertEquals(2, subscription.getNumDroppedMessages());
+
+        // queue is full of different topics, the oldest one is dropped
+        subscription.invoke("c", new byte[] {5});
+        assertEquals(3, subscription.getNumDroppedMessages());
+
+        executor.runAll();
+        assertEquals(Arrays.asList("b:4", "c:5"), callback.messages);
+    }
+
+    @Test
+    public void block() throws InterruptedException
+    {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            final CountDownLatch release = new CountDownLatch(1);
+            final List<String> messages = Collections.synchronizedList(new ArrayList<String>());
+            final ExecutorSubscription<String> subscription = new ExecutorSubscription<String>(DECODER,
+                    new PubsubCallback<String>()
+                    {
+                        @Override
+                        public void invoke(String topic, String message)
+                        {
+                            awaitQuietly(release);
+                            messages.add(topic + ":" + message);
+                        }
+                    }, executor, 2, SubscriptionQueuePolicy.BLOCK);
+
+            final Thread transport = new Thread(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    for (byte i = 0; i < NUM_MESSAGES; ++i)
+                        subscription.invoke("topic", new byte[] {i});
+                }
+            });
+            transport.start();
+
+            // transport is blocked by the full queue
+            transport.join(100);
+            assertTrue(transport.isAlive());
+            assertTrue(subscription.getQueueDepth() <= 2);
+
+            release.countDown();
+            transport.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+            assertEquals(NUM_MESSAGES, messages.size());
+            for (int i = 0; i < NUM_MESSAGES; ++i)
+                assertEquals("topic:" + i, messages.get(i));
+            assertEquals(0, subscription.getNumDroppedMessages());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void close()
+    {
+        final ManualExecutor executor = new ManualExecutor();
+        final RecordingCallback callback = new RecordingCallback();
+        final ExecutorSubscription<String> subscription = new ExecutorSubscription<String>(DECODER, callback,
+                executor, 4, SubscriptionQueuePolicy.BLOCK);
+
+        subscription.invoke("topic", new byte[] {1});
+        subscription.close();
+        subscription.invoke("topic", new byte[] {2});
+        executor.runAll();
+        assertTrue(callback.messages.isEmpty());
+        assertEquals(0, subscription.getQueueDepth());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidQueueCapacity()
+    {
+        new ExecutorSubscription<String>(DECODER, new RecordingCallback(), new ManualExecutor(), 0,
+                SubscriptionQueuePolicy.BLOCK);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException exception)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class ManualExecutor implements Executor
+    {
+        @Override
+        public void execute(Runnable task)
+        {
+            tasks.add(task);
+        }
+
+        public void runAll()
+        {
+            while (!tasks.isEmpty())
+                tasks.remove(0).run();
+        }
+
+        public final List<Runnable> tasks = new ArrayList<Runnable>();
+    }
+
+    private static class RecordingCallback implements PubsubCallback<String>
+    {
+        @Override
+        public void invoke(String topic, String message)
+        {
+            messages.add(topic + ":" + message);
+        }
+
+        public final List<String> messages = new ArrayList<String>();
+    }
+
+    private static final ExecutorSubscription.Decoder<String> DECODER =
+            new ExecutorSubscription.Decoder<String>()
+            {
+                @Override
+                public String decode(byte[] data)
+                {
+                    return Byte.toString(data[0]);
+                }
+            };
+
+    private static final byte NUM_MESSAGES = 20;
+    private static final long TIMEOUT_SECONDS = 10;
+}
@@ -0,0 +1,302 @@
+package zserio.runtime.pubsub;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import zserio.runtime.ZserioError;
+import zserio.runtime.io.BitStreamWriter;
+import zserio.runtime.io.Writer;
+
+public class LoopbackPubsubTest
+{
+    @Before
+    public void setUp()
+    {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void publishSubscribe() throws InterruptedException
+    {
+        final LoopbackPubsub pubsub = new LoopbackPubsub(executor);
+        final RecordingCallback callback = new RecordingCallback(NUM_MESSAGES);
+        pubsub.subscribe("topic", callback, null);
+        final RecordingCallback otherCallback = new RecordingCallback(1);
+        pubsub.subscribe("other", otherCallback, null);
+
+        for (int i = 0; i < NUM_MESSAGES; ++i)
+            pubsub.publish("topic", new byte[] {(byte)i}, null);
+        pubsub.publish("other", new byte[] {42}, null);
+
+        callback.await();
+        otherCallback.await();
+        for (int i = 0; i < NUM_MESSAGES; ++i)
+            assertEquals((byte)i, callback.messages.get(i)[0]);
+        assertEquals(1, otherCallback.messages.size());
+        assertEquals(42, otherCallback.messages.get(0)[0]);
+    }
+
+    @Test
+    public void publishDataCopied() throws InterruptedException
+    {
+        final LoopbackPubsub pubsub = new LoopbackPubsub(executor);
+        final RecordingCallback callback = new RecordingCallback(1);
+        pubsub.subscribe("topic", callback, null);
+
+        final byte[] data = new byte[] {1, 2, 3};
+        pubsub.publish("topic", data, null);
+        data[0] = 0;
+
+        callback.await();
+        assertArrayEquals(new byte[] {1, 2, 3}, callback.messages.get(0));
+    }
+
+    @Test
+    public void publishByTopicId() throws InterruptedException
+    {
+        final LoopbackPubsub pubsub = new LoopbackPubsub(executor);
+        final int topicId = pubsub.getTopicId("topic");
+        assertEquals(topicId, pubsub.getTopicId("topic"));
+        assertTrue(topicId != pubsub.getTopicId("other"));
+
+        final RecordingCallback callback = new RecordingCallback(1);
+        pubsub.subscribe("topic", callback, null);
+        pubsub.publish(topicId, new byte[] {7}, null);
+
+        callback.await();
+        assertArrayEquals(new byte[] {7}, callback.messages.get(0));
+    }
+
+    @Test(expected=PubsubException.class)
+    public void publishInvalidTopicId()
+    {
+        final LoopbackPubsub pubsub = new LoopbackPubsub(executor);
+        pubsub.publish(pubsub.getTopicId("topic") + 1, new byte[] {}, null);
+    }
+
+    @Test
+    public void unsubscribe() throws InterruptedException
+    {
+        final LoopbackPubsub pubsub = new LoopbackPubsub(executor);
+        final RecordingCallback callback = new RecordingCallback(1);
+        final int subscriptionId = pubsub.subscribe("topic", callback, null);
+        final RecordingCallback otherCallback = new RecordingCallback(2);
+        pubsub.subscribe("topic", otherCallback, null);
+
+        pubsub.publish("topic", new byte[] {1}, null);
+        callback.await();
+        pubsub.unsubscribe(subscriptionId);
+        pubsub.publish("topic", new byte[] {2}, null);
+
+        otherCallback.await();
+        assertEquals(1, callback.messages.size());
+        assertEquals(2, otherCallback.messages.size());
+    }
+
+    @Test(expected=PubsubException.class)
+    public void unsubscribeInvalid()
+    {
+        final LoopbackPubsub pubsub = new LoopbackPubsub(executor);
+        final int subscriptionId = pubsub.subscribe("topic", new RecordingCallback(0), null);
+        pubsub.unsubscribe(subscriptionId);
+        pubsub.unsubscribe(subscriptionId);
+    }
+
+    @Test
+    public void multipleProducers() throws InterruptedException
+    {
+        // small ring forces producers to wait for the delivery
+        final LoopbackPubsub pubsub = new LoopbackPubsub(executor, 8, 4, false);
+        final RecordingCallback callback = new RecordingCallback(NUM_PRODUCERS * NUM_MESSAGES);
+        pubsub.subscribe("topic", callback, null);
+
+        final List<Thread> producers = new ArrayList<Thread>();
+        for (int producer = 0; producer < NUM_PRODUCERS; ++producer)
+        {
+            final byte producerId = (byte)producer;
+            producers.add(new Thread(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    for (int i = 0; i < NUM_MESSAGES; ++i)
+                        pubsub.publish("topic", new byte[] {producerId, (byte)i}, null);
+                }
+            }));
+        }
+        for (Thread producer : producers)
+            producer.start();
+        for (Thread producer : producers)
+            producer.join();
+
+        callback.await();
+        final int[] lastMessages = new int[NUM_PRODUCERS];
+        for (byte[] message : callback.messages)
+        {
+            // messages of one producer keep their order
+            assertEquals((byte)lastMessages[message[0]], message[1]);
+            lastMessages[message[0]]++;
+        }
+        for (int lastMessage : lastMessages)
+            assertEquals(NUM_MESSAGES, lastMessage);
+    }
+
+    @Test
+    public void minRingCapacity() throws InterruptedException
+    {
+        final LoopbackPubsub pubsub = new LoopbackPubsub(executor, 1, 1, false);
+        final RecordingCallback callback = new RecordingCallback(NUM_MESSAGES);
+        pubsub.subscribe("topic", callback, null);
+
+        for (int i = 0; i < NUM_MESSAGES; ++i)
+            pubsub.publish("topic", new byte[] {(byte)i}, null);
+
+        callback.await();
+        assertEquals(NUM_MESSAGES, callback.messages.size());
+        for (int i = 0; i < NUM_MESSAGES; ++i)
+            assertArrayEquals(new byte[] {(byte)i}, callback.messages.get(i));
+    }
+
+    @Test
+    public void objectPassing() throws InterruptedException
+    {
+        final LoopbackPubsub pubsub = new LoopbackPubsub(executor, 16, 16, true);
+        final RecordingObjectCallback objectCallback = new RecordingObjectCallback(1);
+        pubsub.subscribeObject("topic", new RecordingCallback(0), objectCallback, null);
+        final RecordingCallback rawCallback = new RecordingCallback(1);
+        pubsub.subscribe("topic", rawCallback, null);
+
+        final ByteMessage message = new ByteMessage((byte)0xAB);
+        pubsub.publishObject("topic", message, null);
+
+        objectCallback.await();
+        rawCallback.await();
+        assertSame(message, objectCallback.messages.get(0));
+        assertArrayEquals(new byte[] {(byte)0xAB}, rawCallback.messages.get(0));
+    }
+
+    @Test
+    public void objectPassingDisabled() throws InterruptedException
+    {
+        final LoopbackPubsub pubsub = new LoopbackPubsub(executor);
+        final RecordingObjectCallback objectCallback = new RecordingObjectCallback(0);
+        final RecordingCallback rawCallback = new RecordingCallback(1);
+        pubsub.subscribeObject("topic", rawCallback, objectCallback, null);
+
+        pubsub.publishObject("topic", new ByteMessage((byte)1), null);
+
+        rawCallback.await();
+        assertArrayEquals(new byte[] {1}, rawCallback.messages.get(0));
+        assertTrue(objectCallback.messages.isEmpty());
+    }
+
+    @Test
+    public void rawDataToObjectSubscriber() throws InterruptedException
+    {
+        final LoopbackPubsub pubsub = new LoopbackPubsub(executor, 16, 16, true);
+        final RecordingObjectCallback objectCallback = new RecordingObjectCallback(0);
+        final RecordingCallback rawCallback = new RecordingCallback(1);
+        pubsub.subscribeObject("topic", rawCallback, objectCallback, null);
+
+        pubsub.publish("topic", new byte[] {1}, null);
+
+        rawCallback.await();
+        assertArrayEquals(new byte[] {1}, rawCallback.messages.get(0));
+        assertTrue(objectCallback.messages.isEmpty());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidBatchSize()
+    {
+        new LoopbackPubsub(executor, 16, 0, false);
+    }
+
+    private static class RecordingCallback implements PubsubInterface.Callback
+    {
+        public RecordingCallback(int numExpectedMessages)
+        {
+            latch = new CountDownLatch(numExpectedMessages);
+        }
+
+        @Override
+        public void invoke(String topic, byte[] data)
+        {
+            messages.add(data);
+            latch.countDown();
+        }
+
+        public void await() throws InterruptedException
+        {
+            assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+
+        public final List<byte[]> messages = Collections.synchronizedList(new ArrayList<byte[]>());
+        private final CountDownLatch latch;
+    }
+
+    private static class RecordingObjectCallback implements ObjectPubsubInterface.ObjectCallback
+    {
+        public RecordingObjectCallback(int numExpectedMessages)
+        {
+            latch = new CountDownLatch(numExpectedMessages);
+        }
+
+        @Override
+        public void invoke(String topic, Object message)
+        {
+            messages.add(message);
+            latch.countDown();
+        }
+
+        public void await() throws InterruptedException
+        {
+            assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+
+        public final List<Object> messages = Collections.synchronizedList(new ArrayList<Object>());
+        private final CountDownLatch latch;
+    }
+
+    private static class ByteMessage implements Writer
+    {
+        public ByteMessage(byte value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public void write(BitStreamWriter out) throws IOException, ZserioError
+        {
+            out.writeByte(value);
+        }
+
+        private final byte value;
+    }
+
+    private static final int NUM_MESSAGES = 100;
+    private static final int NUM_PRODUCERS = 4;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private ExecutorService executor;
+}
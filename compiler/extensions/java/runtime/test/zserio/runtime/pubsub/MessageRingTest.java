@@ -0,0 +1,64 @@
+package zserio.runtime.pubsub;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class MessageRingTest
+{
+    @Test
+    public void capacity()
+    {
+        assertEquals(2, new MessageRing<Integer>(1).capacity());
+        assertEquals(2, new MessageRing<Integer>(2).capacity());
+        assertEquals(8, new MessageRing<Integer>(5).capacity());
+        assertEquals(8, new MessageRing<Integer>(8).capacity());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidCapacity()
+    {
+        new MessageRing<Integer>(0);
+    }
+
+    @Test
+    public void offerPoll()
+    {
+        final MessageRing<Integer> ring = new MessageRing<Integer>(4);
+        assertTrue(ring.isEmpty());
+        assertNull(ring.poll());
+
+        // several rounds to wrap around
+        for (int round = 0; round < 3; ++round)
+        {
+            for (int i = 0; i < 4; ++i)
+                assertTrue(ring.offer(round * 4 + i));
+            assertFalse(ring.offer(-1));
+            assertFalse(ring.isEmpty());
+
+            for (int i = 0; i < 4; ++i)
+                assertEquals(Integer.valueOf(round * 4 + i), ring.poll());
+            assertTrue(ring.isEmpty());
+            assertNull(ring.poll());
+        }
+    }
+
+    @Test
+    public void offerPollMinCapacity()
+    {
+        final MessageRing<Integer> ring = new MessageRing<Integer>(1);
+        for (int round = 0; round < 3; ++round)
+        {
+            assertTrue(ring.offer(round * 2));
+            assertTrue(ring.offer(round * 2 + 1));
+            assertFalse(ring.offer(-1));
+
+            assertEquals(Integer.valueOf(round * 2), ring.poll());
+            assertEquals(Integer.valueOf(round * 2 + 1), ring.poll());
+            assertNull(ring.poll());
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package zserio.runtime.service;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import zserio.runtime.ZserioError;
+
+public class LoopbackServiceTransportTest
+{
+    @Before
+    public void setUp()
+    {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void callMethod()
+    {
+        final LoopbackServiceTransport transport = new LoopbackServiceTransport(new EchoService(), executor);
+        assertArrayEquals(new byte[] {1, 2}, transport.callMethod("echo", new byte[] {1, 2}, null));
+    }
+
+    @Test
+    public void callMethodAsync()
+    {
+        final LoopbackServiceTransport transport = new LoopbackServiceTransport(new EchoService(), executor);
+        final byte[] requestData = new byte[] {1, 2, 3};
+        final CompletableFuture<byte[]> response = transport.callMethodAsync("echo", requestData, null);
+
+        // request data can be reused immediately
+        requestData[0] = 0;
+        assertArrayEquals(new byte[] {1, 2, 3}, AsyncServiceUtil.join(response));
+    }
+
+    @Test
+    public void callMethodAsyncFailure()
+    {
+        final LoopbackServiceTransport transport = new LoopbackServiceTransport(new EchoService(), executor);
+        final CompletableFuture<byte[]> response = transport.callMethodAsync("unknown", new byte[] {}, null);
+        try
+        {
+            AsyncServiceUtil.join(response);
+            fail("ServiceException expected!");
+        }
+        catch (ServiceException exception)
+        {
+            assertEquals("Unknown method!", exception.getMessage());
+        }
+    }
+
+    @Test
+    public void callMethodsAsync()
+    {
+        final CountingExecutor countingExecutor = new CountingExecutor(executor);
+        final LoopbackServiceTransport transport =
+                new LoopbackServiceTransport(new EchoService(), countingExecutor);
+        final List<ServiceCall> calls = new ArrayList<ServiceCall>();
+        for (byte i = 0; i < NUM_CALLS; ++i)
+            calls.add(new ServiceCall((i == 1) ? "unknown" : "echo", new byte[] {i}, null));
+
+        final List<CompletableFuture<byte[]>> responses = transport.callMethodsAsync(calls);
+        assertEquals(NUM_CALLS, responses.size());
+        for (byte i = 0; i < NUM_CALLS; ++i)
+        {
+            if (i == 1)
+            {
+                try
+                {
+                    AsyncServiceUtil.join(responses.get(i));
+                    fail("ServiceException expected!");
+                }
+                catch (ServiceException exception)
+                {
+                }
+            }
+            else
+            {
+                assertArrayEquals(new byte[] {i}, AsyncServiceUtil.join(responses.get(i)));
+            }
+        }
+
+        // whole batch is dispatched by one task
+        assertEquals(1, countingExecutor.numTasks);
+    }
+
+    @Test
+    public void callMethodById()
+    {
+        final LoopbackServiceTransport transport =
+                new LoopbackServiceTransport(new MethodIdService(), executor);
+        assertArrayEquals(new byte[] {3}, transport.callMethod(3, "any", new byte[] {}, null));
+        assertArrayEquals(new byte[] {4},
+                AsyncServiceUtil.join(transport.callMethodAsync(4, "any", new byte[] {}, null)));
+
+        // method ID is kept in batches
+        final ServiceCallBatch batch = new ServiceCallBatch(transport);
+        final CompletableFuture<byte[]> response = batch.callMethodAsync(5, "any", new byte[] {}, null);
+        final CompletableFuture<byte[]> responseByName = batch.callMethodAsync("any", new byte[] {}, null);
+        batch.flush();
+        assertArrayEquals(new byte[] {5}, AsyncServiceUtil.join(response));
+        assertArrayEquals(new byte[] {(byte)ServiceInterface.UNKNOWN_METHOD_ID},
+                AsyncServiceUtil.join(responseByName));
+    }
+
+    @Test
+    public void callMethodByIdDefault()
+    {
+        // services which do not know method IDs are called by the method name
+        final LoopbackServiceTransport transport = new LoopbackServiceTransport(new EchoService(), executor);
+        assertArrayEquals(new byte[] {1}, transport.callMethod(0, "echo", new byte[] {1}, null));
+        assertArrayEquals(new byte[] {2},
+                AsyncServiceUtil.join(transport.callMethodAsync(0, "echo", new byte[] {2}, null)));
+    }
+
+    @Test
+    public void rejectedCall()
+    {
+        executor.shutdown();
+        final LoopbackServiceTransport transport = new LoopbackServiceTransport(new EchoService(), executor);
+        final CompletableFuture<byte[]> response = transport.callMethodAsync("echo", new byte[] {1}, null);
+        assertTrue(response.isCompletedExceptionally());
+    }
+
+    private static class EchoService implements ServiceInterface
+    {
+        @Override
+        public byte[] callMethod(String methodName, byte[] requestData, Object context) throws ZserioError
+        {
+            if (!methodName.equals("echo"))
+                throw new ServiceException("Unknown method!");
+
+            return requestData;
+        }
+    }
+
+    private static class MethodIdService implements ServiceInterface
+    {
+        @Override
+        public byte[] callMethod(String methodName, byte[] requestData, Object context) throws ZserioError
+        {
+            return callMethod(UNKNOWN_METHOD_ID, methodName, requestData, context);
+        }
+
+        @Override
+        public byte[] callMethod(int methodId, String methodName, byte[] requestData, Object context)
+                throws ZserioError
+        {
+            return new byte[] {(byte)methodId};
+        }
+    }
+
+    private static class CountingExecutor implements Executor
+    {
+        public CountingExecutor(Executor executor)
+        {
+            this.executor = executor;
+        }
+
+        @Override
+        public void execute(Runnable command)
+        {
+            if (command == null)
+                throw new RejectedExecutionException();
+
+            numTasks++;
+            executor.execute(command);
+        }
+
+        private final Executor executor;
+        private int numTasks = 0;
+    }
+
+    private static final int NUM_CALLS = 5;
+
+    private ExecutorService executor;
+}
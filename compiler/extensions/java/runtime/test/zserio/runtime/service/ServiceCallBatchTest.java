@@ -0,0 +1,88 @@
+package zserio.runtime.service;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import zserio.runtime.ZserioError;
+
+public class ServiceCallBatchTest
+{
+    @Test
+    public void flush()
+    {
+        final BatchCountingService service = new BatchCountingService();
+        final ServiceCallBatch batch = new ServiceCallBatch(service);
+        final CompletableFuture<byte[]> response1 = batch.callMethodAsync("echo", new byte[] {1}, null);
+        final CompletableFuture<byte[]> response2 = batch.callMethodAsync("echo", new byte[] {2}, null);
+        assertEquals(2, batch.getNumPendingCalls());
+        assertFalse(response1.isDone());
+        assertFalse(response2.isDone());
+        assertEquals(0, service.numBatches);
+
+        batch.flush();
+        assertEquals(0, batch.getNumPendingCalls());
+        assertEquals(1, service.numBatches);
+        assertArrayEquals(new byte[] {1}, AsyncServiceUtil.join(response1));
+        assertArrayEquals(new byte[] {2}, AsyncServiceUtil.join(response2));
+
+        // nothing to send
+        batch.flush();
+        assertEquals(1, service.numBatches);
+    }
+
+    @Test
+    public void callMethod()
+    {
+        final BatchCountingService service = new BatchCountingService();
+        final ServiceCallBatch batch = new ServiceCallBatch(service);
+        assertArrayEquals(new byte[] {1}, batch.callMethod("echo", new byte[] {1}, null));
+        assertEquals(0, batch.getNumPendingCalls());
+    }
+
+    @Test
+    public void syncService()
+    {
+        final ServiceCallBatch batch = new ServiceCallBatch(new ServiceInterface()
+        {
+            @Override
+            public byte[] callMethod(String methodName, byte[] requestData, Object context) throws ZserioError
+            {
+                throw new ServiceException("Failure!");
+            }
+        });
+        final CompletableFuture<byte[]> response = batch.callMethodAsync("echo", new byte[] {1}, null);
+        batch.flush();
+        assertTrue(response.isCompletedExceptionally());
+    }
+
+    private static class BatchCountingService implements AsyncServiceInterface
+    {
+        @Override
+        public byte[] callMethod(String methodName, byte[] requestData, Object context) throws ZserioError
+        {
+            return requestData;
+        }
+
+        @Override
+        public CompletableFuture<byte[]> callMethodAsync(String methodName, byte[] requestData, Object context)
+        {
+            return CompletableFuture.completedFuture(requestData);
+        }
+
+        @Override
+        public List<CompletableFuture<byte[]>> callMethodsAsync(List<ServiceCall> calls)
+        {
+            numBatches++;
+            return AsyncServiceInterface.super.callMethodsAsync(calls);
+        }
+
+        private int numBatches = 0;
+    }
+}
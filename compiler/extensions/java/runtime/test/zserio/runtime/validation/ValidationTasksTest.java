@@ -0,0 +1,108 @@
+package zserio.runtime.validation;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+public class ValidationTasksTest
+{
+    @Test
+    public void join() throws SQLException
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            final ValidationTasks tasks = new ValidationTasks(executor);
+            tasks.add(createReport(1, 0, "schema"));
+            for (int i = 0; i < 4; ++i)
+            {
+                final String message = "rows" + i;
+                tasks.submit(new Callable<ValidationReport>()
+                {
+                    @Override
+                    public ValidationReport call()
+                    {
+                        return createReport(0, 10, message);
+                    }
+                });
+            }
+
+            final ValidationReport report = tasks.join();
+            assertEquals(1, report.getNumberOfValidatedTables());
+            assertEquals(40, report.getNumberOfValidatedRows());
+            final List<ValidationError> errors = report.getErrors();
+            assertEquals(5, errors.size());
+            assertEquals("schema", errors.get(0).getMessage());
+            for (int i = 0; i < 4; ++i)
+                assertEquals("rows" + i, errors.get(i + 1).getMessage());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = SQLException.class)
+    public void joinFailure() throws SQLException
+    {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            final ValidationTasks tasks = new ValidationTasks(executor);
+            tasks.submit(new Callable<ValidationReport>()
+            {
+                @Override
+                public ValidationReport call() throws SQLException
+                {
+                    throw new SQLException("failure");
+                }
+            });
+            tasks.join();
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void splitRowIdRange()
+    {
+        List<long[]> ranges = ValidationTasks.splitRowIdRange(1, 10, 3);
+        assertEquals(3, ranges.size());
+        assertArrayEquals(new long[] {1, 3}, ranges.get(0));
+        assertArrayEquals(new long[] {4, 6}, ranges.get(1));
+        assertArrayEquals(new long[] {7, 10}, ranges.get(2));
+
+        ranges = ValidationTasks.splitRowIdRange(5, 6, 4);
+        assertEquals(2, ranges.size());
+        assertArrayEquals(new long[] {5, 5}, ranges.get(0));
+        assertArrayEquals(new long[] {6, 6}, ranges.get(1));
+
+        ranges = ValidationTasks.splitRowIdRange(1, 10, 0);
+        assertEquals(1, ranges.size());
+        assertArrayEquals(new long[] {1, 10}, ranges.get(0));
+
+        ranges = ValidationTasks.splitRowIdRange(Long.MIN_VALUE, Long.MAX_VALUE, 2);
+        assertEquals(2, ranges.size());
+        assertEquals(Long.MIN_VALUE, ranges.get(0)[0]);
+        assertEquals(ranges.get(0)[1] + 1, ranges.get(1)[0]);
+        assertEquals(Long.MAX_VALUE, ranges.get(1)[1]);
+    }
+
+    private static ValidationReport createReport(int numberOfTables, int numberOfRows, String message)
+    {
+        final List<ValidationError> errors = new ArrayList<ValidationError>();
+        errors.add(new ValidationError("table", "field", ValidationError.Type.COLUMN_MISSING, message));
+
+        return new ValidationReport(numberOfTables, numberOfRows, 1, 0, errors);
+    }
+}
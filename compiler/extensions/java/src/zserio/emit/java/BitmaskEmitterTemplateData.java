@@ -14,6 +14,7 @@ import zserio.ast.ZserioType;
 import zserio.emit.common.ZserioEmitException;
 import zserio.emit.java.types.NativeIntegralType;
 import zserio.emit.java.types.NativeLongType;
+import zserio.emit.java.types.NativeUnsignedLongType;
 
 /**
  * The bitmask data used for FreeMarker template during bitmask file generation.
@@ -32,6 +33,7 @@ public final class BitmaskEmitterTemplateData extends UserTypeTemplateData
         baseJavaTypeName = nativeBaseType.getFullName();
 
         isLong = nativeBaseType instanceof NativeLongType;
+        isUnsignedLong = nativeBaseType instanceof NativeUnsignedLongType;
         isSimpleType = nativeBaseType.isSimple();
 
         bitSize = createBitSize(bitmaskType);
@@ -67,6 +69,11 @@ public final class BitmaskEmitterTemplateData extends UserTypeTemplateData
         return isLong;
     }
 
+    public boolean getIsUnsignedLong()
+    {
+        return isUnsignedLong;
+    }
+
     public String getBitSize()
     {
         return bitSize;
@@ -169,6 +176,7 @@ public final class BitmaskEmitterTemplateData extends UserTypeTemplateData
     private final String baseJavaTypeName;
     private final boolean isSimpleType;
     private final boolean isLong;
+    private final boolean isUnsignedLong;
     private final String bitSize;
     private final RuntimeFunctionTemplateData runtimeFunction;
     private final String lowerBound;
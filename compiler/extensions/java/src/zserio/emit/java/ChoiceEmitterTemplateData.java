@@ -27,9 +27,11 @@ public final class ChoiceEmitterTemplateData extends CompoundTypeTemplateData
         final ExpressionFormatter javaExpressionFormatter = context.getJavaExpressionFormatter();
         final Expression expression = choiceType.getSelectorExpression();
         selectorExpression = javaExpressionFormatter.formatGetter(expression);
+        skipSelectorExpression = context.getJavaSkipExpressionFormatter().formatGetter(expression);
         isSelectorExpressionBoolean = expression.getExprType() == Expression.ExpressionType.BOOLEAN;
         final BigInteger selectorUpperBound = expression.getIntegerUpperBound();
-        isSelectorExpressionBigInteger = expression.needsBigInteger();
+        isSelectorExpressionBigInteger = expression.needsBigInteger() &&
+                !javaNativeMapper.getWithUnsignedLong();
         isSelectorExpressionLong = (isSelectorExpressionBigInteger == false && selectorUpperBound != null &&
                 selectorUpperBound.compareTo(BigInteger.valueOf(Integer.MAX_VALUE)) > 0);
         selectorExpressionBitmaskTypeName = createSelectorExpressionBitmaskType(expression, javaNativeMapper);
@@ -64,6 +66,11 @@ public final class ChoiceEmitterTemplateData extends CompoundTypeTemplateData
         return selectorExpression;
     }
 
+    public String getSkipSelectorExpression()
+    {
+        return skipSelectorExpression;
+    }
+
     public boolean getIsSelectorExpressionBoolean()
     {
         return isSelectorExpressionBoolean;
@@ -190,6 +197,8 @@ public final class ChoiceEmitterTemplateData extends CompoundTypeTemplateData
     }
 
     private final String selectorExpression;
+
+    private final String skipSelectorExpression;
     private final boolean isSelectorExpressionBoolean;
     private final boolean isSelectorExpressionBigInteger;
     private final boolean isSelectorExpressionLong;
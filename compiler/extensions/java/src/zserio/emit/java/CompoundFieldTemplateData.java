@@ -14,6 +14,7 @@ import zserio.ast.EnumType;
 import zserio.ast.Expression;
 import zserio.ast.Field;
 import zserio.ast.FixedSizeType;
+import zserio.ast.StructureType;
 import zserio.ast.TypeInstantiation;
 import zserio.ast.TypeReference;
 import zserio.ast.UnionType;
@@ -68,6 +69,7 @@ public final class CompoundFieldTemplateData
         isEnum = nativeType instanceof NativeEnumType;
         isSimpleType = nativeType.isSimple();
         isObjectArray = nativeType instanceof NativeObjectArrayType;
+        isStructure = fieldTypeInstantiation.getBaseType() instanceof StructureType;
 
         constraint = createConstraint(field, javaExpressionFormatter);
 
@@ -166,6 +168,11 @@ public final class CompoundFieldTemplateData
         return isObjectArray;
     }
 
+    public boolean getIsStructure()
+    {
+        return isStructure;
+    }
+
     public String getConstraint()
     {
         return constraint;
@@ -324,6 +331,8 @@ public final class CompoundFieldTemplateData
             length = createLength(arrayInstantiation, javaExpressionFormatter);
             final JavaNativeType elementNativeType = javaNativeMapper.getJavaType(elementTypeInstantiation);
             elementJavaTypeName = elementNativeType.getFullName();
+            elementJavaNullableTypeName =
+                    javaNativeMapper.getNullableJavaType(elementTypeInstantiation).getFullName();
 
             requiresElementBitSize = nativeType.requiresElementBitSize();
             requiresElementFactory = nativeType.requiresElementFactory();
@@ -352,6 +361,11 @@ public final class CompoundFieldTemplateData
             return elementJavaTypeName;
         }
 
+        public String getElementJavaNullableTypeName()
+        {
+            return elementJavaNullableTypeName;
+        }
+
         public boolean getRequiresElementBitSize()
         {
             return requiresElementBitSize;
@@ -438,6 +452,7 @@ public final class CompoundFieldTemplateData
         private final boolean       isImplicit;
         private final String        length;
         private final String        elementJavaTypeName;
+        private final String        elementJavaNullableTypeName;
         private final boolean       requiresElementBitSize;
         private final boolean       requiresElementFactory;
         private final boolean       requiresParentContext;
@@ -482,6 +497,7 @@ public final class CompoundFieldTemplateData
                         javaNativeMapper.getJavaType(parameterTypeReference);
                 javaTypeName = nativeParameterType.getFullName();
                 isSimpleType = nativeParameterType.isSimple();
+                getterName = AccessorNameFormatter.getGetterName(instantiatedParameter.getParameter());
                 expression = javaExpressionFormatter.formatGetter(
                         instantiatedParameter.getArgumentExpression());
             }
@@ -496,6 +512,11 @@ public final class CompoundFieldTemplateData
                 return isSimpleType;
             }
 
+            public String getGetterName()
+            {
+                return getterName;
+            }
+
             public String getExpression()
             {
                 return expression;
@@ -503,6 +524,7 @@ public final class CompoundFieldTemplateData
 
             private final String    javaTypeName;
             private final boolean   isSimpleType;
+            private final String    getterName;
             private final String    expression;
         }
 
@@ -617,6 +639,7 @@ public final class CompoundFieldTemplateData
     private final boolean                       isEnum;
     private final boolean                       isSimpleType;
     private final boolean                       isObjectArray;
+    private final boolean                       isStructure;
     private final String                        constraint;
 
     private final BitSize                       bitSize;
@@ -1,10 +1,18 @@
 package zserio.emit.java;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import zserio.ast.ArrayInstantiation;
+import zserio.ast.ChoiceType;
 import zserio.ast.CompoundType;
+import zserio.ast.DynamicBitFieldInstantiation;
+import zserio.ast.Expression;
 import zserio.ast.Field;
+import zserio.ast.ParameterizedTypeInstantiation;
+import zserio.ast.TypeInstantiation;
 import zserio.emit.common.ExpressionFormatter;
 import zserio.emit.common.ZserioEmitException;
 
@@ -35,6 +43,38 @@ public class CompoundTypeTemplateData extends UserTypeTemplateData
             fieldList.add(new CompoundFieldTemplateData(javaNativeMapper, withWriterCode,
                     withRangeCheckCode, compoundType, fieldType, javaExpressionFormatter));
         }
+
+        final List<Expression> skipExpressions = new ArrayList<Expression>();
+        if (compoundType instanceof ChoiceType)
+            skipExpressions.add(((ChoiceType)compoundType).getSelectorExpression());
+        for (Field fieldType : fieldTypeList)
+        {
+            if (fieldType.getOptionalClauseExpr() != null)
+                skipExpressions.add(fieldType.getOptionalClauseExpr());
+            addSkipExpressions(fieldType.getTypeInstantiation(), skipExpressions);
+        }
+
+        boolean skipRequiresInstance = false;
+        final Set<Field> fieldsReferencedBySkip = new HashSet<Field>();
+        for (Expression skipExpression : skipExpressions)
+        {
+            if (skipExpression.containsFunctionCall())
+                skipRequiresInstance = true;
+            fieldsReferencedBySkip.addAll(skipExpression.<Field>getReferencedSymbolObjects(Field.class));
+        }
+
+        final ExpressionFormatter javaSkipExpressionFormatter = context.getJavaSkipExpressionFormatter();
+        skipFieldList = new ArrayList<SkipField>(fieldTypeList.size());
+        for (Field fieldType : fieldTypeList)
+        {
+            final CompoundFieldTemplateData skipField = new CompoundFieldTemplateData(javaNativeMapper,
+                    withWriterCode, withRangeCheckCode, compoundType, fieldType, javaSkipExpressionFormatter);
+            final boolean isReferenced = fieldsReferencedBySkip.contains(fieldType);
+            if (isReferenced && !canReadInSkip(skipField))
+                skipRequiresInstance = true;
+            skipFieldList.add(new SkipField(skipField, isReferenced));
+        }
+        this.skipRequiresInstance = skipRequiresInstance;
     }
 
     public CompoundConstructorTemplateData getCompoundConstructorsData()
@@ -62,9 +102,85 @@ public class CompoundTypeTemplateData extends UserTypeTemplateData
         return fieldList;
     }
 
+    public boolean getSkipRequiresInstance()
+    {
+        return skipRequiresInstance;
+    }
+
+    public Iterable<SkipField> getSkipFieldList()
+    {
+        return skipFieldList;
+    }
+
+    /**
+     * Field data used by generated static skip methods.
+     *
+     * All expressions are formatted using local variables instead of getters. Referenced fields are used by
+     * some other expression and must be read to local variables instead of skipped.
+     */
+    public static class SkipField
+    {
+        public SkipField(CompoundFieldTemplateData field, boolean isReferenced)
+        {
+            this.field = field;
+            this.isReferenced = isReferenced;
+        }
+
+        public CompoundFieldTemplateData getField()
+        {
+            return field;
+        }
+
+        public boolean getIsReferenced()
+        {
+            return isReferenced;
+        }
+
+        private final CompoundFieldTemplateData field;
+        private final boolean isReferenced;
+    }
+
+    private static void addSkipExpressions(TypeInstantiation typeInstantiation, List<Expression> skipExpressions)
+    {
+        if (typeInstantiation instanceof ArrayInstantiation)
+        {
+            final ArrayInstantiation arrayInstantiation = (ArrayInstantiation)typeInstantiation;
+            if (arrayInstantiation.getLengthExpression() != null)
+                skipExpressions.add(arrayInstantiation.getLengthExpression());
+            addSkipExpressions(arrayInstantiation.getElementTypeInstantiation(), skipExpressions);
+        }
+        else if (typeInstantiation instanceof DynamicBitFieldInstantiation)
+        {
+            skipExpressions.add(((DynamicBitFieldInstantiation)typeInstantiation).getLengthExpression());
+        }
+        else if (typeInstantiation instanceof ParameterizedTypeInstantiation)
+        {
+            for (ParameterizedTypeInstantiation.InstantiatedParameter instantiatedParameter :
+                    ((ParameterizedTypeInstantiation)typeInstantiation).getInstantiatedParameters())
+            {
+                skipExpressions.add(instantiatedParameter.getArgumentExpression());
+            }
+        }
+    }
+
+    private static boolean canReadInSkip(CompoundFieldTemplateData skipField)
+    {
+        // element factories which need parent context and offset checkers are inner classes
+        final CompoundFieldTemplateData.Array array = skipField.getArray();
+        if (array == null)
+            return true;
+
+        if (skipField.getOffset() != null && skipField.getOffset().getContainsIndex())
+            return false;
+
+        return !(array.getRequiresElementFactory() && array.getRequiresParentContext());
+    }
+
     private final CompoundConstructorTemplateData   compoundConstructorsData;
     private final CompoundParameterTemplateData     compoundParametersData;
     private final CompoundFunctionTemplateData      compoundFunctionsData;
     private final boolean                           hasFieldWithOffset;
     private final List<CompoundFieldTemplateData>   fieldList;
+    private final boolean                           skipRequiresInstance;
+    private final List<SkipField>                   skipFieldList;
 }
@@ -41,6 +41,9 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     public String getDecimalLiteral(Expression expr, boolean isNegative)
     {
         String decLiteral = expr.getText();
+        if (isUnsignedLong(expr))
+            return getUnsignedLongLiteral(new BigInteger(decLiteral));
+
         // special work around for INT64_MIN, this value is not mapped to BigInteger
         if (expr.needsBigInteger() && (!isNegative || !decLiteral.equals(DECIMAL_LITERAL_ABS_INT64_MIN)))
         {
@@ -62,7 +65,11 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
         String binaryLiteral = expr.getText();
         if (!binaryLiteral.isEmpty())
         {
-            if (expr.needsBigInteger())
+            if (isUnsignedLong(expr))
+            {
+                binaryLiteral = getUnsignedLongLiteral(new BigInteger(binaryLiteral, 2));
+            }
+            else if (expr.needsBigInteger())
             {
                 // special handling for uint64 type
                 binaryLiteral = getBigIntegerLiteral(binaryLiteral, 2);
@@ -82,6 +89,9 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     public String getHexadecimalLiteral(Expression expr, boolean isNegative)
     {
         // hexadecimal literals in Java are the same (with prefix "0x") but append "L" for long values
+        if (isUnsignedLong(expr))
+            return getUnsignedLongLiteral(new BigInteger(expr.getText(), 16));
+
         if (expr.needsBigInteger())
         {
             // special handling for uint64 type
@@ -100,6 +110,9 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     public String getOctalLiteral(Expression expr, boolean isNegative)
     {
         // octal literals in Java are the same (with prefix '0')
+        if (isUnsignedLong(expr))
+            return getUnsignedLongLiteral(new BigInteger(expr.getText(), 8));
+
         if (expr.needsBigInteger())
         {
             // special handling for uint64 type
@@ -154,7 +167,7 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
         final BigInteger exprUpperBound = expr.getIntegerUpperBound();
         final boolean isMappedToBigInteger = (exprUpperBound != null &&
                 exprUpperBound.compareTo(BigInteger.valueOf(Long.MAX_VALUE)) > 0);
-        final boolean needsCastingToBigInteger = (!isMappedToBigInteger && expr.needsBigInteger());
+        final boolean needsCastingToBigInteger = (!isMappedToBigInteger && isBigInteger(expr));
         if (isMostLeftId && needsCastingToBigInteger)
             result.append(BIG_INTEGER + ".valueOf(");
 
@@ -183,7 +196,7 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public UnaryExpressionFormatting getBigIntegerCastingToNative(Expression expr)
     {
-        if (!expr.needsBigInteger())
+        if (!isBigInteger(expr))
             return super.getBigIntegerCastingToNative(expr);
 
         return new UnaryExpressionFormatting("(", ").longValue()");
@@ -192,7 +205,7 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public UnaryExpressionFormatting getUnaryPlus(Expression expr)
     {
-        if (!expr.needsBigInteger())
+        if (!isBigInteger(expr))
             return super.getUnaryPlus(expr);
 
         return new UnaryExpressionFormatting("");
@@ -201,7 +214,7 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public UnaryExpressionFormatting getUnaryMinus(Expression expr)
     {
-        if (!expr.needsBigInteger())
+        if (!isBigInteger(expr))
             return super.getUnaryMinus(expr);
 
         return new UnaryExpressionFormatting("", ".negate()");
@@ -210,7 +223,7 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public UnaryExpressionFormatting getTilde(Expression expr)
     {
-        if (!expr.needsBigInteger() && expr.getExprType() != Expression.ExpressionType.BITMASK)
+        if (!isBigInteger(expr) && expr.getExprType() != Expression.ExpressionType.BITMASK)
             return super.getTilde(expr);
 
         return new UnaryExpressionFormatting("", ".not()");
@@ -255,7 +268,7 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public BinaryExpressionFormatting getOr(Expression expr)
     {
-        if (!expr.needsBigInteger() && expr.getExprType() != Expression.ExpressionType.BITMASK)
+        if (!isBigInteger(expr) && expr.getExprType() != Expression.ExpressionType.BITMASK)
             return super.getOr(expr);
 
         return new BinaryExpressionFormatting("", ".or(", ")");
@@ -264,7 +277,7 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public BinaryExpressionFormatting getXor(Expression expr)
     {
-        if (!expr.needsBigInteger() && expr.getExprType() != Expression.ExpressionType.BITMASK)
+        if (!isBigInteger(expr) && expr.getExprType() != Expression.ExpressionType.BITMASK)
             return super.getXor(expr);
 
         return new BinaryExpressionFormatting("", ".xor(", ")");
@@ -273,7 +286,7 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public BinaryExpressionFormatting getAnd(Expression expr)
     {
-        if (!expr.needsBigInteger() && expr.getExprType() != Expression.ExpressionType.BITMASK)
+        if (!isBigInteger(expr) && expr.getExprType() != Expression.ExpressionType.BITMASK)
             return super.getAnd(expr);
 
         return new BinaryExpressionFormatting("", ".and(", ")");
@@ -285,7 +298,10 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
         if (expr.op1().getExprType() == Expression.ExpressionType.BITMASK)
             return new BinaryExpressionFormatting("", ".equals(", ")");
 
-        if (!expr.needsBigInteger())
+        if (isMixedSignednessOperation(expr))
+            return getMixedSignednessFormatting(expr, ".compareTo(", ") == 0");
+
+        if (!isBigInteger(expr))
             return super.getEq(expr);
 
         return new BinaryExpressionFormatting("", ".compareTo(", ") == 0");
@@ -297,7 +313,10 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
         if (expr.op1().getExprType() == Expression.ExpressionType.BITMASK)
             return new BinaryExpressionFormatting("!", ".equals(", ")");
 
-        if (!expr.needsBigInteger())
+        if (isMixedSignednessOperation(expr))
+            return getMixedSignednessFormatting(expr, ".compareTo(", ") != 0");
+
+        if (!isBigInteger(expr))
             return super.getNe(expr);
 
         return new BinaryExpressionFormatting("", ".compareTo(", ") != 0");
@@ -306,7 +325,13 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public BinaryExpressionFormatting getLt(Expression expr)
     {
-        if (!expr.needsBigInteger())
+        if (isMixedSignednessOperation(expr))
+            return getMixedSignednessFormatting(expr, ".compareTo(", ") < 0");
+
+        if (isUnsignedLongOperation(expr))
+            return new BinaryExpressionFormatting(JAVA_COMPARE_UNSIGNED + "(", ", ", ") < 0");
+
+        if (!isBigInteger(expr))
             return super.getLt(expr);
 
         return new BinaryExpressionFormatting("", ".compareTo(", ") < 0");
@@ -315,7 +340,13 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public BinaryExpressionFormatting getLe(Expression expr)
     {
-        if (!expr.needsBigInteger())
+        if (isMixedSignednessOperation(expr))
+            return getMixedSignednessFormatting(expr, ".compareTo(", ") <= 0");
+
+        if (isUnsignedLongOperation(expr))
+            return new BinaryExpressionFormatting(JAVA_COMPARE_UNSIGNED + "(", ", ", ") <= 0");
+
+        if (!isBigInteger(expr))
             return super.getLe(expr);
 
         return new BinaryExpressionFormatting("", ".compareTo(", ") <= 0");
@@ -324,7 +355,13 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public BinaryExpressionFormatting getGe(Expression expr)
     {
-        if (!expr.needsBigInteger())
+        if (isMixedSignednessOperation(expr))
+            return getMixedSignednessFormatting(expr, ".compareTo(", ") >= 0");
+
+        if (isUnsignedLongOperation(expr))
+            return new BinaryExpressionFormatting(JAVA_COMPARE_UNSIGNED + "(", ", ", ") >= 0");
+
+        if (!isBigInteger(expr))
             return super.getGe(expr);
 
         return new BinaryExpressionFormatting("", ".compareTo(", ") >= 0");
@@ -333,7 +370,13 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public BinaryExpressionFormatting getGt(Expression expr)
     {
-        if (!expr.needsBigInteger())
+        if (isMixedSignednessOperation(expr))
+            return getMixedSignednessFormatting(expr, ".compareTo(", ") > 0");
+
+        if (isUnsignedLongOperation(expr))
+            return new BinaryExpressionFormatting(JAVA_COMPARE_UNSIGNED + "(", ", ", ") > 0");
+
+        if (!isBigInteger(expr))
             return super.getGt(expr);
 
         return new BinaryExpressionFormatting("", ".compareTo(", ") > 0");
@@ -342,7 +385,7 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public BinaryExpressionFormatting getLeftShift(Expression expr)
     {
-        if (!expr.needsBigInteger())
+        if (!isBigInteger(expr))
             return super.getLeftShift(expr);
 
         return new BinaryExpressionFormatting("", ".shiftLeft(", ")");
@@ -351,7 +394,11 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public BinaryExpressionFormatting getRightShift(Expression expr)
     {
-        if (!expr.needsBigInteger())
+        // logical shift is needed only if the shifted value is unsigned, the shift amount does not matter
+        if (isUnsignedLongOperand(expr.op1()))
+            return new BinaryExpressionFormatting(" >>> ");
+
+        if (!isBigInteger(expr))
             return super.getRightShift(expr);
 
         return new BinaryExpressionFormatting("", ".shiftRight(", ")");
@@ -360,7 +407,7 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public BinaryExpressionFormatting getPlus(Expression expr)
     {
-        if (!expr.needsBigInteger())
+        if (!isBigInteger(expr))
             return super.getPlus(expr);
 
         return new BinaryExpressionFormatting("", ".add(", ")");
@@ -369,7 +416,7 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public BinaryExpressionFormatting getMinus(Expression expr)
     {
-        if (!expr.needsBigInteger())
+        if (!isBigInteger(expr))
             return super.getMinus(expr);
 
         return new BinaryExpressionFormatting("", ".subtract(", ")");
@@ -378,7 +425,7 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public BinaryExpressionFormatting getMultiply(Expression expr)
     {
-        if (!expr.needsBigInteger())
+        if (!isBigInteger(expr))
             return super.getMultiply(expr);
 
         return new BinaryExpressionFormatting("", ".multiply(", ")");
@@ -387,7 +434,13 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public BinaryExpressionFormatting getDivide(Expression expr)
     {
-        if (!expr.needsBigInteger())
+        if (isMixedSignednessOperation(expr))
+            return getMixedSignednessFormatting(expr, ".divide(", ").longValue()");
+
+        if (isUnsignedLongOperation(expr))
+            return new BinaryExpressionFormatting(JAVA_DIVIDE_UNSIGNED + "(", ", ", ")");
+
+        if (!isBigInteger(expr))
             return super.getDivide(expr);
 
         return new BinaryExpressionFormatting("", ".divide(", ")");
@@ -396,7 +449,13 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     @Override
     public BinaryExpressionFormatting getModulo(Expression expr)
     {
-        if (!expr.needsBigInteger())
+        if (isMixedSignednessOperation(expr))
+            return getMixedSignednessFormatting(expr, ".mod(", ").longValue()");
+
+        if (isUnsignedLongOperation(expr))
+            return new BinaryExpressionFormatting(JAVA_REMAINDER_UNSIGNED + "(", ", ", ")");
+
+        if (!isBigInteger(expr))
             return super.getModulo(expr);
 
         return new BinaryExpressionFormatting("", ".mod(", ")");
@@ -432,7 +491,7 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
     protected abstract String getDotSeparatorForEnumItem();
     protected abstract String getAccessPrefixForCompoundType();
 
-    private void formatParameterAccessor(StringBuilder result, boolean isMostLeftId, Parameter param)
+    protected void formatParameterAccessor(StringBuilder result, boolean isMostLeftId, Parameter param)
     {
         if (isMostLeftId)
             result.append(getAccessPrefix());
@@ -441,7 +500,8 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
         result.append(JAVA_GETTER_FUNCTION_CALL);
     }
 
-    private void formatFieldAccessor(StringBuilder result, boolean isMostLeftId, Field field, boolean isSetter)
+    protected void formatFieldAccessor(StringBuilder result, boolean isMostLeftId, Field field,
+            boolean isSetter)
     {
         if (isMostLeftId)
             result.append(getAccessPrefix());
@@ -552,6 +612,70 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
         return (literalValue.compareTo(BigInteger.valueOf(maxAbsIntValue)) > 0) ? JAVA_LONG_LITERAL_SUFFIX : "";
     }
 
+    private boolean isBigInteger(Expression expr)
+    {
+        return expr.needsBigInteger() && !javaNativeMapper.getWithUnsignedLong();
+    }
+
+    private boolean isUnsignedLong(Expression expr)
+    {
+        return expr.needsBigInteger() && javaNativeMapper.getWithUnsignedLong();
+    }
+
+    private boolean isUnsignedLongOperand(Expression operand)
+    {
+        // needs BigInteger flag is propagated to all operands, thus only the bounds tell the unsigned ones
+        final BigInteger upperBound = operand.getIntegerUpperBound();
+
+        return javaNativeMapper.getWithUnsignedLong() && upperBound != null &&
+                upperBound.compareTo(BigInteger.valueOf(Long.MAX_VALUE)) > 0;
+    }
+
+    private boolean isSignedLongOperand(Expression operand)
+    {
+        final BigInteger lowerBound = operand.getIntegerLowerBound();
+
+        return lowerBound != null && lowerBound.signum() < 0 && !isUnsignedLongOperand(operand);
+    }
+
+    private boolean isUnsignedLongOperation(Expression expr)
+    {
+        // unsigned helpers can be used only if none of the operands can be negative
+        return (isUnsignedLongOperand(expr.op1()) && !isSignedLongOperand(expr.op2())) ||
+                (isUnsignedLongOperand(expr.op2()) && !isSignedLongOperand(expr.op1()));
+    }
+
+    private boolean isMixedSignednessOperation(Expression expr)
+    {
+        return (isUnsignedLongOperand(expr.op1()) && isSignedLongOperand(expr.op2())) ||
+                (isUnsignedLongOperand(expr.op2()) && isSignedLongOperand(expr.op1()));
+    }
+
+    private BinaryExpressionFormatting getMixedSignednessFormatting(Expression expr, String operation,
+            String suffix)
+    {
+        // neither signed nor unsigned long can hold both operands, so they are converted to BigInteger
+        if (isUnsignedLongOperand(expr.op1()))
+        {
+            return new BinaryExpressionFormatting(UNSIGNED_LONG_TO_BIG_INTEGER_PREFIX,
+                    UNSIGNED_LONG_TO_BIG_INTEGER_SUFFIX + operation + LONG_TO_BIG_INTEGER_PREFIX,
+                    LONG_TO_BIG_INTEGER_SUFFIX + suffix);
+        }
+
+        return new BinaryExpressionFormatting(LONG_TO_BIG_INTEGER_PREFIX,
+                LONG_TO_BIG_INTEGER_SUFFIX + operation + UNSIGNED_LONG_TO_BIG_INTEGER_PREFIX,
+                UNSIGNED_LONG_TO_BIG_INTEGER_SUFFIX + suffix);
+    }
+
+    private String getUnsignedLongLiteral(BigInteger value)
+    {
+        // values which do not fit into signed long are written as hexadecimal (two's complement) literals
+        if (value.compareTo(BigInteger.valueOf(Long.MAX_VALUE)) > 0)
+            return JAVA_HEXADECIMAL_LITERAL_PREFIX + value.toString(16) + JAVA_LONG_LITERAL_SUFFIX;
+
+        return value.toString() + JAVA_LONG_LITERAL_SUFFIX;
+    }
+
     private String getBigIntegerLiteral(String value)
     {
         return getPreformattedBigIntegerValue(value) + ")";
@@ -577,6 +701,14 @@ public abstract class JavaDefaultExpressionFormattingPolicy extends DefaultExpre
 
     private final static String DECIMAL_LITERAL_ABS_INT64_MIN = "9223372036854775808";
     private final static String BIG_INTEGER = "java.math.BigInteger";
+    private final static String JAVA_COMPARE_UNSIGNED = "java.lang.Long.compareUnsigned";
+    private final static String JAVA_DIVIDE_UNSIGNED = "java.lang.Long.divideUnsigned";
+    private final static String JAVA_REMAINDER_UNSIGNED = "java.lang.Long.remainderUnsigned";
+    private final static String LONG_TO_BIG_INTEGER_PREFIX = BIG_INTEGER + ".valueOf(";
+    private final static String LONG_TO_BIG_INTEGER_SUFFIX = ")";
+    private final static String UNSIGNED_LONG_TO_BIG_INTEGER_PREFIX =
+            "new " + BIG_INTEGER + "(java.lang.Long.toUnsignedString(";
+    private final static String UNSIGNED_LONG_TO_BIG_INTEGER_SUFFIX = "))";
 
     private final JavaNativeMapper javaNativeMapper;
 }
@@ -4,9 +4,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.cli.Option;
+import org.apache.commons.cli.OptionGroup;
 
 import zserio.ast.Root;
 import zserio.emit.common.ZserioEmitException;
+import zserio.emit.common.CompositeEmitter;
 import zserio.emit.common.Emitter;
 import zserio.tools.Extension;
 import zserio.tools.Parameters;
@@ -35,6 +37,26 @@ public class JavaExtension implements Extension
         option.setArgName("outputDir");
         option.setRequired(false);
         options.addOption(option);
+
+        final OptionGroup viewCodeGroup = new OptionGroup();
+        option = new Option(OptionWithViewCode, false,
+                "enable generation of Java read-only view classes which decode fields on demand");
+        viewCodeGroup.addOption(option);
+        option = new Option(OptionWithoutViewCode, false,
+                "disable generation of Java read-only view classes (default)");
+        viewCodeGroup.addOption(option);
+        viewCodeGroup.setRequired(false);
+        options.addOptionGroup(viewCodeGroup);
+
+        final OptionGroup unsignedLongGroup = new OptionGroup();
+        option = new Option(OptionWithUnsignedLong, false,
+                "map uint64, varuint and unsigned 64-bit bit fields to Java long with unsigned semantics");
+        unsignedLongGroup.addOption(option);
+        option = new Option(OptionWithoutUnsignedLong, false,
+                "map uint64, varuint and unsigned 64-bit bit fields to Java BigInteger (default)");
+        unsignedLongGroup.addOption(option);
+        unsignedLongGroup.setRequired(false);
+        options.addOptionGroup(unsignedLongGroup);
     }
 
     @Override
@@ -47,7 +69,10 @@ public class JavaExtension implements Extension
     public void generate(Parameters extensionParameters, Root rootNode) throws ZserioEmitException
     {
         final String outputDir = extensionParameters.getCommandLineArg(OptionJava);
-        final JavaExtensionParameters javaParameters = new JavaExtensionParameters(outputDir);
+        final boolean withViewCode = extensionParameters.argumentExists(OptionWithViewCode);
+        final boolean withUnsignedLong = extensionParameters.argumentExists(OptionWithUnsignedLong);
+        final JavaExtensionParameters javaParameters = new JavaExtensionParameters(outputDir, withViewCode,
+                withUnsignedLong);
         generateJavaSources(extensionParameters, javaParameters, rootNode);
     }
 
@@ -66,10 +91,13 @@ public class JavaExtension implements Extension
         emitters.add(new ServiceEmitter(extensionParameters, javaParameters));
         emitters.add(new PubsubEmitter(extensionParameters, javaParameters));
 
-        // emit Java code
-        for (Emitter javaEmitter: emitters)
-            rootNode.emit(javaEmitter);
+        // emit Java code by all emitters during one traversal
+        rootNode.emit(new CompositeEmitter(emitters));
     }
 
     private static final String OptionJava = "java";
+    private static final String OptionWithViewCode = "withViewCode";
+    private static final String OptionWithoutViewCode = "withoutViewCode";
+    private static final String OptionWithUnsignedLong = "withUnsignedLong";
+    private static final String OptionWithoutUnsignedLong = "withoutUnsignedLong";
 }
@@ -2,9 +2,11 @@ package zserio.emit.java;
 
 public class JavaExtensionParameters
 {
-    public JavaExtensionParameters(String javaOutputDir)
+    public JavaExtensionParameters(String javaOutputDir, boolean withViewCode, boolean withUnsignedLong)
     {
         this.javaOutputDir = javaOutputDir;
+        this.withViewCode = withViewCode;
+        this.withUnsignedLong = withUnsignedLong;
     }
 
     public String getJavaOutputDir()
@@ -12,5 +14,17 @@ public class JavaExtensionParameters
         return javaOutputDir;
     }
 
+    public boolean getWithViewCode()
+    {
+        return withViewCode;
+    }
+
+    public boolean getWithUnsignedLong()
+    {
+        return withUnsignedLong;
+    }
+
     private final String    javaOutputDir;
+    private final boolean   withViewCode;
+    private final boolean   withUnsignedLong;
 }
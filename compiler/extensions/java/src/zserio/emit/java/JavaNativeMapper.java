@@ -57,6 +57,7 @@ import zserio.emit.java.types.NativeStringType;
 import zserio.emit.java.types.NativeUnsignedByteArrayType;
 import zserio.emit.java.types.NativeUnsignedIntArrayType;
 import zserio.emit.java.types.NativeUnsignedLongArrayType;
+import zserio.emit.java.types.NativeUnsignedLongType;
 import zserio.emit.java.types.NativeBigIntegerType;
 import zserio.emit.java.types.NativeUnsignedShortArrayType;
 
@@ -66,10 +67,22 @@ final class JavaNativeMapper
      * Constructor.
      *
      * @param javaPackageMapper The Java package mapper to construct from.
+     * @param withUnsignedLong  True to map 64-bit unsigned types to primitive long instead of BigInteger.
      */
-    public JavaNativeMapper(PackageMapper javaPackageMapper)
+    public JavaNativeMapper(PackageMapper javaPackageMapper, boolean withUnsignedLong)
     {
         this.javaPackageMapper = javaPackageMapper;
+        this.withUnsignedLong = withUnsignedLong;
+    }
+
+    /**
+     * Checks whether 64-bit unsigned types (uint64, varuint, bit:64) are mapped to primitive long.
+     *
+     * @return True if unsigned long mapping is used, false if such types are mapped to BigInteger.
+     */
+    public boolean getWithUnsignedLong()
+    {
+        return withUnsignedLong;
     }
 
     /**
@@ -253,21 +266,21 @@ final class JavaNativeMapper
         return nativeType;
     }
 
-    private static JavaNativeType mapDynamicBitField(DynamicBitFieldInstantiation instantiation)
+    private JavaNativeType mapDynamicBitField(DynamicBitFieldInstantiation instantiation)
     {
         final boolean isSigned = instantiation.getBaseType().isSigned();
         final int numBits = instantiation.getMaxBitSize();
         return isSigned ? mapSignedIntegralType(numBits) : mapUnsignedIntegralType(numBits);
     }
 
-    private static JavaNativeType mapDynamicBitFieldToNullableType(DynamicBitFieldInstantiation instantiation)
+    private JavaNativeType mapDynamicBitFieldToNullableType(DynamicBitFieldInstantiation instantiation)
     {
         final boolean isSigned = instantiation.getBaseType().isSigned();
         final int numBits = instantiation.getMaxBitSize();
         return isSigned ? mapSignedIntegralNullableType(numBits) : mapUnsignedIntegralNullableType(numBits);
     }
 
-    private static JavaNativeType mapDynamicBitFieldArray(DynamicBitFieldInstantiation instantiation)
+    private JavaNativeType mapDynamicBitFieldArray(DynamicBitFieldInstantiation instantiation)
     {
         final boolean isSigned = instantiation.getBaseType().isSigned();
         final int numBits = instantiation.getMaxBitSize();
@@ -298,7 +311,7 @@ final class JavaNativeMapper
             return longNullableType;
     }
 
-    private static JavaNativeType mapUnsignedIntegralType(int numBits)
+    private JavaNativeType mapUnsignedIntegralType(int numBits)
     {
         if (numBits < Byte.SIZE)
             return byteType;
@@ -309,10 +322,10 @@ final class JavaNativeMapper
         else if (numBits < Long.SIZE)
             return longType;
         else
-            return bigIntegerType;
+            return withUnsignedLong ? unsignedLongType : bigIntegerType;
     }
 
-    private static JavaNativeType mapUnsignedIntegralNullableType(int numBits)
+    private JavaNativeType mapUnsignedIntegralNullableType(int numBits)
     {
         if (numBits < Byte.SIZE)
             return byteNullableType;
@@ -323,7 +336,7 @@ final class JavaNativeMapper
         else if (numBits < Long.SIZE)
             return longNullableType;
         else
-            return bigIntegerType;
+            return withUnsignedLong ? unsignedLongNullableType : bigIntegerType;
     }
 
     private static JavaNativeType mapSignedIntegralArray(int numBits)
@@ -338,7 +351,7 @@ final class JavaNativeMapper
             return longArrayType;
     }
 
-    private static JavaNativeType mapUnsignedIntegralArray(int numBits)
+    private JavaNativeType mapUnsignedIntegralArray(int numBits)
     {
         // always keep the MSB clear
         if (numBits <= Byte.SIZE)
@@ -347,7 +360,7 @@ final class JavaNativeMapper
             return unsignedShortArrayType;
         else if (numBits <= Integer.SIZE)
             return unsignedIntArrayType;
-        else if (numBits < Long.SIZE)
+        else if (numBits < Long.SIZE || withUnsignedLong)
             return unsignedLongArrayType;
         else
             return bigIntegerArrayType;
@@ -530,7 +543,7 @@ final class JavaNativeMapper
                     break;
 
                 case 72:
-                    javaNullableType = varUIntArrayType;
+                    javaNullableType = withUnsignedLong ? varUIntLongArrayType : varUIntArrayType;
                     break;
 
                 default:
@@ -539,7 +552,7 @@ final class JavaNativeMapper
             }
             else
             {
-                javaNullableType = JavaNativeMapper.mapUnsignedIntegralArray(numBits);
+                javaNullableType = JavaNativeMapper.this.mapUnsignedIntegralArray(numBits);
             }
         }
 
@@ -729,8 +742,8 @@ final class JavaNativeMapper
             }
             else
             {
-                javaType = JavaNativeMapper.mapUnsignedIntegralType(numBits);
-                javaNullableType = JavaNativeMapper.mapUnsignedIntegralNullableType(numBits);
+                javaType = JavaNativeMapper.this.mapUnsignedIntegralType(numBits);
+                javaNullableType = JavaNativeMapper.this.mapUnsignedIntegralNullableType(numBits);
             }
         }
 
@@ -765,6 +778,11 @@ final class JavaNativeMapper
                     javaType = longType;
                     javaNullableType = longNullableType;
                 }
+                else if (withUnsignedLong)
+                {
+                    javaType = unsignedLongType;
+                    javaNullableType = unsignedLongNullableType;
+                }
                 else
                 {
                     javaType = bigIntegerType;
@@ -813,6 +831,8 @@ final class JavaNativeMapper
     private final static NativeIntType intNullableType = new NativeIntType(true);
     private final static NativeLongType longType = new NativeLongType(false);
     private final static NativeLongType longNullableType = new NativeLongType(true);
+    private final static NativeUnsignedLongType unsignedLongType = new NativeUnsignedLongType(false);
+    private final static NativeUnsignedLongType unsignedLongNullableType = new NativeUnsignedLongType(true);
     private final static NativeBigIntegerType bigIntegerType = new NativeBigIntegerType();
 
     // zserio.runtime arrays
@@ -852,8 +872,10 @@ final class JavaNativeMapper
 
     private final static NativeArrayType varIntArrayType = new NativeArrayType("VarIntArray");
     private final static NativeArrayType varUIntArrayType = new NativeArrayType("VarUIntArray");
+    private final static NativeArrayType varUIntLongArrayType = new NativeArrayType("VarUIntLongArray");
 
     private final static NativeArrayType varSizeArrayType = new NativeArrayType("VarSizeArray");
 
     private final PackageMapper javaPackageMapper;
+    private final boolean withUnsignedLong;
 }
@@ -44,7 +44,8 @@ public class JavaRuntimeFunctionDataCreator
                     throws ZserioEmitException
     {
         final String suffix = (instantiation.getBaseType().isSigned()) ? "SignedBits" :
-            (instantiation.getMaxBitSize() > 63) ? "BigInteger" : "Bits";
+            (instantiation.getMaxBitSize() <= 63) ? "Bits" :
+            (javaNativeMapper.getWithUnsignedLong()) ? "UnsignedLong" : "BigInteger";
         // this int cast is necessary because length can be bigger than integer (uint64, uint32)
         final String arg = "(int)" + javaExpressionFormatter.formatGetter(instantiation.getLengthExpression());
         return new RuntimeFunctionTemplateData(
@@ -121,6 +122,8 @@ public class JavaRuntimeFunctionDataCreator
                 suffix.append("Int");
                 if (maxBitSize != 72) // Var(U)Int takes up to 9 bytes
                     suffix.append(maxBitSize);
+                else if (!type.isSigned() && javaNativeMapper.getWithUnsignedLong())
+                    suffix.append("Long");
             }
 
             templateData = new RuntimeFunctionTemplateData(suffix.toString());
@@ -182,7 +185,9 @@ public class JavaRuntimeFunctionDataCreator
                 case 64:
                     try
                     {
-                        templateData = new RuntimeFunctionTemplateData("BigInteger",
+                        final String suffix = javaNativeMapper.getWithUnsignedLong() ?
+                                "UnsignedLong" : "BigInteger";
+                        templateData = new RuntimeFunctionTemplateData(suffix,
                                 JavaLiteralFormatter.formatDecimalLiteral(bitSize));
                     }
                     catch (ZserioEmitException exception)
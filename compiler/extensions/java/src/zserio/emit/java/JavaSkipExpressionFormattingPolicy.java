@@ -0,0 +1,44 @@
+package zserio.emit.java;
+
+import zserio.ast.Field;
+import zserio.ast.Parameter;
+
+/**
+ * A special formatting policy to be used in generated static skip methods.
+ *
+ * Skip methods do not have any instance, therefore parameters and already read fields are referenced by local
+ * variables.
+ */
+public class JavaSkipExpressionFormattingPolicy extends JavaExpressionFormattingPolicy
+{
+    public JavaSkipExpressionFormattingPolicy(JavaNativeMapper javaNativeMapper)
+    {
+        super(javaNativeMapper);
+    }
+
+    @Override
+    protected void formatParameterAccessor(StringBuilder result, boolean isMostLeftId, Parameter param)
+    {
+        if (isMostLeftId)
+            result.append(getLocalVariableName(param.getName()));
+        else
+            super.formatParameterAccessor(result, isMostLeftId, param);
+    }
+
+    @Override
+    protected void formatFieldAccessor(StringBuilder result, boolean isMostLeftId, Field field,
+            boolean isSetter)
+    {
+        if (isMostLeftId)
+            result.append(getLocalVariableName(field.getName()));
+        else
+            super.formatFieldAccessor(result, isMostLeftId, field, isSetter);
+    }
+
+    private static String getLocalVariableName(String name)
+    {
+        return name + LOCAL_VARIABLE_SUFFIX;
+    }
+
+    private static final String LOCAL_VARIABLE_SUFFIX = "_";
+}
@@ -11,6 +11,7 @@ import zserio.ast.StdIntegerType;
 import zserio.emit.common.ExpressionFormatter;
 import zserio.emit.common.ZserioEmitException;
 import zserio.emit.java.types.NativeIntegralType;
+import zserio.emit.java.types.NativeUnsignedLongType;
 
 public final class RangeCheckTemplateData
 {
@@ -27,7 +28,8 @@ public final class RangeCheckTemplateData
             if (commonRangeData != null && (commonRangeData.checkLowerBound || commonRangeData.checkUpperBound))
             {
                 setterRangeData = new SetterRangeData(field, commonRangeData.javaTypeName,
-                        isTypeNullable, commonRangeData.bitFieldWithExpression, commonRangeData.lowerBound,
+                        isTypeNullable, commonRangeData.isUnsignedLongType,
+                        commonRangeData.bitFieldWithExpression, commonRangeData.lowerBound,
                         commonRangeData.checkUpperBound, commonRangeData.upperBound);
             }
             else
@@ -103,12 +105,13 @@ public final class RangeCheckTemplateData
     public static class SetterRangeData
     {
         public SetterRangeData(CompoundFieldTemplateData field, String javaTypeName, boolean isTypeNullable,
-                BitFieldWithExpression bitFieldWithExpression, String lowerBound, boolean checkUpperBound,
-                String upperBound)
+                boolean isUnsignedLongType, BitFieldWithExpression bitFieldWithExpression, String lowerBound,
+                boolean checkUpperBound, String upperBound)
         {
             this.field = field;
             this.javaTypeName = javaTypeName;
             this.isTypeNullable = isTypeNullable;
+            this.isUnsignedLongType = isUnsignedLongType;
             this.bitFieldWithExpression = bitFieldWithExpression;
             this.lowerBound = lowerBound;
             this.checkUpperBound = checkUpperBound;
@@ -130,6 +133,11 @@ public final class RangeCheckTemplateData
             return isTypeNullable;
         }
 
+        public boolean getIsUnsignedLongType()
+        {
+            return isUnsignedLongType;
+        }
+
         public BitFieldWithExpression getBitFieldWithExpression()
         {
             return bitFieldWithExpression;
@@ -153,6 +161,7 @@ public final class RangeCheckTemplateData
         private final CompoundFieldTemplateData field;
         private final String                    javaTypeName;
         private final boolean                   isTypeNullable;
+        private final boolean                   isUnsignedLongType;
         private final BitFieldWithExpression    bitFieldWithExpression;
         private final String                    lowerBound;
         private final boolean                   checkUpperBound;
@@ -187,12 +196,13 @@ public final class RangeCheckTemplateData
     private static class CommonRangeData
     {
         public CommonRangeData(String javaTypeName, boolean isBoolType, boolean is64BitType,
-                BitFieldWithExpression bitFieldWithExpression, boolean checkLowerBound, String lowerBound,
-                boolean checkUpperBound, String upperBound)
+                boolean isUnsignedLongType, BitFieldWithExpression bitFieldWithExpression,
+                boolean checkLowerBound, String lowerBound, boolean checkUpperBound, String upperBound)
         {
             this.javaTypeName = javaTypeName;
             this.isBoolType = isBoolType;
             this.is64BitType = is64BitType;
+            this.isUnsignedLongType = isUnsignedLongType;
             this.bitFieldWithExpression = bitFieldWithExpression;
             this.checkLowerBound = checkLowerBound;
             this.lowerBound = lowerBound;
@@ -203,6 +213,7 @@ public final class RangeCheckTemplateData
         private final String                    javaTypeName;
         private final boolean                   isBoolType;
         private final boolean                   is64BitType;
+        private final boolean                   isUnsignedLongType;
         private final BitFieldWithExpression    bitFieldWithExpression;
         private final boolean                   checkLowerBound;
         private final String                    lowerBound;
@@ -232,8 +243,9 @@ public final class RangeCheckTemplateData
 
         final String javaTypeName = nativeType.getFullName();
         final boolean isBoolType = (baseType instanceof BooleanType);
-        final boolean is64bitType = (integerType instanceof StdIntegerType) &&
-                ((StdIntegerType)integerType).getBitSize() == 64;
+        final boolean isUnsignedLongType = (nativeType instanceof NativeUnsignedLongType);
+        final boolean is64bitType = isUnsignedLongType || ((integerType instanceof StdIntegerType) &&
+                ((StdIntegerType)integerType).getBitSize() == 64);
         final BitFieldWithExpression bitFieldWithExpression = createBitFieldWithExpression(typeInstantiation,
                 javaExpressionFormatter);
 
@@ -251,8 +263,8 @@ public final class RangeCheckTemplateData
         final String lowerBound = nativeType.formatLiteral(zserioLowerBound);
         final String upperBound = nativeType.formatLiteral(zserioUpperBound);
 
-        return new CommonRangeData(javaTypeName, isBoolType, is64bitType, bitFieldWithExpression,
-                checkLowerBound, lowerBound, checkUpperBound, upperBound);
+        return new CommonRangeData(javaTypeName, isBoolType, is64bitType, isUnsignedLongType,
+                bitFieldWithExpression, checkLowerBound, lowerBound, checkUpperBound, upperBound);
     }
 
     private static BitFieldWithExpression createBitFieldWithExpression(TypeInstantiation typeInstantiation,
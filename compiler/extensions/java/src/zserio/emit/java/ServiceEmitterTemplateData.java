@@ -1,8 +1,12 @@
 package zserio.emit.java;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import zserio.ast.PackageName;
 import zserio.ast.ServiceMethod;
 import zserio.ast.ServiceType;
 import zserio.ast.ZserioType;
@@ -23,10 +27,24 @@ public final class ServiceEmitterTemplateData extends UserTypeTemplateData
         // keep Zserio default formatting to ensure that all languages have same name of service methods
         servicePackageName = nativeServiceType.getPackageName().toString();
 
+        final PackageName schemaPackageName = serviceType.getPackage().getPackageName();
+        final String schemaServiceName = schemaPackageName.isEmpty() ? serviceType.getName() :
+                schemaPackageName.toString() + "." + serviceType.getName();
+        final Map<Integer, String> methodIds = new HashMap<Integer, String>();
         final Iterable<ServiceMethod> methodList = serviceType.getMethodList();
         for (ServiceMethod method : methodList)
         {
-            MethodTemplateData templateData = new MethodTemplateData(javaTypeMapper, method);
+            // method IDs are derived from qualified schema names, thus they do not depend on the method order
+            final String qualifiedMethodName = schemaServiceName + "." + method.getName();
+            final int methodId = calculateMethodId(qualifiedMethodName);
+            final String collidingMethodName = methodIds.put(methodId, qualifiedMethodName);
+            if (collidingMethodName != null)
+            {
+                throw new ZserioEmitException("Service methods '" + collidingMethodName + "' and '" +
+                        qualifiedMethodName + "' have the same method ID " + methodId + "!");
+            }
+
+            MethodTemplateData templateData = new MethodTemplateData(javaTypeMapper, method, methodId);
             this.methodList.add(templateData);
         }
     }
@@ -43,10 +61,11 @@ public final class ServiceEmitterTemplateData extends UserTypeTemplateData
 
     public static class MethodTemplateData
     {
-        public MethodTemplateData(JavaNativeMapper typeMapper, ServiceMethod serviceMethod)
+        public MethodTemplateData(JavaNativeMapper typeMapper, ServiceMethod serviceMethod, int id)
                 throws ZserioEmitException
         {
             name = serviceMethod.getName();
+            this.id = id;
 
             final ZserioType responseType = serviceMethod.getResponseType();
             responseTypeFullName = typeMapper.getJavaType(responseType).getFullName();
@@ -60,6 +79,11 @@ public final class ServiceEmitterTemplateData extends UserTypeTemplateData
             return name;
         }
 
+        public int getId()
+        {
+            return id;
+        }
+
         public String getResponseTypeFullName()
         {
             return responseTypeFullName;
@@ -71,10 +95,31 @@ public final class ServiceEmitterTemplateData extends UserTypeTemplateData
         }
 
         private final String name;
+        private final int id;
         private final String responseTypeFullName;
         private final String requestTypeFullName;
     }
 
+    /**
+     * Calculates 32-bit FNV-1a hash of the UTF-8 encoded name with the sign bit cleared.
+     *
+     * Method IDs are sent by clients, thus the algorithm must never change.
+     */
+    static int calculateMethodId(String qualifiedMethodName)
+    {
+        int hash = FNV_OFFSET_BASIS;
+        for (byte value : qualifiedMethodName.getBytes(StandardCharsets.UTF_8))
+        {
+            hash ^= (value & 0xFF);
+            hash *= FNV_PRIME;
+        }
+
+        return hash & Integer.MAX_VALUE;
+    }
+
+    private static final int FNV_OFFSET_BASIS = 0x811C9DC5;
+    private static final int FNV_PRIME = 0x01000193;
+
     private final List<MethodTemplateData> methodList = new ArrayList<MethodTemplateData>();
     private final String servicePackageName;
 }
@@ -58,11 +58,13 @@ public final  class SqlDatabaseEmitterTemplateData extends UserTypeTemplateData
             {
                 SqlTableType tableType = (SqlTableType)fieldBaseType;
                 isWithoutRowIdTable = tableType.isWithoutRowId();
+                hasRowId = !isWithoutRowIdTable && tableType.getVirtualTableUsingString() == null;
                 hasExplicitParameters = hasTableExplicitParameters(tableType);
             }
             else
             {
                 isWithoutRowIdTable = false;
+                hasRowId = false;
                 hasExplicitParameters = false;
             }
         }
@@ -87,6 +89,11 @@ public final  class SqlDatabaseEmitterTemplateData extends UserTypeTemplateData
             return isWithoutRowIdTable;
         }
 
+        public boolean getHasRowId()
+        {
+            return hasRowId;
+        }
+
         public boolean getHasExplicitParameters()
         {
             return hasExplicitParameters;
@@ -118,6 +125,7 @@ public final  class SqlDatabaseEmitterTemplateData extends UserTypeTemplateData
         private final String javaTypeName;
         private final String getterName;
         private final boolean isWithoutRowIdTable;
+        private final boolean hasRowId;
         private final boolean hasExplicitParameters;
     }
 
@@ -14,9 +14,18 @@ class StructureEmitter extends JavaDefaultEmitter
     @Override
     public void beginStructure(StructureType structureType) throws ZserioEmitException
     {
-        Object templateData = new StructureEmitterTemplateData(getTemplateDataContext(), structureType);
+        final TemplateDataContext context = getTemplateDataContext();
+        Object templateData = new StructureEmitterTemplateData(context, structureType);
         processTemplate(TEMPLATE_NAME, templateData, structureType);
+
+        if (context.getWithViewCode())
+        {
+            processTemplate(VIEW_TEMPLATE_NAME, templateData, structureType,
+                    structureType.getName() + VIEW_CLASS_NAME_SUFFIX);
+        }
     }
 
     private static final String TEMPLATE_NAME = "Structure.java.ftl";
+    private static final String VIEW_TEMPLATE_NAME = "StructureView.java.ftl";
+    private static final String VIEW_CLASS_NAME_SUFFIX = "View";
 }
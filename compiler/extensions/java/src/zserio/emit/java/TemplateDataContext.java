@@ -9,7 +9,7 @@ final class TemplateDataContext
     public TemplateDataContext(Parameters extensionParameters, JavaExtensionParameters javaParameters,
             PackageMapper javaPackageMapper)
     {
-        javaNativeMapper = new JavaNativeMapper(javaPackageMapper);
+        javaNativeMapper = new JavaNativeMapper(javaPackageMapper, javaParameters.getWithUnsignedLong());
         javaRootPackageName = JavaFullNameFormatter.getFullName(javaPackageMapper.getRootPackageName());
 
         final JavaExpressionFormattingPolicy policy = new JavaExpressionFormattingPolicy(javaNativeMapper);
@@ -23,9 +23,14 @@ final class TemplateDataContext
                 new JavaSqlIndirectExpressionFormattingPolicy(javaNativeMapper);
         javaSqlIndirectExpressionFormatter = new ExpressionFormatter(sqlIndirectPolicy);
 
+        final JavaSkipExpressionFormattingPolicy skipPolicy =
+                new JavaSkipExpressionFormattingPolicy(javaNativeMapper);
+        javaSkipExpressionFormatter = new ExpressionFormatter(skipPolicy);
+
         withWriterCode = extensionParameters.getWithWriterCode();
         withValidationCode = extensionParameters.getWithValidationCode();
         withRangeCheckCode = extensionParameters.getWithRangeCheckCode();
+        withViewCode = javaParameters.getWithViewCode();
     }
 
     public JavaNativeMapper getJavaNativeMapper()
@@ -53,6 +58,11 @@ final class TemplateDataContext
         return javaSqlIndirectExpressionFormatter;
     }
 
+    public ExpressionFormatter getJavaSkipExpressionFormatter()
+    {
+        return javaSkipExpressionFormatter;
+    }
+
     public boolean getWithWriterCode()
     {
         return withWriterCode;
@@ -68,14 +78,21 @@ final class TemplateDataContext
         return withRangeCheckCode;
     }
 
+    public boolean getWithViewCode()
+    {
+        return withViewCode;
+    }
+
     private final JavaNativeMapper javaNativeMapper;
     private final String javaRootPackageName;
 
     private final ExpressionFormatter javaExpressionFormatter;
     private final ExpressionFormatter javaCaseExpressionFormatter;
     private final ExpressionFormatter javaSqlIndirectExpressionFormatter;
+    private final ExpressionFormatter javaSkipExpressionFormatter;
 
     private final boolean withValidationCode;
     private final boolean withRangeCheckCode;
     private final boolean withWriterCode;
+    private final boolean withViewCode;
 }
@@ -0,0 +1,52 @@
+package zserio.emit.java.types;
+
+import java.math.BigInteger;
+
+import zserio.emit.common.ZserioEmitException;
+
+/**
+ * Native long type which holds unsigned 64-bit values (uint64, varuint and unsigned bitfields with 64 bits).
+ *
+ * Values greater than Long.MAX_VALUE are stored in two's complement, i.e. as negative Java longs.
+ */
+public class NativeUnsignedLongType extends NativeLongType
+{
+    public NativeUnsignedLongType(boolean nullable)
+    {
+        super(nullable);
+    }
+
+    @Override
+    public BigInteger getLowerBound()
+    {
+        return lowerBound;
+    }
+
+    @Override
+    public BigInteger getUpperBound()
+    {
+        return upperBound;
+    }
+
+    @Override
+    public String formatLiteral(BigInteger value) throws ZserioEmitException
+    {
+        // values which do not fit into signed long must be written as hexadecimal literals
+        if (value.compareTo(LONG_MAX_VALUE) > 0 && value.compareTo(upperBound) <= 0)
+            return formatLiteral(JAVA_HEXADECIMAL_LITERAL_PREFIX + value.toString(16));
+
+        return super.formatLiteral(value);
+    }
+
+    @Override
+    public boolean isSigned()
+    {
+        return false;
+    }
+
+    private static final BigInteger lowerBound = BigInteger.ZERO;
+    private static final BigInteger upperBound = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+    private static final BigInteger LONG_MAX_VALUE = BigInteger.valueOf(Long.MAX_VALUE);
+    private static final String JAVA_HEXADECIMAL_LITERAL_PREFIX = "0x";
+}
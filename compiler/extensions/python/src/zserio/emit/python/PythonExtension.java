@@ -7,6 +7,7 @@ import org.apache.commons.cli.Option;
 
 import zserio.ast.Root;
 import zserio.emit.common.ZserioEmitException;
+import zserio.emit.common.CompositeEmitter;
 import zserio.emit.common.Emitter;
 import zserio.tools.Extension;
 import zserio.tools.Parameters;
@@ -62,9 +63,8 @@ public class PythonExtension implements Extension
         emitters.add(new ServiceEmitter(outputDir, parameters));
         emitters.add(new PubsubEmitter(outputDir, parameters));
 
-        // emit Python code
-        for (Emitter pythonEmitter: emitters)
-            rootNode.emit(pythonEmitter);
+        // emit Python code by all emitters during one traversal
+        rootNode.emit(new CompositeEmitter(emitters));
     }
 
     private final static String OptionPython = "python";
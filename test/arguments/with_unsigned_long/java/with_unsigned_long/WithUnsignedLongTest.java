@@ -0,0 +1,100 @@
+package with_unsigned_long;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+import zserio.runtime.ZserioError;
+import zserio.runtime.array.UnsignedLongArray;
+import zserio.runtime.array.VarUIntLongArray;
+import zserio.runtime.io.ByteArrayBitStreamReader;
+import zserio.runtime.io.ByteArrayBitStreamWriter;
+
+public class WithUnsignedLongTest
+{
+    @Test
+    public void roundTrip() throws IOException
+    {
+        final UnsignedLongStruct s = create();
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        s.write(writer);
+        assertEquals(s.bitSizeOf(), writer.getBitPosition());
+        final UnsignedLongStruct read = new UnsignedLongStruct(new ByteArrayBitStreamReader(writer.toByteArray()));
+        assertEquals(s, read);
+        assertEquals(-2L, read.getId());
+        assertEquals(Short.valueOf((short)7), read.getSmall());
+        assertTrue(read.funcIsHuge());
+        assertEquals(Long.parseUnsignedLong("9223372036854775807"), read.funcHalf());
+        assertEquals(15L, read.funcShifted());
+        assertEquals(new BigInteger("18446744073709551614").mod(BigInteger.TEN).longValue(), read.funcRest());
+        assertEquals(1L, read.funcComplement());
+        assertEquals("9223372036854775809[LOW | HIGH]", read.getBigMask().toString());
+    }
+
+    @Test
+    public void signedOperands()
+    {
+        final UnsignedLongStruct s = create();
+        assertTrue(s.funcIsSignedLess());
+        assertFalse(s.funcIsSignedEqual());
+        assertEquals(0L, s.funcSignedQuotient());
+        assertEquals(-3L, s.funcSignedShiftSum());
+        assertEquals(-2L, s.funcSignedHalfSum());
+    }
+
+    @Test
+    public void bigIntegerCompatible() throws IOException
+    {
+        // encoding must be the same as for the BigInteger mapping
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        create().write(writer);
+        final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(writer.toByteArray());
+        assertEquals(new BigInteger("18446744073709551614"), reader.readBigInteger(64));
+        assertEquals(new BigInteger("18446744073709551615"), reader.readVarUInt());
+    }
+
+    @Test(expected = ZserioError.class)
+    public void dynamicBitFieldRangeCheck() throws IOException
+    {
+        final UnsignedLongStruct s = create();
+        s.setDynamic(1L << 40);
+        s.write(new ByteArrayBitStreamWriter());
+    }
+
+    @Test
+    public void choice() throws IOException
+    {
+        final ChoiceHolder holder = new ChoiceHolder();
+        holder.setSelector(-1L);
+        final BigChoice choice = new BigChoice(-1L);
+        choice.setMaxValue((short)3);
+        holder.setValue(choice);
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        holder.write(writer);
+        final ChoiceHolder read = new ChoiceHolder(new ByteArrayBitStreamReader(writer.toByteArray()));
+        assertEquals(3, read.getValue().getMaxValue());
+        assertEquals(BigEnum.LARGE, BigEnum.toEnum(0xFFFFFFFFFFFFFFFEL));
+    }
+
+    private static UnsignedLongStruct create()
+    {
+        final UnsignedLongStruct s = new UnsignedLongStruct();
+        s.setId(-2L);
+        s.setTimestamp(-1L);
+        s.setRaw(0x8000000000000000L);
+        s.setNumBits((short)33);
+        s.setDynamic((1L << 33) - 1);
+        s.setIds(new UnsignedLongArray(new long[] { -1L, 0L, 1L }, 0, 3));
+        s.setStamps(new VarUIntLongArray(new long[] { -1L, 1L << 56, 127L }, 0, 3));
+        s.setRaws(new UnsignedLongArray(new long[] { Long.MIN_VALUE, Long.MAX_VALUE }, 0, 2));
+        s.setBigEnum(BigEnum.LARGE);
+        s.setBigMask(BigMask.Values.LOW.or(BigMask.Values.HIGH));
+        s.setMaybe(-5L);
+        s.setSmall((short)7);
+        s.setSignedValue(-1L);
+        return s;
+    }
+}
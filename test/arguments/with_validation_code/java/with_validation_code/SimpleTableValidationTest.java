@@ -12,6 +12,8 @@ import java.sql.ResultSet;
 import java.sql.Statement;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.After;
 import org.junit.Before;
@@ -101,6 +103,33 @@ public class SimpleTableValidationTest
         assertEquals("read", stackTrace[0].getMethodName());
     }
 
+    @Test
+    public void parallelValidation() throws SQLException
+    {
+        populateDb(database.connection(), new TestParameterProvider(), true);
+
+        // set fieldNonBlob to a value outside its Zserio type in the last row
+        executeUpdate("UPDATE simpleTable SET fieldNonBlob = -1 WHERE rowid = " + (ENTRY_COUNT - 1));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            final ValidationReport report = database.validate(new TestParameterProvider(), executor, 3);
+
+            assertEquals(1, report.getNumberOfValidatedTables());
+            assertEquals(ENTRY_COUNT, report.getNumberOfValidatedRows());
+
+            final List<ValidationError> errors = report.getErrors();
+            assertEquals(2, errors.size());
+            assertEquals(ValidationError.Type.BLOB_PARSE_FAILED, errors.get(0).getType());
+            assertEquals(ValidationError.Type.VALUE_OUT_OF_RANGE, errors.get(1).getType());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void validateSingleTable() throws SQLException
     {
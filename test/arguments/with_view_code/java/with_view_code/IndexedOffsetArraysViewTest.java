@@ -0,0 +1,92 @@
+package with_view_code;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import zserio.runtime.array.ObjectArray;
+import zserio.runtime.array.ShortArray;
+import zserio.runtime.array.StringArray;
+import zserio.runtime.array.UnsignedByteArray;
+import zserio.runtime.array.UnsignedIntArray;
+import zserio.runtime.io.ZserioIO;
+
+public class IndexedOffsetArraysViewTest
+{
+    @Before
+    public void setUp()
+    {
+        final List<Block> blocks = new ArrayList<Block>();
+        final StringArray names = new StringArray(NUM_ELEMENTS);
+        final UnsignedByteArray values = new UnsignedByteArray(NUM_ELEMENTS);
+        for (int i = 0; i < NUM_ELEMENTS; ++i)
+        {
+            final ShortArray blockValues = new ShortArray(NUM_BLOCK_VALUES);
+            for (int j = 0; j < NUM_BLOCK_VALUES; ++j)
+                blockValues.setElementAt((short)(i * 10 + j), j);
+            blocks.add(new Block(NUM_BLOCK_VALUES, (short)i, blockValues));
+            names.setElementAt("name" + i, i);
+            values.setElementAt((short)(i % 32), i);
+        }
+
+        indexedOffsetArrays = new IndexedOffsetArrays();
+        indexedOffsetArrays.setNumElements(NUM_ELEMENTS);
+        indexedOffsetArrays.setBlockOffsets(new UnsignedIntArray(NUM_ELEMENTS));
+        indexedOffsetArrays.setNameOffsets(new UnsignedIntArray(NUM_ELEMENTS));
+        indexedOffsetArrays.setValueOffsets(new UnsignedIntArray(NUM_ELEMENTS));
+        indexedOffsetArrays.setSpacer((byte)1);
+        indexedOffsetArrays.setBlocks(new ObjectArray<Block>(blocks));
+        indexedOffsetArrays.setNames(names);
+        indexedOffsetArrays.setValues(values);
+        indexedOffsetArrays.initializeOffsets(0);
+    }
+
+    @Test
+    public void getElement()
+    {
+        final IndexedOffsetArraysView view = new IndexedOffsetArraysView(ZserioIO.write(indexedOffsetArrays));
+
+        for (int i = NUM_ELEMENTS - 1; i >= 0; i -= 7)
+        {
+            assertEquals(indexedOffsetArrays.getBlocks().elementAt(i), view.getBlocksElement(i));
+            assertEquals(indexedOffsetArrays.getNames().elementAt(i), view.getNamesElement(i));
+            assertEquals(indexedOffsetArrays.getValues().elementAt(i), view.getValuesElement(i));
+        }
+    }
+
+    @Test
+    public void getElementWithCache()
+    {
+        final IndexedOffsetArraysView view = new IndexedOffsetArraysView(ZserioIO.write(indexedOffsetArrays));
+        view.setBlocksElementCacheSize(CACHE_SIZE);
+
+        final Block block = view.getBlocksElement(ELEMENT_INDEX);
+        assertEquals(indexedOffsetArrays.getBlocks().elementAt(ELEMENT_INDEX), block);
+        assertEquals(block, view.getBlocksElement(ELEMENT_INDEX));
+        for (int i = 0; i < CACHE_SIZE; ++i)
+            view.getBlocksElement(i);
+        assertEquals(block, view.getBlocksElement(ELEMENT_INDEX));
+    }
+
+    @Test
+    public void getElementAfterFullDecode()
+    {
+        final IndexedOffsetArraysView view = new IndexedOffsetArraysView(ZserioIO.write(indexedOffsetArrays));
+
+        assertEquals(indexedOffsetArrays.getNames(), view.getNames());
+        assertEquals(indexedOffsetArrays.getNames().elementAt(ELEMENT_INDEX),
+                view.getNamesElement(ELEMENT_INDEX));
+        assertEquals(indexedOffsetArrays.bitSizeOf(), view.bitSizeOf());
+    }
+
+    private static final int NUM_ELEMENTS = 100;
+    private static final short NUM_BLOCK_VALUES = 3;
+    private static final int CACHE_SIZE = 4;
+    private static final int ELEMENT_INDEX = 42;
+
+    private IndexedOffsetArrays indexedOffsetArrays;
+}
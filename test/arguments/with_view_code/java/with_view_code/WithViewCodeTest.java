@@ -0,0 +1,178 @@
+package with_view_code;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import zserio.runtime.array.ObjectArray;
+import zserio.runtime.array.ShortArray;
+import zserio.runtime.array.UnsignedShortArray;
+import zserio.runtime.io.BitBuffer;
+import zserio.runtime.io.ByteArrayBitStreamReader;
+import zserio.runtime.io.ByteArrayBitStreamWriter;
+import zserio.runtime.io.ZserioIO;
+
+public class WithViewCodeTest
+{
+    @Test
+    public void lazyFieldAccess() throws Exception
+    {
+        final Record record = createRecord(true);
+        final RecordView recordView = new RecordView(ZserioIO.write(record));
+
+        assertEquals(record.getDynamicBits(), recordView.getDynamicBits());
+        assertEquals(record.getTile(), recordView.getTile());
+        assertEquals(record.getTileOffset(), recordView.getTileOffset());
+        assertEquals(record.getBlob(), recordView.getBlob());
+        assertEquals(record.getHeader(), recordView.getHeader());
+        assertEquals(record.getPoints(), recordView.getPoints());
+        assertEquals(record.getComment(), recordView.getComment());
+        assertTrue(recordView.hasComment());
+        assertTrue(recordView.hasExtra());
+        assertEquals(record.getExtra(), recordView.getExtra());
+        assertTrue(recordView.hasExtraTile());
+        assertEquals(record.getExtraTile(), recordView.getExtraTile());
+        assertEquals(record.bitSizeOf(), recordView.bitSizeOf());
+    }
+
+    @Test
+    public void absentOptionalFields() throws Exception
+    {
+        final Record record = createRecord(false);
+        final RecordView recordView = new RecordView(ZserioIO.write(record));
+
+        assertEquals(record.getTile(), recordView.getTile());
+        assertFalse(recordView.hasComment());
+        assertNull(recordView.getComment());
+        assertFalse(recordView.hasExtra());
+        assertNull(recordView.getExtra());
+        assertFalse(recordView.hasExtraTile());
+        assertNull(recordView.getExtraTile());
+        assertNull(recordView.getExtraTileView());
+        assertEquals(record.getDynamicBits(), recordView.getDynamicBits());
+        assertEquals(record.bitSizeOf(), recordView.bitSizeOf());
+    }
+
+    @Test
+    public void nestedViews() throws Exception
+    {
+        final Record record = createRecord(true);
+        final RecordView recordView = new RecordView(ZserioIO.write(record));
+
+        final HeaderView headerView = recordView.getHeaderView();
+        assertEquals(record.getHeader().getDescription(), headerView.getDescription());
+        assertEquals(record.getHeader().getTag(), headerView.getTag());
+        assertEquals(record.getHeader().bitSizeOf(), headerView.bitSizeOf());
+
+        final TileView tileView = recordView.getTileView();
+        assertEquals(record.getTile().getNumBlocks(), tileView.getNumBlocks());
+        assertEquals(record.getTile().getName(), tileView.getName());
+        assertEquals(record.getTile().getBlocks(), tileView.getBlocks());
+        assertEquals(record.getTileOffset() * 8, tileView.getBitPosition());
+
+        final TileView extraTileView = recordView.getExtraTileView();
+        assertEquals(record.getExtraTile().getVersion(), extraTileView.getVersion());
+        assertEquals(record.getExtraTile(), extraTileView.read());
+    }
+
+    @Test
+    public void read() throws Exception
+    {
+        final Record record = createRecord(true);
+        final RecordView recordView = new RecordView(ZserioIO.write(record));
+
+        assertEquals(record, recordView.read());
+    }
+
+    @Test
+    public void unalignedBitPosition() throws Exception
+    {
+        final Record record = createRecord(true);
+        final ByteArrayBitStreamWriter writer = new ByteArrayBitStreamWriter();
+        writer.writeBits(0, UNALIGNED_BIT_POSITION);
+        record.initializeOffsets(UNALIGNED_BIT_POSITION);
+        record.write(writer, false);
+        final BitBuffer buffer = new BitBuffer(writer.toByteArray(), writer.getBitPosition());
+        final RecordView recordView = new RecordView(buffer, UNALIGNED_BIT_POSITION);
+
+        assertEquals(UNALIGNED_BIT_POSITION, recordView.getBitPosition());
+        assertEquals(record.getTile(), recordView.getTile());
+        assertEquals(record.getHeader(), recordView.getHeader());
+        assertEquals(writer.getBitPosition(), recordView.getEndBitPosition());
+    }
+
+    @Test
+    public void skip() throws Exception
+    {
+        final Record record = createRecord(true);
+        final ByteArrayBitStreamReader reader = new ByteArrayBitStreamReader(ZserioIO.write(record));
+        Record.skip(reader);
+        assertEquals(record.bitSizeOf(), reader.getBitPosition());
+
+        final Record recordWithoutOptionals = createRecord(false);
+        final ByteArrayBitStreamReader readerWithoutOptionals =
+                new ByteArrayBitStreamReader(ZserioIO.write(recordWithoutOptionals));
+        Record.skip(readerWithoutOptionals);
+        assertEquals(recordWithoutOptionals.bitSizeOf(), readerWithoutOptionals.getBitPosition());
+    }
+
+    private static Record createRecord(boolean hasOptionals)
+    {
+        final Header header = new Header(HEADER_DESCRIPTION, NUM_BLOCKS, HEADER_FLAGS,
+                BigInteger.valueOf(HEADER_TAG));
+
+        final UnsignedShortArray points = new UnsignedShortArray(NUM_POINTS);
+        for (int i = 0; i < NUM_POINTS; ++i)
+            points.setElementAt(i * 3, i);
+
+        final Record record = new Record();
+        record.setHeader(header);
+        record.setHasExtra(hasOptionals);
+        record.setPoints(points);
+        if (hasOptionals)
+        {
+            record.setComment(COMMENT);
+            record.setExtra(EXTRA);
+            record.setExtraTile(createTile(EXTRA_TILE_VERSION));
+        }
+        record.setDynamicBits(DYNAMIC_BITS);
+        record.setBlob(new BitBuffer(new byte[] {(byte)0xAB, (byte)0xC0}, 10));
+        record.setTile(createTile(TILE_VERSION));
+        record.initializeOffsets(0);
+
+        return record;
+    }
+
+    private static Tile createTile(int version)
+    {
+        final List<Block> blocks = new ArrayList<Block>();
+        for (short i = 0; i < NUM_BLOCKS; ++i)
+        {
+            final ShortArray values = new ShortArray(NUM_BLOCKS);
+            for (int j = 0; j < NUM_BLOCKS; ++j)
+                values.setElementAt((short)(i * j - version), j);
+            blocks.add(new Block(NUM_BLOCKS, i, values));
+        }
+
+        return new Tile(NUM_BLOCKS, version, "tile" + version, new ObjectArray<Block>(blocks));
+    }
+
+    private static final String HEADER_DESCRIPTION = "header description";
+    private static final short NUM_BLOCKS = 3;
+    private static final byte HEADER_FLAGS = 12;
+    private static final long HEADER_TAG = 0xABCDEFL;
+    private static final int NUM_POINTS = 5;
+    private static final String COMMENT = "comment";
+    private static final int EXTRA = -42;
+    private static final long DYNAMIC_BITS = 0x1ABCL;
+    private static final int TILE_VERSION = 1;
+    private static final int EXTRA_TILE_VERSION = 2;
+    private static final int UNALIGNED_BIT_POSITION = 3;
+}
@@ -2,10 +2,19 @@ package choice_types;
 
 import static org.junit.Assert.*;
 
+import java.io.IOException;
+import java.util.Arrays;
+
 import choice_types.choice_with_array.TestChoice;
 import choice_types.choice_with_array.Data8;
+import choice_types.choice_with_array.Data16;
+import choice_types.choice_with_array.Header;
+import choice_types.choice_with_array.HeaderChoice;
+import choice_types.choice_with_array.HeaderChoiceHolder;
 import zserio.runtime.array.ObjectArray;
 import zserio.runtime.array.ShortArray;
+import zserio.runtime.io.ByteArrayBitStreamReader;
+import zserio.runtime.io.ZserioIO;
 
 import org.junit.Test;
 
@@ -30,4 +39,41 @@ public class ChoiceWithArrayTest
         // we just need to testChoice that getter for ShortArray doesn't fire a warning
         assertEquals(4, testChoice.getArray16().length());
     }
+
+    @Test
+    public void readIntoSwitchedCase() throws IOException
+    {
+        final HeaderChoiceHolder holder8 = createHeaderChoiceHolder(SELECTOR_ARRAY8);
+        final HeaderChoiceHolder holder16 = createHeaderChoiceHolder(SELECTOR_ARRAY16);
+
+        final HeaderChoiceHolder readHolder = new HeaderChoiceHolder();
+        readHolder.readInto(new ByteArrayBitStreamReader(ZserioIO.write(holder8)));
+        assertEquals(holder8, readHolder);
+
+        final HeaderChoice headerChoice = readHolder.getHeaderChoice();
+        readHolder.readInto(new ByteArrayBitStreamReader(ZserioIO.write(holder16)));
+        assertSame(headerChoice, readHolder.getHeaderChoice());
+        assertEquals(holder16, readHolder);
+        assertEquals(-2, readHolder.getHeaderChoice().getArray16().elementAt(1).getData());
+
+        readHolder.readInto(new ByteArrayBitStreamReader(ZserioIO.write(holder8)));
+        assertSame(headerChoice, readHolder.getHeaderChoice());
+        assertEquals(holder8, readHolder);
+        assertEquals(2, readHolder.getHeaderChoice().getArray8().elementAt(1).getData());
+    }
+
+    private static HeaderChoiceHolder createHeaderChoiceHolder(byte selector)
+    {
+        final Header header = new Header(selector);
+        final HeaderChoice headerChoice = new HeaderChoice(header);
+        if (selector == SELECTOR_ARRAY8)
+            headerChoice.setArray8(Arrays.asList(new Data8((byte)1), new Data8((byte)2)));
+        else
+            headerChoice.setArray16(Arrays.asList(new Data16((short)-1), new Data16((short)-2)));
+
+        return new HeaderChoiceHolder(header, headerChoice);
+    }
+
+    private static final byte SELECTOR_ARRAY8 = 8;
+    private static final byte SELECTOR_ARRAY16 = 16;
 }
@@ -223,6 +223,23 @@ public class UInt16ParamChoiceTest
         assertEquals(intValueC, readUInt16ParamChoiceC.getC());
     }
 
+    @Test
+    public void skip() throws IOException, ZserioError
+    {
+        final File file = new File("test.bin");
+        writeUInt16ParamChoiceToFile(file, VARIANT_B_SELECTOR3, 234);
+        BitStreamReader reader = new FileBitStreamReader(file);
+        UInt16ParamChoice.skip(reader, VARIANT_B_SELECTOR3);
+        assertEquals(16, reader.getBitPosition());
+        reader.close();
+
+        writeUInt16ParamChoiceToFile(file, EMPTY_SELECTOR2, 0);
+        reader = new FileBitStreamReader(file);
+        UInt16ParamChoice.skip(reader, EMPTY_SELECTOR2);
+        assertEquals(0, reader.getBitPosition());
+        reader.close();
+    }
+
     private void writeUInt16ParamChoiceToFile(File file, int selector, int value) throws IOException
     {
         final FileImageOutputStream stream = new FileImageOutputStream(file);
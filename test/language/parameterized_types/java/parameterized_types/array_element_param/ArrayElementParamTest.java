@@ -1,6 +1,7 @@
 package parameterized_types.array_element_param;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.io.File;
 import java.io.IOException;
@@ -13,6 +14,8 @@ import org.junit.Test;
 
 import zserio.runtime.array.LongArray;
 import zserio.runtime.array.ObjectArray;
+import zserio.runtime.io.ByteArrayBitStreamReader;
+import zserio.runtime.io.ZserioIO;
 
 public class ArrayElementParamTest
 {
@@ -27,6 +30,29 @@ public class ArrayElementParamTest
         assertEquals(database, readDatabase);
     }
 
+    @Test
+    public void readInto() throws IOException
+    {
+        final Database database = createDatabase();
+        final byte[] bytes = ZserioIO.write(database);
+        final Database readDatabase = new Database(new ByteArrayBitStreamReader(bytes));
+        final BlockHeader header = readDatabase.getHeaders().elementAt(0);
+        final Block block = readDatabase.getBlocks().elementAt(0);
+
+        readDatabase.readInto(new ByteArrayBitStreamReader(bytes));
+        assertEquals(database, readDatabase);
+        assertSame(header, readDatabase.getHeaders().elementAt(0));
+        assertSame(block, readDatabase.getBlocks().elementAt(0));
+
+        final Database smallerDatabase = createDatabase();
+        smallerDatabase.setNumBlocks(NUM_BLOCKS - 1);
+        smallerDatabase.getHeaders().remove(smallerDatabase.getHeaders().elementAt(NUM_BLOCKS - 1));
+        smallerDatabase.getBlocks().remove(smallerDatabase.getBlocks().elementAt(NUM_BLOCKS - 1));
+        readDatabase.readInto(new ByteArrayBitStreamReader(ZserioIO.write(smallerDatabase)));
+        assertEquals(smallerDatabase, readDatabase);
+        assertSame(block, readDatabase.getBlocks().elementAt(0));
+    }
+
     private Database createDatabase()
     {
         final List<BlockHeader> blockHeaderList = new ArrayList<BlockHeader>();
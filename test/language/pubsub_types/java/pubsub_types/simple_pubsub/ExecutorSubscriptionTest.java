@@ -0,0 +1,127 @@
+package pubsub_types.simple_pubsub;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import zserio.runtime.pubsub.PubsubCallback;
+import zserio.runtime.pubsub.PubsubException;
+import zserio.runtime.pubsub.SubscriptionMetrics;
+import zserio.runtime.pubsub.SubscriptionQueuePolicy;
+
+import pubsub_types.TestPubsub;
+
+public class ExecutorSubscriptionTest
+{
+    @Before
+    public void setUp()
+    {
+        pubsub = new TestPubsub();
+        simplePubsub = new SimplePubsub(pubsub);
+        executor = new ManualExecutor();
+    }
+
+    @Test
+    public void decodeOnExecutor()
+    {
+        final List<BigInteger> results = new ArrayList<BigInteger>();
+        final int id = simplePubsub.subscribePowerOfTwo(new ResultsCallback(results), executor, 4,
+                SubscriptionQueuePolicy.BLOCK);
+
+        simplePubsub.publishPowerOfTwo(new UInt64Value(BigInteger.valueOf(4)));
+        simplePubsub.publishPowerOfTwo(new UInt64Value(BigInteger.valueOf(9)));
+        assertTrue(results.isEmpty());
+
+        final SubscriptionMetrics metrics = simplePubsub.getSubscriptionMetrics(id);
+        assertEquals(2, metrics.getQueueDepth());
+
+        executor.runAll();
+        assertEquals(2, results.size());
+        assertEquals(BigInteger.valueOf(4), results.get(0));
+        assertEquals(BigInteger.valueOf(9), results.get(1));
+        assertEquals(0, metrics.getQueueDepth());
+        assertEquals(2, metrics.getMaxQueueDepth());
+        assertEquals(2, metrics.getNumDecodedMessages());
+        assertEquals(0, metrics.getNumDroppedMessages());
+    }
+
+    @Test
+    public void coalesceLatest()
+    {
+        final List<BigInteger> results = new ArrayList<BigInteger>();
+        final int id = simplePubsub.subscribePowerOfTwo(new ResultsCallback(results), executor, 4,
+                SubscriptionQueuePolicy.COALESCE_LATEST);
+
+        for (int i = 0; i < 10; ++i)
+            simplePubsub.publishPowerOfTwo(new UInt64Value(BigInteger.valueOf(i)));
+
+        executor.runAll();
+        assertEquals(1, results.size());
+        assertEquals(BigInteger.valueOf(9), results.get(0));
+        assertEquals(9, simplePubsub.getSubscriptionMetrics(id).getNumDroppedMessages());
+    }
+
+    @Test
+    public void unsubscribe()
+    {
+        final List<BigInteger> results = new ArrayList<BigInteger>();
+        final int id = simplePubsub.subscribePowerOfTwo(new ResultsCallback(results), executor, 4,
+                SubscriptionQueuePolicy.DROP_OLDEST);
+
+        simplePubsub.publishPowerOfTwo(new UInt64Value(BigInteger.valueOf(4)));
+        simplePubsub.unsubscribe(id);
+        executor.runAll();
+        assertTrue(results.isEmpty());
+    }
+
+    @Test(expected=PubsubException.class)
+    public void metricsWithoutExecutor()
+    {
+        final int id = simplePubsub.subscribePowerOfTwo(new ResultsCallback(new ArrayList<BigInteger>()));
+        simplePubsub.getSubscriptionMetrics(id);
+    }
+
+    private static class ResultsCallback implements PubsubCallback<UInt64Value>
+    {
+        public ResultsCallback(List<BigInteger> results)
+        {
+            this.results = results;
+        }
+
+        @Override
+        public void invoke(String topic, UInt64Value value)
+        {
+            assertEquals("simple_pubsub/power_of_two", topic);
+            results.add(value.getValue());
+        }
+
+        private final List<BigInteger> results;
+    }
+
+    private static class ManualExecutor implements Executor
+    {
+        @Override
+        public void execute(Runnable task)
+        {
+            tasks.add(task);
+        }
+
+        public void runAll()
+        {
+            while (!tasks.isEmpty())
+                tasks.remove(0).run();
+        }
+
+        private final List<Runnable> tasks = new ArrayList<Runnable>();
+    }
+
+    private TestPubsub pubsub = null;
+    private SimplePubsub simplePubsub = null;
+    private ManualExecutor executor = null;
+}
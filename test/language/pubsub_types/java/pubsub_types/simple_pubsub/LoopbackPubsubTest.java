@@ -0,0 +1,95 @@
+package pubsub_types.simple_pubsub;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import zserio.runtime.pubsub.LoopbackPubsub;
+import zserio.runtime.pubsub.PubsubCallback;
+
+public class LoopbackPubsubTest
+{
+    @Before
+    public void setUp()
+    {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void powerOfTwo() throws InterruptedException
+    {
+        checkPowerOfTwo(new LoopbackPubsub(executor), false);
+    }
+
+    @Test
+    public void powerOfTwoObjectPassing() throws InterruptedException
+    {
+        checkPowerOfTwo(new LoopbackPubsub(executor, 16, 16, true), true);
+    }
+
+    private void checkPowerOfTwo(LoopbackPubsub pubsub, boolean objectPassing) throws InterruptedException
+    {
+        final SimplePubsubProvider provider = new SimplePubsubProvider(pubsub);
+        final SimplePubsubClient client = new SimplePubsubClient(pubsub);
+
+        final BlockingQueue<Int32Value> requests = new ArrayBlockingQueue<Int32Value>(NUM_REQUESTS);
+        provider.subscribeRequest(new PubsubCallback<Int32Value>()
+        {
+            @Override
+            public void invoke(String topic, Int32Value value)
+            {
+                requests.add(value);
+                provider.publishPowerOfTwo(new UInt64Value(BigInteger.valueOf(value.getValue()).pow(2)));
+            }
+        });
+
+        final BlockingQueue<UInt64Value> results = new ArrayBlockingQueue<UInt64Value>(NUM_REQUESTS);
+        client.subscribePowerOfTwo(new PubsubCallback<UInt64Value>()
+        {
+            @Override
+            public void invoke(String topic, UInt64Value value)
+            {
+                assertEquals("simple_pubsub/power_of_two", topic);
+                results.add(value);
+            }
+        });
+
+        final Int32Value[] published = new Int32Value[NUM_REQUESTS];
+        for (int i = 0; i < NUM_REQUESTS; ++i)
+        {
+            published[i] = new Int32Value(i - NUM_REQUESTS / 2);
+            client.publishRequest(published[i]);
+        }
+
+        for (int i = 0; i < NUM_REQUESTS; ++i)
+        {
+            final Int32Value request = requests.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertEquals(published[i], request);
+            assertEquals(objectPassing, published[i] == request);
+
+            final UInt64Value result = results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertNotNull(result);
+            assertEquals(BigInteger.valueOf(published[i].getValue()).pow(2), result.getValue());
+        }
+    }
+
+    private static final int NUM_REQUESTS = 100;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private ExecutorService executor;
+}
@@ -4,9 +4,18 @@ import static org.junit.Assert.*;
 
 import org.junit.Test;
 
+import java.io.IOException;
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
+import zserio.runtime.io.ByteArrayBitStreamReader;
+import zserio.runtime.io.ZserioIO;
+import zserio.runtime.service.AsyncServiceUtil;
+import zserio.runtime.service.LoopbackServiceTransport;
+import zserio.runtime.service.ServiceCallBatch;
 import zserio.runtime.service.ServiceException;
+import zserio.runtime.service.ServiceInterface;
 
 public class SimpleServiceTest
 {
@@ -23,6 +32,57 @@ public class SimpleServiceTest
         assertEquals("powerOfTwo", SimpleService.SimpleServiceService.methodNames()[0]);
     }
 
+    @Test
+    public void methodIds()
+    {
+        // FNV-1a hash of "service_types.simple_service.SimpleService.powerOfTwo" with cleared sign bit
+        assertEquals(1184082963, SimpleService.SimpleServiceService.methodId("powerOfTwo"));
+        assertEquals(ServiceInterface.UNKNOWN_METHOD_ID,
+                SimpleService.SimpleServiceService.methodId("nonexistentMethod"));
+        assertEquals(ServiceInterface.UNKNOWN_METHOD_ID, SimpleService.SimpleServiceService.methodId(null));
+    }
+
+    @Test
+    public void callMethodById() throws IOException
+    {
+        final byte[] requestData = ZserioIO.write(new Request(7));
+        final int methodId = SimpleService.SimpleServiceService.methodId("powerOfTwo");
+        final Response response = new Response(new ByteArrayBitStreamReader(
+                service.callMethod(methodId, null, requestData, null)));
+        assertEquals(BigInteger.valueOf(49), response.getValue());
+
+        // unknown method ID falls back to the method name
+        final Response responseByName = new Response(new ByteArrayBitStreamReader(
+                service.callMethod(ServiceInterface.UNKNOWN_METHOD_ID, "powerOfTwo", requestData, null)));
+        assertEquals(BigInteger.valueOf(49), responseByName.getValue());
+    }
+
+    @Test(expected=ServiceException.class)
+    public void invalidServiceMethodId()
+    {
+        service.callMethod(1, "powerOfTwo", null, null);
+    }
+
+    @Test(expected=ServiceException.class)
+    public void invalidServiceMethodIdAsync()
+    {
+        AsyncServiceUtil.join(service.callMethodAsync(1, "powerOfTwo", null, null));
+    }
+
+    @Test(expected=ServiceException.class)
+    public void mismatchedServiceMethodName()
+    {
+        final int methodId = SimpleService.SimpleServiceService.methodId("powerOfTwo");
+        service.callMethod(methodId, "nonexistentMethod", null, null);
+    }
+
+    @Test(expected=ServiceException.class)
+    public void mismatchedServiceMethodNameAsync()
+    {
+        final int methodId = SimpleService.SimpleServiceService.methodId("powerOfTwo");
+        AsyncServiceUtil.join(service.callMethodAsync(methodId, "nonexistentMethod", null, null));
+    }
+
     @Test
     public void powerOfTwo()
     {
@@ -36,12 +96,51 @@ public class SimpleServiceTest
         assertEquals(BigInteger.valueOf(4), client.powerOfTwoMethod(request).getValue());
     }
 
+    @Test
+    public void powerOfTwoAsync()
+    {
+        final SimpleService.SimpleServiceClient asyncClient =
+                new SimpleService.SimpleServiceClient(new LoopbackServiceTransport(service));
+        final CompletableFuture<Response> response1 = asyncClient.powerOfTwoMethodAsync(new Request(13));
+        final CompletableFuture<Response> response2 = asyncClient.powerOfTwoMethodAsync(new Request(-2));
+        assertEquals(BigInteger.valueOf(169), AsyncServiceUtil.join(response1).getValue());
+        assertEquals(BigInteger.valueOf(4), AsyncServiceUtil.join(response2).getValue());
+    }
+
+    @Test
+    public void powerOfTwoBatch()
+    {
+        final ServiceCallBatch batch = new ServiceCallBatch(new LoopbackServiceTransport(service));
+        final SimpleService.SimpleServiceClient batchClient = new SimpleService.SimpleServiceClient(batch);
+        final CompletableFuture<Response> response1 = batchClient.powerOfTwoMethodAsync(new Request(3));
+        final CompletableFuture<Response> response2 = batchClient.powerOfTwoMethodAsync(new Request(4));
+        assertEquals(2, batch.getNumPendingCalls());
+        batch.flush();
+        assertEquals(BigInteger.valueOf(9), AsyncServiceUtil.join(response1).getValue());
+        assertEquals(BigInteger.valueOf(16), AsyncServiceUtil.join(response2).getValue());
+    }
+
+    @Test
+    public void powerOfTwoImplAsync()
+    {
+        final SimpleService.SimpleServiceClient asyncClient =
+                new SimpleService.SimpleServiceClient(new AsyncService());
+        final CompletableFuture<Response> response = asyncClient.powerOfTwoMethodAsync(new Request(5));
+        assertEquals(BigInteger.valueOf(25), AsyncServiceUtil.join(response).getValue());
+    }
+
     @Test(expected=ServiceException.class)
     public void invalidServiceMethod()
     {
         service.callMethod("nonexistentMethod", null, null);
     }
 
+    @Test(expected=ServiceException.class)
+    public void invalidServiceMethodAsync()
+    {
+        AsyncServiceUtil.join(service.callMethodAsync("nonexistentMethod", null, null));
+    }
+
     @Test
     public void callWithContext()
     {
@@ -66,6 +165,28 @@ public class SimpleServiceTest
         }
     }
 
+    private static class AsyncService extends SimpleService.SimpleServiceService
+    {
+        @Override
+        public Response powerOfTwoImpl(Request request, Object context)
+        {
+            throw new UnsupportedOperationException("Only asynchronous calls are supported!");
+        }
+
+        @Override
+        protected CompletableFuture<Response> powerOfTwoImplAsync(final Request request, Object context)
+        {
+            return CompletableFuture.supplyAsync(new Supplier<Response>()
+            {
+                @Override
+                public Response get()
+                {
+                    return new Response(BigInteger.valueOf(request.getValue()).pow(2));
+                }
+            });
+        }
+    }
+
     private static class FakeContext
     {
         public boolean seenByService = false;
@@ -11,6 +11,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.After;
 import org.junit.Before;
@@ -96,6 +98,92 @@ public class BlobParamTableTest
         checkBlobParamTableRow(writtenRows.get(expectedRowNum), readRow);
     }
 
+    @Test
+    public void readWithRowReader() throws SQLException, IOException, ZserioError
+    {
+        final BlobParamTable testTable = database.getBlobParamTable();
+
+        final List<BlobParamTableRow> writtenRows = new ArrayList<BlobParamTableRow>();
+        fillBlobParamTableRows(writtenRows);
+        testTable.write(writtenRows);
+
+        final List<BlobParamTableRow> readRows = new ArrayList<BlobParamTableRow>();
+        final BlobParamTable.RowReader rowReader = testTable.createReader("", 2, true);
+        try
+        {
+            while (rowReader.hasNext())
+                readRows.add(rowReader.next());
+            assertFalse(rowReader.hasNext());
+        }
+        finally
+        {
+            rowReader.close();
+        }
+        checkBlobParamTableRows(writtenRows, readRows);
+    }
+
+    @Test
+    public void readWithColumnProjection() throws SQLException, IOException, ZserioError
+    {
+        final BlobParamTable testTable = database.getBlobParamTable();
+
+        final List<BlobParamTableRow> writtenRows = new ArrayList<BlobParamTableRow>();
+        fillBlobParamTableRows(writtenRows);
+        testTable.write(writtenRows);
+
+        final BlobParamTable.RowReader rowReader = testTable.createReader("blobId=1", 0, false, "name",
+                "blobId");
+        try
+        {
+            final BlobParamTableRow readRow = rowReader.read();
+            assertEquals(1, readRow.getBlobId());
+            assertEquals("Name1", readRow.getName());
+            assertTrue(readRow.isNullParameters());
+            assertTrue(readRow.isNullBlob());
+            assertEquals(null, rowReader.read());
+        }
+        finally
+        {
+            rowReader.close();
+        }
+    }
+
+    @Test
+    public void readWithStream() throws SQLException, IOException, ZserioError
+    {
+        final BlobParamTable testTable = database.getBlobParamTable();
+
+        final List<BlobParamTableRow> writtenRows = new ArrayList<BlobParamTableRow>();
+        fillBlobParamTableRows(writtenRows);
+        testTable.write(writtenRows);
+
+        final Stream<BlobParamTableRow> rowStream = testTable.stream();
+        try
+        {
+            checkBlobParamTableRows(writtenRows, rowStream.collect(Collectors.toList()));
+        }
+        finally
+        {
+            rowStream.close();
+        }
+
+        final Stream<BlobParamTableRow> filteredRowStream = testTable.stream("name='Name1'", 2, true);
+        try
+        {
+            assertEquals(1, filteredRowStream.count());
+        }
+        finally
+        {
+            filteredRowStream.close();
+        }
+    }
+
+    @Test(expected = ZserioError.class)
+    public void readWithUnknownColumn() throws SQLException
+    {
+        database.getBlobParamTable().createReader("", 0, false, "unknown");
+    }
+
     @Test
     public void update() throws SQLException, IOException, ZserioError
     {
@@ -115,6 +115,57 @@ public class MultiplePkTableTest
         checkMultiplePkTableRow(updateRow, readRow);
     }
 
+    @Test
+    public void readWithParameters() throws SQLException, IOException, ZserioError
+    {
+        final MultiplePkTable testTable = database.getMultiplePkTable();
+
+        final List<MultiplePkTableRow> writtenRows = new ArrayList<MultiplePkTableRow>();
+        fillMultiplePkTableRows(writtenRows);
+        testTable.write(writtenRows);
+
+        for (int blobId = 0; blobId < NUM_MULTIPLE_PK_TABLE_ROWS; ++blobId)
+        {
+            final List<MultiplePkTableRow> readRows = testTable.read("blobId=? AND name=?", blobId,
+                    "Name" + blobId);
+            assertEquals(1, readRows.size());
+            checkMultiplePkTableRow(writtenRows.get(blobId), readRows.get(0));
+        }
+    }
+
+    @Test
+    public void updateWithParameters() throws SQLException, IOException, ZserioError
+    {
+        final MultiplePkTable testTable = database.getMultiplePkTable();
+
+        final List<MultiplePkTableRow> writtenRows = new ArrayList<MultiplePkTableRow>();
+        fillMultiplePkTableRows(writtenRows);
+        testTable.write(writtenRows);
+
+        final int updateRowId = 3;
+        final MultiplePkTableRow updateRow = createMultiplePkTableRow(updateRowId, "UpdatedName");
+        testTable.update(updateRow, "blobId=?", updateRowId);
+
+        final List<MultiplePkTableRow> readRows = testTable.read("blobId=?", updateRowId);
+        assertEquals(1, readRows.size());
+        checkMultiplePkTableRow(updateRow, readRows.get(0));
+    }
+
+    @Test
+    public void readByPrimaryKey() throws SQLException, IOException, ZserioError
+    {
+        final MultiplePkTable testTable = database.getMultiplePkTable();
+
+        final List<MultiplePkTableRow> writtenRows = new ArrayList<MultiplePkTableRow>();
+        fillMultiplePkTableRows(writtenRows);
+        testTable.write(writtenRows);
+
+        for (int blobId = 0; blobId < NUM_MULTIPLE_PK_TABLE_ROWS; ++blobId)
+            checkMultiplePkTableRow(writtenRows.get(blobId), testTable.readByPrimaryKey(blobId, 10));
+
+        assertEquals(null, testTable.readByPrimaryKey(0, 11));
+    }
+
     private static void fillMultiplePkTableRows(List<MultiplePkTableRow> rows)
     {
         for (int blobId = 0; blobId < NUM_MULTIPLE_PK_TABLE_ROWS; ++blobId)
@@ -14,8 +14,10 @@ import structure_types.simple_structure.SimpleStructure;
 import zserio.runtime.ZserioError;
 import zserio.runtime.io.BitStreamReader;
 import zserio.runtime.io.BitStreamWriter;
+import zserio.runtime.io.ByteArrayBitStreamReader;
 import zserio.runtime.io.FileBitStreamReader;
 import zserio.runtime.io.FileBitStreamWriter;
+import zserio.runtime.io.ZserioIO;
 
 public class SimpleStructureTest
 {
@@ -196,6 +198,15 @@ public class SimpleStructureTest
         assertTrue(simpleStructure.equals(readsimpleStructure));
     }
 
+    @Test
+    public void skip() throws IOException, ZserioError
+    {
+        final SimpleStructure simpleStructure = new SimpleStructure((byte)0x01, (short)0x02, (byte)0x03);
+        final BitStreamReader reader = new ByteArrayBitStreamReader(ZserioIO.write(simpleStructure));
+        SimpleStructure.skip(reader);
+        assertEquals(SIMPLE_STRUCTURE_BIT_SIZE, reader.getBitPosition());
+    }
+
     private void writeSimpleStructureToFile(File file, byte numberA, short numberB, byte numberC)
             throws IOException
     {
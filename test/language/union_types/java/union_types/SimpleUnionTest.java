@@ -11,8 +11,10 @@ import zserio.runtime.BitSizeOfCalculator;
 import zserio.runtime.ZserioError;
 import zserio.runtime.io.BitStreamReader;
 import zserio.runtime.io.BitStreamWriter;
+import zserio.runtime.io.ByteArrayBitStreamReader;
 import zserio.runtime.io.FileBitStreamReader;
 import zserio.runtime.io.FileBitStreamWriter;
+import zserio.runtime.io.ZserioIO;
 
 import union_types.simple_union.SimpleUnion;
 
@@ -258,6 +260,16 @@ public class SimpleUnionTest
         write(simpleUnion);
     }
 
+    @Test
+    public void skip() throws ZserioError, IOException
+    {
+        SimpleUnion simpleUnion = new SimpleUnion();
+        simpleUnion.setCase3Field(CASE3_FIELD);
+        final BitStreamReader reader = new ByteArrayBitStreamReader(ZserioIO.write(simpleUnion));
+        SimpleUnion.skip(reader);
+        assertEquals(UNION_CASE3_BIT_SIZE, reader.getBitPosition());
+    }
+
     private static SimpleUnion bitStreamReaderConstructor(int choiceTag) throws ZserioError, IOException
     {
         final BitStreamWriter writer = new FileBitStreamWriter(TEST_FILE);
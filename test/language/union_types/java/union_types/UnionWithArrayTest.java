@@ -2,10 +2,14 @@ package union_types;
 
 import static org.junit.Assert.*;
 
+import java.io.IOException;
+
 import union_types.union_with_array.TestUnion;
 import union_types.union_with_array.Data8;
 import zserio.runtime.array.ObjectArray;
 import zserio.runtime.array.ShortArray;
+import zserio.runtime.io.ByteArrayBitStreamReader;
+import zserio.runtime.io.ZserioIO;
 
 import org.junit.Test;
 
@@ -30,4 +34,22 @@ public class UnionWithArrayTest
         // we just need to test that getter for ShortArray doesn't fire a warning
         assertEquals(4, test.getArray16().length());
     }
+
+    @Test
+    public void readInto() throws IOException
+    {
+        final TestUnion test = new TestUnion();
+        test.setArray16(new ShortArray(new short[] {-1, -2, -3}, 0, 3));
+        final byte[] bytes = ZserioIO.write(test);
+
+        final TestUnion readTest = new TestUnion();
+        readTest.setArray8(new ObjectArray<Data8>(3));
+        readTest.readInto(new ByteArrayBitStreamReader(bytes));
+        assertEquals(test, readTest);
+
+        final ShortArray array16 = readTest.getArray16();
+        readTest.readInto(new ByteArrayBitStreamReader(bytes));
+        assertSame(array16, readTest.getArray16());
+        assertEquals(test, readTest);
+    }
 }